@@ -0,0 +1,95 @@
+package apptest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.sql.SQLException;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import se.sundsvall.dept44.test.AbstractAppTest;
+import se.sundsvall.dept44.test.annotation.wiremock.WireMockAppTestSuite;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.service.DownloadUrlSigner;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that no database connection is held while file content is written to a slow client.
+ */
+@WireMockAppTestSuite(files = "classpath:/FileStreamingIT/", classes = Application.class)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+@TestPropertySource(properties = "document.file-cache.enabled=false")
+@Sql({
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-it.sql"
+})
+class FileStreamingIT extends AbstractAppTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String BINARY_ID = "d35254ce-d26c-47e3-806f-4cf68cf2fa56";
+	private static final String DOCUMENT_DATA_ID = "faa3547e-f775-4799-9ac0-e07fab1df362";
+	// Well above what the socket buffers of the client and the server can hold, and below the largest packet of MariaDB
+	private static final int FILE_SIZE = 15 * 1024 * 1024;
+	private static final long TIMEOUT_MILLIS = 10_000;
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DownloadUrlSigner downloadUrlSigner;
+
+	@Test
+	void test01_noConnectionHeldWhileStreamingToSlowClient() throws Exception {
+		jdbcTemplate.update("UPDATE document_data_binary SET binary_file = REPEAT('x', ?), file_size_in_bytes = ? WHERE id = UNHEX(REPLACE(?, '-', ''))", FILE_SIZE, FILE_SIZE, BINARY_ID);
+
+		final var expires = downloadUrlSigner.expires();
+		final var path = "/%s/files/%s?expires=%s&signature=%s".formatted(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires, downloadUrlSigner.sign(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires));
+
+		try (var socket = new Socket()) {
+			// A small receive buffer that is not read from makes the server block on writing, as for a slow client
+			socket.setReceiveBufferSize(64 * 1024);
+			socket.connect(new InetSocketAddress("localhost", port));
+			socket.getOutputStream().write("GET %s HTTP/1.1\r\nHost: localhost\r\nConnection: close\r\n\r\n".formatted(path).getBytes(US_ASCII));
+			socket.getOutputStream().flush();
+
+			final var inputStream = socket.getInputStream();
+			final var received = inputStream.readNBytes(1024 * 1024);
+
+			// The response is still being written, the server is blocked on the unread content
+			assertThat(awaitNoActiveConnections()).isZero();
+
+			assertThat(received.length + countRemaining(inputStream)).isGreaterThan(FILE_SIZE);
+		}
+	}
+
+	private int awaitNoActiveConnections() throws SQLException, InterruptedException {
+		final var pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+		final var deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+
+		// Scheduled jobs may briefly hold a connection
+		while (pool.getActiveConnections() > 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+		}
+		return pool.getActiveConnections();
+	}
+
+	private static long countRemaining(final InputStream inputStream) throws IOException {
+		return inputStream.transferTo(OutputStream.nullOutputStream());
+	}
+}
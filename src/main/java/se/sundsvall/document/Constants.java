@@ -5,6 +5,16 @@ public class Constants {
 	private Constants() {}
 
 	public static final String DOCUMENTS_BASE_PATH = "/{municipalityId}/documents";
+	public static final String DOCUMENT_CHANGES_BASE_PATH = "/{municipalityId}/documents/changes";
+	public static final String DOCUMENT_INGESTIONS_BASE_PATH = "/{municipalityId}/documents/ingestions";
 	public static final String DOCUMENT_REVISIONS_BASE_PATH = "/{municipalityId}/documents/{registrationNumber}/revisions";
+	public static final String DOCUMENT_UPLOADS_BASE_PATH = "/{municipalityId}/documents/{registrationNumber}/uploads";
+	public static final String FILES_BASE_PATH = "/{municipalityId}/files";
 	public static final String ADMIN_DOCUMENT_TYPES_BASE_PATH = "/{municipalityId}/admin/documenttypes";
+	public static final String ADMIN_TEXT_INDEX_BASE_PATH = "/{municipalityId}/admin/textindex";
+	public static final String ADMIN_WEBHOOKS_BASE_PATH = "/{municipalityId}/admin/webhooks";
+
+	public static final String TEXT_CSV_VALUE = "text/csv";
+
+	public static final String IDEMPOTENCY_KEY = "Idempotency-Key";
 }
@@ -0,0 +1,62 @@
+package se.sundsvall.document.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.document.api.model.DocumentChanges;
+import se.sundsvall.document.service.DocumentChangeService;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.ok;
+import static se.sundsvall.document.Constants.DOCUMENT_CHANGES_BASE_PATH;
+
+@RestController
+@Validated
+@RequestMapping(DOCUMENT_CHANGES_BASE_PATH)
+@Tag(name = "Document changes", description = "Change feed for incremental synchronization of documents")
+@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
+	Problem.class, ConstraintViolationProblem.class
+})))
+@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+public class DocumentChangeResource {
+
+	private final DocumentChangeService documentChangeService;
+
+	public DocumentChangeResource(final DocumentChangeService documentChangeService) {
+		this.documentChangeService = documentChangeService;
+	}
+
+	@GetMapping(produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Read document changes.", description = """
+		Returns the documents that have been created, revised or had their confidentiality changed after the provided cursor, in the order the changes were committed.
+		Start with cursor 0 and use the cursor of each response to read the next changes. A change is never committed before a change with a lower sequence number, so no changes are missed.
+		""", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true)
+	})
+	public ResponseEntity<DocumentChanges> readChanges(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "cursor", description = "Sequence number of the last change already read", example = "1337") @RequestParam(name = "cursor", defaultValue = "0") @PositiveOrZero final long cursor,
+		@Parameter(name = "limit", description = "Maximum number of changes to return", example = "100") @RequestParam(name = "limit", defaultValue = "100") @Min(1) @Max(1000) final int limit) {
+
+		return ok(documentChangeService.read(cursor, limit, municipalityId));
+	}
+}
@@ -0,0 +1,59 @@
+package se.sundsvall.document.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.document.api.model.Ingestion;
+import se.sundsvall.document.service.ingestion.AsyncIngestionService;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.ok;
+import static se.sundsvall.document.Constants.DOCUMENT_INGESTIONS_BASE_PATH;
+
+@RestController
+@Validated
+@RequestMapping(DOCUMENT_INGESTIONS_BASE_PATH)
+@Tag(name = "Document ingestions", description = "Status of asynchronous ingestions of documents and files")
+@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
+	Problem.class, ConstraintViolationProblem.class
+})))
+@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+public class DocumentIngestionResource {
+
+	private final AsyncIngestionService asyncIngestionService;
+
+	public DocumentIngestionResource(final AsyncIngestionService asyncIngestionService) {
+		this.asyncIngestionService = asyncIngestionService;
+	}
+
+	@GetMapping(path = "/{ingestionId}", produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Read ingestion.", description = """
+		Returns the status of an asynchronous ingestion, i.e. a document created or a file added with async=true.
+		When the ingestion is completed, the registration number and the revision of the document are returned. When it has failed, the reason is returned.
+		""", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	public ResponseEntity<Ingestion> readIngestion(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "ingestionId", description = "Ingestion ID", example = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d") @PathVariable("ingestionId") @ValidUuid final String ingestionId) {
+
+		return ok(asyncIngestionService.read(ingestionId, municipalityId));
+	}
+}
@@ -8,11 +8,14 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.Part;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import java.util.List;
 import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
@@ -26,6 +29,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
@@ -37,31 +41,57 @@ import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.document.api.model.ConfidentialityUpdateRequest;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentBatchReadRequest;
+import se.sundsvall.document.api.model.DocumentBatchReadResult;
 import se.sundsvall.document.api.model.DocumentCreateRequest;
 import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.api.model.DocumentField;
 import se.sundsvall.document.api.model.DocumentFiles;
 import se.sundsvall.document.api.model.DocumentParameters;
 import se.sundsvall.document.api.model.DocumentUpdateRequest;
+import se.sundsvall.document.api.model.ExportFormat;
 import se.sundsvall.document.api.model.PagedDocumentResponse;
+import se.sundsvall.document.api.ratelimit.StreamingEndpoint;
 import se.sundsvall.document.api.validation.DocumentTypeValidator;
+import se.sundsvall.document.api.validation.JsonPartReader;
 import se.sundsvall.document.api.validation.ValidContentType;
+import se.sundsvall.document.service.DocumentExportService;
 import se.sundsvall.document.service.DocumentService;
-import tools.jackson.databind.ObjectMapper;
+import se.sundsvall.document.service.IdempotencyService;
+import se.sundsvall.document.service.ingestion.AsyncIngestionService;
 
-import static jakarta.validation.Validation.buildDefaultValidatorFactory;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.apache.commons.lang3.StringUtils.strip;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpHeaders.RANGE;
 import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
+import static org.springframework.http.ResponseEntity.accepted;
 import static org.springframework.http.ResponseEntity.created;
 import static org.springframework.http.ResponseEntity.noContent;
 import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.http.ResponseEntity.status;
 import static org.springframework.web.util.UriComponentsBuilder.fromPath;
 import static se.sundsvall.document.Constants.DOCUMENTS_BASE_PATH;
+import static se.sundsvall.document.Constants.DOCUMENT_INGESTIONS_BASE_PATH;
+import static se.sundsvall.document.Constants.IDEMPOTENCY_KEY;
+import static se.sundsvall.document.Constants.TEXT_CSV_VALUE;
+import static se.sundsvall.document.service.Constants.ASYNC_DOCUMENTATION;
+import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_REVISION_NOT_VALID;
+import static se.sundsvall.document.service.Constants.ERROR_INGESTION_WITH_IDEMPOTENCY_KEY;
 import static se.sundsvall.document.service.Constants.SEARCH_BY_PARAMETERS_DOCUMENTATION;
+import static se.sundsvall.document.service.Constants.SEARCH_BY_PARAMETERS_EXPORT_DOCUMENTATION;
 import static se.sundsvall.document.service.Constants.SEARCH_DOCUMENTATION;
+import static se.sundsvall.document.service.Constants.SEARCH_EXPORT_DOCUMENTATION;
 
 @RestController
 @Validated
@@ -74,12 +104,21 @@ import static se.sundsvall.document.service.Constants.SEARCH_DOCUMENTATION;
 class DocumentResource {
 
 	private final DocumentService documentService;
+	private final DocumentExportService documentExportService;
+	private final IdempotencyService idempotencyService;
+	private final AsyncIngestionService asyncIngestionService;
 	private final DocumentTypeValidator documentTypeValidator;
-	private final ObjectMapper objectMapper;
+	private final JsonPartReader jsonPartReader;
+	private final Validator validator;
 
-	DocumentResource(final DocumentService documentService, final ObjectMapper objectMapper, final DocumentTypeValidator documentTypeValidator) {
+	DocumentResource(final DocumentService documentService, final DocumentExportService documentExportService, final IdempotencyService idempotencyService,
+		final AsyncIngestionService asyncIngestionService, final JsonPartReader jsonPartReader, final Validator validator, final DocumentTypeValidator documentTypeValidator) {
 		this.documentService = documentService;
-		this.objectMapper = objectMapper;
+		this.documentExportService = documentExportService;
+		this.idempotencyService = idempotencyService;
+		this.asyncIngestionService = asyncIngestionService;
+		this.jsonPartReader = jsonPartReader;
+		this.validator = validator;
 		this.documentTypeValidator = documentTypeValidator;
 	}
 
@@ -88,26 +127,46 @@ class DocumentResource {
 	}, produces = {
 		ALL_VALUE, APPLICATION_PROBLEM_JSON_VALUE
 	})
-	@Operation(summary = "Create document.", responses = {
+	@Operation(summary = "Create document.", description = ASYNC_DOCUMENTATION, responses = {
 		@ApiResponse(
 			responseCode = "201",
 			headers = @Header(name = LOCATION, schema = @Schema(type = "string")),
 			description = "Successful operation",
-			useReturnTypeSchema = true)
+			useReturnTypeSchema = true),
+		@ApiResponse(
+			responseCode = "202",
+			headers = @Header(name = LOCATION, schema = @Schema(type = "string")),
+			description = "Accepted for asynchronous ingestion",
+			useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "503", description = "Service unavailable", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
 	ResponseEntity<Void> create(
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
-		@RequestPart("document") @Schema(description = "Document", implementation = DocumentCreateRequest.class) final String documentString,
-		@RequestPart(value = "documentFiles") @ValidContentType final List<MultipartFile> documentFiles) {
-		// If parameter isn't a String an exception (bad content type) will be thrown. Manual deserialization is necessary.
-		final var body = objectMapper.readValue(documentString, DocumentCreateRequest.class);
+		@RequestPart("document") @Schema(description = "Document", implementation = DocumentCreateRequest.class) final Part documentPart,
+		@RequestPart(value = "documentFiles") @ValidContentType final List<MultipartFile> documentFiles,
+		@Parameter(name = IDEMPOTENCY_KEY, description = "Key identifying the request. A retried request with the same key returns the document created by the first request instead of creating a new document. A different request with the same key is rejected.",
+			example = "b82bd8ac-1507-4d9a-958d-369261eecc15") @RequestHeader(name = IDEMPOTENCY_KEY, required = false) @Size(max = 255) final String idempotencyKey,
+		@Parameter(name = "async", description = "Should the document be created asynchronously?", example = "false") @RequestParam(name = "async", defaultValue = "false") final boolean async) {
+		// The part is read regardless of its content type, as clients do not always set it. Manual deserialization is necessary.
+		final var body = jsonPartReader.read(documentPart, DocumentCreateRequest.class);
 		validate(body);
 		documentTypeValidator.validate(municipalityId, body.getType());
 
 		final var documents = DocumentFiles.create().withFiles(documentFiles);
 		validate(documents);
 
-		final var registrationNumber = documentService.create(body, documents, municipalityId).getRegistrationNumber();
+		if (async) {
+			if (nonNull(idempotencyKey)) {
+				throw Problem.valueOf(BAD_REQUEST, ERROR_INGESTION_WITH_IDEMPOTENCY_KEY);
+			}
+			return ingestionAccepted(asyncIngestionService.createDocument(body, documentFiles, municipalityId).getId(), municipalityId);
+		}
+
+		final var registrationNumber = isNull(idempotencyKey)
+			? documentService.create(body, documents, municipalityId).getRegistrationNumber()
+			: idempotencyService.createOnce(municipalityId, idempotencyKey, idempotencyService.fingerprint(documentPart::getInputStream, documentFiles),
+				claimId -> documentService.create(body, documents, municipalityId, claimId).getRegistrationNumber());
 
 		return created(fromPath(DOCUMENTS_BASE_PATH + "/{registrationNumber}").buildAndExpand(municipalityId, registrationNumber).toUri())
 			.header(CONTENT_TYPE, ALL_VALUE)
@@ -120,18 +179,27 @@ class DocumentResource {
 		APPLICATION_JSON_VALUE
 	})
 	@Operation(summary = "Update document.", responses = {
-		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
-		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+		@ApiResponse(
+			responseCode = "200",
+			headers = @Header(name = ETAG, schema = @Schema(type = "string")),
+			description = "Successful operation",
+			useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "412", description = "Precondition failed", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
 	ResponseEntity<Document> update(
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
 		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
 		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
-		@NotNull @Valid @RequestBody final DocumentUpdateRequest body) {
+		@NotNull @Valid @RequestBody final DocumentUpdateRequest body,
+		@Parameter(name = IF_MATCH, description = "Entity tag (ETag) of the latest revision that the change is based on. The change is rejected if another revision has been created since.",
+			example = "\"2\"") @RequestHeader(name = IF_MATCH, required = false) final String ifMatch) {
 
 		documentTypeValidator.validate(municipalityId, body.getType());
 
-		return ok(documentService.update(registrationNumber, includeConfidential, body, municipalityId));
+		final var document = documentService.update(registrationNumber, includeConfidential, body, toExpectedRevision(ifMatch), municipalityId);
+		return ok().eTag(String.valueOf(document.getRevision())).body(document);
 	}
 
 	@PatchMapping(path = "/{registrationNumber}/confidentiality", produces = {
@@ -154,15 +222,41 @@ class DocumentResource {
 		APPLICATION_JSON_VALUE
 	})
 	@Operation(summary = "Read document (latest revision).", responses = {
-		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(
+			responseCode = "200",
+			headers = @Header(name = ETAG, schema = @Schema(type = "string")),
+			description = "Successful operation",
+			useReturnTypeSchema = true),
 		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
 	ResponseEntity<Document> read(
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
 		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
-		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential) {
+		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
+		@Parameter(name = "fields", description = "Attributes to include in the response (all attributes if omitted). The revision is always included.", example = "REGISTRATION_NUMBER,DESCRIPTION") @RequestParam(name = "fields", required = false) final Set<DocumentField> fields) {
+
+		final var document = documentService.read(registrationNumber, includeConfidential, fields, municipalityId);
+		return ok().eTag(String.valueOf(document.getRevision())).body(document);
+	}
+
+	@PostMapping(path = "/batch", consumes = {
+		APPLICATION_JSON_VALUE
+	}, produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Read documents by registration numbers.", description = """
+		Reads up to 100 documents in one request, each in its latest revision or in a given revision.
+		The result has one entry per requested document, in the order of the request. Documents that could not be found are marked as not found.
+		""", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true)
+	})
+	ResponseEntity<List<DocumentBatchReadResult>> readBatch(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
+		@Parameter(name = "fields", description = "Attributes to include in the response (all attributes if omitted). The revision is always included.", example = "REGISTRATION_NUMBER,DESCRIPTION") @RequestParam(name = "fields", required = false) final Set<DocumentField> fields,
+		@NotNull @Valid @RequestBody final DocumentBatchReadRequest body) {
 
-		return ok(documentService.read(registrationNumber, includeConfidential, municipalityId));
+		return ok(documentService.readBatch(body.getDocuments(), includeConfidential, fields, municipalityId));
 	}
 
 	@GetMapping(path = "/{registrationNumber}/files/{documentDataId}", produces = {
@@ -170,17 +264,22 @@ class DocumentResource {
 	})
 	@Operation(summary = "Read document file (latest revision).", responses = {
 		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
-		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+		@ApiResponse(responseCode = "206", description = "Partial content, the requested range of the file"),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "416", description = "Range not satisfiable", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
+	@StreamingEndpoint
 	ResponseEntity<Void> readFile(
 		final HttpServletResponse response,
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
 		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
 		@Parameter(name = "documentDataId", description = "Document data ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("documentDataId") @ValidUuid final String documentDataId,
-		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential) {
+		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
+		@Parameter(name = RANGE, description = "A single byte range of the file to read, e.g. bytes=0-1023. Invalid and multiple ranges are ignored and the whole file is returned.",
+			example = "bytes=0-1023") @RequestHeader(name = RANGE, required = false) final String range) {
 
-		documentService.readFile(registrationNumber, documentDataId, includeConfidential, response, municipalityId);
-		return ok().build();
+		documentService.readFile(registrationNumber, documentDataId, includeConfidential, range, response, municipalityId);
+		return status(response.getStatus()).build();
 	}
 
 	@PutMapping(path = "/{registrationNumber}/files", consumes = {
@@ -188,39 +287,67 @@ class DocumentResource {
 	}, produces = {
 		APPLICATION_JSON_VALUE
 	})
-	@Operation(summary = "Add document file data (or replace existing if filename already exists on the document object)", responses = {
-		@ApiResponse(responseCode = "204", description = "Successful operation", useReturnTypeSchema = true),
-		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	@Operation(summary = "Add document file data (or replace existing if filename already exists on the document object)", description = ASYNC_DOCUMENTATION, responses = {
+		@ApiResponse(
+			responseCode = "204",
+			headers = @Header(name = ETAG, schema = @Schema(type = "string")),
+			description = "Successful operation",
+			useReturnTypeSchema = true),
+		@ApiResponse(
+			responseCode = "202",
+			headers = @Header(name = LOCATION, schema = @Schema(type = "string")),
+			description = "Accepted for asynchronous ingestion",
+			useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "412", description = "Precondition failed", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "503", description = "Service unavailable", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
 	ResponseEntity<Void> addOrReplaceFile(
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
 		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
-		@RequestPart("document") @Schema(description = "Document", implementation = DocumentDataCreateRequest.class) final String documentDataString,
-		@RequestPart(value = "documentFile") final MultipartFile documentFile) {
+		@RequestPart("document") @Schema(description = "Document", implementation = DocumentDataCreateRequest.class) final Part documentDataPart,
+		@RequestPart(value = "documentFile") final MultipartFile documentFile,
+		@Parameter(name = IF_MATCH, description = "Entity tag (ETag) of the latest revision that the change is based on. The change is rejected if another revision has been created since.",
+			example = "\"2\"") @RequestHeader(name = IF_MATCH, required = false) final String ifMatch,
+		@Parameter(name = "async", description = "Should the file be added asynchronously?", example = "false") @RequestParam(name = "async", defaultValue = "false") final boolean async) {
 
-		// If parameter isn't a String an exception (bad content type) will be thrown. Manual deserialization is necessary.
-		final var documentDataCreateRequest = objectMapper.readValue(documentDataString, DocumentDataCreateRequest.class);
+		// The part is read regardless of its content type, as clients do not always set it. Manual deserialization is necessary.
+		final var documentDataCreateRequest = jsonPartReader.read(documentDataPart, DocumentDataCreateRequest.class);
 		validate(documentDataCreateRequest);
 
-		documentService.addOrReplaceFile(registrationNumber, documentDataCreateRequest, documentFile, municipalityId);
+		if (async) {
+			return ingestionAccepted(asyncIngestionService.addOrReplaceFile(registrationNumber, documentDataCreateRequest, documentFile, toExpectedRevision(ifMatch), municipalityId).getId(), municipalityId);
+		}
 
-		return noContent().build();
+		final var document = documentService.addOrReplaceFile(registrationNumber, documentDataCreateRequest, documentFile, toExpectedRevision(ifMatch), municipalityId);
+
+		return noContent().eTag(String.valueOf(document.getRevision())).build();
 	}
 
 	@DeleteMapping(path = "/{registrationNumber}/files/{documentDataId}", produces = {
 		APPLICATION_JSON_VALUE
 	})
 	@Operation(summary = "Delete document file.", responses = {
-		@ApiResponse(responseCode = "204", description = "Successful operation", useReturnTypeSchema = true),
-		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+		@ApiResponse(
+			responseCode = "204",
+			headers = @Header(name = ETAG, schema = @Schema(type = "string")),
+			description = "Successful operation",
+			useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "412", description = "Precondition failed", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
 	ResponseEntity<Void> deleteFile(
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
 		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
-		@Parameter(name = "documentDataId", description = "Document data ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("documentDataId") @ValidUuid final String documentDataId) {
+		@Parameter(name = "documentDataId", description = "Document data ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("documentDataId") @ValidUuid final String documentDataId,
+		@Parameter(name = IF_MATCH, description = "Entity tag (ETag) of the latest revision that the change is based on. The change is rejected if another revision has been created since.",
+			example = "\"2\"") @RequestHeader(name = IF_MATCH, required = false) final String ifMatch) {
 
-		documentService.deleteFile(registrationNumber, documentDataId, municipalityId);
-		return noContent().build();
+		final var document = documentService.deleteFile(registrationNumber, documentDataId, toExpectedRevision(ifMatch), municipalityId);
+
+		return noContent().eTag(String.valueOf(document.getRevision())).build();
 	}
 
 	@GetMapping(produces = {
@@ -234,9 +361,10 @@ class DocumentResource {
 		@Parameter(name = "query", description = "Search query. Use asterisk-character [*] as wildcard.", example = "hello*") @RequestParam(value = "query", required = true) @NotBlank final String query,
 		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
 		@Parameter(name = "onlyLatestRevision", description = "Only perform search against the latest document revision", example = "true") @RequestParam(name = "onlyLatestRevision", defaultValue = "false") final boolean onlyLatestRevision,
+		@Parameter(name = "fields", description = "Attributes to include in the response (all attributes if omitted). The revision is always included.", example = "REGISTRATION_NUMBER,DESCRIPTION") @RequestParam(name = "fields", required = false) final Set<DocumentField> fields,
 		@ParameterObject final Pageable pageable) {
 
-		return ok(documentService.search(query, includeConfidential, onlyLatestRevision, pageable, municipalityId));
+		return ok(documentService.search(query, includeConfidential, onlyLatestRevision, pageable, fields, municipalityId));
 	}
 
 	@PostMapping(path = "/filter", produces = {
@@ -246,15 +374,77 @@ class DocumentResource {
 		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true)
 	})
 	ResponseEntity<PagedDocumentResponse> searchByParameters(@PathVariable("municipalityId") final String municipalityId,
+		@Parameter(name = "fields", description = "Attributes to include in the response (all attributes if omitted). The revision is always included.", example = "REGISTRATION_NUMBER,DESCRIPTION") @RequestParam(name = "fields", required = false) final Set<DocumentField> fields,
 		@RequestBody final DocumentParameters documentParameters) {
 
 		final var decoratedRequest = documentParameters.withMunicipalityId(municipalityId);
 
-		return ok(documentService.searchByParameters(decoratedRequest));
+		return ok(documentService.searchByParameters(decoratedRequest, fields));
+	}
+
+	@GetMapping(path = "/export", produces = {
+		APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE
+	})
+	@Operation(summary = "Export search result.", description = SEARCH_EXPORT_DOCUMENTATION, responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true)
+	})
+	@StreamingEndpoint
+	ResponseEntity<Void> exportSearch(
+		final HttpServletResponse response,
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "query", description = "Search query. Use asterisk-character [*] as wildcard.", example = "hello*") @RequestParam(value = "query", required = true) @NotBlank final String query,
+		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
+		@Parameter(name = "onlyLatestRevision", description = "Only perform search against the latest document revision", example = "true") @RequestParam(name = "onlyLatestRevision", defaultValue = "false") final boolean onlyLatestRevision,
+		@Parameter(name = "format", description = "Export format", example = "NDJSON") @RequestParam(name = "format", defaultValue = "NDJSON") final ExportFormat format) {
+
+		documentExportService.exportSearch(query, includeConfidential, onlyLatestRevision, format, response, municipalityId);
+		return ok().build();
+	}
+
+	@PostMapping(path = "/filter/export", produces = {
+		APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE
+	})
+	@Operation(summary = "Export search by parameters result.", description = SEARCH_BY_PARAMETERS_EXPORT_DOCUMENTATION, responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true)
+	})
+	@StreamingEndpoint
+	ResponseEntity<Void> exportSearchByParameters(
+		final HttpServletResponse response,
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "format", description = "Export format", example = "NDJSON") @RequestParam(name = "format", defaultValue = "NDJSON") final ExportFormat format,
+		@RequestBody final DocumentParameters documentParameters) {
+
+		documentExportService.exportSearchByParameters(documentParameters.withMunicipalityId(municipalityId), format, response);
+		return ok().build();
+	}
+
+	/**
+	 * Returns 202 Accepted, with the location of the status of an asynchronous ingestion.
+	 */
+	private static ResponseEntity<Void> ingestionAccepted(final String ingestionId, final String municipalityId) {
+		return accepted()
+			.location(fromPath(DOCUMENT_INGESTIONS_BASE_PATH + "/{ingestionId}").buildAndExpand(municipalityId, ingestionId).toUri())
+			.header(CONTENT_TYPE, ALL_VALUE)
+			.build();
+	}
+
+	/**
+	 * Returns the revision identified by an If-Match header, i.e. the entity tag of the revision, or null if the header
+	 * is missing or matches any revision (*).
+	 */
+	static Integer toExpectedRevision(final String ifMatch) {
+		if (isNull(ifMatch) || "*".equals(ifMatch.strip())) {
+			return null;
+		}
+
+		try {
+			return Integer.valueOf(strip(ifMatch.strip(), "\""));
+		} catch (final NumberFormatException e) {
+			throw Problem.valueOf(PRECONDITION_FAILED, ERROR_DOCUMENT_REVISION_NOT_VALID.formatted(ifMatch));
+		}
 	}
 
 	private <T> void validate(final T t) {
-		final var validator = buildDefaultValidatorFactory().getValidator();
 		final Set<ConstraintViolation<T>> violations = validator.validate(t);
 		if (!violations.isEmpty()) {
 			throw new ConstraintViolationException(violations);
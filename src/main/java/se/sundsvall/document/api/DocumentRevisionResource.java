@@ -8,12 +8,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Min;
+import java.util.Set;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -22,12 +24,17 @@ import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentField;
+import se.sundsvall.document.api.model.DownloadUrl;
 import se.sundsvall.document.api.model.PagedDocumentResponse;
+import se.sundsvall.document.api.ratelimit.StreamingEndpoint;
 import se.sundsvall.document.service.DocumentService;
 
+import static org.springframework.http.HttpHeaders.RANGE;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
 import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.http.ResponseEntity.status;
 import static se.sundsvall.document.Constants.DOCUMENT_REVISIONS_BASE_PATH;
 
 @RestController
@@ -57,9 +64,10 @@ public class DocumentRevisionResource {
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
 		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
 		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
+		@Parameter(name = "fields", description = "Attributes to include in the response (all attributes if omitted). The revision is always included.", example = "REGISTRATION_NUMBER,DESCRIPTION") @RequestParam(name = "fields", required = false) final Set<DocumentField> fields,
 		@ParameterObject final Pageable pageable) {
 
-		return ok(documentService.readAll(registrationNumber, includeConfidential, pageable, municipalityId));
+		return ok(documentService.readAll(registrationNumber, includeConfidential, pageable, fields, municipalityId));
 	}
 
 	@GetMapping(path = "/{revision}", produces = {
@@ -74,9 +82,10 @@ public class DocumentRevisionResource {
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
 		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
 		@Parameter(name = "revision", description = "Document revision", example = "2") @Min(0) @PathVariable("revision") final int revision,
-		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential) {
+		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
+		@Parameter(name = "fields", description = "Attributes to include in the response (all attributes if omitted). The revision is always included.", example = "REGISTRATION_NUMBER,DESCRIPTION") @RequestParam(name = "fields", required = false) final Set<DocumentField> fields) {
 
-		return ok(documentService.read(registrationNumber, revision, includeConfidential, municipalityId));
+		return ok(documentService.read(registrationNumber, revision, includeConfidential, fields, municipalityId));
 	}
 
 	@GetMapping(path = "/{revision}/files/{documentDataId}", produces = {
@@ -84,18 +93,42 @@ public class DocumentRevisionResource {
 	})
 	@Operation(summary = "Read document file revision.", responses = {
 		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "206", description = "Partial content, the requested range of the file"),
 		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
-
+		@ApiResponse(responseCode = "416", description = "Range not satisfiable", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
 	})
+	@StreamingEndpoint
 	public ResponseEntity<Void> readFileRevision(
 		final HttpServletResponse response,
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
+		@Parameter(name = "revision", description = "Document revision", example = "2") @Min(0) @PathVariable("revision") final int revision,
+		@Parameter(name = "documentDataId", description = "Document data ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("documentDataId") @ValidUuid final String documentDataId,
+		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential,
+		@Parameter(name = RANGE, description = "A single byte range of the file to read, e.g. bytes=0-1023. Invalid and multiple ranges are ignored and the whole file is returned.",
+			example = "bytes=0-1023") @RequestHeader(name = RANGE, required = false) final String range) {
+
+		documentService.readFile(registrationNumber, revision, documentDataId, includeConfidential, range, response, municipalityId);
+		return status(response.getStatus()).build();
+	}
+
+	@GetMapping(path = "/{revision}/files/{documentDataId}/download-url", produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Issue a pre-signed download URL for a document file revision.", description = """
+		Returns a short-lived URL that the file can be downloaded from without further authorization. Access to the file, including confidentiality, is checked when the URL is issued.
+		""", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+
+	})
+	public ResponseEntity<DownloadUrl> createDownloadUrl(
 		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
 		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
 		@Parameter(name = "revision", description = "Document revision", example = "2") @Min(0) @PathVariable("revision") final int revision,
 		@Parameter(name = "documentDataId", description = "Document data ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("documentDataId") @ValidUuid final String documentDataId,
 		@Parameter(name = "includeConfidential", description = "Include confidential records", example = "true") @RequestParam(name = "includeConfidential", defaultValue = "false") final boolean includeConfidential) {
 
-		documentService.readFile(registrationNumber, revision, documentDataId, includeConfidential, response, municipalityId);
-		return ok().build();
+		return ok(documentService.createDownloadUrl(registrationNumber, revision, documentDataId, includeConfidential, municipalityId));
 	}
 }
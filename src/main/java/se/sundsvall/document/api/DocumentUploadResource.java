@@ -0,0 +1,165 @@
+package se.sundsvall.document.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.io.IOException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.Upload;
+import se.sundsvall.document.api.model.UploadCreateRequest;
+import se.sundsvall.document.api.ratelimit.StreamingEndpoint;
+import se.sundsvall.document.service.upload.UploadService;
+
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.created;
+import static org.springframework.http.ResponseEntity.noContent;
+import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.web.util.UriComponentsBuilder.fromPath;
+import static se.sundsvall.document.Constants.DOCUMENT_UPLOADS_BASE_PATH;
+import static se.sundsvall.document.api.DocumentResource.toExpectedRevision;
+
+@RestController
+@Validated
+@RequestMapping(DOCUMENT_UPLOADS_BASE_PATH)
+@Tag(name = "Document uploads", description = "Resumable uploads of large document files")
+@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
+	Problem.class, ConstraintViolationProblem.class
+})))
+@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+public class DocumentUploadResource {
+
+	private final UploadService uploadService;
+
+	public DocumentUploadResource(final UploadService uploadService) {
+		this.uploadService = uploadService;
+	}
+
+	@PostMapping(consumes = {
+		APPLICATION_JSON_VALUE
+	}, produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Initiate a resumable upload of a document file.", description = """
+		Initiates an upload of a file that is too large to be uploaded in a single request. The content of the file is then uploaded in chunks and the upload is completed when all content has been received.
+		""", responses = {
+		@ApiResponse(responseCode = "201", headers = @Header(name = LOCATION, schema = @Schema(type = "string")), description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	public ResponseEntity<Upload> createUpload(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
+		@Valid @NotNull @RequestBody final UploadCreateRequest body) {
+
+		final var upload = uploadService.create(registrationNumber, body, municipalityId);
+		return created(fromPath(DOCUMENT_UPLOADS_BASE_PATH + "/{uploadId}").buildAndExpand(municipalityId, registrationNumber, upload.getId()).toUri())
+			.body(upload);
+	}
+
+	@GetMapping(path = "/{uploadId}", produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Read upload.", description = "Returns the upload, where receivedBytes is the offset that the next chunk shall be uploaded at.", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	public ResponseEntity<Upload> readUpload(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
+		@Parameter(name = "uploadId", description = "Upload ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("uploadId") @ValidUuid final String uploadId) {
+
+		return ok(uploadService.read(registrationNumber, uploadId, municipalityId));
+	}
+
+	@PutMapping(path = "/{uploadId}", consumes = {
+		APPLICATION_OCTET_STREAM_VALUE
+	}, produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Upload a chunk of the file.", description = """
+		Uploads a chunk of the file at the provided offset, which must be the number of bytes received so far. A chunk that failed can be retried at the same offset.
+		""", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	@io.swagger.v3.oas.annotations.parameters.RequestBody(content = @Content(mediaType = APPLICATION_OCTET_STREAM_VALUE, schema = @Schema(type = "string", format = "binary")))
+	@StreamingEndpoint
+	public ResponseEntity<Upload> uploadChunk(
+		final HttpServletRequest request,
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
+		@Parameter(name = "uploadId", description = "Upload ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("uploadId") @ValidUuid final String uploadId,
+		@Parameter(name = "offset", description = "Offset of the chunk within the file", example = "0") @RequestParam(name = "offset") @PositiveOrZero final long offset) throws IOException {
+
+		return ok(uploadService.appendChunk(registrationNumber, uploadId, offset, request.getInputStream(), municipalityId));
+	}
+
+	@PostMapping(path = "/{uploadId}/complete", produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Complete upload.", description = "Adds the uploaded file to the document, as a new revision of the document, and removes the upload.", responses = {
+		@ApiResponse(responseCode = "200", headers = @Header(name = ETAG, schema = @Schema(type = "string")), description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "409", description = "Conflict", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "412", description = "Precondition failed", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	public ResponseEntity<Document> completeUpload(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
+		@Parameter(name = "uploadId", description = "Upload ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("uploadId") @ValidUuid final String uploadId,
+		@Parameter(name = IF_MATCH, description = "Entity tag (ETag) of the latest revision that the change is based on. The change is rejected if another revision has been created since.",
+			example = "\"2\"") @RequestHeader(name = IF_MATCH, required = false) final String ifMatch) {
+
+		final var document = uploadService.complete(registrationNumber, uploadId, toExpectedRevision(ifMatch), municipalityId);
+		return ok().eTag(String.valueOf(document.getRevision())).body(document);
+	}
+
+	@DeleteMapping(path = "/{uploadId}", produces = {
+		ALL_VALUE
+	})
+	@Operation(summary = "Abort upload.", description = "Removes the upload and all content received so far.", responses = {
+		@ApiResponse(responseCode = "204", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	public ResponseEntity<Void> deleteUpload(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "registrationNumber", description = "Document registration number", example = "2023-2281-1337") @PathVariable("registrationNumber") final String registrationNumber,
+		@Parameter(name = "uploadId", description = "Upload ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("uploadId") @ValidUuid final String uploadId) {
+
+		uploadService.delete(registrationNumber, uploadId, municipalityId);
+		return noContent()
+			.header(CONTENT_TYPE, ALL_VALUE)
+			.build();
+	}
+}
@@ -0,0 +1,72 @@
+package se.sundsvall.document.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.document.api.ratelimit.StreamingEndpoint;
+import se.sundsvall.document.service.DocumentService;
+
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.status;
+import static se.sundsvall.document.Constants.FILES_BASE_PATH;
+
+@RestController
+@Validated
+@RequestMapping(FILES_BASE_PATH)
+@Tag(name = "Files", description = "Download of files by pre-signed URLs")
+@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
+	Problem.class, ConstraintViolationProblem.class
+})))
+@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+public class FileDownloadResource {
+
+	private final DocumentService documentService;
+
+	public FileDownloadResource(final DocumentService documentService) {
+		this.documentService = documentService;
+	}
+
+	@GetMapping(path = "/{documentDataId}", produces = {
+		ALL_VALUE
+	})
+	@Operation(summary = "Download a file by a pre-signed URL.", description = """
+		Downloads a file by a URL issued by the download-url operation of document revisions. The URL is verified by its signature and expiry time only.
+		""", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "206", description = "Partial content, the requested range of the file"),
+		@ApiResponse(responseCode = "403", description = "Forbidden", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "404", description = "Not found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class))),
+		@ApiResponse(responseCode = "416", description = "Range not satisfiable", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	@StreamingEndpoint
+	public ResponseEntity<Void> downloadFile(
+		final HttpServletResponse response,
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Parameter(name = "documentDataId", description = "Document data ID", example = "082ba08f-03c7-409f-b8a6-940a1397ba38") @PathVariable("documentDataId") @ValidUuid final String documentDataId,
+		@Parameter(name = "expires", description = "Expiry time of the URL, in epoch seconds", example = "1693438500") @RequestParam(name = "expires") final long expires,
+		@Parameter(name = "signature", description = "Signature of the URL", example = "dGhlLXNpZ25hdHVyZQ") @RequestParam(name = "signature") final String signature,
+		@Parameter(name = RANGE, description = "A single byte range of the file to read, e.g. bytes=0-1023. Invalid and multiple ranges are ignored and the whole file is returned.",
+			example = "bytes=0-1023") @RequestHeader(name = RANGE, required = false) final String range) {
+
+		documentService.readFileByDownloadUrl(documentDataId, expires, signature, range, response, municipalityId);
+		return status(response.getStatus()).build();
+	}
+}
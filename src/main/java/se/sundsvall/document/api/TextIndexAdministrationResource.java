@@ -0,0 +1,58 @@
+package se.sundsvall.document.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.document.service.textindex.TextIndexService;
+
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.accepted;
+import static se.sundsvall.document.Constants.ADMIN_TEXT_INDEX_BASE_PATH;
+
+@RestController
+@Validated
+@RequestMapping(ADMIN_TEXT_INDEX_BASE_PATH)
+@Tag(name = "Text index", description = "Administration of the text index of file content")
+@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
+	Problem.class, ConstraintViolationProblem.class
+})))
+@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+public class TextIndexAdministrationResource {
+
+	private final TextIndexService service;
+
+	TextIndexAdministrationResource(final TextIndexService service) {
+		this.service = service;
+	}
+
+	@PostMapping(path = "/reindex", produces = {
+		ALL_VALUE
+	})
+	@Operation(summary = "Re-index file content", description = """
+		Queues the content of all files in the provided municipality for text extraction. The extraction is made in the background and the content is searchable again when it has been extracted.
+		""", responses = {
+		@ApiResponse(responseCode = "202", description = "Accepted", useReturnTypeSchema = true)
+	})
+	ResponseEntity<Void> reindex(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId) {
+
+		service.reindex(municipalityId);
+		return accepted()
+			.header(CONTENT_TYPE, ALL_VALUE)
+			.build();
+	}
+}
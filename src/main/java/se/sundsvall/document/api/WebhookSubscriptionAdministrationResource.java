@@ -0,0 +1,128 @@
+package se.sundsvall.document.api;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.headers.Header;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import se.sundsvall.dept44.common.validators.annotation.ValidMunicipalityId;
+import se.sundsvall.dept44.common.validators.annotation.ValidUuid;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.document.api.model.WebhookSubscription;
+import se.sundsvall.document.api.model.WebhookSubscriptionCreateRequest;
+import se.sundsvall.document.api.validation.WebhookUrlValidator;
+import se.sundsvall.document.service.webhook.WebhookSubscriptionService;
+
+import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON_VALUE;
+import static org.springframework.http.ResponseEntity.created;
+import static org.springframework.http.ResponseEntity.noContent;
+import static org.springframework.http.ResponseEntity.ok;
+import static org.springframework.web.util.UriComponentsBuilder.fromPath;
+import static se.sundsvall.document.Constants.ADMIN_WEBHOOKS_BASE_PATH;
+
+@RestController
+@Validated
+@RequestMapping(ADMIN_WEBHOOKS_BASE_PATH)
+@Tag(name = "Webhook administration", description = "Administration of webhook subscriptions to document changes")
+@ApiResponse(responseCode = "400", description = "Bad request", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(oneOf = {
+	Problem.class, ConstraintViolationProblem.class
+})))
+@ApiResponse(responseCode = "500", description = "Internal Server error", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+public class WebhookSubscriptionAdministrationResource {
+
+	private final WebhookSubscriptionService service;
+	private final WebhookUrlValidator webhookUrlValidator;
+
+	WebhookSubscriptionAdministrationResource(final WebhookSubscriptionService service, final WebhookUrlValidator webhookUrlValidator) {
+		this.service = service;
+		this.webhookUrlValidator = webhookUrlValidator;
+	}
+
+	@PostMapping(consumes = {
+		APPLICATION_JSON_VALUE
+	}, produces = {
+		ALL_VALUE
+	})
+	@Operation(summary = "Create webhook subscription", description = """
+		Creates a subscription to the document changes in the provided municipality (optionally only changes to documents of one type).
+		Changes committed after the subscription was created are posted to the url in batches, in the same format and order as in the change feed.
+		A failed delivery is retried with increasing delays until it succeeds, so each change is delivered at least once.
+		The url must use https and its host must not resolve to a loopback, link-local or private address (or must be one of the configured allowed hosts).
+		""", responses = {
+		@ApiResponse(responseCode = "201", headers = @Header(name = LOCATION, schema = @Schema(type = "string")), description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	ResponseEntity<Void> createWebhookSubscription(
+		@Parameter(name = "municipalityId", description = "Municipality ID", example = "2281") @PathVariable("municipalityId") @ValidMunicipalityId final String municipalityId,
+		@Valid @NotNull @RequestBody final WebhookSubscriptionCreateRequest body) {
+
+		webhookUrlValidator.validate(body.getUrl());
+		final var result = service.create(municipalityId, body);
+		return created(fromPath(ADMIN_WEBHOOKS_BASE_PATH + "/{id}").buildAndExpand(municipalityId, result.getId())
+			.toUri())
+			.header(CONTENT_TYPE, ALL_VALUE)
+			.build();
+	}
+
+	@GetMapping(produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Get webhook subscriptions", description = "Get all webhook subscriptions in provided municipality.", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true)
+	})
+	ResponseEntity<List<WebhookSubscription>> readWebhookSubscriptions(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId) {
+
+		return ok(service.read(municipalityId));
+	}
+
+	@GetMapping(path = "/{id}", produces = {
+		APPLICATION_JSON_VALUE
+	})
+	@Operation(summary = "Get webhook subscription", description = "Get webhook subscription matching provided id and municipality.", responses = {
+		@ApiResponse(responseCode = "200", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	ResponseEntity<WebhookSubscription> readWebhookSubscription(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
+		@Parameter(name = "id", description = "Webhook subscription ID", example = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0a01") @ValidUuid @PathVariable final String id) {
+
+		return ok(service.read(municipalityId, id));
+	}
+
+	@DeleteMapping(path = "/{id}", produces = {
+		ALL_VALUE
+	})
+	@Operation(summary = "Delete webhook subscription", description = "Deletes the webhook subscription matching provided id and municipality. Undelivered changes are not delivered.", responses = {
+		@ApiResponse(responseCode = "204", description = "Successful operation", useReturnTypeSchema = true),
+		@ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = Problem.class)))
+	})
+	ResponseEntity<Void> deleteWebhookSubscription(
+		@Parameter(name = "municipalityId", description = "Municipality id", example = "2281") @ValidMunicipalityId @PathVariable final String municipalityId,
+		@Parameter(name = "id", description = "Webhook subscription ID", example = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0a01") @ValidUuid @PathVariable final String id) {
+
+		service.delete(municipalityId, id);
+		return noContent()
+			.header(CONTENT_TYPE, ALL_VALUE)
+			.build();
+	}
+}
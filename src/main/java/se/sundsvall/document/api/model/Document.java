@@ -49,6 +49,9 @@ public class Document {
 	@Schema(description = "Document type", examples = "Type for the document.")
 	private String type;
 
+	@Schema(description = "Fields that matched the search query (only present in search results). Matching metadata is presented as meta.[key].")
+	private List<String> matchedFields;
+
 	public static Document create() {
 		return new Document();
 	}
@@ -209,9 +212,22 @@ public class Document {
 		return this;
 	}
 
+	public List<String> getMatchedFields() {
+		return matchedFields;
+	}
+
+	public void setMatchedFields(List<String> matchedFields) {
+		this.matchedFields = matchedFields;
+	}
+
+	public Document withMatchedFields(List<String> matchedFields) {
+		this.matchedFields = matchedFields;
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(archive, confidentiality, created, createdBy, description, documentData, id, metadataList, municipalityId, registrationNumber, revision, type);
+		return Objects.hash(archive, confidentiality, created, createdBy, description, documentData, id, matchedFields, metadataList, municipalityId, registrationNumber, revision, type);
 	}
 
 	@Override
@@ -223,7 +239,7 @@ public class Document {
 			return false;
 		}
 		return archive == other.archive && Objects.equals(confidentiality, other.confidentiality) && Objects.equals(created, other.created) && Objects.equals(createdBy, other.createdBy) && Objects.equals(description, other.description) && Objects
-			.equals(documentData, other.documentData) && Objects.equals(id, other.id) && Objects.equals(metadataList, other.metadataList) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(registrationNumber,
+			.equals(documentData, other.documentData) && Objects.equals(id, other.id) && Objects.equals(matchedFields, other.matchedFields) && Objects.equals(metadataList, other.metadataList) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(registrationNumber,
 				other.registrationNumber) && revision == other.revision && Objects.equals(type, other.type);
 	}
 
@@ -232,7 +248,7 @@ public class Document {
 		final var builder = new StringBuilder();
 		builder.append("Document [id=").append(id).append(", municipalityId=").append(municipalityId).append(", registrationNumber=").append(registrationNumber).append(", revision=").append(revision).append(", confidentiality=").append(
 			confidentiality).append(", description=").append(description).append(", created=").append(created).append(", createdBy=").append(createdBy).append(", archive=").append(archive).append(", metadataList=").append(metadataList).append(
-				", documentData=").append(documentData).append(", type=").append(type).append("]");
+				", documentData=").append(documentData).append(", type=").append(type).append(", matchedFields=").append(matchedFields).append("]");
 		return builder.toString();
 	}
 }
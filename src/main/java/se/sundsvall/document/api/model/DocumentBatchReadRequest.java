@@ -0,0 +1,57 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.Objects;
+
+@Schema(description = "DocumentBatchReadRequest model.")
+public class DocumentBatchReadRequest {
+
+	public static final int MAX_DOCUMENTS = 100;
+
+	@NotEmpty
+	@Size(max = MAX_DOCUMENTS)
+	@ArraySchema(schema = @Schema(implementation = DocumentReference.class), arraySchema = @Schema(description = "The documents to read, at most 100."))
+	private List<@NotNull @Valid DocumentReference> documents;
+
+	public static DocumentBatchReadRequest create() {
+		return new DocumentBatchReadRequest();
+	}
+
+	public List<DocumentReference> getDocuments() {
+		return documents;
+	}
+
+	public void setDocuments(List<DocumentReference> documents) {
+		this.documents = documents;
+	}
+
+	public DocumentBatchReadRequest withDocuments(List<DocumentReference> documents) {
+		this.documents = documents;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(documents);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentBatchReadRequest other)) { return false; }
+		return Objects.equals(documents, other.documents);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentBatchReadRequest [documents=").append(documents).append("]");
+		return builder.toString();
+	}
+}
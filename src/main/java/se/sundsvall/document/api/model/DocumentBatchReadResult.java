@@ -0,0 +1,98 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Schema(description = "DocumentBatchReadResult model.", accessMode = READ_ONLY)
+public class DocumentBatchReadResult {
+
+	@Schema(description = "Registration number of the requested document.", examples = "2023-2281-1337")
+	private String registrationNumber;
+
+	@Schema(description = "Requested revision of the document (empty if the latest revision was requested).", examples = "2")
+	private Integer revision;
+
+	@Schema(description = "If the document was found.", examples = "true")
+	private boolean found;
+
+	@Schema(description = "The document (empty if it was not found).")
+	private Document document;
+
+	public static DocumentBatchReadResult create() {
+		return new DocumentBatchReadResult();
+	}
+
+	public String getRegistrationNumber() {
+		return registrationNumber;
+	}
+
+	public void setRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+	}
+
+	public DocumentBatchReadResult withRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+		return this;
+	}
+
+	public Integer getRevision() {
+		return revision;
+	}
+
+	public void setRevision(Integer revision) {
+		this.revision = revision;
+	}
+
+	public DocumentBatchReadResult withRevision(Integer revision) {
+		this.revision = revision;
+		return this;
+	}
+
+	public boolean isFound() {
+		return found;
+	}
+
+	public void setFound(boolean found) {
+		this.found = found;
+	}
+
+	public DocumentBatchReadResult withFound(boolean found) {
+		this.found = found;
+		return this;
+	}
+
+	public Document getDocument() {
+		return document;
+	}
+
+	public void setDocument(Document document) {
+		this.document = document;
+	}
+
+	public DocumentBatchReadResult withDocument(Document document) {
+		this.document = document;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(document, found, registrationNumber, revision);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentBatchReadResult other)) { return false; }
+		return Objects.equals(document, other.document) && found == other.found && Objects.equals(registrationNumber, other.registrationNumber) && Objects.equals(revision, other.revision);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentBatchReadResult [registrationNumber=").append(registrationNumber).append(", revision=").append(revision).append(", found=").append(found).append(", document=")
+			.append(document).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,139 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Schema(description = "DocumentChange model.", accessMode = READ_ONLY)
+public class DocumentChange {
+
+	@Schema(description = "Sequence number of the change. Changes are numbered in the order they were committed, within the municipality.", examples = "1337")
+	private long sequenceNumber;
+
+	@Schema(description = "Type of change.", allowableValues = {
+		"CREATED", "REVISED", "CONFIDENTIALITY_CHANGED"
+	}, examples = "REVISED")
+	private String type;
+
+	@Schema(description = "Registration number of the changed document.", examples = "2023-2281-1337")
+	private String registrationNumber;
+
+	@Schema(description = "Type of the changed document.", examples = "EMPLOYMENT_CERTIFICATE")
+	private String documentType;
+
+	@Schema(description = "Revision of the document that the change resulted in (the latest revision for confidentiality changes).", examples = "2")
+	private int revision;
+
+	@Schema(description = "Timestamp when the change was made.", examples = "2023-08-31T01:30:00.000+02:00")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime created;
+
+	public static DocumentChange create() {
+		return new DocumentChange();
+	}
+
+	public long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	public void setSequenceNumber(long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+	}
+
+	public DocumentChange withSequenceNumber(long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+		return this;
+	}
+
+	public String getType() {
+		return type;
+	}
+
+	public void setType(String type) {
+		this.type = type;
+	}
+
+	public DocumentChange withType(String type) {
+		this.type = type;
+		return this;
+	}
+
+	public String getRegistrationNumber() {
+		return registrationNumber;
+	}
+
+	public void setRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+	}
+
+	public DocumentChange withRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+		return this;
+	}
+
+	public String getDocumentType() {
+		return documentType;
+	}
+
+	public void setDocumentType(String documentType) {
+		this.documentType = documentType;
+	}
+
+	public DocumentChange withDocumentType(String documentType) {
+		this.documentType = documentType;
+		return this;
+	}
+
+	public int getRevision() {
+		return revision;
+	}
+
+	public void setRevision(int revision) {
+		this.revision = revision;
+	}
+
+	public DocumentChange withRevision(int revision) {
+		this.revision = revision;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public DocumentChange withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		DocumentChange that = (DocumentChange) o;
+		return sequenceNumber == that.sequenceNumber && revision == that.revision && Objects.equals(type, that.type) && Objects.equals(registrationNumber, that.registrationNumber) && Objects.equals(documentType, that.documentType) && Objects.equals(created, that.created);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(sequenceNumber, type, registrationNumber, documentType, revision, created);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentChange [sequenceNumber=").append(sequenceNumber).append(", type=").append(type).append(", registrationNumber=").append(registrationNumber).append(", documentType=").append(documentType).append(", revision=").append(revision).append(", created=").append(created)
+			.append("]");
+		return builder.toString();
+	}
+}
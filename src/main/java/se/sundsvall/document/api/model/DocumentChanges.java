@@ -0,0 +1,70 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.List;
+import java.util.Objects;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Schema(description = "DocumentChanges model.", accessMode = READ_ONLY)
+public class DocumentChanges {
+
+	@ArraySchema(schema = @Schema(implementation = DocumentChange.class))
+	private List<DocumentChange> changes;
+
+	@Schema(description = "Cursor to read the next changes from, i.e. the sequence number of the last change in this response (or the provided cursor if there were no changes).", examples = "1337")
+	private long cursor;
+
+	public static DocumentChanges create() {
+		return new DocumentChanges();
+	}
+
+	public List<DocumentChange> getChanges() {
+		return changes;
+	}
+
+	public void setChanges(List<DocumentChange> changes) {
+		this.changes = changes;
+	}
+
+	public DocumentChanges withChanges(List<DocumentChange> changes) {
+		this.changes = changes;
+		return this;
+	}
+
+	public long getCursor() {
+		return cursor;
+	}
+
+	public void setCursor(long cursor) {
+		this.cursor = cursor;
+	}
+
+	public DocumentChanges withCursor(long cursor) {
+		this.cursor = cursor;
+		return this;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		DocumentChanges that = (DocumentChanges) o;
+		return cursor == that.cursor && Objects.equals(changes, that.changes);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(changes, cursor);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentChanges [changes=").append(changes).append(", cursor=").append(cursor).append("]");
+		return builder.toString();
+	}
+}
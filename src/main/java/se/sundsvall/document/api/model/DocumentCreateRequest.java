@@ -29,7 +29,8 @@ public class DocumentCreateRequest {
 	private String description;
 
 	@NotEmpty
-	@Schema(description = "List of DocumentMetadata objects.", requiredMode = REQUIRED)
+	@Size(max = 200)
+	@Schema(description = "List of DocumentMetadata objects. Maximum 200 objects.", requiredMode = REQUIRED)
 	private List<@Valid DocumentMetadata> metadataList;
 
 	@NotBlank
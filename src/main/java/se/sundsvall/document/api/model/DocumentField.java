@@ -0,0 +1,20 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Attribute of a document that can be requested in a sparse fieldset. The revision of the document is always included.")
+public enum DocumentField {
+
+	ID,
+	MUNICIPALITY_ID,
+	REGISTRATION_NUMBER,
+	CONFIDENTIALITY,
+	DESCRIPTION,
+	CREATED,
+	CREATED_BY,
+	ARCHIVE,
+	METADATA_LIST,
+	DOCUMENT_DATA,
+	TYPE,
+	MATCHED_FIELDS
+}
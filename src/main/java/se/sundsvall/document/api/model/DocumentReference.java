@@ -0,0 +1,69 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import java.util.Objects;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+
+@Schema(description = "DocumentReference model.")
+public class DocumentReference {
+
+	@NotBlank
+	@Schema(description = "Registration number of the document.", examples = "2023-2281-1337", requiredMode = REQUIRED)
+	private String registrationNumber;
+
+	@Min(1)
+	@Schema(description = "Revision of the document. The latest revision is read if omitted.", examples = "2")
+	private Integer revision;
+
+	public static DocumentReference create() {
+		return new DocumentReference();
+	}
+
+	public String getRegistrationNumber() {
+		return registrationNumber;
+	}
+
+	public void setRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+	}
+
+	public DocumentReference withRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+		return this;
+	}
+
+	public Integer getRevision() {
+		return revision;
+	}
+
+	public void setRevision(Integer revision) {
+		this.revision = revision;
+	}
+
+	public DocumentReference withRevision(Integer revision) {
+		this.revision = revision;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(registrationNumber, revision);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentReference other)) { return false; }
+		return Objects.equals(registrationNumber, other.registrationNumber) && Objects.equals(revision, other.revision);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentReference [registrationNumber=").append(registrationNumber).append(", revision=").append(revision).append("]");
+		return builder.toString();
+	}
+}
@@ -23,7 +23,8 @@ public class DocumentUpdateRequest {
 	@Schema(description = "Tells if the document is eligible for archiving", examples = "false")
 	private Boolean archive;
 
-	@Schema(description = "List of DocumentMetadata objects.")
+	@Size(max = 200)
+	@Schema(description = "List of DocumentMetadata objects. Maximum 200 objects.")
 	private List<@Valid DocumentMetadata> metadataList;
 
 	@Schema(description = "The type of document (validated against a defined list of document types).", examples = "EMPLOYMENT_CERTIFICATE")
@@ -0,0 +1,72 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Schema(description = "DownloadUrl model.", accessMode = READ_ONLY)
+public class DownloadUrl {
+
+	@Schema(description = "Pre-signed URL, relative to the service, that the file can be downloaded from without further authorization.", examples = "/2281/files/082ba08f-03c7-409f-b8a6-940a1397ba38?expires=1693438500&signature=dGhlLXNpZ25hdHVyZQ")
+	private String url;
+
+	@Schema(description = "Timestamp when the URL expires.", examples = "2023-08-31T01:35:00.000+02:00")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime expires;
+
+	public static DownloadUrl create() {
+		return new DownloadUrl();
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public DownloadUrl withUrl(String url) {
+		this.url = url;
+		return this;
+	}
+
+	public OffsetDateTime getExpires() {
+		return expires;
+	}
+
+	public void setExpires(OffsetDateTime expires) {
+		this.expires = expires;
+	}
+
+	public DownloadUrl withExpires(OffsetDateTime expires) {
+		this.expires = expires;
+		return this;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o)
+			return true;
+		if (o == null || getClass() != o.getClass())
+			return false;
+		DownloadUrl that = (DownloadUrl) o;
+		return Objects.equals(url, that.url) && Objects.equals(expires, that.expires);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(url, expires);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DownloadUrl [url=").append(url).append(", expires=").append(expires).append("]");
+		return builder.toString();
+	}
+}
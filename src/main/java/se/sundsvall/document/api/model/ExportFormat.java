@@ -0,0 +1,29 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static se.sundsvall.document.Constants.TEXT_CSV_VALUE;
+
+@Schema(description = "Format of exported documents. NDJSON writes one document per line, CSV writes one row per metadata entry of each document.")
+public enum ExportFormat {
+
+	NDJSON(APPLICATION_NDJSON_VALUE, "documents.ndjson"),
+	CSV(TEXT_CSV_VALUE, "documents.csv");
+
+	private final String mediaType;
+	private final String fileName;
+
+	ExportFormat(String mediaType, String fileName) {
+		this.mediaType = mediaType;
+		this.fileName = fileName;
+	}
+
+	public String getMediaType() {
+		return mediaType;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+}
@@ -0,0 +1,154 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Schema(description = "Ingestion model.", accessMode = READ_ONLY)
+public class Ingestion {
+
+	@Schema(description = "ID of the ingestion.", examples = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d")
+	private String id;
+
+	@Schema(description = "Status of the ingestion.", allowableValues = {
+		"PENDING", "PROCESSING", "COMPLETED", "FAILED"
+	}, examples = "COMPLETED")
+	private String status;
+
+	@Schema(description = "Registration number of the document. Set when the document has been created.", examples = "2023-2281-1337")
+	private String registrationNumber;
+
+	@Schema(description = "Revision of the document that the ingestion resulted in. Set when the ingestion has been completed.", examples = "2")
+	private Integer revision;
+
+	@Schema(description = "The reason why the ingestion failed.", examples = "Not Found: No document with registrationNumber: '2023-2281-1337' could be found!")
+	private String error;
+
+	@Schema(description = "Timestamp when the ingestion was accepted.", examples = "2023-08-31T01:30:00.000+02:00")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime created;
+
+	@Schema(description = "Timestamp when the status of the ingestion was last changed.", examples = "2023-08-31T01:30:05.000+02:00")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime modified;
+
+	public static Ingestion create() {
+		return new Ingestion();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Ingestion withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getStatus() {
+		return status;
+	}
+
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	public Ingestion withStatus(String status) {
+		this.status = status;
+		return this;
+	}
+
+	public String getRegistrationNumber() {
+		return registrationNumber;
+	}
+
+	public void setRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+	}
+
+	public Ingestion withRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+		return this;
+	}
+
+	public Integer getRevision() {
+		return revision;
+	}
+
+	public void setRevision(Integer revision) {
+		this.revision = revision;
+	}
+
+	public Ingestion withRevision(Integer revision) {
+		this.revision = revision;
+		return this;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
+	public Ingestion withError(String error) {
+		this.error = error;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public Ingestion withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	public OffsetDateTime getModified() {
+		return modified;
+	}
+
+	public void setModified(OffsetDateTime modified) {
+		this.modified = modified;
+	}
+
+	public Ingestion withModified(OffsetDateTime modified) {
+		this.modified = modified;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(created, error, id, modified, registrationNumber, revision, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final Ingestion other)) { return false; }
+		return Objects.equals(created, other.created) && Objects.equals(error, other.error) && Objects.equals(id, other.id) && Objects.equals(modified, other.modified)
+			&& Objects.equals(registrationNumber, other.registrationNumber) && Objects.equals(revision, other.revision) && Objects.equals(status, other.status);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("Ingestion [id=").append(id).append(", status=").append(status).append(", registrationNumber=").append(registrationNumber).append(", revision=").append(revision)
+			.append(", error=").append(error).append(", created=").append(created).append(", modified=").append(modified).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,76 @@
+package se.sundsvall.document.api.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.util.Objects;
+
+import static com.fasterxml.jackson.annotation.JsonInclude.Include.NON_NULL;
+
+/**
+ * A document limited to a sparse fieldset. Attributes that were not requested are left out of the JSON instead of being
+ * reported as null, or as false for the archive flag. Documents read without a fieldset are plain {@link Document}s,
+ * where all attributes are always present.
+ */
+@Schema(hidden = true)
+@JsonInclude(NON_NULL)
+public class SparseDocument extends Document {
+
+	@JsonIgnore
+	private boolean archiveIncluded;
+
+	public static SparseDocument create() {
+		return new SparseDocument();
+	}
+
+	@Override
+	@JsonIgnore
+	public boolean isArchive() {
+		return super.isArchive();
+	}
+
+	/**
+	 * The archive flag as written to the JSON, null if it was not requested.
+	 */
+	@JsonProperty("archive")
+	Boolean getArchiveIfIncluded() {
+		return archiveIncluded ? isArchive() : null;
+	}
+
+	public boolean isArchiveIncluded() {
+		return archiveIncluded;
+	}
+
+	public void setArchiveIncluded(boolean archiveIncluded) {
+		this.archiveIncluded = archiveIncluded;
+	}
+
+	public SparseDocument withArchiveIncluded(boolean archiveIncluded) {
+		this.archiveIncluded = archiveIncluded;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(super.hashCode(), archiveIncluded);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!super.equals(obj) || !(obj instanceof final SparseDocument other)) {
+			return false;
+		}
+		return archiveIncluded == other.archiveIncluded;
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder();
+		builder.append("SparseDocument [archiveIncluded=").append(archiveIncluded).append(", ").append(super.toString()).append("]");
+		return builder.toString();
+	}
+}
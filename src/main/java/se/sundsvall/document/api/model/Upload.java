@@ -0,0 +1,135 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Schema(description = "Upload model.", accessMode = READ_ONLY)
+public class Upload {
+
+	@Schema(description = "ID of the upload.", examples = "5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e")
+	private String id;
+
+	@Schema(description = "File name.", examples = "my-drawing.dwg")
+	private String fileName;
+
+	@Schema(description = "The mime type of the file.", examples = "image/vnd.dwg")
+	private String mimeType;
+
+	@Schema(description = "File size in bytes", examples = "104857600")
+	private long fileSizeInBytes;
+
+	@Schema(description = "The number of bytes received so far, i.e. the offset of the next chunk to upload.", examples = "8388608")
+	private long receivedBytes;
+
+	@Schema(description = "Timestamp when the upload expires, unless more content is received.", examples = "2023-08-31T01:35:00.000+02:00")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime expires;
+
+	public static Upload create() {
+		return new Upload();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public Upload withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public Upload withFileName(String fileName) {
+		this.fileName = fileName;
+		return this;
+	}
+
+	public String getMimeType() {
+		return mimeType;
+	}
+
+	public void setMimeType(String mimeType) {
+		this.mimeType = mimeType;
+	}
+
+	public Upload withMimeType(String mimeType) {
+		this.mimeType = mimeType;
+		return this;
+	}
+
+	public long getFileSizeInBytes() {
+		return fileSizeInBytes;
+	}
+
+	public void setFileSizeInBytes(long fileSizeInBytes) {
+		this.fileSizeInBytes = fileSizeInBytes;
+	}
+
+	public Upload withFileSizeInBytes(long fileSizeInBytes) {
+		this.fileSizeInBytes = fileSizeInBytes;
+		return this;
+	}
+
+	public long getReceivedBytes() {
+		return receivedBytes;
+	}
+
+	public void setReceivedBytes(long receivedBytes) {
+		this.receivedBytes = receivedBytes;
+	}
+
+	public Upload withReceivedBytes(long receivedBytes) {
+		this.receivedBytes = receivedBytes;
+		return this;
+	}
+
+	public OffsetDateTime getExpires() {
+		return expires;
+	}
+
+	public void setExpires(OffsetDateTime expires) {
+		this.expires = expires;
+	}
+
+	public Upload withExpires(OffsetDateTime expires) {
+		this.expires = expires;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(expires, fileName, fileSizeInBytes, id, mimeType, receivedBytes);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final Upload other)) { return false; }
+		return Objects.equals(expires, other.expires) && Objects.equals(fileName, other.fileName) && (fileSizeInBytes == other.fileSizeInBytes) && Objects.equals(id, other.id)
+			&& Objects.equals(mimeType, other.mimeType) && (receivedBytes == other.receivedBytes);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("Upload [id=").append(id).append(", fileName=").append(fileName).append(", mimeType=").append(mimeType).append(", fileSizeInBytes=").append(fileSizeInBytes)
+			.append(", receivedBytes=").append(receivedBytes).append(", expires=").append(expires).append("]");
+		return builder.toString();
+	}
+}
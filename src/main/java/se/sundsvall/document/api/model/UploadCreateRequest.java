@@ -0,0 +1,106 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import java.util.Objects;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+
+@Schema(description = "UploadCreateRequest model.")
+public class UploadCreateRequest {
+
+	@NotBlank
+	@Schema(description = "Actor that created this revision", examples = "username123", requiredMode = REQUIRED)
+	private String createdBy;
+
+	@NotBlank
+	@Schema(description = "File name.", examples = "my-drawing.dwg", requiredMode = REQUIRED)
+	private String fileName;
+
+	@Schema(description = "The mime type of the file.", examples = "image/vnd.dwg")
+	private String mimeType;
+
+	@NotNull
+	@PositiveOrZero
+	@Schema(description = "File size in bytes", examples = "104857600", requiredMode = REQUIRED)
+	private Long fileSizeInBytes;
+
+	public static UploadCreateRequest create() {
+		return new UploadCreateRequest();
+	}
+
+	public String getCreatedBy() {
+		return createdBy;
+	}
+
+	public void setCreatedBy(String createdBy) {
+		this.createdBy = createdBy;
+	}
+
+	public UploadCreateRequest withCreatedBy(String createdBy) {
+		this.createdBy = createdBy;
+		return this;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public UploadCreateRequest withFileName(String fileName) {
+		this.fileName = fileName;
+		return this;
+	}
+
+	public String getMimeType() {
+		return mimeType;
+	}
+
+	public void setMimeType(String mimeType) {
+		this.mimeType = mimeType;
+	}
+
+	public UploadCreateRequest withMimeType(String mimeType) {
+		this.mimeType = mimeType;
+		return this;
+	}
+
+	public Long getFileSizeInBytes() {
+		return fileSizeInBytes;
+	}
+
+	public void setFileSizeInBytes(Long fileSizeInBytes) {
+		this.fileSizeInBytes = fileSizeInBytes;
+	}
+
+	public UploadCreateRequest withFileSizeInBytes(Long fileSizeInBytes) {
+		this.fileSizeInBytes = fileSizeInBytes;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(createdBy, fileName, fileSizeInBytes, mimeType);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final UploadCreateRequest other)) { return false; }
+		return Objects.equals(createdBy, other.createdBy) && Objects.equals(fileName, other.fileName) && Objects.equals(fileSizeInBytes, other.fileSizeInBytes)
+			&& Objects.equals(mimeType, other.mimeType);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("UploadCreateRequest [createdBy=").append(createdBy).append(", fileName=").append(fileName).append(", mimeType=").append(mimeType)
+			.append(", fileSizeInBytes=").append(fileSizeInBytes).append("]");
+		return builder.toString();
+	}
+}
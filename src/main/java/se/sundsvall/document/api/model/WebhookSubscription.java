@@ -0,0 +1,152 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+import static io.swagger.v3.oas.annotations.media.Schema.AccessMode.READ_ONLY;
+
+@Schema(description = "WebhookSubscription model.", accessMode = READ_ONLY)
+public class WebhookSubscription {
+
+	@Schema(description = "ID of the subscription.", examples = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0a01")
+	private String id;
+
+	@Schema(description = "Url that notifications of document changes are posted to.", examples = "https://example.com/document-changes")
+	private String url;
+
+	@Schema(description = "Only changes to documents of this type are notified. All changes are notified if empty.", examples = "EMPLOYMENT_CERTIFICATE")
+	private String documentType;
+
+	@Schema(description = "Sequence number of the latest change that has been delivered to the subscriber.", examples = "1337")
+	private long lastSequenceNumber;
+
+	@Schema(description = "Number of consecutive failed deliveries.", examples = "0")
+	private int failedAttempts;
+
+	@Schema(description = "Timestamp of the next delivery attempt after a failed delivery.", examples = "2023-08-31T01:30:00.000+02:00")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime nextAttempt;
+
+	@Schema(description = "Timestamp when the subscription was created.", examples = "2023-08-31T01:30:00.000+02:00")
+	@DateTimeFormat(iso = ISO.DATE_TIME)
+	private OffsetDateTime created;
+
+	public static WebhookSubscription create() {
+		return new WebhookSubscription();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public WebhookSubscription withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public WebhookSubscription withUrl(String url) {
+		this.url = url;
+		return this;
+	}
+
+	public String getDocumentType() {
+		return documentType;
+	}
+
+	public void setDocumentType(String documentType) {
+		this.documentType = documentType;
+	}
+
+	public WebhookSubscription withDocumentType(String documentType) {
+		this.documentType = documentType;
+		return this;
+	}
+
+	public long getLastSequenceNumber() {
+		return lastSequenceNumber;
+	}
+
+	public void setLastSequenceNumber(long lastSequenceNumber) {
+		this.lastSequenceNumber = lastSequenceNumber;
+	}
+
+	public WebhookSubscription withLastSequenceNumber(long lastSequenceNumber) {
+		this.lastSequenceNumber = lastSequenceNumber;
+		return this;
+	}
+
+	public int getFailedAttempts() {
+		return failedAttempts;
+	}
+
+	public void setFailedAttempts(int failedAttempts) {
+		this.failedAttempts = failedAttempts;
+	}
+
+	public WebhookSubscription withFailedAttempts(int failedAttempts) {
+		this.failedAttempts = failedAttempts;
+		return this;
+	}
+
+	public OffsetDateTime getNextAttempt() {
+		return nextAttempt;
+	}
+
+	public void setNextAttempt(OffsetDateTime nextAttempt) {
+		this.nextAttempt = nextAttempt;
+	}
+
+	public WebhookSubscription withNextAttempt(OffsetDateTime nextAttempt) {
+		this.nextAttempt = nextAttempt;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public WebhookSubscription withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(created, documentType, failedAttempts, id, lastSequenceNumber, nextAttempt, url);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final WebhookSubscription other)) { return false; }
+		return Objects.equals(created, other.created) && Objects.equals(documentType, other.documentType) && failedAttempts == other.failedAttempts && Objects.equals(id, other.id)
+			&& lastSequenceNumber == other.lastSequenceNumber && Objects.equals(nextAttempt, other.nextAttempt) && Objects.equals(url, other.url);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("WebhookSubscription [id=").append(id).append(", url=").append(url).append(", documentType=").append(documentType).append(", lastSequenceNumber=").append(lastSequenceNumber)
+			.append(", failedAttempts=").append(failedAttempts).append(", nextAttempt=").append(nextAttempt).append(", created=").append(created).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,71 @@
+package se.sundsvall.document.api.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import java.util.Objects;
+import org.hibernate.validator.constraints.URL;
+
+import static io.swagger.v3.oas.annotations.media.Schema.RequiredMode.REQUIRED;
+
+@Schema(description = "WebhookSubscriptionCreateRequest model.")
+public class WebhookSubscriptionCreateRequest {
+
+	@NotBlank
+	@URL(protocol = "https")
+	@Size(max = 2048)
+	@Schema(description = "Url that notifications of document changes are posted to. Must be an https url of a public host.", examples = "https://example.com/document-changes", requiredMode = REQUIRED)
+	private String url;
+
+	@Schema(description = "Only notify of changes to documents of this type. All changes are notified if omitted.", examples = "EMPLOYMENT_CERTIFICATE")
+	private String documentType;
+
+	public static WebhookSubscriptionCreateRequest create() {
+		return new WebhookSubscriptionCreateRequest();
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public WebhookSubscriptionCreateRequest withUrl(String url) {
+		this.url = url;
+		return this;
+	}
+
+	public String getDocumentType() {
+		return documentType;
+	}
+
+	public void setDocumentType(String documentType) {
+		this.documentType = documentType;
+	}
+
+	public WebhookSubscriptionCreateRequest withDocumentType(String documentType) {
+		this.documentType = documentType;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(documentType, url);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final WebhookSubscriptionCreateRequest other)) { return false; }
+		return Objects.equals(documentType, other.documentType) && Objects.equals(url, other.url);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("WebhookSubscriptionCreateRequest [url=").append(url).append(", documentType=").append(documentType).append("]");
+		return builder.toString();
+	}
+}
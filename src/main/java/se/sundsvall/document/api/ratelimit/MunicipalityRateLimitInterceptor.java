@@ -0,0 +1,165 @@
+package se.sundsvall.document.api.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.document.configuration.RateLimitProperties;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+/**
+ * Limits the requests of each municipality, keyed on the municipality id of the request path:
+ * <ul>
+ * <li>the request rate, by a token bucket per municipality.</li>
+ * <li>the number of requests handled at the same time, which also limits the share of the database connections (and
+ * request threads) that a single municipality can occupy. The requests of all municipalities share a total, of which
+ * each municipality with requests in progress gets a fair share. A municipality alone can use up to its own limit,
+ * but is held to its share as soon as others have requests in progress, so no municipality is starved.</li>
+ * </ul>
+ * Requests over the limits are rejected at once with 429 Too Many Requests and a Retry-After header, instead of
+ * waiting for a request thread and a database connection. The number of requests in progress is checked first, so
+ * that a request rejected for it does not use up a token of the request rate.
+ *
+ * Requests to endpoints marked with {@link StreamingEndpoint} are only limited by the request rate. They do not hold a
+ * database connection while the content is transferred, so many concurrent readers of the same file are not rejected
+ * only because the clients are slow.
+ */
+@Component
+public class MunicipalityRateLimitInterceptor implements HandlerInterceptor {
+
+	static final String ERROR_RATE_LIMIT_EXCEEDED = "The request rate limit of municipality '%s' has been exceeded!";
+	static final String ERROR_CONCURRENCY_LIMIT_EXCEEDED = "The limit of concurrent requests of municipality '%s' has been exceeded!";
+
+	private static final String MUNICIPALITY_ID = "municipalityId";
+	// Limiters are only created for valid municipality ids, which keeps the number of limiters bounded
+	private static final Pattern MUNICIPALITY_ID_PATTERN = Pattern.compile("\\d{4}");
+	private static final String LIMITER_ATTRIBUTE = MunicipalityRateLimitInterceptor.class.getName() + ".limiter";
+	private static final long CONCURRENCY_RETRY_AFTER_SECONDS = 1;
+
+	private final RateLimitProperties rateLimitProperties;
+	private final MeterRegistry meterRegistry;
+	private final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+	// Guarded by this, as are the requests in progress of each limiter
+	private int requestsInProgress;
+	private int municipalitiesWithRequestsInProgress;
+
+	public MunicipalityRateLimitInterceptor(final RateLimitProperties rateLimitProperties, final MeterRegistry meterRegistry) {
+		this.rateLimitProperties = rateLimitProperties;
+		this.meterRegistry = meterRegistry;
+	}
+
+	@Override
+	public boolean preHandle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) {
+		final var municipalityId = municipalityId(request);
+		if (!rateLimitProperties.enabled() || municipalityId == null || !MUNICIPALITY_ID_PATTERN.matcher(municipalityId).matches()) {
+			return true;
+		}
+
+		final var limiter = limiters.computeIfAbsent(municipalityId, this::createLimiter);
+		final var streaming = isStreaming(handler);
+
+		if (!streaming && !tryAcquire(limiter)) {
+			reject(response, municipalityId, "concurrency", CONCURRENCY_RETRY_AFTER_SECONDS, ERROR_CONCURRENCY_LIMIT_EXCEEDED);
+		}
+
+		final var nanosUntilToken = limiter.requestRate().tryConsume();
+		if (nanosUntilToken > 0) {
+			if (!streaming) {
+				release(limiter);
+			}
+			reject(response, municipalityId, "rate", toRetryAfterSeconds(nanosUntilToken), ERROR_RATE_LIMIT_EXCEEDED);
+		}
+
+		if (!streaming) {
+			request.setAttribute(LIMITER_ATTRIBUTE, limiter);
+		}
+		return true;
+	}
+
+	@Override
+	public void afterCompletion(final HttpServletRequest request, final HttpServletResponse response, final Object handler, final Exception exception) {
+		if (request.getAttribute(LIMITER_ATTRIBUTE) instanceof final Limiter limiter) {
+			request.removeAttribute(LIMITER_ATTRIBUTE);
+			release(limiter);
+		}
+	}
+
+	private synchronized boolean tryAcquire(final Limiter limiter) {
+		if (requestsInProgress >= rateLimitProperties.maxConcurrentRequests()) {
+			return false;
+		}
+
+		// The municipality of the request counts as having requests in progress
+		final var municipalities = municipalitiesWithRequestsInProgress + (limiter.requestsInProgress() == 0 ? 1 : 0);
+		final var fairShare = Math.max(1, rateLimitProperties.maxConcurrentRequests() / municipalities);
+		if (limiter.requestsInProgress() >= Math.min(limiter.maxConcurrentRequests(), fairShare)) {
+			return false;
+		}
+
+		if (limiter.inProgress().getAndIncrement() == 0) {
+			municipalitiesWithRequestsInProgress++;
+		}
+		requestsInProgress++;
+		return true;
+	}
+
+	private synchronized void release(final Limiter limiter) {
+		if (limiter.inProgress().decrementAndGet() == 0) {
+			municipalitiesWithRequestsInProgress--;
+		}
+		requestsInProgress--;
+	}
+
+	private void reject(final HttpServletResponse response, final String municipalityId, final String reason, final long retryAfterSeconds, final String message) {
+		meterRegistry.counter("document.rate-limit.rejected-requests", MUNICIPALITY_ID, municipalityId, "reason", reason).increment();
+		response.setHeader(RETRY_AFTER, String.valueOf(retryAfterSeconds));
+		throw Problem.valueOf(TOO_MANY_REQUESTS, message.formatted(municipalityId));
+	}
+
+	private Limiter createLimiter(final String municipalityId) {
+		final var limits = rateLimitProperties.limitsFor(municipalityId);
+		final var limiter = new Limiter(
+			limits.maxConcurrentRequests(),
+			new AtomicInteger(),
+			new TokenBucket(limits.burstCapacity(), limits.requestsPerSecond()));
+
+		Gauge.builder("document.rate-limit.concurrent-requests", limiter, Limiter::requestsInProgress)
+			.tag(MUNICIPALITY_ID, municipalityId)
+			.register(meterRegistry);
+
+		return limiter;
+	}
+
+	private static boolean isStreaming(final Object handler) {
+		return handler instanceof final HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(StreamingEndpoint.class);
+	}
+
+	private static String municipalityId(final HttpServletRequest request) {
+		return request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof final Map<?, ?> uriTemplateVariables
+			&& uriTemplateVariables.get(MUNICIPALITY_ID) instanceof final String municipalityId ? municipalityId : null;
+	}
+
+	private static long toRetryAfterSeconds(final long nanos) {
+		// Rounded up, so that a client waiting as told will find a token
+		return Math.max(1, (nanos + SECONDS.toNanos(1) - 1) / SECONDS.toNanos(1));
+	}
+
+	private record Limiter(int maxConcurrentRequests, AtomicInteger inProgress, TokenBucket requestRate) {
+
+		int requestsInProgress() {
+			return inProgress.get();
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package se.sundsvall.document.api.ratelimit;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an endpoint that streams content to or from the client, e.g. a file download, an export or an upload chunk.
+ *
+ * Such a request holds a database connection only in its short transactions, not for as long as the client takes to
+ * send or receive the content. It is therefore only limited by the request rate of its municipality and does not take
+ * up one of the requests in progress, which would otherwise limit the number of slow clients rather than the load on
+ * the database. See {@link MunicipalityRateLimitInterceptor}.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StreamingEndpoint {
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.document.api.ratelimit;
+
+import java.util.function.LongSupplier;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * A token bucket, holding at most {@code capacity} tokens and refilled with {@code tokensPerSecond} tokens per second.
+ * The content of the bucket is kept as the time it has been filling up, in nanoseconds, which avoids rounding errors.
+ */
+final class TokenBucket {
+
+	private final long nanosPerToken;
+	private final long maxNanos;
+	private final LongSupplier nanoTime;
+	private long nanos;
+	private long refilled;
+
+	TokenBucket(final long capacity, final long tokensPerSecond) {
+		this(capacity, tokensPerSecond, System::nanoTime);
+	}
+
+	TokenBucket(final long capacity, final long tokensPerSecond, final LongSupplier nanoTime) {
+		this.nanosPerToken = SECONDS.toNanos(1) / tokensPerSecond;
+		this.maxNanos = capacity * nanosPerToken;
+		this.nanoTime = nanoTime;
+		this.nanos = maxNanos;
+		this.refilled = nanoTime.getAsLong();
+	}
+
+	/**
+	 * Takes a token from the bucket, if there is one.
+	 *
+	 * @return 0 if a token was taken, otherwise the number of nanoseconds until there is a token.
+	 */
+	synchronized long tryConsume() {
+		final var now = nanoTime.getAsLong();
+		nanos = Math.min(maxNanos, nanos + (now - refilled));
+		refilled = now;
+
+		if (nanos >= nanosPerToken) {
+			nanos -= nanosPerToken;
+			return 0;
+		}
+		return nanosPerToken - nanos;
+	}
+}
@@ -0,0 +1,61 @@
+package se.sundsvall.document.api.validation;
+
+import jakarta.servlet.http.Part;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.stereotype.Component;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.document.configuration.RequestPartProperties;
+import tools.jackson.core.ObjectReadContext;
+import tools.jackson.core.StreamReadConstraints;
+import tools.jackson.core.exc.StreamConstraintsException;
+import tools.jackson.core.json.JsonFactory;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Reads JSON parts of multipart requests. The parts are parsed directly from the request content, without first being
+ * read into a string, and parts larger than the configured maximum size are rejected before they are parsed. Strings
+ * longer than the configured maximum length are rejected while the part is parsed, before they are buffered in full.
+ */
+@Component
+public class JsonPartReader {
+
+	static final String ERROR_PART_TOO_LARGE = "Part '%s' exceeds the maximum size of %s bytes";
+	static final String ERROR_PART_NOT_READABLE = "Part '%s' could not be read";
+	static final String ERROR_PART_STRING_TOO_LONG = "Part '%s' contains a string longer than the maximum length of %s characters";
+
+	private final ObjectMapper objectMapper;
+	private final RequestPartProperties requestPartProperties;
+	private final JsonFactory jsonFactory;
+	private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+	JsonPartReader(final ObjectMapper objectMapper, final RequestPartProperties requestPartProperties) {
+		this.objectMapper = objectMapper;
+		this.requestPartProperties = requestPartProperties;
+		this.jsonFactory = JsonFactory.builder()
+			.streamReadConstraints(StreamReadConstraints.builder()
+				.maxStringLength(requestPartProperties.maxStringLength())
+				.build())
+			.build();
+	}
+
+	public <T> T read(final Part part, final Class<T> type) {
+		final var maxSize = requestPartProperties.maxSize().toBytes();
+		if (part.getSize() > maxSize) {
+			throw Problem.valueOf(BAD_REQUEST, ERROR_PART_TOO_LARGE.formatted(part.getName(), maxSize));
+		}
+
+		// The parser is created by the constrained factory, the mapper of the application only binds the parsed tokens
+		try (var inputStream = part.getInputStream(); var parser = jsonFactory.createParser(ObjectReadContext.empty(), inputStream)) {
+			return readers.computeIfAbsent(type, objectMapper::readerFor).readValue(parser);
+		} catch (final StreamConstraintsException e) {
+			throw Problem.valueOf(BAD_REQUEST, ERROR_PART_STRING_TOO_LONG.formatted(part.getName(), requestPartProperties.maxStringLength()));
+		} catch (final IOException e) {
+			throw Problem.valueOf(BAD_REQUEST, ERROR_PART_NOT_READABLE.formatted(part.getName()));
+		}
+	}
+}
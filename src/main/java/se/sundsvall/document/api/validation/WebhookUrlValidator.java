@@ -0,0 +1,87 @@
+package se.sundsvall.document.api.validation;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.UnknownHostException;
+import java.util.Arrays;
+import java.util.List;
+import org.springframework.stereotype.Component;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.dept44.problem.violations.Violation;
+import se.sundsvall.document.configuration.WebhookProperties;
+
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.equalsIgnoreCase;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+/**
+ * Verifies that the url of a webhook subscription does not point into the network of the service, as the service posts
+ * to the url on behalf of whoever created the subscription. If allowed hosts are configured, the host of the url must
+ * be one of them. Otherwise all addresses of the host must be public, i.e. not loopback, link-local or private
+ * addresses. The scheme and syntax of the url are verified by the bean validation of the request.
+ */
+@Component
+public class WebhookUrlValidator {
+
+	private static final String FIELD = "url";
+
+	private final WebhookProperties webhookProperties;
+
+	WebhookUrlValidator(final WebhookProperties webhookProperties) {
+		this.webhookProperties = webhookProperties;
+	}
+
+	public void validate(final String url) {
+		final var host = toHost(url);
+		if (isNull(host)) {
+			return;
+		}
+
+		final var allowedHosts = webhookProperties.allowedHosts();
+		if (!allowedHosts.isEmpty()) {
+			if (allowedHosts.stream().noneMatch(allowedHost -> equalsIgnoreCase(allowedHost, host))) {
+				throw toProblem("host '%s' must match one of %s".formatted(host, allowedHosts));
+			}
+			return;
+		}
+
+		if (!Arrays.stream(resolve(host)).allMatch(WebhookUrlValidator::isPublic)) {
+			throw toProblem("host '%s' must not resolve to a loopback, link-local or private address".formatted(host));
+		}
+	}
+
+	static boolean isPublic(final InetAddress address) {
+		return !(address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress() || address.isSiteLocalAddress() || address.isMulticastAddress()
+			|| isUniqueLocal(address));
+	}
+
+	/**
+	 * IPv6 unique local addresses (fc00::/7) are the IPv6 counterpart of private addresses, but are not reported as site
+	 * local by {@link InetAddress#isSiteLocalAddress()}.
+	 */
+	private static boolean isUniqueLocal(final InetAddress address) {
+		final var bytes = address.getAddress();
+		return bytes.length == 16 && (bytes[0] & 0xfe) == 0xfc;
+	}
+
+	private static InetAddress[] resolve(final String host) {
+		try {
+			return InetAddress.getAllByName(host);
+		} catch (final UnknownHostException e) {
+			throw toProblem("host '%s' could not be resolved".formatted(host));
+		}
+	}
+
+	private static String toHost(final String url) {
+		try {
+			return isNull(url) ? null : new URI(url).getHost();
+		} catch (final URISyntaxException e) {
+			return null;
+		}
+	}
+
+	private static ConstraintViolationProblem toProblem(final String message) {
+		return new ConstraintViolationProblem(BAD_REQUEST, List.of(new Violation(FIELD, message)));
+	}
+}
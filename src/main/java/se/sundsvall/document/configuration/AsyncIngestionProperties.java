@@ -0,0 +1,28 @@
+package se.sundsvall.document.configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for asynchronous ingestion of documents and files.
+ *
+ * @param poolSize        the number of ingestions that are persisted in parallel.
+ * @param queueCapacity   the maximum number of ingestions waiting for a free worker. Requests are rejected when the
+ *                        queue is full.
+ * @param spoolDirectory  the local directory where the files of an ingestion are kept until they have been persisted.
+ * @param timeToLive      the time the status of an ingestion is kept, before it is removed.
+ * @param sweepInterval   the interval between sweeps for ingestions spooled by this instance that have not been handed
+ *                        to a worker, e.g. due to a restart.
+ * @param cleanupInterval the interval between removals of expired ingestions.
+ */
+@ConfigurationProperties("document.async-ingestion")
+public record AsyncIngestionProperties(
+	@DefaultValue("2") int poolSize,
+	@DefaultValue("20") int queueCapacity,
+	Path spoolDirectory,
+	@DefaultValue("P1D") Duration timeToLive,
+	@DefaultValue("PT1M") Duration sweepInterval,
+	@DefaultValue("PT1H") Duration cleanupInterval) {
+}
@@ -0,0 +1,19 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for storing file content in chunks, one row per chunk, instead of in a single column.
+ *
+ * @param enabled   whether the content of new files is stored in chunks. Content already stored is read in the layout
+ *                  it was stored in.
+ * @param chunkSize the size of each stored chunk. Each chunk is written and read in a single statement, so this must be
+ *                  below max_allowed_packet of the database.
+ */
+@ConfigurationProperties("document.chunked-storage")
+public record ChunkedStorageProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("1MB") DataSize chunkSize) {
+}
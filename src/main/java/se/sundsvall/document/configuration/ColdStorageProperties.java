@@ -0,0 +1,21 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for moving file content of old revisions to cold storage.
+ *
+ * @param enabled   if content should be moved to cold storage by this instance. Content in cold storage is always
+ *                  read in place, whether enabled or not.
+ * @param minAge    the minimum age of a revision before the content of its files is moved. The content of the latest
+ *                  revision of a document is never moved.
+ * @param batchSize the number of binaries moved per database round trip.
+ */
+@ConfigurationProperties("document.cold-storage")
+public record ColdStorageProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("P180D") Duration minAge,
+	@DefaultValue("100") int batchSize) {
+}
@@ -0,0 +1,17 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for pre-signed download URLs.
+ *
+ * @param secret     the secret used to sign download URLs. All instances of the service must use the same secret.
+ * @param timeToLive how long a download URL is valid after it has been issued.
+ */
+@ConfigurationProperties("document.download-url")
+public record DownloadUrlProperties(
+	String secret,
+	@DefaultValue("PT5M") Duration timeToLive) {
+}
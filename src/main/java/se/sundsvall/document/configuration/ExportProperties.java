@@ -0,0 +1,14 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for exporting search results.
+ *
+ * @param batchSize the number of documents read from the database in each round trip. Each batch is read in a
+ *                  transaction of its own, which keeps the memory use independent of the size of the result.
+ */
+@ConfigurationProperties("document.export")
+public record ExportProperties(@DefaultValue("500") int batchSize) {
+}
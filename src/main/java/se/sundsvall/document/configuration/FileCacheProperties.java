@@ -0,0 +1,23 @@
+package se.sundsvall.document.configuration;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the local disk cache of file content.
+ *
+ * @param enabled     whether file content read by clients is cached on local disk.
+ * @param directory   the local directory where cached content is kept. The directory is emptied at startup.
+ * @param maxSize     the maximum size of all cached content. The least recently read content is removed when the cache
+ *                    is full.
+ * @param maxFileSize the maximum size of content that is cached. Larger content is always read from the database.
+ */
+@ConfigurationProperties("document.file-cache")
+public record FileCacheProperties(
+	@DefaultValue("false") boolean enabled,
+	Path directory,
+	@DefaultValue("1GB") DataSize maxSize,
+	@DefaultValue("20MB") DataSize maxFileSize) {
+}
@@ -0,0 +1,21 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for preparing uploaded files before they are stored.
+ *
+ * @param poolSize        the number of files, within and across requests, that are prepared in parallel.
+ * @param queueCapacity   the maximum number of files waiting for a free worker. When the queue is full, files are
+ *                        prepared by the thread handling the request instead.
+ * @param maxInMemorySize files up to this size are read into memory while they are prepared, so that they don't have
+ *                        to be read again when they are stored. Larger files are read from the upload when stored.
+ */
+@ConfigurationProperties("document.file-ingestion")
+public record FileIngestionProperties(
+	@DefaultValue("4") int poolSize,
+	@DefaultValue("100") int queueCapacity,
+	@DefaultValue("5MB") DataSize maxInMemorySize) {
+}
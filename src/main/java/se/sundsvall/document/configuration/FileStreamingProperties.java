@@ -0,0 +1,21 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for streaming file content stored in chunks (see {@link ChunkedStorageProperties}) to clients. A database
+ * connection is only held while a single chunk is read, never while the chunk is written to the client.
+ *
+ * @param readAhead the number of chunks fetched ahead of the chunk being written to the client. A download then uses up
+ *                  to readAhead + 1 connections at a time, but all downloads together never use more than poolSize
+ *                  connections for fetches ahead.
+ * @param poolSize  the number of chunks, across requests, that are fetched in parallel ahead of the requests. Each
+ *                  fetch holds a database connection on top of the one the request itself may hold, so the connection
+ *                  pool must be sized for these as well.
+ */
+@ConfigurationProperties("document.file-streaming")
+public record FileStreamingProperties(
+	@DefaultValue("2") int readAhead,
+	@DefaultValue("4") int poolSize) {
+}
@@ -0,0 +1,19 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static se.sundsvall.document.integration.db.model.generator.ConfigurableUuidGenerator.TIME_ORDERED_SETTING;
+
+/**
+ * Passes {@link IdGenerationProperties} on to Hibernate, where the ids are generated.
+ */
+@Configuration
+public class IdGenerationConfiguration {
+
+	@Bean
+	HibernatePropertiesCustomizer idGenerationCustomizer(final IdGenerationProperties idGenerationProperties) {
+		return hibernateProperties -> hibernateProperties.put(TIME_ORDERED_SETTING, idGenerationProperties.timeOrdered());
+	}
+}
@@ -0,0 +1,15 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for generating the ids (primary keys) of new rows.
+ *
+ * @param timeOrdered if ids are time-ordered (version 7) UUIDs instead of random (version 4) UUIDs. Time-ordered ids
+ *                    keep inserts at the end of the primary key indexes, which keeps insert latency from growing with
+ *                    the size of the tables.
+ */
+@ConfigurationProperties("document.id-generation")
+public record IdGenerationProperties(@DefaultValue("false") boolean timeOrdered) {
+}
@@ -0,0 +1,22 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for idempotency keys of create requests.
+ *
+ * @param timeToLive      the time during which a retried request with the same idempotency key returns the document
+ *                        created by the first request, instead of creating a new document.
+ * @param leaseTime       the time a request has to create its document after claiming an idempotency key. A claim
+ *                        that is not completed in time, e.g. of a request whose instance crashed, is taken over by the
+ *                        next request with the key, and the request that held it fails.
+ * @param cleanupInterval the interval between removals of expired idempotency keys.
+ */
+@ConfigurationProperties("document.idempotency")
+public record IdempotencyProperties(
+	@DefaultValue("P1D") Duration timeToLive,
+	@DefaultValue("PT5M") Duration leaseTime,
+	@DefaultValue("PT1H") Duration cleanupInterval) {
+}
@@ -0,0 +1,24 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import se.sundsvall.document.api.ratelimit.MunicipalityRateLimitInterceptor;
+
+/**
+ * Applies the limits of {@link RateLimitProperties} to all requests on behalf of a municipality.
+ */
+@Configuration
+public class RateLimitConfiguration implements WebMvcConfigurer {
+
+	private final MunicipalityRateLimitInterceptor municipalityRateLimitInterceptor;
+
+	public RateLimitConfiguration(final MunicipalityRateLimitInterceptor municipalityRateLimitInterceptor) {
+		this.municipalityRateLimitInterceptor = municipalityRateLimitInterceptor;
+	}
+
+	@Override
+	public void addInterceptors(final InterceptorRegistry registry) {
+		registry.addInterceptor(municipalityRateLimitInterceptor).addPathPatterns("/{municipalityId}/**");
+	}
+}
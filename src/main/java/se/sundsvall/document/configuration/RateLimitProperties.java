@@ -0,0 +1,52 @@
+package se.sundsvall.document.configuration;
+
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for limiting the requests of each municipality, so that the requests of one municipality can't starve the
+ * requests of the others.
+ *
+ * @param enabled               whether the requests are limited. Disabled by default, the limits should be set from
+ *                              the observed load of the municipalities before they are enabled.
+ * @param maxConcurrentRequests the maximum number of requests, of all municipalities, handled at the same time. Each
+ *                              municipality with requests in progress gets an equal share of these, up to its own
+ *                              limit. Requests to streaming endpoints are not counted (see StreamingEndpoint).
+ * @param defaults              the limits of municipalities without limits of their own.
+ * @param municipalities        the limits of specific municipalities, keyed by municipality id.
+ */
+@ConfigurationProperties("document.rate-limit")
+public record RateLimitProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("16") int maxConcurrentRequests,
+	@DefaultValue Limits defaults,
+	@DefaultValue Map<String, Limits> municipalities) {
+
+	/**
+	 * Returns the limits of a municipality.
+	 *
+	 * @param  municipalityId the id of the municipality.
+	 * @return                the limits of the municipality, or the default limits if it has none of its own.
+	 */
+	public Limits limitsFor(final String municipalityId) {
+		return Optional.ofNullable(municipalities.get(municipalityId)).orElse(defaults);
+	}
+
+	/**
+	 * Limits of a municipality.
+	 *
+	 * @param maxConcurrentRequests the maximum number of requests handled at the same time, when no other municipality
+	 *                              has requests in progress. Otherwise the municipality is held to its fair share of
+	 *                              the requests of all municipalities. Requests to streaming endpoints are not
+	 *                              counted.
+	 * @param requestsPerSecond     the number of requests per second that can be sustained.
+	 * @param burstCapacity         the number of requests that can be made at once after a period of fewer requests.
+	 */
+	public record Limits(
+		@DefaultValue("10") int maxConcurrentRequests,
+		@DefaultValue("50") int requestsPerSecond,
+		@DefaultValue("100") int burstCapacity) {
+	}
+}
@@ -0,0 +1,18 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for the JSON parts of multipart requests.
+ *
+ * @param maxSize         the maximum size of a JSON part. Larger parts are rejected before they are parsed.
+ * @param maxStringLength the maximum length, in characters, of a single string in a JSON part. Parsing stops as soon as
+ *                        a longer string is read.
+ */
+@ConfigurationProperties("document.request-part")
+public record RequestPartProperties(
+	@DefaultValue("1MB") DataSize maxSize,
+	@DefaultValue("65536") int maxStringLength) {
+}
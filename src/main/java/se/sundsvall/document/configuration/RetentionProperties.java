@@ -0,0 +1,63 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for removing old revisions of documents. Revisions are kept unless a retention policy says otherwise, and
+ * the latest revision of a document and revisions flagged for archiving are always kept.
+ *
+ * @param enabled       if old revisions should be removed by this instance.
+ * @param interval      the interval between removals.
+ * @param batchSize     the number of rows removed per transaction.
+ * @param defaults       the policy of document types without a policy of their own.
+ * @param documentTypes  the policies of specific document types in all municipalities, keyed by document type (e.g.
+ *                       EMPLOYMENT_CERTIFICATE).
+ * @param municipalities the policies of the document types of specific municipalities, keyed by municipality id and
+ *                       then by document type. Takes precedence over the policies of documentTypes.
+ */
+@ConfigurationProperties("document.retention")
+public record RetentionProperties(
+	@DefaultValue("false") boolean enabled,
+	@DefaultValue("PT1H") Duration interval,
+	@DefaultValue("100") int batchSize,
+	@DefaultValue Policy defaults,
+	@DefaultValue Map<String, Policy> documentTypes,
+	@DefaultValue Map<String, Map<String, Policy>> municipalities) {
+
+	/**
+	 * Returns the retention policy of a document type of a municipality. Document types are defined per municipality, so
+	 * the same type may have different policies in different municipalities.
+	 *
+	 * @param  municipalityId the id of the municipality.
+	 * @param  documentType   the document type.
+	 * @return                the policy of the document type in the municipality, otherwise the policy of the document
+	 *                        type in all municipalities, or the default policy if there is none.
+	 */
+	public Policy policyFor(final String municipalityId, final String documentType) {
+		return findPolicy(municipalities.getOrDefault(municipalityId, Map.of()), documentType)
+			.or(() -> findPolicy(documentTypes, documentType))
+			.orElse(defaults);
+	}
+
+	private static Optional<Policy> findPolicy(final Map<String, Policy> policies, final String documentType) {
+		return policies.entrySet().stream()
+			.filter(entry -> entry.getKey().equalsIgnoreCase(documentType))
+			.map(Map.Entry::getValue)
+			.findFirst();
+	}
+
+	/**
+	 * Retention policy of a document type. A revision is removed only when neither of the rules keeps it.
+	 *
+	 * @param keepRevisions the number of latest revisions of each document to keep, or null to keep all revisions.
+	 * @param keepNewerThan the age before which revisions are kept, or null if the age of a revision does not matter.
+	 */
+	public record Policy(
+		Integer keepRevisions,
+		Duration keepNewerThan) {
+	}
+}
@@ -0,0 +1,15 @@
+package se.sundsvall.document.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for creating new revisions of documents.
+ *
+ * @param maxAttempts the number of times a change is applied when other requests create revisions of the same document
+ *                    at the same time, before the request is rejected with 409 Conflict.
+ */
+@ConfigurationProperties("document.revision")
+public record RevisionProperties(
+	@DefaultValue("3") int maxAttempts) {
+}
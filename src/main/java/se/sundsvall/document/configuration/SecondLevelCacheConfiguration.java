@@ -0,0 +1,40 @@
+package se.sundsvall.document.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import java.util.OptionalLong;
+import javax.cache.CacheManager;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.hibernate.cache.jcache.ConfigSettings.CACHE_MANAGER;
+
+/**
+ * Provides the cache manager of the Hibernate second level cache, a local (per instance) JCache cache manager backed
+ * by Caffeine with the regions configured in {@link SecondLevelCacheProperties}.
+ */
+@Configuration
+public class SecondLevelCacheConfiguration {
+
+	@Bean(destroyMethod = "close")
+	CacheManager secondLevelCacheManager(final SecondLevelCacheProperties secondLevelCacheProperties) {
+		// A provider of its own, so that the cache manager is not shared with other application contexts in the same JVM
+		final var cacheManager = new CaffeineCachingProvider().getCacheManager();
+
+		secondLevelCacheProperties.regions().forEach((name, region) -> {
+			final var configuration = new CaffeineConfiguration<Object, Object>();
+			configuration.setMaximumSize(OptionalLong.of(region.maximumSize()));
+			configuration.setExpireAfterWrite(OptionalLong.of(region.expireAfterWrite().toNanos()));
+			configuration.setStatisticsEnabled(true);
+			cacheManager.createCache(name, configuration);
+		});
+
+		return cacheManager;
+	}
+
+	@Bean
+	HibernatePropertiesCustomizer secondLevelCacheManagerCustomizer(final CacheManager secondLevelCacheManager) {
+		return hibernateProperties -> hibernateProperties.put(CACHE_MANAGER, secondLevelCacheManager);
+	}
+}
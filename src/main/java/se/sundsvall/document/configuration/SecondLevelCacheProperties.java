@@ -0,0 +1,31 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for the regions of the Hibernate second level cache. Regions that are not configured here are created by
+ * Hibernate without limits, which is what the region keeping track of table modifications
+ * (default-update-timestamps-region) requires.
+ *
+ * The cache is local to each instance and is only invalidated by modifications made by the instance itself, so the
+ * expiry of a region is how long the region may serve data that another instance has modified.
+ *
+ * @param regions the settings per region, keyed by region name.
+ */
+@ConfigurationProperties("document.second-level-cache")
+public record SecondLevelCacheProperties(@DefaultValue Map<String, Region> regions) {
+
+	/**
+	 * Settings for a single cache region.
+	 *
+	 * @param maximumSize      the maximum number of entries in the region.
+	 * @param expireAfterWrite the time after which an entry is removed from the region.
+	 */
+	public record Region(
+		@DefaultValue("1000") long maximumSize,
+		@DefaultValue("PT30S") Duration expireAfterWrite) {
+	}
+}
@@ -0,0 +1,36 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for extracting and indexing the text content of files.
+ *
+ * @param enabled            if extraction should be performed by this instance. Files are still queued for extraction
+ *                           when disabled.
+ * @param poolSize           the number of files that are extracted in parallel.
+ * @param queueCapacity      the maximum number of files waiting for a free extraction worker. Files that do not fit in
+ *                           the queue are picked up by a later sweep.
+ * @param maxFileSize        files larger than this are not extracted.
+ * @param maxTextLength      the maximum number of characters extracted from a single file.
+ * @param maxTermsPerFile    the maximum number of distinct terms indexed for a single file.
+ * @param supportedMimeTypes the mime types (or mime type prefixes) of files that are extracted.
+ * @param claimTimeout       the time a file stays claimed for extraction should the instance extracting it stop. The
+ *                           file is then queued for extraction again.
+ */
+@ConfigurationProperties("document.text-index")
+public record TextIndexProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("2") int poolSize,
+	@DefaultValue("100") int queueCapacity,
+	@DefaultValue("20MB") DataSize maxFileSize,
+	@DefaultValue("1000000") int maxTextLength,
+	@DefaultValue("10000") int maxTermsPerFile,
+	@DefaultValue({
+		"application/pdf", "application/rtf", "application/msword", "application/vnd.ms-", "application/vnd.openxmlformats-officedocument.", "application/vnd.oasis.opendocument.", "text/"
+	}) List<String> supportedMimeTypes,
+	@DefaultValue("PT10M") Duration claimTimeout) {
+}
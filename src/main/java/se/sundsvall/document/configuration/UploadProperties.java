@@ -0,0 +1,22 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Settings for resumable uploads of large files.
+ *
+ * @param maxFileSize     the maximum size of a file uploaded in chunks, bounded by the max_allowed_packet of the database.
+ * @param maxChunkSize    the maximum size of a single chunk. A chunk is held in memory while it is stored.
+ * @param timeToLive      the time an upload is kept after the last chunk was received, before it is removed.
+ * @param cleanupInterval the interval between removals of expired uploads.
+ */
+@ConfigurationProperties("document.upload")
+public record UploadProperties(
+	@DefaultValue("1GB") DataSize maxFileSize,
+	@DefaultValue("8MB") DataSize maxChunkSize,
+	@DefaultValue("P1D") Duration timeToLive,
+	@DefaultValue("PT1H") Duration cleanupInterval) {
+}
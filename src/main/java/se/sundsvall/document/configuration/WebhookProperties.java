@@ -0,0 +1,36 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import java.util.List;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Settings for delivering notifications of document changes to webhook subscriptions.
+ *
+ * @param enabled        if notifications should be delivered by this instance.
+ * @param interval       the interval between sweeps for subscriptions with changes to deliver.
+ * @param poolSize       the number of subscriptions that are delivered to in parallel. Each subscription receives one
+ *                       batch at a time, in order.
+ * @param batchSize      the maximum number of changes in a single notification.
+ * @param lockTimeout    the time a subscription stays locked for delivery should the instance delivering to it stop.
+ * @param retryDelay     the delay before the first retry of a failed delivery. The delay is doubled for each failure.
+ * @param maxRetryDelay  the maximum delay between retries.
+ * @param connectTimeout the connect timeout, in seconds, of a delivery.
+ * @param readTimeout    the read timeout, in seconds, of a delivery.
+ * @param allowedHosts   the hosts that subscriptions may deliver to. If empty, any host is allowed whose addresses are
+ *                       public, i.e. not loopback, link-local or private.
+ */
+@ConfigurationProperties("document.webhook")
+public record WebhookProperties(
+	@DefaultValue("true") boolean enabled,
+	@DefaultValue("PT10S") Duration interval,
+	@DefaultValue("4") int poolSize,
+	@DefaultValue("100") int batchSize,
+	@DefaultValue("PT5M") Duration lockTimeout,
+	@DefaultValue("PT10S") Duration retryDelay,
+	@DefaultValue("PT1H") Duration maxRetryDelay,
+	@DefaultValue("5") int connectTimeout,
+	@DefaultValue("10") int readTimeout,
+	@DefaultValue List<String> allowedHosts) {
+}
@@ -2,17 +2,27 @@ package se.sundsvall.document.integration.db;
 
 import jakarta.persistence.EntityManager;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.sql.Blob;
 import java.util.Optional;
 import org.hibernate.Session;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
 
 import static org.zalando.fauxpas.FauxPas.throwingFunction;
 
 @Component
 public class DatabaseHelper {
 
+	// Content moved to cold storage is read in place, in the same statement, so a move in between can't be observed
+	private static final String SELECT_BINARY_FILE = """
+		SELECT COALESCE(b.binary_file, c.binary_file) FROM document_data_binary b
+		LEFT JOIN document_data_binary_cold c ON c.id = b.id
+		WHERE b.id = ?
+		""";
+
 	private final EntityManager entityManager;
 
 	public DatabaseHelper(EntityManager entityManager) {
@@ -25,6 +35,37 @@ public class DatabaseHelper {
 			.orElse(null);
 	}
 
+	/**
+	 * Creates a blob from content that has already been read into memory.
+	 */
+	public Blob convertContentToBlob(byte[] content) {
+		return Optional.ofNullable(content)
+			.map(bytes -> getSession().getLobHelper().createBlob(bytes))
+			.orElse(null);
+	}
+
+	/**
+	 * Copies the content stored in the binary_file column of a binary, or in cold storage, to an output stream, reading the
+	 * content with a single statement. Must be called within a transaction, which holds a database connection until the content has
+	 * been copied, so the output stream should not be written to a client.
+	 *
+	 * @param  binaryId     the id of the binary.
+	 * @param  outputStream the stream to copy the content to.
+	 * @return              the number of bytes copied, 0 if the binary has no content.
+	 */
+	public long copyBinaryFile(String binaryId, OutputStream outputStream) {
+		return getSession().doReturningWork(connection -> {
+			try (var statement = connection.prepareStatement(SELECT_BINARY_FILE)) {
+				statement.setBytes(1, UuidBinaryConverter.toBinary(binaryId));
+				try (var resultSet = statement.executeQuery(); var inputStream = resultSet.next() ? resultSet.getBinaryStream(1) : null) {
+					return inputStream == null ? 0L : inputStream.transferTo(outputStream);
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			}
+		});
+	}
+
 	private Session getSession() {
 		return entityManager.unwrap(Session.class);
 	}
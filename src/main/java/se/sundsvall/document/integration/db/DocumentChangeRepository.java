@@ -0,0 +1,51 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.DocumentChangeEntity;
+
+@CircuitBreaker(name = "documentChangeRepository")
+public interface DocumentChangeRepository extends JpaRepository<DocumentChangeEntity, String> {
+
+	/**
+	 * Find the changes of a municipality that were committed after a given change, in commit order.
+	 *
+	 * @param  municipalityId the municipalityId.
+	 * @param  sequenceNumber the sequence number of the last change already read (0 to read from the beginning).
+	 * @param  pageable       limits the number of changes returned.
+	 * @return                the changes after the provided sequence number, ordered by sequence number.
+	 */
+	List<DocumentChangeEntity> findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(String municipalityId, long sequenceNumber, Pageable pageable);
+
+	/**
+	 * Find the changes of a municipality within a range of sequence numbers, in commit order.
+	 *
+	 * @param  municipalityId the municipalityId.
+	 * @param  after          changes with a sequence number greater than this are returned.
+	 * @param  upTo           changes with a sequence number up to (and including) this are returned.
+	 * @param  documentType   only changes of documents of this type are returned (null for all types).
+	 * @param  pageable       limits the number of changes returned.
+	 * @return                the changes within the range, ordered by sequence number.
+	 */
+	@Query("""
+		SELECT c FROM DocumentChangeEntity c
+		WHERE c.municipalityId = :municipalityId AND c.sequenceNumber > :after AND c.sequenceNumber <= :upTo
+		AND (:documentType IS NULL OR c.documentType = :documentType)
+		ORDER BY c.sequenceNumber
+		""")
+	List<DocumentChangeEntity> findChanges(@Param("municipalityId") String municipalityId, @Param("after") long after, @Param("upTo") long upTo, @Param("documentType") String documentType, Pageable pageable);
+
+	/**
+	 * Find the sequence number of the latest committed change of a municipality.
+	 *
+	 * @param  municipalityId the municipalityId.
+	 * @return                the latest sequence number, or empty if there are no changes.
+	 */
+	@Query("SELECT MAX(c.sequenceNumber) FROM DocumentChangeEntity c WHERE c.municipalityId = :municipalityId")
+	Optional<Long> findLatestSequenceNumber(@Param("municipalityId") String municipalityId);
+}
@@ -0,0 +1,40 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.DocumentChangeSequenceEntity;
+
+@CircuitBreaker(name = "documentChangeSequenceRepository")
+public interface DocumentChangeSequenceRepository extends JpaRepository<DocumentChangeSequenceEntity, String> {
+
+	/**
+	 * Increment the change sequence of a municipality, creating it with sequence number 1 if the municipality has no
+	 * sequence yet. Concurrent first changes of a municipality wait for each other on the unique constraint of the
+	 * municipality instead of failing on it.
+	 *
+	 * Lock-note: The row is locked in the transaction. Other threads will wait until the lock is released.
+	 *
+	 * @param  id             the id of the sequence, used only if it is created.
+	 * @param  municipalityId the municipalityId.
+	 * @return                the number of affected rows.
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO document_change_sequence (id, municipality_id, sequence_number) VALUES (UNHEX(REPLACE(:id, '-', '')), :municipalityId, 1)
+		ON DUPLICATE KEY UPDATE sequence_number = sequence_number + 1
+		""", nativeQuery = true)
+	int increment(@Param("id") String id, @Param("municipalityId") String municipalityId);
+
+	/**
+	 * Find the last sequence number used in the change feed of a municipality.
+	 *
+	 * @param  municipalityId the municipalityId
+	 * @return                An Optional sequence number for the provided municipalityId.
+	 */
+	@Query("SELECT s.sequenceNumber FROM DocumentChangeSequenceEntity s WHERE s.municipalityId = :municipalityId")
+	Optional<Long> findSequenceNumberByMunicipalityId(@Param("municipalityId") String municipalityId);
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryChunkEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryChunkId;
+
+@CircuitBreaker(name = "documentDataBinaryChunkRepository")
+public interface DocumentDataBinaryChunkRepository extends JpaRepository<DocumentDataBinaryChunkEntity, DocumentDataBinaryChunkId> {
+
+	/**
+	 * Insert a chunk of the content of a binary. The chunk is written directly, without being kept in the persistence
+	 * context, so that a large file never has to be held in memory.
+	 *
+	 * @param  binaryId   the id of the binary.
+	 * @param  chunkIndex the index (0-based) of the chunk.
+	 * @param  content    the content of the chunk.
+	 * @return            the number of inserted chunks.
+	 */
+	@Modifying
+	@Query(value = "INSERT INTO document_data_binary_chunk (binary_id, chunk_index, content) VALUES (UNHEX(REPLACE(:binaryId, '-', '')), :chunkIndex, :content)", nativeQuery = true)
+	int insertChunk(@Param("binaryId") String binaryId, @Param("chunkIndex") int chunkIndex, @Param("content") byte[] content);
+
+	/**
+	 * Read a chunk of the content of a binary, without reading the other chunks.
+	 *
+	 * @param  binaryId   the id of the binary.
+	 * @param  chunkIndex the index (0-based) of the chunk.
+	 * @return            the content of the chunk, or null if the chunk does not exist.
+	 */
+	@Query(value = "SELECT content FROM document_data_binary_chunk WHERE binary_id = UNHEX(REPLACE(:binaryId, '-', '')) AND chunk_index = :chunkIndex", nativeQuery = true)
+	byte[] findChunk(@Param("binaryId") String binaryId, @Param("chunkIndex") int chunkIndex);
+
+	/**
+	 * Delete the chunks of binaries.
+	 *
+	 * @param  binaryIds the ids of the binaries.
+	 * @return           the number of deleted chunks.
+	 */
+	@Modifying
+	@Query("DELETE FROM DocumentDataBinaryChunkEntity c WHERE c.binaryId IN :binaryIds")
+	int deleteByBinaryIds(@Param("binaryIds") List<String> binaryIds);
+}
@@ -0,0 +1,62 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryColdEntity;
+
+@CircuitBreaker(name = "documentDataBinaryColdRepository")
+public interface DocumentDataBinaryColdRepository extends JpaRepository<DocumentDataBinaryColdEntity, String> {
+
+	/**
+	 * Find the ids of binaries in hot storage that are only used by revisions that are not the latest revision of their
+	 * document and that were created before the provided point in time. A binary can be shared by several revisions, so
+	 * a binary that is used by any latest (or recent) revision is never returned.
+	 *
+	 * @param  createdBefore only binaries of revisions created before this are returned.
+	 * @param  limit         the maximum number of ids to return.
+	 * @return               a list of binary ids.
+	 */
+	@Query(value = """
+		SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(b.id), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-')) FROM document_data_binary b
+		WHERE b.binary_file IS NOT NULL
+		AND EXISTS (SELECT 1 FROM document_data d WHERE d.document_data_binary_id = b.id)
+		AND NOT EXISTS (
+			SELECT 1 FROM document_data d
+			JOIN document doc ON doc.file_set_id = d.file_set_id
+			WHERE d.document_data_binary_id = b.id
+			AND (doc.created >= :createdBefore
+				OR doc.revision = (SELECT MAX(latest.revision) FROM document latest WHERE latest.registration_number = doc.registration_number)))
+		ORDER BY b.id
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<String> findIdsEligibleForColdStorage(@Param("createdBefore") OffsetDateTime createdBefore, @Param("limit") int limit);
+
+	/**
+	 * Copy the content of a binary from hot storage to cold storage.
+	 *
+	 * @param  id of the DocumentDataBinaryEntity.
+	 * @return    the number of copied binaries.
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO document_data_binary_cold (id, moved, binary_file)
+		SELECT id, NOW(6), binary_file FROM document_data_binary
+		WHERE id = UNHEX(REPLACE(:id, '-', '')) AND binary_file IS NOT NULL
+		""", nativeQuery = true)
+	int copyToColdStorage(@Param("id") String id);
+
+	/**
+	 * Remove the content of a binary from hot storage. The row is kept as it is referenced by files.
+	 *
+	 * @param  id of the DocumentDataBinaryEntity.
+	 * @return    the number of updated binaries.
+	 */
+	@Modifying
+	@Query(value = "UPDATE document_data_binary SET binary_file = NULL WHERE id = UNHEX(REPLACE(:id, '-', ''))", nativeQuery = true)
+	int removeFromHotStorage(@Param("id") String id);
+}
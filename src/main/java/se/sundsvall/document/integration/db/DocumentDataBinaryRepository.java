@@ -0,0 +1,62 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
+
+@CircuitBreaker(name = "documentDataBinaryRepository")
+public interface DocumentDataBinaryRepository extends JpaRepository<DocumentDataBinaryEntity, String> {
+
+	/**
+	 * Find the length of the binary file content without reading the content itself. The length is recorded when the
+	 * content is stored, for content stored before that the length of the binary_file column, or of the content in cold
+	 * storage, is used.
+	 *
+	 * @param  id of the DocumentDataBinaryEntity.
+	 * @return    an Optional containing the length in bytes of the binary file, or an empty Optional if no content exists.
+	 */
+	@Query(value = """
+		SELECT COALESCE(b.file_size_in_bytes, LENGTH(b.binary_file), LENGTH(c.binary_file)) FROM document_data_binary b
+		LEFT JOIN document_data_binary_cold c ON c.id = b.id
+		WHERE b.id = UNHEX(REPLACE(:id, '-', ''))
+		""", nativeQuery = true)
+	Optional<Long> findBinaryFileLength(@Param("id") String id);
+
+	/**
+	 * Find the chunk size of a binary stored in chunks (see DocumentDataBinaryChunkRepository).
+	 *
+	 * @param  id of the DocumentDataBinaryEntity.
+	 * @return    an Optional containing the chunk size, or an empty Optional if the content is stored in the binary_file
+	 *            column.
+	 */
+	@Query("SELECT b.chunkSize FROM DocumentDataBinaryEntity b WHERE b.id = :id")
+	Optional<Integer> findChunkSize(@Param("id") String id);
+
+	/**
+	 * Find the mime type of a binary file. A binary can be shared by several files, they all have the same content and
+	 * therefore normally the same mime type.
+	 *
+	 * @param  id of the DocumentDataBinaryEntity.
+	 * @return    an Optional containing the mime type, or an empty Optional if no file refers to the binary.
+	 */
+	@Query(value = "SELECT mime_type FROM document_data WHERE document_data_binary_id = UNHEX(REPLACE(:id, '-', '')) LIMIT 1", nativeQuery = true)
+	Optional<String> findMimeType(@Param("id") String id);
+
+	/**
+	 * Find the ids of binaries that are not used by any file.
+	 *
+	 * @param  limit the maximum number of ids to return.
+	 * @return       a list of binary ids.
+	 */
+	@Query(value = """
+		SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(b.id), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-')) FROM document_data_binary b
+		WHERE NOT EXISTS (SELECT 1 FROM document_data d WHERE d.document_data_binary_id = b.id)
+		ORDER BY b.id
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<String> findOrphanedIds(@Param("limit") int limit);
+}
@@ -0,0 +1,12 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import org.springframework.data.jpa.repository.JpaRepository;
+import se.sundsvall.document.integration.db.model.DocumentDataEntity;
+
+/**
+ * Repository for files, used when a file is read without loading the document it belongs to.
+ */
+@CircuitBreaker(name = "documentDataRepository")
+public interface DocumentDataRepository extends JpaRepository<DocumentDataEntity, String> {
+}
@@ -0,0 +1,112 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.DocumentDataTextEntity;
+import se.sundsvall.document.integration.db.model.TextIndexStatus;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+
+@CircuitBreaker(name = "documentDataTextRepository")
+public interface DocumentDataTextRepository extends JpaRepository<DocumentDataTextEntity, String>, JpaSpecificationExecutor<DocumentDataTextEntity> {
+
+	/**
+	 * Find the ids of text indexes with the provided status, oldest first.
+	 *
+	 * @param  status   the status to look for.
+	 * @param  pageable the maximum number of ids to return.
+	 * @return          a list of ids (i.e. binary ids) with the provided status.
+	 */
+	@Query("SELECT t.id FROM DocumentDataTextEntity t WHERE t.status = :status ORDER BY t.modified")
+	List<String> findIdsByStatus(@Param("status") TextIndexStatus status, Pageable pageable);
+
+	/**
+	 * Change the status of a text index, provided that it has the expected status. Used by workers to claim a pending
+	 * text index, so that a file is only extracted by one worker at a time, also between instances.
+	 *
+	 * @param  id       the id (i.e. binary id) of the text index.
+	 * @param  from     the expected current status.
+	 * @param  to       the new status.
+	 * @param  modified the time of the change.
+	 * @return          the number of updated text indexes (i.e. 0 if the status was changed by someone else).
+	 */
+	@Modifying
+	@Query("UPDATE DocumentDataTextEntity t SET t.status = :to, t.modified = :modified WHERE t.id = :id AND t.status = :from")
+	int updateStatus(@Param("id") String id, @Param("from") TextIndexStatus from, @Param("to") TextIndexStatus to, @Param("modified") OffsetDateTime modified);
+
+	/**
+	 * Change the status of all text indexes that have had the expected status since before a point in time. Used to
+	 * queue files again whose worker has stopped without finishing them.
+	 *
+	 * @param  from   the expected current status.
+	 * @param  to     the new status.
+	 * @param  before the point in time.
+	 * @return        the number of updated text indexes.
+	 */
+	@Modifying
+	@Query("UPDATE DocumentDataTextEntity t SET t.status = :to WHERE t.status = :from AND t.modified < :before")
+	int updateStatusModifiedBefore(@Param("from") TextIndexStatus from, @Param("to") TextIndexStatus to, @Param("before") OffsetDateTime before);
+
+	/**
+	 * Mark the text indexes of all files within a municipality as pending, which results in that the text is extracted
+	 * again. Files without a text index get a pending one.
+	 *
+	 * @param  municipalityId the municipality to re-index.
+	 * @return                the number of created text indexes.
+	 */
+	@Modifying
+	@Query(value = """
+		INSERT INTO document_data_text (id, status, modified)
+		SELECT DISTINCT d.document_data_binary_id, 'PENDING', NOW(6)
+		FROM document_data d
+		JOIN document doc ON doc.file_set_id = d.file_set_id
+		WHERE doc.municipality_id = :municipalityId
+		AND d.document_data_binary_id IS NOT NULL
+		AND NOT EXISTS (SELECT 1 FROM document_data_text t WHERE t.id = d.document_data_binary_id)
+		""", nativeQuery = true)
+	int insertPendingForMunicipalityId(@Param("municipalityId") String municipalityId);
+
+	/**
+	 * Mark the existing text indexes of all files within a municipality as pending.
+	 *
+	 * @param  municipalityId the municipality to re-index.
+	 * @return                the number of updated text indexes.
+	 */
+	@Modifying
+	@Query(value = """
+		UPDATE document_data_text SET status = 'PENDING', modified = NOW(6)
+		WHERE id IN (
+			SELECT d.document_data_binary_id
+			FROM document_data d
+			JOIN document doc ON doc.file_set_id = d.file_set_id
+			WHERE doc.municipality_id = :municipalityId)
+		""", nativeQuery = true)
+	int updatePendingForMunicipalityId(@Param("municipalityId") String municipalityId);
+
+	/**
+	 * Delete the terms of text indexes. Must be done before the text indexes themselves are deleted.
+	 *
+	 * @param  ids the ids (i.e. binary ids) of the text indexes.
+	 * @return     the number of deleted terms.
+	 */
+	default int deleteTermsByIds(Collection<String> ids) {
+		return deleteTermsByBinaryIds(ids.stream().map(UuidBinaryConverter::toBinary).toList());
+	}
+
+	/**
+	 * Delete the terms of text indexes, see {@link #deleteTermsByIds(Collection)}.
+	 *
+	 * @param  ids the ids of the text indexes, in binary form.
+	 * @return     the number of deleted terms.
+	 */
+	@Modifying
+	@Query(value = "DELETE FROM document_data_text_term WHERE document_data_text_id IN (:ids)", nativeQuery = true)
+	int deleteTermsByBinaryIds(@Param("ids") Collection<byte[]> ids);
+}
@@ -0,0 +1,53 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.DocumentFileSetEntity;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+
+/**
+ * Repository for file sets, used when file sets that are no longer used by any revision are removed.
+ */
+@CircuitBreaker(name = "documentFileSetRepository")
+public interface DocumentFileSetRepository extends JpaRepository<DocumentFileSetEntity, String> {
+
+	/**
+	 * Find the ids of file sets that are not used by any revision.
+	 *
+	 * @param  limit the maximum number of ids to return.
+	 * @return       a list of file set ids.
+	 */
+	@Query(value = """
+		SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(s.id), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-')) FROM document_file_set s
+		WHERE NOT EXISTS (SELECT 1 FROM document doc WHERE doc.file_set_id = s.id)
+		ORDER BY s.id
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<String> findOrphanedIds(@Param("limit") int limit);
+
+	/**
+	 * Delete the files of file sets. Must be done before the file sets themselves are deleted. The binaries of the files
+	 * are left, as they can be shared with other files.
+	 *
+	 * @param  ids the ids of the file sets.
+	 * @return     the number of deleted files.
+	 */
+	default int deleteDocumentDataByFileSetIds(Collection<String> ids) {
+		return deleteDocumentDataByBinaryFileSetIds(ids.stream().map(UuidBinaryConverter::toBinary).toList());
+	}
+
+	/**
+	 * Delete the files of file sets, see {@link #deleteDocumentDataByFileSetIds(Collection)}.
+	 *
+	 * @param  ids the ids of the file sets, in binary form.
+	 * @return     the number of deleted files.
+	 */
+	@Modifying
+	@Query(value = "DELETE FROM document_data WHERE file_set_id IN (:ids)", nativeQuery = true)
+	int deleteDocumentDataByBinaryFileSetIds(@Param("ids") Collection<byte[]> ids);
+}
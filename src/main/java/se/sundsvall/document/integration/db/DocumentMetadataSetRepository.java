@@ -0,0 +1,52 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.DocumentMetadataSetEntity;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+
+/**
+ * Repository for metadata sets, used when metadata sets that are no longer used by any revision are removed.
+ */
+@CircuitBreaker(name = "documentMetadataSetRepository")
+public interface DocumentMetadataSetRepository extends JpaRepository<DocumentMetadataSetEntity, String> {
+
+	/**
+	 * Find the ids of metadata sets that are not used by any revision.
+	 *
+	 * @param  limit the maximum number of ids to return.
+	 * @return       a list of metadata set ids.
+	 */
+	@Query(value = """
+		SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(s.id), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-')) FROM document_metadata_set s
+		WHERE NOT EXISTS (SELECT 1 FROM document doc WHERE doc.metadata_set_id = s.id)
+		ORDER BY s.id
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<String> findOrphanedIds(@Param("limit") int limit);
+
+	/**
+	 * Delete the metadata of metadata sets. Must be done before the metadata sets themselves are deleted.
+	 *
+	 * @param  ids the ids of the metadata sets.
+	 * @return     the number of deleted metadata.
+	 */
+	default int deleteMetadataByMetadataSetIds(Collection<String> ids) {
+		return deleteMetadataByBinaryMetadataSetIds(ids.stream().map(UuidBinaryConverter::toBinary).toList());
+	}
+
+	/**
+	 * Delete the metadata of metadata sets, see {@link #deleteMetadataByMetadataSetIds(Collection)}.
+	 *
+	 * @param  ids the ids of the metadata sets, in binary form.
+	 * @return     the number of deleted metadata.
+	 */
+	@Modifying
+	@Query(value = "DELETE FROM document_metadata WHERE metadata_set_id IN (:ids)", nativeQuery = true)
+	int deleteMetadataByBinaryMetadataSetIds(@Param("ids") Collection<byte[]> ids);
+}
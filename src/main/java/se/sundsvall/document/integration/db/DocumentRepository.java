@@ -1,14 +1,24 @@
 package se.sundsvall.document.integration.db;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import se.sundsvall.document.api.model.DocumentParameters;
 import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.integration.db.model.DocumentEntity_;
+import se.sundsvall.document.service.search.SearchQuery;
 
 import static se.sundsvall.document.integration.db.specification.SearchSpecification.withSearchParameters;
 import static se.sundsvall.document.integration.db.specification.SearchSpecification.withSearchQuery;
@@ -62,17 +72,78 @@ public interface DocumentRepository extends JpaRepository<DocumentEntity, String
 	 */
 	Optional<DocumentEntity> findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(String municipalityId, String registrationNumber, int revision, List<Boolean> confidentialValues);
 
+	/**
+	 * Find the latest revision of each of a number of documents.
+	 *
+	 * @param  municipalityId      of the DocumentEntity.
+	 * @param  registrationNumbers the registration numbers of the documents.
+	 * @param  confidentialValues  values of confidentiality for the documents that should be included in the result where
+	 *                             true equals confidential document, false equals public document.
+	 * @return                     a List with the latest revision of each found document.
+	 */
+	@Query("""
+		SELECT d FROM DocumentEntity d
+		WHERE d.municipalityId = :municipalityId AND d.registrationNumber IN :registrationNumbers AND d.confidentiality.confidential IN :confidentialValues
+		AND d.revision = (SELECT MAX(latest.revision) FROM DocumentEntity latest
+			WHERE latest.municipalityId = d.municipalityId AND latest.registrationNumber = d.registrationNumber AND latest.confidentiality.confidential IN :confidentialValues)
+		""")
+	List<DocumentEntity> findLatestByMunicipalityIdAndRegistrationNumberIn(@Param("municipalityId") String municipalityId, @Param("registrationNumbers") Collection<String> registrationNumbers,
+		@Param("confidentialValues") List<Boolean> confidentialValues);
+
+	/**
+	 * Find the revisions of a number of documents that have one of a number of revision numbers. The result may contain
+	 * combinations of registration number and revision that were not asked for, which the caller has to filter out.
+	 *
+	 * @param  municipalityId      of the DocumentEntity.
+	 * @param  registrationNumbers the registration numbers of the documents.
+	 * @param  revisions           the revision numbers.
+	 * @param  confidentialValues  values of confidentiality for the documents that should be included in the result where
+	 *                             true equals confidential document, false equals public document.
+	 * @return                     a List of DocumentEntity objects.
+	 */
+	List<DocumentEntity> findByMunicipalityIdAndRegistrationNumberInAndRevisionInAndConfidentialityConfidentialIn(String municipalityId, Collection<String> registrationNumbers, Collection<Integer> revisions,
+		List<Boolean> confidentialValues);
+
+	/**
+	 * Find the ids of revisions that may be removed according to a retention policy. A revision may be removed when it
+	 * is not one of the latest revisions of its document, when it was created before the provided point in time and when
+	 * it is not flagged for archiving. The latest revision of a document is never returned.
+	 *
+	 * @param  municipalityId the municipality of the revisions.
+	 * @param  type           the document type of the revisions.
+	 * @param  keepRevisions  the number of latest revisions of each document to keep, at least one.
+	 * @param  createdBefore  only revisions created before this are returned.
+	 * @param  limit          the maximum number of ids to return.
+	 * @return                a list of revision (i.e. document) ids.
+	 */
+	@Query(value = """
+		SELECT LOWER(INSERT(INSERT(INSERT(INSERT(HEX(doc.id), 9, 0, '-'), 14, 0, '-'), 19, 0, '-'), 24, 0, '-')) FROM document doc
+		JOIN document_type t ON t.id = doc.document_type_id
+		WHERE doc.municipality_id = :municipalityId
+		AND t.`type` = :type
+		AND doc.archive = false
+		AND doc.created < :createdBefore
+		AND (SELECT COUNT(*) FROM document newer
+			WHERE newer.municipality_id = doc.municipality_id
+			AND newer.registration_number = doc.registration_number
+			AND newer.revision > doc.revision) >= GREATEST(:keepRevisions, 1)
+		ORDER BY doc.id
+		LIMIT :limit
+		""", nativeQuery = true)
+	List<String> findIdsEligibleForRetention(@Param("municipalityId") String municipalityId, @Param("type") String type, @Param("keepRevisions") int keepRevisions, @Param("createdBefore") OffsetDateTime createdBefore,
+		@Param("limit") int limit);
+
 	/**
 	 * Performs a search in DocumentEntities.
 	 *
 	 * @param  municipalityId      of the DocumentEntity.
-	 * @param  query               the string to search for.
+	 * @param  query               the parsed search query.
 	 * @param  includeConfidential option if confidential documents should be included or not.
 	 * @param  onlyLatestRevision  option if only latest revision should be included or not.
 	 * @param  pageable            the pageable object.
-	 * @return                     a Page of DocumentEntity objects that matches the search string.
+	 * @return                     a Page of DocumentEntity objects that matches the search query.
 	 */
-	default Page<DocumentEntity> search(String query, boolean includeConfidential, boolean onlyLatestRevision, Pageable pageable, String municipalityId) {
+	default Page<DocumentEntity> search(SearchQuery query, boolean includeConfidential, boolean onlyLatestRevision, Pageable pageable, String municipalityId) {
 		return this.findAll(withSearchQuery(query, includeConfidential, onlyLatestRevision, municipalityId), pageable);
 	}
 
@@ -80,4 +151,51 @@ public interface DocumentRepository extends JpaRepository<DocumentEntity, String
 		return this.findAll(withSearchParameters(documentParameters), pageable);
 	}
 
+	/**
+	 * Performs a search in DocumentEntities and returns a window of the matches, see
+	 * {@link #scrollAll(Specification, ScrollPosition, int)}.
+	 *
+	 * @param  municipalityId      of the DocumentEntity.
+	 * @param  query               the parsed search query.
+	 * @param  includeConfidential option if confidential documents should be included or not.
+	 * @param  onlyLatestRevision  option if only latest revision should be included or not.
+	 * @param  position            the position to read from, {@link ScrollPosition#keyset()} for the first window.
+	 * @param  batchSize           the maximum number of DocumentEntities in the window.
+	 * @return                     a Window of DocumentEntity objects that matches the search query.
+	 */
+	default Window<DocumentEntity> scrollSearch(SearchQuery query, boolean includeConfidential, boolean onlyLatestRevision, String municipalityId, ScrollPosition position, int batchSize) {
+		return scrollAll(withSearchQuery(query, includeConfidential, onlyLatestRevision, municipalityId), position, batchSize);
+	}
+
+	/**
+	 * Performs a search by parameters in DocumentEntities and returns a window of the matches, see
+	 * {@link #scrollAll(Specification, ScrollPosition, int)}. Paging and sorting in the parameters are ignored.
+	 *
+	 * @param  documentParameters the search parameters.
+	 * @param  position           the position to read from, {@link ScrollPosition#keyset()} for the first window.
+	 * @param  batchSize          the maximum number of DocumentEntities in the window.
+	 * @return                    a Window of DocumentEntity objects that matches the search parameters.
+	 */
+	default Window<DocumentEntity> scrollSearchByParameters(final DocumentParameters documentParameters, final ScrollPosition position, final int batchSize) {
+		return scrollAll(withSearchParameters(documentParameters), position, batchSize);
+	}
+
+	/**
+	 * Returns a window of the DocumentEntities matching a specification, ordered by id. Windows are read using keyset
+	 * pagination (WHERE id > last id of previous window), so the cost of reading a window does not grow with the position
+	 * in the result as it does with offset paging. Each window is a query of its own, so consecutive windows can be read
+	 * in separate transactions.
+	 *
+	 * @param  specification the specification to match.
+	 * @param  position      the position to read from, {@link ScrollPosition#keyset()} for the first window.
+	 * @param  batchSize     the maximum number of DocumentEntities in the window.
+	 * @return               a Window of DocumentEntity objects that matches the specification.
+	 */
+	default Window<DocumentEntity> scrollAll(final Specification<DocumentEntity> specification, final ScrollPosition position, final int batchSize) {
+		return this.findBy(specification, query -> query
+			.sortBy(Sort.by(DocumentEntity_.ID))
+			.limit(batchSize)
+			.scroll(position));
+	}
+
 }
@@ -1,16 +1,30 @@
 package se.sundsvall.document.integration.db;
 
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import jakarta.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
 
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+
+/**
+ * Document types are read on every document read and write but rarely change, so both the entities and the results of
+ * the queries below are kept in the second level cache. Cached query results are invalidated by Hibernate whenever the
+ * document_type table is modified through this instance. Modifications made through other instances are seen when the
+ * cached entries expire, see document.second-level-cache in application.yml.
+ */
 @CircuitBreaker(name = "documentTypeRepository")
 public interface DocumentTypeRepository extends JpaRepository<DocumentTypeEntity, String> {
+
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	List<DocumentTypeEntity> findAllByMunicipalityId(String municipalityId);
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	boolean existsByMunicipalityIdAndType(String municipalityId, String type);
 
+	@QueryHints(@QueryHint(name = HINT_CACHEABLE, value = "true"))
 	Optional<DocumentTypeEntity> findByMunicipalityIdAndType(String municipalityId, String type);
 }
@@ -0,0 +1,63 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.IdempotencyKeyEntity;
+
+@CircuitBreaker(name = "idempotencyKeyRepository")
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKeyEntity, String> {
+
+	Optional<IdempotencyKeyEntity> findByMunicipalityIdAndIdempotencyKey(String municipalityId, String idempotencyKey);
+
+	/**
+	 * Delete an idempotency key if it has expired, so that it can be used again. A key that is still in progress expires
+	 * when the lease of its claim runs out.
+	 *
+	 * @param  municipalityId the municipalityId.
+	 * @param  idempotencyKey the idempotency key.
+	 * @param  now            keys that expired before this are deleted.
+	 * @return                the number of deleted keys.
+	 */
+	@Modifying
+	@Query("DELETE FROM IdempotencyKeyEntity k WHERE k.municipalityId = :municipalityId AND k.idempotencyKey = :idempotencyKey AND k.expires < :now")
+	int deleteIfExpired(@Param("municipalityId") String municipalityId, @Param("idempotencyKey") String idempotencyKey, @Param("now") OffsetDateTime now);
+
+	/**
+	 * Delete all expired idempotency keys.
+	 *
+	 * @param  now keys that expired before this are deleted.
+	 * @return     the number of deleted keys.
+	 */
+	@Modifying
+	@Query("DELETE FROM IdempotencyKeyEntity k WHERE k.expires < :now")
+	int deleteExpired(@Param("now") OffsetDateTime now);
+
+	/**
+	 * Delete a claim of an idempotency key that is still in progress, e.g. when the request it belongs to has failed. A
+	 * completed claim, or a claim taken over by another request, is left as is.
+	 *
+	 * @param  id the id of the claim.
+	 * @return    the number of deleted keys.
+	 */
+	@Modifying
+	@Query("DELETE FROM IdempotencyKeyEntity k WHERE k.id = :id AND k.registrationNumber IS NULL")
+	int deleteInProgress(@Param("id") String id);
+
+	/**
+	 * Complete a claim of an idempotency key with the registration number of the document created by the request it
+	 * belongs to. A claim that has expired and been taken over by another request no longer exists and is not updated.
+	 *
+	 * @param  id                 the id of the claim.
+	 * @param  registrationNumber the registration number of the created document.
+	 * @param  expires            when the completed key expires.
+	 * @return                    the number of updated keys.
+	 */
+	@Modifying
+	@Query("UPDATE IdempotencyKeyEntity k SET k.registrationNumber = :registrationNumber, k.expires = :expires WHERE k.id = :id AND k.registrationNumber IS NULL")
+	int complete(@Param("id") String id, @Param("registrationNumber") String registrationNumber, @Param("expires") OffsetDateTime expires);
+}
@@ -0,0 +1,40 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.IngestionEntity;
+import se.sundsvall.document.integration.db.model.IngestionStatus;
+
+@CircuitBreaker(name = "ingestionRepository")
+public interface IngestionRepository extends JpaRepository<IngestionEntity, String> {
+
+	Optional<IngestionEntity> findByIdAndMunicipalityId(String id, String municipalityId);
+
+	/**
+	 * Change the status of an ingestion, unless the status has already been changed by another worker.
+	 *
+	 * @param  id       the id of the ingestion.
+	 * @param  from     the status the ingestion must have.
+	 * @param  to       the new status.
+	 * @param  modified the time of the change.
+	 * @return          the number of changed ingestions (i.e. 0 if the ingestion did not have the expected status).
+	 */
+	@Modifying
+	@Query("UPDATE IngestionEntity i SET i.status = :to, i.modified = :modified WHERE i.id = :id AND i.status = :from")
+	int updateStatus(@Param("id") String id, @Param("from") IngestionStatus from, @Param("to") IngestionStatus to, @Param("modified") OffsetDateTime modified);
+
+	/**
+	 * Delete all expired ingestions.
+	 *
+	 * @param  now ingestions that expired before this are deleted.
+	 * @return     the number of deleted ingestions.
+	 */
+	@Modifying
+	@Query("DELETE FROM IngestionEntity i WHERE i.expires < :now")
+	int deleteExpired(@Param("now") OffsetDateTime now);
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.sql.Blob;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.UploadChunkEntity;
+
+@CircuitBreaker(name = "uploadChunkRepository")
+public interface UploadChunkRepository extends JpaRepository<UploadChunkEntity, String> {
+
+	/**
+	 * Find the ids of the chunks of an upload, in the order of the content.
+	 *
+	 * @param  uploadId the id of the upload.
+	 * @return          a list of chunk ids.
+	 */
+	@Query("SELECT c.id FROM UploadChunkEntity c WHERE c.uploadId = :uploadId ORDER BY c.chunkOffset")
+	List<String> findIdsByUploadId(@Param("uploadId") String uploadId);
+
+	/**
+	 * Find the content of a chunk, without loading the other chunks of the upload.
+	 *
+	 * @param  id the id of the chunk.
+	 * @return    the content of the chunk.
+	 */
+	@Query("SELECT c.content FROM UploadChunkEntity c WHERE c.id = :id")
+	Blob findContentById(@Param("id") String id);
+
+	@Modifying
+	@Query("DELETE FROM UploadChunkEntity c WHERE c.uploadId = :uploadId")
+	int deleteByUploadId(@Param("uploadId") String uploadId);
+
+	/**
+	 * Delete the chunks of all expired uploads.
+	 *
+	 * @param  now chunks of uploads that expired before this are deleted.
+	 * @return     the number of deleted chunks.
+	 */
+	@Modifying
+	@Query("DELETE FROM UploadChunkEntity c WHERE c.uploadId IN (SELECT u.id FROM UploadEntity u WHERE u.expires < :now)")
+	int deleteByExpiredUploads(@Param("now") OffsetDateTime now);
+}
@@ -0,0 +1,46 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.UploadEntity;
+
+import static jakarta.persistence.LockModeType.PESSIMISTIC_WRITE;
+
+@CircuitBreaker(name = "uploadRepository")
+public interface UploadRepository extends JpaRepository<UploadEntity, String> {
+
+	Optional<UploadEntity> findByIdAndMunicipalityIdAndRegistrationNumberAndExpiresAfter(String id, String municipalityId, String registrationNumber, OffsetDateTime now);
+
+	/**
+	 * Find an upload that has not expired and lock it, so that chunks are appended and the upload is completed by one
+	 * request at a time.
+	 *
+	 * Lock-note: Lock rows in transaction. Other threads will wait until lock is released.
+	 *
+	 * @param  id                 the id of the upload.
+	 * @param  municipalityId     the municipalityId.
+	 * @param  registrationNumber the registration number of the document the upload belongs to.
+	 * @param  now                only uploads expiring after this are returned.
+	 * @return                    an Optional UploadEntity.
+	 */
+	@Lock(PESSIMISTIC_WRITE)
+	@Query("SELECT u FROM UploadEntity u WHERE u.id = :id AND u.municipalityId = :municipalityId AND u.registrationNumber = :registrationNumber AND u.expires > :now")
+	Optional<UploadEntity> findAndLock(@Param("id") String id, @Param("municipalityId") String municipalityId, @Param("registrationNumber") String registrationNumber, @Param("now") OffsetDateTime now);
+
+	/**
+	 * Delete all expired uploads. The chunks of the uploads must be deleted first, see
+	 * {@link UploadChunkRepository#deleteByExpiredUploads(OffsetDateTime)}.
+	 *
+	 * @param  now uploads that expired before this are deleted.
+	 * @return     the number of deleted uploads.
+	 */
+	@Modifying
+	@Query("DELETE FROM UploadEntity u WHERE u.expires < :now")
+	int deleteExpired(@Param("now") OffsetDateTime now);
+}
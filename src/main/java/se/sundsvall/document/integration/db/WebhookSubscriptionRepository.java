@@ -0,0 +1,49 @@
+package se.sundsvall.document.integration.db;
+
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import se.sundsvall.document.integration.db.model.WebhookSubscriptionEntity;
+
+@CircuitBreaker(name = "webhookSubscriptionRepository")
+public interface WebhookSubscriptionRepository extends JpaRepository<WebhookSubscriptionEntity, String> {
+
+	List<WebhookSubscriptionEntity> findByMunicipalityIdOrderByCreated(String municipalityId);
+
+	Optional<WebhookSubscriptionEntity> findByIdAndMunicipalityId(String id, String municipalityId);
+
+	/**
+	 * Find the ids of subscriptions with changes to deliver, i.e. subscriptions that have not received the latest change
+	 * of their municipality, are not waiting for a retry and are not being delivered to by another worker.
+	 *
+	 * @param  now      the current time.
+	 * @param  pageable limits the number of ids returned.
+	 * @return          the ids of the subscriptions.
+	 */
+	@Query("""
+		SELECT s.id FROM WebhookSubscriptionEntity s
+		WHERE (s.nextAttempt IS NULL OR s.nextAttempt <= :now)
+		AND (s.lockedUntil IS NULL OR s.lockedUntil < :now)
+		AND s.lastSequenceNumber < (SELECT MAX(c.sequenceNumber) FROM DocumentChangeEntity c WHERE c.municipalityId = s.municipalityId)
+		ORDER BY s.id
+		""")
+	List<String> findDueIds(@Param("now") OffsetDateTime now, Pageable pageable);
+
+	/**
+	 * Lock a subscription for delivery, unless it is already locked by another worker.
+	 *
+	 * @param  id          the id of the subscription.
+	 * @param  now         the current time.
+	 * @param  lockedUntil the time when the lock expires, should the worker fail to release it.
+	 * @return             the number of locked subscriptions (i.e. 0 if it was locked by another worker).
+	 */
+	@Modifying
+	@Query("UPDATE WebhookSubscriptionEntity s SET s.lockedUntil = :lockedUntil WHERE s.id = :id AND (s.lockedUntil IS NULL OR s.lockedUntil < :now)")
+	int lock(@Param("id") String id, @Param("now") OffsetDateTime now, @Param("lockedUntil") OffsetDateTime lockedUntil);
+}
@@ -0,0 +1,219 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+import se.sundsvall.document.integration.db.model.listener.DocumentChangeEntityListener;
+
+import static jakarta.persistence.EnumType.STRING;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
+import static org.hibernate.type.SqlTypes.VARCHAR;
+
+/**
+ * A change of a document in the change feed of a municipality. The sequence number is unique within the municipality
+ * and the order of the sequence numbers is the order in which the changes were committed.
+ */
+@Entity
+@Table(
+	name = "document_change",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uq_municipality_id_and_sequence_number", columnNames = {
+			"municipality_id", "sequence_number"
+		}),
+	})
+@EntityListeners(DocumentChangeEntityListener.class)
+public class DocumentChangeEntity implements Serializable {
+
+	private static final long serialVersionUID = 5094316618297343215L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "sequence_number", nullable = false)
+	private long sequenceNumber;
+
+	@Column(name = "registration_number", nullable = false)
+	private String registrationNumber;
+
+	@Column(name = "revision", nullable = false)
+	private int revision;
+
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "document_id", nullable = false, length = 16)
+	private String documentId;
+
+	@Column(name = "document_type")
+	private String documentType;
+
+	@Enumerated(STRING)
+	@JdbcTypeCode(VARCHAR)
+	@Column(name = "type", nullable = false)
+	private DocumentChangeType type;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	public static DocumentChangeEntity create() {
+		return new DocumentChangeEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public DocumentChangeEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public DocumentChangeEntity withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	public void setSequenceNumber(long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+	}
+
+	public DocumentChangeEntity withSequenceNumber(long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+		return this;
+	}
+
+	public String getRegistrationNumber() {
+		return registrationNumber;
+	}
+
+	public void setRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+	}
+
+	public DocumentChangeEntity withRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+		return this;
+	}
+
+	public int getRevision() {
+		return revision;
+	}
+
+	public void setRevision(int revision) {
+		this.revision = revision;
+	}
+
+	public DocumentChangeEntity withRevision(int revision) {
+		this.revision = revision;
+		return this;
+	}
+
+	public String getDocumentId() {
+		return documentId;
+	}
+
+	public void setDocumentId(String documentId) {
+		this.documentId = documentId;
+	}
+
+	public DocumentChangeEntity withDocumentId(String documentId) {
+		this.documentId = documentId;
+		return this;
+	}
+
+	public String getDocumentType() {
+		return documentType;
+	}
+
+	public void setDocumentType(String documentType) {
+		this.documentType = documentType;
+	}
+
+	public DocumentChangeEntity withDocumentType(String documentType) {
+		this.documentType = documentType;
+		return this;
+	}
+
+	public DocumentChangeType getType() {
+		return type;
+	}
+
+	public void setType(DocumentChangeType type) {
+		this.type = type;
+	}
+
+	public DocumentChangeEntity withType(DocumentChangeType type) {
+		this.type = type;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public DocumentChangeEntity withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(created, documentId, documentType, id, municipalityId, registrationNumber, revision, sequenceNumber, type);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentChangeEntity other)) { return false; }
+		return Objects.equals(created, other.created) && Objects.equals(documentId, other.documentId) && Objects.equals(documentType, other.documentType) && Objects.equals(id, other.id) && Objects.equals(municipalityId, other.municipalityId)
+			&& Objects.equals(registrationNumber, other.registrationNumber) && (revision == other.revision) && (sequenceNumber == other.sequenceNumber) && (type == other.type);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentChangeEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", sequenceNumber=").append(sequenceNumber).append(", registrationNumber=").append(registrationNumber)
+			.append(", revision=").append(revision).append(", documentId=").append(documentId).append(", documentType=").append(documentType).append(", type=").append(type).append(", created=").append(created).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,104 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.io.Serializable;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * The last sequence number used in the change feed of a municipality.
+ */
+@Entity
+@Table(
+	name = "document_change_sequence",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uq_document_change_sequence_municipality_id", columnNames = "municipality_id"),
+	})
+public class DocumentChangeSequenceEntity implements Serializable {
+
+	private static final long serialVersionUID = -2270946216016839710L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "sequence_number", nullable = false)
+	private long sequenceNumber;
+
+	public static DocumentChangeSequenceEntity create() {
+		return new DocumentChangeSequenceEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public DocumentChangeSequenceEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public DocumentChangeSequenceEntity withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public long getSequenceNumber() {
+		return sequenceNumber;
+	}
+
+	public void setSequenceNumber(long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+	}
+
+	public DocumentChangeSequenceEntity withSequenceNumber(long sequenceNumber) {
+		this.sequenceNumber = sequenceNumber;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, municipalityId, sequenceNumber);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentChangeSequenceEntity other)) { return false; }
+		return Objects.equals(id, other.id) && Objects.equals(municipalityId, other.municipalityId) && (sequenceNumber == other.sequenceNumber);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentChangeSequenceEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", sequenceNumber=").append(sequenceNumber).append("]");
+		return builder.toString();
+	}
+}
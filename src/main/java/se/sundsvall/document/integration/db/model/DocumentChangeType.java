@@ -0,0 +1,10 @@
+package se.sundsvall.document.integration.db.model;
+
+public enum DocumentChangeType {
+	/** The first revision of a document has been created. */
+	CREATED,
+	/** A new revision of a document has been created. */
+	REVISED,
+	/** The confidentiality of a document (i.e. of all its revisions) has been changed. */
+	CONFIDENTIALITY_CHANGED
+}
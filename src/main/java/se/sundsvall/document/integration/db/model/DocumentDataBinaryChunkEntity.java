@@ -0,0 +1,105 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Blob;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * A chunk of the content of a {@link DocumentDataBinaryEntity}. Chunks are numbered from 0 and all chunks but the last
+ * have the chunk size of the binary, so the chunks holding a given range of the content can be read without reading
+ * the others.
+ */
+@Entity
+@Table(name = "document_data_binary_chunk")
+@IdClass(DocumentDataBinaryChunkId.class)
+public class DocumentDataBinaryChunkEntity implements Serializable {
+
+	private static final long serialVersionUID = 2918365091527603812L;
+
+	@Id
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "binary_id", length = 16)
+	private String binaryId;
+
+	@Id
+	@Column(name = "chunk_index")
+	private int chunkIndex;
+
+	@Lob
+	@Column(name = "content", columnDefinition = "longblob", nullable = false)
+	private Blob content;
+
+	public static DocumentDataBinaryChunkEntity create() {
+		return new DocumentDataBinaryChunkEntity();
+	}
+
+	public String getBinaryId() {
+		return binaryId;
+	}
+
+	public void setBinaryId(String binaryId) {
+		this.binaryId = binaryId;
+	}
+
+	public DocumentDataBinaryChunkEntity withBinaryId(String binaryId) {
+		this.binaryId = binaryId;
+		return this;
+	}
+
+	public int getChunkIndex() {
+		return chunkIndex;
+	}
+
+	public void setChunkIndex(int chunkIndex) {
+		this.chunkIndex = chunkIndex;
+	}
+
+	public DocumentDataBinaryChunkEntity withChunkIndex(int chunkIndex) {
+		this.chunkIndex = chunkIndex;
+		return this;
+	}
+
+	public Blob getContent() {
+		return content;
+	}
+
+	public void setContent(Blob content) {
+		this.content = content;
+	}
+
+	public DocumentDataBinaryChunkEntity withContent(Blob content) {
+		this.content = content;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(binaryId, chunkIndex, content);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentDataBinaryChunkEntity other)) { return false; }
+		return Objects.equals(binaryId, other.binaryId) && (chunkIndex == other.chunkIndex) && Objects.equals(content, other.content);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentDataBinaryChunkEntity [binaryId=").append(binaryId).append(", chunkIndex=").append(chunkIndex).append(", content=").append(content).append("]");
+		return builder.toString();
+	}
+}
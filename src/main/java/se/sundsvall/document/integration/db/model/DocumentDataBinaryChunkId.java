@@ -0,0 +1,65 @@
+package se.sundsvall.document.integration.db.model;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The primary key of a {@link DocumentDataBinaryChunkEntity}.
+ */
+public class DocumentDataBinaryChunkId implements Serializable {
+
+	private static final long serialVersionUID = -4470358390142760413L;
+
+	private String binaryId;
+
+	private int chunkIndex;
+
+	public static DocumentDataBinaryChunkId create() {
+		return new DocumentDataBinaryChunkId();
+	}
+
+	public String getBinaryId() {
+		return binaryId;
+	}
+
+	public void setBinaryId(String binaryId) {
+		this.binaryId = binaryId;
+	}
+
+	public DocumentDataBinaryChunkId withBinaryId(String binaryId) {
+		this.binaryId = binaryId;
+		return this;
+	}
+
+	public int getChunkIndex() {
+		return chunkIndex;
+	}
+
+	public void setChunkIndex(int chunkIndex) {
+		this.chunkIndex = chunkIndex;
+	}
+
+	public DocumentDataBinaryChunkId withChunkIndex(int chunkIndex) {
+		this.chunkIndex = chunkIndex;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(binaryId, chunkIndex);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentDataBinaryChunkId other)) { return false; }
+		return Objects.equals(binaryId, other.binaryId) && (chunkIndex == other.chunkIndex);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("DocumentDataBinaryChunkId [binaryId=").append(binaryId).append(", chunkIndex=").append(chunkIndex).append("]");
+		return builder.toString();
+	}
+}
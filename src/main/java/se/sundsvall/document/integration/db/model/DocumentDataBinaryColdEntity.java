@@ -0,0 +1,106 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.sql.Blob;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * The content of a file binary that has been moved to cold storage. The id is the same as the id of the
+ * DocumentDataBinaryEntity that the content has been moved from, which keeps its row but without content while the
+ * content is in cold storage.
+ */
+@Entity
+@Table(name = "document_data_binary_cold")
+public class DocumentDataBinaryColdEntity implements Serializable {
+
+	private static final long serialVersionUID = 2671548873094113302L;
+
+	@Id
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Column(name = "moved")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime moved;
+
+	@Lob
+	@Column(name = "binary_file", columnDefinition = "longblob")
+	private Blob binaryFile;
+
+	public static DocumentDataBinaryColdEntity create() {
+		return new DocumentDataBinaryColdEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public DocumentDataBinaryColdEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public OffsetDateTime getMoved() {
+		return moved;
+	}
+
+	public void setMoved(OffsetDateTime moved) {
+		this.moved = moved;
+	}
+
+	public DocumentDataBinaryColdEntity withMoved(OffsetDateTime moved) {
+		this.moved = moved;
+		return this;
+	}
+
+	public Blob getBinaryFile() {
+		return binaryFile;
+	}
+
+	public void setBinaryFile(Blob binaryFile) {
+		this.binaryFile = binaryFile;
+	}
+
+	public DocumentDataBinaryColdEntity withBinaryFile(Blob binaryFile) {
+		this.binaryFile = binaryFile;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(binaryFile, id, moved);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentDataBinaryColdEntity other)) { return false; }
+		return Objects.equals(binaryFile, other.binaryFile) && Objects.equals(id, other.id) && Objects.equals(moved, other.moved);
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder();
+		builder.append("DocumentDataBinaryColdEntity [id=").append(id).append(", moved=").append(moved).append(", binaryFile=").append(binaryFile).append("]");
+		return builder.toString();
+	}
+}
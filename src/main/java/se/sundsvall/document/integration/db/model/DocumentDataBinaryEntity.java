@@ -1,6 +1,7 @@
 package se.sundsvall.document.integration.db.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Lob;
@@ -8,8 +9,16 @@ import jakarta.persistence.Table;
 import java.io.Serializable;
 import java.sql.Blob;
 import java.util.Objects;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
 
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * The content of a file. Content is either stored in the binary_file column, or, when chunk size is set, in chunks of
+ * that size (see {@link DocumentDataBinaryChunkEntity}).
+ */
 @Entity
 @Table(name = "document_data_binary")
 public class DocumentDataBinaryEntity implements Serializable {
@@ -17,14 +26,25 @@ public class DocumentDataBinaryEntity implements Serializable {
 	private static final long serialVersionUID = -1254399670053984961L;
 
 	@Id
-	@UuidGenerator
-	@Column(name = "id")
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
 	private String id;
 
 	@Lob
 	@Column(name = "binary_file", columnDefinition = "longblob")
 	private Blob binaryFile;
 
+	@Column(name = "checksum", length = 64)
+	private String checksum;
+
+	@Column(name = "chunk_size")
+	private Integer chunkSize;
+
+	@Column(name = "file_size_in_bytes")
+	private Long fileSizeInBytes;
+
 	public static DocumentDataBinaryEntity create() {
 		return new DocumentDataBinaryEntity();
 	}
@@ -55,22 +75,63 @@ public class DocumentDataBinaryEntity implements Serializable {
 		return this;
 	}
 
+	public String getChecksum() {
+		return checksum;
+	}
+
+	public void setChecksum(String checksum) {
+		this.checksum = checksum;
+	}
+
+	public DocumentDataBinaryEntity withChecksum(String checksum) {
+		this.checksum = checksum;
+		return this;
+	}
+
+	public Integer getChunkSize() {
+		return chunkSize;
+	}
+
+	public void setChunkSize(Integer chunkSize) {
+		this.chunkSize = chunkSize;
+	}
+
+	public DocumentDataBinaryEntity withChunkSize(Integer chunkSize) {
+		this.chunkSize = chunkSize;
+		return this;
+	}
+
+	public Long getFileSizeInBytes() {
+		return fileSizeInBytes;
+	}
+
+	public void setFileSizeInBytes(Long fileSizeInBytes) {
+		this.fileSizeInBytes = fileSizeInBytes;
+	}
+
+	public DocumentDataBinaryEntity withFileSizeInBytes(Long fileSizeInBytes) {
+		this.fileSizeInBytes = fileSizeInBytes;
+		return this;
+	}
+
 	@Override
 	public int hashCode() {
-		return Objects.hash(binaryFile, id);
+		return Objects.hash(binaryFile, checksum, chunkSize, fileSizeInBytes, id);
 	}
 
 	@Override
 	public boolean equals(Object obj) {
 		if (this == obj) { return true; }
 		if (!(obj instanceof final DocumentDataBinaryEntity other)) { return false; }
-		return Objects.equals(binaryFile, other.binaryFile) && Objects.equals(id, other.id);
+		return Objects.equals(binaryFile, other.binaryFile) && Objects.equals(checksum, other.checksum) && Objects.equals(chunkSize, other.chunkSize)
+			&& Objects.equals(fileSizeInBytes, other.fileSizeInBytes) && Objects.equals(id, other.id);
 	}
 
 	@Override
 	public String toString() {
 		final StringBuilder builder = new StringBuilder();
-		builder.append("DocumentDataBinaryEntity [id=").append(id).append(", binaryFile=").append(binaryFile).append("]");
+		builder.append("DocumentDataBinaryEntity [id=").append(id).append(", binaryFile=").append(binaryFile).append(", checksum=").append(checksum).append(", chunkSize=").append(chunkSize)
+			.append(", fileSizeInBytes=").append(fileSizeInBytes).append("]");
 		return builder.toString();
 	}
 }
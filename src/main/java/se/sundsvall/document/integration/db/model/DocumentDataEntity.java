@@ -1,36 +1,39 @@
 package se.sundsvall.document.integration.db.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
-import jakarta.persistence.OneToOne;
+import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
-import jakarta.persistence.UniqueConstraint;
 import java.io.Serializable;
 import java.util.Objects;
 import org.hibernate.annotations.ColumnDefault;
-import org.hibernate.annotations.UuidGenerator;
+import org.hibernate.annotations.JdbcTypeCode;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
 
-import static jakarta.persistence.CascadeType.ALL;
+import static jakarta.persistence.CascadeType.MERGE;
+import static jakarta.persistence.CascadeType.PERSIST;
 import static jakarta.persistence.FetchType.LAZY;
+import static org.hibernate.type.SqlTypes.BINARY;
 
 @Entity
-@Table(
-	name = "document_data",
-	uniqueConstraints = {
-		@UniqueConstraint(name = "uq_document_data_binary_id", columnNames = {
-			"document_data_binary_id"
-		})
-	})
+@Table(name = "document_data", indexes = {
+	@Index(name = "ix_file_name", columnList = "file_name")
+})
 public class DocumentDataEntity implements Serializable {
 
 	private static final long serialVersionUID = -7783051635903859326L;
 
 	@Id
-	@UuidGenerator
-	@Column(name = "id")
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
 	private String id;
 
 	@Column(name = "mime_type")
@@ -43,7 +46,10 @@ public class DocumentDataEntity implements Serializable {
 	@ColumnDefault("0")
 	private long fileSizeInBytes;
 
-	@OneToOne(fetch = LAZY, cascade = ALL, orphanRemoval = true)
+	// The binary is shared by all file sets containing the same file, unchanged files are never copied to new revisions.
+	@ManyToOne(fetch = LAZY, cascade = {
+		PERSIST, MERGE
+	})
 	@JoinColumn(
 		name = "document_data_binary_id",
 		referencedColumnName = "id",
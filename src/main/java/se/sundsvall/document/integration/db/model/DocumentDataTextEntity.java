@@ -0,0 +1,140 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.listener.DocumentDataTextEntityListener;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.FetchType.LAZY;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
+import static org.hibernate.type.SqlTypes.VARCHAR;
+
+/**
+ * The text index of a file binary. The id is the same as the id of the DocumentDataBinaryEntity that the text has been
+ * extracted from, which means that the index is shared by all files (and revisions) that share the same binary.
+ */
+@Entity
+@Table(name = "document_data_text", indexes = {
+	@Index(name = "ix_status", columnList = "status")
+})
+@EntityListeners(DocumentDataTextEntityListener.class)
+public class DocumentDataTextEntity implements Serializable {
+
+	private static final long serialVersionUID = 4326853195287049357L;
+
+	@Id
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Enumerated(STRING)
+	@JdbcTypeCode(VARCHAR)
+	@Column(name = "status", nullable = false)
+	private TextIndexStatus status;
+
+	@Column(name = "modified")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime modified;
+
+	// Distinct lower case terms of the extracted text, indexed to make exact and prefix lookups cheap.
+	@ElementCollection(fetch = LAZY)
+	@CollectionTable(name = "document_data_text_term", indexes = {
+		@Index(name = "ix_term", columnList = "term")
+	}, joinColumns = @JoinColumn(name = "document_data_text_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_document_data_text_term_document_data_text")))
+	@Column(name = "term", length = 64, nullable = false)
+	private List<String> terms;
+
+	public static DocumentDataTextEntity create() {
+		return new DocumentDataTextEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public DocumentDataTextEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public TextIndexStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(TextIndexStatus status) {
+		this.status = status;
+	}
+
+	public DocumentDataTextEntity withStatus(TextIndexStatus status) {
+		this.status = status;
+		return this;
+	}
+
+	public OffsetDateTime getModified() {
+		return modified;
+	}
+
+	public void setModified(OffsetDateTime modified) {
+		this.modified = modified;
+	}
+
+	public DocumentDataTextEntity withModified(OffsetDateTime modified) {
+		this.modified = modified;
+		return this;
+	}
+
+	public List<String> getTerms() {
+		return terms;
+	}
+
+	public void setTerms(List<String> terms) {
+		this.terms = terms;
+	}
+
+	public DocumentDataTextEntity withTerms(List<String> terms) {
+		this.terms = terms;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, modified, status, terms);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentDataTextEntity other)) { return false; }
+		return Objects.equals(id, other.id) && Objects.equals(modified, other.modified) && status == other.status && Objects.equals(terms, other.terms);
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder();
+		builder.append("DocumentDataTextEntity [id=").append(id).append(", status=").append(status).append(", modified=").append(modified).append(", terms=").append(terms).append("]");
+		return builder.toString();
+	}
+}
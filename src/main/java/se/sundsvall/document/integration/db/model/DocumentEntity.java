@@ -1,8 +1,7 @@
 package se.sundsvall.document.integration.db.model;
 
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
@@ -11,20 +10,26 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import java.io.Serializable;
 import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.TimeZoneStorage;
-import org.hibernate.annotations.UuidGenerator;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
 import se.sundsvall.document.integration.db.model.listener.DocumentEntityListener;
 
 import static jakarta.persistence.CascadeType.ALL;
+import static jakarta.persistence.CascadeType.MERGE;
+import static jakarta.persistence.CascadeType.PERSIST;
 import static jakarta.persistence.FetchType.EAGER;
+import static jakarta.persistence.FetchType.LAZY;
 import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
 
 @Entity
 @Table(name = "document", uniqueConstraints = {
@@ -43,8 +48,10 @@ public class DocumentEntity implements Serializable {
 	private static final long serialVersionUID = -4452832623957756766L;
 
 	@Id
-	@UuidGenerator
-	@Column(name = "id")
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
 	private String id;
 
 	@Column(name = "revision", nullable = false)
@@ -76,15 +83,17 @@ public class DocumentEntity implements Serializable {
 	@TimeZoneStorage(NORMALIZE)
 	private OffsetDateTime created;
 
-	@OneToMany(cascade = ALL, orphanRemoval = true)
-	@JoinColumn(name = "document_id", referencedColumnName = "id", nullable = false, foreignKey = @ForeignKey(name = "fk_document_data_document"))
-	private List<DocumentDataEntity> documentData;
+	@ManyToOne(cascade = {
+		PERSIST, MERGE
+	}, optional = false, fetch = LAZY)
+	@JoinColumn(name = "file_set_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_document_document_file_set"), nullable = false)
+	private DocumentFileSetEntity fileSet;
 
-	@ElementCollection(fetch = EAGER)
-	@CollectionTable(name = "document_metadata", indexes = {
-		@Index(name = "ix_key", columnList = "key")
-	}, joinColumns = @JoinColumn(name = "document_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_document_metadata_document")))
-	private List<DocumentMetadataEmbeddable> metadata;
+	@ManyToOne(cascade = {
+		PERSIST, MERGE
+	}, optional = false, fetch = LAZY)
+	@JoinColumn(name = "metadata_set_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_document_document_metadata_set"), nullable = false)
+	private DocumentMetadataSetEntity metadataSet;
 
 	public static DocumentEntity create() {
 		return new DocumentEntity();
@@ -220,35 +229,83 @@ public class DocumentEntity implements Serializable {
 		return this;
 	}
 
+	public DocumentFileSetEntity getFileSet() {
+		return fileSet;
+	}
+
+	public void setFileSet(DocumentFileSetEntity fileSet) {
+		this.fileSet = fileSet;
+	}
+
+	public DocumentEntity withFileSet(DocumentFileSetEntity fileSet) {
+		this.fileSet = fileSet;
+		return this;
+	}
+
+	public DocumentMetadataSetEntity getMetadataSet() {
+		return metadataSet;
+	}
+
+	public void setMetadataSet(DocumentMetadataSetEntity metadataSet) {
+		this.metadataSet = metadataSet;
+	}
+
+	public DocumentEntity withMetadataSet(DocumentMetadataSetEntity metadataSet) {
+		this.metadataSet = metadataSet;
+		return this;
+	}
+
+	/**
+	 * Convenience accessor for the files in the file set of this revision.
+	 *
+	 * @return the files of the file set, or null if no file set is present.
+	 */
 	public List<DocumentDataEntity> getDocumentData() {
-		return documentData;
+		return Optional.ofNullable(fileSet).map(DocumentFileSetEntity::getDocumentData).orElse(null);
 	}
 
+	/**
+	 * Replaces the file set of this revision with a new file set containing the provided files. The current file set is
+	 * never modified as it might be shared with other revisions.
+	 *
+	 * @param documentData the files of the new file set.
+	 */
 	public void setDocumentData(List<DocumentDataEntity> documentData) {
-		this.documentData = documentData;
+		this.fileSet = DocumentFileSetEntity.create().withDocumentData(documentData);
 	}
 
 	public DocumentEntity withDocumentData(List<DocumentDataEntity> documentData) {
-		this.documentData = documentData;
+		setDocumentData(documentData);
 		return this;
 	}
 
+	/**
+	 * Convenience accessor for the metadata in the metadata set of this revision.
+	 *
+	 * @return the metadata of the metadata set, or null if no metadata set is present.
+	 */
 	public List<DocumentMetadataEmbeddable> getMetadata() {
-		return metadata;
+		return Optional.ofNullable(metadataSet).map(DocumentMetadataSetEntity::getMetadata).orElse(null);
 	}
 
+	/**
+	 * Replaces the metadata set of this revision with a new metadata set containing the provided metadata. The current
+	 * metadata set is never modified as it might be shared with other revisions.
+	 *
+	 * @param metadata the metadata of the new metadata set.
+	 */
 	public void setMetadata(List<DocumentMetadataEmbeddable> metadata) {
-		this.metadata = metadata;
+		this.metadataSet = DocumentMetadataSetEntity.create().withMetadata(metadata);
 	}
 
 	public DocumentEntity withMetadata(List<DocumentMetadataEmbeddable> metadata) {
-		this.metadata = metadata;
+		setMetadata(metadata);
 		return this;
 	}
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(archive, confidentiality, created, createdBy, description, documentData, id, metadata, municipalityId, registrationNumber, revision, type);
+		return Objects.hash(archive, confidentiality, created, createdBy, description, fileSet, id, metadataSet, municipalityId, registrationNumber, revision, type);
 	}
 
 	@Override
@@ -260,7 +317,7 @@ public class DocumentEntity implements Serializable {
 			return false;
 		}
 		return archive == other.archive && Objects.equals(confidentiality, other.confidentiality) && Objects.equals(created, other.created) && Objects.equals(createdBy, other.createdBy) && Objects.equals(description, other.description) && Objects
-			.equals(documentData, other.documentData) && Objects.equals(id, other.id) && Objects.equals(metadata, other.metadata) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(registrationNumber, other.registrationNumber)
+			.equals(fileSet, other.fileSet) && Objects.equals(id, other.id) && Objects.equals(metadataSet, other.metadataSet) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(registrationNumber, other.registrationNumber)
 			&& revision == other.revision && Objects.equals(type, other.type);
 	}
 
@@ -268,8 +325,8 @@ public class DocumentEntity implements Serializable {
 	public String toString() {
 		final var builder = new StringBuilder();
 		builder.append("DocumentEntity [id=").append(id).append(", revision=").append(revision).append(", municipalityId=").append(municipalityId).append(", registrationNumber=").append(registrationNumber).append(", type=").append(type).append(
-			", description=").append(description).append(", confidentiality=").append(confidentiality).append(", archive=").append(archive).append(", createdBy=").append(createdBy).append(", created=").append(created).append(", documentData=")
-			.append(documentData).append(", metadata=").append(metadata).append("]");
+			", description=").append(description).append(", confidentiality=").append(confidentiality).append(", archive=").append(archive).append(", createdBy=").append(createdBy).append(", created=").append(created).append(", fileSet=")
+			.append(fileSet).append(", metadataSet=").append(metadataSet).append("]");
 		return builder.toString();
 	}
 }
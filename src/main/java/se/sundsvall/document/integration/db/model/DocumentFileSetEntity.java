@@ -0,0 +1,90 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+
+import static jakarta.persistence.CascadeType.ALL;
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * An immutable set of files. A file set is shared by all document revisions that have the same files and is never
+ * modified once persisted, a modification of the files of a document results in a new file set.
+ */
+@Entity
+@Table(name = "document_file_set")
+public class DocumentFileSetEntity implements Serializable {
+
+	private static final long serialVersionUID = 2186401585378913478L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@OneToMany(cascade = ALL, orphanRemoval = true)
+	@JoinColumn(name = "file_set_id", referencedColumnName = "id", nullable = false, foreignKey = @ForeignKey(name = "fk_document_data_document_file_set"))
+	private List<DocumentDataEntity> documentData;
+
+	public static DocumentFileSetEntity create() {
+		return new DocumentFileSetEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public DocumentFileSetEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public List<DocumentDataEntity> getDocumentData() {
+		return documentData;
+	}
+
+	public void setDocumentData(List<DocumentDataEntity> documentData) {
+		this.documentData = documentData;
+	}
+
+	public DocumentFileSetEntity withDocumentData(List<DocumentDataEntity> documentData) {
+		this.documentData = documentData;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(documentData, id);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentFileSetEntity other)) { return false; }
+		return Objects.equals(documentData, other.documentData) && Objects.equals(id, other.id);
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder();
+		builder.append("DocumentFileSetEntity [id=").append(id).append(", documentData=").append(documentData).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,95 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.ForeignKey;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.util.List;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+
+import static jakarta.persistence.FetchType.EAGER;
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * An immutable set of metadata. A metadata set is shared by all document revisions that have the same metadata and is
+ * never modified once persisted, a modification of the metadata of a document results in a new metadata set.
+ */
+@Entity
+@Table(name = "document_metadata_set")
+public class DocumentMetadataSetEntity implements Serializable {
+
+	private static final long serialVersionUID = -3170693409178526512L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@ElementCollection(fetch = EAGER)
+	@CollectionTable(name = "document_metadata", indexes = {
+		@Index(name = "ix_key_value", columnList = "key, value"),
+		@Index(name = "ix_metadata_set_id_key_value", columnList = "metadata_set_id, key, value")
+	}, joinColumns = @JoinColumn(name = "metadata_set_id", referencedColumnName = "id", foreignKey = @ForeignKey(name = "fk_document_metadata_document_metadata_set")))
+	private List<DocumentMetadataEmbeddable> metadata;
+
+	public static DocumentMetadataSetEntity create() {
+		return new DocumentMetadataSetEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public DocumentMetadataSetEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public List<DocumentMetadataEmbeddable> getMetadata() {
+		return metadata;
+	}
+
+	public void setMetadata(List<DocumentMetadataEmbeddable> metadata) {
+		this.metadata = metadata;
+	}
+
+	public DocumentMetadataSetEntity withMetadata(List<DocumentMetadataEmbeddable> metadata) {
+		this.metadata = metadata;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(id, metadata);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final DocumentMetadataSetEntity other)) { return false; }
+		return Objects.equals(id, other.id) && Objects.equals(metadata, other.metadata);
+	}
+
+	@Override
+	public String toString() {
+		final var builder = new StringBuilder();
+		builder.append("DocumentMetadataSetEntity [id=").append(id).append(", metadata=").append(metadata).append("]");
+		return builder.toString();
+	}
+}
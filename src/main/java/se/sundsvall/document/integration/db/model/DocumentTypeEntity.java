@@ -1,6 +1,8 @@
 package se.sundsvall.document.integration.db.model;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
@@ -10,11 +12,16 @@ import jakarta.persistence.UniqueConstraint;
 import java.io.Serializable;
 import java.time.OffsetDateTime;
 import java.util.Objects;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.TimeZoneStorage;
-import org.hibernate.annotations.UuidGenerator;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
 import se.sundsvall.document.integration.db.model.listener.DocumentTypeEntityListener;
 
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
 
 @Entity
 @Table(name = "document_type", uniqueConstraints = {
@@ -26,13 +33,19 @@ import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
 	@Index(name = "ix_municipality_id", columnList = "municipality_id")
 })
 @EntityListeners(DocumentTypeEntityListener.class)
+@Cacheable
+@Cache(usage = READ_WRITE, region = DocumentTypeEntity.CACHE_REGION)
 public class DocumentTypeEntity implements Serializable {
 
+	public static final String CACHE_REGION = "document-type";
+
 	private static final long serialVersionUID = -4452832623957756766L;
 
 	@Id
-	@UuidGenerator
-	@Column(name = "id")
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
 	private String id;
 
 	@Column(name = "municipality_id")
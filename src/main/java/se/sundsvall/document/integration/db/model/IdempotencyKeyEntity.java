@@ -0,0 +1,182 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * An idempotency key of a create request. The registration number is null while the request is in progress. The
+ * fingerprint identifies the content of the request, so that the key is not reused for another request.
+ */
+@Entity
+@Table(
+	name = "idempotency_key",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uq_municipality_id_and_idempotency_key", columnNames = {
+			"municipality_id", "idempotency_key"
+		}),
+	},
+	indexes = {
+		@Index(name = "ix_expires", columnList = "expires")
+	})
+public class IdempotencyKeyEntity implements Serializable {
+
+	private static final long serialVersionUID = 3216524719839484416L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "idempotency_key", nullable = false)
+	private String idempotencyKey;
+
+	@Column(name = "registration_number")
+	private String registrationNumber;
+
+	@Column(name = "fingerprint", length = 64)
+	private String fingerprint;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@Column(name = "expires", nullable = false)
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime expires;
+
+	public static IdempotencyKeyEntity create() {
+		return new IdempotencyKeyEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public IdempotencyKeyEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public IdempotencyKeyEntity withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getIdempotencyKey() {
+		return idempotencyKey;
+	}
+
+	public void setIdempotencyKey(String idempotencyKey) {
+		this.idempotencyKey = idempotencyKey;
+	}
+
+	public IdempotencyKeyEntity withIdempotencyKey(String idempotencyKey) {
+		this.idempotencyKey = idempotencyKey;
+		return this;
+	}
+
+	public String getRegistrationNumber() {
+		return registrationNumber;
+	}
+
+	public void setRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+	}
+
+	public IdempotencyKeyEntity withRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+		return this;
+	}
+
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	public void setFingerprint(String fingerprint) {
+		this.fingerprint = fingerprint;
+	}
+
+	public IdempotencyKeyEntity withFingerprint(String fingerprint) {
+		this.fingerprint = fingerprint;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public IdempotencyKeyEntity withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	public OffsetDateTime getExpires() {
+		return expires;
+	}
+
+	public void setExpires(OffsetDateTime expires) {
+		this.expires = expires;
+	}
+
+	public IdempotencyKeyEntity withExpires(OffsetDateTime expires) {
+		this.expires = expires;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(created, expires, fingerprint, id, idempotencyKey, municipalityId, registrationNumber);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final IdempotencyKeyEntity other)) { return false; }
+		return Objects.equals(created, other.created) && Objects.equals(expires, other.expires) && Objects.equals(fingerprint, other.fingerprint) && Objects.equals(id, other.id) && Objects.equals(idempotencyKey, other.idempotencyKey)
+			&& Objects.equals(municipalityId, other.municipalityId) && Objects.equals(registrationNumber, other.registrationNumber);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("IdempotencyKeyEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", idempotencyKey=").append(idempotencyKey).append(", registrationNumber=").append(registrationNumber)
+			.append(", fingerprint=").append(fingerprint).append(", created=").append(created).append(", expires=").append(expires).append("]");
+		return builder.toString();
+	}
+}
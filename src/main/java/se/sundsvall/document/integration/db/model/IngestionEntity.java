@@ -0,0 +1,288 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+
+import static jakarta.persistence.EnumType.STRING;
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
+import static org.hibernate.type.SqlTypes.VARCHAR;
+
+/**
+ * An asynchronous ingestion of a document or a file. The request is kept as JSON and the files are spooled to the local
+ * disk of the instance that received the request, until a worker has persisted them.
+ */
+@Entity
+@Table(
+	name = "ingestion",
+	indexes = {
+		@Index(name = "ix_status", columnList = "status"),
+		@Index(name = "ix_expires", columnList = "expires")
+	})
+public class IngestionEntity implements Serializable {
+
+	private static final long serialVersionUID = 3841907356012877419L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Enumerated(STRING)
+	@JdbcTypeCode(VARCHAR)
+	@Column(name = "operation", nullable = false)
+	private IngestionOperation operation;
+
+	@Enumerated(STRING)
+	@JdbcTypeCode(VARCHAR)
+	@Column(name = "status", nullable = false)
+	private IngestionStatus status;
+
+	@Column(name = "registration_number")
+	private String registrationNumber;
+
+	@Column(name = "expected_revision")
+	private Integer expectedRevision;
+
+	@Column(name = "revision")
+	private Integer revision;
+
+	@Lob
+	@Column(name = "request", nullable = false)
+	private String request;
+
+	@Lob
+	@Column(name = "files", nullable = false)
+	private String files;
+
+	@Column(name = "error", length = 2048)
+	private String error;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@Column(name = "modified")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime modified;
+
+	@Column(name = "expires", nullable = false)
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime expires;
+
+	public static IngestionEntity create() {
+		return new IngestionEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public IngestionEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public IngestionEntity withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public IngestionOperation getOperation() {
+		return operation;
+	}
+
+	public void setOperation(IngestionOperation operation) {
+		this.operation = operation;
+	}
+
+	public IngestionEntity withOperation(IngestionOperation operation) {
+		this.operation = operation;
+		return this;
+	}
+
+	public IngestionStatus getStatus() {
+		return status;
+	}
+
+	public void setStatus(IngestionStatus status) {
+		this.status = status;
+	}
+
+	public IngestionEntity withStatus(IngestionStatus status) {
+		this.status = status;
+		return this;
+	}
+
+	public String getRegistrationNumber() {
+		return registrationNumber;
+	}
+
+	public void setRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+	}
+
+	public IngestionEntity withRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+		return this;
+	}
+
+	public Integer getExpectedRevision() {
+		return expectedRevision;
+	}
+
+	public void setExpectedRevision(Integer expectedRevision) {
+		this.expectedRevision = expectedRevision;
+	}
+
+	public IngestionEntity withExpectedRevision(Integer expectedRevision) {
+		this.expectedRevision = expectedRevision;
+		return this;
+	}
+
+	public Integer getRevision() {
+		return revision;
+	}
+
+	public void setRevision(Integer revision) {
+		this.revision = revision;
+	}
+
+	public IngestionEntity withRevision(Integer revision) {
+		this.revision = revision;
+		return this;
+	}
+
+	public String getRequest() {
+		return request;
+	}
+
+	public void setRequest(String request) {
+		this.request = request;
+	}
+
+	public IngestionEntity withRequest(String request) {
+		this.request = request;
+		return this;
+	}
+
+	public String getFiles() {
+		return files;
+	}
+
+	public void setFiles(String files) {
+		this.files = files;
+	}
+
+	public IngestionEntity withFiles(String files) {
+		this.files = files;
+		return this;
+	}
+
+	public String getError() {
+		return error;
+	}
+
+	public void setError(String error) {
+		this.error = error;
+	}
+
+	public IngestionEntity withError(String error) {
+		this.error = error;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public IngestionEntity withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	public OffsetDateTime getModified() {
+		return modified;
+	}
+
+	public void setModified(OffsetDateTime modified) {
+		this.modified = modified;
+	}
+
+	public IngestionEntity withModified(OffsetDateTime modified) {
+		this.modified = modified;
+		return this;
+	}
+
+	public OffsetDateTime getExpires() {
+		return expires;
+	}
+
+	public void setExpires(OffsetDateTime expires) {
+		this.expires = expires;
+	}
+
+	public IngestionEntity withExpires(OffsetDateTime expires) {
+		this.expires = expires;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(created, error, expectedRevision, expires, files, id, modified, municipalityId, operation, registrationNumber, request, revision, status);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final IngestionEntity other)) { return false; }
+		return Objects.equals(created, other.created) && Objects.equals(error, other.error) && Objects.equals(expectedRevision, other.expectedRevision) && Objects.equals(expires, other.expires)
+			&& Objects.equals(files, other.files) && Objects.equals(id, other.id) && Objects.equals(modified, other.modified) && Objects.equals(municipalityId, other.municipalityId)
+			&& (operation == other.operation) && Objects.equals(registrationNumber, other.registrationNumber) && Objects.equals(request, other.request) && Objects.equals(revision, other.revision)
+			&& (status == other.status);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("IngestionEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", operation=").append(operation).append(", status=").append(status)
+			.append(", registrationNumber=").append(registrationNumber).append(", expectedRevision=").append(expectedRevision).append(", revision=").append(revision)
+			.append(", request=").append(request).append(", files=").append(files).append(", error=").append(error).append(", created=").append(created)
+			.append(", modified=").append(modified).append(", expires=").append(expires).append("]");
+		return builder.toString();
+	}
+}
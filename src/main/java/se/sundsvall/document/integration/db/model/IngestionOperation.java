@@ -0,0 +1,8 @@
+package se.sundsvall.document.integration.db.model;
+
+public enum IngestionOperation {
+	/** A new document is created. */
+	CREATE_DOCUMENT,
+	/** A file is added to (or replaced on) an existing document. */
+	ADD_OR_REPLACE_FILE
+}
@@ -0,0 +1,12 @@
+package se.sundsvall.document.integration.db.model;
+
+public enum IngestionStatus {
+	/** The request has been spooled and is waiting for a worker. */
+	PENDING,
+	/** The request is being persisted. */
+	PROCESSING,
+	/** The request has been persisted. */
+	COMPLETED,
+	/** The request could not be persisted. */
+	FAILED
+}
@@ -1,6 +1,7 @@
 package se.sundsvall.document.integration.db.model;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EntityListeners;
 import jakarta.persistence.Id;
@@ -10,11 +11,14 @@ import jakarta.persistence.UniqueConstraint;
 import java.io.Serializable;
 import java.time.OffsetDateTime;
 import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.TimeZoneStorage;
-import org.hibernate.annotations.UuidGenerator;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
 import se.sundsvall.document.integration.db.model.listener.RegistrationNumberSequenceEntityListener;
 
 import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
 
 @Entity
 @Table(
@@ -31,8 +35,10 @@ public class RegistrationNumberSequenceEntity implements Serializable {
 	private static final long serialVersionUID = -6803997089374760074L;
 
 	@Id
-	@UuidGenerator
-	@Column(name = "id")
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
 	private String id;
 
 	@Column(name = "municipality_id")
@@ -0,0 +1,14 @@
+package se.sundsvall.document.integration.db.model;
+
+public enum TextIndexStatus {
+	/** Text has not been extracted yet (or should be extracted again). */
+	PENDING,
+	/** Text is being extracted by a worker, which has claimed the file. */
+	PROCESSING,
+	/** Text has been extracted and indexed. */
+	INDEXED,
+	/** File is not extracted due to its mime type or size. */
+	SKIPPED,
+	/** Extraction of the file failed. */
+	FAILED
+}
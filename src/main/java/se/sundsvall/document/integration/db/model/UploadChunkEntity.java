@@ -0,0 +1,128 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.io.Serializable;
+import java.sql.Blob;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * A chunk of the content of an {@link UploadEntity}, starting at the offset of the chunk within the file.
+ */
+@Entity
+@Table(
+	name = "upload_chunk",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uq_upload_id_and_chunk_offset", columnNames = {
+			"upload_id", "chunk_offset"
+		}),
+	})
+public class UploadChunkEntity implements Serializable {
+
+	private static final long serialVersionUID = 7420553617359251410L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "upload_id", nullable = false, length = 16)
+	private String uploadId;
+
+	@Column(name = "chunk_offset", nullable = false)
+	private long chunkOffset;
+
+	@Lob
+	@Column(name = "content", columnDefinition = "longblob")
+	private Blob content;
+
+	public static UploadChunkEntity create() {
+		return new UploadChunkEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public UploadChunkEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getUploadId() {
+		return uploadId;
+	}
+
+	public void setUploadId(String uploadId) {
+		this.uploadId = uploadId;
+	}
+
+	public UploadChunkEntity withUploadId(String uploadId) {
+		this.uploadId = uploadId;
+		return this;
+	}
+
+	public long getChunkOffset() {
+		return chunkOffset;
+	}
+
+	public void setChunkOffset(long chunkOffset) {
+		this.chunkOffset = chunkOffset;
+	}
+
+	public UploadChunkEntity withChunkOffset(long chunkOffset) {
+		this.chunkOffset = chunkOffset;
+		return this;
+	}
+
+	public Blob getContent() {
+		return content;
+	}
+
+	public void setContent(Blob content) {
+		this.content = content;
+	}
+
+	public UploadChunkEntity withContent(Blob content) {
+		this.content = content;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(chunkOffset, content, id, uploadId);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final UploadChunkEntity other)) { return false; }
+		return (chunkOffset == other.chunkOffset) && Objects.equals(content, other.content) && Objects.equals(id, other.id) && Objects.equals(uploadId, other.uploadId);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("UploadChunkEntity [id=").append(id).append(", uploadId=").append(uploadId).append(", chunkOffset=").append(chunkOffset)
+			.append(", content=").append(content).append("]");
+		return builder.toString();
+	}
+}
@@ -0,0 +1,225 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * A resumable upload of a file to a document. The content is received in chunks, see {@link UploadChunkEntity}.
+ */
+@Entity
+@Table(
+	name = "upload",
+	indexes = {
+		@Index(name = "ix_expires", columnList = "expires")
+	})
+public class UploadEntity implements Serializable {
+
+	private static final long serialVersionUID = -2817046218829870318L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "registration_number", nullable = false)
+	private String registrationNumber;
+
+	@Column(name = "file_name", nullable = false)
+	private String fileName;
+
+	@Column(name = "mime_type")
+	private String mimeType;
+
+	@Column(name = "file_size_in_bytes", nullable = false)
+	private long fileSizeInBytes;
+
+	@Column(name = "received_bytes", nullable = false)
+	private long receivedBytes;
+
+	@Column(name = "created_by")
+	private String createdBy;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	@Column(name = "expires", nullable = false)
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime expires;
+
+	public static UploadEntity create() {
+		return new UploadEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public UploadEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public UploadEntity withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getRegistrationNumber() {
+		return registrationNumber;
+	}
+
+	public void setRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+	}
+
+	public UploadEntity withRegistrationNumber(String registrationNumber) {
+		this.registrationNumber = registrationNumber;
+		return this;
+	}
+
+	public String getFileName() {
+		return fileName;
+	}
+
+	public void setFileName(String fileName) {
+		this.fileName = fileName;
+	}
+
+	public UploadEntity withFileName(String fileName) {
+		this.fileName = fileName;
+		return this;
+	}
+
+	public String getMimeType() {
+		return mimeType;
+	}
+
+	public void setMimeType(String mimeType) {
+		this.mimeType = mimeType;
+	}
+
+	public UploadEntity withMimeType(String mimeType) {
+		this.mimeType = mimeType;
+		return this;
+	}
+
+	public long getFileSizeInBytes() {
+		return fileSizeInBytes;
+	}
+
+	public void setFileSizeInBytes(long fileSizeInBytes) {
+		this.fileSizeInBytes = fileSizeInBytes;
+	}
+
+	public UploadEntity withFileSizeInBytes(long fileSizeInBytes) {
+		this.fileSizeInBytes = fileSizeInBytes;
+		return this;
+	}
+
+	public long getReceivedBytes() {
+		return receivedBytes;
+	}
+
+	public void setReceivedBytes(long receivedBytes) {
+		this.receivedBytes = receivedBytes;
+	}
+
+	public UploadEntity withReceivedBytes(long receivedBytes) {
+		this.receivedBytes = receivedBytes;
+		return this;
+	}
+
+	public String getCreatedBy() {
+		return createdBy;
+	}
+
+	public void setCreatedBy(String createdBy) {
+		this.createdBy = createdBy;
+	}
+
+	public UploadEntity withCreatedBy(String createdBy) {
+		this.createdBy = createdBy;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public UploadEntity withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	public OffsetDateTime getExpires() {
+		return expires;
+	}
+
+	public void setExpires(OffsetDateTime expires) {
+		this.expires = expires;
+	}
+
+	public UploadEntity withExpires(OffsetDateTime expires) {
+		this.expires = expires;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(created, createdBy, expires, fileName, fileSizeInBytes, id, mimeType, municipalityId, receivedBytes, registrationNumber);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final UploadEntity other)) { return false; }
+		return Objects.equals(created, other.created) && Objects.equals(createdBy, other.createdBy) && Objects.equals(expires, other.expires) && Objects.equals(fileName, other.fileName)
+			&& (fileSizeInBytes == other.fileSizeInBytes) && Objects.equals(id, other.id) && Objects.equals(mimeType, other.mimeType) && Objects.equals(municipalityId, other.municipalityId)
+			&& (receivedBytes == other.receivedBytes) && Objects.equals(registrationNumber, other.registrationNumber);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("UploadEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", registrationNumber=").append(registrationNumber)
+			.append(", fileName=").append(fileName).append(", mimeType=").append(mimeType).append(", fileSizeInBytes=").append(fileSizeInBytes)
+			.append(", receivedBytes=").append(receivedBytes).append(", createdBy=").append(createdBy).append(", created=").append(created).append(", expires=").append(expires).append("]");
+		return builder.toString();
+	}
+}
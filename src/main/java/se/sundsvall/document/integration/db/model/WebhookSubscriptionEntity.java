@@ -0,0 +1,212 @@
+package se.sundsvall.document.integration.db.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.io.Serializable;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.TimeZoneStorage;
+import se.sundsvall.document.integration.db.model.converter.UuidBinaryConverter;
+import se.sundsvall.document.integration.db.model.generator.ConfigurableUuid;
+import se.sundsvall.document.integration.db.model.listener.WebhookSubscriptionEntityListener;
+
+import static org.hibernate.annotations.TimeZoneStorageType.NORMALIZE;
+import static org.hibernate.type.SqlTypes.BINARY;
+
+/**
+ * A subscription to notifications of document changes within a municipality. The last sequence number is the
+ * position in the change feed up to which the changes have been delivered.
+ */
+@Entity
+@Table(
+	name = "webhook_subscription",
+	indexes = {
+		@Index(name = "ix_municipality_id", columnList = "municipality_id")
+	})
+@EntityListeners(WebhookSubscriptionEntityListener.class)
+public class WebhookSubscriptionEntity implements Serializable {
+
+	private static final long serialVersionUID = 7925136016722046571L;
+
+	@Id
+	@ConfigurableUuid
+	@Convert(converter = UuidBinaryConverter.class)
+	@JdbcTypeCode(BINARY)
+	@Column(name = "id", length = 16)
+	private String id;
+
+	@Column(name = "municipality_id", nullable = false)
+	private String municipalityId;
+
+	@Column(name = "url", nullable = false, length = 2048)
+	private String url;
+
+	@Column(name = "document_type")
+	private String documentType;
+
+	@Column(name = "last_sequence_number", nullable = false)
+	private long lastSequenceNumber;
+
+	@Column(name = "failed_attempts", nullable = false)
+	private int failedAttempts;
+
+	@Column(name = "next_attempt")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime nextAttempt;
+
+	@Column(name = "locked_until")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime lockedUntil;
+
+	@Column(name = "created")
+	@TimeZoneStorage(NORMALIZE)
+	private OffsetDateTime created;
+
+	public static WebhookSubscriptionEntity create() {
+		return new WebhookSubscriptionEntity();
+	}
+
+	public String getId() {
+		return id;
+	}
+
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	public WebhookSubscriptionEntity withId(String id) {
+		this.id = id;
+		return this;
+	}
+
+	public String getMunicipalityId() {
+		return municipalityId;
+	}
+
+	public void setMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+	}
+
+	public WebhookSubscriptionEntity withMunicipalityId(String municipalityId) {
+		this.municipalityId = municipalityId;
+		return this;
+	}
+
+	public String getUrl() {
+		return url;
+	}
+
+	public void setUrl(String url) {
+		this.url = url;
+	}
+
+	public WebhookSubscriptionEntity withUrl(String url) {
+		this.url = url;
+		return this;
+	}
+
+	public String getDocumentType() {
+		return documentType;
+	}
+
+	public void setDocumentType(String documentType) {
+		this.documentType = documentType;
+	}
+
+	public WebhookSubscriptionEntity withDocumentType(String documentType) {
+		this.documentType = documentType;
+		return this;
+	}
+
+	public long getLastSequenceNumber() {
+		return lastSequenceNumber;
+	}
+
+	public void setLastSequenceNumber(long lastSequenceNumber) {
+		this.lastSequenceNumber = lastSequenceNumber;
+	}
+
+	public WebhookSubscriptionEntity withLastSequenceNumber(long lastSequenceNumber) {
+		this.lastSequenceNumber = lastSequenceNumber;
+		return this;
+	}
+
+	public int getFailedAttempts() {
+		return failedAttempts;
+	}
+
+	public void setFailedAttempts(int failedAttempts) {
+		this.failedAttempts = failedAttempts;
+	}
+
+	public WebhookSubscriptionEntity withFailedAttempts(int failedAttempts) {
+		this.failedAttempts = failedAttempts;
+		return this;
+	}
+
+	public OffsetDateTime getNextAttempt() {
+		return nextAttempt;
+	}
+
+	public void setNextAttempt(OffsetDateTime nextAttempt) {
+		this.nextAttempt = nextAttempt;
+	}
+
+	public WebhookSubscriptionEntity withNextAttempt(OffsetDateTime nextAttempt) {
+		this.nextAttempt = nextAttempt;
+		return this;
+	}
+
+	public OffsetDateTime getLockedUntil() {
+		return lockedUntil;
+	}
+
+	public void setLockedUntil(OffsetDateTime lockedUntil) {
+		this.lockedUntil = lockedUntil;
+	}
+
+	public WebhookSubscriptionEntity withLockedUntil(OffsetDateTime lockedUntil) {
+		this.lockedUntil = lockedUntil;
+		return this;
+	}
+
+	public OffsetDateTime getCreated() {
+		return created;
+	}
+
+	public void setCreated(OffsetDateTime created) {
+		this.created = created;
+	}
+
+	public WebhookSubscriptionEntity withCreated(OffsetDateTime created) {
+		this.created = created;
+		return this;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(created, documentType, failedAttempts, id, lastSequenceNumber, lockedUntil, municipalityId, nextAttempt, url);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) { return true; }
+		if (!(obj instanceof final WebhookSubscriptionEntity other)) { return false; }
+		return Objects.equals(created, other.created) && Objects.equals(documentType, other.documentType) && (failedAttempts == other.failedAttempts) && Objects.equals(id, other.id) && (lastSequenceNumber == other.lastSequenceNumber)
+			&& Objects.equals(lockedUntil, other.lockedUntil) && Objects.equals(municipalityId, other.municipalityId) && Objects.equals(nextAttempt, other.nextAttempt) && Objects.equals(url, other.url);
+	}
+
+	@Override
+	public String toString() {
+		final StringBuilder builder = new StringBuilder();
+		builder.append("WebhookSubscriptionEntity [id=").append(id).append(", municipalityId=").append(municipalityId).append(", url=").append(url).append(", documentType=").append(documentType).append(", lastSequenceNumber=")
+			.append(lastSequenceNumber).append(", failedAttempts=").append(failedAttempts).append(", nextAttempt=").append(nextAttempt).append(", lockedUntil=").append(lockedUntil).append(", created=").append(created).append("]");
+		return builder.toString();
+	}
+}
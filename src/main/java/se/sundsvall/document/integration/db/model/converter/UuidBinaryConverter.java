@@ -0,0 +1,62 @@
+package se.sundsvall.document.integration.db.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Stores ids, which are UUID strings in the entities, as the 16 bytes of the UUID in binary(16) columns. A binary id
+ * takes less than half the space of its string form, in the primary key index as well as in every secondary index
+ * and foreign key, as InnoDB stores the primary key in each of them.
+ *
+ * Native queries do not pass through the converter. They convert ids in SQL, with UNHEX and HEX, or in Java with
+ * {@link #toBinary(String)}.
+ */
+@Converter
+public class UuidBinaryConverter implements AttributeConverter<String, byte[]> {
+
+	private static final int UUID_LENGTH = 16;
+
+	@Override
+	public byte[] convertToDatabaseColumn(final String id) {
+		return toBinary(id);
+	}
+
+	@Override
+	public String convertToEntityAttribute(final byte[] binary) {
+		return fromBinary(binary);
+	}
+
+	/**
+	 * Converts an id to its binary form.
+	 *
+	 * @param  id                       the id, a UUID string.
+	 * @return                          the 16 bytes of the UUID, or null if the id is null.
+	 * @throws IllegalArgumentException if the id is not a UUID.
+	 */
+	public static byte[] toBinary(final String id) {
+		if (id == null) {
+			return null;
+		}
+		final var uuid = UUID.fromString(id);
+		return ByteBuffer.allocate(UUID_LENGTH)
+			.putLong(uuid.getMostSignificantBits())
+			.putLong(uuid.getLeastSignificantBits())
+			.array();
+	}
+
+	/**
+	 * Converts the binary form of an id to the id.
+	 *
+	 * @param  binary the 16 bytes of a UUID.
+	 * @return        the id as a UUID string, or null if the binary is null.
+	 */
+	public static String fromBinary(final byte[] binary) {
+		if (binary == null) {
+			return null;
+		}
+		final var buffer = ByteBuffer.wrap(binary);
+		return new UUID(buffer.getLong(), buffer.getLong()).toString();
+	}
+}
@@ -0,0 +1,21 @@
+package se.sundsvall.document.integration.db.model.generator;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Generates the id of an entity as a UUID string, time-ordered (version 7) or random (version 4) depending on
+ * configuration. See {@link ConfigurableUuidGenerator}.
+ */
+@IdGeneratorType(ConfigurableUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({
+	FIELD, METHOD
+})
+public @interface ConfigurableUuid {
+}
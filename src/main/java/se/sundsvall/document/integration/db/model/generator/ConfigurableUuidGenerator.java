@@ -0,0 +1,48 @@
+package se.sundsvall.document.integration.db.model.generator;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.uuid.StandardRandomStrategy;
+import org.hibernate.id.uuid.UuidValueGenerator;
+import org.hibernate.id.uuid.UuidVersion7Strategy;
+
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+
+/**
+ * Generates ids as UUID strings. Time-ordered (version 7) UUIDs begin with a millisecond timestamp, so new rows are
+ * appended at the end of the primary key index instead of being spread across it. Random (version 4) UUIDs are
+ * generated unless the Hibernate setting {@value #TIME_ORDERED_SETTING} is true, see IdGenerationProperties.
+ *
+ * Both kinds are stored the same way, as binary(16) (see UuidBinaryConverter), and can be mixed in a table, so the
+ * setting can be changed at any time.
+ */
+public class ConfigurableUuidGenerator implements BeforeExecutionGenerator {
+
+	public static final String TIME_ORDERED_SETTING = "document.id-generation.time-ordered";
+
+	private static final long serialVersionUID = 4830173316947751862L;
+
+	private final transient UuidValueGenerator generator;
+
+	public ConfigurableUuidGenerator(final ConfigurableUuid config, final Member member, final GeneratorCreationContext context) {
+		final var timeOrdered = context.getServiceRegistry().requireService(ConfigurationService.class)
+			.getSetting(TIME_ORDERED_SETTING, StandardConverters.BOOLEAN, false);
+		this.generator = Boolean.TRUE.equals(timeOrdered) ? UuidVersion7Strategy.INSTANCE : StandardRandomStrategy.INSTANCE;
+	}
+
+	@Override
+	public Object generate(final SharedSessionContractImplementor session, final Object owner, final Object currentValue, final EventType eventType) {
+		return generator.generateUuid(session).toString();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return INSERT_ONLY;
+	}
+}
@@ -0,0 +1,16 @@
+package se.sundsvall.document.integration.db.model.listener;
+
+import jakarta.persistence.PrePersist;
+import se.sundsvall.document.integration.db.model.DocumentChangeEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+
+public class DocumentChangeEntityListener {
+
+	@PrePersist
+	void prePersist(final DocumentChangeEntity entity) {
+		entity.setCreated(now(systemDefault()).truncatedTo(MILLIS));
+	}
+}
@@ -0,0 +1,18 @@
+package se.sundsvall.document.integration.db.model.listener;
+
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import se.sundsvall.document.integration.db.model.DocumentDataTextEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+
+public class DocumentDataTextEntityListener {
+
+	@PrePersist
+	@PreUpdate
+	void prePersistAndUpdate(final DocumentDataTextEntity entity) {
+		entity.setModified(now(systemDefault()).truncatedTo(MILLIS));
+	}
+}
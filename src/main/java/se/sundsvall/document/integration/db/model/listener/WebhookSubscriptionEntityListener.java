@@ -0,0 +1,16 @@
+package se.sundsvall.document.integration.db.model.listener;
+
+import jakarta.persistence.PrePersist;
+import se.sundsvall.document.integration.db.model.WebhookSubscriptionEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+
+public class WebhookSubscriptionEntityListener {
+
+	@PrePersist
+	void prePersist(final WebhookSubscriptionEntity entity) {
+		entity.setCreated(now(systemDefault()).truncatedTo(MILLIS));
+	}
+}
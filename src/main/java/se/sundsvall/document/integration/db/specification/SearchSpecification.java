@@ -1,173 +1,261 @@
 package se.sundsvall.document.integration.db.specification;
 
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
-import jakarta.persistence.criteria.Subquery;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import org.springframework.data.jpa.domain.Specification;
 import se.sundsvall.document.api.model.DocumentParameters;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity_;
+import se.sundsvall.document.integration.db.model.DocumentDataEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataEntity_;
+import se.sundsvall.document.integration.db.model.DocumentDataTextEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataTextEntity_;
 import se.sundsvall.document.integration.db.model.DocumentEntity;
 import se.sundsvall.document.integration.db.model.DocumentEntity_;
+import se.sundsvall.document.integration.db.model.DocumentFileSetEntity;
 import se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable;
+import se.sundsvall.document.integration.db.model.DocumentMetadataSetEntity;
 import se.sundsvall.document.integration.db.model.DocumentTypeEntity_;
-
-import static jakarta.persistence.criteria.JoinType.LEFT;
-import static org.apache.commons.lang3.StringUtils.EMPTY;
+import se.sundsvall.document.service.search.SearchQuery;
+import se.sundsvall.document.service.search.SearchQuery.And;
+import se.sundsvall.document.service.search.SearchQuery.Field;
+import se.sundsvall.document.service.search.SearchQuery.MatchType;
+import se.sundsvall.document.service.search.SearchQuery.Not;
+import se.sundsvall.document.service.search.SearchQuery.Or;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+import se.sundsvall.document.service.search.TextTokenizer;
+
+import static java.util.Collections.emptyList;
 import static se.sundsvall.document.integration.db.model.ConfidentialityEmbeddable_.CONFIDENTIAL;
+import static se.sundsvall.document.integration.db.model.DocumentDataEntity_.DOCUMENT_DATA_BINARY;
 import static se.sundsvall.document.integration.db.model.DocumentDataEntity_.FILE_NAME;
 import static se.sundsvall.document.integration.db.model.DocumentDataEntity_.MIME_TYPE;
+import static se.sundsvall.document.integration.db.model.DocumentDataTextEntity_.TERMS;
 import static se.sundsvall.document.integration.db.model.DocumentEntity_.CONFIDENTIALITY;
 import static se.sundsvall.document.integration.db.model.DocumentEntity_.CREATED_BY;
 import static se.sundsvall.document.integration.db.model.DocumentEntity_.DESCRIPTION;
-import static se.sundsvall.document.integration.db.model.DocumentEntity_.DOCUMENT_DATA;
-import static se.sundsvall.document.integration.db.model.DocumentEntity_.METADATA;
+import static se.sundsvall.document.integration.db.model.DocumentEntity_.FILE_SET;
+import static se.sundsvall.document.integration.db.model.DocumentEntity_.METADATA_SET;
 import static se.sundsvall.document.integration.db.model.DocumentEntity_.MUNICIPALITY_ID;
 import static se.sundsvall.document.integration.db.model.DocumentEntity_.REGISTRATION_NUMBER;
 import static se.sundsvall.document.integration.db.model.DocumentEntity_.REVISION;
+import static se.sundsvall.document.integration.db.model.DocumentFileSetEntity_.DOCUMENT_DATA;
 import static se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable_.KEY;
 import static se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable_.VALUE;
+import static se.sundsvall.document.integration.db.model.DocumentMetadataSetEntity_.METADATA;
 
 public interface SearchSpecification {
 
 	static Specification<DocumentEntity> withSearchParameters(final DocumentParameters parameters) {
 		return onlyLatestRevisionOfDocuments(parameters.isOnlyLatestRevision())
-			.and(matchesMunicipalityId(parameters.getMunicipalityId(), false))
+			.and(matchesMunicipalityId(parameters.getMunicipalityId()))
 			.and(includeConfidentialDocuments(parameters.isIncludeConfidential()))
 			.and(matchesType(parameters.getDocumentTypes()))
 			.and(matchesMetaData(parameters.getMetaData()));
 	}
 
+	/**
+	 * Compiles each metadata criterion into EXISTS subqueries correlated on the metadata set of the document, so that a
+	 * document is returned once regardless of how many of its metadata entries match. The columns are compared without
+	 * functions applied to them, so the comparisons can use the index on metadata set, key and value (comparison is case
+	 * insensitive due to the collation of the database). A criterion matches when:
+	 * <ul>
+	 * <li>key only: a metadata entry with the key exists.</li>
+	 * <li>matchesAny: a metadata entry (with the key, if given) has one of the values.</li>
+	 * <li>matchesAll: for each of the values, a metadata entry (with the key, if given) has the value.</li>
+	 * </ul>
+	 * All criteria must match.
+	 */
 	static Specification<DocumentEntity> matchesMetaData(final List<DocumentParameters.MetaData> metaData) {
-		if (metaData == null || metaData.isEmpty()) {
-			return (root, query, cb) -> cb.and();
-		}
+		return (root, query, cb) -> cb.and(Optional.ofNullable(metaData).orElse(emptyList()).stream()
+			.filter(Objects::nonNull)
+			.map(criterion -> toMetaDataPredicate(criterion, root, query, cb))
+			.toArray(Predicate[]::new));
+	}
 
-		Specification<DocumentEntity> metaDataSpec = (root, query, cb) -> cb.and();
+	private static Predicate toMetaDataPredicate(DocumentParameters.MetaData criterion, Root<DocumentEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		final var key = criterion.getKey();
+		final var matchesAny = distinctValues(criterion.getMatchesAny());
+		final var matchesAll = distinctValues(criterion.getMatchesAll());
+		final var predicates = new ArrayList<Predicate>();
 
-		for (var data : metaData) {
-			var singleMetaDataSpec = Specification.where(hasKeyAndMatchesAll(data))
-				.and(hasKeyAndMatchesAny(data))
-				.and(hasOnlyKey(data))
-				.and(hasOnlyMatchesAny(data))
-				.and(hasOnlyMatchesAll(data));
+		if (!matchesAny.isEmpty()) {
+			predicates.add(existsMetadata(root, query, cb, metadata -> withKey(cb, metadata, key, metadata.get(VALUE).in(matchesAny))));
+		}
+		matchesAll.forEach(value -> predicates.add(existsMetadata(root, query, cb, metadata -> withKey(cb, metadata, key, cb.equal(metadata.get(VALUE), value)))));
 
-			metaDataSpec = metaDataSpec.and(singleMetaDataSpec);
+		if (predicates.isEmpty() && key != null) {
+			predicates.add(existsMetadata(root, query, cb, metadata -> cb.equal(metadata.get(KEY), key)));
 		}
 
-		return metaDataSpec;
+		return cb.and(predicates.toArray(Predicate[]::new));
 	}
 
-	static Specification<DocumentEntity> hasKeyAndMatchesAll(DocumentParameters.MetaData metaData) {
-		return (root, query, cb) -> {
-			if (metaData.getKey() == null || metaData.getMatchesAll() == null || metaData.getMatchesAll().isEmpty()) {
-				return cb.and();
-			}
-
-			Subquery<Long> subquery = query.subquery(Long.class);
-			Root<DocumentEntity> subRoot = subquery.from(DocumentEntity.class);
-			Join<DocumentEntity, DocumentMetadataEmbeddable> subMetadataJoin = subRoot.join(METADATA, JoinType.INNER);
-
-			subquery.select(cb.count(subMetadataJoin.get(VALUE)));
-			subquery.where(
-				cb.equal(subRoot, root),
-				cb.equal(cb.lower(subMetadataJoin.get(KEY)), metaData.getKey().toLowerCase()),
-				subMetadataJoin.get(VALUE).in(
-					metaData.getMatchesAll().stream()
-						.map(String::toLowerCase)
-						.toList()));
+	private static Predicate withKey(CriteriaBuilder cb, Join<DocumentMetadataSetEntity, DocumentMetadataEmbeddable> metadata, String key, Predicate valuePredicate) {
+		return key == null ? valuePredicate : cb.and(cb.equal(metadata.get(KEY), key), valuePredicate);
+	}
 
-			return cb.equal(subquery, (long) metaData.getMatchesAll().size());
-		};
+	private static List<String> distinctValues(List<String> values) {
+		return Optional.ofNullable(values).orElse(emptyList()).stream()
+			.filter(Objects::nonNull)
+			.distinct()
+			.toList();
 	}
 
-	static Specification<DocumentEntity> hasKeyAndMatchesAny(DocumentParameters.MetaData metaData) {
+	private static Specification<DocumentEntity> matchesType(final List<String> type) {
 		return (root, query, cb) -> {
-			if (metaData.getKey() == null || metaData.getMatchesAny() == null || metaData.getMatchesAny().isEmpty()) {
+			if (type == null || type.isEmpty()) {
 				return cb.and();
 			}
+			var lowerCaseValues = type.stream()
+				.filter(Objects::nonNull)
+				.map(String::toLowerCase)
+				.toList();
+			return cb.lower(root.join(DocumentEntity_.TYPE, JoinType.INNER).get(DocumentTypeEntity_.TYPE)).in(lowerCaseValues);
+		};
+	}
 
-			Join<DocumentEntity, DocumentMetadataEmbeddable> metadataJoin = root.join(METADATA, JoinType.INNER);
+	static Specification<DocumentEntity> withSearchQuery(SearchQuery searchQuery, boolean includeConfidential, boolean onlyLatestRevision, String municipalityId) {
+		return onlyLatestRevisionOfDocuments(onlyLatestRevision)
+			.and(matchesMunicipalityId(municipalityId))
+			.and(matchesSearchQuery(searchQuery))
+			.and(includeConfidentialDocuments(includeConfidential));
+	}
 
-			var anyValuePredicates = metaData.getMatchesAny().stream()
-				.map(value -> cb.equal(cb.lower(metadataJoin.get(VALUE)), value.toLowerCase()))
-				.toList();
+	/**
+	 * Finds the text indexes, among the provided ones, whose terms matches a content term of a search query.
+	 *
+	 * @param  term the content term to match.
+	 * @param  ids  the ids of the text indexes (i.e. binary ids) to look in.
+	 * @return      a specification matching the text indexes that contains the term.
+	 */
+	static Specification<DocumentDataTextEntity> withContentMatching(Term term, Collection<String> ids) {
+		return (root, query, cb) -> cb.and(root.get(DocumentDataTextEntity_.ID).in(ids), matchesContent(root.get(DocumentDataTextEntity_.ID), query, cb, term));
+	}
 
-			return cb.and(
-				cb.equal(cb.lower(metadataJoin.get(KEY)), metaData.getKey().toLowerCase()),
-				cb.or(anyValuePredicates.toArray(new Predicate[0])));
-		};
+	/**
+	 * Compiles the search query into predicates. Terms without wildcards are compiled to equality comparisons and prefix
+	 * terms to LIKE 'value%' comparisons, both which can use the indexes on the columns (comparison is case insensitive
+	 * due to the collation of the database). Files and metadata are matched using EXISTS subqueries, which avoids
+	 * multiplying result rows with joins. The extracted text of files is matched against the terms of the text index, see
+	 * {@link #matchesContent(Expression, AbstractQuery, CriteriaBuilder, Term)}.
+	 */
+	private static Specification<DocumentEntity> matchesSearchQuery(SearchQuery searchQuery) {
+		return (root, query, cb) -> toPredicate(searchQuery, root, query, cb);
 	}
 
-	static Specification<DocumentEntity> hasOnlyKey(DocumentParameters.MetaData metaData) {
-		return (root, query, cb) -> {
-			if (metaData.getKey() == null || (metaData.getMatchesAny() != null && !metaData.getMatchesAny().isEmpty()) ||
-				(metaData.getMatchesAll() != null && !metaData.getMatchesAll().isEmpty())) {
-				return cb.and();
-			}
-			return cb.equal(cb.lower(root.join(METADATA, JoinType.INNER).get(KEY)), metaData.getKey().toLowerCase());
+	private static Predicate toPredicate(SearchQuery searchQuery, Root<DocumentEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return switch (searchQuery) {
+			case And and -> cb.and(and.operands().stream()
+				.map(operand -> toPredicate(operand, root, query, cb))
+				.toArray(Predicate[]::new));
+			case Or or -> cb.or(or.operands().stream()
+				.map(operand -> toPredicate(operand, root, query, cb))
+				.toArray(Predicate[]::new));
+			case Not not -> cb.not(toPredicate(not.operand(), root, query, cb));
+			case Term term -> toPredicate(term, root, query, cb);
 		};
 	}
 
-	static Specification<DocumentEntity> hasOnlyMatchesAny(DocumentParameters.MetaData metaData) {
-		return (root, query, cb) -> {
-			if (metaData.getMatchesAny() == null || metaData.getMatchesAny().isEmpty() || metaData.getKey() != null) {
-				return cb.and();
-			}
-
-			var anyValuePredicates = metaData.getMatchesAny().stream()
-				.map(value -> cb.equal(cb.lower(root.join(METADATA, JoinType.INNER).get(VALUE)), value.toLowerCase()))
-				.toList();
+	private static Predicate toPredicate(Term term, Root<DocumentEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		return switch (term.field()) {
+			case CREATED_BY -> matches(cb, root.get(CREATED_BY), term);
+			case DESCRIPTION -> matches(cb, root.get(DESCRIPTION), term);
+			case MUNICIPALITY_ID -> matches(cb, root.get(MUNICIPALITY_ID), term);
+			case REGISTRATION_NUMBER -> matches(cb, root.get(REGISTRATION_NUMBER), term);
+			case FILE -> existsDocumentData(root, query, cb, documentData -> matches(cb, documentData.get(FILE_NAME), term));
+			case MIME_TYPE -> existsDocumentData(root, query, cb, documentData -> matches(cb, documentData.get(MIME_TYPE), term));
+			case CONTENT -> existsContent(root, query, cb, term);
+			case META -> existsMetadata(root, query, cb, metadata -> Optional.ofNullable(term.metadataKey())
+				.map(key -> cb.and(cb.equal(metadata.get(KEY), key), matches(cb, metadata.get(VALUE), term)))
+				.orElseGet(() -> matches(cb, metadata.get(VALUE), term)));
+			case ANY -> term.matchType() == MatchType.ANY ? cb.and() : cb.or(
+				matches(cb, root.get(CREATED_BY), term),
+				matches(cb, root.get(DESCRIPTION), term),
+				matches(cb, root.get(MUNICIPALITY_ID), term),
+				matches(cb, root.get(REGISTRATION_NUMBER), term),
+				existsDocumentData(root, query, cb, documentData -> cb.or(matches(cb, documentData.get(FILE_NAME), term), matches(cb, documentData.get(MIME_TYPE), term))),
+				existsMetadata(root, query, cb, metadata -> cb.or(matches(cb, metadata.get(KEY), term), matches(cb, metadata.get(VALUE), term))),
+				term.isContentTerm() ? existsContent(root, query, cb, term) : cb.disjunction());
+		};
+	}
 
-			return cb.or(anyValuePredicates.toArray(new Predicate[0]));
+	private static Predicate matches(CriteriaBuilder cb, Expression<String> expression, Term term) {
+		return switch (term.matchType()) {
+			case EXACT -> cb.equal(expression, term.value());
+			case PREFIX -> cb.like(expression, escapeLikePattern(term.value()) + "%", '!');
+			case WILDCARD -> cb.like(expression, escapeLikePattern(term.value()).replace('*', '%'), '!');
+			case ANY -> cb.isNotNull(expression);
 		};
 	}
 
-	static Specification<DocumentEntity> hasOnlyMatchesAll(DocumentParameters.MetaData metaData) {
-		return (root, query, cb) -> {
-			if (metaData.getMatchesAll() == null || metaData.getMatchesAll().isEmpty() || metaData.getKey() != null) {
-				return cb.and();
-			}
+	private static Predicate existsDocumentData(Root<DocumentEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb, Function<Join<DocumentFileSetEntity, DocumentDataEntity>, Predicate> predicate) {
+		final var subquery = query.subquery(String.class);
+		final Join<DocumentFileSetEntity, DocumentDataEntity> documentData = subquery.correlate(root).join(FILE_SET).join(DOCUMENT_DATA);
+		return cb.exists(subquery.select(documentData.get(DocumentDataEntity_.ID)).where(predicate.apply(documentData)));
+	}
 
-			var allValuePredicates = metaData.getMatchesAll().stream()
-				.map(value -> cb.equal(cb.lower(root.join(METADATA, JoinType.INNER).get(VALUE)), value.toLowerCase()))
-				.toList();
+	private static Predicate existsMetadata(Root<DocumentEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb, Function<Join<DocumentMetadataSetEntity, DocumentMetadataEmbeddable>, Predicate> predicate) {
+		final var subquery = query.subquery(String.class);
+		final Join<DocumentMetadataSetEntity, DocumentMetadataEmbeddable> metadata = subquery.correlate(root).join(METADATA_SET).join(METADATA);
+		return cb.exists(subquery.select(metadata.get(KEY)).where(predicate.apply(metadata)));
+	}
 
-			return cb.and(allValuePredicates.toArray(new Predicate[0]));
-		};
+	private static Predicate existsContent(Root<DocumentEntity> root, CriteriaQuery<?> query, CriteriaBuilder cb, Term term) {
+		final var subquery = query.subquery(String.class);
+		final Join<DocumentFileSetEntity, DocumentDataEntity> documentData = subquery.correlate(root).join(FILE_SET).join(DOCUMENT_DATA);
+		return cb.exists(subquery.select(documentData.get(DocumentDataEntity_.ID))
+			.where(matchesContent(documentData.get(DOCUMENT_DATA_BINARY).get(DocumentDataBinaryEntity_.ID), subquery, cb, term)));
 	}
 
-	private static Specification<DocumentEntity> matchesType(final List<String> type) {
-		return (root, query, cb) -> {
-			if (type == null || type.isEmpty()) {
-				return cb.and();
-			}
-			var lowerCaseValues = type.stream()
-				.filter(Objects::nonNull)
-				.map(String::toLowerCase)
-				.toList();
-			return cb.lower(root.join(DocumentEntity_.TYPE, JoinType.INNER).get(DocumentTypeEntity_.TYPE)).in(lowerCaseValues);
-		};
+	/**
+	 * Matches a term against the text index of a binary. The term is tokenized the same way as the indexed text and each
+	 * token must exist in the index, i.e. a phrase matches files containing all words of the phrase. The last token of a
+	 * prefix term is matched as a prefix. Wildcard terms are matched as is against the indexed terms.
+	 */
+	private static Predicate matchesContent(Expression<String> binaryId, AbstractQuery<?> query, CriteriaBuilder cb, Term term) {
+		if (term.matchType() == MatchType.ANY || term.matchType() == MatchType.WILDCARD) {
+			return existsTextTerm(binaryId, query, cb, indexedTerm -> matches(cb, indexedTerm, term));
+		}
+
+		final var tokens = TextTokenizer.tokenize(term.value());
+		if (tokens.isEmpty()) {
+			return cb.disjunction(); // Nothing in the term can exist in the index
+		}
+
+		final var predicates = new Predicate[tokens.size()];
+		for (var i = 0; i < tokens.size(); i++) {
+			final var matchType = i == tokens.size() - 1 ? term.matchType() : MatchType.EXACT;
+			final var tokenTerm = new Term(Field.CONTENT, null, tokens.get(i), matchType);
+			predicates[i] = existsTextTerm(binaryId, query, cb, indexedTerm -> matches(cb, indexedTerm, tokenTerm));
+		}
+		return cb.and(predicates);
 	}
 
-	static Specification<DocumentEntity> withSearchQuery(String query, boolean includeConfidential, boolean onlyLatestRevision, String municipalityId) {
-		final var queryString = toQueryString(query);
+	private static Predicate existsTextTerm(Expression<String> binaryId, AbstractQuery<?> query, CriteriaBuilder cb, Function<Expression<String>, Predicate> predicate) {
+		final var subquery = query.subquery(String.class);
+		final var text = subquery.from(DocumentDataTextEntity.class);
+		final Join<DocumentDataTextEntity, String> indexedTerm = text.join(TERMS);
+		return cb.exists(subquery.select(text.get(DocumentDataTextEntity_.ID)).where(cb.equal(text.get(DocumentDataTextEntity_.ID), binaryId), predicate.apply(indexedTerm)));
+	}
 
-		return onlyLatestRevisionOfDocuments(onlyLatestRevision)
-			.and(matchesMunicipalityId(municipalityId, false))
-			.and(matchesCreatedBy(queryString)
-				.or(matchesDescription(queryString))
-				.or(matchesMunicipalityId(queryString, true))
-				.or(matchesRegistrationNumber(queryString))
-				.or(matchesFileName(queryString))
-				.or(matchesMimeType(queryString))
-				.or(matchesMetadataKey(queryString))
-				.or(matchesMetadataValue(queryString)))
-			.and(includeConfidentialDocuments(includeConfidential))
-			.and(distinct());
+	private static String escapeLikePattern(String value) {
+		// Exclamation mark is used as escape character since backslash is an escape character in MariaDB string literals
+		return value
+			.replace("!", "!!")
+			.replace("%", "!%")
+			.replace("_", "!_");
 	}
 
 	private static Specification<DocumentEntity> onlyLatestRevisionOfDocuments(boolean onlyLatestRevision) {
@@ -192,54 +280,7 @@ public interface SearchSpecification {
 		return (entity, cq, cb) -> cb.equal(entity.get(CONFIDENTIALITY).get(CONFIDENTIAL), false); // Return non-confidential documents only
 	}
 
-	private static Specification<DocumentEntity> matchesCreatedBy(String query) {
-		return (entity, cq, cb) -> cb.like(cb.lower(entity.get(CREATED_BY)), query);
-	}
-
-	private static Specification<DocumentEntity> matchesDescription(String query) {
-		return (entity, cq, cb) -> cb.like(cb.lower(entity.get(DESCRIPTION)), query);
-	}
-
-	private static Specification<DocumentEntity> matchesMunicipalityId(String query, boolean like) {
-		if (like) {
-			return (entity, cq, cb) -> cb.like(cb.lower(entity.get(MUNICIPALITY_ID)), query);
-		} else {
-			return (entity, cq, cb) -> cb.equal(cb.lower(entity.get(MUNICIPALITY_ID)), query);
-		}
-	}
-
-	private static Specification<DocumentEntity> matchesRegistrationNumber(String query) {
-		return (entity, cq, cb) -> cb.like(cb.lower(entity.get(REGISTRATION_NUMBER)), query);
-	}
-
-	private static Specification<DocumentEntity> matchesFileName(String query) {
-		return (entity, cq, cb) -> cb.like(cb.lower(entity.join(DOCUMENT_DATA, LEFT).get(FILE_NAME)), query);
-	}
-
-	private static Specification<DocumentEntity> matchesMimeType(String query) {
-		return (entity, cq, cb) -> cb.like(cb.lower(entity.join(DOCUMENT_DATA, LEFT).get(MIME_TYPE)), query);
-	}
-
-	private static Specification<DocumentEntity> matchesMetadataKey(String query) {
-		return (entity, cq, cb) -> cb.like(cb.lower(entity.join(METADATA, LEFT).get(KEY)), query);
-	}
-
-	private static Specification<DocumentEntity> matchesMetadataValue(String query) {
-		return (entity, cq, cb) -> cb.like(cb.lower(entity.join(METADATA, LEFT).get(VALUE)), query);
-	}
-
-	private static Specification<DocumentEntity> distinct() {
-		return (entity, cq, cb) -> {
-			cq.distinct(true);
-			return cb.and();
-		};
-	}
-
-	private static String toQueryString(String query) {
-		return Optional.ofNullable(query)
-			.map(String::trim)
-			.map(String::toLowerCase)
-			.map(str -> str.replace('*', '%'))
-			.orElse(EMPTY);
+	private static Specification<DocumentEntity> matchesMunicipalityId(String municipalityId) {
+		return (entity, cq, cb) -> cb.equal(entity.get(MUNICIPALITY_ID), municipalityId);
 	}
 }
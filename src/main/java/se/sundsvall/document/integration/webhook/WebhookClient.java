@@ -0,0 +1,31 @@
+package se.sundsvall.document.integration.webhook;
+
+import java.net.URI;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import se.sundsvall.document.api.model.DocumentChanges;
+import se.sundsvall.document.integration.webhook.configuration.WebhookConfiguration;
+
+import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static se.sundsvall.document.integration.webhook.configuration.WebhookConfiguration.CLIENT_ID;
+
+/**
+ * Delivers notifications to the webhook subscriptions. The url of the client is a placeholder, each request is sent to
+ * the url of the subscription. There is deliberately no circuit breaker, since one unavailable subscriber must not stop
+ * the deliveries to the others.
+ */
+@FeignClient(name = CLIENT_ID, url = "http://webhook", configuration = WebhookConfiguration.class)
+public interface WebhookClient {
+
+	/**
+	 * Deliver a batch of document changes to a subscriber.
+	 *
+	 * @param url     the url of the subscriber
+	 * @param changes the changes to deliver
+	 */
+	@PostMapping(consumes = APPLICATION_JSON_VALUE, produces = ALL_VALUE)
+	ResponseEntity<Void> deliver(URI url, @RequestBody DocumentChanges changes);
+}
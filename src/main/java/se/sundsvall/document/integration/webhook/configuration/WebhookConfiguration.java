@@ -0,0 +1,23 @@
+package se.sundsvall.document.integration.webhook.configuration;
+
+import org.springframework.cloud.openfeign.FeignBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import se.sundsvall.dept44.configuration.feign.FeignConfiguration;
+import se.sundsvall.dept44.configuration.feign.FeignMultiCustomizer;
+import se.sundsvall.dept44.configuration.feign.decoder.ProblemErrorDecoder;
+import se.sundsvall.document.configuration.WebhookProperties;
+
+@Import(FeignConfiguration.class)
+public class WebhookConfiguration {
+
+	public static final String CLIENT_ID = "webhook";
+
+	@Bean
+	FeignBuilderCustomizer feignBuilderCustomizer(WebhookProperties webhookProperties) {
+		return FeignMultiCustomizer.create()
+			.withErrorDecoder(new ProblemErrorDecoder(CLIENT_ID))
+			.withRequestTimeoutsInSeconds(webhookProperties.connectTimeout(), webhookProperties.readTimeout())
+			.composeCustomizersToOne();
+	}
+}
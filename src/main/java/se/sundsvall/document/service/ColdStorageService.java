@@ -0,0 +1,68 @@
+package se.sundsvall.document.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.document.configuration.ColdStorageProperties;
+import se.sundsvall.document.integration.db.DocumentDataBinaryColdRepository;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+
+/**
+ * Keeps the content of files that are only used by old revisions in cold storage, a separate table that is rarely read,
+ * so that the hot binary table only holds content that is actually read. Content in cold storage is read in place, see
+ * {@link se.sundsvall.document.integration.db.DatabaseHelper#copyBinaryFile(String, java.io.OutputStream)}, and is
+ * never moved back. Each binary is moved in its own short transaction.
+ */
+@Service
+public class ColdStorageService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ColdStorageService.class);
+
+	private final DocumentDataBinaryColdRepository documentDataBinaryColdRepository;
+	private final ColdStorageProperties coldStorageProperties;
+	private final TransactionTemplate transactionTemplate;
+
+	public ColdStorageService(
+		final DocumentDataBinaryColdRepository documentDataBinaryColdRepository,
+		final ColdStorageProperties coldStorageProperties,
+		final TransactionTemplate transactionTemplate) {
+
+		this.documentDataBinaryColdRepository = documentDataBinaryColdRepository;
+		this.coldStorageProperties = coldStorageProperties;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	/**
+	 * Moves the content of files only used by revisions older than the configured minimum age, and not by the latest
+	 * revision of their document, to cold storage.
+	 */
+	@Scheduled(initialDelayString = "${document.cold-storage.interval:PT1H}", fixedDelayString = "${document.cold-storage.interval:PT1H}")
+	public void moveToColdStorage() {
+		if (!coldStorageProperties.enabled()) {
+			return;
+		}
+
+		final var createdBefore = now(systemDefault()).minus(coldStorageProperties.minAge());
+		int moved;
+		int found;
+		do {
+			final var binaryIds = documentDataBinaryColdRepository.findIdsEligibleForColdStorage(createdBefore, coldStorageProperties.batchSize());
+			found = binaryIds.size();
+			moved = (int) binaryIds.stream().filter(this::moveToColdStorage).count();
+		} while (found == coldStorageProperties.batchSize() && moved > 0);
+	}
+
+	boolean moveToColdStorage(final String binaryId) {
+		try {
+			return Boolean.TRUE.equals(transactionTemplate.execute(status -> documentDataBinaryColdRepository.copyToColdStorage(binaryId) > 0
+				&& documentDataBinaryColdRepository.removeFromHotStorage(binaryId) > 0));
+		} catch (final RuntimeException e) {
+			LOGGER.warn("Moving content of binary with id '{}' to cold storage failed", binaryId, e);
+			return false;
+		}
+	}
+}
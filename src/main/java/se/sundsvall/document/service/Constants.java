@@ -14,25 +14,74 @@ public final class Constants {
 	public static final String ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND = "No document with registrationNumber: '%s' and revision: '%s' could be found!";
 	public static final String ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_NOT_FOUND = "No document file for registrationNumber: '%s' could be found!";
 	public static final String ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND = "No document file content with registrationNumber: '%s' and revision: '%s' could be found!";
+	public static final String ERROR_DOCUMENT_REVISION_MISMATCH = "The latest revision of document with registrationNumber: '%s' is not revision: '%s'!";
+	public static final String ERROR_DOCUMENT_REVISION_CONFLICT = "Document with registrationNumber: '%s' is being changed by other requests, try again later!";
+	public static final String ERROR_DOCUMENT_REVISION_NOT_VALID = "The If-Match header: '%s' does not identify a revision!";
 	public static final String ERROR_DOCUMENT_FILE_BY_ID_NOT_FOUND = "No document file content with ID: '%s' could be found!";
 	public static final String ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_COULD_NOT_READ = "Could not read file content for document data with ID: '%s'!";
+	public static final String ERROR_DOCUMENT_FILE_RANGE_NOT_SATISFIABLE = "The range: '%s' is not satisfiable for a file of %s bytes!";
+	public static final String ERROR_BINARY_CONTENT_COULD_NOT_BE_STORED = "Could not store the content of file: '%s'!";
+	public static final String ERROR_BINARY_CONTENT_INCOMPLETE = "Chunk %s of binary with ID: '%s' is incomplete!";
+	public static final String ERROR_BINARY_FILE_LENGTH_MISMATCH = "Content of binary with ID: '%s' is %s bytes, expected %s!";
+	public static final String ERROR_DOWNLOAD_URL_NOT_VALID = "The download URL is not valid or has expired!";
+	public static final String ERROR_DOCUMENT_EXPORT_FAILED = "Could not write document export!";
+	public static final String ERROR_FILES_COULD_NOT_BE_READ = "The following files could not be read: %s";
+	public static final String ERROR_IDEMPOTENCY_KEY_CLAIM_EXPIRED = "The Idempotency-Key of the request expired before the document was created!";
+	public static final String ERROR_IDEMPOTENCY_KEY_IN_PROGRESS = "A request with Idempotency-Key: '%s' is already in progress!";
+	public static final String ERROR_IDEMPOTENCY_KEY_REUSED = "Idempotency-Key: '%s' has already been used for another request!";
+	public static final String ERROR_IDEMPOTENCY_FINGERPRINT_NOT_READABLE = "The request could not be read to check its Idempotency-Key!";
+	public static final String ERROR_UPLOAD_NOT_FOUND = "No upload with ID: '%s' could be found!";
+	public static final String ERROR_UPLOAD_FILE_TOO_LARGE = "The file size %s is larger than the maximum file size of %s bytes!";
+	public static final String ERROR_UPLOAD_CHUNK_TOO_LARGE = "The chunk is larger than the maximum chunk size of %s bytes!";
+	public static final String ERROR_UPLOAD_CHUNK_BEYOND_FILE_SIZE = "The chunk ends at byte %s, beyond the file size of %s bytes!";
+	public static final String ERROR_UPLOAD_CHUNK_COULD_NOT_BE_READ = "Could not read chunk of upload with ID: '%s'!";
+	public static final String ERROR_UPLOAD_OFFSET_MISMATCH = "The chunk offset %s does not match the number of received bytes %s!";
+	public static final String ERROR_UPLOAD_INCOMPLETE = "Upload with ID: '%s' is incomplete, %s of %s bytes have been received!";
+	public static final String ERROR_UPLOAD_COULD_NOT_BE_ASSEMBLED = "Could not assemble the file of upload with ID: '%s'!";
+	public static final String ERROR_INGESTION_NOT_FOUND = "No ingestion with ID: '%s' could be found!";
+	public static final String ERROR_INGESTION_QUEUE_FULL = "Too many ingestions are waiting to be processed, try again later!";
+	public static final String ERROR_INGESTION_COULD_NOT_BE_SPOOLED = "Could not spool the files of the ingestion!";
+	public static final String ERROR_INGESTION_FILES_INCOMPLETE = "The spooled files of ingestion with ID: '%s' are incomplete!";
+	public static final String ERROR_INGESTION_INTERRUPTED = "Ingestion with ID: '%s' was interrupted, verify whether the document was changed before retrying!";
+	public static final String ERROR_INGESTION_FAILED = "Ingestion with ID: '%s' failed!";
+	public static final String ERROR_INGESTION_WITH_IDEMPOTENCY_KEY = "Asynchronous ingestion can not be combined with an Idempotency-Key!";
+	public static final String ERROR_WEBHOOK_SUBSCRIPTION_NOT_FOUND = "No webhook subscription with ID: '%s' could be found!";
+	public static final String ERROR_INVALID_SEARCH_QUERY = "Invalid search query: '%s' (%s)";
 
 	// API documentation
+	public static final String ASYNC_DOCUMENTATION = """
+		With async=true the request is spooled and answered with 202 Accepted, before the files are stored.
+		The Location header of the response refers to the status of the ingestion, which tells when the request has been persisted and the resulting registration number and revision.
+		Requests are answered with 503 Service Unavailable when too many ingestions are waiting to be processed. Asynchronous ingestion can not be combined with an Idempotency-Key.
+		""";
+
 	public static final String SEARCH_DOCUMENTATION = """
 		Parameters:
 		- includeConfidential: Should the search include confidential documents? Datatype - boolean (default: false)
 		- boolean onlyLatestRevision: Should the search include only the latest revision of the documents? Datatype - boolean (default: false)
-		- query: Search query. Allows asterisk (*) as wildcard. Datatype - String
+		- query: Search query. Datatype - String
+
+		Query syntax:
+		- Terms are matched case insensitive against the whole field value. Terms separated by space must all match.
+		- Asterisk (*) is used as wildcard. A term with a single trailing wildcard (e.g. hello*) is a prefix term.
+		- Phrases are enclosed in quotes, e.g. "hello world". A phrase followed by a wildcard is a prefix phrase.
+		- Terms can be combined with the operators AND, OR and NOT (or a leading -) and grouped with parentheses.
+		- Terms can be scoped to a field with the syntax field:term, e.g. description:hello* or meta.department:"IT support".
 
-		The search query is used to match in the following fields using a LIKE-TO-LOWER-CASE comparison:
+		Fields for scoped terms:
 		- createdBy
 		- description
 		- municipalityId
 		- registrationNumber
-		- fileName
+		- file (file name)
 		- mimeType
-		- metadataKey
-		- metadataValue
+		- content (extracted text of files, matched per word)
+		- meta (any metadata value)
+		- meta.[key] (value of metadata with the given key)
+
+		Unscoped terms are matched against all fields above and also against the metadata keys. Unscoped terms with wildcards
+		other than a single trailing one are not matched against the content of files.
+		Each document in the result lists the fields that matched the query in the matchedFields attribute.
 
 		""";
 
@@ -52,4 +101,24 @@ public final class Constants {
 			- matchesAll: Returns documents where metadata entry with the given key have at least one of the matchesAny values (if key is present), or if the complete set of metadata have at least one of the matchesAny (when no key is present). Datatype - List of Strings
 		}
 		""";
+
+	public static final String SEARCH_EXPORT_DOCUMENTATION = """
+		Exports all documents matching a search query. The parameters and the query syntax are the same as for the search operation, see its documentation.
+
+		The documents are written to the response while they are read and the result is not paged. The documents are ordered by id.
+
+		Formats:
+		- NDJSON (application/x-ndjson): One document per line, in the same format as in search results.
+		- CSV (text/csv): One row per metadata entry of each document (documents without metadata get a single row without metadata).
+		""";
+
+	public static final String SEARCH_BY_PARAMETERS_EXPORT_DOCUMENTATION = """
+		Exports all documents matching the parameters. The parameters are the same as for the search by parameters operation (page, limit and sort are ignored), see its documentation.
+
+		The documents are written to the response while they are read and the result is not paged. The documents are ordered by id.
+
+		Formats:
+		- NDJSON (application/x-ndjson): One document per line, in the same format as in search results.
+		- CSV (text/csv): One row per metadata entry of each document (documents without metadata get a single row without metadata).
+		""";
 }
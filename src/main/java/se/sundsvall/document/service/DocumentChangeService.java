@@ -0,0 +1,66 @@
+package se.sundsvall.document.service;
+
+import java.util.UUID;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.api.model.DocumentChanges;
+import se.sundsvall.document.integration.db.DocumentChangeRepository;
+import se.sundsvall.document.integration.db.DocumentChangeSequenceRepository;
+import se.sundsvall.document.integration.db.model.DocumentChangeType;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+import static se.sundsvall.document.service.mapper.DocumentChangeMapper.toDocumentChangeEntity;
+import static se.sundsvall.document.service.mapper.DocumentChangeMapper.toDocumentChanges;
+
+/**
+ * Class responsible for the change feed, from which clients can read the changes of the documents within a municipality
+ * in the order they were committed.
+ *
+ * Each change is written in the same transaction as the change of the document and is numbered by a sequence per
+ * municipality. The sequence is locked until the transaction is committed, so changes cannot be committed in another
+ * order than they are numbered in. A client that reads changes after the last sequence number it has seen will
+ * therefore never miss a change that was committed later with a lower number.
+ */
+@Service
+public class DocumentChangeService {
+
+	private final DocumentChangeRepository documentChangeRepository;
+	private final DocumentChangeSequenceRepository documentChangeSequenceRepository;
+
+	public DocumentChangeService(final DocumentChangeRepository documentChangeRepository, final DocumentChangeSequenceRepository documentChangeSequenceRepository) {
+		this.documentChangeRepository = documentChangeRepository;
+		this.documentChangeSequenceRepository = documentChangeSequenceRepository;
+	}
+
+	/**
+	 * Records a change of a document. Must be called in the transaction that changes the document, as late as possible
+	 * since the sequence of the municipality is locked until the transaction is committed.
+	 *
+	 * @param documentEntity the (new revision of the) changed document.
+	 * @param type           the type of change.
+	 */
+	@Transactional(propagation = MANDATORY)
+	public void record(final DocumentEntity documentEntity, final DocumentChangeType type) {
+		final var municipalityId = documentEntity.getMunicipalityId();
+
+		// Creates the sequence on the first change of the municipality, and locks it until the transaction is committed
+		documentChangeSequenceRepository.increment(UUID.randomUUID().toString(), municipalityId);
+		final var sequenceNumber = documentChangeSequenceRepository.findSequenceNumberByMunicipalityId(municipalityId).orElseThrow();
+		documentChangeRepository.save(toDocumentChangeEntity(documentEntity, type, sequenceNumber));
+	}
+
+	/**
+	 * Reads the changes within a municipality that were committed after a cursor.
+	 *
+	 * @param  cursor         the sequence number of the last change already read (0 to read from the beginning).
+	 * @param  limit          the maximum number of changes to read.
+	 * @param  municipalityId the municipalityId.
+	 * @return                the changes, in commit order, and the cursor to read the next changes from.
+	 */
+	@Transactional(readOnly = true)
+	public DocumentChanges read(final long cursor, final int limit, final String municipalityId) {
+		return toDocumentChanges(documentChangeRepository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(municipalityId, cursor, PageRequest.of(0, limit)), cursor);
+	}
+}
@@ -0,0 +1,174 @@
+package se.sundsvall.document.service;
+
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.document.api.model.DocumentParameters;
+import se.sundsvall.document.api.model.ExportFormat;
+import se.sundsvall.document.configuration.ExportProperties;
+import se.sundsvall.document.integration.db.DocumentRepository;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable;
+import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
+import se.sundsvall.document.service.search.SearchQueryParser;
+import tools.jackson.databind.ObjectMapper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.startsWithAny;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_EXPORT_FAILED;
+import static se.sundsvall.document.service.Constants.TEMPLATE_CONTENT_DISPOSITION_HEADER_VALUE;
+import static se.sundsvall.document.service.mapper.DocumentMapper.toDocument;
+
+/**
+ * Exports complete search results by writing the matching documents directly to the response while they are read from
+ * the database. The documents are read in windows (see {@link DocumentRepository#scrollAll}), each in a short
+ * transaction of its own in which the window is converted to the exported format. The converted window is written to
+ * the response after the transaction has ended, so no database connection is held while a slow client receives the
+ * result, and memory use does not depend on the size of the result.
+ */
+@Service
+public class DocumentExportService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(DocumentExportService.class);
+	private static final List<String> CSV_HEADER = List.of("id", "registrationNumber", "revision", "municipalityId", "type", "created", "createdBy", "confidential", "metadataKey", "metadataValue");
+	private static final String CSV_SEPARATOR = ",";
+	private static final String[] CSV_FORMULA_PREFIXES = {
+		"=", "+", "-", "@", "\t", "\r"
+	};
+	private static final String LINE_SEPARATOR = "\r\n";
+	private static final String NDJSON_LINE_SEPARATOR = "\n";
+
+	private final DocumentRepository documentRepository;
+	private final ExportProperties exportProperties;
+	private final ObjectMapper objectMapper;
+	private final TransactionTemplate transactionTemplate;
+
+	public DocumentExportService(
+		final DocumentRepository documentRepository,
+		final ExportProperties exportProperties,
+		final ObjectMapper objectMapper,
+		final TransactionTemplate transactionTemplate) {
+
+		this.documentRepository = documentRepository;
+		this.exportProperties = exportProperties;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	public void exportSearch(String query, boolean includeConfidential, boolean onlyLatestRevision, ExportFormat format, HttpServletResponse response, String municipalityId) {
+		final var searchQuery = SearchQueryParser.parse(query);
+
+		export(position -> documentRepository.scrollSearch(searchQuery, includeConfidential, onlyLatestRevision, municipalityId, position, exportProperties.batchSize()), format, response);
+	}
+
+	public void exportSearchByParameters(DocumentParameters parameters, ExportFormat format, HttpServletResponse response) {
+		export(position -> documentRepository.scrollSearchByParameters(parameters, position, exportProperties.batchSize()), format, response);
+	}
+
+	private void export(Function<ScrollPosition, Window<DocumentEntity>> windowReader, ExportFormat format, HttpServletResponse response) {
+		try {
+			response.setContentType(format.getMediaType());
+			response.setCharacterEncoding(UTF_8.name());
+			response.addHeader(CONTENT_DISPOSITION, TEMPLATE_CONTENT_DISPOSITION_HEADER_VALUE.formatted(format.getFileName()));
+
+			final var writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), UTF_8));
+			if (format == ExportFormat.CSV) {
+				writer.write(toCsvLine(CSV_HEADER));
+			}
+
+			ScrollPosition position = ScrollPosition.keyset();
+			while (position != null) {
+				final var currentPosition = position;
+				final var batch = transactionTemplate.execute(status -> toBatch(windowReader.apply(currentPosition), format));
+
+				// The transaction has ended, the batch is written without holding a database connection
+				writer.write(batch.content());
+				writer.flush();
+				position = batch.next();
+			}
+		} catch (IOException e) {
+			LOGGER.warn(ERROR_DOCUMENT_EXPORT_FAILED, e);
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, ERROR_DOCUMENT_EXPORT_FAILED);
+		}
+	}
+
+	private Batch toBatch(Window<DocumentEntity> window, ExportFormat format) {
+		final var content = new StringBuilder();
+		for (final var documentEntity : window) {
+			switch (format) {
+				case NDJSON -> content.append(objectMapper.writeValueAsString(toDocument(documentEntity))).append(NDJSON_LINE_SEPARATOR);
+				case CSV -> appendCsvLines(content, documentEntity);
+			}
+		}
+
+		final var next = window.hasNext() ? window.positionAt(window.size() - 1) : null;
+		return new Batch(content.toString(), next);
+	}
+
+	private static void appendCsvLines(StringBuilder content, DocumentEntity documentEntity) {
+		final var metadata = Optional.ofNullable(documentEntity.getMetadata()).orElse(List.of());
+		if (metadata.isEmpty()) {
+			content.append(toCsvLine(toCsvRow(documentEntity, null)));
+			return;
+		}
+
+		for (final var metadataEntry : metadata) {
+			content.append(toCsvLine(toCsvRow(documentEntity, metadataEntry)));
+		}
+	}
+
+	private static List<String> toCsvRow(DocumentEntity documentEntity, DocumentMetadataEmbeddable metadata) {
+		final var metadataEntry = Optional.ofNullable(metadata);
+		return Stream.of(
+			documentEntity.getId(),
+			documentEntity.getRegistrationNumber(),
+			String.valueOf(documentEntity.getRevision()),
+			documentEntity.getMunicipalityId(),
+			Optional.ofNullable(documentEntity.getType()).map(DocumentTypeEntity::getType).orElse(null),
+			Objects.toString(documentEntity.getCreated(), null),
+			documentEntity.getCreatedBy(),
+			Optional.ofNullable(documentEntity.getConfidentiality()).map(confidentiality -> String.valueOf(confidentiality.isConfidential())).orElse(null),
+			metadataEntry.map(DocumentMetadataEmbeddable::getKey).orElse(null),
+			metadataEntry.map(DocumentMetadataEmbeddable::getValue).orElse(null))
+			.map(value -> Objects.toString(value, ""))
+			.toList();
+	}
+
+	private static String toCsvLine(List<String> values) {
+		return String.join(CSV_SEPARATOR, values.stream().map(DocumentExportService::escapeCsvValue).toList()) + LINE_SEPARATOR;
+	}
+
+	/**
+	 * Escapes a value according to RFC 4180, i.e. values containing separators, quotes or line breaks are enclosed in
+	 * quotes and quotes within the value are doubled. Values that a spreadsheet would evaluate as a formula, i.e. values
+	 * starting with =, +, -, @, tab or carriage return, are prefixed with a single quote so that they are shown as text.
+	 */
+	static String escapeCsvValue(String value) {
+		final var text = startsWithAny(value, CSV_FORMULA_PREFIXES) ? "'" + value : value;
+		if (text.contains(CSV_SEPARATOR) || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+			return "\"" + text.replace("\"", "\"\"") + "\"";
+		}
+		return text;
+	}
+
+	/**
+	 * The exported content of a window and the position of the next window, null if it was the last window.
+	 */
+	private record Batch(String content, ScrollPosition next) {
+	}
+}
@@ -2,59 +2,108 @@ package se.sundsvall.document.service;
 
 import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.sql.SQLException;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.document.api.model.ConfidentialityUpdateRequest;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentBatchReadResult;
 import se.sundsvall.document.api.model.DocumentCreateRequest;
 import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.api.model.DocumentField;
 import se.sundsvall.document.api.model.DocumentFiles;
 import se.sundsvall.document.api.model.DocumentParameters;
+import se.sundsvall.document.api.model.DocumentReference;
 import se.sundsvall.document.api.model.DocumentUpdateRequest;
+import se.sundsvall.document.api.model.DownloadUrl;
 import se.sundsvall.document.api.model.PagedDocumentResponse;
-import se.sundsvall.document.integration.db.DatabaseHelper;
+import se.sundsvall.document.configuration.RevisionProperties;
+import se.sundsvall.document.integration.db.DocumentDataRepository;
 import se.sundsvall.document.integration.db.DocumentRepository;
 import se.sundsvall.document.integration.db.DocumentTypeRepository;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
 import se.sundsvall.document.integration.db.model.DocumentDataEntity;
 import se.sundsvall.document.integration.db.model.DocumentEntity;
 import se.sundsvall.document.integration.eventlog.EventLogClient;
 import se.sundsvall.document.integration.eventlog.configuration.EventlogProperties;
+import se.sundsvall.document.service.ingestion.FileIngestionService;
+import se.sundsvall.document.service.ingestion.StagedFile;
 import se.sundsvall.document.service.mapper.DocumentMapper;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+import se.sundsvall.document.service.search.SearchQueryParser;
+import se.sundsvall.document.service.storage.BinaryContent;
+import se.sundsvall.document.service.storage.BinaryStorageService;
+import se.sundsvall.document.service.textindex.TextIndexService;
 
 import static generated.se.sundsvall.eventlog.EventType.UPDATE;
+import static java.time.ZoneId.systemDefault;
+import static java.util.Comparator.comparingInt;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.Objects.nonNull;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang3.StringUtils.containsIgnoreCase;
 import static org.apache.commons.lang3.StringUtils.equalsIgnoreCase;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
 import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
+import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
+import static org.springframework.transaction.annotation.Propagation.NOT_SUPPORTED;
 import static org.springframework.util.CollectionUtils.isEmpty;
-import static org.springframework.util.StreamUtils.copy;
+import static org.springframework.web.util.UriComponentsBuilder.fromPath;
+import static se.sundsvall.document.Constants.FILES_BASE_PATH;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.CONFIDENTIALITY_CHANGED;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.CREATED;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.REVISED;
 import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND;
 import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND;
 import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_FILE_BY_ID_NOT_FOUND;
 import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND;
 import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_COULD_NOT_READ;
 import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_NOT_FOUND;
+import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_FILE_RANGE_NOT_SATISFIABLE;
+import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_REVISION_CONFLICT;
+import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_REVISION_MISMATCH;
+import static se.sundsvall.document.service.Constants.ERROR_DOWNLOAD_URL_NOT_VALID;
 import static se.sundsvall.document.service.Constants.TEMPLATE_CONTENT_DISPOSITION_HEADER_VALUE;
 import static se.sundsvall.document.service.Constants.TEMPLATE_EVENTLOG_MESSAGE_CONFIDENTIALITY_UPDATED_ON_DOCUMENT;
 import static se.sundsvall.document.service.InclusionFilter.CONFIDENTIAL_AND_PUBLIC;
+import static se.sundsvall.document.api.model.DocumentField.MATCHED_FIELDS;
 import static se.sundsvall.document.service.mapper.DocumentMapper.copyDocumentEntity;
 import static se.sundsvall.document.service.mapper.DocumentMapper.toConfidentialityEmbeddable;
 import static se.sundsvall.document.service.mapper.DocumentMapper.toDocument;
+import static se.sundsvall.document.service.mapper.DocumentMapper.toDocumentBatchReadResult;
 import static se.sundsvall.document.service.mapper.DocumentMapper.toDocumentDataEntities;
 import static se.sundsvall.document.service.mapper.DocumentMapper.toDocumentDataEntity;
 import static se.sundsvall.document.service.mapper.DocumentMapper.toDocumentEntity;
+import static se.sundsvall.document.service.mapper.DocumentMapper.toDocumentReference;
 import static se.sundsvall.document.service.mapper.DocumentMapper.toInclusionFilter;
+import static se.sundsvall.document.service.mapper.DocumentMapper.isIncluded;
 import static se.sundsvall.document.service.mapper.DocumentMapper.toPagedDocumentResponse;
 import static se.sundsvall.document.service.mapper.EventlogMapper.toEvent;
 
@@ -63,111 +112,303 @@ import static se.sundsvall.document.service.mapper.EventlogMapper.toEvent;
 public class DocumentService {
 
 	private static final String ERROR_DOCUMENT_TYPE_NOT_FOUND = "Document type with identifier %s was not found within municipality with id %s";
+	private static final String REVISION_CONSTRAINT_NAME = "uq_revision_and_registration_number";
 	private static final Logger LOGGER = LoggerFactory.getLogger(DocumentService.class);
 
-	private final DatabaseHelper databaseHelper;
 	private final DocumentRepository documentRepository;
 	private final DocumentTypeRepository documentTypeRepository;
 	private final RegistrationNumberService registrationNumberService;
 	private final EventLogClient eventLogClient;
 	private final EventlogProperties eventLogProperties;
+	private final TransactionTemplate transactionTemplate;
+	private final TextIndexService textIndexService;
+	private final FileIngestionService fileIngestionService;
+	private final DocumentDataRepository documentDataRepository;
+	private final DownloadUrlSigner downloadUrlSigner;
+	private final RevisionProperties revisionProperties;
+	private final DocumentChangeService documentChangeService;
+	private final BinaryStorageService binaryStorageService;
+	private final IdempotencyService idempotencyService;
+
+	// Concurrent identical reads, e.g. of a document whose link has been broadcast, share a single database fetch
+	private final SingleFlight<DocumentReadKey, Document> documentReads = new SingleFlight<>();
+	private final SingleFlight<FileReadKey, DocumentDataEntity> fileReads = new SingleFlight<>();
+	private final SingleFlight<String, BinaryContent> binaryReads = new SingleFlight<>();
 
 	public DocumentService(
-		final DatabaseHelper databaseHelper,
 		final DocumentRepository documentRepository,
 		final DocumentTypeRepository documentTypeRepository,
 		final RegistrationNumberService registrationNumberService,
 		final EventLogClient eventLogClient,
-		final EventlogProperties eventLogProperties) {
+		final EventlogProperties eventLogProperties,
+		final TransactionTemplate transactionTemplate,
+		final TextIndexService textIndexService,
+		final FileIngestionService fileIngestionService,
+		final DocumentDataRepository documentDataRepository,
+		final DownloadUrlSigner downloadUrlSigner,
+		final RevisionProperties revisionProperties,
+		final DocumentChangeService documentChangeService,
+		final BinaryStorageService binaryStorageService,
+		final IdempotencyService idempotencyService) {
 
-		this.databaseHelper = databaseHelper;
 		this.documentRepository = documentRepository;
 		this.documentTypeRepository = documentTypeRepository;
 		this.registrationNumberService = registrationNumberService;
 		this.eventLogClient = eventLogClient;
 		this.eventLogProperties = eventLogProperties;
+		this.transactionTemplate = transactionTemplate;
+		this.textIndexService = textIndexService;
+		this.fileIngestionService = fileIngestionService;
+		this.documentDataRepository = documentDataRepository;
+		this.downloadUrlSigner = downloadUrlSigner;
+		this.revisionProperties = revisionProperties;
+		this.documentChangeService = documentChangeService;
+		this.binaryStorageService = binaryStorageService;
+		this.idempotencyService = idempotencyService;
 	}
 
+	@Transactional(propagation = NOT_SUPPORTED)
 	public Document create(final DocumentCreateRequest documentCreateRequest, final DocumentFiles documentFiles, final String municipalityId) {
+		return create(documentCreateRequest, documentFiles, municipalityId, null);
+	}
+
+	/**
+	 * Creates a document and, if the request has claimed an idempotency key, completes the claim in the same transaction.
+	 * See {@link IdempotencyService#createOnce(String, String, String, java.util.function.Function)}.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public Document create(final DocumentCreateRequest documentCreateRequest, final DocumentFiles documentFiles, final String municipalityId, final String idempotencyClaimId) {
+
+		// Files are read and verified in parallel before the transaction, so no database connection is held while they are read
+		final var stagedFiles = fileIngestionService.stage(Optional.ofNullable(documentFiles).map(DocumentFiles::getFiles).orElse(null));
+
+		return transactionTemplate.execute(status -> {
+			final var documentDataEntities = toDocumentDataEntities(stagedFiles, binaryStorageService::store);
+			final var registrationNumber = registrationNumberService.generateRegistrationNumber(municipalityId);
+			final var documentTypeEntity = documentTypeRepository.findByMunicipalityIdAndType(municipalityId, documentCreateRequest.getType())
+				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_TYPE_NOT_FOUND.formatted(documentCreateRequest.getType(), municipalityId)));
+
+			final var documentEntity = toDocumentEntity(documentCreateRequest, municipalityId)
+				.withRegistrationNumber(registrationNumber)
+				.withDocumentData(documentDataEntities)
+				.withType(documentTypeEntity);
+
+			final var savedDocumentEntity = documentRepository.saveAndFlush(documentEntity);
+			if (idempotencyClaimId != null) {
+				idempotencyService.complete(idempotencyClaimId, registrationNumber);
+			}
+			textIndexService.requestIndexing(toBinaryIds(documentDataEntities));
+			documentChangeService.record(savedDocumentEntity, CREATED);
+
+			return toDocument(savedDocumentEntity);
+		});
+	}
 
-		final var documentDataEntities = toDocumentDataEntities(documentFiles, databaseHelper);
-		final var registrationNumber = registrationNumberService.generateRegistrationNumber(municipalityId);
-		final var documentTypeEntity = documentTypeRepository.findByMunicipalityIdAndType(municipalityId, documentCreateRequest.getType())
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_TYPE_NOT_FOUND.formatted(documentCreateRequest.getType(), municipalityId)));
+	/**
+	 * Reads the latest revision of a document. Concurrent identical reads share a single read, made in a short
+	 * transaction so that no database connection is held by the reads waiting for it.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public Document read(String registrationNumber, boolean includeConfidential, Set<DocumentField> fields, String municipalityId) {
 
-		final var documentEntity = toDocumentEntity(documentCreateRequest, municipalityId)
-			.withRegistrationNumber(registrationNumber)
-			.withDocumentData(documentDataEntities)
-			.withType(documentTypeEntity);
+		return documentReads.execute(new DocumentReadKey(municipalityId, registrationNumber, null, includeConfidential, fields), () -> transactionTemplate.execute(status -> {
+			final var documentEntity = documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, toInclusionFilter(includeConfidential))
+				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
 
-		return toDocument(documentRepository.save(documentEntity));
+			return toDocument(documentEntity, fields);
+		}));
 	}
 
-	public Document read(String registrationNumber, boolean includeConfidential, String municipalityId) {
+	/**
+	 * Reads a specific revision of a document. See {@link #read(String, boolean, Set, String)} for coalescing of reads.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public Document read(String registrationNumber, int revision, boolean includeConfidential, Set<DocumentField> fields, String municipalityId) {
 
-		final var documentEntity = documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, toInclusionFilter(includeConfidential))
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
+		return documentReads.execute(new DocumentReadKey(municipalityId, registrationNumber, revision, includeConfidential, fields), () -> transactionTemplate.execute(status -> {
+			final var documentEntity = documentRepository.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(municipalityId, registrationNumber, revision, toInclusionFilter(includeConfidential))
+				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND.formatted(registrationNumber, revision)));
 
-		return toDocument(documentEntity);
+			return toDocument(documentEntity, fields);
+		}));
 	}
 
-	public Document read(String registrationNumber, int revision, boolean includeConfidential, String municipalityId) {
+	/**
+	 * Reads a number of documents at once. The latest revisions and the specific revisions that are asked for are read
+	 * with one query each, instead of one query per document.
+	 *
+	 * @param  documentReferences  the documents to read (the latest revision is read when no revision is given).
+	 * @param  includeConfidential if confidential documents should be included.
+	 * @param  fields              the attributes to include in each document, or null to include all attributes.
+	 * @param  municipalityId      the municipalityId.
+	 * @return                     one result per requested document, in the order of the request.
+	 */
+	public List<DocumentBatchReadResult> readBatch(List<DocumentReference> documentReferences, boolean includeConfidential, Set<DocumentField> fields, String municipalityId) {
+		final var inclusionFilter = toInclusionFilter(includeConfidential);
+		final var latestRegistrationNumbers = documentReferences.stream()
+			.filter(reference -> reference.getRevision() == null)
+			.map(DocumentReference::getRegistrationNumber)
+			.collect(toSet());
+		final var revisionReferences = documentReferences.stream()
+			.filter(reference -> reference.getRevision() != null)
+			.collect(toSet());
+
+		final var documentEntities = new HashMap<DocumentReference, DocumentEntity>();
+		if (!latestRegistrationNumbers.isEmpty()) {
+			documentRepository.findLatestByMunicipalityIdAndRegistrationNumberIn(municipalityId, latestRegistrationNumbers, inclusionFilter)
+				.forEach(entity -> documentEntities.put(DocumentReference.create().withRegistrationNumber(entity.getRegistrationNumber()), entity));
+		}
+		if (!revisionReferences.isEmpty()) {
+			documentRepository.findByMunicipalityIdAndRegistrationNumberInAndRevisionInAndConfidentialityConfidentialIn(municipalityId,
+				revisionReferences.stream().map(DocumentReference::getRegistrationNumber).collect(toSet()),
+				revisionReferences.stream().map(DocumentReference::getRevision).collect(toSet()),
+				inclusionFilter).stream()
+				.filter(entity -> revisionReferences.contains(toDocumentReference(entity)))
+				.forEach(entity -> documentEntities.put(toDocumentReference(entity), entity));
+		}
 
-		final var documentEntity = documentRepository.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(municipalityId, registrationNumber, revision, toInclusionFilter(includeConfidential))
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND.formatted(registrationNumber, revision)));
+		return documentReferences.stream()
+			.map(reference -> toDocumentBatchReadResult(reference, documentEntities.get(reference), fields))
+			.toList();
+	}
 
-		return toDocument(documentEntity);
+	public PagedDocumentResponse readAll(String registrationNumber, boolean includeConfidential, Pageable pageable, Set<DocumentField> fields, String municipalityId) {
+		return toPagedDocumentResponse(documentRepository.findByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialIn(municipalityId, registrationNumber, toInclusionFilter(includeConfidential), pageable), fields);
 	}
 
-	public PagedDocumentResponse readAll(String registrationNumber, boolean includeConfidential, Pageable pageable, String municipalityId) {
-		return toPagedDocumentResponse(documentRepository.findByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialIn(municipalityId, registrationNumber, toInclusionFilter(includeConfidential), pageable));
+	public PagedDocumentResponse search(String query, boolean includeConfidential, boolean onlyLatestRevision, Pageable pageable, Set<DocumentField> fields, String municipalityId) {
+		final var searchQuery = SearchQueryParser.parse(query);
+		final var page = documentRepository.search(searchQuery, includeConfidential, onlyLatestRevision, pageable, municipalityId);
+		final Map<Term, Set<String>> contentMatches = isIncluded(fields, MATCHED_FIELDS) ? textIndexService.findContentMatches(searchQuery, page.getContent()) : emptyMap();
+		return toPagedDocumentResponse(page, searchQuery, contentMatches, fields);
 	}
 
-	public PagedDocumentResponse search(String query, boolean includeConfidential, boolean onlyLatestRevision, Pageable pageable, String municipalityId) {
-		return toPagedDocumentResponse(documentRepository.search(query, includeConfidential, onlyLatestRevision, pageable, municipalityId));
+	/**
+	 * Streams file content to the response. The file is resolved in a short transaction. Content stored in chunks is then
+	 * read one statement per chunk, and content stored in a single column is read in full into a temporary file in a
+	 * short transaction, so that no database connection is held while writing to a slow client. When a single byte range
+	 * is requested, only that range of the content is returned.
+	 *
+	 * Concurrent reads of the same file share a single lookup of the file, and the content is read from the database
+	 * once into the file cache, from which it is copied to each response.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public void readFile(String registrationNumber, String documentDataId, boolean includeConfidential, String range, HttpServletResponse response, String municipalityId) {
+
+		final var documentDataEntity = fileReads.execute(new FileReadKey(municipalityId, registrationNumber, null, documentDataId, includeConfidential), () -> transactionTemplate.execute(status -> {
+			final var documentEntity = documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, toInclusionFilter(includeConfidential))
+				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
+
+			if (isEmpty(documentEntity.getDocumentData())) {
+				throw Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber));
+			}
+
+			return documentEntity.getDocumentData().stream()
+				.filter(docData -> docData.getId().equals(documentDataId))
+				.findFirst()
+				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_ID_NOT_FOUND.formatted(documentDataId)));
+		}));
+
+		addFileContentToResponse(documentDataEntity, range, response);
 	}
 
-	public void readFile(String registrationNumber, String documentDataId, boolean includeConfidential, HttpServletResponse response, String municipalityId) {
+	/**
+	 * Streams file content of a specific revision to the response. See
+	 * {@link #readFile(String, String, boolean, String, HttpServletResponse, String)} for transaction handling and
+	 * coalescing of reads.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public void readFile(String registrationNumber, int revision, String documentDataId, boolean includeConfidential, String range, HttpServletResponse response, String municipalityId) {
 
-		final var documentEntity = documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, toInclusionFilter(includeConfidential))
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
+		final var documentDataEntity = fileReads.execute(new FileReadKey(municipalityId, registrationNumber, revision, documentDataId, includeConfidential),
+			() -> transactionTemplate.execute(status -> findDocumentDataEntity(registrationNumber, revision, documentDataId, includeConfidential, municipalityId)));
 
-		if (isEmpty(documentEntity.getDocumentData())) {
-			throw Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber));
+		addFileContentToResponse(documentDataEntity, range, response);
+	}
+
+	/**
+	 * Issues a pre-signed URL for downloading the file of a specific revision. Access to the file, including
+	 * confidentiality, is checked when the URL is issued. The URL is then only verified by its signature, see
+	 * {@link #readFileByDownloadUrl(String, long, String, String, HttpServletResponse, String)}.
+	 */
+	public DownloadUrl createDownloadUrl(String registrationNumber, int revision, String documentDataId, boolean includeConfidential, String municipalityId) {
+
+		final var documentDataEntity = findDocumentDataEntity(registrationNumber, revision, documentDataId, includeConfidential, municipalityId);
+		final var expires = downloadUrlSigner.expires();
+
+		return DownloadUrl.create()
+			.withUrl(fromPath(FILES_BASE_PATH + "/{documentDataId}")
+				.queryParam("expires", expires)
+				.queryParam("signature", downloadUrlSigner.sign(municipalityId, documentDataEntity.getId(), expires))
+				.buildAndExpand(municipalityId, documentDataEntity.getId())
+				.toUriString())
+			.withExpires(Instant.ofEpochSecond(expires).atZone(systemDefault()).toOffsetDateTime());
+	}
+
+	/**
+	 * Streams file content for a pre-signed download URL. Only the file itself is read, the document is not loaded since
+	 * access to the file was checked when the URL was issued. See
+	 * {@link #readFile(String, String, boolean, String, HttpServletResponse, String)} for transaction handling and
+	 * coalescing of reads.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public void readFileByDownloadUrl(String documentDataId, long expires, String signature, String range, HttpServletResponse response, String municipalityId) {
+
+		if (!downloadUrlSigner.isValid(municipalityId, documentDataId, expires, signature)) {
+			throw Problem.valueOf(FORBIDDEN, ERROR_DOWNLOAD_URL_NOT_VALID);
 		}
 
-		final var documentDataEntity = documentEntity.getDocumentData().stream()
-			.filter(docData -> docData.getId().equals(documentDataId))
-			.findFirst()
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_ID_NOT_FOUND.formatted(documentDataId)));
+		// A download URL only identifies the file, access to it was checked when the URL was issued
+		final var documentDataEntity = fileReads.execute(new FileReadKey(municipalityId, null, null, documentDataId, true),
+			() -> transactionTemplate.execute(status -> documentDataRepository.findById(documentDataId)
+				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_ID_NOT_FOUND.formatted(documentDataId)))));
 
-		addFileContentToResponse(documentDataEntity, response);
+		addFileContentToResponse(documentDataEntity, range, response);
 	}
 
-	public void readFile(String registrationNumber, int revision, String documentDataId, boolean includeConfidential, HttpServletResponse response, String municipalityId) {
+	@Transactional(propagation = NOT_SUPPORTED)
+	public Document addOrReplaceFile(String registrationNumber, DocumentDataCreateRequest documentDataCreateRequest, MultipartFile documentFile, Integer expectedRevision, String municipalityId) {
 
-		final var documentEntity = documentRepository.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(municipalityId, registrationNumber, revision, toInclusionFilter(includeConfidential))
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND.formatted(registrationNumber, revision)));
+		// Verified before the file is read, the file is only read once even if the change has to be applied again
+		verifyRevision(findLatestRevision(registrationNumber, municipalityId), expectedRevision);
+		final var stagedFile = fileIngestionService.stage(documentFile);
 
-		if (isEmpty(documentEntity.getDocumentData())) {
-			throw Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND.formatted(registrationNumber, revision));
-		}
-
-		final var documentDataEntity = documentEntity.getDocumentData().stream()
-			.filter(docData -> docData.getId().equals(documentDataId))
-			.findFirst()
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_ID_NOT_FOUND.formatted(documentDataId)));
+		return createRevision(registrationNumber, expectedRevision, () -> {
+			final var documentEntity = findLatestRevision(registrationNumber, municipalityId);
+			verifyRevision(documentEntity, expectedRevision);
 
-		addFileContentToResponse(documentDataEntity, response);
+			return addOrReplaceFile(documentEntity, documentDataCreateRequest, stagedFile);
+		});
 	}
 
-	public Document addOrReplaceFile(String registrationNumber, DocumentDataCreateRequest documentDataCreateRequest, MultipartFile documentFile, String municipalityId) {
+	/**
+	 * Adds (or replaces) a file that has already been staged, e.g. a file that has been uploaded in chunks. The revision
+	 * is created as by {@link #addOrReplaceFile(String, DocumentDataCreateRequest, MultipartFile, Integer, String)}, and
+	 * each attempt first runs {@code inTransaction}, e.g. to remove what the file was staged from together with creating
+	 * the revision.
+	 */
+	@Transactional(propagation = NOT_SUPPORTED)
+	public Document addOrReplaceStagedFile(String registrationNumber, DocumentDataCreateRequest documentDataCreateRequest, StagedFile stagedFile, Integer expectedRevision, String municipalityId,
+		Runnable inTransaction) {
+
+		return createRevision(registrationNumber, expectedRevision, () -> {
+			inTransaction.run();
+			final var documentEntity = findLatestRevision(registrationNumber, municipalityId);
+			verifyRevision(documentEntity, expectedRevision);
+
+			return addOrReplaceFile(documentEntity, documentDataCreateRequest, stagedFile);
+		});
+	}
 
-		final var documentEntity = documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, CONFIDENTIAL_AND_PUBLIC.getValue())
+	private DocumentEntity findLatestRevision(String registrationNumber, String municipalityId) {
+		return documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, CONFIDENTIAL_AND_PUBLIC.getValue())
 			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
+	}
+
+	private Document addOrReplaceFile(DocumentEntity documentEntity, DocumentDataCreateRequest documentDataCreateRequest, StagedFile stagedFile) {
 
 		// Create documentData element to add/replace.
-		final var newDocumentDataEntity = toDocumentDataEntity(documentFile, databaseHelper);
+		final var newDocumentDataEntity = toDocumentDataEntity(stagedFile, binaryStorageService::store);
 
 		// Do not update existing entity, create a new revision instead.
 		final var newDocumentEntity = copyDocumentEntity(documentEntity)
@@ -177,13 +418,22 @@ public class DocumentService {
 		// Adds the new documentData element if the file name doesn't exist already, otherwise the old element is replaced.
 		addOrReplaceDocumentDataEntity(newDocumentEntity, newDocumentDataEntity);
 
-		return toDocument(documentRepository.save(newDocumentEntity));
+		final var savedDocumentEntity = documentRepository.saveAndFlush(newDocumentEntity);
+		textIndexService.requestIndexing(toBinaryIds(List.of(newDocumentDataEntity)));
+		documentChangeService.record(savedDocumentEntity, REVISED);
+
+		return toDocument(savedDocumentEntity);
 	}
 
-	public void deleteFile(String registrationNumber, String documentDataId, String municipalityId) {
+	@Transactional(propagation = NOT_SUPPORTED)
+	public Document deleteFile(String registrationNumber, String documentDataId, Integer expectedRevision, String municipalityId) {
+		return createRevision(registrationNumber, expectedRevision, () -> deleteFile(findLatestRevision(registrationNumber, municipalityId), documentDataId, expectedRevision));
+	}
 
-		final var documentEntity = documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, toInclusionFilter(true))
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
+	private Document deleteFile(DocumentEntity documentEntity, String documentDataId, Integer expectedRevision) {
+
+		final var registrationNumber = documentEntity.getRegistrationNumber();
+		verifyRevision(documentEntity, expectedRevision);
 
 		if (isEmpty(documentEntity.getDocumentData())) {
 			throw Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber));
@@ -202,13 +452,24 @@ public class DocumentService {
 			throw Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_ID_NOT_FOUND.formatted(documentDataId));
 		}
 
-		documentRepository.save(newDocumentEntity);
+		final var savedDocumentEntity = documentRepository.saveAndFlush(newDocumentEntity);
+		documentChangeService.record(savedDocumentEntity, REVISED);
+
+		return toDocument(savedDocumentEntity);
 	}
 
-	public Document update(String registrationNumber, boolean includeConfidential, DocumentUpdateRequest documentUpdateRequest, String municipalityId) {
+	@Transactional(propagation = NOT_SUPPORTED)
+	public Document update(String registrationNumber, boolean includeConfidential, DocumentUpdateRequest documentUpdateRequest, Integer expectedRevision, String municipalityId) {
+		return createRevision(registrationNumber, expectedRevision, () -> {
+			final var existingDocumentEntity = documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, toInclusionFilter(includeConfidential))
+				.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
+			verifyRevision(existingDocumentEntity, expectedRevision);
 
-		final var existingDocumentEntity = documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, toInclusionFilter(includeConfidential))
-			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
+			return update(existingDocumentEntity, documentUpdateRequest, municipalityId);
+		});
+	}
+
+	private Document update(DocumentEntity existingDocumentEntity, DocumentUpdateRequest documentUpdateRequest, String municipalityId) {
 
 		// Do not update existing entity, create a new revision instead.
 		final var newDocumentEntity = toDocumentEntity(documentUpdateRequest, existingDocumentEntity);
@@ -219,7 +480,10 @@ public class DocumentService {
 			newDocumentEntity.setType(documentTypeEntity);
 		}
 
-		return toDocument(documentRepository.save(newDocumentEntity));
+		final var savedDocumentEntity = documentRepository.saveAndFlush(newDocumentEntity);
+		documentChangeService.record(savedDocumentEntity, REVISED);
+
+		return toDocument(savedDocumentEntity);
 	}
 
 	public void updateConfidentiality(String registrationNumber, ConfidentialityUpdateRequest confidentialityUpdateRequest, String municipalityId) {
@@ -235,28 +499,120 @@ public class DocumentService {
 		eventLogForDocument(registrationNumber, confidentialityUpdateRequest, municipalityId);
 
 		documentRepository.saveAll(documentEntities);
+		documentEntities.stream()
+			.max(comparingInt(DocumentEntity::getRevision))
+			.ifPresent(latestDocumentEntity -> documentChangeService.record(latestDocumentEntity, CONFIDENTIALITY_CHANGED));
 	}
 
-	public PagedDocumentResponse searchByParameters(final DocumentParameters parameters) {
+	public PagedDocumentResponse searchByParameters(final DocumentParameters parameters, final Set<DocumentField> fields) {
 		var pageable = PageRequest.of(parameters.getPage() - 1, parameters.getLimit(), parameters.sort());
-		return toPagedDocumentResponse(documentRepository.searchByParameters(parameters, pageable));
+		return toPagedDocumentResponse(documentRepository.searchByParameters(parameters, pageable), fields);
+	}
+
+	/**
+	 * Creates a new revision of a document. Requests that change the same document at the same time read the same latest
+	 * revision and try to create the same new revision, which only one of them succeeds with:
+	 * <ul>
+	 * <li>A request that expects a specific latest revision (i.e. has an If-Match header) is rejected with 412
+	 * Precondition Failed, as the change was based on a revision that is no longer the latest.</li>
+	 * <li>Other requests apply their change again, on top of the new latest revision, until it succeeds or the configured
+	 * number of attempts have been made.</li>
+	 * </ul>
+	 * Each attempt is made in a transaction of its own, as a failed attempt rolls back its transaction.
+	 */
+	private <T> T createRevision(String registrationNumber, Integer expectedRevision, Supplier<T> change) {
+		for (var attempt = 1;; attempt++) {
+			try {
+				return transactionTemplate.execute(status -> change.get());
+			} catch (final DataIntegrityViolationException e) {
+				if (!containsIgnoreCase(e.getMostSpecificCause().getMessage(), REVISION_CONSTRAINT_NAME)) {
+					throw e;
+				}
+				if (nonNull(expectedRevision)) {
+					throw Problem.valueOf(PRECONDITION_FAILED, ERROR_DOCUMENT_REVISION_MISMATCH.formatted(registrationNumber, expectedRevision));
+				}
+				if (attempt >= revisionProperties.maxAttempts()) {
+					throw Problem.valueOf(CONFLICT, ERROR_DOCUMENT_REVISION_CONFLICT.formatted(registrationNumber));
+				}
+				LOGGER.debug("A revision of document with registrationNumber '{}' was created by another request, the change is applied again", registrationNumber);
+			}
+		}
 	}
 
-	private void addFileContentToResponse(DocumentDataEntity documentDataEntity, HttpServletResponse response) {
+	private static void verifyRevision(DocumentEntity documentEntity, Integer expectedRevision) {
+		if (nonNull(expectedRevision) && documentEntity.getRevision() != expectedRevision) {
+			throw Problem.valueOf(PRECONDITION_FAILED, ERROR_DOCUMENT_REVISION_MISMATCH.formatted(documentEntity.getRegistrationNumber(), expectedRevision));
+		}
+	}
+
+	private DocumentDataEntity findDocumentDataEntity(String registrationNumber, int revision, String documentDataId, boolean includeConfidential, String municipalityId) {
+
+		final var documentEntity = documentRepository.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(municipalityId, registrationNumber, revision, toInclusionFilter(includeConfidential))
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND.formatted(registrationNumber, revision)));
+
+		if (isEmpty(documentEntity.getDocumentData())) {
+			throw Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_AND_REVISION_NOT_FOUND.formatted(registrationNumber, revision));
+		}
+
+		return documentEntity.getDocumentData().stream()
+			.filter(docData -> docData.getId().equals(documentDataId))
+			.findFirst()
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_FILE_BY_ID_NOT_FOUND.formatted(documentDataId)));
+	}
+
+	private void addFileContentToResponse(DocumentDataEntity documentDataEntity, String range, HttpServletResponse response) {
 
 		try {
-			final var file = documentDataEntity.getDocumentDataBinary().getBinaryFile();
+			final var binaryId = documentDataEntity.getDocumentDataBinary().getId();
+			final var content = binaryReads.execute(binaryId, () -> binaryStorageService.find(binaryId));
+			final var length = content.length();
+			var start = 0L;
+			var end = length - 1;
+
 			response.addHeader(CONTENT_TYPE, documentDataEntity.getMimeType());
 			response.addHeader(CONTENT_DISPOSITION, TEMPLATE_CONTENT_DISPOSITION_HEADER_VALUE.formatted(documentDataEntity.getFileName()));
-			response.setContentLength((int) file.length());
-
-			copy(file.getBinaryStream(), response.getOutputStream());
-		} catch (SQLException | IOException e) {
+			response.addHeader(ACCEPT_RANGES, "bytes");
+
+			final var httpRange = parseRange(range, length);
+			if (httpRange.isPresent()) {
+				try {
+					start = httpRange.get().getRangeStart(length);
+					end = httpRange.get().getRangeEnd(length);
+				} catch (IllegalArgumentException e) {
+					start = length;
+				}
+
+				if (start > end) {
+					response.addHeader(CONTENT_RANGE, "bytes */%s".formatted(length));
+					throw Problem.valueOf(REQUESTED_RANGE_NOT_SATISFIABLE, ERROR_DOCUMENT_FILE_RANGE_NOT_SATISFIABLE.formatted(range, length));
+				}
+
+				response.setStatus(PARTIAL_CONTENT.value());
+				response.addHeader(CONTENT_RANGE, "bytes %s-%s/%s".formatted(start, end, length));
+			}
+
+			response.setContentLengthLong(end - start + 1);
+			binaryStorageService.copy(content, start, end, response.getOutputStream());
+		} catch (IOException e) {
 			LOGGER.warn(ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_COULD_NOT_READ.formatted(documentDataEntity.getId()), e);
 			throw Problem.valueOf(INTERNAL_SERVER_ERROR, ERROR_DOCUMENT_FILE_BY_REGISTRATION_NUMBER_COULD_NOT_READ.formatted(documentDataEntity.getId()));
 		}
 	}
 
+	private static Optional<HttpRange> parseRange(String range, long length) {
+		if (range == null || length == 0) {
+			return Optional.empty();
+		}
+
+		// Invalid and multiple ranges are ignored, the whole file is then returned
+		try {
+			final var httpRanges = HttpRange.parseRanges(range);
+			return httpRanges.size() == 1 ? Optional.of(httpRanges.getFirst()) : Optional.empty();
+		} catch (IllegalArgumentException e) {
+			return Optional.empty();
+		}
+	}
+
 	private void eventLogForDocument(String registrationNumber, ConfidentialityUpdateRequest confidentialityUpdateRequest, String municipalityId) {
 		eventLogClient.createEvent(municipalityId, eventLogProperties.logKeyUuid(), toEvent(
 			UPDATE,
@@ -268,14 +624,30 @@ public class DocumentService {
 
 	private void addOrReplaceDocumentDataEntity(DocumentEntity documentEntity, DocumentDataEntity documentDataEntity) {
 
-		final var documentDataList = Optional.ofNullable(documentEntity.getDocumentData()).orElse(new ArrayList<>());
-
-		// Remove existing documentData element, if the filename already exists.
-		documentDataList.removeIf(documentData -> equalsIgnoreCase(documentData.getFileName(), documentDataEntity.getFileName()));
+		// The current file set might be shared with other revisions, so a new file set is created instead of modifying it.
+		final var documentDataList = Optional.ofNullable(documentEntity.getDocumentData()).orElse(emptyList()).stream()
+			.filter(documentData -> !equalsIgnoreCase(documentData.getFileName(), documentDataEntity.getFileName())) // Remove existing documentData element, if the filename already exists.
+			.map(DocumentMapper::copyDocumentDataEntity)
+			.collect(toCollection(ArrayList::new));
 
 		// Add new documentData element.
 		documentDataList.add(documentDataEntity);
 
 		documentEntity.setDocumentData(documentDataList);
 	}
+
+	private static List<String> toBinaryIds(List<DocumentDataEntity> documentDataEntities) {
+		// Binary ids are assigned when the binaries are persisted (i.e. when the document is saved)
+		return Optional.ofNullable(documentDataEntities).orElse(emptyList()).stream()
+			.map(DocumentDataEntity::getDocumentDataBinary)
+			.filter(Objects::nonNull)
+			.map(DocumentDataBinaryEntity::getId)
+			.toList();
+	}
+
+	private record DocumentReadKey(String municipalityId, String registrationNumber, Integer revision, boolean includeConfidential, Set<DocumentField> fields) {
+	}
+
+	private record FileReadKey(String municipalityId, String registrationNumber, Integer revision, String documentDataId, boolean includeConfidential) {
+	}
 }
@@ -0,0 +1,80 @@
+package se.sundsvall.document.service;
+
+import java.security.InvalidKeyException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Base64;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+import se.sundsvall.document.configuration.DownloadUrlProperties;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Signs and verifies download URLs. A signature covers the municipality, the file and the expiry time of the URL, so a
+ * signed URL can't be used for another file or after it has expired.
+ */
+@Component
+public class DownloadUrlSigner {
+
+	private static final String ALGORITHM = "HmacSHA256";
+
+	private final SecretKeySpec key;
+	private final DownloadUrlProperties downloadUrlProperties;
+	private final Clock clock;
+
+	@Autowired
+	public DownloadUrlSigner(final DownloadUrlProperties downloadUrlProperties) {
+		this(downloadUrlProperties, Clock.systemUTC());
+	}
+
+	DownloadUrlSigner(final DownloadUrlProperties downloadUrlProperties, final Clock clock) {
+		Assert.hasText(downloadUrlProperties.secret(), "document.download-url.secret must be set");
+		this.key = new SecretKeySpec(downloadUrlProperties.secret().getBytes(UTF_8), ALGORITHM);
+		this.downloadUrlProperties = downloadUrlProperties;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return the expiry time, in epoch seconds, of a download URL issued now.
+	 */
+	public long expires() {
+		return Instant.now(clock).plus(downloadUrlProperties.timeToLive()).getEpochSecond();
+	}
+
+	public String sign(final String municipalityId, final String documentDataId, final long expires) {
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(hmac(municipalityId, documentDataId, expires));
+	}
+
+	/**
+	 * @return true if the signature is valid for the provided values and the expiry time has not passed.
+	 */
+	public boolean isValid(final String municipalityId, final String documentDataId, final long expires, final String signature) {
+		if (signature == null || Instant.now(clock).getEpochSecond() > expires) {
+			return false;
+		}
+
+		try {
+			// Constant time comparison, so that the time taken does not reveal how much of a forged signature is correct
+			return MessageDigest.isEqual(hmac(municipalityId, documentDataId, expires), Base64.getUrlDecoder().decode(signature));
+		} catch (final IllegalArgumentException e) {
+			return false; // Not valid base64
+		}
+	}
+
+	private byte[] hmac(final String municipalityId, final String documentDataId, final long expires) {
+		try {
+			final var mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			return mac.doFinal(String.join("\n", municipalityId, documentDataId, String.valueOf(expires)).getBytes(UTF_8));
+		} catch (final NoSuchAlgorithmException | InvalidKeyException e) {
+			// Every Java platform is required to support HmacSHA256
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package se.sundsvall.document.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.document.configuration.IdempotencyProperties;
+import se.sundsvall.document.integration.db.IdempotencyKeyRepository;
+import se.sundsvall.document.integration.db.model.IdempotencyKeyEntity;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.Collections.emptyList;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.transaction.annotation.Propagation.MANDATORY;
+import static se.sundsvall.document.service.Constants.ERROR_IDEMPOTENCY_FINGERPRINT_NOT_READABLE;
+import static se.sundsvall.document.service.Constants.ERROR_IDEMPOTENCY_KEY_CLAIM_EXPIRED;
+import static se.sundsvall.document.service.Constants.ERROR_IDEMPOTENCY_KEY_IN_PROGRESS;
+import static se.sundsvall.document.service.Constants.ERROR_IDEMPOTENCY_KEY_REUSED;
+
+/**
+ * Makes create requests idempotent. The first request with an idempotency key claims the key, by inserting it in a
+ * table with a unique constraint on municipality and key, before the document is created. The registration number of
+ * the document is stored on the claim in the transaction that creates the document, see
+ * {@link #complete(String, String)}, so a document is never created without its key being completed. A request with a
+ * claimed key does not create anything:
+ * <ul>
+ * <li>If the request differs from the first request, i.e. its fingerprint differs, the request is rejected with 409
+ * Conflict.</li>
+ * <li>If the document of the first request has been created, its registration number is returned.</li>
+ * <li>If the first request is still in progress, the request is rejected with 409 Conflict.</li>
+ * </ul>
+ * A claim is only held for the configured lease time, after which it is taken over by the next request with the key,
+ * e.g. when the instance handling the first request has crashed. A claim is released if the first request fails, so
+ * that the request can be retried. A completed key expires after the configured time to live.
+ */
+@Service
+public class IdempotencyService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(IdempotencyService.class);
+	private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+
+	private final IdempotencyKeyRepository idempotencyKeyRepository;
+	private final IdempotencyProperties idempotencyProperties;
+	private final TransactionTemplate transactionTemplate;
+
+	public IdempotencyService(
+		final IdempotencyKeyRepository idempotencyKeyRepository,
+		final IdempotencyProperties idempotencyProperties,
+		final TransactionTemplate transactionTemplate) {
+
+		this.idempotencyKeyRepository = idempotencyKeyRepository;
+		this.idempotencyProperties = idempotencyProperties;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	/**
+	 * Creates a document once per idempotency key.
+	 *
+	 * @param  municipalityId the municipality of the request.
+	 * @param  idempotencyKey the idempotency key of the request.
+	 * @param  fingerprint    the fingerprint of the request, see {@link #fingerprint(InputStreamSource, List)}.
+	 * @param  create         creates the document, given the id of the claim to complete in the transaction that creates
+	 *                        the document, and returns its registration number.
+	 * @return                the registration number of the document created by the first request with the key.
+	 */
+	public String createOnce(final String municipalityId, final String idempotencyKey, final String fingerprint, final Function<String, String> create) {
+		final var claim = claim(municipalityId, idempotencyKey, fingerprint);
+		if (claim.getRegistrationNumber() != null) {
+			return claim.getRegistrationNumber();
+		}
+
+		try {
+			return create.apply(claim.getId());
+		} catch (final RuntimeException e) {
+			release(claim.getId());
+			throw e;
+		}
+	}
+
+	/**
+	 * Calculates the fingerprint of a create request, a SHA-256 hash of the document JSON and the names and sizes of the
+	 * files. The content of the files is left out, as it would have to be read an extra time.
+	 *
+	 * @param  json  the document JSON, as sent by the client.
+	 * @param  files the files of the request.
+	 * @return       the fingerprint as a hex string.
+	 */
+	public String fingerprint(final InputStreamSource json, final List<MultipartFile> files) {
+		final var digest = createDigest();
+		try (var outputStream = new DigestOutputStream(OutputStream.nullOutputStream(), digest); var inputStream = json.getInputStream()) {
+			inputStream.transferTo(outputStream);
+		} catch (final IOException e) {
+			throw Problem.valueOf(BAD_REQUEST, ERROR_IDEMPOTENCY_FINGERPRINT_NOT_READABLE);
+		}
+
+		Optional.ofNullable(files).orElse(emptyList()).stream()
+			.filter(Objects::nonNull)
+			.forEach(file -> digest.update("\n%s\n%d".formatted(file.getOriginalFilename(), file.getSize()).getBytes(UTF_8)));
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Completes a claim by storing the registration number of the created document on it. Must be called within the
+	 * transaction that creates the document, which fails if the claim has been taken over by another request.
+	 *
+	 * @param claimId            the id of the claim.
+	 * @param registrationNumber the registration number of the created document.
+	 */
+	@Transactional(propagation = MANDATORY)
+	public void complete(final String claimId, final String registrationNumber) {
+		final var expires = now(systemDefault()).truncatedTo(MILLIS).plus(idempotencyProperties.timeToLive());
+		if (idempotencyKeyRepository.complete(claimId, registrationNumber, expires) == 0) {
+			throw Problem.valueOf(CONFLICT, ERROR_IDEMPOTENCY_KEY_CLAIM_EXPIRED);
+		}
+	}
+
+	/**
+	 * Removes expired idempotency keys.
+	 */
+	@Scheduled(initialDelayString = "${document.idempotency.cleanup-interval:PT1H}", fixedDelayString = "${document.idempotency.cleanup-interval:PT1H}")
+	public void removeExpired() {
+		final var removed = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteExpired(now(systemDefault())));
+		LOGGER.debug("Removed {} expired idempotency keys", removed);
+	}
+
+	/**
+	 * Claims an idempotency key. A claim in progress expires after the lease time, and a completed key after the time to
+	 * live, after which the key is claimed again.
+	 *
+	 * @return the new claim, or the completed claim of the request that created the document.
+	 */
+	private IdempotencyKeyEntity claim(final String municipalityId, final String idempotencyKey, final String fingerprint) {
+		final var now = now(systemDefault()).truncatedTo(MILLIS);
+		try {
+			return transactionTemplate.execute(status -> {
+				idempotencyKeyRepository.deleteIfExpired(municipalityId, idempotencyKey, now);
+				return idempotencyKeyRepository.saveAndFlush(IdempotencyKeyEntity.create()
+					.withMunicipalityId(municipalityId)
+					.withIdempotencyKey(idempotencyKey)
+					.withFingerprint(fingerprint)
+					.withCreated(now)
+					.withExpires(now.plus(idempotencyProperties.leaseTime())));
+			});
+		} catch (final DataIntegrityViolationException e) {
+			// Claimed by another request
+			final var claim = idempotencyKeyRepository.findByMunicipalityIdAndIdempotencyKey(municipalityId, idempotencyKey);
+			if (claim.map(IdempotencyKeyEntity::getFingerprint).filter(claimed -> !claimed.equals(fingerprint)).isPresent()) {
+				throw Problem.valueOf(CONFLICT, ERROR_IDEMPOTENCY_KEY_REUSED.formatted(idempotencyKey));
+			}
+			return claim
+				.filter(entity -> entity.getRegistrationNumber() != null)
+				.orElseThrow(() -> Problem.valueOf(CONFLICT, ERROR_IDEMPOTENCY_KEY_IN_PROGRESS.formatted(idempotencyKey)));
+		}
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(FINGERPRINT_ALGORITHM);
+		} catch (final NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private void release(final String claimId) {
+		try {
+			transactionTemplate.executeWithoutResult(status -> idempotencyKeyRepository.deleteInProgress(claimId));
+		} catch (final RuntimeException e) {
+			// The claim is released when its lease expires instead
+			LOGGER.warn("Releasing idempotency key claim '{}' failed", claimId, e);
+		}
+	}
+}
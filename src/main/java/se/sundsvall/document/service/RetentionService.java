@@ -0,0 +1,162 @@
+package se.sundsvall.document.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.IntSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.document.configuration.RetentionProperties;
+import se.sundsvall.document.integration.db.DocumentDataBinaryChunkRepository;
+import se.sundsvall.document.integration.db.DocumentDataBinaryColdRepository;
+import se.sundsvall.document.integration.db.DocumentDataBinaryRepository;
+import se.sundsvall.document.integration.db.DocumentDataTextRepository;
+import se.sundsvall.document.integration.db.DocumentFileSetRepository;
+import se.sundsvall.document.integration.db.DocumentMetadataSetRepository;
+import se.sundsvall.document.integration.db.DocumentRepository;
+import se.sundsvall.document.integration.db.DocumentTypeRepository;
+import se.sundsvall.document.service.storage.FileContentCache;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+
+/**
+ * Removes old revisions of documents according to the retention policies of their municipalities and document types,
+ * followed by everything that only the removed revisions used:
+ * <ol>
+ * <li>Revisions that no policy keeps are removed.</li>
+ * <li>Metadata sets and file sets that are no longer used by any revision are removed, with their metadata and
+ * files.</li>
+ * <li>Binaries that are no longer used by any file are removed, with their text index, cold storage content and the
+ * content cached by this instance.</li>
+ * </ol>
+ * Each step removes rows in batches, each batch in its own short transaction. Sets and binaries are shared by
+ * revisions, but a new revision only shares them with the latest revision of its document, which is never removed.
+ */
+@Service
+public class RetentionService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(RetentionService.class);
+
+	private final DocumentRepository documentRepository;
+	private final DocumentTypeRepository documentTypeRepository;
+	private final DocumentMetadataSetRepository documentMetadataSetRepository;
+	private final DocumentFileSetRepository documentFileSetRepository;
+	private final DocumentDataBinaryRepository documentDataBinaryRepository;
+	private final DocumentDataBinaryChunkRepository documentDataBinaryChunkRepository;
+	private final DocumentDataBinaryColdRepository documentDataBinaryColdRepository;
+	private final DocumentDataTextRepository documentDataTextRepository;
+	private final RetentionProperties retentionProperties;
+	private final TransactionTemplate transactionTemplate;
+	private final FileContentCache fileContentCache;
+
+	public RetentionService(
+		final DocumentRepository documentRepository,
+		final DocumentTypeRepository documentTypeRepository,
+		final DocumentMetadataSetRepository documentMetadataSetRepository,
+		final DocumentFileSetRepository documentFileSetRepository,
+		final DocumentDataBinaryRepository documentDataBinaryRepository,
+		final DocumentDataBinaryChunkRepository documentDataBinaryChunkRepository,
+		final DocumentDataBinaryColdRepository documentDataBinaryColdRepository,
+		final DocumentDataTextRepository documentDataTextRepository,
+		final RetentionProperties retentionProperties,
+		final TransactionTemplate transactionTemplate,
+		final FileContentCache fileContentCache) {
+
+		this.documentRepository = documentRepository;
+		this.documentTypeRepository = documentTypeRepository;
+		this.documentMetadataSetRepository = documentMetadataSetRepository;
+		this.documentFileSetRepository = documentFileSetRepository;
+		this.documentDataBinaryRepository = documentDataBinaryRepository;
+		this.documentDataBinaryChunkRepository = documentDataBinaryChunkRepository;
+		this.documentDataBinaryColdRepository = documentDataBinaryColdRepository;
+		this.documentDataTextRepository = documentDataTextRepository;
+		this.retentionProperties = retentionProperties;
+		this.transactionTemplate = transactionTemplate;
+		this.fileContentCache = fileContentCache;
+	}
+
+	@Scheduled(initialDelayString = "${document.retention.interval:PT1H}", fixedDelayString = "${document.retention.interval:PT1H}")
+	public void compact() {
+		if (!retentionProperties.enabled()) {
+			return;
+		}
+
+		final var now = now(systemDefault());
+		final var revisions = documentTypeRepository.findAll().stream()
+			.mapToInt(documentType -> removeRevisions(documentType.getMunicipalityId(), documentType.getType(), now))
+			.sum();
+		final var metadataSets = removeInBatches("metadata sets", this::removeOrphanedMetadataSets);
+		final var fileSets = removeInBatches("file sets", this::removeOrphanedFileSets);
+		final var binaries = removeInBatches("binaries", this::removeOrphanedBinaries);
+
+		LOGGER.info("Removed {} revisions, {} metadata sets, {} file sets and {} binaries", revisions, metadataSets, fileSets, binaries);
+	}
+
+	int removeRevisions(final String municipalityId, final String type, final OffsetDateTime now) {
+		final var policy = retentionProperties.policyFor(municipalityId, type);
+		if (policy.keepRevisions() == null) {
+			return 0;
+		}
+
+		final var createdBefore = now.minus(Optional.ofNullable(policy.keepNewerThan()).orElse(Duration.ZERO));
+		return removeInBatches("revisions of type " + type + " in municipality " + municipalityId, () -> remove(
+			documentRepository.findIdsEligibleForRetention(municipalityId, type, policy.keepRevisions(), createdBefore, retentionProperties.batchSize()),
+			documentRepository::deleteAllByIdInBatch));
+	}
+
+	private int removeOrphanedMetadataSets() {
+		return remove(documentMetadataSetRepository.findOrphanedIds(retentionProperties.batchSize()), ids -> {
+			documentMetadataSetRepository.deleteMetadataByMetadataSetIds(ids);
+			documentMetadataSetRepository.deleteAllByIdInBatch(ids);
+		});
+	}
+
+	private int removeOrphanedFileSets() {
+		return remove(documentFileSetRepository.findOrphanedIds(retentionProperties.batchSize()), ids -> {
+			documentFileSetRepository.deleteDocumentDataByFileSetIds(ids);
+			documentFileSetRepository.deleteAllByIdInBatch(ids);
+		});
+	}
+
+	private int removeOrphanedBinaries() {
+		return remove(documentDataBinaryRepository.findOrphanedIds(retentionProperties.batchSize()), ids -> {
+			documentDataTextRepository.deleteTermsByIds(ids);
+			documentDataTextRepository.deleteAllByIdInBatch(ids);
+			documentDataBinaryChunkRepository.deleteByBinaryIds(ids);
+			documentDataBinaryColdRepository.deleteAllByIdInBatch(ids);
+			documentDataBinaryRepository.deleteAllByIdInBatch(ids);
+			fileContentCache.evict(ids);
+		});
+	}
+
+	private static int remove(final List<String> ids, final Consumer<List<String>> deleter) {
+		if (!ids.isEmpty()) {
+			deleter.accept(ids);
+		}
+		return ids.size();
+	}
+
+	/**
+	 * Runs a batch, each in its own transaction, until a batch removes fewer rows than the batch size. A failed batch
+	 * stops the removal, the rows are tried again at the next removal.
+	 */
+	private int removeInBatches(final String description, final IntSupplier batch) {
+		var removed = 0;
+		try {
+			int found;
+			do {
+				found = Optional.ofNullable(transactionTemplate.execute(status -> batch.getAsInt())).orElse(0);
+				removed += found;
+			} while (found == retentionProperties.batchSize());
+		} catch (final RuntimeException e) {
+			LOGGER.warn("Removal of {} failed", description, e);
+		}
+		return removed;
+	}
+}
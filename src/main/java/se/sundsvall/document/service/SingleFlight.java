@@ -0,0 +1,63 @@
+package se.sundsvall.document.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent calls with the same key into a single call. The first caller of a key makes the call, and
+ * callers of the same key arriving while the call is in flight wait for it and share its result, or its exception.
+ *
+ * Results are not cached, a caller arriving after the call has completed makes a new call. A caller may therefore get
+ * a result from a call that started shortly before its own request, which is the same result it would have got had it
+ * arrived a moment earlier.
+ *
+ * @param <K> the type of the key identifying identical calls.
+ * @param <V> the type of the result. Results are shared between callers and must not be modified.
+ */
+public class SingleFlight<K, V> {
+
+	private final ConcurrentMap<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+
+	/**
+	 * Makes a call, or waits for an identical call in flight.
+	 *
+	 * @param  key  the key identifying identical calls.
+	 * @param  call the call to make, if no identical call is in flight.
+	 * @return      the result of the call.
+	 */
+	public V execute(final K key, final Supplier<V> call) {
+		final var future = new CompletableFuture<V>();
+		final var inFlight = calls.putIfAbsent(key, future);
+		if (inFlight != null) {
+			return await(inFlight);
+		}
+
+		try {
+			final var result = call.get();
+			future.complete(result);
+			return result;
+		} catch (final RuntimeException | Error e) {
+			future.completeExceptionally(e);
+			throw e;
+		} finally {
+			calls.remove(key, future);
+		}
+	}
+
+	private static <V> V await(final CompletableFuture<V> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			if (e.getCause() instanceof final Error error) {
+				throw error;
+			}
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,358 @@
+package se.sundsvall.document.service.ingestion;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentCreateRequest;
+import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.api.model.DocumentFiles;
+import se.sundsvall.document.api.model.Ingestion;
+import se.sundsvall.document.configuration.AsyncIngestionProperties;
+import se.sundsvall.document.integration.db.IngestionRepository;
+import se.sundsvall.document.integration.db.model.IngestionEntity;
+import se.sundsvall.document.integration.db.model.IngestionStatus;
+import se.sundsvall.document.service.DocumentService;
+import se.sundsvall.document.service.upload.UploadedFile;
+import tools.jackson.databind.ObjectMapper;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.truncate;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static se.sundsvall.document.integration.db.model.IngestionOperation.ADD_OR_REPLACE_FILE;
+import static se.sundsvall.document.integration.db.model.IngestionOperation.CREATE_DOCUMENT;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.COMPLETED;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.FAILED;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.PENDING;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.PROCESSING;
+import static se.sundsvall.document.service.Constants.ERROR_INGESTION_COULD_NOT_BE_SPOOLED;
+import static se.sundsvall.document.service.Constants.ERROR_INGESTION_FAILED;
+import static se.sundsvall.document.service.Constants.ERROR_INGESTION_FILES_INCOMPLETE;
+import static se.sundsvall.document.service.Constants.ERROR_INGESTION_INTERRUPTED;
+import static se.sundsvall.document.service.Constants.ERROR_INGESTION_NOT_FOUND;
+import static se.sundsvall.document.service.Constants.ERROR_INGESTION_QUEUE_FULL;
+import static se.sundsvall.document.service.mapper.IngestionMapper.toIngestion;
+
+/**
+ * Asynchronous ingestion of documents and files, for clients that should not have to wait while large files are
+ * stored:
+ * <ol>
+ * <li>The request is stored (status PENDING) and its files are spooled to a local directory, named by the id of the
+ * ingestion. The ingestion is then handed to a bounded pool of workers and the client is answered at once.</li>
+ * <li>A worker persists the request, as if it had been received synchronously (see {@link DocumentService}), and
+ * records the outcome (status COMPLETED or FAILED). The spooled files are removed.</li>
+ * </ol>
+ * Requests are rejected when the work queue is full, so that bursts of requests are pushed back to the clients instead
+ * of filling the disk. Spooled files are only available to the instance that received them, ingestions left behind by
+ * a restart are handed to the workers by a periodic sweep of the spool directory of the instance.
+ */
+@Service
+public class AsyncIngestionService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(AsyncIngestionService.class);
+	private static final int MAX_ERROR_LENGTH = 2048;
+
+	private final IngestionRepository ingestionRepository;
+	private final DocumentService documentService;
+	private final AsyncIngestionProperties asyncIngestionProperties;
+	private final TransactionTemplate transactionTemplate;
+	private final ObjectMapper objectMapper;
+	private final ThreadPoolExecutor executor;
+	private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+	public AsyncIngestionService(
+		final IngestionRepository ingestionRepository,
+		final DocumentService documentService,
+		final AsyncIngestionProperties asyncIngestionProperties,
+		final TransactionTemplate transactionTemplate,
+		final ObjectMapper objectMapper) {
+
+		this.ingestionRepository = ingestionRepository;
+		this.documentService = documentService;
+		this.asyncIngestionProperties = asyncIngestionProperties;
+		this.transactionTemplate = transactionTemplate;
+		this.objectMapper = objectMapper;
+		this.executor = new ThreadPoolExecutor(asyncIngestionProperties.poolSize(), asyncIngestionProperties.poolSize(), 0L, MILLISECONDS,
+			new ArrayBlockingQueue<>(asyncIngestionProperties.queueCapacity()),
+			Thread.ofPlatform().name("async-ingestion-", 0).daemon(true).factory(),
+			new AbortPolicy());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Accepts the creation of a document, which is persisted in the background.
+	 *
+	 * @param  documentCreateRequest the validated request.
+	 * @param  documentFiles         the files of the document.
+	 * @param  municipalityId        the municipality of the document.
+	 * @return                       the accepted ingestion.
+	 */
+	public Ingestion createDocument(final DocumentCreateRequest documentCreateRequest, final List<MultipartFile> documentFiles, final String municipalityId) {
+		return accept(IngestionEntity.create()
+			.withMunicipalityId(municipalityId)
+			.withOperation(CREATE_DOCUMENT)
+			.withRequest(objectMapper.writeValueAsString(documentCreateRequest)), documentFiles);
+	}
+
+	/**
+	 * Accepts the addition (or replacement) of a file on a document, which is persisted in the background.
+	 *
+	 * @param  registrationNumber        the registration number of the document.
+	 * @param  documentDataCreateRequest the validated request.
+	 * @param  documentFile              the file.
+	 * @param  expectedRevision          the revision the change is based on, or null if it applies to any revision.
+	 * @param  municipalityId            the municipality of the document.
+	 * @return                           the accepted ingestion.
+	 */
+	public Ingestion addOrReplaceFile(final String registrationNumber, final DocumentDataCreateRequest documentDataCreateRequest, final MultipartFile documentFile, final Integer expectedRevision,
+		final String municipalityId) {
+
+		return accept(IngestionEntity.create()
+			.withMunicipalityId(municipalityId)
+			.withOperation(ADD_OR_REPLACE_FILE)
+			.withRegistrationNumber(registrationNumber)
+			.withExpectedRevision(expectedRevision)
+			.withRequest(objectMapper.writeValueAsString(documentDataCreateRequest)), List.of(documentFile));
+	}
+
+	@Transactional(readOnly = true)
+	public Ingestion read(final String ingestionId, final String municipalityId) {
+		return toIngestion(ingestionRepository.findByIdAndMunicipalityId(ingestionId, municipalityId)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_INGESTION_NOT_FOUND.formatted(ingestionId))));
+	}
+
+	/**
+	 * Hands spooled ingestions that are not being processed to the workers, e.g. ingestions left behind by a restart.
+	 * Only as many ingestions as there is room for in the work queue are taken, the rest are left for later sweeps.
+	 */
+	@Scheduled(initialDelayString = "${document.async-ingestion.sweep-interval:PT1M}", fixedDelayString = "${document.async-ingestion.sweep-interval:PT1M}")
+	public void sweep() {
+		final var capacity = executor.getQueue().remainingCapacity();
+		final var spoolDirectory = asyncIngestionProperties.spoolDirectory();
+		if (capacity == 0 || !Files.isDirectory(spoolDirectory)) {
+			return;
+		}
+
+		try (var directories = Files.list(spoolDirectory)) {
+			directories.filter(Files::isDirectory)
+				.map(directory -> directory.getFileName().toString())
+				.filter(ingestionId -> !inProgress.contains(ingestionId))
+				.limit(capacity)
+				.toList()
+				.forEach(this::submit);
+		} catch (final IOException e) {
+			LOGGER.warn("Could not list spool directory '{}'", spoolDirectory, e);
+		}
+	}
+
+	/**
+	 * Removes expired ingestions. Files still spooled for them are removed by the sweep.
+	 */
+	@Scheduled(initialDelayString = "${document.async-ingestion.cleanup-interval:PT1H}", fixedDelayString = "${document.async-ingestion.cleanup-interval:PT1H}")
+	public void removeExpired() {
+		final var removed = transactionTemplate.execute(status -> ingestionRepository.deleteExpired(now(systemDefault())));
+		LOGGER.debug("Removed {} expired ingestions", removed);
+	}
+
+	void submit(final String ingestionId) {
+		if (!inProgress.add(ingestionId)) {
+			return;
+		}
+
+		try {
+			execute(ingestionId);
+		} catch (final RejectedExecutionException e) {
+			// The files are still spooled and will be picked up by a later sweep
+			inProgress.remove(ingestionId);
+			LOGGER.debug("Work queue is full, ingestion with id '{}' is postponed", ingestionId);
+		}
+	}
+
+	void process(final String ingestionId) {
+		try {
+			if (!updateStatus(ingestionId, PENDING, PROCESSING)) {
+				// Already processed, interrupted or expired, only the spooled files are left
+				failInterrupted(ingestionId);
+				return;
+			}
+
+			final var document = persist(ingestionRepository.findById(ingestionId).orElseThrow());
+			finish(ingestionId, COMPLETED, document, null);
+		} catch (final ThrowableProblem e) {
+			finish(ingestionId, FAILED, null, e.getMessage());
+		} catch (final Exception e) {
+			LOGGER.warn("Ingestion with id '{}' failed", ingestionId, e);
+			finish(ingestionId, FAILED, null, ERROR_INGESTION_FAILED.formatted(ingestionId));
+		} finally {
+			deleteSpooledFiles(ingestionId);
+		}
+	}
+
+	private Ingestion accept(final IngestionEntity ingestionEntity, final List<MultipartFile> files) {
+		// Checked before anything is stored, the check is repeated when the ingestion is handed to the workers
+		if (executor.getQueue().remainingCapacity() == 0) {
+			throw Problem.valueOf(SERVICE_UNAVAILABLE, ERROR_INGESTION_QUEUE_FULL);
+		}
+
+		final var now = now(systemDefault()).truncatedTo(MILLIS);
+		final var savedEntity = ingestionRepository.save(ingestionEntity
+			.withFiles(objectMapper.writeValueAsString(files.stream().map(SpooledFile::of).toList()))
+			.withStatus(PENDING)
+			.withCreated(now)
+			.withModified(now)
+			.withExpires(now.plus(asyncIngestionProperties.timeToLive())));
+
+		final var ingestionId = savedEntity.getId();
+		inProgress.add(ingestionId);
+		try {
+			spool(ingestionId, files);
+			execute(ingestionId);
+		} catch (final IOException e) {
+			LOGGER.warn(ERROR_INGESTION_COULD_NOT_BE_SPOOLED, e);
+			discard(ingestionId);
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, ERROR_INGESTION_COULD_NOT_BE_SPOOLED);
+		} catch (final RejectedExecutionException e) {
+			discard(ingestionId);
+			throw Problem.valueOf(SERVICE_UNAVAILABLE, ERROR_INGESTION_QUEUE_FULL);
+		}
+
+		return toIngestion(savedEntity);
+	}
+
+	private void execute(final String ingestionId) {
+		executor.execute(() -> {
+			try {
+				process(ingestionId);
+			} finally {
+				inProgress.remove(ingestionId);
+			}
+		});
+	}
+
+	private Document persist(final IngestionEntity ingestionEntity) throws IOException {
+		final var files = readSpooledFiles(ingestionEntity);
+
+		return switch (ingestionEntity.getOperation()) {
+			case CREATE_DOCUMENT -> documentService.create(objectMapper.readValue(ingestionEntity.getRequest(), DocumentCreateRequest.class),
+				DocumentFiles.create().withFiles(files), ingestionEntity.getMunicipalityId());
+			case ADD_OR_REPLACE_FILE -> documentService.addOrReplaceFile(ingestionEntity.getRegistrationNumber(), objectMapper.readValue(ingestionEntity.getRequest(), DocumentDataCreateRequest.class),
+				files.getFirst(), ingestionEntity.getExpectedRevision(), ingestionEntity.getMunicipalityId());
+		};
+	}
+
+	/**
+	 * Writes the files of an ingestion to its spool directory, each file named by its position in the request.
+	 */
+	private void spool(final String ingestionId, final List<MultipartFile> files) throws IOException {
+		final var directory = Files.createDirectories(spoolDirectory(ingestionId));
+		for (var i = 0; i < files.size(); i++) {
+			files.get(i).transferTo(directory.resolve(String.valueOf(i)));
+		}
+	}
+
+	/**
+	 * Reads the spooled files of an ingestion. The files are verified against the sizes recorded when the ingestion was
+	 * accepted, as spooling may have been interrupted by a restart.
+	 */
+	private List<MultipartFile> readSpooledFiles(final IngestionEntity ingestionEntity) throws IOException {
+		final var directory = spoolDirectory(ingestionEntity.getId());
+		final var spooledFiles = objectMapper.readValue(ingestionEntity.getFiles(), SpooledFile[].class);
+
+		final List<MultipartFile> files = new ArrayList<>();
+		for (var i = 0; i < spooledFiles.length; i++) {
+			final var path = directory.resolve(String.valueOf(i));
+			if (!Files.isRegularFile(path) || Files.size(path) != spooledFiles[i].size()) {
+				throw Problem.valueOf(INTERNAL_SERVER_ERROR, ERROR_INGESTION_FILES_INCOMPLETE.formatted(ingestionEntity.getId()));
+			}
+			files.add(new UploadedFile(path, spooledFiles[i].fileName(), spooledFiles[i].contentType(), spooledFiles[i].size()));
+		}
+		return files;
+	}
+
+	private boolean updateStatus(final String ingestionId, final IngestionStatus from, final IngestionStatus to) {
+		return Optional.ofNullable(transactionTemplate.execute(status -> ingestionRepository.updateStatus(ingestionId, from, to, now(systemDefault()).truncatedTo(MILLIS))))
+			.orElse(0) > 0;
+	}
+
+	/**
+	 * Fails an ingestion that was being processed when the instance was stopped. Whether the request was persisted or
+	 * not is unknown, so it is not processed again.
+	 */
+	private void failInterrupted(final String ingestionId) {
+		transactionTemplate.executeWithoutResult(status -> ingestionRepository.findById(ingestionId)
+			.filter(entity -> entity.getStatus() == PROCESSING)
+			.ifPresent(entity -> save(entity, FAILED, null, ERROR_INGESTION_INTERRUPTED.formatted(ingestionId))));
+	}
+
+	private void finish(final String ingestionId, final IngestionStatus ingestionStatus, final Document document, final String error) {
+		transactionTemplate.executeWithoutResult(status -> ingestionRepository.findById(ingestionId)
+			.ifPresent(entity -> save(entity, ingestionStatus, document, error)));
+	}
+
+	private void save(final IngestionEntity entity, final IngestionStatus status, final Document document, final String error) {
+		final var now = now(systemDefault()).truncatedTo(MILLIS);
+		final var documentResult = Optional.ofNullable(document);
+
+		ingestionRepository.save(entity
+			.withStatus(status)
+			.withRegistrationNumber(documentResult.map(Document::getRegistrationNumber).orElse(entity.getRegistrationNumber()))
+			.withRevision(documentResult.map(Document::getRevision).orElse(null))
+			.withError(truncate(error, MAX_ERROR_LENGTH))
+			.withModified(now)
+			.withExpires(now.plus(asyncIngestionProperties.timeToLive())));
+	}
+
+	private void discard(final String ingestionId) {
+		inProgress.remove(ingestionId);
+		deleteSpooledFiles(ingestionId);
+		ingestionRepository.deleteById(ingestionId);
+	}
+
+	private Path spoolDirectory(final String ingestionId) {
+		return asyncIngestionProperties.spoolDirectory().resolve(ingestionId);
+	}
+
+	private void deleteSpooledFiles(final String ingestionId) {
+		final var directory = spoolDirectory(ingestionId);
+		if (!Files.exists(directory)) {
+			return;
+		}
+
+		try (var paths = Files.walk(directory)) {
+			for (final var path : paths.sorted(Comparator.reverseOrder()).toList()) {
+				Files.deleteIfExists(path);
+			}
+		} catch (final IOException e) {
+			LOGGER.warn("Could not delete spooled files of ingestion with id '{}'", ingestionId, e);
+		}
+	}
+}
@@ -0,0 +1,160 @@
+package se.sundsvall.document.service.ingestion;
+
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.configuration.FileIngestionProperties;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static se.sundsvall.document.service.Constants.ERROR_FILES_COULD_NOT_BE_READ;
+
+/**
+ * Prepares uploaded files before they are stored. Each file is read once, its checksum is calculated and its length is
+ * verified against the size of the upload. Smaller files are kept in memory so that they don't have to be read again
+ * when they are stored.
+ *
+ * Files of a request are prepared in parallel by a bounded pool of workers, all files are prepared before any failure
+ * is reported so that the response can list every file that could not be read. When the work queue is full, files are
+ * prepared by the thread handling the request.
+ */
+@Service
+public class FileIngestionService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FileIngestionService.class);
+	private static final String CHECKSUM_ALGORITHM = "SHA-256";
+	private static final int BUFFER_SIZE = 8192;
+
+	private final FileIngestionProperties fileIngestionProperties;
+	private final ThreadPoolExecutor executor;
+
+	public FileIngestionService(final FileIngestionProperties fileIngestionProperties) {
+		this.fileIngestionProperties = fileIngestionProperties;
+		this.executor = new ThreadPoolExecutor(fileIngestionProperties.poolSize(), fileIngestionProperties.poolSize(), 0L, MILLISECONDS,
+			new ArrayBlockingQueue<>(fileIngestionProperties.queueCapacity()),
+			Thread.ofPlatform().name("file-ingestion-", 0).daemon(true).factory(),
+			new CallerRunsPolicy());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Prepares a single file.
+	 *
+	 * @param  file the uploaded file.
+	 * @return      the prepared file, or null if no file is provided.
+	 */
+	public StagedFile stage(final MultipartFile file) {
+		if (file == null) {
+			return null;
+		}
+
+		try {
+			return read(file);
+		} catch (final UncheckedIOException e) {
+			throw toProblem(List.of(describeFailure(file, e)));
+		}
+	}
+
+	/**
+	 * Prepares files in parallel.
+	 *
+	 * @param  files the uploaded files.
+	 * @return       the prepared files in the same order as the uploaded files, or null if no files are provided.
+	 */
+	public List<StagedFile> stage(final List<MultipartFile> files) {
+		if (files == null) {
+			return null;
+		}
+
+		final var nonNullFiles = files.stream().filter(Objects::nonNull).toList();
+		if (nonNullFiles.size() == 1) {
+			return List.of(stage(nonNullFiles.getFirst()));
+		}
+
+		final var futures = nonNullFiles.stream()
+			.map(file -> CompletableFuture.supplyAsync(() -> read(file), executor))
+			.toList();
+
+		final var stagedFiles = new ArrayList<StagedFile>();
+		final var failures = new ArrayList<String>();
+		for (var i = 0; i < futures.size(); i++) {
+			try {
+				stagedFiles.add(futures.get(i).join());
+			} catch (final CompletionException e) {
+				failures.add(describeFailure(nonNullFiles.get(i), e.getCause()));
+			}
+		}
+
+		if (!failures.isEmpty()) {
+			throw toProblem(failures);
+		}
+		return stagedFiles;
+	}
+
+	private StagedFile read(final MultipartFile file) {
+		final var digest = createDigest();
+		final var content = file.getSize() <= fileIngestionProperties.maxInMemorySize().toBytes() ? new ByteArrayOutputStream((int) file.getSize()) : null;
+
+		try (var inputStream = file.getInputStream()) {
+			final var buffer = new byte[BUFFER_SIZE];
+			var length = 0L;
+			int read;
+			while ((read = inputStream.read(buffer)) != -1) {
+				digest.update(buffer, 0, read);
+				if (content != null) {
+					content.write(buffer, 0, read);
+				}
+				length += read;
+			}
+
+			if (length != file.getSize()) {
+				throw new IOException("expected %s bytes but read %s bytes".formatted(file.getSize(), length));
+			}
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		return new StagedFile(file, HexFormat.of().formatHex(digest.digest()), content == null ? null : content.toByteArray());
+	}
+
+	private static MessageDigest createDigest() {
+		try {
+			return MessageDigest.getInstance(CHECKSUM_ALGORITHM);
+		} catch (final NoSuchAlgorithmException e) {
+			// Every Java platform is required to support SHA-256
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String describeFailure(final MultipartFile file, final Throwable throwable) {
+		LOGGER.warn("Uploaded file '{}' could not be read", file.getOriginalFilename(), throwable);
+		final var cause = throwable instanceof final UncheckedIOException uncheckedIOException ? uncheckedIOException.getCause() : throwable;
+		return "'%s' (%s)".formatted(file.getOriginalFilename(), cause.getMessage());
+	}
+
+	private static ThrowableProblem toProblem(final List<String> failures) {
+		return Problem.valueOf(BAD_REQUEST, ERROR_FILES_COULD_NOT_BE_READ.formatted(String.join(", ", failures)));
+	}
+}
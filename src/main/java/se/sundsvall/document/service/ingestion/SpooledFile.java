@@ -0,0 +1,17 @@
+package se.sundsvall.document.service.ingestion;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * A file of an asynchronous ingestion, spooled to local disk until it has been persisted.
+ *
+ * @param fileName    the original file name.
+ * @param contentType the content type of the file.
+ * @param size        the size of the file in bytes.
+ */
+public record SpooledFile(String fileName, String contentType, long size) {
+
+	public static SpooledFile of(final MultipartFile file) {
+		return new SpooledFile(file.getOriginalFilename(), file.getContentType(), file.getSize());
+	}
+}
@@ -0,0 +1,13 @@
+package se.sundsvall.document.service.ingestion;
+
+import org.springframework.web.multipart.MultipartFile;
+
+/**
+ * An uploaded file that has been read and verified and is ready to be stored.
+ *
+ * @param file     the uploaded file.
+ * @param checksum the SHA-256 checksum of the content, hex encoded.
+ * @param content  the content, or null if the file was too large to be kept in memory.
+ */
+public record StagedFile(MultipartFile file, String checksum, byte[] content) {
+}
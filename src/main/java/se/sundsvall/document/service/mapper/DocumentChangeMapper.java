@@ -0,0 +1,60 @@
+package se.sundsvall.document.service.mapper;
+
+import java.util.List;
+import java.util.Optional;
+import se.sundsvall.document.api.model.DocumentChange;
+import se.sundsvall.document.api.model.DocumentChanges;
+import se.sundsvall.document.integration.db.model.DocumentChangeEntity;
+import se.sundsvall.document.integration.db.model.DocumentChangeType;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
+
+import static java.util.Optional.ofNullable;
+
+public class DocumentChangeMapper {
+
+	private DocumentChangeMapper() {}
+
+	/**
+	 * Database to Database mappings.
+	 */
+
+	public static DocumentChangeEntity toDocumentChangeEntity(DocumentEntity documentEntity, DocumentChangeType type, long sequenceNumber) {
+		return ofNullable(documentEntity)
+			.map(entity -> DocumentChangeEntity.create()
+				.withDocumentId(entity.getId())
+				.withDocumentType(ofNullable(entity.getType()).map(DocumentTypeEntity::getType).orElse(null))
+				.withMunicipalityId(entity.getMunicipalityId())
+				.withRegistrationNumber(entity.getRegistrationNumber())
+				.withRevision(entity.getRevision())
+				.withSequenceNumber(sequenceNumber)
+				.withType(type))
+			.orElse(null);
+	}
+
+	/**
+	 * Database to API mappings.
+	 */
+
+	public static DocumentChanges toDocumentChanges(List<DocumentChangeEntity> documentChangeEntities, long cursor) {
+		final var changes = Optional.ofNullable(documentChangeEntities).orElse(List.of()).stream()
+			.map(DocumentChangeMapper::toDocumentChange)
+			.toList();
+
+		return DocumentChanges.create()
+			.withChanges(changes)
+			.withCursor(changes.isEmpty() ? cursor : changes.getLast().getSequenceNumber());
+	}
+
+	public static DocumentChange toDocumentChange(DocumentChangeEntity documentChangeEntity) {
+		return ofNullable(documentChangeEntity)
+			.map(entity -> DocumentChange.create()
+				.withCreated(entity.getCreated())
+				.withDocumentType(entity.getDocumentType())
+				.withRegistrationNumber(entity.getRegistrationNumber())
+				.withRevision(entity.getRevision())
+				.withSequenceNumber(entity.getSequenceNumber())
+				.withType(ofNullable(entity.getType()).map(DocumentChangeType::name).orElse(null)))
+			.orElse(null);
+	}
+}
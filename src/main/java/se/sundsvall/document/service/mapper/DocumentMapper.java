@@ -2,29 +2,52 @@ package se.sundsvall.document.service.mapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import org.springframework.data.domain.Page;
-import org.springframework.web.multipart.MultipartFile;
 import se.sundsvall.dept44.models.api.paging.PagingMetaData;
 import se.sundsvall.document.api.model.Confidentiality;
 import se.sundsvall.document.api.model.ConfidentialityUpdateRequest;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentBatchReadResult;
 import se.sundsvall.document.api.model.DocumentCreateRequest;
 import se.sundsvall.document.api.model.DocumentData;
-import se.sundsvall.document.api.model.DocumentFiles;
+import se.sundsvall.document.api.model.DocumentField;
 import se.sundsvall.document.api.model.DocumentMetadata;
+import se.sundsvall.document.api.model.DocumentReference;
 import se.sundsvall.document.api.model.DocumentUpdateRequest;
 import se.sundsvall.document.api.model.PagedDocumentResponse;
-import se.sundsvall.document.integration.db.DatabaseHelper;
+import se.sundsvall.document.api.model.SparseDocument;
 import se.sundsvall.document.integration.db.model.ConfidentialityEmbeddable;
 import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
 import se.sundsvall.document.integration.db.model.DocumentDataEntity;
 import se.sundsvall.document.integration.db.model.DocumentEntity;
 import se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable;
+import se.sundsvall.document.integration.db.model.DocumentMetadataSetEntity;
+import se.sundsvall.document.service.ingestion.StagedFile;
+import se.sundsvall.document.service.search.SearchQuery;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+import se.sundsvall.document.service.search.SearchQueryMatcher;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toCollection;
 import static org.apache.commons.lang3.ObjectUtils.anyNull;
+import static org.springframework.util.CollectionUtils.isEmpty;
+import static se.sundsvall.document.api.model.DocumentField.ARCHIVE;
+import static se.sundsvall.document.api.model.DocumentField.CONFIDENTIALITY;
+import static se.sundsvall.document.api.model.DocumentField.CREATED;
+import static se.sundsvall.document.api.model.DocumentField.CREATED_BY;
+import static se.sundsvall.document.api.model.DocumentField.DESCRIPTION;
+import static se.sundsvall.document.api.model.DocumentField.DOCUMENT_DATA;
+import static se.sundsvall.document.api.model.DocumentField.ID;
+import static se.sundsvall.document.api.model.DocumentField.MATCHED_FIELDS;
+import static se.sundsvall.document.api.model.DocumentField.METADATA_LIST;
+import static se.sundsvall.document.api.model.DocumentField.MUNICIPALITY_ID;
+import static se.sundsvall.document.api.model.DocumentField.REGISTRATION_NUMBER;
+import static se.sundsvall.document.api.model.DocumentField.TYPE;
 import static se.sundsvall.document.service.InclusionFilter.CONFIDENTIAL_AND_PUBLIC;
 import static se.sundsvall.document.service.InclusionFilter.PUBLIC;
 
@@ -48,21 +71,21 @@ public class DocumentMapper {
 			.orElse(null);
 	}
 
-	public static List<DocumentDataEntity> toDocumentDataEntities(final DocumentFiles documentFiles, final DatabaseHelper databaseHelper) {
-		return Optional.ofNullable(documentFiles).map(DocumentFiles::getFiles)
+	public static List<DocumentDataEntity> toDocumentDataEntities(final List<StagedFile> stagedFiles, final Function<StagedFile, DocumentDataBinaryEntity> binaryStorer) {
+		return Optional.ofNullable(stagedFiles)
 			.map(files -> files.stream()
-				.map(file -> toDocumentDataEntity(file, databaseHelper))
+				.map(file -> toDocumentDataEntity(file, binaryStorer))
 				.toList())
 			.orElse(null);
 	}
 
-	public static DocumentDataEntity toDocumentDataEntity(MultipartFile multipartFile, DatabaseHelper databaseHelper) {
-		return Optional.ofNullable(multipartFile)
-			.map(file -> DocumentDataEntity.create()
-				.withDocumentDataBinary(toDocumentDataBinaryEntity(file, databaseHelper))
-				.withMimeType(file.getContentType())
-				.withFileName(file.getOriginalFilename())
-				.withFileSizeInBytes(file.getSize()))
+	public static DocumentDataEntity toDocumentDataEntity(StagedFile stagedFile, Function<StagedFile, DocumentDataBinaryEntity> binaryStorer) {
+		return Optional.ofNullable(stagedFile)
+			.map(staged -> DocumentDataEntity.create()
+				.withDocumentDataBinary(binaryStorer.apply(staged))
+				.withMimeType(staged.file().getContentType())
+				.withFileName(staged.file().getOriginalFilename())
+				.withFileSizeInBytes(staged.file().getSize()))
 			.orElse(null);
 	}
 
@@ -86,10 +109,12 @@ public class DocumentMapper {
 			.withConfidentiality(existingDocumentEntity.getConfidentiality())
 			.withArchive(Optional.ofNullable(documentUpdateRequest.getArchive()).orElse(existingDocumentEntity.isArchive()))
 			.withDescription(Optional.ofNullable(documentUpdateRequest.getDescription()).orElse(existingDocumentEntity.getDescription()))
-			.withMetadata(Optional.ofNullable(documentUpdateRequest.getMetadataList())
+			.withMetadataSet(Optional.ofNullable(documentUpdateRequest.getMetadataList())
 				.map(DocumentMapper::toDocumentMetadataEmbeddableList)
-				.orElse(copyDocumentMetadataEmbeddableList(existingDocumentEntity.getMetadata())))
-			.withDocumentData(copyDocumentDataEntities(existingDocumentEntity.getDocumentData()))
+				.filter(metadata -> !metadata.equals(existingDocumentEntity.getMetadata()))
+				.map(metadata -> DocumentMetadataSetEntity.create().withMetadata(metadata))
+				.orElse(existingDocumentEntity.getMetadataSet())) // Unchanged metadata is shared with the existing revision.
+			.withFileSet(existingDocumentEntity.getFileSet()) // Files are shared with the existing revision.
 			.withType(existingDocumentEntity.getType());
 	}
 
@@ -119,10 +144,47 @@ public class DocumentMapper {
 			.toList();
 	}
 
+	public static DocumentBatchReadResult toDocumentBatchReadResult(DocumentReference documentReference, DocumentEntity documentEntity, Set<DocumentField> fields) {
+		return Optional.ofNullable(documentReference)
+			.map(reference -> DocumentBatchReadResult.create()
+				.withDocument(toDocument(documentEntity, fields))
+				.withFound(documentEntity != null)
+				.withRegistrationNumber(reference.getRegistrationNumber())
+				.withRevision(reference.getRevision()))
+			.orElse(null);
+	}
+
+	public static DocumentReference toDocumentReference(DocumentEntity documentEntity) {
+		return Optional.ofNullable(documentEntity)
+			.map(entity -> DocumentReference.create()
+				.withRegistrationNumber(entity.getRegistrationNumber())
+				.withRevision(entity.getRevision()))
+			.orElse(null);
+	}
+
 	public static PagedDocumentResponse toPagedDocumentResponse(Page<DocumentEntity> documentEntityPage) {
+		return toPagedDocumentResponse(documentEntityPage, null);
+	}
+
+	public static PagedDocumentResponse toPagedDocumentResponse(Page<DocumentEntity> documentEntityPage, Set<DocumentField> fields) {
+		return toPagedDocumentResponse(documentEntityPage, null, emptyMap(), fields);
+	}
+
+	/**
+	 * Maps a page of search results. Each document is decorated with the fields that matched the search query.
+	 *
+	 * @param  documentEntityPage the page to map.
+	 * @param  searchQuery        the query that produced the page, or null if no matched fields should be added.
+	 * @param  contentMatches     the ids of the binaries whose extracted text matches each content term of the query.
+	 * @param  fields             the attributes to include in each document, or null to include all attributes.
+	 * @return                    the mapped page.
+	 */
+	public static PagedDocumentResponse toPagedDocumentResponse(Page<DocumentEntity> documentEntityPage, SearchQuery searchQuery, Map<Term, Set<String>> contentMatches, Set<DocumentField> fields) {
 		return Optional.ofNullable(documentEntityPage)
 			.map(page -> PagedDocumentResponse.create()
-				.withDocuments(toDocumentList(page.getContent()))
+				.withDocuments(page.getContent().stream()
+					.map(documentEntity -> toDocument(documentEntity, searchQuery, contentMatches, fields))
+					.toList())
 				.withMetaData(PagingMetaData.create()
 					.withPage(page.getPageable().getPageNumber())
 					.withLimit(page.getPageable().getPageSize())
@@ -132,24 +194,84 @@ public class DocumentMapper {
 			.orElse(null);
 	}
 
+	private static Document toDocument(DocumentEntity documentEntity, SearchQuery searchQuery, Map<Term, Set<String>> contentMatches, Set<DocumentField> fields) {
+		return Optional.ofNullable(toDocument(documentEntity, fields))
+			.map(document -> document.withMatchedFields(Optional.ofNullable(searchQuery)
+				.filter(query -> isIncluded(fields, MATCHED_FIELDS))
+				.map(query -> SearchQueryMatcher.matchedFields(query, documentEntity, contentMatches))
+				.filter(matchedFields -> !matchedFields.isEmpty())
+				.orElse(null)))
+			.orElse(null);
+	}
+
 	public static Document toDocument(DocumentEntity documentEntity) {
+		return toDocument(documentEntity, null);
+	}
+
+	/**
+	 * Maps a document, limited to a sparse fieldset. Attributes that are not requested are left empty and the
+	 * associations they are read from (e.g. the files and the metadata) are never loaded. A document limited to a
+	 * fieldset is mapped to a {@link SparseDocument}, which leaves the attributes that were not requested out of the JSON.
+	 *
+	 * @param  documentEntity the entity to map.
+	 * @param  fields         the attributes to include, or null (or empty) to include all attributes. The revision is
+	 *                        always included.
+	 * @return                the mapped document.
+	 */
+	public static Document toDocument(DocumentEntity documentEntity, Set<DocumentField> fields) {
 		return Optional.ofNullable(documentEntity)
-			.map(docEntity -> Document.create()
-				.withConfidentiality(toConfidentiality(docEntity.getConfidentiality()))
-				.withArchive(docEntity.isArchive())
-				.withCreated(docEntity.getCreated())
-				.withCreatedBy(docEntity.getCreatedBy())
-				.withDescription(docEntity.getDescription())
-				.withDocumentData(toDocumentDataList(docEntity.getDocumentData()))
-				.withId(docEntity.getId())
-				.withMetadataList(toDocumentMetadataList(docEntity.getMetadata()))
-				.withMunicipalityId(docEntity.getMunicipalityId())
-				.withRegistrationNumber(docEntity.getRegistrationNumber())
-				.withRevision(docEntity.getRevision())
-				.withType(docEntity.getType().getType()))
+			.map(docEntity -> {
+				final var document = isEmpty(fields) ? Document.create() : SparseDocument.create().withArchiveIncluded(fields.contains(ARCHIVE));
+				document.setRevision(docEntity.getRevision());
+				if (isIncluded(fields, CONFIDENTIALITY)) {
+					document.setConfidentiality(toConfidentiality(docEntity.getConfidentiality()));
+				}
+				if (isIncluded(fields, ARCHIVE)) {
+					document.setArchive(docEntity.isArchive());
+				}
+				if (isIncluded(fields, CREATED)) {
+					document.setCreated(docEntity.getCreated());
+				}
+				if (isIncluded(fields, CREATED_BY)) {
+					document.setCreatedBy(docEntity.getCreatedBy());
+				}
+				if (isIncluded(fields, DESCRIPTION)) {
+					document.setDescription(docEntity.getDescription());
+				}
+				if (isIncluded(fields, DOCUMENT_DATA)) {
+					document.setDocumentData(toDocumentDataList(docEntity.getDocumentData()));
+				}
+				if (isIncluded(fields, ID)) {
+					document.setId(docEntity.getId());
+				}
+				if (isIncluded(fields, METADATA_LIST)) {
+					document.setMetadataList(toDocumentMetadataList(docEntity.getMetadata()));
+				}
+				if (isIncluded(fields, MUNICIPALITY_ID)) {
+					document.setMunicipalityId(docEntity.getMunicipalityId());
+				}
+				if (isIncluded(fields, REGISTRATION_NUMBER)) {
+					document.setRegistrationNumber(docEntity.getRegistrationNumber());
+				}
+				if (isIncluded(fields, TYPE)) {
+					document.setType(docEntity.getType().getType());
+				}
+				return document;
+			})
 			.orElse(null);
 	}
 
+	/**
+	 * Tells if an attribute is part of a sparse fieldset.
+	 *
+	 * @param  fields the requested attributes, or null (or empty) if all attributes are requested.
+	 * @param  field  the attribute to check.
+	 * @return        true if the attribute should be included.
+	 */
+	public static boolean isIncluded(Set<DocumentField> fields, DocumentField field) {
+		return isEmpty(fields) || fields.contains(field);
+	}
+
 	public static Confidentiality toConfidentiality(ConfidentialityEmbeddable confidentialityEmbedded) {
 		return Optional.ofNullable(confidentialityEmbedded)
 			.map(c -> Confidentiality.create()
@@ -162,6 +284,13 @@ public class DocumentMapper {
 	 * Database to Database mappings.
 	 */
 
+	/**
+	 * Creates a copy of a document entity, intended as base for a new revision. The file set and metadata set are shared
+	 * with the copied entity and must be replaced (not modified) if the new revision changes files or metadata.
+	 *
+	 * @param  documentEntity the entity to copy.
+	 * @return                a copy of the entity.
+	 */
 	public static DocumentEntity copyDocumentEntity(DocumentEntity documentEntity) {
 		return Optional.ofNullable(documentEntity)
 			.map(docEntity -> DocumentEntity.create()
@@ -169,8 +298,8 @@ public class DocumentMapper {
 				.withArchive(documentEntity.isArchive())
 				.withCreatedBy(docEntity.getCreatedBy())
 				.withDescription(docEntity.getDescription())
-				.withDocumentData(copyDocumentDataEntities(docEntity.getDocumentData()))
-				.withMetadata(copyDocumentMetadataEmbeddableList(docEntity.getMetadata()))
+				.withFileSet(docEntity.getFileSet())
+				.withMetadataSet(docEntity.getMetadataSet())
 				.withMunicipalityId(docEntity.getMunicipalityId())
 				.withRegistrationNumber(docEntity.getRegistrationNumber())
 				.withRevision(docEntity.getRevision())
@@ -184,7 +313,7 @@ public class DocumentMapper {
 				.withMimeType(docEntity.getMimeType())
 				.withFileName(docEntity.getFileName())
 				.withFileSizeInBytes(docEntity.getFileSizeInBytes())
-				.withDocumentDataBinary(copyDocumentDataBinaryEntity(docEntity.getDocumentDataBinary())))
+				.withDocumentDataBinary(docEntity.getDocumentDataBinary())) // The binary content is shared, never copied.
 			.orElse(null);
 	}
 
@@ -192,22 +321,6 @@ public class DocumentMapper {
 	 * Private methods
 	 */
 
-	private static List<DocumentDataEntity> copyDocumentDataEntities(List<DocumentDataEntity> documentDataEntityList) {
-		return Optional.ofNullable(documentDataEntityList)
-			.map(list -> list.stream()
-				.map(DocumentMapper::copyDocumentDataEntity)
-				.collect(toCollection(ArrayList::new))) // Need a mutable List here.
-			.orElse(null);
-	}
-
-	private static List<DocumentMetadataEmbeddable> copyDocumentMetadataEmbeddableList(List<DocumentMetadataEmbeddable> documentMetadataEmbeddableList) {
-		return Optional.ofNullable(documentMetadataEmbeddableList).orElse(emptyList()).stream()
-			.map(docMetadataEmbeddable -> DocumentMetadataEmbeddable.create()
-				.withKey(docMetadataEmbeddable.getKey())
-				.withValue(docMetadataEmbeddable.getValue()))
-			.toList();
-	}
-
 	private static List<DocumentMetadataEmbeddable> toDocumentMetadataEmbeddableList(List<DocumentMetadata> documentMetadataList) {
 		return Optional.ofNullable(documentMetadataList).orElse(emptyList()).stream()
 			.map(documentMetadata -> DocumentMetadataEmbeddable.create()
@@ -216,20 +329,6 @@ public class DocumentMapper {
 			.toList();
 	}
 
-	private static DocumentDataBinaryEntity copyDocumentDataBinaryEntity(DocumentDataBinaryEntity documentDataFileEntity) {
-		return Optional.ofNullable(documentDataFileEntity)
-			.map(docData -> DocumentDataBinaryEntity.create()
-				.withBinaryFile(docData.getBinaryFile()))
-			.orElse(null);
-	}
-
-	private static DocumentDataBinaryEntity toDocumentDataBinaryEntity(MultipartFile multipartFile, DatabaseHelper databaseHelper) {
-		return Optional.ofNullable(multipartFile)
-			.map(file -> DocumentDataBinaryEntity.create()
-				.withBinaryFile(databaseHelper.convertToBlob(file)))
-			.orElse(null);
-	}
-
 	private static List<DocumentMetadata> toDocumentMetadataList(List<DocumentMetadataEmbeddable> documentMetadataEmbeddableList) {
 		return Optional.ofNullable(documentMetadataEmbeddableList).orElse(emptyList()).stream()
 			.map(docMetadataEmbeddable -> DocumentMetadata.create()
@@ -0,0 +1,29 @@
+package se.sundsvall.document.service.mapper;
+
+import se.sundsvall.document.api.model.Ingestion;
+import se.sundsvall.document.integration.db.model.IngestionEntity;
+import se.sundsvall.document.integration.db.model.IngestionStatus;
+
+import static java.util.Optional.ofNullable;
+
+public class IngestionMapper {
+
+	private IngestionMapper() {}
+
+	/**
+	 * Database to API mappings.
+	 */
+
+	public static Ingestion toIngestion(IngestionEntity ingestionEntity) {
+		return ofNullable(ingestionEntity)
+			.map(entity -> Ingestion.create()
+				.withCreated(entity.getCreated())
+				.withError(entity.getError())
+				.withId(entity.getId())
+				.withModified(entity.getModified())
+				.withRegistrationNumber(entity.getRegistrationNumber())
+				.withRevision(entity.getRevision())
+				.withStatus(ofNullable(entity.getStatus()).map(IngestionStatus::name).orElse(null)))
+			.orElse(null);
+	}
+}
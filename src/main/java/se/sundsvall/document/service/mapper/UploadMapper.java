@@ -0,0 +1,45 @@
+package se.sundsvall.document.service.mapper;
+
+import java.util.Optional;
+import se.sundsvall.document.api.model.Upload;
+import se.sundsvall.document.api.model.UploadCreateRequest;
+import se.sundsvall.document.integration.db.model.UploadEntity;
+
+import static java.util.Optional.ofNullable;
+
+public class UploadMapper {
+
+	private UploadMapper() {}
+
+	/**
+	 * API to Database mappings.
+	 */
+
+	public static UploadEntity toUploadEntity(String registrationNumber, UploadCreateRequest uploadCreateRequest, String municipalityId) {
+		return ofNullable(uploadCreateRequest)
+			.map(request -> UploadEntity.create()
+				.withCreatedBy(request.getCreatedBy())
+				.withFileName(request.getFileName())
+				.withFileSizeInBytes(Optional.ofNullable(request.getFileSizeInBytes()).orElse(0L))
+				.withMimeType(request.getMimeType())
+				.withMunicipalityId(municipalityId)
+				.withRegistrationNumber(registrationNumber))
+			.orElse(null);
+	}
+
+	/**
+	 * Database to API mappings.
+	 */
+
+	public static Upload toUpload(UploadEntity uploadEntity) {
+		return ofNullable(uploadEntity)
+			.map(entity -> Upload.create()
+				.withExpires(entity.getExpires())
+				.withFileName(entity.getFileName())
+				.withFileSizeInBytes(entity.getFileSizeInBytes())
+				.withId(entity.getId())
+				.withMimeType(entity.getMimeType())
+				.withReceivedBytes(entity.getReceivedBytes()))
+			.orElse(null);
+	}
+}
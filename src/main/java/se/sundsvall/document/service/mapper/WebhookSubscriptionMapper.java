@@ -0,0 +1,54 @@
+package se.sundsvall.document.service.mapper;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import se.sundsvall.document.api.model.WebhookSubscription;
+import se.sundsvall.document.api.model.WebhookSubscriptionCreateRequest;
+import se.sundsvall.document.integration.db.model.WebhookSubscriptionEntity;
+
+import static java.util.Collections.emptyList;
+import static java.util.Optional.ofNullable;
+
+public class WebhookSubscriptionMapper {
+
+	private WebhookSubscriptionMapper() {}
+
+	/**
+	 * API to Database mappings.
+	 */
+
+	public static WebhookSubscriptionEntity toWebhookSubscriptionEntity(String municipalityId, WebhookSubscriptionCreateRequest webhookSubscriptionCreateRequest, long lastSequenceNumber) {
+		return ofNullable(webhookSubscriptionCreateRequest)
+			.map(request -> WebhookSubscriptionEntity.create()
+				.withDocumentType(ofNullable(request.getDocumentType()).map(String::toUpperCase).orElse(null))
+				.withLastSequenceNumber(lastSequenceNumber)
+				.withMunicipalityId(municipalityId)
+				.withUrl(request.getUrl()))
+			.orElse(null);
+	}
+
+	/**
+	 * Database to API mappings.
+	 */
+
+	public static List<WebhookSubscription> toWebhookSubscriptions(List<WebhookSubscriptionEntity> webhookSubscriptionEntities) {
+		return Optional.ofNullable(webhookSubscriptionEntities).orElse(emptyList()).stream()
+			.map(WebhookSubscriptionMapper::toWebhookSubscription)
+			.filter(Objects::nonNull)
+			.toList();
+	}
+
+	public static WebhookSubscription toWebhookSubscription(WebhookSubscriptionEntity webhookSubscriptionEntity) {
+		return ofNullable(webhookSubscriptionEntity)
+			.map(entity -> WebhookSubscription.create()
+				.withCreated(entity.getCreated())
+				.withDocumentType(entity.getDocumentType())
+				.withFailedAttempts(entity.getFailedAttempts())
+				.withId(entity.getId())
+				.withLastSequenceNumber(entity.getLastSequenceNumber())
+				.withNextAttempt(entity.getNextAttempt())
+				.withUrl(entity.getUrl()))
+			.orElse(null);
+	}
+}
@@ -0,0 +1,81 @@
+package se.sundsvall.document.service.search;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Parsed representation of a search query. A query is a tree of boolean operators ({@link And}, {@link Or} and
+ * {@link Not}) with {@link Term} leafs. Use {@link SearchQueryParser#parse(String)} to create an instance from a query
+ * string.
+ */
+public sealed interface SearchQuery {
+
+	record And(List<SearchQuery> operands) implements SearchQuery {}
+
+	record Or(List<SearchQuery> operands) implements SearchQuery {}
+
+	record Not(SearchQuery operand) implements SearchQuery {}
+
+	/**
+	 * A single search term.
+	 *
+	 * @param field       the field that the term is scoped to ({@link Field#ANY} for unscoped terms).
+	 * @param metadataKey the metadata key when the term is scoped to a specific metadata key (i.e. "meta.key:value"),
+	 *                    otherwise null.
+	 * @param value       the value to match, without trailing wildcard for {@link MatchType#PREFIX} terms.
+	 * @param matchType   how the value should be matched.
+	 */
+	record Term(Field field, String metadataKey, String value, MatchType matchType) implements SearchQuery {
+
+		/**
+		 * Returns true if the term should be matched against the extracted text of files. Unscoped terms are only matched
+		 * against the text if they are exact or prefix terms, as other terms can not use the text index.
+		 *
+		 * @return true if the term applies to the extracted text of files.
+		 */
+		public boolean isContentTerm() {
+			return field == Field.CONTENT || (field == Field.ANY && (matchType == MatchType.EXACT || matchType == MatchType.PREFIX));
+		}
+	}
+
+	enum Field {
+		ANY(null),
+		CREATED_BY("createdBy"),
+		DESCRIPTION("description"),
+		MUNICIPALITY_ID("municipalityId"),
+		REGISTRATION_NUMBER("registrationNumber"),
+		FILE("file"),
+		MIME_TYPE("mimeType"),
+		CONTENT("content"),
+		META("meta");
+
+		private final String name;
+
+		Field(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public static Optional<Field> fromName(String name) {
+			return Arrays.stream(values())
+				.filter(field -> field.name != null)
+				.filter(field -> field.name.equalsIgnoreCase(name))
+				.findFirst();
+		}
+	}
+
+	enum MatchType {
+		/** Value must be equal to the field value (case insensitive). */
+		EXACT,
+		/** Field value must start with the value (case insensitive). */
+		PREFIX,
+		/** Value contains wildcards (*) at other positions than the end. */
+		WILDCARD,
+		/** Value consists of wildcards only and matches any non-null field value. */
+		ANY
+	}
+}
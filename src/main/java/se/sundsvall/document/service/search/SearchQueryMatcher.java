@@ -0,0 +1,158 @@
+package se.sundsvall.document.service.search;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataEntity;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.service.search.SearchQuery.And;
+import se.sundsvall.document.service.search.SearchQuery.Field;
+import se.sundsvall.document.service.search.SearchQuery.Not;
+import se.sundsvall.document.service.search.SearchQuery.Or;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptySet;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+import static java.util.regex.Pattern.UNICODE_CASE;
+import static java.util.stream.Collectors.joining;
+import static org.apache.commons.lang3.ObjectUtils.anyNull;
+import static org.apache.commons.lang3.StringUtils.equalsIgnoreCase;
+import static org.apache.commons.lang3.StringUtils.startsWithIgnoreCase;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.ANY;
+
+/**
+ * Resolves which fields of a document that matched a search query. Used to give hints in search results, the actual
+ * filtering is done by the database (see SearchSpecification).
+ */
+public final class SearchQueryMatcher {
+
+	private static final String TEMPLATE_METADATA_FIELD = "meta.%s";
+
+	private SearchQueryMatcher() {}
+
+	/**
+	 * Returns the names of the fields in the document that matches at least one (non negated) term in the query.
+	 * Metadata matches are returned as "meta.[key]". Terms consisting of wildcards only matches everything and does not
+	 * result in any hints.
+	 *
+	 * @param  searchQuery    the search query.
+	 * @param  documentEntity the document to resolve matching fields for.
+	 * @return                a list with the names of the matching fields, in query order.
+	 */
+	public static List<String> matchedFields(SearchQuery searchQuery, DocumentEntity documentEntity) {
+		return matchedFields(searchQuery, documentEntity, emptyMap());
+	}
+
+	/**
+	 * Returns the names of the fields in the document that matches at least one (non negated) term in the query. The
+	 * extracted text of files is not available in memory, matches in the text are instead provided by the caller.
+	 *
+	 * @param  searchQuery    the search query.
+	 * @param  documentEntity the document to resolve matching fields for.
+	 * @param  contentMatches the ids of the binaries whose extracted text matches each content term of the query (see
+	 *                        {@link #contentTerms(SearchQuery)}).
+	 * @return                a list with the names of the matching fields, in query order.
+	 */
+	public static List<String> matchedFields(SearchQuery searchQuery, DocumentEntity documentEntity, Map<Term, Set<String>> contentMatches) {
+		if (anyNull(searchQuery, documentEntity, contentMatches)) {
+			return emptyList();
+		}
+
+		final var matchedFields = new LinkedHashSet<String>();
+		collectMatchedFields(searchQuery, documentEntity, contentMatches, matchedFields);
+		return List.copyOf(matchedFields);
+	}
+
+	/**
+	 * Returns the (non negated) terms of the query that should be matched against the extracted text of files.
+	 *
+	 * @param  searchQuery the search query.
+	 * @return             a list with the content terms of the query.
+	 */
+	public static List<Term> contentTerms(SearchQuery searchQuery) {
+		return switch (searchQuery) {
+			case And and -> and.operands().stream().flatMap(operand -> contentTerms(operand).stream()).toList();
+			case Or or -> or.operands().stream().flatMap(operand -> contentTerms(operand).stream()).toList();
+			case Not ignored -> emptyList();
+			case Term term -> term.isContentTerm() && term.matchType() != ANY ? List.of(term) : emptyList();
+		};
+	}
+
+	static boolean matches(Term term, String value) {
+		if (value == null) {
+			return false;
+		}
+
+		return switch (term.matchType()) {
+			case EXACT -> equalsIgnoreCase(value, term.value());
+			case PREFIX -> startsWithIgnoreCase(value, term.value());
+			case WILDCARD -> toPattern(term.value()).matcher(value).matches();
+			case ANY -> true;
+		};
+	}
+
+	private static void collectMatchedFields(SearchQuery searchQuery, DocumentEntity documentEntity, Map<Term, Set<String>> contentMatches, Set<String> matchedFields) {
+		switch (searchQuery) {
+			case And and -> and.operands().forEach(operand -> collectMatchedFields(operand, documentEntity, contentMatches, matchedFields));
+			case Or or -> or.operands().forEach(operand -> collectMatchedFields(operand, documentEntity, contentMatches, matchedFields));
+			case Not ignored -> {
+				// Negated terms can not give any hints about why a document matched
+			}
+			case Term term -> collectMatchedFields(term, documentEntity, contentMatches, matchedFields);
+		}
+	}
+
+	private static void collectMatchedFields(Term term, DocumentEntity documentEntity, Map<Term, Set<String>> contentMatches, Set<String> matchedFields) {
+		if (term.matchType() == ANY) {
+			return;
+		}
+
+		addIfMatches(term, Field.CREATED_BY, documentEntity.getCreatedBy(), matchedFields);
+		addIfMatches(term, Field.DESCRIPTION, documentEntity.getDescription(), matchedFields);
+		addIfMatches(term, Field.MUNICIPALITY_ID, documentEntity.getMunicipalityId(), matchedFields);
+		addIfMatches(term, Field.REGISTRATION_NUMBER, documentEntity.getRegistrationNumber(), matchedFields);
+
+		final var documentData = Optional.ofNullable(documentEntity.getDocumentData()).orElse(emptyList());
+		documentData.stream().map(DocumentDataEntity::getFileName).forEach(fileName -> addIfMatches(term, Field.FILE, fileName, matchedFields));
+		documentData.stream().map(DocumentDataEntity::getMimeType).forEach(mimeType -> addIfMatches(term, Field.MIME_TYPE, mimeType, matchedFields));
+
+		final var matchingBinaryIds = contentMatches.getOrDefault(term, emptySet());
+		if (documentData.stream()
+			.map(DocumentDataEntity::getDocumentDataBinary)
+			.filter(Objects::nonNull)
+			.map(DocumentDataBinaryEntity::getId)
+			.anyMatch(matchingBinaryIds::contains)) {
+			matchedFields.add(Field.CONTENT.getName());
+		}
+
+		Optional.ofNullable(documentEntity.getMetadata()).orElse(emptyList()).stream()
+			.filter(metadata -> term.metadataKey() == null || equalsIgnoreCase(metadata.getKey(), term.metadataKey()))
+			.filter(metadata -> (isScopedTo(term, Field.META) && matches(term, metadata.getValue())) || (term.field() == Field.ANY && matches(term, metadata.getKey())))
+			.map(metadata -> TEMPLATE_METADATA_FIELD.formatted(metadata.getKey()))
+			.forEach(matchedFields::add);
+	}
+
+	private static void addIfMatches(Term term, Field field, String value, Set<String> matchedFields) {
+		if (isScopedTo(term, field) && matches(term, value)) {
+			matchedFields.add(field.getName());
+		}
+	}
+
+	private static boolean isScopedTo(Term term, Field field) {
+		return term.field() == Field.ANY || term.field() == field;
+	}
+
+	private static Pattern toPattern(String value) {
+		return Pattern.compile(Arrays.stream(value.split("\\*", -1))
+			.map(Pattern::quote)
+			.collect(joining(".*")), CASE_INSENSITIVE | UNICODE_CASE);
+	}
+}
@@ -0,0 +1,274 @@
+package se.sundsvall.document.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.service.search.SearchQuery.And;
+import se.sundsvall.document.service.search.SearchQuery.Field;
+import se.sundsvall.document.service.search.SearchQuery.MatchType;
+import se.sundsvall.document.service.search.SearchQuery.Not;
+import se.sundsvall.document.service.search.SearchQuery.Or;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+
+import static java.lang.Character.isWhitespace;
+import static org.apache.commons.lang3.StringUtils.EMPTY;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static se.sundsvall.document.service.Constants.ERROR_INVALID_SEARCH_QUERY;
+
+/**
+ * Parser for the search query language.
+ *
+ * <pre>
+ * query    := or
+ * or       := and ("OR" and)*
+ * and      := unary (["AND"] unary)*
+ * unary    := ("NOT" | "-") unary | "(" or ")" | term
+ * term     := [field ":"] (word | phrase)
+ * field    := "createdBy" | "description" | "municipalityId" | "registrationNumber" | "file" | "mimeType" | "meta" | "meta." key
+ * phrase   := '"' text '"' ["*"]
+ * </pre>
+ *
+ * Asterisks (*) in words are wildcards, a single trailing asterisk makes the term a prefix term. Operators are case
+ * sensitive, i.e. "and", "or" and "not" are treated as ordinary words.
+ */
+public final class SearchQueryParser {
+
+	static final int MAX_NUMBER_OF_TERMS = 25;
+
+	private static final String METADATA_KEY_PREFIX = "meta.";
+	private static final char WILDCARD = '*';
+	private static final char QUOTE = '"';
+
+	private final String query;
+	private final List<Token> tokens;
+	private int position;
+
+	private SearchQueryParser(String query, List<Token> tokens) {
+		this.query = query;
+		this.tokens = tokens;
+	}
+
+	/**
+	 * Parses a search query string.
+	 *
+	 * @param  query            the query string to parse.
+	 * @return                  the parsed query.
+	 * @throws ThrowableProblem with status BAD_REQUEST if the query string is invalid.
+	 */
+	public static SearchQuery parse(String query) {
+		final var queryString = Optional.ofNullable(query).map(String::trim).orElse(EMPTY);
+		final var parser = new SearchQueryParser(queryString, tokenize(queryString));
+
+		if (parser.tokens.isEmpty()) {
+			throw parser.invalid("query is empty");
+		}
+		if (parser.tokens.stream().filter(token -> token.type() == TokenType.TERM).count() > MAX_NUMBER_OF_TERMS) {
+			throw parser.invalid("query contains more than %s terms".formatted(MAX_NUMBER_OF_TERMS));
+		}
+
+		final var result = parser.parseOr();
+		if (parser.hasNext()) {
+			throw parser.invalid("unexpected '%s'".formatted(parser.tokens.get(parser.position).text()));
+		}
+		return result;
+	}
+
+	private SearchQuery parseOr() {
+		final var operands = new ArrayList<SearchQuery>();
+		operands.add(parseAnd());
+		while (accept(TokenType.OR)) {
+			operands.add(parseAnd());
+		}
+		return operands.size() == 1 ? operands.getFirst() : new Or(List.copyOf(operands));
+	}
+
+	private SearchQuery parseAnd() {
+		final var operands = new ArrayList<SearchQuery>();
+		operands.add(parseUnary());
+		while (hasNext() && !peek(TokenType.OR) && !peek(TokenType.RIGHT_PARENTHESIS)) {
+			accept(TokenType.AND); // AND is optional, adjacent terms are implicitly combined with AND
+			operands.add(parseUnary());
+		}
+		return operands.size() == 1 ? operands.getFirst() : new And(List.copyOf(operands));
+	}
+
+	private SearchQuery parseUnary() {
+		if (accept(TokenType.NOT)) {
+			return new Not(parseUnary());
+		}
+		if (accept(TokenType.LEFT_PARENTHESIS)) {
+			final var result = parseOr();
+			if (!accept(TokenType.RIGHT_PARENTHESIS)) {
+				throw invalid("missing ')'");
+			}
+			return result;
+		}
+		if (!hasNext()) {
+			throw invalid("unexpected end of query");
+		}
+
+		final var token = tokens.get(position++);
+		if (token.type() != TokenType.TERM) {
+			throw invalid("unexpected '%s'".formatted(token.text()));
+		}
+		return token.term();
+	}
+
+	private boolean hasNext() {
+		return position < tokens.size();
+	}
+
+	private boolean peek(TokenType type) {
+		return hasNext() && tokens.get(position).type() == type;
+	}
+
+	private boolean accept(TokenType type) {
+		if (peek(type)) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private ThrowableProblem invalid(String reason) {
+		return invalid(query, reason);
+	}
+
+	private static ThrowableProblem invalid(String query, String reason) {
+		return Problem.valueOf(BAD_REQUEST, ERROR_INVALID_SEARCH_QUERY.formatted(query, reason));
+	}
+
+	private static List<Token> tokenize(String query) {
+		final var tokens = new ArrayList<Token>();
+		var index = 0;
+		while (index < query.length()) {
+			final var c = query.charAt(index);
+			if (isWhitespace(c)) {
+				index++;
+			} else if (c == '(') {
+				tokens.add(new Token(TokenType.LEFT_PARENTHESIS, null));
+				index++;
+			} else if (c == ')') {
+				tokens.add(new Token(TokenType.RIGHT_PARENTHESIS, null));
+				index++;
+			} else if (c == '-' && index + 1 < query.length() && !isWhitespace(query.charAt(index + 1))) {
+				tokens.add(new Token(TokenType.NOT, null));
+				index++;
+			} else {
+				index = readTerm(query, index, tokens);
+			}
+		}
+		return tokens;
+	}
+
+	private static int readTerm(String query, int start, List<Token> tokens) {
+		var end = start;
+		while (end < query.length() && !isDelimiter(query.charAt(end))) {
+			end++;
+		}
+
+		final var word = query.substring(start, end);
+		final var operator = TokenType.fromOperator(word);
+		if (operator.isPresent()) {
+			tokens.add(new Token(operator.get(), null));
+			return end;
+		}
+
+		var field = Field.ANY;
+		String metadataKey = null;
+		var value = word;
+
+		final var colonIndex = word.indexOf(':');
+		if (colonIndex > 0) {
+			final var fieldName = word.substring(0, colonIndex);
+			if (fieldName.regionMatches(true, 0, METADATA_KEY_PREFIX, 0, METADATA_KEY_PREFIX.length()) && fieldName.length() > METADATA_KEY_PREFIX.length()) {
+				field = Field.META;
+				metadataKey = fieldName.substring(METADATA_KEY_PREFIX.length());
+				value = word.substring(colonIndex + 1);
+			} else {
+				final var scopedField = Field.fromName(fieldName);
+				if (scopedField.isPresent()) {
+					field = scopedField.get();
+					value = word.substring(colonIndex + 1);
+				}
+			}
+		}
+
+		if (value.isEmpty()) {
+			if (end < query.length() && query.charAt(end) == QUOTE) {
+				return readPhrase(query, end, field, metadataKey, tokens);
+			}
+			throw invalid(query, "missing value for field '%s'".formatted(word));
+		}
+
+		tokens.add(new Token(TokenType.TERM, new Term(field, metadataKey, stripTrailingWildcard(value), toMatchType(value))));
+		return end;
+	}
+
+	private static int readPhrase(String query, int start, Field field, String metadataKey, List<Token> tokens) {
+		final var closingQuote = query.indexOf(QUOTE, start + 1);
+		if (closingQuote < 0) {
+			throw invalid(query, "unterminated phrase");
+		}
+
+		final var phrase = query.substring(start + 1, closingQuote);
+		if (phrase.isEmpty()) {
+			throw invalid(query, "empty phrase");
+		}
+
+		final var prefix = closingQuote + 1 < query.length() && query.charAt(closingQuote + 1) == WILDCARD;
+		tokens.add(new Token(TokenType.TERM, new Term(field, metadataKey, phrase, prefix ? MatchType.PREFIX : MatchType.EXACT)));
+		return prefix ? closingQuote + 2 : closingQuote + 1;
+	}
+
+	private static boolean isDelimiter(char c) {
+		return isWhitespace(c) || c == '(' || c == ')' || c == QUOTE;
+	}
+
+	private static MatchType toMatchType(String value) {
+		if (value.chars().allMatch(c -> c == WILDCARD)) {
+			return MatchType.ANY;
+		}
+		if (value.indexOf(WILDCARD) == value.length() - 1) {
+			return MatchType.PREFIX;
+		}
+		if (value.indexOf(WILDCARD) >= 0) {
+			return MatchType.WILDCARD;
+		}
+		return MatchType.EXACT;
+	}
+
+	private static String stripTrailingWildcard(String value) {
+		return toMatchType(value) == MatchType.PREFIX ? value.substring(0, value.length() - 1) : value;
+	}
+
+	private enum TokenType {
+		AND("AND"),
+		OR("OR"),
+		NOT("NOT"),
+		LEFT_PARENTHESIS("("),
+		RIGHT_PARENTHESIS(")"),
+		TERM(null);
+
+		private final String text;
+
+		TokenType(String text) {
+			this.text = text;
+		}
+
+		private static Optional<TokenType> fromOperator(String word) {
+			return List.of(AND, OR, NOT).stream()
+				.filter(type -> type.text.equals(word))
+				.findFirst();
+		}
+	}
+
+	private record Token(TokenType type, Term term) {
+
+		private String text() {
+			return type == TokenType.TERM ? term.value() : type.text;
+		}
+	}
+}
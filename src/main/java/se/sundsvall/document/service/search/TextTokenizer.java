@@ -0,0 +1,56 @@
+package se.sundsvall.document.service.search;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static java.util.Collections.emptyList;
+import static java.util.Locale.ROOT;
+
+/**
+ * Splits text into the terms that are stored in the text index. The same tokenization is used both when indexing the
+ * extracted text of files and when searching in it, so that search terms and indexed terms are comparable.
+ */
+public final class TextTokenizer {
+
+	static final int MIN_TERM_LENGTH = 2;
+	static final int MAX_TERM_LENGTH = 64;
+
+	private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private TextTokenizer() {}
+
+	/**
+	 * Returns the distinct terms of a text, in order of first occurrence. Terms are lower case sequences of letters and
+	 * digits, terms that are shorter than 2 or longer than 64 characters are ignored.
+	 *
+	 * @param  text     the text to tokenize.
+	 * @param  maxTerms the maximum number of terms to return.
+	 * @return          a list with the distinct terms of the text.
+	 */
+	public static List<String> tokenize(String text, int maxTerms) {
+		if (text == null || text.isBlank()) {
+			return emptyList();
+		}
+
+		final var terms = new LinkedHashSet<String>();
+		final var tokens = DELIMITER.splitAsStream(text).iterator();
+		while (tokens.hasNext() && terms.size() < maxTerms) {
+			final var term = tokens.next();
+			if (term.length() >= MIN_TERM_LENGTH && term.length() <= MAX_TERM_LENGTH) {
+				terms.add(term.toLowerCase(ROOT));
+			}
+		}
+		return List.copyOf(terms);
+	}
+
+	/**
+	 * Returns all distinct terms of a text.
+	 *
+	 * @param  text the text to tokenize.
+	 * @return      a list with the distinct terms of the text.
+	 */
+	public static List<String> tokenize(String text) {
+		return tokenize(text, Integer.MAX_VALUE);
+	}
+}
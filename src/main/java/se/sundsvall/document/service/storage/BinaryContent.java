@@ -0,0 +1,12 @@
+package se.sundsvall.document.service.storage;
+
+/**
+ * The stored content of a binary, without the content itself.
+ *
+ * @param id        the id of the binary.
+ * @param length    the length of the content in bytes.
+ * @param chunkSize the size of the chunks the content is stored in, 0 when stored in a single column.
+ * @param chunked   whether the content is stored in chunks, or in a single column.
+ */
+public record BinaryContent(String id, long length, int chunkSize, boolean chunked) {
+}
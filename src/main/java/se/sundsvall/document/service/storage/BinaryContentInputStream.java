@@ -0,0 +1,68 @@
+package se.sundsvall.document.service.storage;
+
+import java.io.InputStream;
+import java.util.function.LongFunction;
+
+import static java.util.Objects.checkFromIndexSize;
+
+/**
+ * Reads the content of a binary in chunks, each chunk in a separate round trip to the database. No database connection
+ * is held between the reads, which makes it possible to process large files slowly without holding a connection.
+ */
+class BinaryContentInputStream extends InputStream {
+
+	private final LongFunction<byte[]> chunkReader;
+	private final long length;
+
+	private byte[] chunk = new byte[0];
+	private int chunkPosition;
+	private long chunkIndex; // Index of the next chunk to read
+	private long position; // Number of bytes in the chunks read so far
+
+	BinaryContentInputStream(final LongFunction<byte[]> chunkReader, final long length) {
+		this.chunkReader = chunkReader;
+		this.length = length;
+	}
+
+	@Override
+	public int read() {
+		if (!ensureChunk()) {
+			return -1;
+		}
+		return chunk[chunkPosition++] & 0xFF;
+	}
+
+	@Override
+	public int read(final byte[] buffer, final int offset, final int len) {
+		checkFromIndexSize(offset, len, buffer.length);
+		if (len == 0) {
+			return 0;
+		}
+		if (!ensureChunk()) {
+			return -1;
+		}
+
+		final var count = Math.min(len, chunk.length - chunkPosition);
+		System.arraycopy(chunk, chunkPosition, buffer, offset, count);
+		chunkPosition += count;
+		return count;
+	}
+
+	private boolean ensureChunk() {
+		while (chunkPosition >= chunk.length) {
+			if (position >= length) {
+				return false;
+			}
+
+			final var nextChunk = chunkReader.apply(chunkIndex++);
+			if (nextChunk == null || nextChunk.length == 0) {
+				return false;
+			}
+
+			chunk = nextChunk;
+			chunkPosition = 0;
+			position += nextChunk.length;
+		}
+		return true;
+	}
+}
@@ -0,0 +1,282 @@
+package se.sundsvall.document.service.storage;
+
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.document.configuration.ChunkedStorageProperties;
+import se.sundsvall.document.configuration.FileStreamingProperties;
+import se.sundsvall.document.integration.db.DatabaseHelper;
+import se.sundsvall.document.integration.db.DocumentDataBinaryChunkRepository;
+import se.sundsvall.document.integration.db.DocumentDataBinaryRepository;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
+import se.sundsvall.document.service.ingestion.StagedFile;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Math.toIntExact;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static se.sundsvall.document.service.Constants.ERROR_BINARY_CONTENT_COULD_NOT_BE_STORED;
+import static se.sundsvall.document.service.Constants.ERROR_BINARY_CONTENT_INCOMPLETE;
+import static se.sundsvall.document.service.Constants.ERROR_BINARY_FILE_LENGTH_MISMATCH;
+
+/**
+ * Stores and reads the content of files. Content is stored either in a single column or, when chunked storage is
+ * enabled, in chunks with one row per chunk. Content is read in the layout it was stored in.
+ *
+ * Chunks are written one statement per chunk, in the transaction that stores the file, so that the size of a file is
+ * not limited by the largest statement the database accepts. When content is copied to a client, the chunks following
+ * the one being written are fetched in parallel by a bounded pool of workers. When all workers are busy, chunks are
+ * fetched by the thread handling the request.
+ *
+ * Content stored in a single column is read in full with one statement, in a short transaction, into a temporary file
+ * that it is then copied from. The database reads the whole column for any part of it, so reading it in parts would
+ * read it once per part. Content that fits in the {@link FileContentCache} is copied from the cache, and is read from
+ * the database in full on the first copy.
+ */
+@Service
+public class BinaryStorageService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(BinaryStorageService.class);
+
+	private final DocumentDataBinaryRepository documentDataBinaryRepository;
+	private final DocumentDataBinaryChunkRepository documentDataBinaryChunkRepository;
+	private final DatabaseHelper databaseHelper;
+	private final ChunkedStorageProperties chunkedStorageProperties;
+	private final FileStreamingProperties fileStreamingProperties;
+	private final FileContentCache fileContentCache;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolExecutor executor;
+
+	public BinaryStorageService(
+		final DocumentDataBinaryRepository documentDataBinaryRepository,
+		final DocumentDataBinaryChunkRepository documentDataBinaryChunkRepository,
+		final DatabaseHelper databaseHelper,
+		final ChunkedStorageProperties chunkedStorageProperties,
+		final FileStreamingProperties fileStreamingProperties,
+		final FileContentCache fileContentCache,
+		final TransactionTemplate transactionTemplate) {
+
+		this.documentDataBinaryRepository = documentDataBinaryRepository;
+		this.documentDataBinaryChunkRepository = documentDataBinaryChunkRepository;
+		this.databaseHelper = databaseHelper;
+		this.chunkedStorageProperties = chunkedStorageProperties;
+		this.fileStreamingProperties = fileStreamingProperties;
+		this.fileContentCache = fileContentCache;
+		this.transactionTemplate = transactionTemplate;
+		this.executor = new ThreadPoolExecutor(fileStreamingProperties.poolSize(), fileStreamingProperties.poolSize(), 0L, MILLISECONDS,
+			new SynchronousQueue<>(),
+			Thread.ofPlatform().name("binary-read-ahead-", 0).daemon(true).factory(),
+			new CallerRunsPolicy());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Stores the content of a staged file. Must be called within the transaction that stores the file.
+	 *
+	 * @param  stagedFile the staged file.
+	 * @return            the binary entity of the content, or null if no file is provided. The entity is already saved
+	 *                    when the content is stored in chunks.
+	 */
+	public DocumentDataBinaryEntity store(final StagedFile stagedFile) {
+		if (stagedFile == null) {
+			return null;
+		}
+
+		final var documentDataBinaryEntity = DocumentDataBinaryEntity.create()
+			.withChecksum(stagedFile.checksum())
+			.withFileSizeInBytes(stagedFile.file().getSize());
+
+		if (!chunkedStorageProperties.enabled()) {
+			// Content kept in memory while the file was staged does not have to be read from the upload again
+			return documentDataBinaryEntity
+				.withBinaryFile(nonNull(stagedFile.content()) ? databaseHelper.convertContentToBlob(stagedFile.content()) : databaseHelper.convertToBlob(stagedFile.file()));
+		}
+
+		final var chunkSize = toIntExact(chunkedStorageProperties.chunkSize().toBytes());
+		// Flushed before the chunks are inserted, as they refer to the binary
+		final var savedEntity = documentDataBinaryRepository.saveAndFlush(documentDataBinaryEntity.withChunkSize(chunkSize));
+
+		try (var inputStream = nonNull(stagedFile.content()) ? new ByteArrayInputStream(stagedFile.content()) : stagedFile.file().getInputStream()) {
+			var chunkIndex = 0;
+			byte[] chunk;
+			while ((chunk = inputStream.readNBytes(chunkSize)).length > 0) {
+				documentDataBinaryChunkRepository.insertChunk(savedEntity.getId(), chunkIndex++, chunk);
+			}
+		} catch (final IOException e) {
+			LOGGER.warn(ERROR_BINARY_CONTENT_COULD_NOT_BE_STORED.formatted(stagedFile.file().getOriginalFilename()), e);
+			throw Problem.valueOf(INTERNAL_SERVER_ERROR, ERROR_BINARY_CONTENT_COULD_NOT_BE_STORED.formatted(stagedFile.file().getOriginalFilename()));
+		}
+
+		return savedEntity;
+	}
+
+	/**
+	 * Finds the stored content of a binary, without reading the content itself.
+	 *
+	 * @param  binaryId the id of the binary.
+	 * @return          the stored content. The length is 0 if the binary has no content.
+	 */
+	public BinaryContent find(final String binaryId) {
+		final var length = documentDataBinaryRepository.findBinaryFileLength(binaryId).orElse(0L);
+
+		return documentDataBinaryRepository.findChunkSize(binaryId)
+			.map(chunkSize -> new BinaryContent(binaryId, length, chunkSize, true))
+			.orElseGet(() -> new BinaryContent(binaryId, length, 0, false));
+	}
+
+	/**
+	 * Copies a range of the content to an output stream. Of content stored in chunks, only the chunks covering the range
+	 * are read, unless the content is loaded into the file cache.
+	 *
+	 * @param  content      the stored content.
+	 * @param  start        the position (0-based) of the first byte to copy.
+	 * @param  end          the position (0-based) of the last byte to copy.
+	 * @param  outputStream the stream to copy the content to.
+	 * @throws IOException  if the content could not be written, or if the stored content is shorter than its length.
+	 */
+	public void copy(final BinaryContent content, final long start, final long end, final OutputStream outputStream) throws IOException {
+		if (start > end) {
+			return;
+		}
+
+		if (fileContentCache.copy(content.id(), content.length(), start, end, cacheStream -> copyFromDatabase(content, cacheStream), outputStream)) {
+			return;
+		}
+
+		if (content.chunked()) {
+			copyChunks(content, start, end, outputStream);
+			return;
+		}
+
+		final var file = spool(content);
+		try (var channel = FileChannel.open(file, READ, DELETE_ON_CLOSE)) {
+			final var target = Channels.newChannel(outputStream);
+			var position = start;
+			while (position <= end) {
+				position += channel.transferTo(position, end - position + 1, target);
+			}
+		}
+	}
+
+	private void copyFromDatabase(final BinaryContent content, final OutputStream outputStream) throws IOException {
+		if (content.chunked()) {
+			copyChunks(content, 0, content.length() - 1, outputStream);
+		} else {
+			copyBinaryFile(content, outputStream);
+		}
+	}
+
+	private void copyChunks(final BinaryContent content, final long start, final long end, final OutputStream outputStream) throws IOException {
+		final long chunkSize = content.chunkSize();
+		final var lastChunk = end / chunkSize;
+		final var pending = new ArrayDeque<CompletableFuture<byte[]>>();
+		var nextChunk = start / chunkSize;
+
+		try {
+			for (var index = start / chunkSize; index <= lastChunk; index++) {
+				// The chunk to write and up to readAhead chunks following it are fetched in parallel
+				while (nextChunk <= lastChunk && pending.size() <= fileStreamingProperties.readAhead()) {
+					final var chunkIndex = nextChunk++;
+					pending.add(supplyAsync(() -> readChunk(content, chunkIndex), executor));
+				}
+
+				final var chunk = await(pending.removeFirst());
+				final var chunkStart = index * chunkSize;
+				final var from = toIntExact(max(start, chunkStart) - chunkStart);
+				final var to = toIntExact(min(end + 1, chunkStart + chunkSize) - chunkStart);
+				if (chunk.length < to) {
+					throw new IOException(ERROR_BINARY_CONTENT_INCOMPLETE.formatted(index, content.id()));
+				}
+
+				outputStream.write(chunk, from, to - from);
+			}
+		} finally {
+			pending.forEach(future -> future.cancel(true));
+		}
+	}
+
+	/**
+	 * Opens a stream of the content. Each chunk of content stored in chunks is read in a separate round trip to the
+	 * database when it is needed. Content stored in a single column is read into a temporary file, which is removed when
+	 * the stream is closed.
+	 *
+	 * @param  content     the stored content.
+	 * @return             a stream of the content.
+	 * @throws IOException if content stored in a single column could not be read.
+	 */
+	public InputStream newInputStream(final BinaryContent content) throws IOException {
+		if (content.chunked()) {
+			return new BinaryContentInputStream(index -> readChunk(content, index), content.length());
+		}
+		return Files.newInputStream(spool(content), READ, DELETE_ON_CLOSE);
+	}
+
+	byte[] readChunk(final BinaryContent content, final long index) {
+		final var chunk = documentDataBinaryChunkRepository.findChunk(content.id(), toIntExact(index));
+		return chunk == null ? new byte[0] : chunk;
+	}
+
+	private Path spool(final BinaryContent content) throws IOException {
+		final var file = Files.createTempFile("binary-", ".tmp");
+		try {
+			try (var outputStream = Files.newOutputStream(file)) {
+				copyBinaryFile(content, outputStream);
+			}
+			return file;
+		} catch (final IOException | RuntimeException e) {
+			Files.deleteIfExists(file);
+			throw e;
+		}
+	}
+
+	private void copyBinaryFile(final BinaryContent content, final OutputStream outputStream) throws IOException {
+		final long copied;
+		try {
+			copied = transactionTemplate.execute(status -> databaseHelper.copyBinaryFile(content.id(), outputStream));
+		} catch (final UncheckedIOException e) {
+			throw e.getCause();
+		}
+
+		if (copied != content.length()) {
+			throw new IOException(ERROR_BINARY_FILE_LENGTH_MISMATCH.formatted(content.id(), copied, content.length()));
+		}
+	}
+
+	private static byte[] await(final CompletableFuture<byte[]> future) {
+		try {
+			return future.join();
+		} catch (final CompletionException e) {
+			if (e.getCause() instanceof final RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw e;
+		}
+	}
+}
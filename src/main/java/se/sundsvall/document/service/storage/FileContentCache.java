@@ -0,0 +1,244 @@
+package se.sundsvall.document.service.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import se.sundsvall.document.configuration.FileCacheProperties;
+import se.sundsvall.document.service.SingleFlight;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * A size-bounded cache of file content on the local disk of the instance, keyed by the id of the binary. The least
+ * recently read content is removed when the cache is full.
+ *
+ * The content of a binary never changes and binary ids are never reused, so cached content is never stale. Content of
+ * binaries removed by another instance is never read again and is eventually removed as the least recently read.
+ *
+ * Content is written to a temporary file and moved into place when complete. Concurrent reads of content that is not
+ * cached share a single load, after which the content is copied to each of them from the cache. Content is copied with
+ * {@link FileChannel#transferTo(long, long, java.nio.channels.WritableByteChannel)}. A file removed from the cache while
+ * it is being copied remains readable until the copy is done.
+ */
+@Component
+public class FileContentCache {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(FileContentCache.class);
+	private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+	private final FileCacheProperties fileCacheProperties;
+	private final Counter hits;
+	private final Counter misses;
+	private final SingleFlight<String, Boolean> loads = new SingleFlight<>();
+	// The size of each cached content by binary id, ordered from the least to the most recently read
+	private final LinkedHashMap<String, Long> entries = new LinkedHashMap<>(16, 0.75f, true);
+	private long size;
+
+	public FileContentCache(final FileCacheProperties fileCacheProperties, final MeterRegistry meterRegistry) {
+		this.fileCacheProperties = fileCacheProperties;
+		this.hits = meterRegistry.counter("document.file-cache.requests", "result", "hit");
+		this.misses = meterRegistry.counter("document.file-cache.requests", "result", "miss");
+
+		Gauge.builder("document.file-cache.size", this, FileContentCache::size)
+			.baseUnit("bytes")
+			.register(meterRegistry);
+		Gauge.builder("document.file-cache.hit-ratio", this, FileContentCache::hitRatio)
+			.register(meterRegistry);
+
+		if (fileCacheProperties.enabled()) {
+			clearDirectory();
+		}
+	}
+
+	/**
+	 * Copies a range of content from the cache to an output stream. Content that is not cached is first loaded into the
+	 * cache in full, so that later reads of any range of it are served from the cache.
+	 *
+	 * @param  binaryId     the id of the binary.
+	 * @param  length       the length of the content.
+	 * @param  start        the position (0-based) of the first byte to copy.
+	 * @param  end          the position (0-based) of the last byte to copy.
+	 * @param  loader       writes the full content, when the content is not cached.
+	 * @param  outputStream the stream to copy the content to.
+	 * @return              true if the range was copied, false if the content can not be cached and nothing was copied.
+	 * @throws IOException  if the content could not be written to the output stream.
+	 */
+	public boolean copy(final String binaryId, final long length, final long start, final long end, final Loader loader, final OutputStream outputStream) throws IOException {
+		if (!isCacheable(length)) {
+			return false;
+		}
+
+		final var channel = open(binaryId, length, loader);
+		if (channel == null) {
+			return false;
+		}
+
+		try (channel) {
+			final var target = Channels.newChannel(outputStream);
+			var position = start;
+			while (position <= end) {
+				position += channel.transferTo(position, end - position + 1, target);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Removes the content of binaries from the cache of this instance.
+	 *
+	 * @param binaryIds the ids of the binaries.
+	 */
+	public void evict(final Collection<String> binaryIds) {
+		if (!fileCacheProperties.enabled()) {
+			return;
+		}
+
+		binaryIds.forEach(this::remove);
+	}
+
+	private FileChannel open(final String binaryId, final long length, final Loader loader) {
+		if (contains(binaryId)) {
+			final var channel = openIfComplete(binaryId, length);
+			if (channel != null) {
+				hits.increment();
+				return channel;
+			}
+		}
+
+		misses.increment();
+		return loads.execute(binaryId, () -> load(binaryId, length, loader)) ? openIfComplete(binaryId, length) : null;
+	}
+
+	private FileChannel openIfComplete(final String binaryId, final long length) {
+		try {
+			final var channel = FileChannel.open(path(binaryId), READ);
+			if (channel.size() == length) {
+				return channel;
+			}
+			channel.close();
+		} catch (final NoSuchFileException e) {
+			// Removed by another read since it was found, the content is loaded again
+		} catch (final IOException e) {
+			LOGGER.warn("Could not read cached content of binary with id '{}'", binaryId, e);
+		}
+
+		remove(binaryId);
+		return null;
+	}
+
+	private boolean load(final String binaryId, final long length, final Loader loader) {
+		final var temporaryFile = fileCacheProperties.directory().resolve(binaryId + "." + UUID.randomUUID() + TEMPORARY_FILE_SUFFIX);
+		try {
+			try (var outputStream = Files.newOutputStream(temporaryFile, CREATE_NEW, WRITE)) {
+				loader.load(outputStream);
+			}
+			if (Files.size(temporaryFile) != length) {
+				return false;
+			}
+			Files.move(temporaryFile, path(binaryId), ATOMIC_MOVE, REPLACE_EXISTING);
+		} catch (final IOException e) {
+			LOGGER.warn("Could not cache content of binary with id '{}'", binaryId, e);
+			return false;
+		} finally {
+			delete(temporaryFile);
+		}
+
+		add(binaryId, length);
+		return true;
+	}
+
+	private synchronized boolean contains(final String binaryId) {
+		// Reading the entry also marks it as the most recently read
+		return entries.get(binaryId) != null;
+	}
+
+	private synchronized void add(final String binaryId, final long length) {
+		final var previous = entries.put(binaryId, length);
+		size += length - (previous == null ? 0 : previous);
+
+		final var iterator = entries.entrySet().iterator();
+		while (size > fileCacheProperties.maxSize().toBytes() && iterator.hasNext()) {
+			final var entry = iterator.next();
+			if (entry.getKey().equals(binaryId)) {
+				break;
+			}
+			iterator.remove();
+			size -= entry.getValue();
+			delete(path(entry.getKey()));
+		}
+	}
+
+	private synchronized void remove(final String binaryId) {
+		final var removed = entries.remove(binaryId);
+		if (removed != null) {
+			size -= removed;
+		}
+		delete(path(binaryId));
+	}
+
+	private boolean isCacheable(final long length) {
+		return fileCacheProperties.enabled() && length > 0 && length <= fileCacheProperties.maxFileSize().toBytes();
+	}
+
+	private Path path(final String binaryId) {
+		return fileCacheProperties.directory().resolve(binaryId);
+	}
+
+	private synchronized long size() {
+		return size;
+	}
+
+	private double hitRatio() {
+		final var requests = hits.count() + misses.count();
+		return requests == 0 ? 0 : hits.count() / requests;
+	}
+
+	/**
+	 * Removes content left by a previous run, as the entries of the cache are only kept in memory.
+	 */
+	private void clearDirectory() {
+		final var directory = fileCacheProperties.directory();
+		try {
+			Files.createDirectories(directory);
+			try (var paths = Files.list(directory)) {
+				paths.forEach(FileContentCache::delete);
+			}
+		} catch (final IOException e) {
+			LOGGER.warn("Could not clear file cache directory '{}'", directory, e);
+		}
+	}
+
+	private static void delete(final Path path) {
+		try {
+			Files.deleteIfExists(path);
+		} catch (final IOException e) {
+			LOGGER.warn("Could not delete cached file '{}'", path, e);
+		}
+	}
+
+	/**
+	 * Writes the full content of a binary.
+	 */
+	@FunctionalInterface
+	public interface Loader {
+
+		void load(OutputStream outputStream) throws IOException;
+	}
+}
@@ -0,0 +1,40 @@
+package se.sundsvall.document.service.textindex;
+
+import java.io.IOException;
+import java.io.InputStream;
+import org.apache.tika.Tika;
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.metadata.Metadata;
+import org.springframework.stereotype.Component;
+import se.sundsvall.document.configuration.TextIndexProperties;
+
+/**
+ * Extracts plain text from files (PDF, Office documents, plain text etc.).
+ */
+@Component
+public class TextExtractor {
+
+	private final Tika tika;
+
+	public TextExtractor(final TextIndexProperties textIndexProperties) {
+		this.tika = new Tika();
+		this.tika.setMaxStringLength(textIndexProperties.maxTextLength());
+	}
+
+	/**
+	 * Extracts the text of a file. The text is truncated if it is longer than the configured maximum text length.
+	 *
+	 * @param  inputStream   the file content. The stream is closed when the text has been extracted.
+	 * @param  mimeType      the mime type of the file, used as a hint when detecting the file type.
+	 * @return               the extracted text.
+	 * @throws IOException   if the file content could not be read.
+	 * @throws TikaException if the file content could not be parsed.
+	 */
+	public String extract(final InputStream inputStream, final String mimeType) throws IOException, TikaException {
+		final var metadata = new Metadata();
+		if (mimeType != null) {
+			metadata.set(Metadata.CONTENT_TYPE, mimeType);
+		}
+		return tika.parseToString(inputStream, metadata);
+	}
+}
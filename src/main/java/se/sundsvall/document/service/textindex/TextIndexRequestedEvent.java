@@ -0,0 +1,12 @@
+package se.sundsvall.document.service.textindex;
+
+import java.util.List;
+
+/**
+ * Published when files have been queued for text extraction. Handled when the transaction that stored the files has
+ * been committed.
+ *
+ * @param binaryIds the ids of the binaries to extract text from.
+ */
+public record TextIndexRequestedEvent(List<String> binaryIds) {
+}
@@ -0,0 +1,262 @@
+package se.sundsvall.document.service.textindex;
+
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import org.apache.tika.exception.TikaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.document.configuration.TextIndexProperties;
+import se.sundsvall.document.integration.db.DocumentDataBinaryRepository;
+import se.sundsvall.document.integration.db.DocumentDataTextRepository;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataTextEntity;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.integration.db.model.TextIndexStatus;
+import se.sundsvall.document.service.search.SearchQuery;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+import se.sundsvall.document.service.search.SearchQueryMatcher;
+import se.sundsvall.document.service.search.TextTokenizer;
+import se.sundsvall.document.service.storage.BinaryContent;
+import se.sundsvall.document.service.storage.BinaryStorageService;
+
+import static java.lang.Boolean.TRUE;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toSet;
+import static org.apache.commons.lang3.StringUtils.startsWithIgnoreCase;
+import static org.springframework.util.CollectionUtils.isEmpty;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.FAILED;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.INDEXED;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.PENDING;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.PROCESSING;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.SKIPPED;
+import static se.sundsvall.document.integration.db.specification.SearchSpecification.withContentMatching;
+
+/**
+ * Maintains the text index of file content. Text is extracted in the background by a bounded pool of workers:
+ * <ul>
+ * <li>New files are queued (status PENDING) in the same transaction as they are stored and handed to the workers when
+ * the transaction has been committed.</li>
+ * <li>Files that do not fit in the work queue stay queued in the database and are handed to the workers by a periodic
+ * sweep, which never takes more files than there is room for in the work queue.</li>
+ * <li>A worker claims a file (status PROCESSING) before extracting it, so that a file is only extracted once even when
+ * several instances pick it up. Files whose worker has stopped without finishing them are queued again by the sweep
+ * when the claim has timed out.</li>
+ * </ul>
+ */
+@Service
+public class TextIndexService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TextIndexService.class);
+
+	private final DocumentDataTextRepository documentDataTextRepository;
+	private final DocumentDataBinaryRepository documentDataBinaryRepository;
+	private final TextExtractor textExtractor;
+	private final TextIndexProperties textIndexProperties;
+	private final BinaryStorageService binaryStorageService;
+	private final TransactionTemplate transactionTemplate;
+	private final ApplicationEventPublisher applicationEventPublisher;
+	private final ThreadPoolExecutor executor;
+	private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+	public TextIndexService(
+		final DocumentDataTextRepository documentDataTextRepository,
+		final DocumentDataBinaryRepository documentDataBinaryRepository,
+		final TextExtractor textExtractor,
+		final TextIndexProperties textIndexProperties,
+		final BinaryStorageService binaryStorageService,
+		final TransactionTemplate transactionTemplate,
+		final ApplicationEventPublisher applicationEventPublisher) {
+
+		this.documentDataTextRepository = documentDataTextRepository;
+		this.documentDataBinaryRepository = documentDataBinaryRepository;
+		this.textExtractor = textExtractor;
+		this.textIndexProperties = textIndexProperties;
+		this.binaryStorageService = binaryStorageService;
+		this.transactionTemplate = transactionTemplate;
+		this.applicationEventPublisher = applicationEventPublisher;
+		this.executor = new ThreadPoolExecutor(textIndexProperties.poolSize(), textIndexProperties.poolSize(), 0L, MILLISECONDS,
+			new ArrayBlockingQueue<>(textIndexProperties.queueCapacity()),
+			Thread.ofPlatform().name("text-index-", 0).daemon(true).factory(),
+			new AbortPolicy());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Queues the text of files for extraction. Extraction starts when the current transaction has been committed.
+	 *
+	 * @param binaryIds the ids of the binaries to extract text from.
+	 */
+	@Transactional
+	public void requestIndexing(final Collection<String> binaryIds) {
+		if (isEmpty(binaryIds)) {
+			return;
+		}
+
+		final var distinctBinaryIds = binaryIds.stream().filter(Objects::nonNull).distinct().toList();
+		documentDataTextRepository.saveAll(distinctBinaryIds.stream()
+			.map(binaryId -> DocumentDataTextEntity.create().withId(binaryId).withStatus(PENDING))
+			.toList());
+
+		applicationEventPublisher.publishEvent(new TextIndexRequestedEvent(distinctBinaryIds));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onTextIndexRequested(final TextIndexRequestedEvent event) {
+		event.binaryIds().forEach(this::submit);
+	}
+
+	/**
+	 * Hands queued files to the workers. Only as many files as there is room for in the work queue are fetched, the rest
+	 * are left for later sweeps.
+	 */
+	@Scheduled(initialDelayString = "${document.text-index.sweep-interval:PT1M}", fixedDelayString = "${document.text-index.sweep-interval:PT1M}")
+	public void sweep() {
+		final var capacity = executor.getQueue().remainingCapacity();
+		if (!textIndexProperties.enabled() || capacity == 0) {
+			return;
+		}
+
+		final var staleBefore = now(systemDefault()).minus(textIndexProperties.claimTimeout());
+		transactionTemplate.executeWithoutResult(status -> documentDataTextRepository.updateStatusModifiedBefore(PROCESSING, PENDING, staleBefore));
+		documentDataTextRepository.findIdsByStatus(PENDING, PageRequest.of(0, capacity)).forEach(this::submit);
+	}
+
+	/**
+	 * Queues the text of all files within a municipality for extraction, e.g. after that the extraction has been
+	 * improved. The files are handed to the workers by the periodic sweep.
+	 *
+	 * @param  municipalityId the municipality to re-index.
+	 * @return                the number of files queued for extraction.
+	 */
+	@Transactional
+	public int reindex(final String municipalityId) {
+		final var updated = documentDataTextRepository.updatePendingForMunicipalityId(municipalityId);
+		final var created = documentDataTextRepository.insertPendingForMunicipalityId(municipalityId);
+		return updated + created;
+	}
+
+	/**
+	 * Finds the files, among the files of the provided documents, whose text matches the content terms of a query.
+	 *
+	 * @param  searchQuery      the search query.
+	 * @param  documentEntities the documents to look in.
+	 * @return                  a map with the ids of the matching binaries for each content term of the query.
+	 */
+	public Map<Term, Set<String>> findContentMatches(final SearchQuery searchQuery, final List<DocumentEntity> documentEntities) {
+		final var binaryIds = Optional.ofNullable(documentEntities).orElse(emptyList()).stream()
+			.map(DocumentEntity::getDocumentData)
+			.filter(Objects::nonNull)
+			.flatMap(List::stream)
+			.map(DocumentDataEntity::getDocumentDataBinary)
+			.filter(Objects::nonNull)
+			.map(DocumentDataBinaryEntity::getId)
+			.distinct()
+			.toList();
+
+		if (searchQuery == null || binaryIds.isEmpty()) {
+			return emptyMap();
+		}
+
+		return SearchQueryMatcher.contentTerms(searchQuery).stream()
+			.distinct()
+			.collect(toMap(identity(), term -> documentDataTextRepository.findAll(withContentMatching(term, binaryIds)).stream()
+				.map(DocumentDataTextEntity::getId)
+				.collect(toSet())));
+	}
+
+	void submit(final String binaryId) {
+		if (!textIndexProperties.enabled() || !inProgress.add(binaryId)) {
+			return;
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					index(binaryId);
+				} finally {
+					inProgress.remove(binaryId);
+				}
+			});
+		} catch (final RejectedExecutionException e) {
+			// The file is still queued in the database and will be picked up by a later sweep
+			inProgress.remove(binaryId);
+			LOGGER.debug("Work queue is full, text extraction of binary with id '{}' is postponed", binaryId);
+		}
+	}
+
+	void index(final String binaryId) {
+		if (!TRUE.equals(transactionTemplate.execute(status -> documentDataTextRepository.updateStatus(binaryId, PENDING, PROCESSING, now(systemDefault())) == 1))) {
+			// Another worker has claimed the file, or it is no longer queued
+			return;
+		}
+
+		try {
+			final var mimeType = documentDataBinaryRepository.findMimeType(binaryId).orElse(null);
+			if (!isSupported(mimeType)) {
+				update(binaryId, SKIPPED, emptyList());
+				return;
+			}
+
+			final var content = binaryStorageService.find(binaryId);
+			if (content.length() > textIndexProperties.maxFileSize().toBytes()) {
+				update(binaryId, SKIPPED, emptyList());
+				return;
+			}
+
+			update(binaryId, INDEXED, TextTokenizer.tokenize(extract(content, mimeType), textIndexProperties.maxTermsPerFile()));
+		} catch (final Exception e) {
+			LOGGER.warn("Text extraction of binary with id '{}' failed", binaryId, e);
+			update(binaryId, FAILED, emptyList());
+		}
+	}
+
+	private String extract(final BinaryContent content, final String mimeType) throws IOException, TikaException {
+		try (var inputStream = binaryStorageService.newInputStream(content)) {
+			return textExtractor.extract(inputStream, mimeType);
+		}
+	}
+
+	private void update(final String binaryId, final TextIndexStatus status, final List<String> terms) {
+		// A file that has been queued again while it was extracted (e.g. by a re-index) is left for a later sweep
+		transactionTemplate.executeWithoutResult(transactionStatus -> documentDataTextRepository.findById(binaryId)
+			.filter(entity -> entity.getStatus() == PROCESSING)
+			.ifPresent(entity -> documentDataTextRepository.save(entity
+				.withStatus(status)
+				.withTerms(new ArrayList<>(terms)))));
+	}
+
+	private boolean isSupported(final String mimeType) {
+		return mimeType != null && textIndexProperties.supportedMimeTypes().stream()
+			.anyMatch(supportedMimeType -> startsWithIgnoreCase(mimeType, supportedMimeType));
+	}
+}
@@ -0,0 +1,283 @@
+package se.sundsvall.document.service.upload;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.SQLException;
+import java.util.HexFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.api.model.Upload;
+import se.sundsvall.document.api.model.UploadCreateRequest;
+import se.sundsvall.document.configuration.UploadProperties;
+import se.sundsvall.document.integration.db.DatabaseHelper;
+import se.sundsvall.document.integration.db.DocumentRepository;
+import se.sundsvall.document.integration.db.UploadChunkRepository;
+import se.sundsvall.document.integration.db.UploadRepository;
+import se.sundsvall.document.integration.db.model.UploadChunkEntity;
+import se.sundsvall.document.integration.db.model.UploadEntity;
+import se.sundsvall.document.service.DocumentService;
+import se.sundsvall.document.service.ingestion.StagedFile;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static se.sundsvall.document.service.Constants.ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND;
+import static se.sundsvall.document.service.Constants.ERROR_UPLOAD_CHUNK_BEYOND_FILE_SIZE;
+import static se.sundsvall.document.service.Constants.ERROR_UPLOAD_CHUNK_COULD_NOT_BE_READ;
+import static se.sundsvall.document.service.Constants.ERROR_UPLOAD_CHUNK_TOO_LARGE;
+import static se.sundsvall.document.service.Constants.ERROR_UPLOAD_COULD_NOT_BE_ASSEMBLED;
+import static se.sundsvall.document.service.Constants.ERROR_UPLOAD_FILE_TOO_LARGE;
+import static se.sundsvall.document.service.Constants.ERROR_UPLOAD_INCOMPLETE;
+import static se.sundsvall.document.service.Constants.ERROR_UPLOAD_NOT_FOUND;
+import static se.sundsvall.document.service.Constants.ERROR_UPLOAD_OFFSET_MISMATCH;
+import static se.sundsvall.document.service.InclusionFilter.CONFIDENTIAL_AND_PUBLIC;
+import static se.sundsvall.document.service.mapper.UploadMapper.toUpload;
+import static se.sundsvall.document.service.mapper.UploadMapper.toUploadEntity;
+
+/**
+ * Resumable uploads of files too large to be uploaded in a single request:
+ * <ol>
+ * <li>An upload is initiated with the name and size of the file.</li>
+ * <li>The content is uploaded in chunks, each chunk at the offset where the previous chunk ended. Chunks are stored in
+ * the database, so an upload can be resumed from the last received chunk, by any instance.</li>
+ * <li>When all content has been received, the upload is completed. The chunks are appended to a local staging file
+ * while the checksum of the file is calculated, each chunk read in a short transaction of its own. The file is then
+ * added to the document as a new revision (see {@link DocumentService#addOrReplaceStagedFile}), in the same
+ * transaction as the upload is removed.</li>
+ * </ol>
+ * Uploads that have not received any content within the configured time to live are removed.
+ */
+@Service
+public class UploadService {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(UploadService.class);
+	private static final String CHECKSUM_ALGORITHM = "SHA-256";
+
+	private final UploadRepository uploadRepository;
+	private final UploadChunkRepository uploadChunkRepository;
+	private final DocumentRepository documentRepository;
+	private final DocumentService documentService;
+	private final DatabaseHelper databaseHelper;
+	private final UploadProperties uploadProperties;
+	private final TransactionTemplate transactionTemplate;
+
+	public UploadService(
+		final UploadRepository uploadRepository,
+		final UploadChunkRepository uploadChunkRepository,
+		final DocumentRepository documentRepository,
+		final DocumentService documentService,
+		final DatabaseHelper databaseHelper,
+		final UploadProperties uploadProperties,
+		final TransactionTemplate transactionTemplate) {
+
+		this.uploadRepository = uploadRepository;
+		this.uploadChunkRepository = uploadChunkRepository;
+		this.documentRepository = documentRepository;
+		this.documentService = documentService;
+		this.databaseHelper = databaseHelper;
+		this.uploadProperties = uploadProperties;
+		this.transactionTemplate = transactionTemplate;
+	}
+
+	@Transactional
+	public Upload create(final String registrationNumber, final UploadCreateRequest uploadCreateRequest, final String municipalityId) {
+		documentRepository.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(municipalityId, registrationNumber, CONFIDENTIAL_AND_PUBLIC.getValue())
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_BY_REGISTRATION_NUMBER_NOT_FOUND.formatted(registrationNumber)));
+
+		final var maxFileSize = uploadProperties.maxFileSize().toBytes();
+		if (uploadCreateRequest.getFileSizeInBytes() > maxFileSize) {
+			throw Problem.valueOf(BAD_REQUEST, ERROR_UPLOAD_FILE_TOO_LARGE.formatted(uploadCreateRequest.getFileSizeInBytes(), maxFileSize));
+		}
+
+		final var now = now(systemDefault()).truncatedTo(MILLIS);
+		return toUpload(uploadRepository.save(toUploadEntity(registrationNumber, uploadCreateRequest, municipalityId)
+			.withCreated(now)
+			.withExpires(now.plus(uploadProperties.timeToLive()))));
+	}
+
+	@Transactional(readOnly = true)
+	public Upload read(final String registrationNumber, final String uploadId, final String municipalityId) {
+		return toUpload(uploadRepository.findByIdAndMunicipalityIdAndRegistrationNumberAndExpiresAfter(uploadId, municipalityId, registrationNumber, now(systemDefault()))
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_UPLOAD_NOT_FOUND.formatted(uploadId))));
+	}
+
+	/**
+	 * Appends a chunk to an upload. The chunk is read before a transaction is started, so that no database connection is
+	 * held while the client sends it.
+	 *
+	 * @param  registrationNumber the registration number of the document.
+	 * @param  uploadId           the id of the upload.
+	 * @param  offset             the offset of the chunk, which must be the number of bytes received so far.
+	 * @param  content            the content of the chunk.
+	 * @param  municipalityId     the municipality of the document.
+	 * @return                    the upload, with the number of bytes received so far.
+	 */
+	public Upload appendChunk(final String registrationNumber, final String uploadId, final long offset, final InputStream content, final String municipalityId) {
+		final var chunk = readChunk(uploadId, content);
+
+		return transactionTemplate.execute(status -> {
+			final var uploadEntity = findAndLock(registrationNumber, uploadId, municipalityId);
+			if (offset != uploadEntity.getReceivedBytes()) {
+				throw Problem.valueOf(CONFLICT, ERROR_UPLOAD_OFFSET_MISMATCH.formatted(offset, uploadEntity.getReceivedBytes()));
+			}
+			if (offset + chunk.length > uploadEntity.getFileSizeInBytes()) {
+				throw Problem.valueOf(BAD_REQUEST, ERROR_UPLOAD_CHUNK_BEYOND_FILE_SIZE.formatted(offset + chunk.length, uploadEntity.getFileSizeInBytes()));
+			}
+
+			if (chunk.length > 0) {
+				uploadChunkRepository.save(UploadChunkEntity.create()
+					.withUploadId(uploadEntity.getId())
+					.withChunkOffset(offset)
+					.withContent(databaseHelper.convertContentToBlob(chunk)));
+			}
+
+			return toUpload(uploadRepository.save(uploadEntity
+				.withReceivedBytes(offset + chunk.length)
+				.withExpires(now(systemDefault()).truncatedTo(MILLIS).plus(uploadProperties.timeToLive()))));
+		});
+	}
+
+	/**
+	 * Completes an upload by adding the uploaded file to the document, as a new revision of the document. The file is
+	 * assembled before the revision is created, so that neither the upload nor the document is locked meanwhile. The
+	 * upload is removed in the transaction that creates the revision, which fails with 404 Not Found if the upload has
+	 * been completed or removed by another request since.
+	 *
+	 * @param  registrationNumber the registration number of the document.
+	 * @param  uploadId           the id of the upload.
+	 * @param  expectedRevision   the revision the change is based on, or null to add the file to the latest revision.
+	 * @param  municipalityId     the municipality of the document.
+	 * @return                    the new revision of the document.
+	 */
+	public Document complete(final String registrationNumber, final String uploadId, final Integer expectedRevision, final String municipalityId) {
+		// The upload is kept from expiring while it is assembled
+		final var uploadEntity = transactionTemplate.execute(status -> {
+			final var entity = findAndLock(registrationNumber, uploadId, municipalityId);
+			if (entity.getReceivedBytes() != entity.getFileSizeInBytes()) {
+				throw Problem.valueOf(CONFLICT, ERROR_UPLOAD_INCOMPLETE.formatted(uploadId, entity.getReceivedBytes(), entity.getFileSizeInBytes()));
+			}
+			return uploadRepository.save(entity.withExpires(now(systemDefault()).truncatedTo(MILLIS).plus(uploadProperties.timeToLive())));
+		});
+
+		final var stagingFile = createStagingFile();
+		try {
+			final var checksum = assemble(uploadEntity.getId(), stagingFile);
+			final var file = new UploadedFile(stagingFile, uploadEntity.getFileName(), uploadEntity.getMimeType(), uploadEntity.getFileSizeInBytes());
+
+			return documentService.addOrReplaceStagedFile(registrationNumber, DocumentDataCreateRequest.create().withCreatedBy(uploadEntity.getCreatedBy()),
+				new StagedFile(file, checksum, null), expectedRevision, municipalityId, () -> {
+					final var lockedUploadEntity = findAndLock(registrationNumber, uploadId, municipalityId);
+					uploadChunkRepository.deleteByUploadId(lockedUploadEntity.getId());
+					uploadRepository.delete(lockedUploadEntity);
+				});
+		} finally {
+			deleteStagingFile(stagingFile);
+		}
+	}
+
+	@Transactional
+	public void delete(final String registrationNumber, final String uploadId, final String municipalityId) {
+		final var uploadEntity = findAndLock(registrationNumber, uploadId, municipalityId);
+		uploadChunkRepository.deleteByUploadId(uploadEntity.getId());
+		uploadRepository.delete(uploadEntity);
+	}
+
+	/**
+	 * Removes expired uploads and their chunks.
+	 */
+	@Scheduled(initialDelayString = "${document.upload.cleanup-interval:PT1H}", fixedDelayString = "${document.upload.cleanup-interval:PT1H}")
+	public void removeExpired() {
+		final var now = now(systemDefault());
+		transactionTemplate.executeWithoutResult(status -> {
+			uploadChunkRepository.deleteByExpiredUploads(now);
+			final var removed = uploadRepository.deleteExpired(now);
+			LOGGER.debug("Removed {} expired uploads", removed);
+		});
+	}
+
+	private UploadEntity findAndLock(final String registrationNumber, final String uploadId, final String municipalityId) {
+		return uploadRepository.findAndLock(uploadId, municipalityId, registrationNumber, now(systemDefault()))
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_UPLOAD_NOT_FOUND.formatted(uploadId)));
+	}
+
+	private byte[] readChunk(final String uploadId, final InputStream content) {
+		final var maxChunkSize = uploadProperties.maxChunkSize().toBytes();
+		try {
+			// One byte more than allowed is read, to find out if the chunk is too large without reading all of it
+			final var chunk = content.readNBytes((int) maxChunkSize + 1);
+			if (chunk.length > maxChunkSize) {
+				throw Problem.valueOf(BAD_REQUEST, ERROR_UPLOAD_CHUNK_TOO_LARGE.formatted(maxChunkSize));
+			}
+			return chunk;
+		} catch (final IOException e) {
+			LOGGER.warn(ERROR_UPLOAD_CHUNK_COULD_NOT_BE_READ.formatted(uploadId), e);
+			throw Problem.valueOf(BAD_REQUEST, ERROR_UPLOAD_CHUNK_COULD_NOT_BE_READ.formatted(uploadId));
+		}
+	}
+
+	/**
+	 * Appends the chunks of an upload, one chunk at a time, to the staging file. Each chunk is read in a transaction of
+	 * its own, so that a database connection is only held while a chunk is read.
+	 *
+	 * @return the checksum of the file.
+	 */
+	private String assemble(final String uploadId, final Path stagingFile) {
+		try (var outputStream = new DigestOutputStream(Files.newOutputStream(stagingFile), MessageDigest.getInstance(CHECKSUM_ALGORITHM))) {
+			for (final var chunkId : transactionTemplate.execute(status -> uploadChunkRepository.findIdsByUploadId(uploadId))) {
+				transactionTemplate.executeWithoutResult(status -> copyChunk(uploadId, chunkId, outputStream));
+			}
+			outputStream.flush();
+			return HexFormat.of().formatHex(outputStream.getMessageDigest().digest());
+		} catch (final IOException | NoSuchAlgorithmException e) {
+			throw couldNotBeAssembled(uploadId, e);
+		}
+	}
+
+	private void copyChunk(final String uploadId, final String chunkId, final OutputStream outputStream) {
+		try (var inputStream = uploadChunkRepository.findContentById(chunkId).getBinaryStream()) {
+			inputStream.transferTo(outputStream);
+		} catch (final IOException | SQLException e) {
+			throw couldNotBeAssembled(uploadId, e);
+		}
+	}
+
+	private static ThrowableProblem couldNotBeAssembled(final String uploadId, final Exception e) {
+		LOGGER.warn(ERROR_UPLOAD_COULD_NOT_BE_ASSEMBLED.formatted(uploadId), e);
+		return Problem.valueOf(INTERNAL_SERVER_ERROR, ERROR_UPLOAD_COULD_NOT_BE_ASSEMBLED.formatted(uploadId));
+	}
+
+	private static Path createStagingFile() {
+		try {
+			return Files.createTempFile("upload-", ".tmp");
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void deleteStagingFile(final Path stagingFile) {
+		try {
+			Files.deleteIfExists(stagingFile);
+		} catch (final IOException e) {
+			LOGGER.warn("Could not delete staging file '{}'", stagingFile, e);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package se.sundsvall.document.service.upload;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.springframework.web.multipart.MultipartFile;
+
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+/**
+ * A file kept in a local file, e.g. a file uploaded in chunks and assembled in a staging file, presented as any other
+ * uploaded file.
+ */
+public class UploadedFile implements MultipartFile {
+
+	private static final String NAME = "documentFile";
+
+	private final Path path;
+	private final String originalFilename;
+	private final String contentType;
+	private final long size;
+
+	public UploadedFile(final Path path, final String originalFilename, final String contentType, final long size) {
+		this.path = path;
+		this.originalFilename = originalFilename;
+		this.contentType = contentType;
+		this.size = size;
+	}
+
+	@Override
+	public String getName() {
+		return NAME;
+	}
+
+	@Override
+	public String getOriginalFilename() {
+		return originalFilename;
+	}
+
+	@Override
+	public String getContentType() {
+		return contentType;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public long getSize() {
+		return size;
+	}
+
+	@Override
+	public byte[] getBytes() throws IOException {
+		return Files.readAllBytes(path);
+	}
+
+	@Override
+	public InputStream getInputStream() throws IOException {
+		return Files.newInputStream(path);
+	}
+
+	@Override
+	public void transferTo(final File dest) throws IOException {
+		Files.copy(path, dest.toPath(), REPLACE_EXISTING);
+	}
+}
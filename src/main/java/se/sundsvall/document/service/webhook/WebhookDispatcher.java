@@ -0,0 +1,163 @@
+package se.sundsvall.document.service.webhook;
+
+import jakarta.annotation.PreDestroy;
+import java.net.URI;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor.AbortPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.document.configuration.WebhookProperties;
+import se.sundsvall.document.integration.db.DocumentChangeRepository;
+import se.sundsvall.document.integration.db.WebhookSubscriptionRepository;
+import se.sundsvall.document.integration.webhook.WebhookClient;
+
+import static java.lang.Boolean.TRUE;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static se.sundsvall.document.service.mapper.DocumentChangeMapper.toDocumentChanges;
+
+/**
+ * Delivers notifications of document changes to the webhook subscriptions. The change feed is the queue of
+ * notifications: each change is written in the same transaction as the change of the document, and each subscription
+ * keeps the sequence number up to which the changes have been delivered. Nothing is lost if delivery fails or the
+ * instance stops, the changes are delivered from the stored sequence number on the next attempt.
+ * <ul>
+ * <li>A periodic sweep hands the subscriptions with undelivered changes to a bounded pool of workers. Never more
+ * subscriptions than there is room for in the work queue are fetched.</li>
+ * <li>A worker locks the subscription (so only one batch at a time is in flight per subscriber, also between instances)
+ * and delivers the changes in batches, in commit order, until the subscriber has received all of them.</li>
+ * <li>A failed delivery is retried from the same change after a delay that is doubled for each consecutive failure.</li>
+ * </ul>
+ */
+@Service
+public class WebhookDispatcher {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(WebhookDispatcher.class);
+
+	private final WebhookSubscriptionRepository webhookSubscriptionRepository;
+	private final DocumentChangeRepository documentChangeRepository;
+	private final WebhookClient webhookClient;
+	private final WebhookProperties webhookProperties;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolExecutor executor;
+	private final Set<String> inProgress = ConcurrentHashMap.newKeySet();
+
+	public WebhookDispatcher(
+		final WebhookSubscriptionRepository webhookSubscriptionRepository,
+		final DocumentChangeRepository documentChangeRepository,
+		final WebhookClient webhookClient,
+		final WebhookProperties webhookProperties,
+		final TransactionTemplate transactionTemplate) {
+
+		this.webhookSubscriptionRepository = webhookSubscriptionRepository;
+		this.documentChangeRepository = documentChangeRepository;
+		this.webhookClient = webhookClient;
+		this.webhookProperties = webhookProperties;
+		this.transactionTemplate = transactionTemplate;
+		this.executor = new ThreadPoolExecutor(webhookProperties.poolSize(), webhookProperties.poolSize(), 0L, MILLISECONDS,
+			new ArrayBlockingQueue<>(webhookProperties.poolSize()),
+			Thread.ofPlatform().name("webhook-", 0).daemon(true).factory(),
+			new AbortPolicy());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * Hands subscriptions with undelivered changes to the workers. Only as many subscriptions as there is room for in the
+	 * work queue are fetched, the rest are left for later sweeps.
+	 */
+	@Scheduled(initialDelayString = "${document.webhook.interval:PT10S}", fixedDelayString = "${document.webhook.interval:PT10S}")
+	public void sweep() {
+		final var capacity = executor.getQueue().remainingCapacity();
+		if (!webhookProperties.enabled() || capacity == 0) {
+			return;
+		}
+
+		webhookSubscriptionRepository.findDueIds(now(systemDefault()), PageRequest.of(0, capacity)).forEach(this::submit);
+	}
+
+	void submit(final String subscriptionId) {
+		if (!webhookProperties.enabled() || !inProgress.add(subscriptionId)) {
+			return;
+		}
+
+		try {
+			executor.execute(() -> {
+				try {
+					deliver(subscriptionId);
+				} finally {
+					inProgress.remove(subscriptionId);
+				}
+			});
+		} catch (final RejectedExecutionException e) {
+			// The changes are still undelivered in the database and will be picked up by a later sweep
+			inProgress.remove(subscriptionId);
+			LOGGER.debug("Work queue is full, delivery to webhook subscription with id '{}' is postponed", subscriptionId);
+		}
+	}
+
+	void deliver(final String subscriptionId) {
+		final var lockedAt = now(systemDefault());
+		if (!TRUE.equals(transactionTemplate.execute(status -> webhookSubscriptionRepository.lock(subscriptionId, lockedAt, lockedAt.plus(webhookProperties.lockTimeout())) == 1))) {
+			// Another worker is delivering to the subscription
+			return;
+		}
+
+		final var subscription = webhookSubscriptionRepository.findById(subscriptionId).orElse(null);
+		if (subscription == null) {
+			return;
+		}
+
+		var cursor = subscription.getLastSequenceNumber();
+		try {
+			var complete = false;
+			while (!complete) {
+				final var latest = Math.max(cursor, documentChangeRepository.findLatestSequenceNumber(subscription.getMunicipalityId()).orElse(0L));
+				final var changes = documentChangeRepository.findChanges(subscription.getMunicipalityId(), cursor, latest, subscription.getDocumentType(),
+					PageRequest.of(0, webhookProperties.batchSize()));
+
+				if (!changes.isEmpty()) {
+					webhookClient.deliver(URI.create(subscription.getUrl()), toDocumentChanges(changes, cursor));
+				}
+
+				// Changes of other document types than the subscribed one are skipped by moving the cursor past them
+				complete = changes.size() < webhookProperties.batchSize();
+				cursor = complete ? latest : changes.getLast().getSequenceNumber();
+				update(subscriptionId, cursor, 0, null, complete ? null : now(systemDefault()).plus(webhookProperties.lockTimeout()));
+			}
+		} catch (final Exception e) {
+			final var failedAttempts = subscription.getFailedAttempts() + 1;
+			LOGGER.warn("Delivery to webhook subscription with id '{}' failed (attempt {})", subscriptionId, failedAttempts, e);
+			update(subscriptionId, cursor, failedAttempts, now(systemDefault()).plus(retryDelay(failedAttempts)), null);
+		}
+	}
+
+	Duration retryDelay(final int failedAttempts) {
+		final var delay = webhookProperties.retryDelay().multipliedBy(1L << Math.min(failedAttempts - 1, 30));
+		return delay.compareTo(webhookProperties.maxRetryDelay()) > 0 ? webhookProperties.maxRetryDelay() : delay;
+	}
+
+	private void update(final String subscriptionId, final long lastSequenceNumber, final int failedAttempts, final OffsetDateTime nextAttempt, final OffsetDateTime lockedUntil) {
+		transactionTemplate.executeWithoutResult(status -> webhookSubscriptionRepository.findById(subscriptionId)
+			.map(entity -> entity
+				.withLastSequenceNumber(lastSequenceNumber)
+				.withFailedAttempts(failedAttempts)
+				.withNextAttempt(nextAttempt)
+				.withLockedUntil(lockedUntil))
+			.ifPresent(webhookSubscriptionRepository::save));
+	}
+}
@@ -0,0 +1,72 @@
+package se.sundsvall.document.service.webhook;
+
+import java.util.List;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.document.api.model.WebhookSubscription;
+import se.sundsvall.document.api.model.WebhookSubscriptionCreateRequest;
+import se.sundsvall.document.integration.db.DocumentChangeRepository;
+import se.sundsvall.document.integration.db.DocumentTypeRepository;
+import se.sundsvall.document.integration.db.WebhookSubscriptionRepository;
+import se.sundsvall.document.service.mapper.WebhookSubscriptionMapper;
+
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static se.sundsvall.document.service.Constants.ERROR_WEBHOOK_SUBSCRIPTION_NOT_FOUND;
+import static se.sundsvall.document.service.mapper.WebhookSubscriptionMapper.toWebhookSubscription;
+import static se.sundsvall.document.service.mapper.WebhookSubscriptionMapper.toWebhookSubscriptionEntity;
+import static se.sundsvall.document.service.mapper.WebhookSubscriptionMapper.toWebhookSubscriptions;
+
+@Service
+public class WebhookSubscriptionService {
+	private static final String ERROR_DOCUMENT_TYPE_NOT_FOUND = "Document type with identifier %s was not found within municipality with id %s";
+
+	private final WebhookSubscriptionRepository webhookSubscriptionRepository;
+	private final DocumentTypeRepository documentTypeRepository;
+	private final DocumentChangeRepository documentChangeRepository;
+
+	public WebhookSubscriptionService(
+		final WebhookSubscriptionRepository webhookSubscriptionRepository,
+		final DocumentTypeRepository documentTypeRepository,
+		final DocumentChangeRepository documentChangeRepository) {
+
+		this.webhookSubscriptionRepository = webhookSubscriptionRepository;
+		this.documentTypeRepository = documentTypeRepository;
+		this.documentChangeRepository = documentChangeRepository;
+	}
+
+	/**
+	 * Creates a subscription. The subscriber is notified of changes committed after the subscription was created, earlier
+	 * changes can be read from the change feed.
+	 *
+	 * @param  municipalityId the municipalityId.
+	 * @param  request        the subscription to create.
+	 * @return                the created subscription.
+	 */
+	@Transactional
+	public WebhookSubscription create(final String municipalityId, final WebhookSubscriptionCreateRequest request) {
+		if (request.getDocumentType() != null && documentTypeRepository.findByMunicipalityIdAndType(municipalityId, request.getDocumentType()).isEmpty()) {
+			throw Problem.valueOf(NOT_FOUND, ERROR_DOCUMENT_TYPE_NOT_FOUND.formatted(request.getDocumentType(), municipalityId));
+		}
+
+		final var lastSequenceNumber = documentChangeRepository.findLatestSequenceNumber(municipalityId).orElse(0L);
+		return toWebhookSubscription(webhookSubscriptionRepository.save(toWebhookSubscriptionEntity(municipalityId, request, lastSequenceNumber)));
+	}
+
+	public List<WebhookSubscription> read(final String municipalityId) {
+		return toWebhookSubscriptions(webhookSubscriptionRepository.findByMunicipalityIdOrderByCreated(municipalityId));
+	}
+
+	public WebhookSubscription read(final String municipalityId, final String id) {
+		return webhookSubscriptionRepository.findByIdAndMunicipalityId(id, municipalityId)
+			.map(WebhookSubscriptionMapper::toWebhookSubscription)
+			.orElseThrow(() -> Problem.valueOf(NOT_FOUND, ERROR_WEBHOOK_SUBSCRIPTION_NOT_FOUND.formatted(id)));
+	}
+
+	public void delete(final String municipalityId, final String id) {
+		webhookSubscriptionRepository.findByIdAndMunicipalityId(id, municipalityId)
+			.ifPresentOrElse(webhookSubscriptionRepository::delete, () -> {
+				throw Problem.valueOf(NOT_FOUND, ERROR_WEBHOOK_SUBSCRIPTION_NOT_FOUND.formatted(id));
+			});
+	}
+}
@@ -0,0 +1,27 @@
+    create table upload (
+        created datetime(6),
+        expires datetime(6) not null,
+        file_size_in_bytes bigint not null,
+        received_bytes bigint not null,
+        created_by varchar(255),
+        file_name varchar(255) not null,
+        id varchar(255) not null,
+        mime_type varchar(255),
+        municipality_id varchar(255) not null,
+        registration_number varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table upload_chunk (
+        chunk_offset bigint not null,
+        id varchar(255) not null,
+        upload_id varchar(255) not null,
+        content longblob,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create index ix_expires 
+       on upload (expires);
+
+    alter table if exists upload_chunk 
+       add constraint uq_upload_id_and_chunk_offset unique (upload_id, chunk_offset);
@@ -0,0 +1,35 @@
+    create table document_change (
+        revision integer not null,
+        created datetime(6),
+        sequence_number bigint not null,
+        document_id varchar(255) not null,
+        id varchar(255) not null,
+        municipality_id varchar(255) not null,
+        registration_number varchar(255) not null,
+        type varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table document_change_sequence (
+        sequence_number bigint not null,
+        id varchar(255) not null,
+        municipality_id varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    alter table if exists document_change 
+       add constraint uq_municipality_id_and_sequence_number unique (municipality_id, sequence_number);
+
+    alter table if exists document_change_sequence 
+       add constraint uq_document_change_sequence_municipality_id unique (municipality_id);
+
+    -- Start the change feed of each municipality with all existing revisions, in the order they were created
+    insert into document_change (id, municipality_id, sequence_number, registration_number, revision, document_id, type, created)
+    select uuid(), municipality_id, row_number() over (partition by municipality_id order by created, registration_number, revision),
+        registration_number, revision, id, if(revision = 1, 'CREATED', 'REVISED'), created
+    from document;
+
+    insert into document_change_sequence (id, municipality_id, sequence_number)
+    select uuid(), municipality_id, max(sequence_number)
+    from document_change
+    group by municipality_id;
@@ -0,0 +1,24 @@
+    alter table document_change
+        add column document_type varchar(255);
+
+    -- Document type of the changes already in the change feed
+    update document_change c
+        join document d on d.id = c.document_id
+        join document_type t on t.id = d.document_type_id
+    set c.document_type = t.`type`;
+
+    create table webhook_subscription (
+        failed_attempts integer not null,
+        created datetime(6),
+        last_sequence_number bigint not null,
+        locked_until datetime(6),
+        next_attempt datetime(6),
+        document_type varchar(255),
+        id varchar(255) not null,
+        municipality_id varchar(255) not null,
+        url varchar(2048) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create index ix_municipality_id
+       on webhook_subscription (municipality_id);
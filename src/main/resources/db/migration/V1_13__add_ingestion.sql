@@ -0,0 +1,22 @@
+    create table ingestion (
+        expected_revision integer,
+        revision integer,
+        created datetime(6),
+        expires datetime(6) not null,
+        modified datetime(6),
+        error varchar(2048),
+        id varchar(255) not null,
+        municipality_id varchar(255) not null,
+        operation varchar(255) not null,
+        registration_number varchar(255),
+        status varchar(255) not null,
+        files longtext not null,
+        request longtext not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create index ix_status
+       on ingestion (status);
+
+    create index ix_expires
+       on ingestion (expires);
@@ -0,0 +1,12 @@
+    alter table if exists document_data_binary
+       add column chunk_size integer after checksum;
+
+    alter table if exists document_data_binary
+       add column file_size_in_bytes bigint after chunk_size;
+
+    create table document_data_binary_chunk (
+        chunk_index integer not null,
+        binary_id varchar(255) not null,
+        content longblob not null,
+        primary key (binary_id, chunk_index)
+    ) engine=InnoDB;
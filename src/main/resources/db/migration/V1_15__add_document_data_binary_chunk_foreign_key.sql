@@ -0,0 +1,9 @@
+    -- Chunks can't be left behind by a removed binary once the constraint is in place
+    delete c from document_data_binary_chunk c
+    left join document_data_binary b on b.id = c.binary_id
+    where b.id is null;
+
+    alter table if exists document_data_binary_chunk
+       add constraint fk_document_data_binary_chunk_document_data_binary
+       foreign key (binary_id)
+       references document_data_binary (id);
@@ -0,0 +1,261 @@
+    -- Ids are stored as the 16 bytes of the UUID instead of as 36 characters. The foreign keys are dropped while
+    -- the columns are converted and are added again afterwards.
+
+    alter table document
+       drop foreign key fk_document_document_type;
+
+    alter table document
+       drop foreign key fk_document_document_file_set;
+
+    alter table document
+       drop foreign key fk_document_document_metadata_set;
+
+    alter table document_data
+       drop foreign key fk_document_data_document_data_binary;
+
+    alter table document_data
+       drop foreign key fk_document_data_document_file_set;
+
+    alter table document_data_binary_chunk
+       drop foreign key fk_document_data_binary_chunk_document_data_binary;
+
+    alter table document_data_text_term
+       drop foreign key fk_document_data_text_term_document_data_text;
+
+    alter table document_metadata
+       drop foreign key fk_document_metadata_document_metadata_set;
+
+    -- Each column is first made binary, keeping the characters, so the characters can be replaced by the bytes they
+    -- represent. A value that is not a UUID fails the migration, at the latest when the column is made binary(16).
+
+    alter table document
+       modify column id varbinary(36) not null,
+       modify column document_type_id varbinary(36) not null,
+       modify column file_set_id varbinary(36) not null,
+       modify column metadata_set_id varbinary(36) not null;
+
+    update document
+       set id = unhex(replace(id, '-', '')),
+           document_type_id = unhex(replace(document_type_id, '-', '')),
+           file_set_id = unhex(replace(file_set_id, '-', '')),
+           metadata_set_id = unhex(replace(metadata_set_id, '-', ''));
+
+    alter table document
+       modify column id binary(16) not null,
+       modify column document_type_id binary(16) not null,
+       modify column file_set_id binary(16) not null,
+       modify column metadata_set_id binary(16) not null;
+
+    alter table document_change
+       modify column id varbinary(36) not null,
+       modify column document_id varbinary(36) not null;
+
+    update document_change
+       set id = unhex(replace(id, '-', '')),
+           document_id = unhex(replace(document_id, '-', ''));
+
+    alter table document_change
+       modify column id binary(16) not null,
+       modify column document_id binary(16) not null;
+
+    alter table document_change_sequence
+       modify column id varbinary(36) not null;
+
+    update document_change_sequence
+       set id = unhex(replace(id, '-', ''));
+
+    alter table document_change_sequence
+       modify column id binary(16) not null;
+
+    alter table document_data
+       modify column id varbinary(36) not null,
+       modify column document_data_binary_id varbinary(36),
+       modify column file_set_id varbinary(36) not null;
+
+    update document_data
+       set id = unhex(replace(id, '-', '')),
+           document_data_binary_id = unhex(replace(document_data_binary_id, '-', '')),
+           file_set_id = unhex(replace(file_set_id, '-', ''));
+
+    alter table document_data
+       modify column id binary(16) not null,
+       modify column document_data_binary_id binary(16),
+       modify column file_set_id binary(16) not null;
+
+    alter table document_data_binary
+       modify column id varbinary(36) not null;
+
+    update document_data_binary
+       set id = unhex(replace(id, '-', ''));
+
+    alter table document_data_binary
+       modify column id binary(16) not null;
+
+    alter table document_data_binary_chunk
+       modify column binary_id varbinary(36) not null;
+
+    update document_data_binary_chunk
+       set binary_id = unhex(replace(binary_id, '-', ''));
+
+    alter table document_data_binary_chunk
+       modify column binary_id binary(16) not null;
+
+    alter table document_data_binary_cold
+       modify column id varbinary(36) not null;
+
+    update document_data_binary_cold
+       set id = unhex(replace(id, '-', ''));
+
+    alter table document_data_binary_cold
+       modify column id binary(16) not null;
+
+    alter table document_data_text
+       modify column id varbinary(36) not null;
+
+    update document_data_text
+       set id = unhex(replace(id, '-', ''));
+
+    alter table document_data_text
+       modify column id binary(16) not null;
+
+    alter table document_data_text_term
+       modify column document_data_text_id varbinary(36) not null;
+
+    update document_data_text_term
+       set document_data_text_id = unhex(replace(document_data_text_id, '-', ''));
+
+    alter table document_data_text_term
+       modify column document_data_text_id binary(16) not null;
+
+    alter table document_file_set
+       modify column id varbinary(36) not null;
+
+    update document_file_set
+       set id = unhex(replace(id, '-', ''));
+
+    alter table document_file_set
+       modify column id binary(16) not null;
+
+    alter table document_metadata
+       modify column metadata_set_id varbinary(36) not null;
+
+    update document_metadata
+       set metadata_set_id = unhex(replace(metadata_set_id, '-', ''));
+
+    alter table document_metadata
+       modify column metadata_set_id binary(16) not null;
+
+    alter table document_metadata_set
+       modify column id varbinary(36) not null;
+
+    update document_metadata_set
+       set id = unhex(replace(id, '-', ''));
+
+    alter table document_metadata_set
+       modify column id binary(16) not null;
+
+    alter table document_type
+       modify column id varbinary(36) not null;
+
+    update document_type
+       set id = unhex(replace(id, '-', ''));
+
+    alter table document_type
+       modify column id binary(16) not null;
+
+    alter table idempotency_key
+       modify column id varbinary(36) not null;
+
+    update idempotency_key
+       set id = unhex(replace(id, '-', ''));
+
+    alter table idempotency_key
+       modify column id binary(16) not null;
+
+    alter table ingestion
+       modify column id varbinary(36) not null;
+
+    update ingestion
+       set id = unhex(replace(id, '-', ''));
+
+    alter table ingestion
+       modify column id binary(16) not null;
+
+    alter table registration_number_sequence
+       modify column id varbinary(36) not null;
+
+    update registration_number_sequence
+       set id = unhex(replace(id, '-', ''));
+
+    alter table registration_number_sequence
+       modify column id binary(16) not null;
+
+    alter table upload
+       modify column id varbinary(36) not null;
+
+    update upload
+       set id = unhex(replace(id, '-', ''));
+
+    alter table upload
+       modify column id binary(16) not null;
+
+    alter table upload_chunk
+       modify column id varbinary(36) not null,
+       modify column upload_id varbinary(36) not null;
+
+    update upload_chunk
+       set id = unhex(replace(id, '-', '')),
+           upload_id = unhex(replace(upload_id, '-', ''));
+
+    alter table upload_chunk
+       modify column id binary(16) not null,
+       modify column upload_id binary(16) not null;
+
+    alter table webhook_subscription
+       modify column id varbinary(36) not null;
+
+    update webhook_subscription
+       set id = unhex(replace(id, '-', ''));
+
+    alter table webhook_subscription
+       modify column id binary(16) not null;
+
+    alter table if exists document
+       add constraint fk_document_document_type
+       foreign key (document_type_id)
+       references document_type (id);
+
+    alter table if exists document
+       add constraint fk_document_document_file_set
+       foreign key (file_set_id)
+       references document_file_set (id);
+
+    alter table if exists document
+       add constraint fk_document_document_metadata_set
+       foreign key (metadata_set_id)
+       references document_metadata_set (id);
+
+    alter table if exists document_data
+       add constraint fk_document_data_document_data_binary
+       foreign key (document_data_binary_id)
+       references document_data_binary (id);
+
+    alter table if exists document_data
+       add constraint fk_document_data_document_file_set
+       foreign key (file_set_id)
+       references document_file_set (id);
+
+    alter table if exists document_data_binary_chunk
+       add constraint fk_document_data_binary_chunk_document_data_binary
+       foreign key (binary_id)
+       references document_data_binary (id);
+
+    alter table if exists document_data_text_term
+       add constraint fk_document_data_text_term_document_data_text
+       foreign key (document_data_text_id)
+       references document_data_text (id);
+
+    alter table if exists document_metadata
+       add constraint fk_document_metadata_document_metadata_set
+       foreign key (metadata_set_id)
+       references document_metadata_set (id);
@@ -0,0 +1,2 @@
+    alter table if exists idempotency_key
+       add column fingerprint varchar(64) after id;
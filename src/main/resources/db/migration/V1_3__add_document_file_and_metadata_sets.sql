@@ -0,0 +1,68 @@
+    create table document_file_set (
+        id varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table document_metadata_set (
+        id varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    -- Every existing revision gets its own file set and metadata set (using the revision id as set id)
+    insert into document_file_set (id) select id from document;
+    insert into document_metadata_set (id) select id from document;
+
+    alter table document
+       add column file_set_id varchar(255) after document_type_id,
+       add column metadata_set_id varchar(255) after legal_citation;
+
+    update document set file_set_id = id, metadata_set_id = id;
+
+    alter table document
+       modify column file_set_id varchar(255) not null,
+       modify column metadata_set_id varchar(255) not null;
+
+    alter table if exists document
+       add constraint fk_document_document_file_set
+       foreign key (file_set_id)
+       references document_file_set (id);
+
+    alter table if exists document
+       add constraint fk_document_document_metadata_set
+       foreign key (metadata_set_id)
+       references document_metadata_set (id);
+
+    -- Files now belong to a file set and binaries may be shared between file sets
+    alter table document_data
+       drop foreign key fk_document_data_document;
+
+    alter table document_data
+       drop foreign key fk_document_data_document_data_binary;
+
+    alter table document_data
+       drop index uq_document_data_binary_id;
+
+    alter table document_data
+       change column document_id file_set_id varchar(255) not null;
+
+    alter table if exists document_data
+       add constraint fk_document_data_document_data_binary
+       foreign key (document_data_binary_id)
+       references document_data_binary (id);
+
+    alter table if exists document_data
+       add constraint fk_document_data_document_file_set
+       foreign key (file_set_id)
+       references document_file_set (id);
+
+    -- Metadata now belongs to a metadata set
+    alter table document_metadata
+       drop foreign key fk_document_metadata_document;
+
+    alter table document_metadata
+       change column document_id metadata_set_id varchar(255) not null;
+
+    alter table if exists document_metadata
+       add constraint fk_document_metadata_document_metadata_set
+       foreign key (metadata_set_id)
+       references document_metadata_set (id);
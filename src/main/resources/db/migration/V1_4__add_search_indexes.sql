@@ -0,0 +1,8 @@
+    create index ix_file_name 
+       on document_data (file_name);
+
+    create index ix_key_value 
+       on document_metadata (`key`, `value`);
+
+    -- Covered by ix_key_value
+    drop index ix_key on document_metadata;
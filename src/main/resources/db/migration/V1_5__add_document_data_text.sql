@@ -0,0 +1,26 @@
+    create table document_data_text (
+        modified datetime(6),
+        id varchar(255) not null,
+        status varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table document_data_text_term (
+        document_data_text_id varchar(255) not null,
+        term varchar(64) not null
+    ) engine=InnoDB;
+
+    create index ix_status
+       on document_data_text (status);
+
+    create index ix_term
+       on document_data_text_term (term);
+
+    alter table if exists document_data_text_term
+       add constraint fk_document_data_text_term_document_data_text
+       foreign key (document_data_text_id)
+       references document_data_text (id);
+
+    -- Queue all existing files for text extraction
+    insert into document_data_text (id, status, modified)
+    select id, 'PENDING', now(6) from document_data_binary;
@@ -0,0 +1,6 @@
+    create table document_data_binary_cold (
+        moved datetime(6),
+        id varchar(255) not null,
+        binary_file longblob,
+        primary key (id)
+    ) engine=InnoDB row_format=compressed;
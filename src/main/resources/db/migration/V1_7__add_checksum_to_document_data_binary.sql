@@ -0,0 +1,2 @@
+    alter table if exists document_data_binary
+       add column checksum varchar(64) after id;
@@ -0,0 +1,2 @@
+    create index ix_metadata_set_id_key_value 
+       on document_metadata (metadata_set_id, `key`, `value`);
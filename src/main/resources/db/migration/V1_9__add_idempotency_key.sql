@@ -0,0 +1,15 @@
+    create table idempotency_key (
+        created datetime(6),
+        expires datetime(6) not null,
+        id varchar(255) not null,
+        idempotency_key varchar(255) not null,
+        municipality_id varchar(255) not null,
+        registration_number varchar(255),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create index ix_expires 
+       on idempotency_key (expires);
+
+    alter table if exists idempotency_key 
+       add constraint uq_municipality_id_and_idempotency_key unique (municipality_id, idempotency_key);
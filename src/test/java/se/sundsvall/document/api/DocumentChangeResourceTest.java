@@ -0,0 +1,113 @@
+package se.sundsvall.document.api;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.dept44.problem.violations.Violation;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.api.model.DocumentChange;
+import se.sundsvall.document.api.model.DocumentChanges;
+import se.sundsvall.document.service.DocumentChangeService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles("junit")
+@AutoConfigureWebTestClient
+class DocumentChangeResourceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String PATH = "/" + MUNICIPALITY_ID + "/documents/changes";
+
+	@MockitoBean
+	private DocumentChangeService documentChangeServiceMock;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void readChanges() {
+
+		// Arrange
+		final var changes = DocumentChanges.create()
+			.withChanges(List.of(DocumentChange.create().withSequenceNumber(11L).withRegistrationNumber("2023-2281-1337").withRevision(2).withType("REVISED")))
+			.withCursor(11L);
+
+		when(documentChangeServiceMock.read(10L, 50, MUNICIPALITY_ID)).thenReturn(changes);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH)
+				.queryParam("cursor", 10)
+				.queryParam("limit", 50)
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(DocumentChanges.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(changes);
+		verify(documentChangeServiceMock).read(10L, 50, MUNICIPALITY_ID);
+	}
+
+	@Test
+	void readChangesWithDefaults() {
+
+		// Arrange
+		when(documentChangeServiceMock.read(0L, 100, MUNICIPALITY_ID)).thenReturn(DocumentChanges.create().withChanges(List.of()));
+
+		// Act
+		webTestClient.get()
+			.uri(PATH)
+			.exchange()
+			.expectStatus().isOk();
+
+		// Assert
+		verify(documentChangeServiceMock).read(0L, 100, MUNICIPALITY_ID);
+	}
+
+	@Test
+	void readChangesWithInvalidParameters() {
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path(PATH)
+				.queryParam("cursor", -1)
+				.queryParam("limit", 1001)
+				.build())
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(
+				tuple("readChanges.cursor", "must be greater than or equal to 0"),
+				tuple("readChanges.limit", "must be less than or equal to 1000"));
+
+		verifyNoInteractions(documentChangeServiceMock);
+	}
+}
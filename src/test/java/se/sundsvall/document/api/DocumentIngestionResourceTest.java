@@ -0,0 +1,90 @@
+package se.sundsvall.document.api;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.dept44.problem.violations.Violation;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.api.model.Ingestion;
+import se.sundsvall.document.service.ingestion.AsyncIngestionService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles("junit")
+@AutoConfigureWebTestClient
+class DocumentIngestionResourceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String INGESTION_ID = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d";
+	private static final String PATH = "/" + MUNICIPALITY_ID + "/documents/ingestions/{ingestionId}";
+
+	@MockitoBean
+	private AsyncIngestionService asyncIngestionServiceMock;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void readIngestion() {
+
+		// Arrange
+		final var ingestion = Ingestion.create()
+			.withId(INGESTION_ID)
+			.withStatus("COMPLETED")
+			.withRegistrationNumber("2023-2281-1337")
+			.withRevision(1);
+
+		when(asyncIngestionServiceMock.read(INGESTION_ID, MUNICIPALITY_ID)).thenReturn(ingestion);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(PATH, INGESTION_ID)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(Ingestion.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(ingestion);
+		verify(asyncIngestionServiceMock).read(INGESTION_ID, MUNICIPALITY_ID);
+	}
+
+	@Test
+	void readIngestionWithInvalidId() {
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(PATH, "invalid")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("readIngestion.ingestionId", "not a valid UUID"));
+
+		verifyNoInteractions(asyncIngestionServiceMock);
+	}
+}
@@ -1,6 +1,7 @@
 package se.sundsvall.document.api;
 
 import java.util.List;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -16,12 +17,15 @@ import se.sundsvall.document.Application;
 import se.sundsvall.document.api.model.Confidentiality;
 import se.sundsvall.document.api.model.ConfidentialityUpdateRequest;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentBatchReadRequest;
 import se.sundsvall.document.api.model.DocumentCreateRequest;
 import se.sundsvall.document.api.model.DocumentDataCreateRequest;
 import se.sundsvall.document.api.model.DocumentMetadata;
+import se.sundsvall.document.api.model.DocumentReference;
 import se.sundsvall.document.api.model.DocumentUpdateRequest;
 import se.sundsvall.document.api.validation.DocumentTypeValidator;
 import se.sundsvall.document.service.DocumentService;
+import se.sundsvall.document.service.ingestion.AsyncIngestionService;
 
 import static java.util.Collections.emptyList;
 import static org.apache.commons.lang3.StringUtils.repeat;
@@ -48,6 +52,9 @@ class DocumentResourceFailuresTest {
 	@MockitoBean
 	private DocumentService documentServiceMock;
 
+	@MockitoBean
+	private AsyncIngestionService asyncIngestionServiceMock;
+
 	@MockitoBean
 	private DocumentTypeValidator validationUtilityMock;
 
@@ -116,6 +123,37 @@ class DocumentResourceFailuresTest {
 		verifyNoInteractions(documentServiceMock);
 	}
 
+	@Test
+	void createAsyncWithIdempotencyKey() {
+		final var documentCreateRequest = DocumentCreateRequest.create()
+			.withCreatedBy("user")
+			.withDescription("description")
+			.withType("type");
+
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("documentFiles", "file-content").filename("test1.txt").contentType(TEXT_PLAIN);
+		multipartBodyBuilder.part("document", documentCreateRequest);
+
+		final var response = webTestClient.post()
+			.uri("/2281/documents?async=true")
+			.header("Idempotency-Key", "b82bd8ac-1507-4d9a-958d-369261eecc15")
+			.contentType(MULTIPART_FORM_DATA)
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(Problem.class)
+			.returnResult()
+			.getResponseBody();
+
+		assertThat(response).isNotNull().satisfies(problem -> {
+			assertThat(problem.getStatus()).isEqualTo(BAD_REQUEST);
+			assertThat(problem.getDetail()).isEqualTo("Asynchronous ingestion can not be combined with an Idempotency-Key!");
+		});
+
+		verifyNoInteractions(documentServiceMock, asyncIngestionServiceMock);
+	}
+
 	@Test
 	void createWithDuplicateFileNames() {
 		final var documentCreateRequest = DocumentCreateRequest.create()
@@ -250,6 +288,107 @@ class DocumentResourceFailuresTest {
 		verifyNoInteractions(documentServiceMock);
 	}
 
+	@Test
+	void createWithTooLargeDocumentPart() {
+
+		// Arrange
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("documentFiles", "file-content").filename("test.txt").contentType(TEXT_PLAIN);
+		multipartBodyBuilder.part("document", DocumentCreateRequest.create()
+			.withDescription("description")
+			.withCreatedBy("user")
+			.withType("type")
+			.withMetadataList(List.of(DocumentMetadata.create()
+				.withKey("key")
+				.withValue(repeat("x", 20000))))); // 16KB is max size of the part in the junit profile.
+
+		// Act
+		final var response = webTestClient.post()
+			.uri("/2281/documents")
+			.contentType(MULTIPART_FORM_DATA)
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(Problem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getDetail()).isEqualTo("Part 'document' exceeds the maximum size of 16384 bytes");
+
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void createWithTooLongString() {
+
+		// Arrange
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("documentFiles", "file-content").filename("test.txt").contentType(TEXT_PLAIN);
+		multipartBodyBuilder.part("document", DocumentCreateRequest.create()
+			.withDescription("description")
+			.withCreatedBy("user")
+			.withType("type")
+			.withMetadataList(List.of(DocumentMetadata.create()
+				.withKey("key")
+				.withValue(repeat("x", 10001))))); // 10000 is max string length in the junit profile.
+
+		// Act
+		final var response = webTestClient.post()
+			.uri("/2281/documents")
+			.contentType(MULTIPART_FORM_DATA)
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(Problem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getDetail()).isEqualTo("Part 'document' contains a string longer than the maximum length of 10000 characters");
+
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void createWithTooManyMetadata() {
+
+		// Arrange
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("documentFiles", "file-content").filename("test.txt").contentType(TEXT_PLAIN);
+		multipartBodyBuilder.part("document", DocumentCreateRequest.create()
+			.withDescription("description")
+			.withCreatedBy("user")
+			.withType("type")
+			.withMetadataList(IntStream.rangeClosed(0, 200) // 200 is max size of the metadata list.
+				.mapToObj(i -> DocumentMetadata.create().withKey("key" + i).withValue("value"))
+				.toList()));
+
+		// Act
+		final var response = webTestClient.post()
+			.uri("/2281/documents")
+			.contentType(MULTIPART_FORM_DATA)
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(tuple("metadataList", "size must be between 0 and 200"));
+
+		verifyNoInteractions(documentServiceMock);
+	}
+
 	@Test
 	void createWithEmptyMetadata() {
 
@@ -517,6 +656,37 @@ class DocumentResourceFailuresTest {
 		verifyNoInteractions(documentServiceMock);
 	}
 
+	@Test
+	void updateWithTooManyMetadata() {
+
+		// Arrange
+		final var requestBody = DocumentUpdateRequest.create()
+			.withCreatedBy("user")
+			.withMetadataList(IntStream.rangeClosed(0, 200) // 200 is max size of the metadata list.
+				.mapToObj(i -> DocumentMetadata.create().withKey("key" + i).withValue("value"))
+				.toList());
+
+		// Act
+		final var response = webTestClient.patch()
+			.uri("/2281/documents/2023-1337")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(requestBody)
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(tuple("metadataList", "size must be between 0 and 200"));
+
+		verifyNoInteractions(documentServiceMock);
+	}
+
 	@Test
 	void updateWithInvalidType() {
 		doThrow(new ConstraintViolationProblem(BAD_REQUEST, List.of(new Violation("type", "error")))).when(validationUtilityMock).validate(any(), any());
@@ -650,6 +820,110 @@ class DocumentResourceFailuresTest {
 		verifyNoInteractions(documentServiceMock);
 	}
 
+	@Test
+	void readWithInvalidField() {
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/2281/documents/2023-1337")
+				.queryParam("fields", "REGISTRATION_NUMBER,NOT_A_FIELD")
+				.build())
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(Problem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(BAD_REQUEST);
+
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void readBatchWithEmptyList() {
+
+		// Act
+		final var response = webTestClient.post()
+			.uri("/2281/documents/batch")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(DocumentBatchReadRequest.create().withDocuments(emptyList()))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(tuple("documents", "must not be empty"));
+
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void readBatchWithTooManyDocuments() {
+
+		// Arrange
+		final var documentReferences = IntStream.rangeClosed(0, DocumentBatchReadRequest.MAX_DOCUMENTS)
+			.mapToObj(i -> DocumentReference.create().withRegistrationNumber("2023-" + i))
+			.toList();
+
+		// Act
+		final var response = webTestClient.post()
+			.uri("/2281/documents/batch")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(DocumentBatchReadRequest.create().withDocuments(documentReferences))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(tuple("documents", "size must be between 0 and 100"));
+
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void readBatchWithInvalidDocumentReference() {
+
+		// Arrange
+		final var documentReferences = List.of(DocumentReference.create().withRegistrationNumber(" ").withRevision(0));
+
+		// Act
+		final var response = webTestClient.post()
+			.uri("/2281/documents/batch")
+			.contentType(APPLICATION_JSON)
+			.bodyValue(DocumentBatchReadRequest.create().withDocuments(documentReferences))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(
+				tuple("documents[0].registrationNumber", "must not be blank"),
+				tuple("documents[0].revision", "must be greater than or equal to 1"));
+
+		verifyNoInteractions(documentServiceMock);
+	}
+
 	@Test
 	void readFileWithInvalidDocumentDataId() {
 
@@ -2,6 +2,7 @@ package se.sundsvall.document.api;
 
 import jakarta.servlet.http.HttpServletResponse;
 import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -9,6 +10,7 @@ import org.mockito.ArgumentMatchers;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.client.MultipartBodyBuilder;
@@ -20,30 +22,51 @@ import se.sundsvall.document.Application;
 import se.sundsvall.document.api.model.Confidentiality;
 import se.sundsvall.document.api.model.ConfidentialityUpdateRequest;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentBatchReadRequest;
+import se.sundsvall.document.api.model.DocumentBatchReadResult;
 import se.sundsvall.document.api.model.DocumentCreateRequest;
 import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.api.model.DocumentField;
 import se.sundsvall.document.api.model.DocumentFiles;
 import se.sundsvall.document.api.model.DocumentMetadata;
+import se.sundsvall.document.api.model.DocumentParameters;
+import se.sundsvall.document.api.model.DocumentReference;
 import se.sundsvall.document.api.model.DocumentUpdateRequest;
+import se.sundsvall.document.api.model.Ingestion;
 import se.sundsvall.document.api.model.PagedDocumentResponse;
+import se.sundsvall.document.api.model.SparseDocument;
 import se.sundsvall.document.api.validation.DocumentTypeValidator;
+import se.sundsvall.document.service.DocumentExportService;
 import se.sundsvall.document.service.DocumentService;
+import se.sundsvall.document.service.IdempotencyService;
+import se.sundsvall.document.service.ingestion.AsyncIngestionService;
 
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
 import static org.springframework.data.domain.Sort.Order.asc;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
 import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
+import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 import static org.springframework.http.MediaType.ALL_VALUE;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA;
 import static org.springframework.http.MediaType.TEXT_PLAIN;
 import static org.springframework.web.reactive.function.BodyInserters.fromMultipartData;
+import static se.sundsvall.document.api.model.ExportFormat.CSV;
+import static se.sundsvall.document.api.model.ExportFormat.NDJSON;
 
 @SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
 @ActiveProfiles("junit")
@@ -53,6 +76,15 @@ class DocumentResourceTest {
 	@MockitoBean
 	private DocumentService documentServiceMock;
 
+	@MockitoBean
+	private DocumentExportService documentExportServiceMock;
+
+	@MockitoBean
+	private IdempotencyService idempotencyServiceMock;
+
+	@MockitoBean
+	private AsyncIngestionService asyncIngestionServiceMock;
+
 	@MockitoBean
 	private DocumentTypeValidator validationUtilityMock;
 
@@ -94,6 +126,78 @@ class DocumentResourceTest {
 		// Assert
 		assertThat(response).isNotNull();
 		verify(documentServiceMock).create(eq(documentCreateRequest), ArgumentMatchers.<DocumentFiles>any(), eq("2281"));
+		verifyNoInteractions(idempotencyServiceMock);
+	}
+
+	@Test
+	void createWithIdempotencyKey() {
+
+		// Arrange
+		final var idempotencyKey = "b82bd8ac-1507-4d9a-958d-369261eecc15";
+		final var documentCreateRequest = DocumentCreateRequest.create()
+			.withCreatedBy("user")
+			.withDescription("description")
+			.withMetadataList(List.of(DocumentMetadata.create()
+				.withKey("key")
+				.withValue("value")))
+			.withType("type");
+
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("documentFiles", "file-content").filename("test1.txt").contentType(TEXT_PLAIN);
+		multipartBodyBuilder.part("document", documentCreateRequest);
+
+		when(idempotencyServiceMock.fingerprint(any(), any())).thenReturn("fingerprint");
+		when(idempotencyServiceMock.createOnce(eq("2281"), eq(idempotencyKey), eq("fingerprint"), any())).thenReturn("2023-2281-123");
+
+		// Act
+		webTestClient.post()
+			.uri("/2281/documents")
+			.header("Idempotency-Key", idempotencyKey)
+			.contentType(MULTIPART_FORM_DATA)
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isCreated()
+			.expectHeader().valueEquals(LOCATION, "/2281/documents/2023-2281-123")
+			.expectBody().isEmpty();
+
+		// Assert
+		verify(idempotencyServiceMock).fingerprint(any(), any());
+		verify(idempotencyServiceMock).createOnce(eq("2281"), eq(idempotencyKey), eq("fingerprint"), any());
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void createAsync() {
+
+		// Arrange
+		final var ingestionId = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d";
+		final var documentCreateRequest = DocumentCreateRequest.create()
+			.withCreatedBy("user")
+			.withDescription("description")
+			.withMetadataList(List.of(DocumentMetadata.create()
+				.withKey("key")
+				.withValue("value")))
+			.withType("type");
+
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("documentFiles", "file-content").filename("test1.txt").contentType(TEXT_PLAIN);
+		multipartBodyBuilder.part("document", documentCreateRequest);
+
+		when(asyncIngestionServiceMock.createDocument(any(), any(), any())).thenReturn(Ingestion.create().withId(ingestionId));
+
+		// Act
+		webTestClient.post()
+			.uri("/2281/documents?async=true")
+			.contentType(MULTIPART_FORM_DATA)
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isAccepted()
+			.expectHeader().valueEquals(LOCATION, "/2281/documents/ingestions/" + ingestionId)
+			.expectBody().isEmpty();
+
+		// Assert
+		verify(asyncIngestionServiceMock).createDocument(eq(documentCreateRequest), argThat(files -> files.size() == 1), eq("2281"));
+		verifyNoInteractions(documentServiceMock, idempotencyServiceMock);
 	}
 
 	@Test
@@ -107,7 +211,7 @@ class DocumentResourceTest {
 				.withKey("key")
 				.withValue("value")));
 
-		when(documentServiceMock.update(any(), anyBoolean(), any(), any())).thenReturn(Document.create());
+		when(documentServiceMock.update(any(), anyBoolean(), any(), any(), any())).thenReturn(Document.create().withRevision(2));
 
 		// Act
 		final var response = webTestClient.patch()
@@ -117,13 +221,88 @@ class DocumentResourceTest {
 			.exchange()
 			.expectStatus().isOk()
 			.expectHeader().contentType(APPLICATION_JSON)
+			.expectHeader().valueEquals(ETAG, "\"2\"")
 			.expectBody()
 			.returnResult()
 			.getResponseBody();
 
 		// Assert
 		assertThat(response).isNotNull();
-		verify(documentServiceMock).update(registrationNumber, false, documentUpdateRequest, "2281");
+		verify(documentServiceMock).update(registrationNumber, false, documentUpdateRequest, null, "2281");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"\"2\"", "2", " \"2\" "
+	})
+	void updateWithIfMatch(final String ifMatch) {
+
+		// Arrange
+		final var registrationNumber = "2023-1337";
+		final var documentUpdateRequest = DocumentUpdateRequest.create()
+			.withCreatedBy("user");
+
+		when(documentServiceMock.update(any(), anyBoolean(), any(), any(), any())).thenReturn(Document.create().withRevision(3));
+
+		// Act
+		webTestClient.patch()
+			.uri("/2281/documents/" + registrationNumber)
+			.contentType(APPLICATION_JSON)
+			.header(IF_MATCH, ifMatch)
+			.bodyValue(documentUpdateRequest)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().valueEquals(ETAG, "\"3\"");
+
+		// Assert
+		verify(documentServiceMock).update(registrationNumber, false, documentUpdateRequest, 2, "2281");
+	}
+
+	@Test
+	void updateWithIfMatchAny() {
+
+		// Arrange
+		final var registrationNumber = "2023-1337";
+		final var documentUpdateRequest = DocumentUpdateRequest.create()
+			.withCreatedBy("user");
+
+		when(documentServiceMock.update(any(), anyBoolean(), any(), any(), any())).thenReturn(Document.create().withRevision(3));
+
+		// Act
+		webTestClient.patch()
+			.uri("/2281/documents/" + registrationNumber)
+			.contentType(APPLICATION_JSON)
+			.header(IF_MATCH, "*")
+			.bodyValue(documentUpdateRequest)
+			.exchange()
+			.expectStatus().isOk();
+
+		// Assert
+		verify(documentServiceMock).update(registrationNumber, false, documentUpdateRequest, null, "2281");
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"W/\"2\"", "\"abc\""
+	})
+	void updateWithInvalidIfMatch(final String ifMatch) {
+
+		// Arrange
+		final var registrationNumber = "2023-1337";
+		final var documentUpdateRequest = DocumentUpdateRequest.create()
+			.withCreatedBy("user");
+
+		// Act
+		webTestClient.patch()
+			.uri("/2281/documents/" + registrationNumber)
+			.contentType(APPLICATION_JSON)
+			.header(IF_MATCH, ifMatch)
+			.bodyValue(documentUpdateRequest)
+			.exchange()
+			.expectStatus().isEqualTo(PRECONDITION_FAILED);
+
+		// Assert
+		verifyNoInteractions(documentServiceMock);
 	}
 
 	@Test
@@ -162,7 +341,7 @@ class DocumentResourceTest {
 				.withKey("key")
 				.withValue("value")));
 
-		when(documentServiceMock.update(any(), anyBoolean(), any(), any())).thenReturn(Document.create());
+		when(documentServiceMock.update(any(), anyBoolean(), any(), any(), any())).thenReturn(Document.create().withRevision(2));
 
 		// Act
 		final var response = webTestClient.patch()
@@ -180,7 +359,7 @@ class DocumentResourceTest {
 
 		// Assert
 		assertThat(response).isNotNull();
-		verify(documentServiceMock).update(registrationNumber, includeConfidential, documentUpdateRequest, "2281");
+		verify(documentServiceMock).update(registrationNumber, includeConfidential, documentUpdateRequest, null, "2281");
 	}
 
 	@Test
@@ -192,7 +371,7 @@ class DocumentResourceTest {
 		final var size = 10;
 		final var sort = "created,asc";
 
-		when(documentServiceMock.search(any(), anyBoolean(), anyBoolean(), any(), any())).thenReturn(PagedDocumentResponse.create().withDocuments(List.of(Document.create())));
+		when(documentServiceMock.search(any(), anyBoolean(), anyBoolean(), any(), any(), any())).thenReturn(PagedDocumentResponse.create().withDocuments(List.of(Document.create())));
 
 		// Act
 		final var response = webTestClient.get()
@@ -211,7 +390,7 @@ class DocumentResourceTest {
 
 		// Assert
 		assertThat(response).isNotNull();
-		verify(documentServiceMock).search(query, false, false, PageRequest.of(page, size, Sort.by(asc("created"))), "2281");
+		verify(documentServiceMock).search(query, false, false, PageRequest.of(page, size, Sort.by(asc("created"))), null, "2281");
 	}
 
 	@ParameterizedTest
@@ -226,7 +405,7 @@ class DocumentResourceTest {
 		final var size = 10;
 		final var sort = "created,asc";
 
-		when(documentServiceMock.search(any(), anyBoolean(), anyBoolean(), any(), any())).thenReturn(PagedDocumentResponse.create().withDocuments(List.of(Document.create())));
+		when(documentServiceMock.search(any(), anyBoolean(), anyBoolean(), any(), any(), any())).thenReturn(PagedDocumentResponse.create().withDocuments(List.of(Document.create())));
 
 		// Act
 		final var response = webTestClient.get()
@@ -246,7 +425,7 @@ class DocumentResourceTest {
 
 		// Assert
 		assertThat(response).isNotNull();
-		verify(documentServiceMock).search(query, includeConfidential, false, PageRequest.of(page, size, Sort.by(asc("created"))), "2281");
+		verify(documentServiceMock).search(query, includeConfidential, false, PageRequest.of(page, size, Sort.by(asc("created"))), null, "2281");
 	}
 
 	@ParameterizedTest
@@ -261,7 +440,7 @@ class DocumentResourceTest {
 		final var size = 10;
 		final var sort = "created,asc";
 
-		when(documentServiceMock.search(any(), anyBoolean(), anyBoolean(), any(), any())).thenReturn(PagedDocumentResponse.create().withDocuments(List.of(Document.create())));
+		when(documentServiceMock.search(any(), anyBoolean(), anyBoolean(), any(), any(), any())).thenReturn(PagedDocumentResponse.create().withDocuments(List.of(Document.create())));
 
 		// Act
 		final var response = webTestClient.get()
@@ -281,7 +460,76 @@ class DocumentResourceTest {
 
 		// Assert
 		assertThat(response).isNotNull();
-		verify(documentServiceMock).search(query, false, onlyLatestRevision, PageRequest.of(page, size, Sort.by(asc("created"))), "2281");
+		verify(documentServiceMock).search(query, false, onlyLatestRevision, PageRequest.of(page, size, Sort.by(asc("created"))), null, "2281");
+	}
+
+	@Test
+	void exportSearch() {
+
+		// Arrange
+		final var query = "string";
+
+		// Act
+		webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/2281/documents/export")
+				.queryParam("query", query)
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.isEmpty();
+
+		// Assert
+		verify(documentExportServiceMock).exportSearch(eq(query), eq(false), eq(false), eq(NDJSON), any(HttpServletResponse.class), eq("2281"));
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void exportSearchAsCsv() {
+
+		// Arrange
+		final var query = "string";
+
+		// Act
+		webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/2281/documents/export")
+				.queryParam("query", query)
+				.queryParam("includeConfidential", true)
+				.queryParam("onlyLatestRevision", true)
+				.queryParam("format", "CSV")
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.isEmpty();
+
+		// Assert
+		verify(documentExportServiceMock).exportSearch(eq(query), eq(true), eq(true), eq(CSV), any(HttpServletResponse.class), eq("2281"));
+	}
+
+	@Test
+	void exportSearchByParameters() {
+
+		// Arrange
+		final var parameters = new DocumentParameters()
+			.withIncludeConfidential(true)
+			.withDocumentTypes(List.of("EMPLOYEE_CERTIFICATE"));
+
+		// Act
+		webTestClient.post()
+			.uri(uriBuilder -> uriBuilder.path("/2281/documents/filter/export")
+				.queryParam("format", "CSV")
+				.build())
+			.contentType(APPLICATION_JSON)
+			.bodyValue(parameters)
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.isEmpty();
+
+		// Assert
+		verify(documentExportServiceMock).exportSearchByParameters(eq(parameters.withMunicipalityId("2281")), eq(CSV), any(HttpServletResponse.class));
+		verifyNoInteractions(documentServiceMock);
 	}
 
 	@Test
@@ -290,7 +538,7 @@ class DocumentResourceTest {
 		// Arrange
 		final var registrationNumber = "2023-1337";
 
-		when(documentServiceMock.read(any(), anyBoolean(), any())).thenReturn(Document.create());
+		when(documentServiceMock.read(any(), anyBoolean(), any(), any())).thenReturn(Document.create().withRevision(2));
 
 		// Act
 		final var response = webTestClient.get()
@@ -298,13 +546,17 @@ class DocumentResourceTest {
 			.exchange()
 			.expectStatus().isOk()
 			.expectHeader().contentType(APPLICATION_JSON)
-			.expectBody()
+			.expectHeader().valueEquals(ETAG, "\"2\"")
+			.expectBody(String.class)
 			.returnResult()
 			.getResponseBody();
 
 		// Assert
-		assertThat(response).isNotNull();
-		verify(documentServiceMock).read(registrationNumber, false, "2281");
+		assertThat(response)
+			.contains("\"revision\":2")
+			.contains("\"archive\":false")
+			.contains("\"description\":null");
+		verify(documentServiceMock).read(registrationNumber, false, null, "2281");
 	}
 
 	@Test
@@ -314,7 +566,7 @@ class DocumentResourceTest {
 		final var includeConfidential = true;
 		final var registrationNumber = "2023-1337";
 
-		when(documentServiceMock.read(any(), anyBoolean(), any())).thenReturn(Document.create());
+		when(documentServiceMock.read(any(), anyBoolean(), any(), any())).thenReturn(Document.create());
 
 		// Act
 		final var response = webTestClient.get()
@@ -330,7 +582,93 @@ class DocumentResourceTest {
 
 		// Assert
 		assertThat(response).isNotNull();
-		verify(documentServiceMock).read(registrationNumber, includeConfidential, "2281");
+		verify(documentServiceMock).read(registrationNumber, includeConfidential, null, "2281");
+	}
+
+	@Test
+	void readWithFields() {
+
+		// Arrange
+		final var registrationNumber = "2023-1337";
+
+		when(documentServiceMock.read(any(), anyBoolean(), any(), any())).thenReturn(SparseDocument.create().withRegistrationNumber(registrationNumber).withRevision(2));
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/2281/documents/" + registrationNumber)
+				.queryParam("fields", "REGISTRATION_NUMBER,DESCRIPTION")
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(String.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo("{\"registrationNumber\":\"2023-1337\",\"revision\":2}");
+		verify(documentServiceMock).read(registrationNumber, false, Set.of(DocumentField.REGISTRATION_NUMBER, DocumentField.DESCRIPTION), "2281");
+	}
+
+	@Test
+	void readWithArchiveField() {
+
+		// Arrange
+		final var registrationNumber = "2023-1337";
+
+		when(documentServiceMock.read(any(), anyBoolean(), any(), any())).thenReturn(SparseDocument.create().withArchiveIncluded(true).withRevision(2));
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/2281/documents/" + registrationNumber)
+				.queryParam("fields", "ARCHIVE")
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(String.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response)
+			.contains("\"revision\":2")
+			.contains("\"archive\":false")
+			.doesNotContain("archiveIncluded")
+			.doesNotContain("null");
+		verify(documentServiceMock).read(registrationNumber, false, Set.of(DocumentField.ARCHIVE), "2281");
+	}
+
+	@Test
+	void readBatch() {
+
+		// Arrange
+		final var documentReferences = List.of(
+			DocumentReference.create().withRegistrationNumber("2023-1337"),
+			DocumentReference.create().withRegistrationNumber("2023-1338").withRevision(2));
+		final var batchReadResults = List.of(
+			DocumentBatchReadResult.create().withRegistrationNumber("2023-1337").withFound(true).withDocument(Document.create().withRegistrationNumber("2023-1337")),
+			DocumentBatchReadResult.create().withRegistrationNumber("2023-1338").withRevision(2));
+
+		when(documentServiceMock.readBatch(any(), anyBoolean(), any(), any())).thenReturn(batchReadResults);
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(uriBuilder -> uriBuilder.path("/2281/documents/batch")
+				.queryParam("includeConfidential", true)
+				.build())
+			.contentType(APPLICATION_JSON)
+			.bodyValue(DocumentBatchReadRequest.create().withDocuments(documentReferences))
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(new ParameterizedTypeReference<List<DocumentBatchReadResult>>() {})
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(batchReadResults);
+		verify(documentServiceMock).readBatch(documentReferences, true, null, "2281");
 	}
 
 	@Test
@@ -349,7 +687,7 @@ class DocumentResourceTest {
 			.isEmpty();
 
 		// Assert
-		verify(documentServiceMock).readFile(eq(registrationNumber), eq(documentDataId), eq(false), any(HttpServletResponse.class), eq("2281"));
+		verify(documentServiceMock).readFile(eq(registrationNumber), eq(documentDataId), eq(false), isNull(), any(HttpServletResponse.class), eq("2281"));
 	}
 
 	@Test
@@ -371,7 +709,33 @@ class DocumentResourceTest {
 			.isEmpty();
 
 		// Assert
-		verify(documentServiceMock).readFile(eq(registrationNumber), eq(documentDataId), eq(includeConfidential), any(HttpServletResponse.class), eq("2281"));
+		verify(documentServiceMock).readFile(eq(registrationNumber), eq(documentDataId), eq(includeConfidential), isNull(), any(HttpServletResponse.class), eq("2281"));
+	}
+
+	@Test
+	void readFileWithRange() {
+
+		// Arrange
+		final var documentDataId = randomUUID().toString();
+		final var registrationNumber = "2023-1337";
+		final var range = "bytes=0-1023";
+
+		doAnswer(invocation -> {
+			invocation.getArgument(4, HttpServletResponse.class).setStatus(PARTIAL_CONTENT.value());
+			return null;
+		}).when(documentServiceMock).readFile(eq(registrationNumber), eq(documentDataId), eq(false), eq(range), any(HttpServletResponse.class), eq("2281"));
+
+		// Act
+		webTestClient.get()
+			.uri("/2281/documents/" + registrationNumber + "/files/" + documentDataId)
+			.header(RANGE, range)
+			.exchange()
+			.expectStatus().isEqualTo(PARTIAL_CONTENT)
+			.expectBody()
+			.isEmpty();
+
+		// Assert
+		verify(documentServiceMock).readFile(eq(registrationNumber), eq(documentDataId), eq(false), eq(range), any(HttpServletResponse.class), eq("2281"));
 	}
 
 	@Test
@@ -387,20 +751,53 @@ class DocumentResourceTest {
 		multipartBodyBuilder.part("documentFile", "file-content").filename("test1.txt").contentType(TEXT_PLAIN);
 		multipartBodyBuilder.part("document", documentDataCreateRequest);
 
-		when(documentServiceMock.addOrReplaceFile(any(), any(), any(), any())).thenReturn(Document.create());
+		when(documentServiceMock.addOrReplaceFile(any(), any(), any(), any(), any())).thenReturn(Document.create().withRevision(3));
 
 		// Act
 		webTestClient.put()
 			.uri("/2281/documents/" + registrationNumber + "/files")
 			.contentType(MULTIPART_FORM_DATA)
+			.header(IF_MATCH, "\"2\"")
 			.body(fromMultipartData(multipartBodyBuilder.build()))
 			.exchange()
 			.expectStatus().isNoContent()
+			.expectHeader().valueEquals(ETAG, "\"3\"")
 			.expectBody()
 			.isEmpty();
 
 		// Assert
-		verify(documentServiceMock).addOrReplaceFile(eq(registrationNumber), eq(documentDataCreateRequest), ArgumentMatchers.<MultipartFile>any(), eq("2281"));
+		verify(documentServiceMock).addOrReplaceFile(eq(registrationNumber), eq(documentDataCreateRequest), ArgumentMatchers.<MultipartFile>any(), eq(2), eq("2281"));
+	}
+
+	@Test
+	void addFileAsync() {
+
+		// Arrange
+		final var ingestionId = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d";
+		final var registrationNumber = "2023-1337";
+		final var documentDataCreateRequest = DocumentDataCreateRequest.create()
+			.withCreatedBy("user");
+		final var multipartBodyBuilder = new MultipartBodyBuilder();
+		multipartBodyBuilder.part("documentFile", "file-content").filename("test1.txt").contentType(TEXT_PLAIN);
+		multipartBodyBuilder.part("document", documentDataCreateRequest);
+
+		when(asyncIngestionServiceMock.addOrReplaceFile(any(), any(), any(), any(), any())).thenReturn(Ingestion.create().withId(ingestionId));
+
+		// Act
+		webTestClient.put()
+			.uri("/2281/documents/" + registrationNumber + "/files?async=true")
+			.contentType(MULTIPART_FORM_DATA)
+			.header(IF_MATCH, "\"2\"")
+			.body(fromMultipartData(multipartBodyBuilder.build()))
+			.exchange()
+			.expectStatus().isAccepted()
+			.expectHeader().valueEquals(LOCATION, "/2281/documents/ingestions/" + ingestionId)
+			.expectBody()
+			.isEmpty();
+
+		// Assert
+		verify(asyncIngestionServiceMock).addOrReplaceFile(eq(registrationNumber), eq(documentDataCreateRequest), ArgumentMatchers.<MultipartFile>any(), eq(2), eq("2281"));
+		verifyNoInteractions(documentServiceMock);
 	}
 
 	@Test
@@ -410,15 +807,39 @@ class DocumentResourceTest {
 		final var documentDataId = randomUUID().toString();
 		final var registrationNumber = "2023-1337";
 
+		when(documentServiceMock.deleteFile(registrationNumber, documentDataId, null, "2281")).thenReturn(Document.create().withRevision(2));
+
 		// Act
 		webTestClient.delete()
 			.uri("/2281/documents/" + registrationNumber + "/files/" + documentDataId)
 			.exchange()
 			.expectStatus().isNoContent()
+			.expectHeader().valueEquals(ETAG, "\"2\"")
 			.expectBody()
 			.isEmpty();
 
 		// Assert
-		verify(documentServiceMock).deleteFile(registrationNumber, documentDataId, "2281");
+		verify(documentServiceMock).deleteFile(registrationNumber, documentDataId, null, "2281");
+	}
+
+	@Test
+	void deleteFileWithIfMatch() {
+
+		// Arrange
+		final var documentDataId = randomUUID().toString();
+		final var registrationNumber = "2023-1337";
+
+		when(documentServiceMock.deleteFile(registrationNumber, documentDataId, 2, "2281")).thenReturn(Document.create().withRevision(3));
+
+		// Act
+		webTestClient.delete()
+			.uri("/2281/documents/" + registrationNumber + "/files/" + documentDataId)
+			.header(IF_MATCH, "\"2\"")
+			.exchange()
+			.expectStatus().isNoContent()
+			.expectHeader().valueEquals(ETAG, "\"3\"");
+
+		// Assert
+		verify(documentServiceMock).deleteFile(registrationNumber, documentDataId, 2, "2281");
 	}
 }
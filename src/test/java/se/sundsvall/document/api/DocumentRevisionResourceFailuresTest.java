@@ -101,4 +101,26 @@ class DocumentRevisionResourceFailuresTest {
 
 		verifyNoInteractions(documentServiceMock);
 	}
+
+	@Test
+	void createDownloadUrlWithInvalidDocumentDataId() {
+
+		// Act
+		final var response = webTestClient.get()
+			.uri("/2281/documents/2023-1337/revisions/1/files/not-a-valid-uuid/download-url")
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactlyInAnyOrder(tuple("createDownloadUrl.documentDataId", "not a valid UUID"));
+
+		verifyNoInteractions(documentServiceMock);
+	}
 }
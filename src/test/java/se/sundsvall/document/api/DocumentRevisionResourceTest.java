@@ -12,6 +12,7 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import se.sundsvall.document.Application;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DownloadUrl;
 import se.sundsvall.document.api.model.PagedDocumentResponse;
 import se.sundsvall.document.service.DocumentService;
 
@@ -21,6 +22,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
@@ -44,7 +46,7 @@ class DocumentRevisionResourceTest {
 		final var registrationNumber = "2023-2281-1337";
 		final var pageRequest = PageRequest.of(0, 20);
 
-		when(documentServiceMock.readAll(any(), anyBoolean(), any(), any()))
+		when(documentServiceMock.readAll(any(), anyBoolean(), any(), any(), any()))
 			.thenReturn(PagedDocumentResponse.create().withDocuments(List.of(Document.create())));
 
 		// Act
@@ -63,7 +65,7 @@ class DocumentRevisionResourceTest {
 		// Assert
 		assertThat(response).isNotNull();
 		assertThat(response.getDocuments()).hasSize(1);
-		verify(documentServiceMock).readAll(registrationNumber, false, pageRequest, "2281");
+		verify(documentServiceMock).readAll(registrationNumber, false, pageRequest, null, "2281");
 	}
 
 	@Test
@@ -74,7 +76,7 @@ class DocumentRevisionResourceTest {
 		final var registrationNumber = "2023-2281-1337";
 		final var pageRequest = PageRequest.of(0, 20);
 
-		when(documentServiceMock.readAll(any(), anyBoolean(), any(), any()))
+		when(documentServiceMock.readAll(any(), anyBoolean(), any(), any(), any()))
 			.thenReturn(PagedDocumentResponse.create().withDocuments(List.of(Document.create())));
 
 		// Act
@@ -94,7 +96,7 @@ class DocumentRevisionResourceTest {
 		// Assert
 		assertThat(response).isNotNull();
 		assertThat(response.getDocuments()).hasSize(1);
-		verify(documentServiceMock).readAll(registrationNumber, includeConfidential, pageRequest, "2281");
+		verify(documentServiceMock).readAll(registrationNumber, includeConfidential, pageRequest, null, "2281");
 	}
 
 	@Test
@@ -104,7 +106,7 @@ class DocumentRevisionResourceTest {
 		final var registrationNumber = "2023-2281-1337";
 		final var revision = 2;
 
-		when(documentServiceMock.read(any(), anyInt(), anyBoolean(), any())).thenReturn(Document.create());
+		when(documentServiceMock.read(any(), anyInt(), anyBoolean(), any(), any())).thenReturn(Document.create());
 
 		// Act
 		final var response = webTestClient.get()
@@ -118,7 +120,7 @@ class DocumentRevisionResourceTest {
 
 		// Assert
 		assertThat(response).isNotNull();
-		verify(documentServiceMock).read(registrationNumber, revision, false, "2281");
+		verify(documentServiceMock).read(registrationNumber, revision, false, null, "2281");
 	}
 
 	@Test
@@ -129,7 +131,7 @@ class DocumentRevisionResourceTest {
 		final var registrationNumber = "2023-2281-1337";
 		final var revision = 2;
 
-		when(documentServiceMock.read(any(), anyInt(), anyBoolean(), any())).thenReturn(Document.create());
+		when(documentServiceMock.read(any(), anyInt(), anyBoolean(), any(), any())).thenReturn(Document.create());
 
 		// Act
 		final var response = webTestClient.get()
@@ -145,7 +147,7 @@ class DocumentRevisionResourceTest {
 
 		// Assert
 		assertThat(response).isNotNull();
-		verify(documentServiceMock).read(registrationNumber, revision, includeConfidential, "2281");
+		verify(documentServiceMock).read(registrationNumber, revision, includeConfidential, null, "2281");
 	}
 
 	@Test
@@ -165,7 +167,7 @@ class DocumentRevisionResourceTest {
 			.isEmpty();
 
 		// Assert
-		verify(documentServiceMock).readFile(eq(registrationNumber), eq(revision), eq(documentDataId), eq(false), any(HttpServletResponse.class), eq("2281"));
+		verify(documentServiceMock).readFile(eq(registrationNumber), eq(revision), eq(documentDataId), eq(false), isNull(), any(HttpServletResponse.class), eq("2281"));
 	}
 
 	@Test
@@ -188,6 +190,32 @@ class DocumentRevisionResourceTest {
 			.isEmpty();
 
 		// Assert
-		verify(documentServiceMock).readFile(eq(registrationNumber), eq(revision), eq(documentDataId), eq(includeConfidential), any(HttpServletResponse.class), eq("2281"));
+		verify(documentServiceMock).readFile(eq(registrationNumber), eq(revision), eq(documentDataId), eq(includeConfidential), isNull(), any(HttpServletResponse.class), eq("2281"));
+	}
+
+	@Test
+	void createDownloadUrl() {
+
+		// Arrange
+		final var registrationNumber = "2023-2281-1337";
+		final var documentDataId = randomUUID().toString();
+		final var revision = 2;
+		final var downloadUrl = DownloadUrl.create().withUrl("/2281/files/" + documentDataId + "?expires=1693438500&signature=signature");
+
+		when(documentServiceMock.createDownloadUrl(registrationNumber, revision, documentDataId, false, "2281")).thenReturn(downloadUrl);
+
+		// Act
+		final var response = webTestClient.get()
+			.uri("/2281/documents/" + registrationNumber + "/revisions/" + revision + "/files/" + documentDataId + "/download-url")
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(DownloadUrl.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isEqualTo(downloadUrl);
+		verify(documentServiceMock).createDownloadUrl(registrationNumber, revision, documentDataId, false, "2281");
 	}
 }
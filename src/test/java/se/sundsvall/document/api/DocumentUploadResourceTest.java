@@ -0,0 +1,220 @@
+package se.sundsvall.document.api;
+
+import java.io.InputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.Upload;
+import se.sundsvall.document.api.model.UploadCreateRequest;
+import se.sundsvall.document.service.upload.UploadService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.ETAG;
+import static org.springframework.http.HttpHeaders.IF_MATCH;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM;
+
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles("junit")
+@AutoConfigureWebTestClient
+class DocumentUploadResourceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-1337";
+	private static final String UPLOAD_ID = "5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e";
+	private static final String PATH = "/" + MUNICIPALITY_ID + "/documents/" + REGISTRATION_NUMBER + "/uploads";
+
+	@MockitoBean
+	private UploadService uploadServiceMock;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void createUpload() {
+
+		// Arrange
+		final var body = UploadCreateRequest.create()
+			.withCreatedBy("User1")
+			.withFileName("file.dwg")
+			.withMimeType("image/vnd.dwg")
+			.withFileSizeInBytes(104857600L);
+
+		when(uploadServiceMock.create(REGISTRATION_NUMBER, body, MUNICIPALITY_ID)).thenReturn(Upload.create().withId(UPLOAD_ID));
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(PATH)
+			.contentType(APPLICATION_JSON)
+			.bodyValue(body)
+			.exchange()
+			.expectStatus().isCreated()
+			.expectHeader().location(PATH + "/" + UPLOAD_ID)
+			.expectBody(Upload.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getId()).isEqualTo(UPLOAD_ID);
+		verify(uploadServiceMock).create(REGISTRATION_NUMBER, body, MUNICIPALITY_ID);
+	}
+
+	@Test
+	void createUploadWithInvalidBody() {
+
+		// Act
+		webTestClient.post()
+			.uri(PATH)
+			.contentType(APPLICATION_JSON)
+			.bodyValue(UploadCreateRequest.create().withCreatedBy("User1").withFileSizeInBytes(-1L))
+			.exchange()
+			.expectStatus().isBadRequest();
+
+		// Assert
+		verifyNoInteractions(uploadServiceMock);
+	}
+
+	@Test
+	void readUpload() {
+
+		// Arrange
+		when(uploadServiceMock.read(REGISTRATION_NUMBER, UPLOAD_ID, MUNICIPALITY_ID)).thenReturn(Upload.create().withId(UPLOAD_ID).withReceivedBytes(1024));
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(PATH + "/" + UPLOAD_ID)
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(Upload.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getReceivedBytes()).isEqualTo(1024);
+	}
+
+	@Test
+	void uploadChunk() {
+
+		// Arrange
+		when(uploadServiceMock.appendChunk(eq(REGISTRATION_NUMBER), eq(UPLOAD_ID), eq(1024L), any(), eq(MUNICIPALITY_ID))).thenAnswer(invocation -> {
+			final var content = invocation.<InputStream>getArgument(3).readAllBytes();
+			return Upload.create().withId(UPLOAD_ID).withReceivedBytes(1024L + content.length);
+		});
+
+		// Act
+		final var response = webTestClient.put()
+			.uri(PATH + "/" + UPLOAD_ID + "?offset=1024")
+			.contentType(APPLICATION_OCTET_STREAM)
+			.bodyValue("chunk".getBytes())
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(Upload.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getReceivedBytes()).isEqualTo(1029);
+		verify(uploadServiceMock).appendChunk(eq(REGISTRATION_NUMBER), eq(UPLOAD_ID), eq(1024L), any(), eq(MUNICIPALITY_ID));
+	}
+
+	@Test
+	void uploadChunkWithNegativeOffset() {
+
+		// Act
+		webTestClient.put()
+			.uri(PATH + "/" + UPLOAD_ID + "?offset=-1")
+			.contentType(APPLICATION_OCTET_STREAM)
+			.bodyValue("chunk".getBytes())
+			.exchange()
+			.expectStatus().isBadRequest();
+
+		// Assert
+		verifyNoInteractions(uploadServiceMock);
+	}
+
+	@Test
+	void uploadChunkWithInvalidUploadId() {
+
+		// Act
+		webTestClient.put()
+			.uri(PATH + "/not-a-uuid?offset=0")
+			.contentType(APPLICATION_OCTET_STREAM)
+			.bodyValue("chunk".getBytes())
+			.exchange()
+			.expectStatus().isBadRequest();
+
+		// Assert
+		verifyNoInteractions(uploadServiceMock);
+	}
+
+	@Test
+	void completeUpload() {
+
+		// Arrange
+		when(uploadServiceMock.complete(REGISTRATION_NUMBER, UPLOAD_ID, null, MUNICIPALITY_ID)).thenReturn(Document.create().withRegistrationNumber(REGISTRATION_NUMBER).withRevision(2));
+
+		// Act
+		final var response = webTestClient.post()
+			.uri(PATH + "/" + UPLOAD_ID + "/complete")
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectHeader().valueEquals(ETAG, "\"2\"")
+			.expectBody(Document.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getRevision()).isEqualTo(2);
+	}
+
+	@Test
+	void completeUploadWithIfMatch() {
+
+		// Arrange
+		when(uploadServiceMock.complete(REGISTRATION_NUMBER, UPLOAD_ID, 1, MUNICIPALITY_ID)).thenReturn(Document.create().withRegistrationNumber(REGISTRATION_NUMBER).withRevision(2));
+
+		// Act
+		webTestClient.post()
+			.uri(PATH + "/" + UPLOAD_ID + "/complete")
+			.header(IF_MATCH, "\"1\"")
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().valueEquals(ETAG, "\"2\"");
+
+		// Assert
+		verify(uploadServiceMock).complete(REGISTRATION_NUMBER, UPLOAD_ID, 1, MUNICIPALITY_ID);
+	}
+
+	@Test
+	void deleteUpload() {
+
+		// Act
+		webTestClient.delete()
+			.uri(PATH + "/" + UPLOAD_ID)
+			.exchange()
+			.expectStatus().isNoContent();
+
+		// Assert
+		verify(uploadServiceMock).delete(REGISTRATION_NUMBER, UPLOAD_ID, MUNICIPALITY_ID);
+	}
+}
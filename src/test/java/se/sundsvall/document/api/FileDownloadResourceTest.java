@@ -0,0 +1,120 @@
+package se.sundsvall.document.api;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.service.DocumentService;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.RANGE;
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles("junit")
+@AutoConfigureWebTestClient
+class FileDownloadResourceTest {
+
+	@MockitoBean
+	private DocumentService documentServiceMock;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void downloadFile() {
+
+		// Arrange
+		final var documentDataId = randomUUID().toString();
+
+		// Act
+		webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/2281/files/" + documentDataId)
+				.queryParam("expires", 1693438500L)
+				.queryParam("signature", "signature")
+				.build())
+			.exchange()
+			.expectStatus().isOk()
+			.expectBody()
+			.isEmpty();
+
+		// Assert
+		verify(documentServiceMock).readFileByDownloadUrl(eq(documentDataId), eq(1693438500L), eq("signature"), isNull(), any(HttpServletResponse.class), eq("2281"));
+	}
+
+	@Test
+	void downloadFileWithRange() {
+
+		// Arrange
+		final var documentDataId = randomUUID().toString();
+		final var range = "bytes=-512";
+
+		// Act
+		webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/2281/files/" + documentDataId)
+				.queryParam("expires", 1693438500L)
+				.queryParam("signature", "signature")
+				.build())
+			.header(RANGE, range)
+			.exchange()
+			.expectStatus().isOk();
+
+		// Assert
+		verify(documentServiceMock).readFileByDownloadUrl(eq(documentDataId), eq(1693438500L), eq("signature"), eq(range), any(HttpServletResponse.class), eq("2281"));
+	}
+
+	@Test
+	void downloadFileWhenSignatureIsNotValid() {
+
+		// Arrange
+		final var documentDataId = randomUUID().toString();
+
+		doThrow(Problem.valueOf(FORBIDDEN, "The download URL is not valid or has expired!"))
+			.when(documentServiceMock).readFileByDownloadUrl(eq(documentDataId), eq(1693438500L), eq("signature"), isNull(), any(HttpServletResponse.class), eq("2281"));
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uriBuilder -> uriBuilder.path("/2281/files/" + documentDataId)
+				.queryParam("expires", 1693438500L)
+				.queryParam("signature", "signature")
+				.build())
+			.exchange()
+			.expectStatus().isForbidden()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(Problem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getDetail()).isEqualTo("The download URL is not valid or has expired!");
+	}
+
+	@Test
+	void downloadFileWithoutSignature() {
+
+		// Act
+		webTestClient.get()
+			.uri("/2281/files/" + randomUUID() + "?expires=1693438500")
+			.exchange()
+			.expectStatus().isBadRequest();
+
+		// Assert
+		verifyNoInteractions(documentServiceMock);
+	}
+}
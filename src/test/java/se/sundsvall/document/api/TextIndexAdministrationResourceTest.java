@@ -0,0 +1,79 @@
+package se.sundsvall.document.api;
+
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.service.textindex.TextIndexService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles("junit")
+@AutoConfigureWebTestClient
+class TextIndexAdministrationResourceTest {
+
+	private static final String BASE_PATH = "/{municipalityId}/admin/textindex";
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@MockitoBean
+	private TextIndexService serviceMock;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void reindex() {
+		// Arrange
+		when(serviceMock.reindex(MUNICIPALITY_ID)).thenReturn(5);
+
+		// Act
+		webTestClient.post()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH + "/reindex").build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.exchange()
+			.expectStatus().isAccepted()
+			.expectHeader().contentType(ALL_VALUE)
+			.expectBody().isEmpty();
+
+		// Assert and verify
+		verify(serviceMock).reindex(MUNICIPALITY_ID);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
+	@Test
+	void reindexWithInvalidMunicipalityId() {
+		// Act
+		final var response = webTestClient.post()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH + "/reindex").build(Map.of("municipalityId", "invalid")))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(response.getViolations()).isNotEmpty().satisfiesExactlyInAnyOrder(violation -> {
+			assertThat(violation.field()).isEqualTo("reindex.municipalityId");
+			assertThat(violation.message()).isEqualTo("not a valid municipality ID");
+		});
+
+		verifyNoInteractions(serviceMock);
+	}
+}
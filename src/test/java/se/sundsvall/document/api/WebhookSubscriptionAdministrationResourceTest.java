@@ -0,0 +1,221 @@
+package se.sundsvall.document.api;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webtestclient.autoconfigure.AutoConfigureWebTestClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.dept44.problem.violations.Violation;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.api.model.WebhookSubscription;
+import se.sundsvall.document.api.model.WebhookSubscriptionCreateRequest;
+import se.sundsvall.document.service.webhook.WebhookSubscriptionService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.boot.test.context.SpringBootTest.WebEnvironment.RANDOM_PORT;
+import static org.springframework.http.HttpHeaders.LOCATION;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.MediaType.ALL_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_PROBLEM_JSON;
+
+@SpringBootTest(classes = Application.class, webEnvironment = RANDOM_PORT)
+@ActiveProfiles("junit")
+@AutoConfigureWebTestClient
+class WebhookSubscriptionAdministrationResourceTest {
+
+	private static final String BASE_PATH = "/{municipalityId}/admin/webhooks";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String ID = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0b01";
+	private static final String URL = "https://example.com/document-changes";
+
+	@MockitoBean
+	private WebhookSubscriptionService serviceMock;
+
+	@Autowired
+	private WebTestClient webTestClient;
+
+	@Test
+	void create() {
+		// Arrange
+		final var request = WebhookSubscriptionCreateRequest.create()
+			.withUrl(URL)
+			.withDocumentType("EMPLOYMENT_CERTIFICATE");
+		when(serviceMock.create(MUNICIPALITY_ID, request)).thenReturn(WebhookSubscription.create().withId(ID));
+
+		// Act
+		webTestClient.post()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.contentType(APPLICATION_JSON)
+			.bodyValue(request)
+			.exchange()
+			.expectStatus().isCreated()
+			.expectHeader().contentType(ALL_VALUE)
+			.expectHeader().valuesMatch(LOCATION, "^/2281/admin/webhooks/" + ID + "$")
+			.expectBody().isEmpty();
+
+		// Assert and verify
+		verify(serviceMock).create(MUNICIPALITY_ID, request);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
+	@Test
+	void createWithHttpUrl() {
+		// Act
+		final var response = webTestClient.post()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.contentType(APPLICATION_JSON)
+			.bodyValue(WebhookSubscriptionCreateRequest.create().withUrl("http://example.com/document-changes"))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("url", "must be a valid URL"));
+
+		verifyNoInteractions(serviceMock);
+	}
+
+	@Test
+	void createWithHostNotAllowed() {
+		// Act
+		final var response = webTestClient.post()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.contentType(APPLICATION_JSON)
+			.bodyValue(WebhookSubscriptionCreateRequest.create().withUrl("https://169.254.169.254/latest/meta-data"))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("url", "host '169.254.169.254' must match one of [example.com]")); // Allowed hosts of the junit profile
+
+		verifyNoInteractions(serviceMock);
+	}
+
+	@Test
+	void createWithInvalidUrl() {
+		// Act
+		final var response = webTestClient.post()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.contentType(APPLICATION_JSON)
+			.bodyValue(WebhookSubscriptionCreateRequest.create().withUrl("not a url"))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("url", "must be a valid URL"));
+
+		verifyNoInteractions(serviceMock);
+	}
+
+	@Test
+	void readAll() {
+		// Arrange
+		when(serviceMock.read(MUNICIPALITY_ID)).thenReturn(List.of(WebhookSubscription.create().withId(ID).withUrl(URL)));
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH).build(Map.of("municipalityId", MUNICIPALITY_ID)))
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBodyList(WebhookSubscription.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).extracting(WebhookSubscription::getId, WebhookSubscription::getUrl).containsExactly(tuple(ID, URL));
+		verify(serviceMock).read(MUNICIPALITY_ID);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
+	@Test
+	void read() {
+		// Arrange
+		when(serviceMock.read(MUNICIPALITY_ID, ID)).thenReturn(WebhookSubscription.create().withId(ID).withUrl(URL));
+
+		// Act
+		final var response = webTestClient.get()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH + "/{id}").build(Map.of("municipalityId", MUNICIPALITY_ID, "id", ID)))
+			.exchange()
+			.expectStatus().isOk()
+			.expectHeader().contentType(APPLICATION_JSON)
+			.expectBody(WebhookSubscription.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert and verify
+		assertThat(response).isNotNull();
+		assertThat(response.getId()).isEqualTo(ID);
+		assertThat(response.getUrl()).isEqualTo(URL);
+		verify(serviceMock).read(MUNICIPALITY_ID, ID);
+		verifyNoMoreInteractions(serviceMock);
+	}
+
+	@Test
+	void readWithInvalidId() {
+		// Act
+		final var response = webTestClient.get()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH + "/{id}").build(Map.of("municipalityId", MUNICIPALITY_ID, "id", "invalid")))
+			.exchange()
+			.expectStatus().isBadRequest()
+			.expectHeader().contentType(APPLICATION_PROBLEM_JSON)
+			.expectBody(ConstraintViolationProblem.class)
+			.returnResult()
+			.getResponseBody();
+
+		// Assert
+		assertThat(response).isNotNull();
+		assertThat(response.getViolations())
+			.extracting(Violation::field, Violation::message)
+			.containsExactly(tuple("readWebhookSubscription.id", "not a valid UUID"));
+
+		verifyNoInteractions(serviceMock);
+	}
+
+	@Test
+	void delete() {
+		// Act
+		webTestClient.delete()
+			.uri(uribuilder -> uribuilder.path(BASE_PATH + "/{id}").build(Map.of("municipalityId", MUNICIPALITY_ID, "id", ID)))
+			.exchange()
+			.expectStatus().isNoContent()
+			.expectHeader().contentType(ALL_VALUE)
+			.expectBody().isEmpty();
+
+		// Assert and verify
+		verify(serviceMock).delete(MUNICIPALITY_ID, ID);
+		verifyNoMoreInteractions(serviceMock);
+	}
+}
@@ -0,0 +1,44 @@
+package se.sundsvall.document.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentBatchReadRequestTest {
+
+	@Test
+	void testBean() {
+		assertThat(DocumentBatchReadRequest.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var documents = List.of(DocumentReference.create().withRegistrationNumber("2023-2281-1337"));
+
+		final var bean = DocumentBatchReadRequest.create()
+			.withDocuments(documents);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getDocuments()).isEqualTo(documents);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentBatchReadRequest.create()).hasAllNullFieldsOrProperties();
+		assertThat(new DocumentBatchReadRequest()).hasAllNullFieldsOrProperties();
+	}
+}
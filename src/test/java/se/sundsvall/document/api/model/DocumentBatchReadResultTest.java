@@ -0,0 +1,52 @@
+package se.sundsvall.document.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentBatchReadResultTest {
+
+	@Test
+	void testBean() {
+		assertThat(DocumentBatchReadResult.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var registrationNumber = "2023-2281-1337";
+		final var revision = 2;
+		final var found = true;
+		final var document = Document.create().withRegistrationNumber(registrationNumber);
+
+		final var bean = DocumentBatchReadResult.create()
+			.withRegistrationNumber(registrationNumber)
+			.withRevision(revision)
+			.withFound(found)
+			.withDocument(document);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
+		assertThat(bean.getRevision()).isEqualTo(revision);
+		assertThat(bean.isFound()).isEqualTo(found);
+		assertThat(bean.getDocument()).isEqualTo(document);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentBatchReadResult.create()).hasAllNullFieldsOrPropertiesExcept("found");
+		assertThat(new DocumentBatchReadResult()).hasAllNullFieldsOrPropertiesExcept("found");
+	}
+}
@@ -0,0 +1,69 @@
+package se.sundsvall.document.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentChangeTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(DocumentChange.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var created = now(systemDefault());
+		final var documentType = "EMPLOYMENT_CERTIFICATE";
+		final var registrationNumber = "2023-2281-1337";
+		final var revision = 2;
+		final var sequenceNumber = 1337L;
+		final var type = "REVISED";
+
+		final var bean = DocumentChange.create()
+			.withCreated(created)
+			.withDocumentType(documentType)
+			.withRegistrationNumber(registrationNumber)
+			.withRevision(revision)
+			.withSequenceNumber(sequenceNumber)
+			.withType(type);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getCreated()).isEqualTo(created);
+		assertThat(bean.getDocumentType()).isEqualTo(documentType);
+		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
+		assertThat(bean.getRevision()).isEqualTo(revision);
+		assertThat(bean.getSequenceNumber()).isEqualTo(sequenceNumber);
+		assertThat(bean.getType()).isEqualTo(type);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentChange.create()).hasAllNullFieldsOrPropertiesExcept("revision", "sequenceNumber");
+		assertThat(new DocumentChange()).hasAllNullFieldsOrPropertiesExcept("revision", "sequenceNumber");
+	}
+}
@@ -0,0 +1,47 @@
+package se.sundsvall.document.api.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentChangesTest {
+
+	@Test
+	void testBean() {
+		assertThat(DocumentChanges.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var changes = List.of(DocumentChange.create());
+		final var cursor = 1337L;
+
+		final var bean = DocumentChanges.create()
+			.withChanges(changes)
+			.withCursor(cursor);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getChanges()).isEqualTo(changes);
+		assertThat(bean.getCursor()).isEqualTo(cursor);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentChanges.create()).hasAllNullFieldsOrPropertiesExcept("cursor");
+		assertThat(new DocumentChanges()).hasAllNullFieldsOrPropertiesExcept("cursor");
+	}
+}
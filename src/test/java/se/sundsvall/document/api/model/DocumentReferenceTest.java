@@ -0,0 +1,46 @@
+package se.sundsvall.document.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentReferenceTest {
+
+	@Test
+	void testBean() {
+		assertThat(DocumentReference.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var registrationNumber = "2023-2281-1337";
+		final var revision = 2;
+
+		final var bean = DocumentReference.create()
+			.withRegistrationNumber(registrationNumber)
+			.withRevision(revision);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
+		assertThat(bean.getRevision()).isEqualTo(revision);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentReference.create()).hasAllNullFieldsOrProperties();
+		assertThat(new DocumentReference()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -46,6 +46,7 @@ class DocumentTest {
 		final var description = "description";
 		final var documentData = List.of(DocumentData.create());
 		final var id = randomUUID().toString();
+		final var matchedFields = List.of("description");
 		final var metadataList = List.of(DocumentMetadata.create());
 		final var municipalityId = "municipalityId";
 		final var registrationNumber = "12345";
@@ -60,6 +61,7 @@ class DocumentTest {
 			.withDescription(description)
 			.withDocumentData(documentData)
 			.withId(id)
+			.withMatchedFields(matchedFields)
 			.withMetadataList(metadataList)
 			.withMunicipalityId(municipalityId)
 			.withRegistrationNumber(registrationNumber)
@@ -74,6 +76,7 @@ class DocumentTest {
 		assertThat(bean.getDescription()).isEqualTo(description);
 		assertThat(bean.getDocumentData()).isEqualTo(documentData);
 		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMatchedFields()).isEqualTo(matchedFields);
 		assertThat(bean.getMetadataList()).isEqualTo(metadataList);
 		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
 		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
@@ -0,0 +1,57 @@
+package se.sundsvall.document.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DownloadUrlTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(DownloadUrl.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var url = "/2281/files/082ba08f-03c7-409f-b8a6-940a1397ba38?expires=1693438500&signature=signature";
+		final var expires = now(systemDefault());
+
+		final var bean = DownloadUrl.create()
+			.withUrl(url)
+			.withExpires(expires);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getUrl()).isEqualTo(url);
+		assertThat(bean.getExpires()).isEqualTo(expires);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DownloadUrl.create()).hasAllNullFieldsOrProperties();
+		assertThat(new DownloadUrl()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,73 @@
+package se.sundsvall.document.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class IngestionTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(Ingestion.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var created = now(systemDefault());
+		final var error = "error";
+		final var id = randomUUID().toString();
+		final var modified = now(systemDefault()).plusMinutes(1);
+		final var registrationNumber = "registrationNumber";
+		final var revision = 2;
+		final var status = "COMPLETED";
+
+		final var bean = Ingestion.create()
+			.withCreated(created)
+			.withError(error)
+			.withId(id)
+			.withModified(modified)
+			.withRegistrationNumber(registrationNumber)
+			.withRevision(revision)
+			.withStatus(status);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getCreated()).isEqualTo(created);
+		assertThat(bean.getError()).isEqualTo(error);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getModified()).isEqualTo(modified);
+		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
+		assertThat(bean.getRevision()).isEqualTo(revision);
+		assertThat(bean.getStatus()).isEqualTo(status);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(Ingestion.create()).hasAllNullFieldsOrProperties();
+		assertThat(new Ingestion()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,79 @@
+package se.sundsvall.document.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import tools.jackson.databind.json.JsonMapper;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class SparseDocumentTest {
+
+	private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(SparseDocument.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var bean = SparseDocument.create()
+			.withArchiveIncluded(true);
+
+		assertThat(bean.isArchiveIncluded()).isTrue();
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(SparseDocument.create()).hasAllNullFieldsOrPropertiesExcept("revision", "archive", "archiveIncluded")
+			.hasFieldOrPropertyWithValue("revision", 0)
+			.hasFieldOrPropertyWithValue("archive", false)
+			.hasFieldOrPropertyWithValue("archiveIncluded", false);
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+		"false,false,'{\"registrationNumber\":\"2023-2281-1337\",\"revision\":2}'",
+		"true,false,'{\"registrationNumber\":\"2023-2281-1337\",\"revision\":2,\"archive\":false}'",
+		"true,true,'{\"registrationNumber\":\"2023-2281-1337\",\"revision\":2,\"archive\":true}'"
+	})
+	void serialize(boolean archiveIncluded, boolean archive, String expected) {
+
+		// Arrange
+		final var bean = SparseDocument.create()
+			.withArchiveIncluded(archiveIncluded)
+			.withArchive(archive)
+			.withRegistrationNumber("2023-2281-1337")
+			.withRevision(2);
+
+		// Act
+		final var result = JSON_MAPPER.writeValueAsString(bean);
+
+		// Assert
+		assertThat(JSON_MAPPER.readTree(result)).isEqualTo(JSON_MAPPER.readTree(expected));
+	}
+}
@@ -0,0 +1,52 @@
+package se.sundsvall.document.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class UploadCreateRequestTest {
+
+	@Test
+	void testBean() {
+		assertThat(UploadCreateRequest.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var createdBy = "createdBy";
+		final var fileName = "fileName";
+		final var fileSizeInBytes = 1024L;
+		final var mimeType = "mimeType";
+
+		final var bean = UploadCreateRequest.create()
+			.withCreatedBy(createdBy)
+			.withFileName(fileName)
+			.withFileSizeInBytes(fileSizeInBytes)
+			.withMimeType(mimeType);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getCreatedBy()).isEqualTo(createdBy);
+		assertThat(bean.getFileName()).isEqualTo(fileName);
+		assertThat(bean.getFileSizeInBytes()).isEqualTo(fileSizeInBytes);
+		assertThat(bean.getMimeType()).isEqualTo(mimeType);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(UploadCreateRequest.create()).hasAllNullFieldsOrProperties();
+		assertThat(new UploadCreateRequest()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,70 @@
+package se.sundsvall.document.api.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class UploadTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(Upload.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var expires = now(systemDefault());
+		final var fileName = "fileName";
+		final var fileSizeInBytes = 1024L;
+		final var id = randomUUID().toString();
+		final var mimeType = "mimeType";
+		final var receivedBytes = 512L;
+
+		final var bean = Upload.create()
+			.withExpires(expires)
+			.withFileName(fileName)
+			.withFileSizeInBytes(fileSizeInBytes)
+			.withId(id)
+			.withMimeType(mimeType)
+			.withReceivedBytes(receivedBytes);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getExpires()).isEqualTo(expires);
+		assertThat(bean.getFileName()).isEqualTo(fileName);
+		assertThat(bean.getFileSizeInBytes()).isEqualTo(fileSizeInBytes);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMimeType()).isEqualTo(mimeType);
+		assertThat(bean.getReceivedBytes()).isEqualTo(receivedBytes);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(Upload.create()).hasAllNullFieldsOrPropertiesExcept("fileSizeInBytes", "receivedBytes");
+		assertThat(new Upload()).hasAllNullFieldsOrPropertiesExcept("fileSizeInBytes", "receivedBytes");
+	}
+}
@@ -0,0 +1,46 @@
+package se.sundsvall.document.api.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class WebhookSubscriptionCreateRequestTest {
+
+	@Test
+	void testBean() {
+		assertThat(WebhookSubscriptionCreateRequest.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var url = "http://localhost/webhook";
+		final var documentType = "EMPLOYMENT_CERTIFICATE";
+
+		final var bean = WebhookSubscriptionCreateRequest.create()
+			.withUrl(url)
+			.withDocumentType(documentType);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getUrl()).isEqualTo(url);
+		assertThat(bean.getDocumentType()).isEqualTo(documentType);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(WebhookSubscriptionCreateRequest.create()).hasAllNullFieldsOrProperties();
+		assertThat(new WebhookSubscriptionCreateRequest()).hasAllNullFieldsOrProperties();
+	}
+}
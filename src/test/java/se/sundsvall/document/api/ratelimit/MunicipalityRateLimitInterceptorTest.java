@@ -0,0 +1,249 @@
+package se.sundsvall.document.api.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.configuration.RateLimitProperties;
+import se.sundsvall.document.configuration.RateLimitProperties.Limits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.http.HttpHeaders.RETRY_AFTER;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+import static org.springframework.web.servlet.HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE;
+
+class MunicipalityRateLimitInterceptorTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@Test
+	void preHandleWithinLimits() {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(2, 10, 10));
+		final var request = request(MUNICIPALITY_ID);
+		final var response = new MockHttpServletResponse();
+
+		// Act
+		final var result = interceptor.preHandle(request, response, null);
+
+		// Assert
+		assertThat(result).isTrue();
+		assertThat(response.getHeader(RETRY_AFTER)).isNull();
+		assertThat(meterRegistry.get("document.rate-limit.concurrent-requests").tag("municipalityId", MUNICIPALITY_ID).gauge().value()).isEqualTo(1);
+
+		interceptor.afterCompletion(request, response, null, null);
+
+		assertThat(meterRegistry.get("document.rate-limit.concurrent-requests").tag("municipalityId", MUNICIPALITY_ID).gauge().value()).isZero();
+	}
+
+	@Test
+	void preHandleWhenConcurrencyLimitIsExceeded() {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(1, 10, 10));
+		final var response = new MockHttpServletResponse();
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> interceptor.preHandle(request(MUNICIPALITY_ID), response, null));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(TOO_MANY_REQUESTS);
+		assertThat(exception.getMessage()).isEqualTo("Too Many Requests: The limit of concurrent requests of municipality '2281' has been exceeded!");
+		assertThat(response.getHeader(RETRY_AFTER)).isEqualTo("1");
+		assertThat(meterRegistry.get("document.rate-limit.rejected-requests").tags("municipalityId", MUNICIPALITY_ID, "reason", "concurrency").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void preHandleWhenRateLimitIsExceeded() {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(10, 1, 1));
+		final var request = request(MUNICIPALITY_ID);
+		final var response = new MockHttpServletResponse();
+		interceptor.preHandle(request, new MockHttpServletResponse(), null);
+		interceptor.afterCompletion(request, response, null, null);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> interceptor.preHandle(request(MUNICIPALITY_ID), response, null));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(TOO_MANY_REQUESTS);
+		assertThat(exception.getMessage()).isEqualTo("Too Many Requests: The request rate limit of municipality '2281' has been exceeded!");
+		assertThat(response.getHeader(RETRY_AFTER)).isEqualTo("1");
+		assertThat(meterRegistry.get("document.rate-limit.rejected-requests").tags("municipalityId", MUNICIPALITY_ID, "reason", "rate").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void preHandleWhenRejectedForConcurrencyKeepsToken() {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(1, 1, 2));
+		final var request = request(MUNICIPALITY_ID);
+		interceptor.preHandle(request, new MockHttpServletResponse(), null);
+		assertThrows(ThrowableProblem.class, () -> interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null));
+		interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+		// Act
+		final var result = interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+
+		// Assert
+		assertThat(result).isTrue();
+	}
+
+	@Test
+	void preHandleWhenRejectedForRateReleasesRequest() {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(1, 1, 1));
+		final var request = request(MUNICIPALITY_ID);
+		interceptor.preHandle(request, new MockHttpServletResponse(), null);
+		interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+
+		// Act
+		assertThrows(ThrowableProblem.class, () -> interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null));
+
+		// Assert
+		assertThat(meterRegistry.get("document.rate-limit.concurrent-requests").tag("municipalityId", MUNICIPALITY_ID).gauge().value()).isZero();
+	}
+
+	@Test
+	void preHandleWhenOtherMunicipalitiesHaveRequestsInProgress() {
+
+		// Arrange (alone, a municipality can use up to its own limit)
+		final var interceptor = interceptor(true, 6, new Limits(4, 10, 10));
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+
+		// Act
+		final var result = interceptor.preHandle(request("2262"), new MockHttpServletResponse(), null);
+		final var exception = assertThrows(ThrowableProblem.class, () -> interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null));
+
+		// Assert (with two municipalities, each is held to half of the total)
+		assertThat(result).isTrue();
+		assertThat(exception.getStatus()).isEqualTo(TOO_MANY_REQUESTS);
+		assertThat(meterRegistry.get("document.rate-limit.rejected-requests").tags("municipalityId", MUNICIPALITY_ID, "reason", "concurrency").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void preHandleWhenTotalConcurrencyLimitIsExceeded() {
+
+		// Arrange
+		final var interceptor = interceptor(true, 2, new Limits(10, 10, 10));
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> interceptor.preHandle(request("2262"), new MockHttpServletResponse(), null));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(TOO_MANY_REQUESTS);
+		assertThat(exception.getMessage()).isEqualTo("Too Many Requests: The limit of concurrent requests of municipality '2262' has been exceeded!");
+	}
+
+	@Test
+	void preHandleIsolatesMunicipalities() {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(1, 1, 1));
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+
+		// Act
+		final var result = interceptor.preHandle(request("2262"), new MockHttpServletResponse(), null);
+
+		// Assert
+		assertThat(result).isTrue();
+	}
+
+	@Test
+	void preHandleWhenStreaming() throws NoSuchMethodException {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(1, 10, 10));
+		final var handler = new HandlerMethod(new Endpoints(), Endpoints.class.getDeclaredMethod("stream"));
+		final var request = request(MUNICIPALITY_ID);
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null);
+
+		// Act
+		final var result = interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+
+		// Assert
+		assertThat(result).isTrue();
+		assertThat(meterRegistry.get("document.rate-limit.concurrent-requests").tag("municipalityId", MUNICIPALITY_ID).gauge().value()).isEqualTo(1);
+
+		interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+
+		assertThat(meterRegistry.get("document.rate-limit.concurrent-requests").tag("municipalityId", MUNICIPALITY_ID).gauge().value()).isEqualTo(1);
+	}
+
+	@Test
+	void preHandleWhenStreamingAndRateLimitIsExceeded() throws NoSuchMethodException {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(1, 1, 1));
+		final var handler = new HandlerMethod(new Endpoints(), Endpoints.class.getDeclaredMethod("stream"));
+		interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), handler);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), handler));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(TOO_MANY_REQUESTS);
+		assertThat(meterRegistry.get("document.rate-limit.concurrent-requests").tag("municipalityId", MUNICIPALITY_ID).gauge().value()).isZero();
+	}
+
+	@Test
+	void preHandleWhenDisabled() {
+
+		// Arrange
+		final var interceptor = interceptor(false, new Limits(1, 1, 1));
+
+		// Act and assert
+		assertThat(interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null)).isTrue();
+		assertThat(interceptor.preHandle(request(MUNICIPALITY_ID), new MockHttpServletResponse(), null)).isTrue();
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+
+	@Test
+	void preHandleWithoutValidMunicipalityId() {
+
+		// Arrange
+		final var interceptor = interceptor(true, new Limits(1, 1, 1));
+
+		// Act and assert
+		assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), null)).isTrue();
+		assertThat(interceptor.preHandle(request("not-a-municipality"), new MockHttpServletResponse(), null)).isTrue();
+		assertThat(interceptor.preHandle(request("not-a-municipality"), new MockHttpServletResponse(), null)).isTrue();
+		assertThat(meterRegistry.getMeters()).isEmpty();
+	}
+
+	private MunicipalityRateLimitInterceptor interceptor(final boolean enabled, final Limits limits) {
+		return interceptor(enabled, 100, limits);
+	}
+
+	private MunicipalityRateLimitInterceptor interceptor(final boolean enabled, final int maxConcurrentRequests, final Limits limits) {
+		return new MunicipalityRateLimitInterceptor(new RateLimitProperties(enabled, maxConcurrentRequests, limits, Map.of()), meterRegistry);
+	}
+
+	private static MockHttpServletRequest request(final String municipalityId) {
+		final var request = new MockHttpServletRequest();
+		request.setAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("municipalityId", municipalityId));
+		return request;
+	}
+
+	static class Endpoints {
+
+		@StreamingEndpoint
+		void stream() {
+			// Only the annotation is used
+		}
+	}
+}
@@ -0,0 +1,45 @@
+package se.sundsvall.document.api.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketTest {
+
+	private final AtomicLong nanoTime = new AtomicLong();
+
+	@Test
+	void tryConsumeUpToCapacity() {
+		final var tokenBucket = new TokenBucket(3, 10, nanoTime::get);
+
+		assertThat(tokenBucket.tryConsume()).isZero();
+		assertThat(tokenBucket.tryConsume()).isZero();
+		assertThat(tokenBucket.tryConsume()).isZero();
+		assertThat(tokenBucket.tryConsume()).isEqualTo(MILLISECONDS.toNanos(100));
+	}
+
+	@Test
+	void tryConsumeAfterRefill() {
+		final var tokenBucket = new TokenBucket(1, 10, nanoTime::get);
+
+		assertThat(tokenBucket.tryConsume()).isZero();
+		nanoTime.addAndGet(MILLISECONDS.toNanos(60));
+		assertThat(tokenBucket.tryConsume()).isEqualTo(MILLISECONDS.toNanos(40));
+		nanoTime.addAndGet(MILLISECONDS.toNanos(40));
+		assertThat(tokenBucket.tryConsume()).isZero();
+	}
+
+	@Test
+	void refillIsLimitedByCapacity() {
+		final var tokenBucket = new TokenBucket(2, 10, nanoTime::get);
+
+		nanoTime.addAndGet(SECONDS.toNanos(10));
+
+		assertThat(tokenBucket.tryConsume()).isZero();
+		assertThat(tokenBucket.tryConsume()).isZero();
+		assertThat(tokenBucket.tryConsume()).isPositive();
+	}
+}
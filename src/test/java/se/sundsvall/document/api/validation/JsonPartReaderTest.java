@@ -0,0 +1,82 @@
+package se.sundsvall.document.api.validation;
+
+import jakarta.servlet.http.Part;
+import java.io.IOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockPart;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.configuration.RequestPartProperties;
+import tools.jackson.databind.json.JsonMapper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JsonPartReaderTest {
+
+	private final JsonPartReader reader = new JsonPartReader(JsonMapper.builder().build(), new RequestPartProperties(DataSize.ofBytes(32), 10));
+
+	@Mock
+	private Part partMock;
+
+	@Test
+	void read() {
+
+		// Arrange
+		final var part = new MockPart("document", "{\"createdBy\":\"user\"}".getBytes(UTF_8));
+
+		// Act
+		final var result = reader.read(part, DocumentDataCreateRequest.class);
+
+		// Assert
+		assertThat(result).isEqualTo(DocumentDataCreateRequest.create().withCreatedBy("user"));
+	}
+
+	@Test
+	void readTooLargePart() {
+
+		// Arrange
+		final var part = new MockPart("document", "{\"createdBy\":\"a-user-with-a-very-long-name\"}".getBytes(UTF_8));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> reader.read(part, DocumentDataCreateRequest.class));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: Part 'document' exceeds the maximum size of 32 bytes");
+	}
+
+	@Test
+	void readPartWithTooLongString() {
+
+		// Arrange
+		final var part = new MockPart("document", "{\"createdBy\":\"user-123456\"}".getBytes(UTF_8));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> reader.read(part, DocumentDataCreateRequest.class));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: Part 'document' contains a string longer than the maximum length of 10 characters");
+	}
+
+	@Test
+	void readUnreadablePart() throws IOException {
+
+		// Arrange
+		when(partMock.getName()).thenReturn("document");
+		when(partMock.getSize()).thenReturn(10L);
+		when(partMock.getInputStream()).thenThrow(new IOException("error"));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> reader.read(partMock, DocumentDataCreateRequest.class));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: Part 'document' could not be read");
+	}
+}
@@ -0,0 +1,101 @@
+package se.sundsvall.document.api.validation;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import se.sundsvall.dept44.problem.violations.ConstraintViolationProblem;
+import se.sundsvall.document.configuration.WebhookProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+
+class WebhookUrlValidatorTest {
+
+	private final WebhookUrlValidator validator = createValidator(List.of());
+
+	@Test
+	void validateWithPublicAddress() {
+		assertDoesNotThrow(() -> validator.validate("https://1.1.1.1/document-changes"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"https://127.0.0.1/document-changes",
+		"https://0.0.0.0/document-changes",
+		"https://10.0.0.1/document-changes",
+		"https://172.16.0.1/document-changes",
+		"https://192.168.1.1/document-changes",
+		"https://169.254.169.254/latest/meta-data",
+		"https://[::1]/document-changes",
+		"https://[fe80::1]/document-changes",
+		"https://[fd00::1]/document-changes"
+	})
+	void validateWithNonPublicAddress(String url) {
+
+		// Act
+		final var e = assertThrows(ConstraintViolationProblem.class, () -> validator.validate(url));
+
+		// Assert
+		assertThat(e.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(e.getViolations()).hasSize(1).satisfiesExactly(violation -> {
+			assertThat(violation.field()).isEqualTo("url");
+			assertThat(violation.message()).endsWith("must not resolve to a loopback, link-local or private address");
+		});
+	}
+
+	@Test
+	void validateWithUnresolvableHost() {
+
+		// Act
+		final var e = assertThrows(ConstraintViolationProblem.class, () -> validator.validate("https://host.invalid/document-changes"));
+
+		// Assert
+		assertThat(e.getViolations()).hasSize(1).satisfiesExactly(violation -> assertThat(violation.message()).isEqualTo("host 'host.invalid' could not be resolved"));
+	}
+
+	@Test
+	void validateWithAllowedHost() {
+		assertDoesNotThrow(() -> createValidator(List.of("hooks.example.com")).validate("https://HOOKS.example.com/document-changes"));
+	}
+
+	@Test
+	void validateWithHostNotAllowed() {
+
+		// Act
+		final var e = assertThrows(ConstraintViolationProblem.class, () -> createValidator(List.of("hooks.example.com")).validate("https://1.1.1.1/document-changes"));
+
+		// Assert
+		assertThat(e.getViolations()).hasSize(1).satisfiesExactly(violation -> assertThat(violation.message()).isEqualTo("host '1.1.1.1' must match one of [hooks.example.com]"));
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"not a url", "mailto:user@example.com"
+	})
+	void validateWithoutHost(String url) {
+		// Invalid urls are reported by the bean validation of the request
+		assertDoesNotThrow(() -> validator.validate(url));
+	}
+
+	@Test
+	void validateWithNull() {
+		assertDoesNotThrow(() -> validator.validate(null));
+	}
+
+	@Test
+	void isPublic() throws UnknownHostException {
+		assertThat(WebhookUrlValidator.isPublic(InetAddress.getByName("1.1.1.1"))).isTrue();
+		assertThat(WebhookUrlValidator.isPublic(InetAddress.getByName("2606:4700:4700::1111"))).isTrue();
+		assertThat(WebhookUrlValidator.isPublic(InetAddress.getByName("224.0.0.1"))).isFalse();
+	}
+
+	private static WebhookUrlValidator createValidator(final List<String> allowedHosts) {
+		return new WebhookUrlValidator(new WebhookProperties(true, Duration.ofSeconds(10), 1, 100, Duration.ofMinutes(5), Duration.ofSeconds(10), Duration.ofMinutes(1), 5, 10, allowedHosts));
+	}
+}
@@ -0,0 +1,29 @@
+package se.sundsvall.document.configuration;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class AsyncIngestionPropertiesTest {
+
+	@Autowired
+	private AsyncIngestionProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.poolSize()).isEqualTo(1);
+		assertThat(properties.queueCapacity()).isEqualTo(5);
+		assertThat(properties.spoolDirectory()).isEqualTo(Path.of("target/document-ingestion"));
+		assertThat(properties.timeToLive()).isEqualTo(Duration.ofHours(1));
+		assertThat(properties.sweepInterval()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(properties.cleanupInterval()).isEqualTo(Duration.ofHours(1));
+	}
+}
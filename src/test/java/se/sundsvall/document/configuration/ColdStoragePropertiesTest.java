@@ -0,0 +1,25 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class ColdStoragePropertiesTest {
+
+	@Autowired
+	private ColdStorageProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.enabled()).isFalse();
+		assertThat(properties.minAge()).isEqualTo(Duration.ofDays(30));
+		assertThat(properties.batchSize()).isEqualTo(10);
+	}
+}
@@ -0,0 +1,24 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class DownloadUrlPropertiesTest {
+
+	@Autowired
+	private DownloadUrlProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.secret()).isEqualTo("the-secret");
+		assertThat(properties.timeToLive()).isEqualTo(Duration.ofMinutes(1));
+	}
+}
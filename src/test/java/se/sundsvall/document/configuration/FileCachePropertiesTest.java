@@ -0,0 +1,26 @@
+package se.sundsvall.document.configuration;
+
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class FileCachePropertiesTest {
+
+	@Autowired
+	private FileCacheProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.enabled()).isFalse();
+		assertThat(properties.directory()).isEqualTo(Path.of("target/document-file-cache"));
+		assertThat(properties.maxSize().toBytes()).isEqualTo(1024 * 1024);
+		assertThat(properties.maxFileSize().toBytes()).isEqualTo(64 * 1024);
+	}
+}
@@ -0,0 +1,25 @@
+package se.sundsvall.document.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class FileIngestionPropertiesTest {
+
+	@Autowired
+	private FileIngestionProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.poolSize()).isEqualTo(2);
+		assertThat(properties.queueCapacity()).isEqualTo(10);
+		assertThat(properties.maxInMemorySize()).isEqualTo(DataSize.ofKilobytes(1));
+	}
+}
@@ -0,0 +1,23 @@
+package se.sundsvall.document.configuration;
+
+import java.util.HashMap;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.document.integration.db.model.generator.ConfigurableUuidGenerator.TIME_ORDERED_SETTING;
+
+class IdGenerationConfigurationTest {
+
+	@Test
+	void idGenerationCustomizer() {
+
+		// Arrange
+		final var hibernateProperties = new HashMap<String, Object>();
+
+		// Act
+		new IdGenerationConfiguration().idGenerationCustomizer(new IdGenerationProperties(true)).customize(hibernateProperties);
+
+		// Assert
+		assertThat(hibernateProperties).containsEntry(TIME_ORDERED_SETTING, true);
+	}
+}
@@ -0,0 +1,25 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class IdempotencyPropertiesTest {
+
+	@Autowired
+	private IdempotencyProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.timeToLive()).isEqualTo(Duration.ofHours(1));
+		assertThat(properties.leaseTime()).isEqualTo(Duration.ofMinutes(2));
+		assertThat(properties.cleanupInterval()).isEqualTo(Duration.ofHours(1));
+	}
+}
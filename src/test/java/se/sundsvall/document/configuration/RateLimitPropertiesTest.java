@@ -0,0 +1,33 @@
+package se.sundsvall.document.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.configuration.RateLimitProperties.Limits;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class RateLimitPropertiesTest {
+
+	@Autowired
+	private RateLimitProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.enabled()).isTrue();
+		assertThat(properties.maxConcurrentRequests()).isEqualTo(20);
+		assertThat(properties.defaults()).isEqualTo(new Limits(10, 1000, 1000));
+		assertThat(properties.municipalities()).containsOnly(entry("2262", new Limits(2, 5, 10)));
+	}
+
+	@Test
+	void limitsFor() {
+		assertThat(properties.limitsFor("2262")).isEqualTo(new Limits(2, 5, 10));
+		assertThat(properties.limitsFor("2281")).isEqualTo(new Limits(10, 1000, 1000));
+	}
+}
@@ -0,0 +1,39 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.configuration.RetentionProperties.Policy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class RetentionPropertiesTest {
+
+	@Autowired
+	private RetentionProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.enabled()).isFalse();
+		assertThat(properties.interval()).isEqualTo(Duration.ofHours(1));
+		assertThat(properties.batchSize()).isEqualTo(2);
+		assertThat(properties.defaults()).isEqualTo(new Policy(null, null));
+		assertThat(properties.documentTypes()).containsExactly(Map.entry("HOLIDAY_EXCHANGE", new Policy(1, Duration.ofDays(30))));
+		assertThat(properties.municipalities()).containsExactly(Map.entry("2262", Map.of("HOLIDAY_EXCHANGE", new Policy(2, null))));
+	}
+
+	@Test
+	void policyFor() {
+		assertThat(properties.policyFor("2281", "HOLIDAY_EXCHANGE")).isEqualTo(new Policy(1, Duration.ofDays(30)));
+		assertThat(properties.policyFor("2281", "holiday_exchange")).isEqualTo(new Policy(1, Duration.ofDays(30)));
+		assertThat(properties.policyFor("2281", "EMPLOYEE_CERTIFICATE")).isEqualTo(properties.defaults());
+		assertThat(properties.policyFor("2262", "HOLIDAY_EXCHANGE")).isEqualTo(new Policy(2, null));
+		assertThat(properties.policyFor("2262", "EMPLOYEE_CERTIFICATE")).isEqualTo(properties.defaults());
+	}
+}
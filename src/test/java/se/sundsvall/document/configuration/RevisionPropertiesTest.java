@@ -0,0 +1,22 @@
+package se.sundsvall.document.configuration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class RevisionPropertiesTest {
+
+	@Autowired
+	private RevisionProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.maxAttempts()).isEqualTo(2);
+	}
+}
@@ -0,0 +1,51 @@
+package se.sundsvall.document.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.document.configuration.SecondLevelCacheProperties.Region;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.cache.jcache.ConfigSettings.CACHE_MANAGER;
+
+class SecondLevelCacheConfigurationTest {
+
+	private final SecondLevelCacheConfiguration configuration = new SecondLevelCacheConfiguration();
+
+	@Test
+	void secondLevelCacheManager() {
+
+		// Arrange
+		final var properties = new SecondLevelCacheProperties(Map.of("region", new Region(10, Duration.ofMinutes(5))));
+
+		// Act
+		try (var cacheManager = configuration.secondLevelCacheManager(properties)) {
+
+			// Assert
+			assertThat(cacheManager.getCacheNames()).contains("region");
+			final var cacheConfiguration = cacheManager.getCache("region").getConfiguration(CaffeineConfiguration.class);
+			assertThat(cacheConfiguration.getMaximumSize()).isEqualTo(OptionalLong.of(10));
+			assertThat(cacheConfiguration.getExpireAfterWrite()).isEqualTo(OptionalLong.of(Duration.ofMinutes(5).toNanos()));
+			assertThat(cacheConfiguration.isStatisticsEnabled()).isTrue();
+		}
+	}
+
+	@Test
+	void secondLevelCacheManagerCustomizer() {
+
+		// Arrange
+		final var hibernateProperties = new HashMap<String, Object>();
+
+		try (var cacheManager = configuration.secondLevelCacheManager(new SecondLevelCacheProperties(Map.of()))) {
+
+			// Act
+			configuration.secondLevelCacheManagerCustomizer(cacheManager).customize(hibernateProperties);
+
+			// Assert
+			assertThat(hibernateProperties).containsEntry(CACHE_MANAGER, cacheManager);
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.configuration.SecondLevelCacheProperties.Region;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class SecondLevelCachePropertiesTest {
+
+	@Autowired
+	private SecondLevelCacheProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.regions()).containsOnly(
+			entry("default-query-results-region", new Region(10000, Duration.ofSeconds(30))),
+			entry("document-type", new Region(10000, Duration.ofSeconds(30))));
+	}
+}
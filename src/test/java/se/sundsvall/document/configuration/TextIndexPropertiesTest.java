@@ -0,0 +1,30 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class TextIndexPropertiesTest {
+
+	@Autowired
+	private TextIndexProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.enabled()).isFalse();
+		assertThat(properties.poolSize()).isEqualTo(1);
+		assertThat(properties.queueCapacity()).isEqualTo(10);
+		assertThat(properties.maxFileSize().toMegabytes()).isEqualTo(1);
+		assertThat(properties.maxTextLength()).isEqualTo(10000);
+		assertThat(properties.maxTermsPerFile()).isEqualTo(500);
+		assertThat(properties.supportedMimeTypes()).contains("application/pdf", "text/");
+		assertThat(properties.claimTimeout()).isEqualTo(Duration.ofMinutes(10));
+	}
+}
@@ -0,0 +1,27 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class UploadPropertiesTest {
+
+	@Autowired
+	private UploadProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.maxFileSize()).isEqualTo(DataSize.ofKilobytes(10));
+		assertThat(properties.maxChunkSize()).isEqualTo(DataSize.ofKilobytes(1));
+		assertThat(properties.timeToLive()).isEqualTo(Duration.ofHours(1));
+		assertThat(properties.cleanupInterval()).isEqualTo(Duration.ofHours(1));
+	}
+}
@@ -0,0 +1,32 @@
+package se.sundsvall.document.configuration;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.document.Application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class WebhookPropertiesTest {
+
+	@Autowired
+	private WebhookProperties properties;
+
+	@Test
+	void testProperties() {
+		assertThat(properties.enabled()).isFalse();
+		assertThat(properties.interval()).isEqualTo(Duration.ofHours(1));
+		assertThat(properties.poolSize()).isEqualTo(1);
+		assertThat(properties.batchSize()).isEqualTo(2);
+		assertThat(properties.lockTimeout()).isEqualTo(Duration.ofMinutes(1));
+		assertThat(properties.retryDelay()).isEqualTo(Duration.ofSeconds(1));
+		assertThat(properties.maxRetryDelay()).isEqualTo(Duration.ofMinutes(10));
+		assertThat(properties.connectTimeout()).isEqualTo(3);
+		assertThat(properties.readTimeout()).isEqualTo(4);
+		assertThat(properties.allowedHosts()).containsExactly("example.com");
+	}
+}
@@ -92,4 +92,33 @@ class DatabaseHelperTest {
 		assertThat(result).isNull();
 		verifyNoInteractions(entityManagerMock, lobHelperMock);
 	}
+
+	@Test
+	void convertContentToBlob() {
+
+		// Arrange
+		final var content = "content".getBytes();
+		final var sessionMock = Mockito.mock(Session.class);
+		when(sessionMock.getLobHelper()).thenReturn(lobHelperMock);
+		when(entityManagerMock.unwrap(Session.class)).thenReturn(sessionMock);
+		when(lobHelperMock.createBlob(content)).thenReturn(blobMock);
+
+		// Act
+		final var result = databaseHelper.convertContentToBlob(content);
+
+		// Assert
+		assertThat(result).isSameAs(blobMock);
+		verify(lobHelperMock).createBlob(content);
+	}
+
+	@Test
+	void convertContentToBlobWhenNull() {
+
+		// Act
+		final var result = databaseHelper.convertContentToBlob(null);
+
+		// Assert
+		assertThat(result).isNull();
+		verifyNoInteractions(entityManagerMock, lobHelperMock);
+	}
 }
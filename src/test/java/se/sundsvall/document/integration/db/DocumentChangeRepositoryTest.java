@@ -0,0 +1,140 @@
+package se.sundsvall.document.integration.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.DocumentChangeEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.CONFIDENTIALITY_CHANGED;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.CREATED;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.REVISED;
+
+/**
+ * DocumentChangeRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentChangeRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-123";
+
+	@Autowired
+	private DocumentChangeRepository documentChangeRepository;
+
+	@Test
+	void create() {
+
+		// Arrange
+		final var entity = DocumentChangeEntity.create()
+			.withDocumentId("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2")
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(3)
+			.withSequenceNumber(5L)
+			.withType(CONFIDENTIALITY_CHANGED);
+
+		// Act
+		final var result = documentChangeRepository.saveAndFlush(entity);
+
+		// Assert
+		assertThat(result.getId()).isNotNull();
+		assertThat(result.getCreated()).isCloseTo(now(), within(2, SECONDS));
+		assertThat(documentChangeRepository.findById(result.getId())).hasValue(result);
+	}
+
+	@Test
+	void createWithExistingSequenceNumber() {
+
+		// Arrange
+		final var entity = DocumentChangeEntity.create()
+			.withDocumentId("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2")
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(3)
+			.withSequenceNumber(4L)
+			.withType(CONFIDENTIALITY_CHANGED);
+
+		// Act and assert
+		assertThrows(DataIntegrityViolationException.class, () -> documentChangeRepository.saveAndFlush(entity));
+	}
+
+	@Test
+	void findByMunicipalityIdAndSequenceNumberGreaterThan() {
+
+		// Act
+		final var result = documentChangeRepository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 0L, PageRequest.of(0, 100));
+
+		// Assert
+		assertThat(result)
+			.extracting(DocumentChangeEntity::getSequenceNumber, DocumentChangeEntity::getRegistrationNumber, DocumentChangeEntity::getRevision, DocumentChangeEntity::getType)
+			.containsExactly(
+				tuple(1L, REGISTRATION_NUMBER, 1, CREATED),
+				tuple(2L, "2024-2281-999", 1, CREATED),
+				tuple(3L, REGISTRATION_NUMBER, 2, REVISED),
+				tuple(4L, REGISTRATION_NUMBER, 3, REVISED));
+	}
+
+	@Test
+	void findByMunicipalityIdAndSequenceNumberGreaterThanWithCursorAndLimit() {
+
+		// Act
+		final var result = documentChangeRepository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 1L, PageRequest.of(0, 2));
+
+		// Assert
+		assertThat(result).extracting(DocumentChangeEntity::getSequenceNumber).containsExactly(2L, 3L);
+	}
+
+	@Test
+	void findByMunicipalityIdAndSequenceNumberGreaterThanWhenNoChanges() {
+
+		// Act
+		final var latest = documentChangeRepository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 4L, PageRequest.of(0, 100));
+		final var otherMunicipality = documentChangeRepository.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber("2262", 0L, PageRequest.of(0, 100));
+
+		// Assert
+		assertThat(latest).isEmpty();
+		assertThat(otherMunicipality).isEmpty();
+	}
+
+	@Test
+	void findChanges() {
+
+		// Act
+		final var all = documentChangeRepository.findChanges(MUNICIPALITY_ID, 1L, 3L, null, PageRequest.of(0, 100));
+		final var ofType = documentChangeRepository.findChanges(MUNICIPALITY_ID, 0L, 4L, "HOLIDAY_EXCHANGE", PageRequest.of(0, 2));
+
+		// Assert
+		assertThat(all).extracting(DocumentChangeEntity::getSequenceNumber).containsExactly(2L, 3L);
+		assertThat(ofType).extracting(DocumentChangeEntity::getSequenceNumber, DocumentChangeEntity::getDocumentType).containsExactly(
+			tuple(1L, "HOLIDAY_EXCHANGE"),
+			tuple(3L, "HOLIDAY_EXCHANGE"));
+	}
+
+	@Test
+	void findLatestSequenceNumber() {
+		assertThat(documentChangeRepository.findLatestSequenceNumber(MUNICIPALITY_ID)).hasValue(4L);
+		assertThat(documentChangeRepository.findLatestSequenceNumber("2262")).isEmpty();
+	}
+}
@@ -0,0 +1,90 @@
+package se.sundsvall.document.integration.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.DocumentChangeSequenceEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * DocumentChangeSequenceRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentChangeSequenceRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String OTHER_MUNICIPALITY_ID = "2262";
+
+	@Autowired
+	private DocumentChangeSequenceRepository documentChangeSequenceRepository;
+
+	@Test
+	void findSequenceNumberByMunicipalityId() {
+
+		// Act
+		final var result = documentChangeSequenceRepository.findSequenceNumberByMunicipalityId(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).hasValue(4L);
+	}
+
+	@Test
+	void findSequenceNumberByMunicipalityIdWhenNoChanges() {
+		assertThat(documentChangeSequenceRepository.findSequenceNumberByMunicipalityId(OTHER_MUNICIPALITY_ID)).isEmpty();
+	}
+
+	@Test
+	void increment() {
+
+		// Act
+		documentChangeSequenceRepository.increment("c0b2b4c8-6f1e-4d3a-8b7e-2a9f5d1e3c4b", MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(documentChangeSequenceRepository.findSequenceNumberByMunicipalityId(MUNICIPALITY_ID)).hasValue(5L);
+		assertThat(documentChangeSequenceRepository.findById("0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0a05")).isPresent();
+		assertThat(documentChangeSequenceRepository.findById("c0b2b4c8-6f1e-4d3a-8b7e-2a9f5d1e3c4b")).isEmpty();
+	}
+
+	@Test
+	void incrementFirstChangeOfMunicipality() {
+
+		// Act
+		documentChangeSequenceRepository.increment("c0b2b4c8-6f1e-4d3a-8b7e-2a9f5d1e3c4b", OTHER_MUNICIPALITY_ID);
+		documentChangeSequenceRepository.increment("d1c3c5d9-7a2f-4e4b-9c8f-3b0a6e2f4d5c", OTHER_MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(documentChangeSequenceRepository.findById("c0b2b4c8-6f1e-4d3a-8b7e-2a9f5d1e3c4b")).hasValueSatisfying(sequence -> {
+			assertThat(sequence.getMunicipalityId()).isEqualTo(OTHER_MUNICIPALITY_ID);
+			assertThat(sequence.getSequenceNumber()).isEqualTo(2L);
+		});
+	}
+
+	@Test
+	void createForMunicipalityWithSequence() {
+
+		// Arrange
+		final var entity = DocumentChangeSequenceEntity.create()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withSequenceNumber(1L);
+
+		// Act and assert
+		assertThrows(DataIntegrityViolationException.class, () -> documentChangeSequenceRepository.saveAndFlush(entity));
+	}
+}
@@ -0,0 +1,66 @@
+package se.sundsvall.document.integration.db;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryChunkEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * DocumentDataBinaryChunkRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentDataBinaryChunkRepositoryTest {
+
+	private static final String BINARY_ID = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d";
+	private static final String OTHER_BINARY_ID = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9e";
+
+	@Autowired
+	private DocumentDataBinaryChunkRepository documentDataBinaryChunkRepository;
+
+	@Test
+	void insertAndFindChunk() {
+
+		// Act
+		final var inserted = documentDataBinaryChunkRepository.insertChunk(BINARY_ID, 0, "abcd".getBytes());
+		documentDataBinaryChunkRepository.insertChunk(BINARY_ID, 1, "ef".getBytes());
+
+		// Assert
+		assertThat(inserted).isOne();
+		assertThat(documentDataBinaryChunkRepository.findChunk(BINARY_ID, 0)).isEqualTo("abcd".getBytes());
+		assertThat(documentDataBinaryChunkRepository.findChunk(BINARY_ID, 1)).isEqualTo("ef".getBytes());
+		assertThat(documentDataBinaryChunkRepository.findChunk(BINARY_ID, 2)).isNull();
+	}
+
+	@Test
+	void deleteByBinaryIds() {
+
+		// Arrange
+		documentDataBinaryChunkRepository.insertChunk(BINARY_ID, 0, "abcd".getBytes());
+		documentDataBinaryChunkRepository.insertChunk(BINARY_ID, 1, "ef".getBytes());
+		documentDataBinaryChunkRepository.insertChunk(OTHER_BINARY_ID, 0, "xyz".getBytes());
+
+		// Act
+		final var result = documentDataBinaryChunkRepository.deleteByBinaryIds(List.of(BINARY_ID));
+
+		// Assert
+		assertThat(result).isEqualTo(2);
+		assertThat(documentDataBinaryChunkRepository.findAll()).extracting(DocumentDataBinaryChunkEntity::getBinaryId).containsExactly(OTHER_BINARY_ID);
+	}
+}
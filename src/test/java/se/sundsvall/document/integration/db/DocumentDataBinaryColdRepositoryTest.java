@@ -0,0 +1,98 @@
+package se.sundsvall.document.integration.db;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * DocumentDataBinaryColdRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Import(DatabaseHelper.class)
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentDataBinaryColdRepositoryTest {
+
+	private static final String BINARY_ID_REVISION_1 = "d35254ce-d26c-47e3-806f-4cf68cf2fa56"; // Document-1, revision 1
+	private static final String BINARY_ID_REVISION_2 = "3b570ff2-b631-4584-a9fb-77dce2f6d85b"; // Document-1, revision 2
+
+	@Autowired
+	private DocumentDataBinaryColdRepository documentDataBinaryColdRepository;
+
+	@Autowired
+	private DocumentDataBinaryRepository documentDataBinaryRepository;
+
+	@Autowired
+	private DatabaseHelper databaseHelper;
+
+	@Test
+	void findIdsEligibleForColdStorage() {
+
+		// Act
+		final var result = documentDataBinaryColdRepository.findIdsEligibleForColdStorage(now(systemDefault()), 10);
+
+		// Assert (binaries of latest revisions are never eligible)
+		assertThat(result).containsExactly(BINARY_ID_REVISION_2, BINARY_ID_REVISION_1);
+	}
+
+	@Test
+	void findIdsEligibleForColdStorageWithCreatedBefore() {
+
+		// Act
+		final var result = documentDataBinaryColdRepository.findIdsEligibleForColdStorage(LocalDateTime.parse("2023-06-28T12:01:30").atZone(systemDefault()).toOffsetDateTime(), 10);
+
+		// Assert
+		assertThat(result).containsExactly(BINARY_ID_REVISION_1);
+	}
+
+	@Test
+	void findIdsEligibleForColdStorageWithLimit() {
+
+		// Act
+		final var result = documentDataBinaryColdRepository.findIdsEligibleForColdStorage(now(systemDefault()), 1);
+
+		// Assert
+		assertThat(result).containsExactly(BINARY_ID_REVISION_2);
+	}
+
+	@Test
+	void moveToColdStorage() {
+
+		// Arrange
+		final var length = documentDataBinaryRepository.findBinaryFileLength(BINARY_ID_REVISION_1);
+		final var hotContent = new ByteArrayOutputStream();
+		databaseHelper.copyBinaryFile(BINARY_ID_REVISION_1, hotContent);
+
+		// Act
+		assertThat(documentDataBinaryColdRepository.copyToColdStorage(BINARY_ID_REVISION_1)).isOne();
+		assertThat(documentDataBinaryColdRepository.removeFromHotStorage(BINARY_ID_REVISION_1)).isOne();
+
+		// Assert (content in cold storage is read in place)
+		final var coldContent = new ByteArrayOutputStream();
+		assertThat(documentDataBinaryColdRepository.existsById(BINARY_ID_REVISION_1)).isTrue();
+		assertThat(documentDataBinaryRepository.findBinaryFileLength(BINARY_ID_REVISION_1)).isEqualTo(length).isPresent();
+		assertThat(databaseHelper.copyBinaryFile(BINARY_ID_REVISION_1, coldContent)).isEqualTo(length.get());
+		assertThat(coldContent.toByteArray()).isEqualTo(hotContent.toByteArray());
+		assertThat(documentDataBinaryColdRepository.findIdsEligibleForColdStorage(now(systemDefault()), 10)).containsExactly(BINARY_ID_REVISION_2);
+		assertThat(documentDataBinaryColdRepository.copyToColdStorage(BINARY_ID_REVISION_1)).isZero();
+	}
+}
@@ -0,0 +1,176 @@
+package se.sundsvall.document.integration.db;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * DocumentDataBinaryRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Import(DatabaseHelper.class)
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentDataBinaryRepositoryTest {
+
+	private static final String DOCUMENT_DATA_BINARY_ID = "d35254ce-d26c-47e3-806f-4cf68cf2fa56";
+	private static final long FILE_SIZE = 5068;
+
+	@Autowired
+	private DocumentDataBinaryRepository documentDataBinaryRepository;
+
+	@Autowired
+	private DocumentDataRepository documentDataRepository;
+
+	@Autowired
+	private DatabaseHelper databaseHelper;
+
+	@Test
+	void findBinaryFileLength() {
+
+		// Act
+		final var result = documentDataBinaryRepository.findBinaryFileLength(DOCUMENT_DATA_BINARY_ID);
+
+		// Assert
+		assertThat(result).hasValue(FILE_SIZE);
+	}
+
+	@Test
+	void findBinaryFileLengthWhenNotFound() {
+
+		// Act
+		final var result = documentDataBinaryRepository.findBinaryFileLength("00000000-0000-0000-0000-000000000000");
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void findBinaryFileLengthWhenStoredInChunks() {
+
+		// Arrange
+		final var id = documentDataBinaryRepository.saveAndFlush(DocumentDataBinaryEntity.create()
+			.withChunkSize(4)
+			.withFileSizeInBytes(10L)).getId();
+
+		// Act
+		final var result = documentDataBinaryRepository.findBinaryFileLength(id);
+
+		// Assert
+		assertThat(result).hasValue(10L);
+	}
+
+	@Test
+	void findChunkSize() {
+
+		// Arrange
+		final var id = documentDataBinaryRepository.saveAndFlush(DocumentDataBinaryEntity.create()
+			.withChunkSize(4)
+			.withFileSizeInBytes(10L)).getId();
+
+		// Act
+		final var result = documentDataBinaryRepository.findChunkSize(id);
+
+		// Assert
+		assertThat(result).hasValue(4);
+	}
+
+	@Test
+	void findChunkSizeWhenNotStoredInChunks() {
+
+		// Act
+		final var result = documentDataBinaryRepository.findChunkSize(DOCUMENT_DATA_BINARY_ID);
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void copyBinaryFile() {
+
+		// Arrange
+		final var outputStream = new ByteArrayOutputStream();
+
+		// Act
+		final var result = databaseHelper.copyBinaryFile(DOCUMENT_DATA_BINARY_ID, outputStream);
+
+		// Assert
+		assertThat(result).isEqualTo(FILE_SIZE);
+		assertThat(outputStream.toByteArray()).hasSize((int) FILE_SIZE).startsWith(0xFF, 0xD8, 0xFF, 0xE0).endsWith(0xFF, 0xD9);
+	}
+
+	@Test
+	void copyBinaryFileWhenNotFound() {
+
+		// Arrange
+		final var outputStream = new ByteArrayOutputStream();
+
+		// Act
+		final var result = databaseHelper.copyBinaryFile("00000000-0000-0000-0000-000000000000", outputStream);
+
+		// Assert
+		assertThat(result).isZero();
+		assertThat(outputStream.toByteArray()).isEmpty();
+	}
+
+	@Test
+	void findMimeType() {
+
+		// Act
+		final var result = documentDataBinaryRepository.findMimeType(DOCUMENT_DATA_BINARY_ID);
+
+		// Assert
+		assertThat(result).hasValue("image/jpeg");
+	}
+
+	@Test
+	void findMimeTypeWhenNotFound() {
+
+		// Act
+		final var result = documentDataBinaryRepository.findMimeType("00000000-0000-0000-0000-000000000000");
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void findOrphanedIds() {
+
+		// Arrange
+		documentDataRepository.deleteAllByIdInBatch(List.of("faa3547e-f775-4799-9ac0-e07fab1df362")); // The only file using the binary
+
+		// Act
+		final var result = documentDataBinaryRepository.findOrphanedIds(10);
+
+		// Assert
+		assertThat(result).containsExactly(DOCUMENT_DATA_BINARY_ID);
+	}
+
+	@Test
+	void findOrphanedIdsWhenAllAreUsed() {
+
+		// Act
+		final var result = documentDataBinaryRepository.findOrphanedIds(10);
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+}
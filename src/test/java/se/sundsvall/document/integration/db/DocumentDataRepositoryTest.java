@@ -0,0 +1,50 @@
+package se.sundsvall.document.integration.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * DocumentDataRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentDataRepositoryTest {
+
+	@Autowired
+	private DocumentDataRepository documentDataRepository;
+
+	@Test
+	void findById() {
+
+		// Act
+		final var result = documentDataRepository.findById("50167fa9-6b50-428e-9383-b6cbfaffc63b");
+
+		// Assert
+		assertThat(result).hasValueSatisfying(documentData -> {
+			assertThat(documentData.getFileName()).isEqualTo("file2.jpg");
+			assertThat(documentData.getMimeType()).isEqualTo("image/jpeg");
+			assertThat(documentData.getDocumentDataBinary().getId()).isEqualTo("3b570ff2-b631-4584-a9fb-77dce2f6d85b");
+		});
+	}
+
+	@Test
+	void findByIdWhenNotFound() {
+		assertThat(documentDataRepository.findById("00000000-0000-0000-0000-000000000000")).isEmpty();
+	}
+}
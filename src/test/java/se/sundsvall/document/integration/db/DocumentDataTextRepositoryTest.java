@@ -0,0 +1,166 @@
+package se.sundsvall.document.integration.db;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.DocumentDataTextEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.INDEXED;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.PENDING;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.PROCESSING;
+
+/**
+ * DocumentDataTextRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentDataTextRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@Autowired
+	private DocumentDataTextRepository documentDataTextRepository;
+
+	@Test
+	void create() {
+
+		// Arrange
+		final var entity = DocumentDataTextEntity.create()
+			.withId("d3e1f4b8-5a3c-4a3a-9d4f-0b8b5d1c2e3f")
+			.withStatus(INDEXED)
+			.withTerms(new ArrayList<>(List.of("hello", "world")));
+
+		// Act
+		final var result = documentDataTextRepository.saveAndFlush(entity);
+
+		// Assert
+		assertThat(result).isNotNull();
+		assertThat(result.getModified()).isNotNull();
+		assertThat(documentDataTextRepository.findById("d3e1f4b8-5a3c-4a3a-9d4f-0b8b5d1c2e3f")).hasValueSatisfying(text -> {
+			assertThat(text.getStatus()).isEqualTo(INDEXED);
+			assertThat(text.getTerms()).containsExactlyInAnyOrder("hello", "world");
+		});
+	}
+
+	@Test
+	void findIdsByStatus() {
+
+		// Act
+		final var result = documentDataTextRepository.findIdsByStatus(PENDING, PageRequest.of(0, 10));
+
+		// Assert
+		assertThat(result).containsExactly("397282c6-d06e-4c33-8bc8-0828866ff7e5", "0ac27b16-88c3-4180-9617-d8502e24932b");
+	}
+
+	@Test
+	void findIdsByStatusWithLimit() {
+
+		// Act
+		final var result = documentDataTextRepository.findIdsByStatus(PENDING, PageRequest.of(0, 1));
+
+		// Assert
+		assertThat(result).containsExactly("397282c6-d06e-4c33-8bc8-0828866ff7e5");
+	}
+
+	@Test
+	void updateStatus() {
+
+		// Act
+		final var result = documentDataTextRepository.updateStatus("397282c6-d06e-4c33-8bc8-0828866ff7e5", PENDING, PROCESSING, now(systemDefault()));
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(documentDataTextRepository.findIdsByStatus(PROCESSING, PageRequest.of(0, 10))).containsExactly("397282c6-d06e-4c33-8bc8-0828866ff7e5");
+	}
+
+	@Test
+	void updateStatusWhenStatusDiffers() {
+
+		// Act
+		final var result = documentDataTextRepository.updateStatus("53978846-e715-455b-a4e7-440084f0b49b", PENDING, PROCESSING, now(systemDefault()));
+
+		// Assert
+		assertThat(result).isZero();
+		assertThat(documentDataTextRepository.findIdsByStatus(PROCESSING, PageRequest.of(0, 10))).isEmpty();
+	}
+
+	@Test
+	void updateStatusModifiedBefore() {
+
+		// Arrange
+		documentDataTextRepository.updateStatus("397282c6-d06e-4c33-8bc8-0828866ff7e5", PENDING, PROCESSING, OffsetDateTime.parse("2023-06-28T12:00:00+02:00"));
+		documentDataTextRepository.updateStatus("0ac27b16-88c3-4180-9617-d8502e24932b", PENDING, PROCESSING, now(systemDefault()));
+
+		// Act
+		final var result = documentDataTextRepository.updateStatusModifiedBefore(PROCESSING, PENDING, now(systemDefault()).minusMinutes(10));
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(documentDataTextRepository.findIdsByStatus(PENDING, PageRequest.of(0, 10))).containsExactly("397282c6-d06e-4c33-8bc8-0828866ff7e5");
+		assertThat(documentDataTextRepository.findIdsByStatus(PROCESSING, PageRequest.of(0, 10))).containsExactly("0ac27b16-88c3-4180-9617-d8502e24932b");
+	}
+
+	@Test
+	void updatePendingForMunicipalityId() {
+
+		// Act
+		final var result = documentDataTextRepository.updatePendingForMunicipalityId(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isEqualTo(5);
+		assertThat(documentDataTextRepository.findIdsByStatus(PENDING, PageRequest.of(0, 10))).hasSize(5);
+	}
+
+	@Test
+	void updatePendingForUnknownMunicipalityId() {
+
+		// Act
+		final var result = documentDataTextRepository.updatePendingForMunicipalityId("1234");
+
+		// Assert
+		assertThat(result).isZero();
+	}
+
+	@Test
+	void insertPendingForMunicipalityId() {
+
+		// Act
+		final var result = documentDataTextRepository.insertPendingForMunicipalityId(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isEqualTo(3); // Binaries of document 1 revision 2, document 5 and document 6 lack text index
+		assertThat(documentDataTextRepository.findIdsByStatus(PENDING, PageRequest.of(0, 10))).hasSize(5);
+		assertThat(documentDataTextRepository.count()).isEqualTo(8);
+	}
+
+	@Test
+	void deleteTermsByIds() {
+
+		// Act
+		final var result = documentDataTextRepository.deleteTermsByIds(List.of("53978846-e715-455b-a4e7-440084f0b49b", "d35254ce-d26c-47e3-806f-4cf68cf2fa56"));
+
+		// Assert
+		assertThat(result).isEqualTo(3);
+		assertThat(documentDataTextRepository.findById("297282c6-d06e-4c33-8bc8-0828866ff7e5")).hasValueSatisfying(text -> assertThat(text.getTerms()).hasSize(2));
+	}
+}
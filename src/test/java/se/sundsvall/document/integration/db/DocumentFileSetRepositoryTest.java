@@ -0,0 +1,78 @@
+package se.sundsvall.document.integration.db;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * DocumentFileSetRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentFileSetRepositoryTest {
+
+	private static final String REVISION_1_ID = "159c10bf-1b32-471b-b2d3-c4b4b13ea152"; // Document-1, revision 1
+	private static final String REVISION_2_ID = "8efd63a3-b525-4581-8b0b-9759f381a5a5"; // Document-1, revision 2
+
+	@Autowired
+	private DocumentFileSetRepository documentFileSetRepository;
+
+	@Autowired
+	private DocumentRepository documentRepository;
+
+	@Test
+	void findOrphanedIdsWhenAllAreUsed() {
+
+		// Act
+		final var result = documentFileSetRepository.findOrphanedIds(10);
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void findOrphanedIds() {
+
+		// Arrange
+		documentRepository.deleteAllByIdInBatch(List.of(REVISION_2_ID, REVISION_1_ID));
+
+		// Act
+		final var result = documentFileSetRepository.findOrphanedIds(10);
+		final var limitedResult = documentFileSetRepository.findOrphanedIds(1);
+
+		// Assert
+		assertThat(result).containsExactly(REVISION_1_ID, REVISION_2_ID);
+		assertThat(limitedResult).containsExactly(REVISION_1_ID);
+	}
+
+	@Test
+	void deleteDocumentDataByFileSetIds() {
+
+		// Arrange
+		documentRepository.deleteAllByIdInBatch(List.of(REVISION_1_ID));
+
+		// Act
+		final var result = documentFileSetRepository.deleteDocumentDataByFileSetIds(List.of(REVISION_1_ID));
+		documentFileSetRepository.deleteAllByIdInBatch(List.of(REVISION_1_ID));
+
+		// Assert
+		assertThat(result).isEqualTo(1);
+		assertThat(documentFileSetRepository.existsById(REVISION_1_ID)).isFalse();
+	}
+}
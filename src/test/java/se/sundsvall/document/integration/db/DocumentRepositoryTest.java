@@ -14,7 +14,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.WindowIterator;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.jdbc.Sql;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,7 +38,9 @@ import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTest
 import static org.springframework.data.domain.Sort.Direction.ASC;
 import static org.springframework.data.domain.Sort.Direction.DESC;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static se.sundsvall.document.service.InclusionFilter.CONFIDENTIAL_AND_PUBLIC;
 import static se.sundsvall.document.service.InclusionFilter.PUBLIC;
+import static se.sundsvall.document.service.search.SearchQueryParser.parse;
 
 /**
  * DocumentRepository tests.
@@ -88,6 +92,19 @@ class DocumentRepositoryTest {
 				tuple("key2", "value2"));
 	}
 
+	@Test
+	void createGeneratesTimeOrderedIds() {
+
+		// Act
+		final var first = documentRepository.save(createDocumentEntity("2023-1338"));
+		final var second = documentRepository.save(createDocumentEntity("2023-1339"));
+
+		// Assert
+		assertThat(UUID.fromString(first.getId()).version()).isEqualTo(7);
+		assertThat(UUID.fromString(second.getId()).version()).isEqualTo(7);
+		assertThat(second.getId().substring(0, 13)).isGreaterThanOrEqualTo(first.getId().substring(0, 13)); // Millisecond timestamp prefix
+	}
+
 	@Test
 	void createWithMultipleDocumentData() {
 
@@ -316,6 +333,56 @@ class DocumentRepositoryTest {
 			.containsExactly("8efd63a3-b525-4581-8b0b-9759f381a5a5", 2, "2023-2281-123", "User2");
 	}
 
+	@Test
+	void findLatestByRegistrationNumberIn() {
+
+		// Arrange
+		final var registrationNumbers = List.of("2023-2281-123", "2024-2281-999", "2099-2281-000");
+
+		// Act
+		final var result = documentRepository.findLatestByMunicipalityIdAndRegistrationNumberIn(MUNICIPALITY_ID, registrationNumbers, CONFIDENTIAL_AND_PUBLIC.getValue());
+
+		// Assert
+		assertThat(result)
+			.extracting(DocumentEntity::getId, DocumentEntity::getRevision, DocumentEntity::getRegistrationNumber)
+			.containsExactlyInAnyOrder(
+				tuple("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2", 3, "2023-2281-123"),
+				tuple("03d33a6a-bc8c-410c-95f6-2c890822967d", 1, "2024-2281-999"));
+	}
+
+	@Test
+	void findLatestByRegistrationNumberInExcludingConfidential() {
+
+		// Arrange
+		final var registrationNumbers = List.of("2023-2281-123", "2024-2281-999");
+
+		// Act
+		final var result = documentRepository.findLatestByMunicipalityIdAndRegistrationNumberIn(MUNICIPALITY_ID, registrationNumbers, PUBLIC.getValue());
+
+		// Assert
+		assertThat(result)
+			.extracting(DocumentEntity::getId, DocumentEntity::getRevision, DocumentEntity::getRegistrationNumber)
+			.containsExactly(tuple("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2", 3, "2023-2281-123"));
+	}
+
+	@Test
+	void findByRegistrationNumberInAndRevisionIn() {
+
+		// Arrange
+		final var registrationNumbers = List.of("2023-2281-123", "2024-2281-999");
+		final var revisions = List.of(1, 2);
+
+		// Act
+		final var result = documentRepository.findByMunicipalityIdAndRegistrationNumberInAndRevisionInAndConfidentialityConfidentialIn(MUNICIPALITY_ID, registrationNumbers, revisions, PUBLIC.getValue());
+
+		// Assert
+		assertThat(result)
+			.extracting(DocumentEntity::getId, DocumentEntity::getRevision, DocumentEntity::getRegistrationNumber)
+			.containsExactlyInAnyOrder(
+				tuple("159c10bf-1b32-471b-b2d3-c4b4b13ea152", 1, "2023-2281-123"),
+				tuple("8efd63a3-b525-4581-8b0b-9759f381a5a5", 2, "2023-2281-123"));
+	}
+
 	@Test
 	void searchByKeyWithConfidentialIncluded() {
 
@@ -324,7 +391,7 @@ class DocumentRepositoryTest {
 		final var pageRequest = PageRequest.of(0, 10, Sort.by(ASC, "created"));
 
 		// Act
-		final var result = documentRepository.search(search, true, false, pageRequest, MUNICIPALITY_ID);
+		final var result = documentRepository.search(parse(search), true, false, pageRequest, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -343,7 +410,7 @@ class DocumentRepositoryTest {
 		final var pageRequest = PageRequest.of(0, 10, Sort.by(ASC, "created"));
 
 		// Act
-		final var result = documentRepository.search(search, false, false, pageRequest, MUNICIPALITY_ID);
+		final var result = documentRepository.search(parse(search), false, false, pageRequest, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -361,7 +428,7 @@ class DocumentRepositoryTest {
 		final var pageRequest = PageRequest.of(0, 10, Sort.by(ASC, "revision"));
 
 		// Act
-		final var result = documentRepository.search(search, false, false, pageRequest, MUNICIPALITY_ID);
+		final var result = documentRepository.search(parse(search), false, false, pageRequest, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -381,7 +448,7 @@ class DocumentRepositoryTest {
 		final var pageRequest = PageRequest.of(0, 10, Sort.by(ASC, "revision"));
 
 		// Act
-		final var result = documentRepository.search(search, false, true, pageRequest, MUNICIPALITY_ID);
+		final var result = documentRepository.search(parse(search), false, true, pageRequest, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -399,7 +466,7 @@ class DocumentRepositoryTest {
 		final var pageRequest = PageRequest.of(0, 10, Sort.by(ASC, "registrationNumber", "revision"));
 
 		// Act
-		final var result = documentRepository.search(search, true, false, pageRequest, MUNICIPALITY_ID);
+		final var result = documentRepository.search(parse(search), true, false, pageRequest, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -425,13 +492,54 @@ class DocumentRepositoryTest {
 		final var pageRequest = PageRequest.of(0, 10, Sort.by(ASC, "created"));
 
 		// Act
-		final var result = documentRepository.search(search, true, false, pageRequest, MUNICIPALITY_ID);
+		final var result = documentRepository.search(parse(search), true, false, pageRequest, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
 		assertThat(result.getContent()).isEmpty();
 	}
 
+	private static Stream<Arguments> searchWithQueryLanguageArgumentsProvider() {
+		return Stream.of(
+			Arguments.of("meta.EMPLOYEE_UNIT:\"Sidsjö skola\"", List.of("1901694b-8e3a-46b7-83ea-cd351ccc0f52", "2901694b-8e3a-46b7-83ea-cd351ccc0f52")),
+			Arguments.of("meta.employee_type:Vikarie AND NOT meta.EMPLOYEE_UNIT:\"Livets tuffa skola\"", List.of("2901694b-8e3a-46b7-83ea-cd351ccc0f52")),
+			Arguments.of("meta.EMPLOYEE_TYPE:Vik* -meta.EMPLOYEE_UNIT:Sidsjö*", List.of("3901694b-8e3a-46b7-83ea-cd351ccc0f52")),
+			Arguments.of("meta:value-3", List.of("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2", "03d33a6a-bc8c-410c-95f6-2c890822967d")),
+			Arguments.of("meta.document1-key1:*", List.of("159c10bf-1b32-471b-b2d3-c4b4b13ea152", "8efd63a3-b525-4581-8b0b-9759f381a5a5", "612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2")),
+			Arguments.of("file:file1.jpg OR file:FILE2.JPG", List.of("159c10bf-1b32-471b-b2d3-c4b4b13ea152", "8efd63a3-b525-4581-8b0b-9759f381a5a5")),
+			Arguments.of("(file:file1* OR file:file2*) description:\"Document 1\"", List.of("159c10bf-1b32-471b-b2d3-c4b4b13ea152", "8efd63a3-b525-4581-8b0b-9759f381a5a5")),
+			Arguments.of("description:\"Document \"* AND createdBy:User5", List.of("8901694b-8e3a-46b7-83ea-cd351ccc0f52", "1901694b-8e3a-46b7-83ea-cd351ccc0f52", "2901694b-8e3a-46b7-83ea-cd351ccc0f52", "3901694b-8e3a-46b7-83ea-cd351ccc0f52")),
+			Arguments.of("registrationNumber:2024-2281-6*", List.of("8901694b-8e3a-46b7-83ea-cd351ccc0f52", "1901694b-8e3a-46b7-83ea-cd351ccc0f52", "2901694b-8e3a-46b7-83ea-cd351ccc0f52", "3901694b-8e3a-46b7-83ea-cd351ccc0f52")),
+			Arguments.of("registrationNumber:2024_2281*", List.of()), // Underscore is not a wildcard
+			Arguments.of("description:file*", List.of()), // Scoped term does not match other fields
+			Arguments.of("mimeType:image/jpeg -*", List.of()),
+			Arguments.of("content:budget", List.of("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2", "03d33a6a-bc8c-410c-95f6-2c890822967d")),
+			Arguments.of("content:ANNUAL*", List.of("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2")),
+			Arguments.of("content:\"annual, budget\"", List.of("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2")),
+			Arguments.of("content:\"report budg\"*", List.of("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2")),
+			Arguments.of("content:*cast", List.of("03d33a6a-bc8c-410c-95f6-2c890822967d")),
+			Arguments.of("content:budget -content:forecast", List.of("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2")),
+			Arguments.of("forecast", List.of("03d33a6a-bc8c-410c-95f6-2c890822967d")), // Unscoped terms are matched against content
+			Arguments.of("*cast", List.of())); // Unscoped wildcard terms are not matched against content
+	}
+
+	@ParameterizedTest
+	@MethodSource("searchWithQueryLanguageArgumentsProvider")
+	void searchWithQueryLanguage(String search, List<String> expectedIds) {
+
+		// Arrange
+		final var pageRequest = PageRequest.of(0, 10, Sort.by(ASC, "created"));
+
+		// Act
+		final var result = documentRepository.search(parse(search), true, false, pageRequest, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isNotNull();
+		assertThat(result.getContent())
+			.extracting(DocumentEntity::getId)
+			.containsExactlyInAnyOrderElementsOf(expectedIds);
+	}
+
 	private static Stream<Arguments> searchByParametersArgumentsProvider() {
 		return Stream.of(
 			Arguments.of("2281", true, true, List.of("EMPLOYEE_CERTIFICATE"), List.of(new DocumentParameters.MetaData().withKey("EMPLOYEE_TYPE").withMatchesAny(List.of("Vikarie"))), 2),
@@ -452,7 +560,12 @@ class DocumentRepositoryTest {
 			Arguments.of("2281", false, false, List.of("HOLIDAY_EXCHANGE"), null, 3),
 			Arguments.of(null, true, true, List.of("EMPLOYEE_CERTIFICATE"), List.of(new DocumentParameters.MetaData().withKey("EMPLOYEE_TYPE").withMatchesAny(List.of("Vikarie"))), 0),
 			Arguments.of("2281", true, true, List.of("EMPLOYEE_CERTIFICATE"), List.of(), 5),
-			Arguments.of("2281", true, true, null, List.of(new DocumentParameters.MetaData().withKey("document1-key1").withMatchesAny(List.of("value-1"))), 1));
+			Arguments.of("2281", true, true, null, List.of(new DocumentParameters.MetaData().withKey("document1-key1").withMatchesAny(List.of("value-1"))), 1),
+			Arguments.of("2281", true, true, List.of("EMPLOYEE_CERTIFICATE"), List.of(new DocumentParameters.MetaData().withKey("employee_type").withMatchesAny(List.of("VIKARIE"))), 2),
+			Arguments.of("2281", true, true, null, List.of(new DocumentParameters.MetaData().withMatchesAny(List.of("Vikarie", "Sidsjö skola"))), 3),
+			Arguments.of("2281", true, true, null, List.of(new DocumentParameters.MetaData().withMatchesAll(List.of("Vikarie", "Vikarie", "Sidsjö skola"))), 1),
+			Arguments.of("2281", true, true, null, List.of(new DocumentParameters.MetaData().withKey("EMPLOYEE_TYPE").withMatchesAny(List.of("Vikarie", "Vaktmästare")).withMatchesAll(List.of("Vikarie"))), 2),
+			Arguments.of("2281", true, true, null, List.of(new DocumentParameters.MetaData().withKey("EMPLOYEE_UNIT").withMatchesAny(List.of("Vikarie"))), 0));
 	}
 
 	@ParameterizedTest
@@ -474,6 +587,144 @@ class DocumentRepositoryTest {
 		assertThat(result.getTotalElements()).isEqualTo(expectedSize);
 	}
 
+	@Test
+	void searchByParametersReturnsEachDocumentOnce() {
+		// Documents matching several metadata entries of several criteria
+		var parameters = new DocumentParameters()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withIncludeConfidential(true)
+			.withOnlyLatestRevision(true)
+			.withMetaData(List.of(
+				new DocumentParameters.MetaData().withMatchesAny(List.of("Vikarie", "Vaktmästare", "Sidsjö skola", "Livets tuffa skola")),
+				new DocumentParameters.MetaData().withKey("EMPLOYEE_TYPE"),
+				new DocumentParameters.MetaData().withKey("EMPLOYEE_UNIT")));
+		var pageable = PageRequest.of(parameters.getPage() - 1, parameters.getLimit(), parameters.sort());
+
+		var result = documentRepository.searchByParameters(parameters, pageable);
+
+		assertThat(result).isNotNull();
+		assertThat(result.getContent())
+			.extracting(DocumentEntity::getId)
+			.hasSize(3)
+			.doesNotHaveDuplicates();
+		assertThat(result.getTotalElements()).isEqualTo(3);
+	}
+
+	@Test
+	void scrollSearch() {
+
+		// Act
+		final var firstWindow = documentRepository.scrollSearch(parse("*"), true, false, MUNICIPALITY_ID, ScrollPosition.keyset(), 3);
+		final var result = WindowIterator.<DocumentEntity>of(position -> documentRepository.scrollSearch(parse("*"), true, false, MUNICIPALITY_ID, position, 3))
+			.startingAt(ScrollPosition.keyset());
+
+		// Assert
+		assertThat(firstWindow)
+			.extracting(DocumentEntity::getId)
+			.containsExactly(
+				"03d33a6a-bc8c-410c-95f6-2c890822967d",
+				"159c10bf-1b32-471b-b2d3-c4b4b13ea152",
+				"1901694b-8e3a-46b7-83ea-cd351ccc0f52");
+		assertThat(firstWindow.hasNext()).isTrue();
+		assertThat(result)
+			.toIterable()
+			.extracting(DocumentEntity::getId)
+			.containsExactly(
+				"03d33a6a-bc8c-410c-95f6-2c890822967d",
+				"159c10bf-1b32-471b-b2d3-c4b4b13ea152",
+				"1901694b-8e3a-46b7-83ea-cd351ccc0f52",
+				"2901694b-8e3a-46b7-83ea-cd351ccc0f52",
+				"3901694b-8e3a-46b7-83ea-cd351ccc0f52",
+				"612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2",
+				"8901694b-8e3a-46b7-83ea-cd351ccc0f52",
+				"8efd63a3-b525-4581-8b0b-9759f381a5a5");
+	}
+
+	@Test
+	void scrollSearchWithQuery() {
+
+		// Act
+		final var result = documentRepository.scrollSearch(parse("meta.document1-key1:*"), false, true, MUNICIPALITY_ID, ScrollPosition.keyset(), 1);
+
+		// Assert
+		assertThat(result)
+			.extracting(DocumentEntity::getId)
+			.containsExactly("612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2");
+		assertThat(documentRepository.scrollSearch(parse("meta.document1-key1:*"), false, true, MUNICIPALITY_ID, result.positionAt(0), 1)).isEmpty();
+	}
+
+	@Test
+	void scrollSearchByParameters() {
+
+		// Arrange
+		final var parameters = new DocumentParameters()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withIncludeConfidential(true)
+			.withOnlyLatestRevision(true)
+			.withDocumentTypes(List.of("EMPLOYEE_CERTIFICATE"));
+
+		// Act
+		final var result = WindowIterator.<DocumentEntity>of(position -> documentRepository.scrollSearchByParameters(parameters, position, 2))
+			.startingAt(ScrollPosition.keyset());
+
+		// Assert
+		assertThat(result)
+			.toIterable()
+			.extracting(DocumentEntity::getId)
+			.containsExactly(
+				"03d33a6a-bc8c-410c-95f6-2c890822967d",
+				"1901694b-8e3a-46b7-83ea-cd351ccc0f52",
+				"2901694b-8e3a-46b7-83ea-cd351ccc0f52",
+				"3901694b-8e3a-46b7-83ea-cd351ccc0f52",
+				"8901694b-8e3a-46b7-83ea-cd351ccc0f52");
+	}
+
+	@Test
+	void findIdsEligibleForRetention() {
+
+		// Act
+		final var keepOne = documentRepository.findIdsEligibleForRetention(MUNICIPALITY_ID, DOCUMENT_TYPE, 1, now(), 10);
+		final var keepTwo = documentRepository.findIdsEligibleForRetention(MUNICIPALITY_ID, DOCUMENT_TYPE, 2, now(), 10);
+		final var keepNone = documentRepository.findIdsEligibleForRetention(MUNICIPALITY_ID, DOCUMENT_TYPE, 0, now(), 10);
+		final var limited = documentRepository.findIdsEligibleForRetention(MUNICIPALITY_ID, DOCUMENT_TYPE, 1, now(), 1);
+
+		// Assert
+		assertThat(keepOne).containsExactly("159c10bf-1b32-471b-b2d3-c4b4b13ea152", "8efd63a3-b525-4581-8b0b-9759f381a5a5");
+		assertThat(keepTwo).containsExactly("159c10bf-1b32-471b-b2d3-c4b4b13ea152");
+		assertThat(keepNone).containsExactly("159c10bf-1b32-471b-b2d3-c4b4b13ea152", "8efd63a3-b525-4581-8b0b-9759f381a5a5"); // The latest revision is always kept
+		assertThat(limited).containsExactly("159c10bf-1b32-471b-b2d3-c4b4b13ea152");
+	}
+
+	@Test
+	void findIdsEligibleForRetentionKeepsNewerRevisions() {
+
+		// Act
+		final var result = documentRepository.findIdsEligibleForRetention(MUNICIPALITY_ID, DOCUMENT_TYPE, 1, OffsetDateTime.parse("2023-06-28T12:02:00.000+02:00"), 10);
+
+		// Assert
+		assertThat(result).containsExactly("159c10bf-1b32-471b-b2d3-c4b4b13ea152");
+	}
+
+	@Test
+	void findIdsEligibleForRetentionInOtherMunicipality() {
+
+		// Act
+		final var result = documentRepository.findIdsEligibleForRetention("2262", DOCUMENT_TYPE, 1, now(), 10);
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void findIdsEligibleForRetentionKeepsArchivedRevisions() {
+
+		// Act
+		final var result = documentRepository.findIdsEligibleForRetention(MUNICIPALITY_ID, "EMPLOYEE_CERTIFICATE", 0, now(), 10);
+
+		// Assert
+		assertThat(result).isEmpty();
+	}
+
 	private DocumentEntity createDocumentEntity(String registrationNumber) {
 
 		final var documentType = documentTypeRepository.findByMunicipalityIdAndType(MUNICIPALITY_ID, DOCUMENT_TYPE)
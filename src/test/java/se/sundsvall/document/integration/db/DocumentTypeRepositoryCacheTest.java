@@ -0,0 +1,69 @@
+package se.sundsvall.document.integration.db;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.configuration.SecondLevelCacheConfiguration;
+import se.sundsvall.document.configuration.SecondLevelCacheProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * DocumentTypeRepository tests with the second level cache enabled.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest(properties = {
+	"spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+	"spring.jpa.properties.hibernate.cache.use_query_cache=true",
+	"spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Import(SecondLevelCacheConfiguration.class)
+@EnableConfigurationProperties(SecondLevelCacheProperties.class)
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class DocumentTypeRepositoryCacheTest {
+
+	@Autowired
+	private DocumentTypeRepository documentTypeRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Test
+	void findByMunicipalityIdAndTypeIsCached() {
+
+		// Arrange
+		final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		final var first = documentTypeRepository.findByMunicipalityIdAndType("2281", "EMPLOYEE_CERTIFICATE");
+		entityManager.clear();
+		statistics.clear();
+
+		// Act
+		final var second = documentTypeRepository.findByMunicipalityIdAndType("2281", "EMPLOYEE_CERTIFICATE");
+
+		// Assert
+		assertThat(second).isPresent().isEqualTo(first);
+		assertThat(statistics.getQueryCacheHitCount()).isOne();
+		assertThat(statistics.getSecondLevelCacheHitCount()).isPositive();
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+}
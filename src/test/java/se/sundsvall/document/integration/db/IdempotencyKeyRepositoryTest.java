@@ -0,0 +1,196 @@
+package se.sundsvall.document.integration.db;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.IdempotencyKeyEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * IdempotencyKeyRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class IdempotencyKeyRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String IDEMPOTENCY_KEY = "b82bd8ac-1507-4d9a-958d-369261eecc15";
+
+	@Autowired
+	private IdempotencyKeyRepository idempotencyKeyRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	@Test
+	void saveAndFindByMunicipalityIdAndIdempotencyKey() {
+
+		// Arrange
+		final var now = now(systemDefault()).truncatedTo(MILLIS);
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY).withFingerprint("fingerprint").withCreated(now).withExpires(now.plusDays(1)));
+
+		// Act
+		final var result = idempotencyKeyRepository.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY);
+
+		// Assert
+		assertThat(result).hasValueSatisfying(entity -> {
+			assertThat(entity.getId()).isNotNull();
+			assertThat(entity.getRegistrationNumber()).isNull();
+			assertThat(entity.getFingerprint()).isEqualTo("fingerprint");
+			assertThat(entity.getCreated()).isEqualTo(now);
+			assertThat(entity.getExpires()).isEqualTo(now.plusDays(1));
+		});
+		assertThat(idempotencyKeyRepository.findByMunicipalityIdAndIdempotencyKey("2262", IDEMPOTENCY_KEY)).isEmpty();
+	}
+
+	@Test
+	void saveDuplicate() {
+
+		// Arrange
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY));
+
+		// Act and assert
+		assertThatThrownBy(() -> idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY)))
+			.isInstanceOf(DataIntegrityViolationException.class);
+	}
+
+	@Test
+	void saveSameKeyForOtherMunicipality() {
+
+		// Arrange
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY));
+
+		// Act
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey("2262", IDEMPOTENCY_KEY));
+
+		// Assert
+		assertThat(idempotencyKeyRepository.count()).isEqualTo(2);
+	}
+
+	@Test
+	void complete() {
+
+		// Arrange
+		final var claim = idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY));
+		final var expires = now(systemDefault()).plusDays(2).truncatedTo(MILLIS);
+
+		// Act
+		final var result = idempotencyKeyRepository.complete(claim.getId(), "2023-2281-123", expires);
+		entityManager.clear();
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(idempotencyKeyRepository.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY)).hasValueSatisfying(entity -> {
+			assertThat(entity.getRegistrationNumber()).isEqualTo("2023-2281-123");
+			assertThat(entity.getExpires()).isAtSameInstantAs(expires);
+		});
+	}
+
+	@Test
+	void completeWhenAlreadyCompleted() {
+
+		// Arrange
+		final var claim = idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY).withRegistrationNumber("2023-2281-123"));
+
+		// Act
+		final var result = idempotencyKeyRepository.complete(claim.getId(), "2023-2281-124", now(systemDefault()));
+		entityManager.clear();
+
+		// Assert
+		assertThat(result).isZero();
+		assertThat(idempotencyKeyRepository.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY))
+			.hasValueSatisfying(entity -> assertThat(entity.getRegistrationNumber()).isEqualTo("2023-2281-123"));
+	}
+
+	@Test
+	void deleteIfExpired() {
+
+		// Arrange
+		final var now = now(systemDefault());
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY).withExpires(now.minusMinutes(1)));
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, "other-key").withExpires(now.plusMinutes(1)));
+
+		// Act
+		final var expired = idempotencyKeyRepository.deleteIfExpired(MUNICIPALITY_ID, IDEMPOTENCY_KEY, now);
+		final var notExpired = idempotencyKeyRepository.deleteIfExpired(MUNICIPALITY_ID, "other-key", now);
+
+		// Assert
+		assertThat(expired).isOne();
+		assertThat(notExpired).isZero();
+		assertThat(idempotencyKeyRepository.findAll()).extracting(IdempotencyKeyEntity::getIdempotencyKey).containsExactly("other-key");
+	}
+
+	@Test
+	void deleteExpired() {
+
+		// Arrange
+		final var now = now(systemDefault());
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY).withExpires(now.minusMinutes(1)));
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey("2262", IDEMPOTENCY_KEY).withExpires(now.minusMinutes(1)));
+		idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, "other-key").withExpires(now.plusMinutes(1)));
+
+		// Act
+		final var result = idempotencyKeyRepository.deleteExpired(now);
+
+		// Assert
+		assertThat(result).isEqualTo(2);
+		assertThat(idempotencyKeyRepository.findAll()).extracting(IdempotencyKeyEntity::getIdempotencyKey).containsExactly("other-key");
+	}
+
+	@Test
+	void deleteInProgress() {
+
+		// Arrange
+		final var claim = idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY));
+
+		// Act
+		final var result = idempotencyKeyRepository.deleteInProgress(claim.getId());
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(idempotencyKeyRepository.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY)).isEmpty();
+	}
+
+	@Test
+	void deleteInProgressWhenCompleted() {
+
+		// Arrange
+		final var claim = idempotencyKeyRepository.saveAndFlush(idempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY).withRegistrationNumber("2023-2281-123"));
+
+		// Act
+		final var result = idempotencyKeyRepository.deleteInProgress(claim.getId());
+
+		// Assert
+		assertThat(result).isZero();
+		assertThat(idempotencyKeyRepository.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY)).isPresent();
+	}
+
+	private static IdempotencyKeyEntity idempotencyKey(final String municipalityId, final String idempotencyKey) {
+		final var now = now(systemDefault());
+		return IdempotencyKeyEntity.create()
+			.withMunicipalityId(municipalityId)
+			.withIdempotencyKey(idempotencyKey)
+			.withCreated(now)
+			.withExpires(now.plusDays(1));
+	}
+}
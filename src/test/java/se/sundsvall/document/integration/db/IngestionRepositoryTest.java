@@ -0,0 +1,107 @@
+package se.sundsvall.document.integration.db;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.IngestionEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+import static se.sundsvall.document.integration.db.model.IngestionOperation.CREATE_DOCUMENT;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.COMPLETED;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.PENDING;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.PROCESSING;
+
+/**
+ * IngestionRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class IngestionRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+
+	@Autowired
+	private IngestionRepository ingestionRepository;
+
+	@Test
+	void saveAndFind() {
+
+		// Arrange
+		final var now = now(systemDefault()).truncatedTo(MILLIS);
+		final var id = ingestionRepository.saveAndFlush(ingestion(now.plusDays(1))).getId();
+
+		// Act
+		final var result = ingestionRepository.findByIdAndMunicipalityId(id, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).hasValueSatisfying(entity -> {
+			assertThat(entity.getOperation()).isEqualTo(CREATE_DOCUMENT);
+			assertThat(entity.getStatus()).isEqualTo(PENDING);
+			assertThat(entity.getRequest()).isEqualTo("{\"type\":\"EMPLOYMENT_CERTIFICATE\"}");
+			assertThat(entity.getFiles()).isEqualTo("[{\"fileName\":\"file.txt\",\"contentType\":\"text/plain\",\"size\":12}]");
+			assertThat(entity.getExpires()).isEqualTo(now.plusDays(1));
+		});
+		assertThat(ingestionRepository.findByIdAndMunicipalityId(id, "2262")).isEmpty();
+	}
+
+	@Test
+	void updateStatus() {
+
+		// Arrange
+		final var now = now(systemDefault()).truncatedTo(MILLIS);
+		final var id = ingestionRepository.saveAndFlush(ingestion(now.plusDays(1))).getId();
+
+		// Act
+		final var claimed = ingestionRepository.updateStatus(id, PENDING, PROCESSING, now);
+		final var claimedAgain = ingestionRepository.updateStatus(id, PENDING, PROCESSING, now);
+		final var completed = ingestionRepository.updateStatus(id, PROCESSING, COMPLETED, now);
+
+		// Assert
+		assertThat(claimed).isOne();
+		assertThat(claimedAgain).isZero();
+		assertThat(completed).isOne();
+	}
+
+	@Test
+	void deleteExpired() {
+
+		// Arrange
+		final var now = now(systemDefault());
+		final var id = ingestionRepository.saveAndFlush(ingestion(now.plusDays(1))).getId();
+		ingestionRepository.saveAndFlush(ingestion(now.minusDays(1)));
+
+		// Act
+		final var result = ingestionRepository.deleteExpired(now);
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(ingestionRepository.findAll()).extracting(IngestionEntity::getId).containsExactly(id);
+	}
+
+	private static IngestionEntity ingestion(final OffsetDateTime expires) {
+		return IngestionEntity.create()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withOperation(CREATE_DOCUMENT)
+			.withStatus(PENDING)
+			.withRequest("{\"type\":\"EMPLOYMENT_CERTIFICATE\"}")
+			.withFiles("[{\"fileName\":\"file.txt\",\"contentType\":\"text/plain\",\"size\":12}]")
+			.withExpires(expires);
+	}
+}
@@ -0,0 +1,108 @@
+package se.sundsvall.document.integration.db;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.MariaDbBlob;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.UploadChunkEntity;
+import se.sundsvall.document.integration.db.model.UploadEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * UploadChunkRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class UploadChunkRepositoryTest {
+
+	@Autowired
+	private UploadRepository uploadRepository;
+
+	@Autowired
+	private UploadChunkRepository uploadChunkRepository;
+
+	@Test
+	void findIdsByUploadIdAndContent() throws Exception {
+
+		// Arrange
+		final var uploadId = upload(now(systemDefault()).plusDays(1));
+		final var second = chunk(uploadId, 3, "def");
+		final var first = chunk(uploadId, 0, "abc");
+		chunk(upload(now(systemDefault()).plusDays(1)), 0, "xyz");
+
+		// Act
+		final var result = uploadChunkRepository.findIdsByUploadId(uploadId);
+
+		// Assert
+		assertThat(result).containsExactly(first, second);
+		final var content = uploadChunkRepository.findContentById(first);
+		assertThat(content.getBytes(1, (int) content.length())).isEqualTo("abc".getBytes());
+	}
+
+	@Test
+	void deleteByUploadId() {
+
+		// Arrange
+		final var uploadId = upload(now(systemDefault()).plusDays(1));
+		final var otherUploadId = upload(now(systemDefault()).plusDays(1));
+		chunk(uploadId, 0, "abc");
+		chunk(uploadId, 3, "def");
+		final var otherChunk = chunk(otherUploadId, 0, "xyz");
+
+		// Act
+		final var result = uploadChunkRepository.deleteByUploadId(uploadId);
+
+		// Assert
+		assertThat(result).isEqualTo(2);
+		assertThat(uploadChunkRepository.findAll()).extracting(UploadChunkEntity::getId).containsExactly(otherChunk);
+	}
+
+	@Test
+	void deleteByExpiredUploads() {
+
+		// Arrange
+		final var now = now(systemDefault());
+		final var chunk = chunk(upload(now.plusDays(1)), 0, "abc");
+		chunk(upload(now.minusDays(1)), 0, "def");
+
+		// Act
+		final var result = uploadChunkRepository.deleteByExpiredUploads(now);
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(uploadChunkRepository.findAll()).extracting(UploadChunkEntity::getId).containsExactly(chunk);
+	}
+
+	private String upload(final OffsetDateTime expires) {
+		return uploadRepository.saveAndFlush(UploadEntity.create()
+			.withMunicipalityId("2281")
+			.withRegistrationNumber("2023-2281-123")
+			.withFileName("file.txt")
+			.withFileSizeInBytes(6)
+			.withExpires(expires)).getId();
+	}
+
+	private String chunk(final String uploadId, final long offset, final String content) {
+		return uploadChunkRepository.saveAndFlush(UploadChunkEntity.create()
+			.withUploadId(uploadId)
+			.withChunkOffset(offset)
+			.withContent(new MariaDbBlob(content.getBytes()))).getId();
+	}
+}
@@ -0,0 +1,101 @@
+package se.sundsvall.document.integration.db;
+
+import java.time.OffsetDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.UploadEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MILLIS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * UploadRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class UploadRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-123";
+
+	@Autowired
+	private UploadRepository uploadRepository;
+
+	@Test
+	void saveAndFind() {
+
+		// Arrange
+		final var now = now(systemDefault()).truncatedTo(MILLIS);
+		final var id = uploadRepository.saveAndFlush(upload(now.plusDays(1))).getId();
+
+		// Act
+		final var result = uploadRepository.findByIdAndMunicipalityIdAndRegistrationNumberAndExpiresAfter(id, MUNICIPALITY_ID, REGISTRATION_NUMBER, now);
+
+		// Assert
+		assertThat(result).hasValueSatisfying(entity -> {
+			assertThat(entity.getFileName()).isEqualTo("file.dwg");
+			assertThat(entity.getFileSizeInBytes()).isEqualTo(1024L);
+			assertThat(entity.getReceivedBytes()).isZero();
+			assertThat(entity.getExpires()).isEqualTo(now.plusDays(1));
+		});
+		assertThat(uploadRepository.findByIdAndMunicipalityIdAndRegistrationNumberAndExpiresAfter(id, "2262", REGISTRATION_NUMBER, now)).isEmpty();
+		assertThat(uploadRepository.findByIdAndMunicipalityIdAndRegistrationNumberAndExpiresAfter(id, MUNICIPALITY_ID, "2023-2281-1337", now)).isEmpty();
+		assertThat(uploadRepository.findByIdAndMunicipalityIdAndRegistrationNumberAndExpiresAfter(id, MUNICIPALITY_ID, REGISTRATION_NUMBER, now.plusDays(2))).isEmpty();
+	}
+
+	@Test
+	void findAndLock() {
+
+		// Arrange
+		final var now = now(systemDefault());
+		final var id = uploadRepository.saveAndFlush(upload(now.plusDays(1))).getId();
+		final var expiredId = uploadRepository.saveAndFlush(upload(now.minusDays(1))).getId();
+
+		// Act and assert
+		assertThat(uploadRepository.findAndLock(id, MUNICIPALITY_ID, REGISTRATION_NUMBER, now)).isPresent();
+		assertThat(uploadRepository.findAndLock(id, "2262", REGISTRATION_NUMBER, now)).isEmpty();
+		assertThat(uploadRepository.findAndLock(expiredId, MUNICIPALITY_ID, REGISTRATION_NUMBER, now)).isEmpty();
+	}
+
+	@Test
+	void deleteExpired() {
+
+		// Arrange
+		final var now = now(systemDefault());
+		final var id = uploadRepository.saveAndFlush(upload(now.plusDays(1))).getId();
+		uploadRepository.saveAndFlush(upload(now.minusDays(1)));
+
+		// Act
+		final var result = uploadRepository.deleteExpired(now);
+
+		// Assert
+		assertThat(result).isOne();
+		assertThat(uploadRepository.findAll()).extracting(UploadEntity::getId).containsExactly(id);
+	}
+
+	private static UploadEntity upload(final OffsetDateTime expires) {
+		return UploadEntity.create()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withFileName("file.dwg")
+			.withFileSizeInBytes(1024L)
+			.withCreatedBy("User1")
+			.withExpires(expires);
+	}
+}
@@ -0,0 +1,101 @@
+package se.sundsvall.document.integration.db;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.transaction.annotation.Transactional;
+import se.sundsvall.document.integration.db.model.WebhookSubscriptionEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace.NONE;
+
+/**
+ * WebhookSubscriptionRepository tests.
+ *
+ * @see /src/test/resources/db/testdata-junit.sql for data setup.
+ */
+@DataJpaTest
+@Transactional
+@AutoConfigureTestDatabase(replace = NONE)
+@ActiveProfiles("junit")
+@Sql(scripts = {
+	"/db/scripts/truncate.sql",
+	"/db/scripts/testdata-junit.sql"
+})
+class WebhookSubscriptionRepositoryTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String DUE_ID = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0b01";
+	private static final String UP_TO_DATE_ID = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0b02";
+	private static final String LOCKED_ID = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0b04";
+
+	@Autowired
+	private WebhookSubscriptionRepository webhookSubscriptionRepository;
+
+	@Test
+	void create() {
+
+		// Arrange
+		final var entity = WebhookSubscriptionEntity.create()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withUrl("http://localhost/webhook")
+			.withLastSequenceNumber(4);
+
+		// Act
+		final var result = webhookSubscriptionRepository.saveAndFlush(entity);
+
+		// Assert
+		assertThat(result.getId()).isNotNull();
+		assertThat(result.getCreated()).isCloseTo(now(), within(2, SECONDS));
+		assertThat(webhookSubscriptionRepository.findById(result.getId())).hasValue(result);
+	}
+
+	@Test
+	void findByMunicipalityIdOrderByCreated() {
+		assertThat(webhookSubscriptionRepository.findByMunicipalityIdOrderByCreated(MUNICIPALITY_ID))
+			.extracting(WebhookSubscriptionEntity::getUrl)
+			.containsExactly("http://localhost/webhook-1", "http://localhost/webhook-2", "http://localhost/webhook-3", "http://localhost/webhook-4");
+		assertThat(webhookSubscriptionRepository.findByMunicipalityIdOrderByCreated("2262")).isEmpty();
+	}
+
+	@Test
+	void findByIdAndMunicipalityId() {
+		assertThat(webhookSubscriptionRepository.findByIdAndMunicipalityId(DUE_ID, MUNICIPALITY_ID)).isPresent();
+		assertThat(webhookSubscriptionRepository.findByIdAndMunicipalityId(DUE_ID, "2262")).isEmpty();
+	}
+
+	@Test
+	void findDueIds() {
+
+		// Act
+		final var result = webhookSubscriptionRepository.findDueIds(now(systemDefault()), PageRequest.of(0, 10));
+
+		// Assert (subscriptions that are up to date, waiting for a retry or locked are not due)
+		assertThat(result).containsExactly(DUE_ID);
+	}
+
+	@Test
+	void lock() {
+
+		// Arrange
+		final var now = now(systemDefault());
+
+		// Act
+		final var locked = webhookSubscriptionRepository.lock(UP_TO_DATE_ID, now, now.plusMinutes(5));
+		final var lockedAgain = webhookSubscriptionRepository.lock(UP_TO_DATE_ID, now, now.plusMinutes(5));
+		final var alreadyLocked = webhookSubscriptionRepository.lock(LOCKED_ID, now, now.plusMinutes(5));
+
+		// Assert
+		assertThat(locked).isOne();
+		assertThat(lockedAgain).isZero();
+		assertThat(alreadyLocked).isZero();
+	}
+}
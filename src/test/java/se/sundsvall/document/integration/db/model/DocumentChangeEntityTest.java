@@ -0,0 +1,80 @@
+package se.sundsvall.document.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.REVISED;
+
+class DocumentChangeEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(DocumentChangeEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var created = now(systemDefault());
+		final var documentId = randomUUID().toString();
+		final var documentType = "documentType";
+		final var id = randomUUID().toString();
+		final var municipalityId = "municipalityId";
+		final var registrationNumber = "registrationNumber";
+		final var revision = 2;
+		final var sequenceNumber = 1337L;
+		final var type = REVISED;
+
+		final var bean = DocumentChangeEntity.create()
+			.withCreated(created)
+			.withDocumentId(documentId)
+			.withDocumentType(documentType)
+			.withId(id)
+			.withMunicipalityId(municipalityId)
+			.withRegistrationNumber(registrationNumber)
+			.withRevision(revision)
+			.withSequenceNumber(sequenceNumber)
+			.withType(type);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getCreated()).isEqualTo(created);
+		assertThat(bean.getDocumentId()).isEqualTo(documentId);
+		assertThat(bean.getDocumentType()).isEqualTo(documentType);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
+		assertThat(bean.getRevision()).isEqualTo(revision);
+		assertThat(bean.getSequenceNumber()).isEqualTo(sequenceNumber);
+		assertThat(bean.getType()).isEqualTo(type);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentChangeEntity.create()).hasAllNullFieldsOrPropertiesExcept("revision", "sequenceNumber");
+		assertThat(new DocumentChangeEntity()).hasAllNullFieldsOrPropertiesExcept("revision", "sequenceNumber");
+	}
+}
@@ -0,0 +1,50 @@
+package se.sundsvall.document.integration.db.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentChangeSequenceEntityTest {
+
+	@Test
+	void testBean() {
+		assertThat(DocumentChangeSequenceEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = randomUUID().toString();
+		final var municipalityId = "municipalityId";
+		final var sequenceNumber = 1337L;
+
+		final var bean = DocumentChangeSequenceEntity.create()
+			.withId(id)
+			.withMunicipalityId(municipalityId)
+			.withSequenceNumber(sequenceNumber);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getSequenceNumber()).isEqualTo(sequenceNumber);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentChangeSequenceEntity.create()).hasAllNullFieldsOrPropertiesExcept("sequenceNumber");
+		assertThat(new DocumentChangeSequenceEntity()).hasAllNullFieldsOrPropertiesExcept("sequenceNumber");
+	}
+}
@@ -0,0 +1,51 @@
+package se.sundsvall.document.integration.db.model;
+
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.MariaDbBlob;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentDataBinaryChunkEntityTest {
+
+	@Test
+	void testBean() {
+		assertThat(DocumentDataBinaryChunkEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var binaryId = randomUUID().toString();
+		final var chunkIndex = 3;
+		final var content = new MariaDbBlob();
+
+		final var bean = DocumentDataBinaryChunkEntity.create()
+			.withBinaryId(binaryId)
+			.withChunkIndex(chunkIndex)
+			.withContent(content);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getBinaryId()).isEqualTo(binaryId);
+		assertThat(bean.getChunkIndex()).isEqualTo(chunkIndex);
+		assertThat(bean.getContent()).isEqualTo(content);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentDataBinaryChunkEntity.create()).hasAllNullFieldsOrPropertiesExcept("chunkIndex");
+		assertThat(new DocumentDataBinaryChunkEntity()).hasAllNullFieldsOrPropertiesExcept("chunkIndex");
+	}
+}
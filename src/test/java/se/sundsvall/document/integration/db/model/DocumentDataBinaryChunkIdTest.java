@@ -0,0 +1,47 @@
+package se.sundsvall.document.integration.db.model;
+
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentDataBinaryChunkIdTest {
+
+	@Test
+	void testBean() {
+		assertThat(DocumentDataBinaryChunkId.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var binaryId = randomUUID().toString();
+		final var chunkIndex = 3;
+
+		final var bean = DocumentDataBinaryChunkId.create()
+			.withBinaryId(binaryId)
+			.withChunkIndex(chunkIndex);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getBinaryId()).isEqualTo(binaryId);
+		assertThat(bean.getChunkIndex()).isEqualTo(chunkIndex);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentDataBinaryChunkId.create()).hasAllNullFieldsOrPropertiesExcept("chunkIndex");
+		assertThat(new DocumentDataBinaryChunkId()).hasAllNullFieldsOrPropertiesExcept("chunkIndex");
+	}
+}
@@ -29,14 +29,23 @@ class DocumentDataBinaryEntityTest {
 	void testBuilderMethods() {
 
 		final var binaryFile = new MariaDbBlob();
+		final var checksum = "checksum";
+		final var chunkSize = 1024;
+		final var fileSizeInBytes = 4711L;
 		final var id = randomUUID().toString();
 
 		final var bean = DocumentDataBinaryEntity.create()
 			.withBinaryFile(binaryFile)
+			.withChecksum(checksum)
+			.withChunkSize(chunkSize)
+			.withFileSizeInBytes(fileSizeInBytes)
 			.withId(id);
 
 		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
 		assertThat(bean.getBinaryFile()).isEqualTo(binaryFile);
+		assertThat(bean.getChecksum()).isEqualTo(checksum);
+		assertThat(bean.getChunkSize()).isEqualTo(chunkSize);
+		assertThat(bean.getFileSizeInBytes()).isEqualTo(fileSizeInBytes);
 		assertThat(bean.getId()).isEqualTo(id);
 	}
 
@@ -0,0 +1,65 @@
+package se.sundsvall.document.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.INDEXED;
+
+class DocumentDataTextEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(DocumentDataTextEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = randomUUID().toString();
+		final var modified = now(systemDefault());
+		final var terms = List.of("annual", "report");
+
+		final var bean = DocumentDataTextEntity.create()
+			.withId(id)
+			.withStatus(INDEXED)
+			.withModified(modified)
+			.withTerms(terms);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getStatus()).isEqualTo(INDEXED);
+		assertThat(bean.getModified()).isEqualTo(modified);
+		assertThat(bean.getTerms()).isEqualTo(terms);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentDataTextEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new DocumentDataTextEntity()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -73,14 +73,38 @@ class DocumentEntityTest {
 		assertThat(bean.getCreatedBy()).isEqualTo(createdBy);
 		assertThat(bean.getDescription()).isEqualTo(description);
 		assertThat(bean.getDocumentData()).isEqualTo(documentDatas);
+		assertThat(bean.getFileSet().getDocumentData()).isEqualTo(documentDatas);
 		assertThat(bean.getId()).isEqualTo(id);
 		assertThat(bean.getMetadata()).isEqualTo(metadata);
+		assertThat(bean.getMetadataSet().getMetadata()).isEqualTo(metadata);
 		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
 		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
 		assertThat(bean.getRevision()).isEqualTo(revision);
 		assertThat(bean.getType()).isEqualTo(type);
 	}
 
+	@Test
+	void testSettingDocumentDataAndMetadataCreatesNewSets() {
+
+		final var fileSet = DocumentFileSetEntity.create().withDocumentData(List.of(DocumentDataEntity.create()));
+		final var metadataSet = DocumentMetadataSetEntity.create().withMetadata(List.of(DocumentMetadataEmbeddable.create()));
+		final var documentData = List.of(DocumentDataEntity.create().withFileName("fileName"));
+		final var metadata = List.of(DocumentMetadataEmbeddable.create().withKey("key"));
+
+		final var bean = DocumentEntity.create()
+			.withFileSet(fileSet)
+			.withMetadataSet(metadataSet)
+			.withDocumentData(documentData)
+			.withMetadata(metadata);
+
+		assertThat(bean.getFileSet()).isNotSameAs(fileSet);
+		assertThat(bean.getMetadataSet()).isNotSameAs(metadataSet);
+		assertThat(bean.getDocumentData()).isEqualTo(documentData);
+		assertThat(bean.getMetadata()).isEqualTo(metadata);
+		assertThat(fileSet.getDocumentData()).hasSize(1).allSatisfy(data -> assertThat(data.getFileName()).isNull());
+		assertThat(metadataSet.getMetadata()).hasSize(1).allSatisfy(data -> assertThat(data.getKey()).isNull());
+	}
+
 	@Test
 	void testNoDirtOnCreatedBean() {
 		assertThat(DocumentEntity.create()).hasAllNullFieldsOrPropertiesExcept("revision", "archive")
@@ -0,0 +1,48 @@
+package se.sundsvall.document.integration.db.model;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class DocumentMetadataSetEntityTest {
+
+	@Test
+	void testBean() {
+		assertThat(DocumentMetadataSetEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = randomUUID().toString();
+		final var metadata = List.of(DocumentMetadataEmbeddable.create());
+
+		final var bean = DocumentMetadataSetEntity.create()
+			.withId(id)
+			.withMetadata(metadata);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMetadata()).isEqualTo(metadata);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(DocumentMetadataSetEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new DocumentMetadataSetEntity()).hasAllNullFieldsOrProperties();
+	}
+}
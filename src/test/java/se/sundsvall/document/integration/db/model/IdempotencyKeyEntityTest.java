@@ -0,0 +1,73 @@
+package se.sundsvall.document.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class IdempotencyKeyEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(IdempotencyKeyEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var created = now(systemDefault());
+		final var expires = now(systemDefault()).plusDays(1);
+		final var fingerprint = "fingerprint";
+		final var id = randomUUID().toString();
+		final var idempotencyKey = "idempotencyKey";
+		final var municipalityId = "municipalityId";
+		final var registrationNumber = "registrationNumber";
+
+		final var bean = IdempotencyKeyEntity.create()
+			.withCreated(created)
+			.withExpires(expires)
+			.withFingerprint(fingerprint)
+			.withId(id)
+			.withIdempotencyKey(idempotencyKey)
+			.withMunicipalityId(municipalityId)
+			.withRegistrationNumber(registrationNumber);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getCreated()).isEqualTo(created);
+		assertThat(bean.getExpires()).isEqualTo(expires);
+		assertThat(bean.getFingerprint()).isEqualTo(fingerprint);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getIdempotencyKey()).isEqualTo(idempotencyKey);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(IdempotencyKeyEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new IdempotencyKeyEntity()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,93 @@
+package se.sundsvall.document.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static se.sundsvall.document.integration.db.model.IngestionOperation.ADD_OR_REPLACE_FILE;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.COMPLETED;
+
+class IngestionEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(IngestionEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var created = now(systemDefault());
+		final var error = "error";
+		final var expectedRevision = 1;
+		final var expires = now(systemDefault()).plusDays(1);
+		final var files = "[]";
+		final var id = randomUUID().toString();
+		final var modified = now(systemDefault()).plusMinutes(1);
+		final var municipalityId = "municipalityId";
+		final var operation = ADD_OR_REPLACE_FILE;
+		final var registrationNumber = "registrationNumber";
+		final var request = "{}";
+		final var revision = 2;
+		final var status = COMPLETED;
+
+		final var bean = IngestionEntity.create()
+			.withCreated(created)
+			.withError(error)
+			.withExpectedRevision(expectedRevision)
+			.withExpires(expires)
+			.withFiles(files)
+			.withId(id)
+			.withModified(modified)
+			.withMunicipalityId(municipalityId)
+			.withOperation(operation)
+			.withRegistrationNumber(registrationNumber)
+			.withRequest(request)
+			.withRevision(revision)
+			.withStatus(status);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getCreated()).isEqualTo(created);
+		assertThat(bean.getError()).isEqualTo(error);
+		assertThat(bean.getExpectedRevision()).isEqualTo(expectedRevision);
+		assertThat(bean.getExpires()).isEqualTo(expires);
+		assertThat(bean.getFiles()).isEqualTo(files);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getModified()).isEqualTo(modified);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getOperation()).isEqualTo(operation);
+		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
+		assertThat(bean.getRequest()).isEqualTo(request);
+		assertThat(bean.getRevision()).isEqualTo(revision);
+		assertThat(bean.getStatus()).isEqualTo(status);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(IngestionEntity.create()).hasAllNullFieldsOrProperties();
+		assertThat(new IngestionEntity()).hasAllNullFieldsOrProperties();
+	}
+}
@@ -0,0 +1,54 @@
+package se.sundsvall.document.integration.db.model;
+
+import org.junit.jupiter.api.Test;
+import org.mariadb.jdbc.MariaDbBlob;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class UploadChunkEntityTest {
+
+	@Test
+	void testBean() {
+		assertThat(UploadChunkEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var chunkOffset = 1024L;
+		final var content = new MariaDbBlob();
+		final var id = randomUUID().toString();
+		final var uploadId = randomUUID().toString();
+
+		final var bean = UploadChunkEntity.create()
+			.withChunkOffset(chunkOffset)
+			.withContent(content)
+			.withId(id)
+			.withUploadId(uploadId);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getChunkOffset()).isEqualTo(chunkOffset);
+		assertThat(bean.getContent()).isEqualTo(content);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getUploadId()).isEqualTo(uploadId);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(UploadChunkEntity.create()).hasAllNullFieldsOrPropertiesExcept("chunkOffset");
+		assertThat(new UploadChunkEntity()).hasAllNullFieldsOrPropertiesExcept("chunkOffset");
+	}
+}
@@ -0,0 +1,82 @@
+package se.sundsvall.document.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class UploadEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(UploadEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var created = now(systemDefault());
+		final var createdBy = "createdBy";
+		final var expires = now(systemDefault()).plusDays(1);
+		final var fileName = "fileName";
+		final var fileSizeInBytes = 1024L;
+		final var id = randomUUID().toString();
+		final var mimeType = "mimeType";
+		final var municipalityId = "municipalityId";
+		final var receivedBytes = 512L;
+		final var registrationNumber = "registrationNumber";
+
+		final var bean = UploadEntity.create()
+			.withCreated(created)
+			.withCreatedBy(createdBy)
+			.withExpires(expires)
+			.withFileName(fileName)
+			.withFileSizeInBytes(fileSizeInBytes)
+			.withId(id)
+			.withMimeType(mimeType)
+			.withMunicipalityId(municipalityId)
+			.withReceivedBytes(receivedBytes)
+			.withRegistrationNumber(registrationNumber);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getCreated()).isEqualTo(created);
+		assertThat(bean.getCreatedBy()).isEqualTo(createdBy);
+		assertThat(bean.getExpires()).isEqualTo(expires);
+		assertThat(bean.getFileName()).isEqualTo(fileName);
+		assertThat(bean.getFileSizeInBytes()).isEqualTo(fileSizeInBytes);
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMimeType()).isEqualTo(mimeType);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getReceivedBytes()).isEqualTo(receivedBytes);
+		assertThat(bean.getRegistrationNumber()).isEqualTo(registrationNumber);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(UploadEntity.create()).hasAllNullFieldsOrPropertiesExcept("fileSizeInBytes", "receivedBytes");
+		assertThat(new UploadEntity()).hasAllNullFieldsOrPropertiesExcept("fileSizeInBytes", "receivedBytes");
+	}
+}
@@ -0,0 +1,79 @@
+package se.sundsvall.document.integration.db.model;
+
+import java.time.OffsetDateTime;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanConstructor;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanEquals;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanHashCode;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidBeanToString;
+import static com.google.code.beanmatchers.BeanMatchers.hasValidGettersAndSetters;
+import static com.google.code.beanmatchers.BeanMatchers.registerValueGenerator;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.CoreMatchers.allOf;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+class WebhookSubscriptionEntityTest {
+
+	@BeforeAll
+	static void setup() {
+		registerValueGenerator(() -> now().plusDays(new Random().nextInt()), OffsetDateTime.class);
+	}
+
+	@Test
+	void testBean() {
+		assertThat(WebhookSubscriptionEntity.class, allOf(
+			hasValidBeanConstructor(),
+			hasValidGettersAndSetters(),
+			hasValidBeanHashCode(),
+			hasValidBeanEquals(),
+			hasValidBeanToString()));
+	}
+
+	@Test
+	void testBuilderMethods() {
+
+		final var id = randomUUID().toString();
+		final var municipalityId = "municipalityId";
+		final var url = "http://localhost/webhook";
+		final var documentType = "documentType";
+		final var lastSequenceNumber = 1337L;
+		final var failedAttempts = 3;
+		final var nextAttempt = now(systemDefault()).plusMinutes(1);
+		final var lockedUntil = now(systemDefault()).plusMinutes(5);
+		final var created = now(systemDefault());
+
+		final var bean = WebhookSubscriptionEntity.create()
+			.withId(id)
+			.withMunicipalityId(municipalityId)
+			.withUrl(url)
+			.withDocumentType(documentType)
+			.withLastSequenceNumber(lastSequenceNumber)
+			.withFailedAttempts(failedAttempts)
+			.withNextAttempt(nextAttempt)
+			.withLockedUntil(lockedUntil)
+			.withCreated(created);
+
+		assertThat(bean).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(bean.getId()).isEqualTo(id);
+		assertThat(bean.getMunicipalityId()).isEqualTo(municipalityId);
+		assertThat(bean.getUrl()).isEqualTo(url);
+		assertThat(bean.getDocumentType()).isEqualTo(documentType);
+		assertThat(bean.getLastSequenceNumber()).isEqualTo(lastSequenceNumber);
+		assertThat(bean.getFailedAttempts()).isEqualTo(failedAttempts);
+		assertThat(bean.getNextAttempt()).isEqualTo(nextAttempt);
+		assertThat(bean.getLockedUntil()).isEqualTo(lockedUntil);
+		assertThat(bean.getCreated()).isEqualTo(created);
+	}
+
+	@Test
+	void testNoDirtOnCreatedBean() {
+		assertThat(WebhookSubscriptionEntity.create()).hasAllNullFieldsOrPropertiesExcept("lastSequenceNumber", "failedAttempts");
+		assertThat(new WebhookSubscriptionEntity()).hasAllNullFieldsOrPropertiesExcept("lastSequenceNumber", "failedAttempts");
+	}
+}
@@ -0,0 +1,45 @@
+package se.sundsvall.document.integration.db.model.converter;
+
+import java.util.HexFormat;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class UuidBinaryConverterTest {
+
+	private static final String ID = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d";
+	private static final byte[] BINARY = HexFormat.of().parseHex("0198a3f27c1e7b3a9c4d2e5f6a7b8c9d");
+
+	private final UuidBinaryConverter converter = new UuidBinaryConverter();
+
+	@Test
+	void convertToDatabaseColumn() {
+		assertThat(converter.convertToDatabaseColumn(ID)).isEqualTo(BINARY);
+	}
+
+	@Test
+	void convertToDatabaseColumnWhenNull() {
+		assertThat(converter.convertToDatabaseColumn(null)).isNull();
+	}
+
+	@Test
+	void convertToDatabaseColumnWhenNotUuid() {
+		assertThatIllegalArgumentException().isThrownBy(() -> converter.convertToDatabaseColumn("not-a-uuid"));
+	}
+
+	@Test
+	void convertToEntityAttribute() {
+		assertThat(converter.convertToEntityAttribute(BINARY)).isEqualTo(ID);
+	}
+
+	@Test
+	void convertToEntityAttributeWhenNull() {
+		assertThat(converter.convertToEntityAttribute(null)).isNull();
+	}
+
+	@Test
+	void roundTrip() {
+		assertThat(UuidBinaryConverter.fromBinary(UuidBinaryConverter.toBinary(ID))).isEqualTo(ID);
+	}
+}
@@ -0,0 +1,52 @@
+package se.sundsvall.document.integration.db.model.generator;
+
+import java.util.UUID;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hibernate.generator.EventType.INSERT;
+import static org.hibernate.generator.EventTypeSets.INSERT_ONLY;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.document.integration.db.model.generator.ConfigurableUuidGenerator.TIME_ORDERED_SETTING;
+
+@ExtendWith(MockitoExtension.class)
+class ConfigurableUuidGeneratorTest {
+
+	@Mock
+	private GeneratorCreationContext contextMock;
+
+	@Mock
+	private ServiceRegistry serviceRegistryMock;
+
+	@Mock
+	private ConfigurationService configurationServiceMock;
+
+	@ParameterizedTest
+	@CsvSource({
+		"true, 7",
+		"false, 4"
+	})
+	void generate(final boolean timeOrdered, final int expectedVersion) {
+
+		// Arrange
+		when(contextMock.getServiceRegistry()).thenReturn(serviceRegistryMock);
+		when(serviceRegistryMock.requireService(ConfigurationService.class)).thenReturn(configurationServiceMock);
+		when(configurationServiceMock.getSetting(TIME_ORDERED_SETTING, StandardConverters.BOOLEAN, false)).thenReturn(timeOrdered);
+		final var generator = new ConfigurableUuidGenerator(null, null, contextMock);
+
+		// Act
+		final var result = generator.generate(null, null, null, INSERT);
+
+		// Assert
+		assertThat(UUID.fromString((String) result).version()).isEqualTo(expectedVersion);
+		assertThat(generator.getEventTypes()).isEqualTo(INSERT_ONLY);
+	}
+}
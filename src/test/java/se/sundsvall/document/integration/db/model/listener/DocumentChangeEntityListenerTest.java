@@ -0,0 +1,27 @@
+package se.sundsvall.document.integration.db.model.listener;
+
+import org.junit.jupiter.api.Test;
+import se.sundsvall.document.integration.db.model.DocumentChangeEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DocumentChangeEntityListenerTest {
+
+	@Test
+	void prePersist() {
+
+		// Arrange
+		final var listener = new DocumentChangeEntityListener();
+		final var entity = new DocumentChangeEntity();
+
+		// Act
+		listener.prePersist(entity);
+
+		// Assert
+		assertThat(entity).hasAllNullFieldsOrPropertiesExcept("created", "revision", "sequenceNumber");
+		assertThat(entity.getCreated()).isCloseTo(now(), within(2, SECONDS));
+	}
+}
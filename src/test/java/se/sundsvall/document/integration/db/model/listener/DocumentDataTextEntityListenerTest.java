@@ -0,0 +1,27 @@
+package se.sundsvall.document.integration.db.model.listener;
+
+import org.junit.jupiter.api.Test;
+import se.sundsvall.document.integration.db.model.DocumentDataTextEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class DocumentDataTextEntityListenerTest {
+
+	@Test
+	void prePersistAndUpdate() {
+
+		// Arrange
+		final var listener = new DocumentDataTextEntityListener();
+		final var entity = new DocumentDataTextEntity();
+
+		// Act
+		listener.prePersistAndUpdate(entity);
+
+		// Assert
+		assertThat(entity).hasAllNullFieldsOrPropertiesExcept("modified");
+		assertThat(entity.getModified()).isCloseTo(now(), within(2, SECONDS));
+	}
+}
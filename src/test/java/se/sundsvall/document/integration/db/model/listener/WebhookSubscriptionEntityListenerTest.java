@@ -0,0 +1,27 @@
+package se.sundsvall.document.integration.db.model.listener;
+
+import org.junit.jupiter.api.Test;
+import se.sundsvall.document.integration.db.model.WebhookSubscriptionEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class WebhookSubscriptionEntityListenerTest {
+
+	@Test
+	void prePersist() {
+
+		// Arrange
+		final var listener = new WebhookSubscriptionEntityListener();
+		final var entity = new WebhookSubscriptionEntity();
+
+		// Act
+		listener.prePersist(entity);
+
+		// Assert
+		assertThat(entity).hasAllNullFieldsOrPropertiesExcept("created", "lastSequenceNumber", "failedAttempts");
+		assertThat(entity.getCreated()).isCloseTo(now(), within(2, SECONDS));
+	}
+}
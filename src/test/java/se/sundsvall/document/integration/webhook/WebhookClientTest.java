@@ -0,0 +1,91 @@
+package se.sundsvall.document.integration.webhook;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.Application;
+import se.sundsvall.document.api.model.DocumentChange;
+import se.sundsvall.document.api.model.DocumentChanges;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Delivers notifications to a local HTTP stub, standing in for a subscriber.
+ */
+@SpringBootTest(classes = Application.class)
+@ActiveProfiles("junit")
+class WebhookClientTest {
+
+	@Autowired
+	private WebhookClient webhookClient;
+
+	private HttpServer server;
+	private final AtomicReference<String> receivedBody = new AtomicReference<>();
+	private final AtomicReference<String> receivedContentType = new AtomicReference<>();
+
+	@BeforeEach
+	void startServer() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.createContext("/webhook", exchange -> {
+			receivedContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+			receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), UTF_8));
+			exchange.sendResponseHeaders(204, -1);
+			exchange.close();
+		});
+		server.createContext("/failing-webhook", exchange -> {
+			exchange.getRequestBody().readAllBytes();
+			exchange.sendResponseHeaders(503, -1);
+			exchange.close();
+		});
+		server.start();
+	}
+
+	@AfterEach
+	void stopServer() {
+		server.stop(0);
+	}
+
+	@Test
+	void deliver() {
+
+		// Arrange
+		final var changes = DocumentChanges.create()
+			.withChanges(List.of(DocumentChange.create().withSequenceNumber(3).withRegistrationNumber("2023-2281-123").withRevision(2).withType("REVISED")))
+			.withCursor(3);
+
+		// Act
+		final var response = webhookClient.deliver(URI.create("http://localhost:" + server.getAddress().getPort() + "/webhook"), changes);
+
+		// Assert
+		assertThat(response.getStatusCode().value()).isEqualTo(204);
+		assertThat(receivedContentType.get()).startsWith("application/json");
+		assertThat(receivedBody.get())
+			.contains("\"cursor\":3")
+			.contains("\"sequenceNumber\":3")
+			.contains("\"registrationNumber\":\"2023-2281-123\"")
+			.contains("\"type\":\"REVISED\"");
+	}
+
+	@Test
+	void deliverToFailingSubscriber() {
+
+		// Arrange
+		final var url = URI.create("http://localhost:" + server.getAddress().getPort() + "/failing-webhook");
+		final var changes = DocumentChanges.create().withChanges(List.of()).withCursor(0);
+
+		// Act and assert
+		assertThrows(ThrowableProblem.class, () -> webhookClient.deliver(url, changes));
+	}
+}
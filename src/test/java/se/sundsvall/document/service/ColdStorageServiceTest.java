@@ -0,0 +1,110 @@
+package se.sundsvall.document.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.document.configuration.ColdStorageProperties;
+import se.sundsvall.document.integration.db.DocumentDataBinaryColdRepository;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ColdStorageServiceTest {
+
+	private static final String BINARY_ID_1 = "binary-id-1";
+	private static final String BINARY_ID_2 = "binary-id-2";
+	private static final int BATCH_SIZE = 2;
+
+	@Mock
+	private DocumentDataBinaryColdRepository documentDataBinaryColdRepositoryMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> createdBeforeCaptor;
+
+	@Test
+	void moveToColdStorage() {
+
+		// Arrange
+		final var coldStorageService = createColdStorageService(true);
+		mockTransactionTemplate();
+		when(documentDataBinaryColdRepositoryMock.findIdsEligibleForColdStorage(any(), eq(BATCH_SIZE)))
+			.thenReturn(List.of(BINARY_ID_1, BINARY_ID_2))
+			.thenReturn(List.of());
+		when(documentDataBinaryColdRepositoryMock.copyToColdStorage(any())).thenReturn(1);
+		when(documentDataBinaryColdRepositoryMock.removeFromHotStorage(any())).thenReturn(1);
+
+		// Act
+		coldStorageService.moveToColdStorage();
+
+		// Assert
+		verify(documentDataBinaryColdRepositoryMock, times(2)).findIdsEligibleForColdStorage(createdBeforeCaptor.capture(), eq(BATCH_SIZE));
+		assertThat(createdBeforeCaptor.getValue()).isCloseTo(now(systemDefault()).minusDays(30), within(1, MINUTES));
+		verify(documentDataBinaryColdRepositoryMock).copyToColdStorage(BINARY_ID_1);
+		verify(documentDataBinaryColdRepositoryMock).removeFromHotStorage(BINARY_ID_1);
+		verify(documentDataBinaryColdRepositoryMock).copyToColdStorage(BINARY_ID_2);
+		verify(documentDataBinaryColdRepositoryMock).removeFromHotStorage(BINARY_ID_2);
+		verifyNoMoreInteractions(documentDataBinaryColdRepositoryMock);
+	}
+
+	@Test
+	void moveToColdStorageStopsWhenNothingCouldBeMoved() {
+
+		// Arrange
+		final var coldStorageService = createColdStorageService(true);
+		mockTransactionTemplate();
+		when(documentDataBinaryColdRepositoryMock.findIdsEligibleForColdStorage(any(), eq(BATCH_SIZE))).thenReturn(List.of(BINARY_ID_1, BINARY_ID_2));
+		when(documentDataBinaryColdRepositoryMock.copyToColdStorage(BINARY_ID_1)).thenThrow(new IllegalStateException("error"));
+		when(documentDataBinaryColdRepositoryMock.copyToColdStorage(BINARY_ID_2)).thenReturn(0);
+
+		// Act
+		coldStorageService.moveToColdStorage();
+
+		// Assert
+		verify(documentDataBinaryColdRepositoryMock).findIdsEligibleForColdStorage(any(), eq(BATCH_SIZE));
+		verify(documentDataBinaryColdRepositoryMock, never()).removeFromHotStorage(any());
+	}
+
+	@Test
+	void moveToColdStorageWhenDisabled() {
+
+		// Arrange
+		final var coldStorageService = createColdStorageService(false);
+
+		// Act
+		coldStorageService.moveToColdStorage();
+
+		// Assert
+		verifyNoInteractions(documentDataBinaryColdRepositoryMock, transactionTemplateMock);
+	}
+
+	private ColdStorageService createColdStorageService(final boolean enabled) {
+		return new ColdStorageService(documentDataBinaryColdRepositoryMock, new ColdStorageProperties(enabled, Duration.ofDays(30), BATCH_SIZE), transactionTemplateMock);
+	}
+
+	private void mockTransactionTemplate() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+}
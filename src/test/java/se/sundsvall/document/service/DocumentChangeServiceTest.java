@@ -0,0 +1,137 @@
+package se.sundsvall.document.service;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import se.sundsvall.document.integration.db.DocumentChangeRepository;
+import se.sundsvall.document.integration.db.DocumentChangeSequenceRepository;
+import se.sundsvall.document.integration.db.model.DocumentChangeEntity;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.CREATED;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.REVISED;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentChangeServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-1337";
+	private static final String DOCUMENT_ID = "5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e";
+
+	@Mock
+	private DocumentChangeRepository documentChangeRepositoryMock;
+
+	@Mock
+	private DocumentChangeSequenceRepository documentChangeSequenceRepositoryMock;
+
+	@InjectMocks
+	private DocumentChangeService documentChangeService;
+
+	@Captor
+	private ArgumentCaptor<DocumentChangeEntity> documentChangeEntityCaptor;
+
+	@Captor
+	private ArgumentCaptor<String> idCaptor;
+
+	@Test
+	void record() {
+
+		// Arrange
+		final var documentEntity = createDocumentEntity();
+
+		when(documentChangeSequenceRepositoryMock.findSequenceNumberByMunicipalityId(MUNICIPALITY_ID)).thenReturn(Optional.of(42L));
+
+		// Act
+		documentChangeService.record(documentEntity, REVISED);
+
+		// Assert
+		final var inOrder = inOrder(documentChangeSequenceRepositoryMock, documentChangeRepositoryMock);
+		inOrder.verify(documentChangeSequenceRepositoryMock).increment(anyString(), eq(MUNICIPALITY_ID));
+		inOrder.verify(documentChangeSequenceRepositoryMock).findSequenceNumberByMunicipalityId(MUNICIPALITY_ID);
+		inOrder.verify(documentChangeRepositoryMock).save(documentChangeEntityCaptor.capture());
+		verifyNoMoreInteractions(documentChangeSequenceRepositoryMock, documentChangeRepositoryMock);
+
+		assertThat(documentChangeEntityCaptor.getValue()).satisfies(change -> {
+			assertThat(change.getDocumentId()).isEqualTo(DOCUMENT_ID);
+			assertThat(change.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+			assertThat(change.getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+			assertThat(change.getRevision()).isEqualTo(2);
+			assertThat(change.getSequenceNumber()).isEqualTo(42L);
+			assertThat(change.getType()).isEqualTo(REVISED);
+		});
+	}
+
+	@Test
+	void recordFirstChangeOfMunicipality() {
+
+		// Arrange
+		when(documentChangeSequenceRepositoryMock.findSequenceNumberByMunicipalityId(MUNICIPALITY_ID)).thenReturn(Optional.of(1L));
+
+		// Act
+		documentChangeService.record(createDocumentEntity().withRevision(1), CREATED);
+
+		// Assert
+		verify(documentChangeSequenceRepositoryMock).increment(idCaptor.capture(), eq(MUNICIPALITY_ID));
+		verify(documentChangeRepositoryMock).save(documentChangeEntityCaptor.capture());
+
+		assertThat(idCaptor.getValue()).isNotBlank();
+		assertThat(documentChangeEntityCaptor.getValue().getSequenceNumber()).isEqualTo(1L);
+		assertThat(documentChangeEntityCaptor.getValue().getType()).isEqualTo(CREATED);
+	}
+
+	@Test
+	void read() {
+
+		// Arrange
+		final var entities = List.of(
+			DocumentChangeEntity.create().withRegistrationNumber(REGISTRATION_NUMBER).withRevision(1).withSequenceNumber(11L).withType(CREATED),
+			DocumentChangeEntity.create().withRegistrationNumber(REGISTRATION_NUMBER).withRevision(2).withSequenceNumber(12L).withType(REVISED));
+
+		when(documentChangeRepositoryMock.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 10L, PageRequest.of(0, 2))).thenReturn(entities);
+
+		// Act
+		final var result = documentChangeService.read(10L, 2, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getCursor()).isEqualTo(12L);
+		assertThat(result.getChanges()).hasSize(2);
+		verifyNoInteractions(documentChangeSequenceRepositoryMock);
+	}
+
+	@Test
+	void readWhenNoChanges() {
+
+		// Arrange
+		when(documentChangeRepositoryMock.findByMunicipalityIdAndSequenceNumberGreaterThanOrderBySequenceNumber(MUNICIPALITY_ID, 12L, PageRequest.of(0, 100))).thenReturn(List.of());
+
+		// Act
+		final var result = documentChangeService.read(12L, 100, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getCursor()).isEqualTo(12L);
+		assertThat(result.getChanges()).isEmpty();
+	}
+
+	private static DocumentEntity createDocumentEntity() {
+		return DocumentEntity.create()
+			.withId(DOCUMENT_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(2);
+	}
+}
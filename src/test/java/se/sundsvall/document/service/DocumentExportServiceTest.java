@@ -0,0 +1,222 @@
+package se.sundsvall.document.service;
+
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentParameters;
+import se.sundsvall.document.configuration.ExportProperties;
+import se.sundsvall.document.integration.db.DocumentRepository;
+import se.sundsvall.document.integration.db.model.ConfidentialityEmbeddable;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable;
+import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
+import tools.jackson.databind.ObjectMapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static se.sundsvall.document.api.model.ExportFormat.CSV;
+import static se.sundsvall.document.api.model.ExportFormat.NDJSON;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentExportServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final int BATCH_SIZE = 2;
+	private static final OffsetDateTime CREATED = OffsetDateTime.of(2024, 1, 2, 3, 4, 5, 0, ZoneOffset.UTC);
+
+	@Mock
+	private DocumentRepository documentRepositoryMock;
+
+	@Mock
+	private ObjectMapper objectMapperMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	private DocumentExportService documentExportService;
+
+	@BeforeEach
+	void setup() {
+		documentExportService = new DocumentExportService(documentRepositoryMock, new ExportProperties(BATCH_SIZE), objectMapperMock, transactionTemplateMock);
+	}
+
+	@Test
+	void exportSearchAsNdjson() {
+
+		// Arrange
+		final var response = new MockHttpServletResponse();
+		final var firstWindow = createWindow(List.of(createDocumentEntity("id-1"), createDocumentEntity("id-2")), true);
+		final var lastWindow = createWindow(List.of(createDocumentEntity("id-3")), false);
+
+		mockTransaction();
+		when(documentRepositoryMock.scrollSearch(any(), eq(true), eq(false), eq(MUNICIPALITY_ID), eq(ScrollPosition.keyset()), eq(BATCH_SIZE))).thenReturn(firstWindow);
+		when(documentRepositoryMock.scrollSearch(any(), eq(true), eq(false), eq(MUNICIPALITY_ID), eq(positionAfter("id-2")), eq(BATCH_SIZE))).thenReturn(lastWindow);
+		when(objectMapperMock.writeValueAsString(any(Document.class))).thenReturn("{\"id\":\"id-1\"}", "{\"id\":\"id-2\"}", "{\"id\":\"id-3\"}");
+
+		// Act
+		documentExportService.exportSearch("value", true, false, NDJSON, response, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(response.getContentType()).startsWith("application/x-ndjson");
+		assertThat(response.getCharacterEncoding()).isEqualTo("UTF-8");
+		assertThat(response.getHeader(CONTENT_DISPOSITION)).isEqualTo("attachment; filename=\"documents.ndjson\"");
+		assertThat(response.getContentAsByteArray()).asString().isEqualTo("""
+			{"id":"id-1"}
+			{"id":"id-2"}
+			{"id":"id-3"}
+			""");
+
+		verify(transactionTemplateMock, times(2)).execute(any());
+		verify(documentRepositoryMock, times(2)).scrollSearch(any(), eq(true), eq(false), eq(MUNICIPALITY_ID), any(), eq(BATCH_SIZE));
+		verify(objectMapperMock, times(3)).writeValueAsString(any(Document.class));
+		verifyNoMoreInteractions(documentRepositoryMock, objectMapperMock, transactionTemplateMock);
+	}
+
+	@Test
+	void exportSearchByParametersAsCsv() {
+
+		// Arrange
+		final var response = new MockHttpServletResponse();
+		final var parameters = new DocumentParameters().withMunicipalityId(MUNICIPALITY_ID);
+		final var window = createWindow(List.of(
+			createDocumentEntity("id-1")
+				.withMetadata(new ArrayList<>(List.of(
+					DocumentMetadataEmbeddable.create().withKey("key-1").withValue("value, with comma"),
+					DocumentMetadataEmbeddable.create().withKey("key-2").withValue("value \"quoted\"")))),
+			createDocumentEntity("id-2")), false);
+
+		mockTransaction();
+		when(documentRepositoryMock.scrollSearchByParameters(parameters, ScrollPosition.keyset(), BATCH_SIZE)).thenReturn(window);
+
+		// Act
+		documentExportService.exportSearchByParameters(parameters, CSV, response);
+
+		// Assert
+		assertThat(response.getContentType()).startsWith("text/csv");
+		assertThat(response.getHeader(CONTENT_DISPOSITION)).isEqualTo("attachment; filename=\"documents.csv\"");
+		assertThat(response.getContentAsByteArray()).asString().isEqualTo(
+			"id,registrationNumber,revision,municipalityId,type,created,createdBy,confidential,metadataKey,metadataValue\r\n" +
+				"id-1,2024-2281-1,1,2281,TYPE,2024-01-02T03:04:05Z,User,true,key-1,\"value, with comma\"\r\n" +
+				"id-1,2024-2281-1,1,2281,TYPE,2024-01-02T03:04:05Z,User,true,key-2,\"value \"\"quoted\"\"\"\r\n" +
+				"id-2,2024-2281-1,1,2281,TYPE,2024-01-02T03:04:05Z,User,true,,\r\n");
+
+		verify(transactionTemplateMock).execute(any());
+		verify(documentRepositoryMock).scrollSearchByParameters(parameters, ScrollPosition.keyset(), BATCH_SIZE);
+		verifyNoMoreInteractions(documentRepositoryMock, transactionTemplateMock);
+		verifyNoInteractions(objectMapperMock);
+	}
+
+	@Test
+	void exportSearchWithInvalidQuery() {
+
+		// Arrange
+		final var response = new MockHttpServletResponse();
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentExportService.exportSearch("(description:test", true, false, NDJSON, response, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: Invalid search query: '(description:test' (missing ')')");
+		verifyNoInteractions(documentRepositoryMock, objectMapperMock, transactionTemplateMock);
+	}
+
+	@Test
+	void exportSearchWithoutMatches() {
+
+		// Arrange
+		final var response = new MockHttpServletResponse();
+
+		mockTransaction();
+		when(documentRepositoryMock.scrollSearch(any(), eq(false), eq(true), eq(MUNICIPALITY_ID), eq(ScrollPosition.keyset()), eq(BATCH_SIZE))).thenReturn(createWindow(List.of(), false));
+
+		// Act
+		documentExportService.exportSearch("*", false, true, CSV, response, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(response.getContentAsByteArray()).asString()
+			.isEqualTo("id,registrationNumber,revision,municipalityId,type,created,createdBy,confidential,metadataKey,metadataValue\r\n");
+		verify(transactionTemplateMock).execute(any());
+		verifyNoInteractions(objectMapperMock);
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+		"value|value",
+		"''|''",
+		"a,b|\"a,b\"",
+		"a\"b|\"a\"\"b\"",
+		"'a\nb'|\"a\nb\""
+	})
+	void escapeCsvValue(String value, String expected) {
+		assertThat(DocumentExportService.escapeCsvValue(value)).isEqualTo(expected);
+	}
+
+	private static Stream<Arguments> escapeCsvFormulaArgumentsProvider() {
+		return Stream.of(
+			Arguments.of("=SUM(A1:A2)", "'=SUM(A1:A2)"),
+			Arguments.of("+46701234567", "'+46701234567"),
+			Arguments.of("-1", "'-1"),
+			Arguments.of("@cmd", "'@cmd"),
+			Arguments.of("\tvalue", "'\tvalue"),
+			Arguments.of("\rvalue", "\"'\rvalue\""),
+			Arguments.of("=HYPERLINK(\"x\",\"y\")", "\"'=HYPERLINK(\"\"x\"\",\"\"y\"\")\""),
+			Arguments.of("a=b", "a=b"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("escapeCsvFormulaArgumentsProvider")
+	void escapeCsvFormula(String value, String expected) {
+		assertThat(DocumentExportService.escapeCsvValue(value)).isEqualTo(expected);
+	}
+
+	private void mockTransaction() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	private static Window<DocumentEntity> createWindow(List<DocumentEntity> documentEntities, boolean hasNext) {
+		return Window.from(documentEntities, index -> positionAfter(documentEntities.get(index).getId()), hasNext);
+	}
+
+	private static ScrollPosition positionAfter(String id) {
+		return ScrollPosition.forward(Map.of("id", id));
+	}
+
+	private static DocumentEntity createDocumentEntity(String id) {
+		return DocumentEntity.create()
+			.withId(id)
+			.withRegistrationNumber("2024-2281-1")
+			.withRevision(1)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withType(DocumentTypeEntity.create().withType("TYPE"))
+			.withCreated(CREATED)
+			.withCreatedBy("User")
+			.withConfidentiality(ConfidentialityEmbeddable.create().withConfidential(true));
+	}
+}
@@ -7,14 +7,17 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
-import java.sql.SQLException;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mariadb.jdbc.MariaDbBlob;
 import org.mockito.ArgumentCaptor;
@@ -22,23 +25,32 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.Problem;
 import se.sundsvall.dept44.problem.ThrowableProblem;
 import se.sundsvall.document.api.model.ConfidentialityUpdateRequest;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentBatchReadResult;
 import se.sundsvall.document.api.model.DocumentCreateRequest;
 import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.api.model.DocumentField;
 import se.sundsvall.document.api.model.DocumentFiles;
 import se.sundsvall.document.api.model.DocumentMetadata;
+import se.sundsvall.document.api.model.DocumentReference;
 import se.sundsvall.document.api.model.DocumentUpdateRequest;
-import se.sundsvall.document.integration.db.DatabaseHelper;
+import se.sundsvall.document.configuration.RevisionProperties;
+import se.sundsvall.document.integration.db.DocumentDataRepository;
 import se.sundsvall.document.integration.db.DocumentRepository;
 import se.sundsvall.document.integration.db.DocumentTypeRepository;
 import se.sundsvall.document.integration.db.model.ConfidentialityEmbeddable;
+import se.sundsvall.document.integration.db.model.DocumentChangeType;
 import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
 import se.sundsvall.document.integration.db.model.DocumentDataEntity;
 import se.sundsvall.document.integration.db.model.DocumentEntity;
@@ -46,6 +58,13 @@ import se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable;
 import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
 import se.sundsvall.document.integration.eventlog.EventLogClient;
 import se.sundsvall.document.integration.eventlog.configuration.EventlogProperties;
+import se.sundsvall.document.service.ingestion.FileIngestionService;
+import se.sundsvall.document.service.ingestion.StagedFile;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+import se.sundsvall.document.service.search.SearchQueryParser;
+import se.sundsvall.document.service.storage.BinaryContent;
+import se.sundsvall.document.service.storage.BinaryStorageService;
+import se.sundsvall.document.service.textindex.TextIndexService;
 
 import static generated.se.sundsvall.eventlog.EventType.UPDATE;
 import static java.time.OffsetDateTime.now;
@@ -62,17 +81,30 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.domain.Sort.Direction.DESC;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
 import static org.springframework.http.HttpHeaders.CONTENT_TYPE;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
+import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
 import static se.sundsvall.document.service.InclusionFilter.CONFIDENTIAL_AND_PUBLIC;
 import static se.sundsvall.document.service.InclusionFilter.PUBLIC;
+import static se.sundsvall.document.service.search.SearchQuery.Field.CONTENT;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.EXACT;
 
 @ExtendWith(MockitoExtension.class)
 class DocumentServiceTest {
@@ -90,9 +122,13 @@ class DocumentServiceTest {
 	private static final String MUNICIPALITY_ID = "2281";
 	private static final String REGISTRATION_NUMBER = "2023-2281-4";
 	private static final String DOCUMENT_DATA_ID = randomUUID().toString();
+	private static final String DOCUMENT_DATA_BINARY_ID = randomUUID().toString();
+	private static final int CHUNK_SIZE = 100_000;
+	private static final long FILE_SIZE = 227_546L;
 	private static final String DOCUMENT_TYPE = "documentType";
 	private static final String DOCUMENT_TYPE_DISPLAYNAME = "documentTypeDisplayname";
 	private static final int REVISION = 1;
+	private static final String CHECKSUM = "checksum";
 
 	@Mock
 	private EventLogClient eventLogClientMock;
@@ -110,7 +146,10 @@ class DocumentServiceTest {
 	private RegistrationNumberService registrationNumberServiceMock;
 
 	@Mock
-	private DatabaseHelper databaseHelperMock;
+	private TransactionTemplate transactionTemplateMock;
+
+	@Mock
+	private TextIndexService textIndexServiceMock;
 
 	@Mock
 	private HttpServletResponse httpServletResponseMock;
@@ -121,6 +160,27 @@ class DocumentServiceTest {
 	@Mock
 	private Page<DocumentEntity> pageMock;
 
+	@Mock
+	private FileIngestionService fileIngestionServiceMock;
+
+	@Mock
+	private DocumentDataRepository documentDataRepositoryMock;
+
+	@Mock
+	private DownloadUrlSigner downloadUrlSignerMock;
+
+	@Mock
+	private RevisionProperties revisionPropertiesMock;
+
+	@Mock
+	private DocumentChangeService documentChangeServiceMock;
+
+	@Mock
+	private BinaryStorageService binaryStorageServiceMock;
+
+	@Mock
+	private IdempotencyService idempotencyServiceMock;
+
 	@InjectMocks
 	private DocumentService documentService;
 
@@ -146,9 +206,18 @@ class DocumentServiceTest {
 		final var multipartFile = (MultipartFile) new MockMultipartFile("file", file.getName(), "text/plain", toByteArray(new FileInputStream(file)));
 		final var documentFiles = DocumentFiles.create().withFiles(List.of(multipartFile));
 
+		final var stagedFile = new StagedFile(multipartFile, CHECKSUM, null);
+
+		mockTransactionTemplate();
+		when(fileIngestionServiceMock.stage(List.of(multipartFile))).thenReturn(List.of(stagedFile));
+		when(binaryStorageServiceMock.store(stagedFile)).thenReturn(DocumentDataBinaryEntity.create().withChecksum(CHECKSUM));
 		when(documentTypeRepositoryMock.findByMunicipalityIdAndType(MUNICIPALITY_ID, DOCUMENT_TYPE)).thenReturn(Optional.of(DocumentTypeEntity.create().withType(DOCUMENT_TYPE)));
 		when(registrationNumberServiceMock.generateRegistrationNumber(MUNICIPALITY_ID)).thenReturn(REGISTRATION_NUMBER);
-		when(documentRepositoryMock.save(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> {
+			final DocumentEntity documentEntity = invocation.getArgument(0);
+			documentEntity.getDocumentData().forEach(documentData -> documentData.getDocumentDataBinary().setId(DOCUMENT_DATA_BINARY_ID)); // Ids are assigned when persisted
+			return documentEntity;
+		});
 
 		// Act
 		final var result = documentService.create(documentCreateRequest, documentFiles, MUNICIPALITY_ID);
@@ -156,14 +225,22 @@ class DocumentServiceTest {
 		// Assert
 		assertThat(result).isNotNull();
 
+		final var inOrder = inOrder(fileIngestionServiceMock, transactionTemplateMock, binaryStorageServiceMock);
+		inOrder.verify(fileIngestionServiceMock).stage(List.of(multipartFile)); // The files are read before the transaction
+		inOrder.verify(transactionTemplateMock).execute(any());
+		inOrder.verify(binaryStorageServiceMock).store(stagedFile);
 		verify(documentTypeRepositoryMock).findByMunicipalityIdAndType(MUNICIPALITY_ID, DOCUMENT_TYPE);
 		verify(registrationNumberServiceMock).generateRegistrationNumber(MUNICIPALITY_ID);
-		verify(databaseHelperMock).convertToBlob(multipartFile);
-		verify(documentRepositoryMock).save(documentEntityCaptor.capture());
-		verifyNoInteractions(eventLogClientMock);
+		verify(documentRepositoryMock).saveAndFlush(documentEntityCaptor.capture());
+		verify(textIndexServiceMock).requestIndexing(List.of(DOCUMENT_DATA_BINARY_ID));
+		verify(documentChangeServiceMock).record(documentEntityCaptor.getValue(), DocumentChangeType.CREATED);
+		verifyNoInteractions(eventLogClientMock, idempotencyServiceMock);
 
 		final var capturedDocumentEntity = documentEntityCaptor.getValue();
 		assertThat(capturedDocumentEntity).isNotNull();
+		assertThat(capturedDocumentEntity.getDocumentData())
+			.extracting(documentData -> documentData.getDocumentDataBinary().getChecksum())
+			.containsExactly(CHECKSUM);
 		assertThat(capturedDocumentEntity.getCreatedBy()).isEqualTo(CREATED_BY);
 		assertThat(capturedDocumentEntity.getMetadata()).isEqualTo(List.of(DocumentMetadataEmbeddable.create().withKey(METADATA_KEY).withValue(METADATA_VALUE)));
 		assertThat(capturedDocumentEntity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
@@ -173,6 +250,31 @@ class DocumentServiceTest {
 		});
 	}
 
+	@Test
+	void createWithIdempotencyClaim() {
+
+		// Arrange
+		final var claimId = "0192f0a4-5c1e-7d3a-9b8e-2f4a6c8d0e12";
+		final var documentCreateRequest = DocumentCreateRequest.create()
+			.withCreatedBy(CREATED_BY)
+			.withType(DOCUMENT_TYPE);
+
+		mockTransactionTemplate();
+		when(documentTypeRepositoryMock.findByMunicipalityIdAndType(MUNICIPALITY_ID, DOCUMENT_TYPE)).thenReturn(Optional.of(DocumentTypeEntity.create().withType(DOCUMENT_TYPE)));
+		when(registrationNumberServiceMock.generateRegistrationNumber(MUNICIPALITY_ID)).thenReturn(REGISTRATION_NUMBER);
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// Act
+		final var result = documentService.create(documentCreateRequest, null, MUNICIPALITY_ID, claimId);
+
+		// Assert
+		assertThat(result.getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+
+		final var inOrder = inOrder(documentRepositoryMock, idempotencyServiceMock);
+		inOrder.verify(documentRepositoryMock).saveAndFlush(any(DocumentEntity.class));
+		inOrder.verify(idempotencyServiceMock).complete(claimId, REGISTRATION_NUMBER);
+	}
+
 	@Test
 	void createWithMultipleFiles() throws IOException {
 
@@ -187,10 +289,17 @@ class DocumentServiceTest {
 		final var multipartFile1 = (MultipartFile) new MockMultipartFile("file1", file1.getName(), "image/png", toByteArray(new FileInputStream(file1)));
 		final var multipartFile2 = (MultipartFile) new MockMultipartFile("file2", file2.getName(), "text/plain", toByteArray(new FileInputStream(file2)));
 		final var documentFiles = DocumentFiles.create().withFiles(List.of(multipartFile1, multipartFile2));
+		final var content2 = multipartFile2.getBytes();
+
+		final var stagedFile1 = new StagedFile(multipartFile1, CHECKSUM, null);
+		final var stagedFile2 = new StagedFile(multipartFile2, CHECKSUM, content2);
 
+		mockTransactionTemplate();
+		when(fileIngestionServiceMock.stage(List.of(multipartFile1, multipartFile2))).thenReturn(List.of(stagedFile1, stagedFile2));
+		when(binaryStorageServiceMock.store(any(StagedFile.class))).thenAnswer(invocation -> DocumentDataBinaryEntity.create().withChecksum(invocation.getArgument(0, StagedFile.class).checksum()));
 		when(documentTypeRepositoryMock.findByMunicipalityIdAndType(MUNICIPALITY_ID, DOCUMENT_TYPE)).thenReturn(Optional.of(DocumentTypeEntity.create().withType(DOCUMENT_TYPE)));
 		when(registrationNumberServiceMock.generateRegistrationNumber(MUNICIPALITY_ID)).thenReturn(REGISTRATION_NUMBER);
-		when(documentRepositoryMock.save(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		// Act
 		final var result = documentService.create(documentCreateRequest, documentFiles, MUNICIPALITY_ID);
@@ -200,9 +309,11 @@ class DocumentServiceTest {
 
 		verify(documentTypeRepositoryMock).findByMunicipalityIdAndType(MUNICIPALITY_ID, DOCUMENT_TYPE);
 		verify(registrationNumberServiceMock).generateRegistrationNumber(MUNICIPALITY_ID);
-		verify(databaseHelperMock).convertToBlob(multipartFile1);
-		verify(databaseHelperMock).convertToBlob(multipartFile2);
-		verify(documentRepositoryMock).save(documentEntityCaptor.capture());
+		verify(fileIngestionServiceMock).stage(List.of(multipartFile1, multipartFile2));
+		verify(binaryStorageServiceMock).store(stagedFile1);
+		verify(binaryStorageServiceMock).store(stagedFile2);
+		verify(documentRepositoryMock).saveAndFlush(documentEntityCaptor.capture());
+		verify(textIndexServiceMock).requestIndexing(anyList());
 		verifyNoInteractions(eventLogClientMock);
 
 		final var capturedDocumentEntity = documentEntityCaptor.getValue();
@@ -228,10 +339,11 @@ class DocumentServiceTest {
 		// Arrange
 		final var includeConfidential = false;
 
+		mockTransactionTemplate();
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
 
 		// Act
-		final var result = documentService.read(REGISTRATION_NUMBER, includeConfidential, MUNICIPALITY_ID);
+		final var result = documentService.read(REGISTRATION_NUMBER, includeConfidential, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -253,10 +365,11 @@ class DocumentServiceTest {
 		// Arrange
 		final var includeConfidential = false;
 
+		mockTransactionTemplate();
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(empty());
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.read(REGISTRATION_NUMBER, includeConfidential, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.read(REGISTRATION_NUMBER, includeConfidential, null, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -272,10 +385,11 @@ class DocumentServiceTest {
 		// Arrange
 		final var includeConfidential = false;
 
+		mockTransactionTemplate();
 		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
 
 		// Act
-		final var result = documentService.read(REGISTRATION_NUMBER, REVISION, includeConfidential, MUNICIPALITY_ID);
+		final var result = documentService.read(REGISTRATION_NUMBER, REVISION, includeConfidential, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -297,10 +411,11 @@ class DocumentServiceTest {
 		// Arrange
 		final var includeConfidential = false;
 
+		mockTransactionTemplate();
 		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue())).thenReturn(empty());
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.read(REGISTRATION_NUMBER, REVISION, includeConfidential, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.read(REGISTRATION_NUMBER, REVISION, includeConfidential, null, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -310,6 +425,70 @@ class DocumentServiceTest {
 		verifyNoInteractions(eventLogClientMock);
 	}
 
+	@Test
+	void readBatch() {
+
+		// Arrange
+		final var includeConfidential = true;
+		final var otherRegistrationNumber = "2023-2281-5";
+		final var unknownRegistrationNumber = "2023-2281-6";
+		final var latest = createDocumentEntity().withRevision(3);
+		final var revision = createDocumentEntity().withRegistrationNumber(otherRegistrationNumber).withRevision(2);
+		final var notAskedFor = createDocumentEntity().withRevision(2);
+		final var documentReferences = List.of(
+			DocumentReference.create().withRegistrationNumber(unknownRegistrationNumber),
+			DocumentReference.create().withRegistrationNumber(otherRegistrationNumber).withRevision(2),
+			DocumentReference.create().withRegistrationNumber(REGISTRATION_NUMBER),
+			DocumentReference.create().withRegistrationNumber(otherRegistrationNumber).withRevision(9));
+
+		when(documentRepositoryMock.findLatestByMunicipalityIdAndRegistrationNumberIn(MUNICIPALITY_ID, Set.of(unknownRegistrationNumber, REGISTRATION_NUMBER), CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(List.of(latest));
+		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberInAndRevisionInAndConfidentialityConfidentialIn(MUNICIPALITY_ID, Set.of(otherRegistrationNumber), Set.of(2, 9), CONFIDENTIAL_AND_PUBLIC.getValue()))
+			.thenReturn(List.of(revision, notAskedFor));
+
+		// Act
+		final var result = documentService.readBatch(documentReferences, includeConfidential, null, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result)
+			.extracting(DocumentBatchReadResult::getRegistrationNumber, DocumentBatchReadResult::getRevision, DocumentBatchReadResult::isFound)
+			.containsExactly(
+				tuple(unknownRegistrationNumber, null, false),
+				tuple(otherRegistrationNumber, 2, true),
+				tuple(REGISTRATION_NUMBER, null, true),
+				tuple(otherRegistrationNumber, 9, false));
+		assertThat(result.get(0).getDocument()).isNull();
+		assertThat(result.get(1).getDocument().getRevision()).isEqualTo(2);
+		assertThat(result.get(2).getDocument().getRevision()).isEqualTo(3);
+		assertThat(result.get(3).getDocument()).isNull();
+
+		verify(documentRepositoryMock).findLatestByMunicipalityIdAndRegistrationNumberIn(MUNICIPALITY_ID, Set.of(unknownRegistrationNumber, REGISTRATION_NUMBER), CONFIDENTIAL_AND_PUBLIC.getValue());
+		verify(documentRepositoryMock).findByMunicipalityIdAndRegistrationNumberInAndRevisionInAndConfidentialityConfidentialIn(MUNICIPALITY_ID, Set.of(otherRegistrationNumber), Set.of(2, 9), CONFIDENTIAL_AND_PUBLIC.getValue());
+		verifyNoMoreInteractions(documentRepositoryMock);
+		verifyNoInteractions(eventLogClientMock);
+	}
+
+	@Test
+	void readBatchOnlyLatestRevisions() {
+
+		// Arrange
+		final var includeConfidential = false;
+		final var documentReferences = List.of(DocumentReference.create().withRegistrationNumber(REGISTRATION_NUMBER));
+
+		when(documentRepositoryMock.findLatestByMunicipalityIdAndRegistrationNumberIn(MUNICIPALITY_ID, Set.of(REGISTRATION_NUMBER), PUBLIC.getValue())).thenReturn(List.of(createDocumentEntity()));
+
+		// Act
+		final var result = documentService.readBatch(documentReferences, includeConfidential, null, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).hasSize(1).allSatisfy(batchReadResult -> {
+			assertThat(batchReadResult.isFound()).isTrue();
+			assertThat(batchReadResult.getDocument().getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+		});
+
+		verify(documentRepositoryMock).findLatestByMunicipalityIdAndRegistrationNumberIn(MUNICIPALITY_ID, Set.of(REGISTRATION_NUMBER), PUBLIC.getValue());
+		verifyNoMoreInteractions(documentRepositoryMock);
+	}
+
 	@Test
 	void readAll() {
 
@@ -323,7 +502,7 @@ class DocumentServiceTest {
 		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue(), pageRequest)).thenReturn(pageMock);
 
 		// Act
-		final var result = documentService.readAll(REGISTRATION_NUMBER, includeConfidential, pageRequest, MUNICIPALITY_ID);
+		final var result = documentService.readAll(REGISTRATION_NUMBER, includeConfidential, pageRequest, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -347,7 +526,7 @@ class DocumentServiceTest {
 		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue(), pageRequest)).thenReturn(pageMock);
 
 		// Act
-		final var result = documentService.readAll(REGISTRATION_NUMBER, includeConfidential, pageRequest, MUNICIPALITY_ID);
+		final var result = documentService.readAll(REGISTRATION_NUMBER, includeConfidential, pageRequest, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -358,27 +537,115 @@ class DocumentServiceTest {
 	}
 
 	@Test
-	void readFileByRegistrationNumber() throws IOException, SQLException {
+	void readFileByRegistrationNumber() throws IOException {
 
 		// Arrange
 		final var includeConfidential = false;
 		final var documentEntity = createDocumentEntity();
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		final var binaryContent = new BinaryContent(DOCUMENT_DATA_BINARY_ID, FILE_SIZE, CHUNK_SIZE, false);
+
+		mockTransactionTemplate();
+		when(binaryStorageServiceMock.find(DOCUMENT_DATA_BINARY_ID)).thenReturn(binaryContent);
 		when(httpServletResponseMock.getOutputStream()).thenReturn(servletOutputStreamMock);
 
 		// Act
-		documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID);
+		documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID);
 
 		// Assert
 		verify(documentRepositoryMock).findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue());
 		verify(httpServletResponseMock).addHeader(CONTENT_TYPE, MIME_TYPE);
 		verify(httpServletResponseMock).addHeader(CONTENT_DISPOSITION, "attachment; filename=\"image.png\"");
-		verify(httpServletResponseMock).setContentLength((int) documentEntity.getDocumentData().getFirst().getDocumentDataBinary().getBinaryFile().length());
+		verify(httpServletResponseMock).setContentLengthLong(FILE_SIZE);
 		verify(httpServletResponseMock).getOutputStream();
+		verify(httpServletResponseMock).addHeader(ACCEPT_RANGES, "bytes");
+		verify(httpServletResponseMock, never()).setStatus(anyInt());
+		verify(binaryStorageServiceMock).find(DOCUMENT_DATA_BINARY_ID);
+		verify(binaryStorageServiceMock).copy(binaryContent, 0, FILE_SIZE - 1, servletOutputStreamMock);
 		verifyNoInteractions(eventLogClientMock);
 	}
 
+	@ParameterizedTest
+	@CsvSource({
+		"bytes=100-199, 100, 199",
+		"bytes=227500-, 227500, 227545",
+		"bytes=-46, 227500, 227545",
+		"bytes=227500-300000, 227500, 227545"
+	})
+	void readFileByRegistrationNumberWithRange(String range, long start, long end) throws IOException {
+
+		// Arrange
+		final var documentEntity = createDocumentEntity();
+		final var binaryContent = new BinaryContent(DOCUMENT_DATA_BINARY_ID, FILE_SIZE, CHUNK_SIZE, true);
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
+		when(binaryStorageServiceMock.find(DOCUMENT_DATA_BINARY_ID)).thenReturn(binaryContent);
+		when(httpServletResponseMock.getOutputStream()).thenReturn(servletOutputStreamMock);
+
+		// Act
+		documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, false, range, httpServletResponseMock, MUNICIPALITY_ID);
+
+		// Assert
+		verify(httpServletResponseMock).addHeader(ACCEPT_RANGES, "bytes");
+		verify(httpServletResponseMock).setStatus(PARTIAL_CONTENT.value());
+		verify(httpServletResponseMock).addHeader(CONTENT_RANGE, "bytes %s-%s/%s".formatted(start, end, FILE_SIZE));
+		verify(httpServletResponseMock).setContentLengthLong(end - start + 1);
+		verify(binaryStorageServiceMock).copy(binaryContent, start, end, servletOutputStreamMock);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"items=0-99", "bytes=abc", "bytes=0-99,200-299"
+	})
+	void readFileByRegistrationNumberWithIgnoredRange(String range) throws IOException {
+
+		// Arrange
+		final var documentEntity = createDocumentEntity();
+		final var binaryContent = new BinaryContent(DOCUMENT_DATA_BINARY_ID, FILE_SIZE, CHUNK_SIZE, false);
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
+		when(binaryStorageServiceMock.find(DOCUMENT_DATA_BINARY_ID)).thenReturn(binaryContent);
+		when(httpServletResponseMock.getOutputStream()).thenReturn(servletOutputStreamMock);
+
+		// Act
+		documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, false, range, httpServletResponseMock, MUNICIPALITY_ID);
+
+		// Assert
+		verify(httpServletResponseMock, never()).setStatus(anyInt());
+		verify(httpServletResponseMock, never()).addHeader(eq(CONTENT_RANGE), any());
+		verify(httpServletResponseMock).setContentLengthLong(FILE_SIZE);
+		verify(binaryStorageServiceMock).copy(binaryContent, 0, FILE_SIZE - 1, servletOutputStreamMock);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {
+		"bytes=227546-", "bytes=300000-300099", "bytes=-0"
+	})
+	void readFileByRegistrationNumberWithUnsatisfiableRange(String range) {
+
+		// Arrange
+		final var documentEntity = createDocumentEntity();
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
+		when(binaryStorageServiceMock.find(DOCUMENT_DATA_BINARY_ID)).thenReturn(new BinaryContent(DOCUMENT_DATA_BINARY_ID, FILE_SIZE, CHUNK_SIZE, false));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, false, range, httpServletResponseMock, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(REQUESTED_RANGE_NOT_SATISFIABLE);
+		assertThat(exception.getDetail()).isEqualTo("The range: '%s' is not satisfiable for a file of %s bytes!".formatted(range, FILE_SIZE));
+
+		verify(httpServletResponseMock).addHeader(CONTENT_RANGE, "bytes */" + FILE_SIZE);
+		verify(httpServletResponseMock, never()).setContentLengthLong(anyLong());
+		verifyNoMoreInteractions(servletOutputStreamMock);
+		verify(binaryStorageServiceMock, never()).copy(any(), anyLong(), anyLong(), any());
+	}
+
 	@Test
 	void readFileByRegistrationNumberWhenNotFound() {
 
@@ -386,9 +653,10 @@ class DocumentServiceTest {
 		final var includeConfidential = false;
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(empty());
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -409,9 +677,10 @@ class DocumentServiceTest {
 		documentEntity.getDocumentData().getFirst().setId("Something else");
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -429,9 +698,10 @@ class DocumentServiceTest {
 		final var documentEntity = createDocumentEntity().withDocumentData(null);
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -442,17 +712,19 @@ class DocumentServiceTest {
 	}
 
 	@Test
-	void readFileByRegistrationNumberResponseProcessingFailed() throws IOException, SQLException {
+	void readFileByRegistrationNumberResponseProcessingFailed() throws IOException {
 
 		// Arrange
 		final var includeConfidential = false;
 		final var documentEntity = createDocumentEntity();
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
+		when(binaryStorageServiceMock.find(DOCUMENT_DATA_BINARY_ID)).thenReturn(new BinaryContent(DOCUMENT_DATA_BINARY_ID, FILE_SIZE, CHUNK_SIZE, false));
 		when(httpServletResponseMock.getOutputStream()).thenThrow(new IOException("An error occured during byte array copy"));
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -461,30 +733,38 @@ class DocumentServiceTest {
 		verify(documentRepositoryMock).findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue());
 		verify(httpServletResponseMock).addHeader(CONTENT_TYPE, MIME_TYPE);
 		verify(httpServletResponseMock).addHeader(CONTENT_DISPOSITION, "attachment; filename=\"image.png\"");
-		verify(httpServletResponseMock).setContentLength((int) documentEntity.getDocumentData().getFirst().getDocumentDataBinary().getBinaryFile().length());
+		verify(httpServletResponseMock).setContentLengthLong(FILE_SIZE);
 		verify(httpServletResponseMock).getOutputStream();
 		verifyNoInteractions(eventLogClientMock);
 	}
 
 	@Test
-	void readFileByRegistrationNumberAndRevision() throws IOException, SQLException {
+	void readFileByRegistrationNumberAndRevision() throws IOException {
 
 		// Arrange
 		final var includeConfidential = false;
 		final var documentEntity = createDocumentEntity();
 
 		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		final var binaryContent = new BinaryContent(DOCUMENT_DATA_BINARY_ID, FILE_SIZE, CHUNK_SIZE, false);
+
+		mockTransactionTemplate();
+		when(binaryStorageServiceMock.find(DOCUMENT_DATA_BINARY_ID)).thenReturn(binaryContent);
 		when(httpServletResponseMock.getOutputStream()).thenReturn(servletOutputStreamMock);
 
 		// Act
-		documentService.readFile(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID);
+		documentService.readFile(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID);
 
 		// Assert
 		verify(documentRepositoryMock).findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue());
 		verify(httpServletResponseMock).addHeader(CONTENT_TYPE, MIME_TYPE);
 		verify(httpServletResponseMock).addHeader(CONTENT_DISPOSITION, "attachment; filename=\"image.png\"");
-		verify(httpServletResponseMock).setContentLength((int) documentEntity.getDocumentData().getFirst().getDocumentDataBinary().getBinaryFile().length());
+		verify(httpServletResponseMock).setContentLengthLong(FILE_SIZE);
 		verify(httpServletResponseMock).getOutputStream();
+		verify(httpServletResponseMock).addHeader(ACCEPT_RANGES, "bytes");
+		verify(httpServletResponseMock, never()).setStatus(anyInt());
+		verify(binaryStorageServiceMock).find(DOCUMENT_DATA_BINARY_ID);
+		verify(binaryStorageServiceMock).copy(binaryContent, 0, FILE_SIZE - 1, servletOutputStreamMock);
 		verifyNoInteractions(eventLogClientMock);
 	}
 
@@ -495,9 +775,10 @@ class DocumentServiceTest {
 		final var includeConfidential = false;
 
 		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue())).thenReturn(empty());
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -515,9 +796,10 @@ class DocumentServiceTest {
 		final var documentEntity = createDocumentEntity().withDocumentData(null);
 
 		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -527,6 +809,106 @@ class DocumentServiceTest {
 		verifyNoInteractions(httpServletResponseMock, eventLogClientMock);
 	}
 
+	@Test
+	void createDownloadUrl() {
+
+		// Arrange
+		final var includeConfidential = false;
+		final var expires = 1693438500L;
+
+		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+		when(downloadUrlSignerMock.expires()).thenReturn(expires);
+		when(downloadUrlSignerMock.sign(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires)).thenReturn("signature");
+
+		// Act
+		final var result = documentService.createDownloadUrl(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getUrl()).isEqualTo("/2281/files/" + DOCUMENT_DATA_ID + "?expires=1693438500&signature=signature");
+		assertThat(result.getExpires().toInstant()).isEqualTo(Instant.ofEpochSecond(expires));
+
+		verify(documentRepositoryMock).findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue());
+		verifyNoInteractions(binaryStorageServiceMock);
+	}
+
+	@Test
+	void createDownloadUrlWhenNotFound() {
+
+		// Arrange
+		final var includeConfidential = false;
+
+		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue())).thenReturn(empty());
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.createDownloadUrl(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Not Found: No document with registrationNumber: '2023-2281-4' and revision: '1' could be found!");
+
+		verifyNoInteractions(downloadUrlSignerMock);
+	}
+
+	@Test
+	void readFileByDownloadUrl() throws IOException {
+
+		// Arrange
+		final var expires = 1693438500L;
+		final var binaryContent = new BinaryContent(DOCUMENT_DATA_BINARY_ID, FILE_SIZE, CHUNK_SIZE, false);
+
+		when(downloadUrlSignerMock.isValid(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires, "signature")).thenReturn(true);
+		mockTransactionTemplate();
+		when(documentDataRepositoryMock.findById(DOCUMENT_DATA_ID)).thenReturn(Optional.of(createDocumentDataEntity()));
+		when(binaryStorageServiceMock.find(DOCUMENT_DATA_BINARY_ID)).thenReturn(binaryContent);
+		when(httpServletResponseMock.getOutputStream()).thenReturn(servletOutputStreamMock);
+
+		// Act
+		documentService.readFileByDownloadUrl(DOCUMENT_DATA_ID, expires, "signature", null, httpServletResponseMock, MUNICIPALITY_ID);
+
+		// Assert
+		verify(documentDataRepositoryMock).findById(DOCUMENT_DATA_ID);
+		verify(httpServletResponseMock).addHeader(CONTENT_TYPE, MIME_TYPE);
+		verify(httpServletResponseMock).addHeader(CONTENT_DISPOSITION, "attachment; filename=\"image.png\"");
+		verify(httpServletResponseMock).setContentLengthLong(FILE_SIZE);
+		verify(binaryStorageServiceMock).copy(binaryContent, 0, FILE_SIZE - 1, servletOutputStreamMock);
+		verifyNoInteractions(documentRepositoryMock);
+	}
+
+	@Test
+	void readFileByDownloadUrlWhenSignatureIsNotValid() {
+
+		// Arrange
+		final var expires = 1693438500L;
+
+		when(downloadUrlSignerMock.isValid(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires, "signature")).thenReturn(false);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFileByDownloadUrl(DOCUMENT_DATA_ID, expires, "signature", null, httpServletResponseMock, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Forbidden: The download URL is not valid or has expired!");
+
+		verifyNoInteractions(documentDataRepositoryMock, binaryStorageServiceMock, httpServletResponseMock);
+	}
+
+	@Test
+	void readFileByDownloadUrlWhenNotFound() {
+
+		// Arrange
+		final var expires = 1693438500L;
+
+		when(downloadUrlSignerMock.isValid(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires, "signature")).thenReturn(true);
+		mockTransactionTemplate();
+		when(documentDataRepositoryMock.findById(DOCUMENT_DATA_ID)).thenReturn(empty());
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFileByDownloadUrl(DOCUMENT_DATA_ID, expires, "signature", null, httpServletResponseMock, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Not Found: No document file content with ID: '" + DOCUMENT_DATA_ID + "' could be found!");
+
+		verifyNoInteractions(binaryStorageServiceMock, httpServletResponseMock);
+	}
+
 	@Test
 	void readFileByRegistrationNumberAndRevisionWhenDocumentDataIdNotFound() {
 
@@ -538,9 +920,10 @@ class DocumentServiceTest {
 		documentEntity.getDocumentData().get(0).setId("Something else");
 
 		when(documentRepositoryMock.findByMunicipalityIdAndRegistrationNumberAndRevisionAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION, PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, httpServletResponseMock, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.readFile(REGISTRATION_NUMBER, REVISION, DOCUMENT_DATA_ID, includeConfidential, null, httpServletResponseMock, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -565,7 +948,7 @@ class DocumentServiceTest {
 		when(documentRepositoryMock.search(any(), anyBoolean(), anyBoolean(), any(), any())).thenReturn(pageMock);
 
 		// Act
-		final var result = documentService.search(search, includeConfidential, false, pageRequest, MUNICIPALITY_ID);
+		final var result = documentService.search(search, includeConfidential, false, pageRequest, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -574,7 +957,7 @@ class DocumentServiceTest {
 			.containsExactly(tuple(CREATED, CREATED_BY, ID, MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION));
 		assertThat(result.getDocuments().getFirst().getDocumentData()).hasSize(1); // Document contains a confidential documentData element and we are setting includeConfidential=true
 
-		verify(documentRepositoryMock).search(search, includeConfidential, false, pageRequest, MUNICIPALITY_ID);
+		verify(documentRepositoryMock).search(SearchQueryParser.parse(search), includeConfidential, false, pageRequest, MUNICIPALITY_ID);
 		verifyNoInteractions(eventLogClientMock);
 	}
 
@@ -593,7 +976,7 @@ class DocumentServiceTest {
 		when(documentRepositoryMock.search(any(), anyBoolean(), anyBoolean(), any(), any())).thenReturn(pageMock);
 
 		// Act
-		final var result = documentService.search(search, false, onlyLatestRevision, pageRequest, MUNICIPALITY_ID);
+		final var result = documentService.search(search, false, onlyLatestRevision, pageRequest, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
@@ -602,10 +985,106 @@ class DocumentServiceTest {
 			.containsExactly(tuple(CREATED, CREATED_BY, ID, MUNICIPALITY_ID, REGISTRATION_NUMBER, REVISION));
 		assertThat(result.getDocuments().getFirst().getDocumentData()).hasSize(1); // Document contains a confidential documentData element and we are setting includeConfidential=true
 
-		verify(documentRepositoryMock).search(search, false, onlyLatestRevision, pageRequest, MUNICIPALITY_ID);
+		verify(documentRepositoryMock).search(SearchQueryParser.parse(search), false, onlyLatestRevision, pageRequest, MUNICIPALITY_ID);
+		verifyNoInteractions(eventLogClientMock);
+	}
+
+	@Test
+	void searchWithMatchedFields() {
+
+		// Arrange
+		final var search = "description:" + DESCRIPTION + " OR meta." + METADATA_KEY + ":" + METADATA_VALUE + " OR file:image*";
+		final var pageRequest = PageRequest.of(0, 10, Sort.by(DESC, "revision"));
+		final var documentEntity = createDocumentEntity();
+
+		when(pageMock.getContent()).thenReturn(List.of(documentEntity));
+		when(pageMock.getPageable()).thenReturn(pageRequest);
+		when(documentRepositoryMock.search(any(), anyBoolean(), anyBoolean(), any(), any())).thenReturn(pageMock);
+
+		// Act
+		final var result = documentService.search(search, false, false, pageRequest, null, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isNotNull();
+		assertThat(result.getDocuments()).hasSize(1)
+			.extracting(Document::getMatchedFields)
+			.containsExactly(List.of("description", "meta." + METADATA_KEY, "file"));
+
+		verify(documentRepositoryMock).search(SearchQueryParser.parse(search), false, false, pageRequest, MUNICIPALITY_ID);
+		verify(textIndexServiceMock).findContentMatches(SearchQueryParser.parse(search), List.of(documentEntity));
+		verifyNoInteractions(eventLogClientMock);
+	}
+
+	@Test
+	void searchWithFields() {
+
+		// Arrange
+		final var search = "description:" + DESCRIPTION;
+		final var pageRequest = PageRequest.of(0, 10, Sort.by(DESC, "revision"));
+		final var fields = Set.of(DocumentField.REGISTRATION_NUMBER, DocumentField.DESCRIPTION);
+
+		when(pageMock.getContent()).thenReturn(List.of(createDocumentEntity()));
+		when(pageMock.getPageable()).thenReturn(pageRequest);
+		when(documentRepositoryMock.search(any(), anyBoolean(), anyBoolean(), any(), any())).thenReturn(pageMock);
+
+		// Act
+		final var result = documentService.search(search, false, false, pageRequest, fields, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isNotNull();
+		assertThat(result.getDocuments()).hasSize(1)
+			.extracting(Document::getRegistrationNumber, Document::getDescription, Document::getMetadataList, Document::getDocumentData, Document::getMatchedFields)
+			.containsExactly(tuple(REGISTRATION_NUMBER, DESCRIPTION, null, null, null));
+
+		verify(documentRepositoryMock).search(SearchQueryParser.parse(search), false, false, pageRequest, MUNICIPALITY_ID);
+		verifyNoInteractions(textIndexServiceMock, eventLogClientMock);
+	}
+
+	@Test
+	void searchWithContentMatch() {
+
+		// Arrange
+		final var search = "content:annual OR description:annual";
+		final var searchQuery = SearchQueryParser.parse(search);
+		final var pageRequest = PageRequest.of(0, 10, Sort.by(DESC, "revision"));
+		final var documentEntity = createDocumentEntity();
+
+		when(pageMock.getContent()).thenReturn(List.of(documentEntity));
+		when(pageMock.getPageable()).thenReturn(pageRequest);
+		when(documentRepositoryMock.search(any(), anyBoolean(), anyBoolean(), any(), any())).thenReturn(pageMock);
+		when(textIndexServiceMock.findContentMatches(searchQuery, List.of(documentEntity))).thenReturn(Map.of(new Term(CONTENT, null, "annual", EXACT), Set.of(DOCUMENT_DATA_BINARY_ID)));
+
+		// Act
+		final var result = documentService.search(search, false, false, pageRequest, null, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isNotNull();
+		assertThat(result.getDocuments()).hasSize(1)
+			.extracting(Document::getMatchedFields)
+			.containsExactly(List.of("content"));
+
+		verify(documentRepositoryMock).search(searchQuery, false, false, pageRequest, MUNICIPALITY_ID);
+		verify(textIndexServiceMock).findContentMatches(searchQuery, List.of(documentEntity));
 		verifyNoInteractions(eventLogClientMock);
 	}
 
+	@Test
+	void searchWithInvalidQuery() {
+
+		// Arrange
+		final var search = "(description:test";
+		final var pageRequest = PageRequest.of(0, 10, Sort.by(DESC, "revision"));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.search(search, false, false, pageRequest, null, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception).isNotNull();
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: Invalid search query: '(description:test' (missing ')')");
+
+		verifyNoInteractions(documentRepositoryMock, textIndexServiceMock, eventLogClientMock);
+	}
+
 	@Test
 	void update() {
 
@@ -620,16 +1099,18 @@ class DocumentServiceTest {
 
 		when(documentTypeRepositoryMock.findByMunicipalityIdAndType(MUNICIPALITY_ID, "changedDocumentType")).thenReturn(Optional.of(DocumentTypeEntity.create().withType("changedDocumentType")));
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(existingEntity));
-		when(documentRepositoryMock.save(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		mockTransactionTemplate();
 
 		// Act
-		final var result = documentService.update(REGISTRATION_NUMBER, includeConfidential, documentUpdateRequest, MUNICIPALITY_ID);
+		final var result = documentService.update(REGISTRATION_NUMBER, includeConfidential, documentUpdateRequest, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
 
 		verify(documentTypeRepositoryMock).findByMunicipalityIdAndType(MUNICIPALITY_ID, "changedDocumentType");
-		verify(documentRepositoryMock).save(documentEntityCaptor.capture());
+		verify(documentRepositoryMock).saveAndFlush(documentEntityCaptor.capture());
+		verify(documentChangeServiceMock).record(documentEntityCaptor.getValue(), DocumentChangeType.REVISED);
 		verifyNoInteractions(registrationNumberServiceMock, eventLogClientMock);
 
 		final var capturedDocumentEntity = documentEntityCaptor.getValue();
@@ -657,17 +1138,136 @@ class DocumentServiceTest {
 			.withMetadataList(List.of(DocumentMetadata.create().withKey("changedKey").withValue("changedValue")));
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(empty());
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.update(REGISTRATION_NUMBER, includeConfidential, documentUpdateRequest, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.update(REGISTRATION_NUMBER, includeConfidential, documentUpdateRequest, null, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
 		assertThat(exception.getMessage()).isEqualTo("Not Found: No document with registrationNumber: '2023-2281-4' could be found!");
 
 		verify(documentRepositoryMock).findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue());
-		verify(documentRepositoryMock, never()).save(any());
-		verifyNoInteractions(registrationNumberServiceMock, databaseHelperMock, eventLogClientMock);
+		verify(documentRepositoryMock, never()).saveAndFlush(any());
+		verifyNoInteractions(registrationNumberServiceMock, binaryStorageServiceMock, eventLogClientMock, documentChangeServiceMock);
+	}
+
+	@Test
+	void updateWithExpectedRevision() {
+
+		// Arrange
+		final var documentUpdateRequest = DocumentUpdateRequest.create().withCreatedBy("changedUser");
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		mockTransactionTemplate();
+
+		// Act
+		final var result = documentService.update(REGISTRATION_NUMBER, false, documentUpdateRequest, REVISION, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getRevision()).isEqualTo(REVISION + 1);
+		verify(documentRepositoryMock).saveAndFlush(any(DocumentEntity.class));
+	}
+
+	@Test
+	void updateWhenExpectedRevisionIsNotLatest() {
+
+		// Arrange
+		final var documentUpdateRequest = DocumentUpdateRequest.create().withCreatedBy("changedUser");
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+		mockTransactionTemplate();
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.update(REGISTRATION_NUMBER, false, documentUpdateRequest, REVISION - 1, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Precondition Failed: The latest revision of document with registrationNumber: '2023-2281-4' is not revision: '0'!");
+		verify(documentRepositoryMock, never()).saveAndFlush(any());
+	}
+
+	@Test
+	void updateWhenRevisionIsCreatedConcurrently() {
+
+		// Arrange
+		final var documentUpdateRequest = DocumentUpdateRequest.create().withCreatedBy("changedUser");
+
+		when(revisionPropertiesMock.maxAttempts()).thenReturn(3);
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue()))
+			.thenReturn(Optional.of(createDocumentEntity()))
+			.thenReturn(Optional.of(createDocumentEntity().withRevision(REVISION + 1)));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class)))
+			.thenThrow(createRevisionConflict())
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		mockTransactionTemplate();
+
+		// Act
+		final var result = documentService.update(REGISTRATION_NUMBER, false, documentUpdateRequest, null, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getRevision()).isEqualTo(REVISION + 2); // The change is applied on top of the revision created concurrently
+		verify(transactionTemplateMock, times(2)).execute(any());
+		verify(documentRepositoryMock, times(2)).saveAndFlush(any(DocumentEntity.class));
+		verify(documentChangeServiceMock).record(any(DocumentEntity.class), eq(DocumentChangeType.REVISED)); // Only the successful attempt is recorded
+	}
+
+	@Test
+	void updateWhenRevisionIsCreatedConcurrentlyAndAttemptsAreExhausted() {
+
+		// Arrange
+		final var documentUpdateRequest = DocumentUpdateRequest.create().withCreatedBy("changedUser");
+
+		when(revisionPropertiesMock.maxAttempts()).thenReturn(2);
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenThrow(createRevisionConflict());
+		mockTransactionTemplate();
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.update(REGISTRATION_NUMBER, false, documentUpdateRequest, null, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Conflict: Document with registrationNumber: '2023-2281-4' is being changed by other requests, try again later!");
+		verify(documentRepositoryMock, times(2)).saveAndFlush(any(DocumentEntity.class));
+	}
+
+	@Test
+	void updateWithExpectedRevisionWhenRevisionIsCreatedConcurrently() {
+
+		// Arrange
+		final var documentUpdateRequest = DocumentUpdateRequest.create().withCreatedBy("changedUser");
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenThrow(createRevisionConflict());
+		mockTransactionTemplate();
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.update(REGISTRATION_NUMBER, false, documentUpdateRequest, REVISION, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Precondition Failed: The latest revision of document with registrationNumber: '2023-2281-4' is not revision: '1'!");
+		verify(documentRepositoryMock).saveAndFlush(any(DocumentEntity.class));
+		verifyNoInteractions(revisionPropertiesMock);
+	}
+
+	@Test
+	void updateWhenOtherDataIntegrityViolation() {
+
+		// Arrange
+		final var documentUpdateRequest = DocumentUpdateRequest.create().withCreatedBy("changedUser");
+		final var violation = new DataIntegrityViolationException("Column 'created_by' cannot be null");
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenThrow(violation);
+		mockTransactionTemplate();
+
+		// Act
+		final var exception = assertThrows(DataIntegrityViolationException.class, () -> documentService.update(REGISTRATION_NUMBER, false, documentUpdateRequest, null, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception).isSameAs(violation);
+		verify(documentRepositoryMock).saveAndFlush(any(DocumentEntity.class));
+		verifyNoInteractions(revisionPropertiesMock);
 	}
 
 	@Test
@@ -693,6 +1293,7 @@ class DocumentServiceTest {
 		verify(documentRepositoryMock).findByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialIn(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue());
 		verify(documentRepositoryMock).saveAll(documentEntitiesCaptor.capture());
 		verify(eventLogClientMock).createEvent(eq(MUNICIPALITY_ID), eq(eventLogKey), eventCaptor.capture());
+		verify(documentChangeServiceMock).record(existingEntities.getLast(), DocumentChangeType.CONFIDENTIALITY_CHANGED); // Recorded once, for the latest revision
 		verifyNoInteractions(registrationNumberServiceMock, documentTypeRepositoryMock);
 
 		// Assert captured DocumentEntity-objects.
@@ -719,6 +1320,29 @@ class DocumentServiceTest {
 				tuple("ExecutedBy", CREATED_BY));
 	}
 
+	@Test
+	void createWhenFileCouldNotBeRead() throws IOException {
+
+		// Arrange
+		final var documentCreateRequest = DocumentCreateRequest.create()
+			.withCreatedBy(CREATED_BY)
+			.withType(DOCUMENT_TYPE);
+
+		final var file = new File("src/test/resources/files/image.png");
+		final var multipartFile = (MultipartFile) new MockMultipartFile("file", file.getName(), "image/png", toByteArray(new FileInputStream(file)));
+		final var documentFiles = DocumentFiles.create().withFiles(List.of(multipartFile));
+
+		when(fileIngestionServiceMock.stage(List.of(multipartFile))).thenThrow(Problem.valueOf(BAD_REQUEST, "The following files could not be read: 'image.png' (error)"));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.create(documentCreateRequest, documentFiles, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: The following files could not be read: 'image.png' (error)");
+
+		verifyNoInteractions(transactionTemplateMock, registrationNumberServiceMock, documentRepositoryMock, binaryStorageServiceMock, textIndexServiceMock);
+	}
+
 	@Test
 	void addFile() throws IOException {
 
@@ -730,16 +1354,23 @@ class DocumentServiceTest {
 		final var multipartFile = (MultipartFile) new MockMultipartFile("file", file.getName(), "image/png", toByteArray(new FileInputStream(file)));
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(existingEntity));
-		when(documentRepositoryMock.save(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		final var stagedFile = new StagedFile(multipartFile, CHECKSUM, null);
+
+		when(fileIngestionServiceMock.stage(multipartFile)).thenReturn(stagedFile);
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		mockTransactionTemplate();
 
 		// Act
-		final var result = documentService.addOrReplaceFile(REGISTRATION_NUMBER, documentDataCreateRequest, multipartFile, MUNICIPALITY_ID);
+		final var result = documentService.addOrReplaceFile(REGISTRATION_NUMBER, documentDataCreateRequest, multipartFile, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
 
-		verify(databaseHelperMock).convertToBlob(multipartFile);
-		verify(documentRepositoryMock).save(documentEntityCaptor.capture());
+		verify(fileIngestionServiceMock).stage(multipartFile);
+		verify(binaryStorageServiceMock).store(stagedFile);
+		verify(documentRepositoryMock).saveAndFlush(documentEntityCaptor.capture());
+		verify(textIndexServiceMock).requestIndexing(anyList());
+		verify(documentChangeServiceMock).record(documentEntityCaptor.getValue(), DocumentChangeType.REVISED);
 		verifyNoInteractions(registrationNumberServiceMock, eventLogClientMock, documentTypeRepositoryMock);
 
 		final var capturedDocumentEntity = documentEntityCaptor.getValue();
@@ -772,16 +1403,22 @@ class DocumentServiceTest {
 		final var multipartFile = (MultipartFile) new MockMultipartFile("file", FILE_NAME, "image/png", toByteArray(new FileInputStream(file))); // Same name as in "existingEntity"
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(existingEntity));
-		when(documentRepositoryMock.save(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		final var stagedFile = new StagedFile(multipartFile, CHECKSUM, null);
+
+		when(fileIngestionServiceMock.stage(multipartFile)).thenReturn(stagedFile);
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		mockTransactionTemplate();
 
 		// Act
-		final var result = documentService.addOrReplaceFile(REGISTRATION_NUMBER, documentDataCreateRequest, multipartFile, MUNICIPALITY_ID);
+		final var result = documentService.addOrReplaceFile(REGISTRATION_NUMBER, documentDataCreateRequest, multipartFile, null, MUNICIPALITY_ID);
 
 		// Assert
 		assertThat(result).isNotNull();
 
-		verify(databaseHelperMock).convertToBlob(multipartFile);
-		verify(documentRepositoryMock).save(documentEntityCaptor.capture());
+		verify(fileIngestionServiceMock).stage(multipartFile);
+		verify(binaryStorageServiceMock).store(stagedFile);
+		verify(documentRepositoryMock).saveAndFlush(documentEntityCaptor.capture());
+		verify(textIndexServiceMock).requestIndexing(anyList());
 		verifyNoInteractions(registrationNumberServiceMock, eventLogClientMock, documentTypeRepositoryMock);
 
 		final var capturedDocumentEntity = documentEntityCaptor.getValue();
@@ -798,6 +1435,66 @@ class DocumentServiceTest {
 		assertThat(capturedDocumentEntity.getRegistrationNumber()).isEqualTo(existingEntity.getRegistrationNumber());
 	}
 
+	@Test
+	void addStagedFile() throws IOException {
+
+		final var existingEntity = createDocumentEntity();
+		final var documentDataCreateRequest = DocumentDataCreateRequest.create()
+			.withCreatedBy("changedUser");
+
+		final var file = new File("src/test/resources/files/image2.png");
+		final var multipartFile = (MultipartFile) new MockMultipartFile("file", file.getName(), "image/png", toByteArray(new FileInputStream(file)));
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(existingEntity));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		mockTransactionTemplate();
+
+		final var stagedFile = new StagedFile(multipartFile, CHECKSUM, null);
+		final var inTransactionMock = mock(Runnable.class);
+
+		// Act
+		final var result = documentService.addOrReplaceStagedFile(REGISTRATION_NUMBER, documentDataCreateRequest, stagedFile, REVISION, MUNICIPALITY_ID, inTransactionMock);
+
+		// Assert
+		assertThat(result).isNotNull();
+
+		verify(inTransactionMock).run();
+		verify(binaryStorageServiceMock).store(stagedFile);
+		verify(documentRepositoryMock).saveAndFlush(documentEntityCaptor.capture());
+		verify(textIndexServiceMock).requestIndexing(anyList());
+		verifyNoInteractions(fileIngestionServiceMock, registrationNumberServiceMock, eventLogClientMock, documentTypeRepositoryMock);
+
+		final var capturedDocumentEntity = documentEntityCaptor.getValue();
+		assertThat(capturedDocumentEntity.getCreatedBy()).isEqualTo("changedUser");
+		assertThat(capturedDocumentEntity.getDocumentData())
+			.hasSize(2)
+			.extracting(DocumentDataEntity::getFileName)
+			.containsExactlyInAnyOrder(
+				"image.png",
+				"image2.png");
+	}
+
+	@Test
+	void addStagedFileWithExpectedRevisionWhenRevisionIsCreatedConcurrently() throws IOException {
+
+		// Arrange
+		final var file = new File("src/test/resources/files/image2.png");
+		final var multipartFile = (MultipartFile) new MockMultipartFile("file", file.getName(), "image/png", toByteArray(new FileInputStream(file)));
+		final var stagedFile = new StagedFile(multipartFile, CHECKSUM, null);
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenThrow(createRevisionConflict());
+		mockTransactionTemplate();
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.addOrReplaceStagedFile(REGISTRATION_NUMBER, DocumentDataCreateRequest.create(), stagedFile, REVISION, MUNICIPALITY_ID, () -> {}));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Precondition Failed: The latest revision of document with registrationNumber: '2023-2281-4' is not revision: '1'!");
+		verify(documentRepositoryMock).saveAndFlush(any(DocumentEntity.class));
+		verifyNoInteractions(revisionPropertiesMock);
+	}
+
 	@Test
 	void addFileWhenNotFound() throws IOException {
 
@@ -811,7 +1508,7 @@ class DocumentServiceTest {
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(any(), any(), any())).thenReturn(Optional.empty());
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.addOrReplaceFile(REGISTRATION_NUMBER, documentDataCreateRequest, multipartFile, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.addOrReplaceFile(REGISTRATION_NUMBER, documentDataCreateRequest, multipartFile, null, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -819,7 +1516,58 @@ class DocumentServiceTest {
 
 		verify(documentRepositoryMock).findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue());
 		verifyNoMoreInteractions(documentRepositoryMock);
-		verifyNoInteractions(eventLogClientMock);
+		verifyNoInteractions(eventLogClientMock, fileIngestionServiceMock);
+	}
+
+	@Test
+	void addFileWhenExpectedRevisionIsNotLatest() throws IOException {
+
+		// Arrange
+		final var documentDataCreateRequest = DocumentDataCreateRequest.create()
+			.withCreatedBy("changedUser");
+
+		final var file = new File("src/test/resources/files/image2.png");
+		final var multipartFile = (MultipartFile) new MockMultipartFile("file", file.getName(), "image/png", toByteArray(new FileInputStream(file)));
+
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.addOrReplaceFile(REGISTRATION_NUMBER, documentDataCreateRequest, multipartFile, REVISION + 1, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Precondition Failed: The latest revision of document with registrationNumber: '2023-2281-4' is not revision: '2'!");
+
+		verify(documentRepositoryMock, never()).saveAndFlush(any());
+		verifyNoInteractions(fileIngestionServiceMock, transactionTemplateMock); // The file is not read when the change is rejected
+	}
+
+	@Test
+	void addFileWhenRevisionIsCreatedConcurrently() throws IOException {
+
+		// Arrange
+		final var documentDataCreateRequest = DocumentDataCreateRequest.create()
+			.withCreatedBy("changedUser");
+
+		final var file = new File("src/test/resources/files/image2.png");
+		final var multipartFile = (MultipartFile) new MockMultipartFile("file", file.getName(), "image/png", toByteArray(new FileInputStream(file)));
+
+		when(revisionPropertiesMock.maxAttempts()).thenReturn(3);
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(createDocumentEntity()));
+		when(fileIngestionServiceMock.stage(multipartFile)).thenReturn(new StagedFile(multipartFile, CHECKSUM, null));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class)))
+			.thenThrow(createRevisionConflict())
+			.thenAnswer(invocation -> invocation.getArgument(0));
+		mockTransactionTemplate();
+
+		// Act
+		final var result = documentService.addOrReplaceFile(REGISTRATION_NUMBER, documentDataCreateRequest, multipartFile, null, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isNotNull();
+
+		verify(fileIngestionServiceMock).stage(multipartFile); // The file is only read once
+		verify(documentRepositoryMock, times(2)).saveAndFlush(any(DocumentEntity.class));
+		verify(textIndexServiceMock).requestIndexing(anyList());
 	}
 
 	@Test
@@ -829,13 +1577,17 @@ class DocumentServiceTest {
 		final var documentEntity = createDocumentEntity();
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		when(documentRepositoryMock.saveAndFlush(any(DocumentEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		mockTransactionTemplate();
 
 		// Act
-		documentService.deleteFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, MUNICIPALITY_ID);
+		final var result = documentService.deleteFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, null, MUNICIPALITY_ID);
 
 		// Assert
+		assertThat(result.getRevision()).isEqualTo(REVISION + 1);
 		verify(documentRepositoryMock).findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue());
-		verify(documentRepositoryMock).save(documentEntityCaptor.capture());
+		verify(documentRepositoryMock).saveAndFlush(documentEntityCaptor.capture());
+		verify(documentChangeServiceMock).record(any(), eq(DocumentChangeType.REVISED));
 		verifyNoInteractions(eventLogClientMock, documentTypeRepositoryMock);
 
 		final var capturedEntity = documentEntityCaptor.getValue();
@@ -853,9 +1605,10 @@ class DocumentServiceTest {
 
 		// Arrange
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(empty());
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.deleteFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.deleteFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, null, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -873,9 +1626,10 @@ class DocumentServiceTest {
 		final var documentEntity = createDocumentEntity().withDocumentData(emptyList());
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.deleteFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.deleteFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, null, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -895,9 +1649,10 @@ class DocumentServiceTest {
 		documentEntity.getDocumentData().getFirst().withId("some-id-that-will-not-be-found");
 
 		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue())).thenReturn(Optional.of(documentEntity));
+		mockTransactionTemplate();
 
 		// Act
-		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.deleteFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, MUNICIPALITY_ID));
+		final var exception = assertThrows(ThrowableProblem.class, () -> documentService.deleteFile(REGISTRATION_NUMBER, DOCUMENT_DATA_ID, null, MUNICIPALITY_ID));
 
 		// Assert
 		assertThat(exception).isNotNull();
@@ -908,6 +1663,14 @@ class DocumentServiceTest {
 		verifyNoInteractions(eventLogClientMock);
 	}
 
+	private void mockTransactionTemplate() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	private static DataIntegrityViolationException createRevisionConflict() {
+		return new DataIntegrityViolationException("Duplicate entry '2-2023-2281-4' for key 'uq_revision_and_registration_number'");
+	}
+
 	private DocumentEntity createDocumentEntity() {
 
 		try {
@@ -943,7 +1706,7 @@ class DocumentServiceTest {
 		try {
 			return DocumentDataEntity.create()
 				.withId(DOCUMENT_DATA_ID)
-				.withDocumentDataBinary(DocumentDataBinaryEntity.create().withBinaryFile(new MariaDbBlob(toByteArray(new FileInputStream(new File("src/test/resources/files/image.png"))))))
+				.withDocumentDataBinary(DocumentDataBinaryEntity.create().withId(DOCUMENT_DATA_BINARY_ID).withBinaryFile(new MariaDbBlob(toByteArray(new FileInputStream(new File("src/test/resources/files/image.png"))))))
 				.withFileName(FILE_NAME)
 				.withMimeType(MIME_TYPE);
 
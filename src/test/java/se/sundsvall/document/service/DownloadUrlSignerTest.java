@@ -0,0 +1,98 @@
+package se.sundsvall.document.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import se.sundsvall.document.configuration.DownloadUrlProperties;
+
+import static java.time.ZoneOffset.UTC;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DownloadUrlSignerTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String DOCUMENT_DATA_ID = "faa3547e-f775-4799-9ac0-e07fab1df362";
+	private static final Instant NOW = Instant.parse("2023-08-31T00:00:00Z");
+	private static final DownloadUrlProperties PROPERTIES = new DownloadUrlProperties("the-secret", Duration.ofMinutes(5));
+
+	private final DownloadUrlSigner signer = new DownloadUrlSigner(PROPERTIES, Clock.fixed(NOW, UTC));
+
+	@Test
+	void expires() {
+		assertThat(signer.expires()).isEqualTo(NOW.plus(Duration.ofMinutes(5)).getEpochSecond());
+	}
+
+	@Test
+	void signAndVerify() {
+
+		// Arrange
+		final var expires = signer.expires();
+
+		// Act
+		final var signature = signer.sign(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires);
+
+		// Assert
+		assertThat(signature).matches("[A-Za-z0-9_-]{43}");
+		assertThat(signer.isValid(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires, signature)).isTrue();
+	}
+
+	@Test
+	void isValidWhenValuesDoNotMatchSignature() {
+
+		// Arrange
+		final var expires = signer.expires();
+		final var signature = signer.sign(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires);
+
+		// Act and assert
+		assertThat(signer.isValid("2262", DOCUMENT_DATA_ID, expires, signature)).isFalse();
+		assertThat(signer.isValid(MUNICIPALITY_ID, "50167fa9-6b50-428e-9383-b6cbfaffc63b", expires, signature)).isFalse();
+		assertThat(signer.isValid(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires + 1, signature)).isFalse();
+	}
+
+	@Test
+	void isValidWhenSignedWithOtherSecret() {
+
+		// Arrange
+		final var expires = signer.expires();
+		final var signature = new DownloadUrlSigner(new DownloadUrlProperties("other-secret", Duration.ofMinutes(5)), Clock.fixed(NOW, UTC))
+			.sign(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires);
+
+		// Act and assert
+		assertThat(signer.isValid(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires, signature)).isFalse();
+	}
+
+	@Test
+	void isValidWhenExpired() {
+
+		// Arrange
+		final var expires = NOW.minusSeconds(1).getEpochSecond();
+		final var signature = signer.sign(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires);
+
+		// Act and assert
+		assertThat(signer.isValid(MUNICIPALITY_ID, DOCUMENT_DATA_ID, expires, signature)).isFalse();
+	}
+
+	@ParameterizedTest
+	@NullSource
+	@ValueSource(strings = {
+		"", "not base64!"
+	})
+	void isValidWhenSignatureIsMalformed(final String signature) {
+		assertThat(signer.isValid(MUNICIPALITY_ID, DOCUMENT_DATA_ID, signer.expires(), signature)).isFalse();
+	}
+
+	@Test
+	void createWithoutSecret() {
+
+		// Act
+		final var exception = assertThrows(IllegalArgumentException.class, () -> new DownloadUrlSigner(new DownloadUrlProperties(null, Duration.ofMinutes(5))));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("document.download-url.secret must be set");
+	}
+}
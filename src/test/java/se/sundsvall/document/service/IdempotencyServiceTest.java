@@ -0,0 +1,281 @@
+package se.sundsvall.document.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.configuration.IdempotencyProperties;
+import se.sundsvall.document.integration.db.IdempotencyKeyRepository;
+import se.sundsvall.document.integration.db.model.IdempotencyKeyEntity;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String IDEMPOTENCY_KEY = "b82bd8ac-1507-4d9a-958d-369261eecc15";
+	private static final String CLAIM_ID = "0192f0a4-5c1e-7d3a-9b8e-2f4a6c8d0e12";
+	private static final String REGISTRATION_NUMBER = "2023-2281-123";
+	private static final String FINGERPRINT = "3f8a1c0e7d9b5a2f4c6e8d0b1a3c5e7f9d2b4a6c8e0f1d3b5a7c9e2f4d6b8a0c";
+
+	@Mock
+	private IdempotencyKeyRepository idempotencyKeyRepositoryMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Mock
+	private Function<String, String> createMock;
+
+	@Captor
+	private ArgumentCaptor<IdempotencyKeyEntity> idempotencyKeyEntityCaptor;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> dateTimeCaptor;
+
+	private IdempotencyService idempotencyService;
+
+	@BeforeEach
+	void setup() {
+		idempotencyService = new IdempotencyService(idempotencyKeyRepositoryMock, new IdempotencyProperties(Duration.ofHours(1), Duration.ofMinutes(5), Duration.ofHours(1)), transactionTemplateMock);
+	}
+
+	@Test
+	void createOnce() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(idempotencyKeyRepositoryMock.saveAndFlush(any())).thenAnswer(invocation -> invocation.<IdempotencyKeyEntity>getArgument(0).withId(CLAIM_ID));
+		when(createMock.apply(CLAIM_ID)).thenReturn(REGISTRATION_NUMBER);
+
+		// Act
+		final var result = idempotencyService.createOnce(MUNICIPALITY_ID, IDEMPOTENCY_KEY, FINGERPRINT, createMock);
+
+		// Assert
+		assertThat(result).isEqualTo(REGISTRATION_NUMBER);
+		verify(idempotencyKeyRepositoryMock).deleteIfExpired(eq(MUNICIPALITY_ID), eq(IDEMPOTENCY_KEY), any());
+		verify(idempotencyKeyRepositoryMock).saveAndFlush(idempotencyKeyEntityCaptor.capture());
+		verifyNoMoreInteractions(idempotencyKeyRepositoryMock);
+
+		assertThat(idempotencyKeyEntityCaptor.getValue()).satisfies(entity -> {
+			assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+			assertThat(entity.getIdempotencyKey()).isEqualTo(IDEMPOTENCY_KEY);
+			assertThat(entity.getRegistrationNumber()).isNull();
+			assertThat(entity.getFingerprint()).isEqualTo(FINGERPRINT);
+			assertThat(entity.getCreated()).isCloseTo(now(systemDefault()), within(1, MINUTES));
+			assertThat(entity.getExpires()).isEqualTo(entity.getCreated().plusMinutes(5));
+		});
+	}
+
+	@Test
+	void createOnceWhenReplayed() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(idempotencyKeyRepositoryMock.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+		when(idempotencyKeyRepositoryMock.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY))
+			.thenReturn(Optional.of(IdempotencyKeyEntity.create().withFingerprint(FINGERPRINT).withRegistrationNumber(REGISTRATION_NUMBER)));
+
+		// Act
+		final var result = idempotencyService.createOnce(MUNICIPALITY_ID, IDEMPOTENCY_KEY, FINGERPRINT, createMock);
+
+		// Assert
+		assertThat(result).isEqualTo(REGISTRATION_NUMBER);
+		verify(createMock, never()).apply(any());
+	}
+
+	@Test
+	void createOnceWhenReplayedWithoutStoredFingerprint() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(idempotencyKeyRepositoryMock.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+		when(idempotencyKeyRepositoryMock.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY))
+			.thenReturn(Optional.of(IdempotencyKeyEntity.create().withRegistrationNumber(REGISTRATION_NUMBER)));
+
+		// Act
+		final var result = idempotencyService.createOnce(MUNICIPALITY_ID, IDEMPOTENCY_KEY, FINGERPRINT, createMock);
+
+		// Assert
+		assertThat(result).isEqualTo(REGISTRATION_NUMBER);
+		verify(createMock, never()).apply(any());
+	}
+
+	@Test
+	void createOnceWhenReusedForOtherRequest() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(idempotencyKeyRepositoryMock.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+		when(idempotencyKeyRepositoryMock.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY))
+			.thenReturn(Optional.of(IdempotencyKeyEntity.create().withFingerprint("other-fingerprint").withRegistrationNumber(REGISTRATION_NUMBER)));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> idempotencyService.createOnce(MUNICIPALITY_ID, IDEMPOTENCY_KEY, FINGERPRINT, createMock));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(CONFLICT);
+		assertThat(exception.getMessage()).isEqualTo("Conflict: Idempotency-Key: 'b82bd8ac-1507-4d9a-958d-369261eecc15' has already been used for another request!");
+		verify(createMock, never()).apply(any());
+	}
+
+	@Test
+	void createOnceWhenInProgress() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(idempotencyKeyRepositoryMock.saveAndFlush(any())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+		when(idempotencyKeyRepositoryMock.findByMunicipalityIdAndIdempotencyKey(MUNICIPALITY_ID, IDEMPOTENCY_KEY))
+			.thenReturn(Optional.of(IdempotencyKeyEntity.create().withFingerprint(FINGERPRINT)));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> idempotencyService.createOnce(MUNICIPALITY_ID, IDEMPOTENCY_KEY, FINGERPRINT, createMock));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(CONFLICT);
+		assertThat(exception.getMessage()).isEqualTo("Conflict: A request with Idempotency-Key: 'b82bd8ac-1507-4d9a-958d-369261eecc15' is already in progress!");
+		verify(createMock, never()).apply(any());
+	}
+
+	@Test
+	void createOnceWhenCreateFails() {
+
+		// Arrange
+		mockTransactionTemplate();
+		mockExecuteWithoutResult();
+		final var failure = new IllegalStateException("failure");
+		when(idempotencyKeyRepositoryMock.saveAndFlush(any())).thenAnswer(invocation -> invocation.<IdempotencyKeyEntity>getArgument(0).withId(CLAIM_ID));
+		when(createMock.apply(CLAIM_ID)).thenThrow(failure);
+
+		// Act
+		final var exception = assertThrows(IllegalStateException.class, () -> idempotencyService.createOnce(MUNICIPALITY_ID, IDEMPOTENCY_KEY, FINGERPRINT, createMock));
+
+		// Assert
+		assertThat(exception).isSameAs(failure);
+		verify(idempotencyKeyRepositoryMock).saveAndFlush(any());
+		verify(idempotencyKeyRepositoryMock).deleteInProgress(CLAIM_ID);
+	}
+
+	@Test
+	void fingerprint() {
+
+		// Arrange
+		final var json = "{\"type\":\"type\"}".getBytes(UTF_8);
+		final var files = List.<MultipartFile>of(new MockMultipartFile("documentFiles", "file.txt", "text/plain", "content".getBytes(UTF_8)));
+
+		// Act
+		final var result = idempotencyService.fingerprint(new ByteArrayResource(json), files);
+
+		// Assert
+		assertThat(result)
+			.hasSize(64)
+			.isEqualTo(idempotencyService.fingerprint(new ByteArrayResource(json), files))
+			.isNotEqualTo(idempotencyService.fingerprint(new ByteArrayResource("{\"type\":\"other\"}".getBytes(UTF_8)), files))
+			.isNotEqualTo(idempotencyService.fingerprint(new ByteArrayResource(json), List.of(new MockMultipartFile("documentFiles", "other.txt", "text/plain", "content".getBytes(UTF_8)))))
+			.isNotEqualTo(idempotencyService.fingerprint(new ByteArrayResource(json), List.of(new MockMultipartFile("documentFiles", "file.txt", "text/plain", "longer content".getBytes(UTF_8)))));
+	}
+
+	@Test
+	void fingerprintWhenJsonCouldNotBeRead() {
+
+		// Arrange
+		final InputStreamSource json = () -> {
+			throw new IOException("failure");
+		};
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> idempotencyService.fingerprint(json, List.of()));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: The request could not be read to check its Idempotency-Key!");
+	}
+
+	@Test
+	void complete() {
+
+		// Arrange
+		when(idempotencyKeyRepositoryMock.complete(eq(CLAIM_ID), eq(REGISTRATION_NUMBER), any())).thenReturn(1);
+
+		// Act
+		idempotencyService.complete(CLAIM_ID, REGISTRATION_NUMBER);
+
+		// Assert
+		verify(idempotencyKeyRepositoryMock).complete(eq(CLAIM_ID), eq(REGISTRATION_NUMBER), dateTimeCaptor.capture());
+		assertThat(dateTimeCaptor.getValue()).isCloseTo(now(systemDefault()).plusHours(1), within(1, MINUTES));
+	}
+
+	@Test
+	void completeWhenClaimHasExpired() {
+
+		// Arrange
+		when(idempotencyKeyRepositoryMock.complete(eq(CLAIM_ID), eq(REGISTRATION_NUMBER), any())).thenReturn(0);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> idempotencyService.complete(CLAIM_ID, REGISTRATION_NUMBER));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(CONFLICT);
+		assertThat(exception.getMessage()).isEqualTo("Conflict: The Idempotency-Key of the request expired before the document was created!");
+	}
+
+	@Test
+	void removeExpired() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(idempotencyKeyRepositoryMock.deleteExpired(any())).thenReturn(2);
+
+		// Act
+		idempotencyService.removeExpired();
+
+		// Assert
+		verify(idempotencyKeyRepositoryMock).deleteExpired(dateTimeCaptor.capture());
+		assertThat(dateTimeCaptor.getValue()).isCloseTo(now(systemDefault()), within(1, MINUTES));
+	}
+
+	private void mockTransactionTemplate() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	private void mockExecuteWithoutResult() {
+		doAnswer(invocation -> {
+			invocation.<Consumer<Object>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplateMock).executeWithoutResult(any());
+	}
+}
@@ -0,0 +1,218 @@
+package se.sundsvall.document.service;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.document.configuration.RetentionProperties;
+import se.sundsvall.document.configuration.RetentionProperties.Policy;
+import se.sundsvall.document.integration.db.DocumentDataBinaryChunkRepository;
+import se.sundsvall.document.integration.db.DocumentDataBinaryColdRepository;
+import se.sundsvall.document.integration.db.DocumentDataBinaryRepository;
+import se.sundsvall.document.integration.db.DocumentDataTextRepository;
+import se.sundsvall.document.integration.db.DocumentFileSetRepository;
+import se.sundsvall.document.integration.db.DocumentMetadataSetRepository;
+import se.sundsvall.document.integration.db.DocumentRepository;
+import se.sundsvall.document.integration.db.DocumentTypeRepository;
+import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
+import se.sundsvall.document.service.storage.FileContentCache;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetentionServiceTest {
+
+	private static final int BATCH_SIZE = 2;
+	private static final String TYPE = "HOLIDAY_EXCHANGE";
+	private static final String OTHER_TYPE = "EMPLOYEE_CERTIFICATE";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String OTHER_MUNICIPALITY_ID = "2262";
+
+	@Mock
+	private DocumentRepository documentRepositoryMock;
+
+	@Mock
+	private DocumentTypeRepository documentTypeRepositoryMock;
+
+	@Mock
+	private DocumentMetadataSetRepository documentMetadataSetRepositoryMock;
+
+	@Mock
+	private DocumentFileSetRepository documentFileSetRepositoryMock;
+
+	@Mock
+	private DocumentDataBinaryRepository documentDataBinaryRepositoryMock;
+
+	@Mock
+	private DocumentDataBinaryChunkRepository documentDataBinaryChunkRepositoryMock;
+
+	@Mock
+	private DocumentDataBinaryColdRepository documentDataBinaryColdRepositoryMock;
+
+	@Mock
+	private DocumentDataTextRepository documentDataTextRepositoryMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Mock
+	private FileContentCache fileContentCacheMock;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> createdBeforeCaptor;
+
+	@Test
+	void compact() {
+
+		// Arrange
+		final var retentionService = createRetentionService(true);
+		mockTransactionTemplate();
+		when(documentTypeRepositoryMock.findAll()).thenReturn(List.of(documentType(MUNICIPALITY_ID, TYPE), documentType(MUNICIPALITY_ID, OTHER_TYPE), documentType(OTHER_MUNICIPALITY_ID, TYPE)));
+		when(documentRepositoryMock.findIdsEligibleForRetention(eq(MUNICIPALITY_ID), eq(TYPE), eq(1), any(), eq(BATCH_SIZE)))
+			.thenReturn(List.of("revision-1", "revision-2"))
+			.thenReturn(List.of("revision-3"));
+		when(documentRepositoryMock.findIdsEligibleForRetention(eq(OTHER_MUNICIPALITY_ID), eq(TYPE), eq(5), any(), eq(BATCH_SIZE))).thenReturn(List.of("revision-4"));
+		when(documentMetadataSetRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of("metadata-set-1"));
+		when(documentFileSetRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of("file-set-1", "file-set-2")).thenReturn(List.of());
+		when(documentDataBinaryRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of("binary-1"));
+
+		// Act
+		retentionService.compact();
+
+		// Assert
+		verify(documentRepositoryMock, times(2)).findIdsEligibleForRetention(eq(MUNICIPALITY_ID), eq(TYPE), eq(1), createdBeforeCaptor.capture(), eq(BATCH_SIZE));
+		assertThat(createdBeforeCaptor.getValue()).isCloseTo(now(systemDefault()).minusDays(30), within(1, MINUTES));
+		verify(documentRepositoryMock).deleteAllByIdInBatch(List.of("revision-1", "revision-2"));
+		verify(documentRepositoryMock).deleteAllByIdInBatch(List.of("revision-3"));
+		verify(documentRepositoryMock).findIdsEligibleForRetention(eq(OTHER_MUNICIPALITY_ID), eq(TYPE), eq(5), createdBeforeCaptor.capture(), eq(BATCH_SIZE));
+		assertThat(createdBeforeCaptor.getValue()).isCloseTo(now(systemDefault()), within(1, MINUTES));
+		verify(documentRepositoryMock).deleteAllByIdInBatch(List.of("revision-4"));
+		verify(documentRepositoryMock, never()).findIdsEligibleForRetention(any(), eq(OTHER_TYPE), anyInt(), any(), anyInt());
+
+		verify(documentMetadataSetRepositoryMock).deleteMetadataByMetadataSetIds(List.of("metadata-set-1"));
+		verify(documentMetadataSetRepositoryMock).deleteAllByIdInBatch(List.of("metadata-set-1"));
+
+		verify(documentFileSetRepositoryMock, times(2)).findOrphanedIds(BATCH_SIZE);
+		verify(documentFileSetRepositoryMock).deleteDocumentDataByFileSetIds(List.of("file-set-1", "file-set-2"));
+		verify(documentFileSetRepositoryMock).deleteAllByIdInBatch(List.of("file-set-1", "file-set-2"));
+
+		verify(documentDataTextRepositoryMock).deleteTermsByIds(List.of("binary-1"));
+		verify(documentDataTextRepositoryMock).deleteAllByIdInBatch(List.of("binary-1"));
+		verify(documentDataBinaryChunkRepositoryMock).deleteByBinaryIds(List.of("binary-1"));
+		verify(documentDataBinaryColdRepositoryMock).deleteAllByIdInBatch(List.of("binary-1"));
+		verify(documentDataBinaryRepositoryMock).deleteAllByIdInBatch(List.of("binary-1"));
+		verify(fileContentCacheMock).evict(List.of("binary-1"));
+	}
+
+	@Test
+	void compactWhenNothingToRemove() {
+
+		// Arrange
+		final var retentionService = createRetentionService(true);
+		mockTransactionTemplate();
+		when(documentTypeRepositoryMock.findAll()).thenReturn(List.of(documentType(MUNICIPALITY_ID, OTHER_TYPE)));
+		when(documentMetadataSetRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of());
+		when(documentFileSetRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of());
+		when(documentDataBinaryRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of());
+
+		// Act
+		retentionService.compact();
+
+		// Assert
+		verifyNoInteractions(documentRepositoryMock, documentDataTextRepositoryMock, documentDataBinaryChunkRepositoryMock, documentDataBinaryColdRepositoryMock, fileContentCacheMock);
+		verify(documentMetadataSetRepositoryMock, never()).deleteAllByIdInBatch(any());
+		verify(documentFileSetRepositoryMock, never()).deleteAllByIdInBatch(any());
+		verify(documentDataBinaryRepositoryMock, never()).deleteAllByIdInBatch(any());
+	}
+
+	@Test
+	void compactContinuesWhenStepFails() {
+
+		// Arrange
+		final var retentionService = createRetentionService(true);
+		mockTransactionTemplate();
+		when(documentTypeRepositoryMock.findAll()).thenReturn(List.of());
+		when(documentMetadataSetRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of("metadata-set-1", "metadata-set-2"));
+		when(documentMetadataSetRepositoryMock.deleteMetadataByMetadataSetIds(any())).thenThrow(new DataIntegrityViolationException("Cannot delete"));
+		when(documentFileSetRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of());
+		when(documentDataBinaryRepositoryMock.findOrphanedIds(BATCH_SIZE)).thenReturn(List.of());
+
+		// Act
+		retentionService.compact();
+
+		// Assert
+		verify(documentMetadataSetRepositoryMock).findOrphanedIds(BATCH_SIZE);
+		verify(documentMetadataSetRepositoryMock, never()).deleteAllByIdInBatch(any());
+		verify(documentFileSetRepositoryMock).findOrphanedIds(BATCH_SIZE);
+		verify(documentDataBinaryRepositoryMock).findOrphanedIds(BATCH_SIZE);
+	}
+
+	@Test
+	void compactWhenDisabled() {
+
+		// Arrange
+		final var retentionService = createRetentionService(false);
+
+		// Act
+		retentionService.compact();
+
+		// Assert
+		verifyNoInteractions(documentRepositoryMock, documentTypeRepositoryMock, documentMetadataSetRepositoryMock, documentFileSetRepositoryMock,
+			documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock, documentDataBinaryColdRepositoryMock, documentDataTextRepositoryMock, transactionTemplateMock, fileContentCacheMock);
+	}
+
+	@Test
+	void removeRevisionsWithoutMinimumAge() {
+
+		// Arrange
+		final var retentionService = new RetentionService(documentRepositoryMock, documentTypeRepositoryMock, documentMetadataSetRepositoryMock, documentFileSetRepositoryMock,
+			documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock, documentDataBinaryColdRepositoryMock, documentDataTextRepositoryMock,
+			new RetentionProperties(true, Duration.ofHours(1), BATCH_SIZE, new Policy(3, null), Map.of(), Map.of()), transactionTemplateMock, fileContentCacheMock);
+		mockTransactionTemplate();
+		final var now = now(systemDefault());
+		when(documentRepositoryMock.findIdsEligibleForRetention(MUNICIPALITY_ID, TYPE, 3, now, BATCH_SIZE)).thenReturn(List.of("revision-1"));
+
+		// Act
+		final var result = retentionService.removeRevisions(MUNICIPALITY_ID, TYPE, now);
+
+		// Assert
+		assertThat(result).isOne();
+		verify(documentRepositoryMock).deleteAllByIdInBatch(List.of("revision-1"));
+	}
+
+	private RetentionService createRetentionService(final boolean enabled) {
+		final var properties = new RetentionProperties(enabled, Duration.ofHours(1), BATCH_SIZE, new Policy(null, null), Map.of(TYPE, new Policy(1, Duration.ofDays(30))),
+			Map.of(OTHER_MUNICIPALITY_ID, Map.of(TYPE, new Policy(5, null))));
+		return new RetentionService(documentRepositoryMock, documentTypeRepositoryMock, documentMetadataSetRepositoryMock, documentFileSetRepositoryMock,
+			documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock, documentDataBinaryColdRepositoryMock, documentDataTextRepositoryMock, properties, transactionTemplateMock, fileContentCacheMock);
+	}
+
+	private static DocumentTypeEntity documentType(final String municipalityId, final String type) {
+		return DocumentTypeEntity.create().withMunicipalityId(municipalityId).withType(type);
+	}
+
+	private void mockTransactionTemplate() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+}
@@ -0,0 +1,147 @@
+package se.sundsvall.document.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import static java.lang.Thread.State.WAITING;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@Timeout(10)
+class SingleFlightTest {
+
+	private final SingleFlight<String, String> singleFlight = new SingleFlight<>();
+
+	private final AtomicInteger calls = new AtomicInteger();
+
+	@Test
+	void execute() {
+
+		// Act
+		final var result = singleFlight.execute("key", () -> "result-" + calls.incrementAndGet());
+
+		// Assert
+		assertThat(result).isEqualTo("result-1");
+	}
+
+	@Test
+	void executeWhenCallIsInFlight() throws Exception {
+
+		// Arrange
+		final var release = new CountDownLatch(1);
+		final Supplier<String> call = () -> {
+			final var result = "result-" + calls.incrementAndGet();
+			awaitQuietly(release);
+			return result;
+		};
+
+		final var first = new CompletableFuture<String>();
+		final var second = new CompletableFuture<String>();
+		final var firstThread = Thread.ofPlatform().start(() -> first.complete(singleFlight.execute("key", call)));
+		awaitCall();
+
+		// Act
+		final var secondThread = Thread.ofPlatform().start(() -> second.complete(singleFlight.execute("key", call)));
+		awaitWaiting(secondThread);
+		release.countDown();
+		firstThread.join();
+		secondThread.join();
+
+		// Assert
+		assertThat(first.get()).isEqualTo("result-1");
+		assertThat(second.get()).isEqualTo("result-1");
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void executeWhenCallFails() throws Exception {
+
+		// Arrange
+		final var release = new CountDownLatch(1);
+		final var failure = new IllegalStateException("Connection refused");
+		final Supplier<String> call = () -> {
+			calls.incrementAndGet();
+			awaitQuietly(release);
+			throw failure;
+		};
+
+		final var second = new CompletableFuture<Exception>();
+		final var firstThread = Thread.ofPlatform().start(() -> assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", call)));
+		awaitCall();
+
+		// Act
+		final var secondThread = Thread.ofPlatform().start(() -> second.complete(assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", call))));
+		awaitWaiting(secondThread);
+		release.countDown();
+		firstThread.join();
+		secondThread.join();
+
+		// Assert
+		assertThat(second.get()).isSameAs(failure);
+		assertThat(calls).hasValue(1);
+	}
+
+	@Test
+	void executeAfterCallHasCompleted() {
+
+		// Arrange
+		singleFlight.execute("key", () -> "result-" + calls.incrementAndGet());
+
+		// Act
+		final var result = singleFlight.execute("key", () -> "result-" + calls.incrementAndGet());
+
+		// Assert
+		assertThat(result).isEqualTo("result-2");
+	}
+
+	@Test
+	void executeAfterCallHasFailed() {
+
+		// Arrange
+		assertThrows(IllegalStateException.class, () -> singleFlight.execute("key", () -> {
+			throw new IllegalStateException("Connection refused");
+		}));
+
+		// Act
+		final var result = singleFlight.execute("key", () -> "result-" + calls.incrementAndGet());
+
+		// Assert
+		assertThat(result).isEqualTo("result-1");
+	}
+
+	@Test
+	void executeWithDifferentKeys() {
+
+		// Act
+		final var first = singleFlight.execute("key-1", () -> singleFlight.execute("key-2", () -> "result-" + calls.incrementAndGet()));
+
+		// Assert
+		assertThat(first).isEqualTo("result-1");
+		assertThat(calls).hasValue(1);
+	}
+
+	private void awaitCall() {
+		while (calls.get() == 0) {
+			Thread.onSpinWait();
+		}
+	}
+
+	private static void awaitWaiting(final Thread thread) {
+		// The thread is parked once it waits for the call in flight
+		while (thread.getState() != WAITING) {
+			Thread.onSpinWait();
+		}
+	}
+
+	private static void awaitQuietly(final CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,362 @@
+package se.sundsvall.document.service.ingestion;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.Problem;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentCreateRequest;
+import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.api.model.DocumentFiles;
+import se.sundsvall.document.configuration.AsyncIngestionProperties;
+import se.sundsvall.document.integration.db.IngestionRepository;
+import se.sundsvall.document.integration.db.model.IngestionEntity;
+import se.sundsvall.document.integration.db.model.IngestionOperation;
+import se.sundsvall.document.service.DocumentService;
+import tools.jackson.databind.json.JsonMapper;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static se.sundsvall.document.integration.db.model.IngestionOperation.ADD_OR_REPLACE_FILE;
+import static se.sundsvall.document.integration.db.model.IngestionOperation.CREATE_DOCUMENT;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.COMPLETED;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.FAILED;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.PENDING;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.PROCESSING;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncIngestionServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-1337";
+	private static final String INGESTION_ID = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d";
+	private static final String FILES = "[{\"fileName\":\"file.txt\",\"contentType\":\"text/plain\",\"size\":12}]";
+
+	@Mock
+	private IngestionRepository ingestionRepositoryMock;
+
+	@Mock
+	private DocumentService documentServiceMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Captor
+	private ArgumentCaptor<IngestionEntity> ingestionEntityCaptor;
+
+	@TempDir
+	private Path spoolDirectory;
+
+	private AsyncIngestionService asyncIngestionService;
+
+	@AfterEach
+	void shutdown() {
+		if (asyncIngestionService != null) {
+			asyncIngestionService.shutdown();
+		}
+	}
+
+	@Test
+	void createDocument() {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		mockTransactionTemplate();
+		final var request = DocumentCreateRequest.create().withCreatedBy("user").withDescription("description").withType("EMPLOYMENT_CERTIFICATE");
+		final var spooledContent = new AtomicReference<String>();
+		final var savedEntity = new AtomicReference<IngestionEntity>();
+		when(ingestionRepositoryMock.save(any())).thenAnswer(invocation -> {
+			savedEntity.set(invocation.<IngestionEntity>getArgument(0).withId(INGESTION_ID));
+			return savedEntity.get();
+		});
+		when(ingestionRepositoryMock.updateStatus(eq(INGESTION_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(ingestionRepositoryMock.findById(INGESTION_ID)).thenAnswer(invocation -> Optional.ofNullable(savedEntity.get()));
+		when(documentServiceMock.create(eq(request), any(), eq(MUNICIPALITY_ID))).thenAnswer(invocation -> {
+			spooledContent.set(new String(invocation.<DocumentFiles>getArgument(1).getFiles().getFirst().getBytes(), UTF_8));
+			return Document.create().withRegistrationNumber(REGISTRATION_NUMBER).withRevision(1);
+		});
+
+		// Act
+		final var result = asyncIngestionService.createDocument(request, List.of(file()), MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo(INGESTION_ID);
+		assertThat(result.getStatus()).isEqualTo("PENDING");
+		verify(ingestionRepositoryMock, timeout(5000).times(2)).save(ingestionEntityCaptor.capture());
+		assertThat(ingestionEntityCaptor.getValue()).satisfies(entity -> {
+			assertThat(entity.getOperation()).isEqualTo(CREATE_DOCUMENT);
+			assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+			assertThat(entity.getFiles()).isEqualTo(FILES);
+			assertThat(entity.getExpires()).isAfter(entity.getCreated());
+			assertThat(entity.getStatus()).isEqualTo(COMPLETED);
+			assertThat(entity.getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+			assertThat(entity.getRevision()).isEqualTo(1);
+			assertThat(entity.getError()).isNull();
+		});
+		assertThat(spooledContent).hasValue("file-content");
+	}
+
+	@Test
+	void createDocumentWhenQueueIsFull() throws Exception {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 1);
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		final var request = DocumentCreateRequest.create().withType("EMPLOYMENT_CERTIFICATE");
+		final var started = new CountDownLatch(1);
+		final var release = new CountDownLatch(1);
+		when(ingestionRepositoryMock.save(any())).thenAnswer(invocation -> invocation.<IngestionEntity>getArgument(0).withId(randomUUID().toString()));
+		when(ingestionRepositoryMock.updateStatus(any(), eq(PENDING), eq(PROCESSING), any())).thenAnswer(invocation -> {
+			started.countDown();
+			release.await();
+			return 0;
+		});
+
+		// Act
+		asyncIngestionService.createDocument(request, List.of(file()), MUNICIPALITY_ID);
+		started.await();
+		asyncIngestionService.createDocument(request, List.of(file()), MUNICIPALITY_ID);
+		final var exception = assertThrows(ThrowableProblem.class, () -> asyncIngestionService.createDocument(request, List.of(file()), MUNICIPALITY_ID));
+		release.countDown();
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(SERVICE_UNAVAILABLE);
+		assertThat(exception.getMessage()).isEqualTo("Service Unavailable: Too many ingestions are waiting to be processed, try again later!");
+		verify(ingestionRepositoryMock, times(2)).save(any());
+	}
+
+	@Test
+	void addOrReplaceFile() throws IOException {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		mockTransactionTemplate();
+		final var request = DocumentDataCreateRequest.create().withCreatedBy("user");
+		final var ingestionEntity = spooledIngestion(ADD_OR_REPLACE_FILE, "{\"createdBy\":\"user\"}", "file-content").withExpectedRevision(2);
+		when(ingestionRepositoryMock.updateStatus(eq(INGESTION_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(ingestionRepositoryMock.findById(INGESTION_ID)).thenReturn(Optional.of(ingestionEntity));
+		when(documentServiceMock.addOrReplaceFile(eq(REGISTRATION_NUMBER), eq(request), any(MultipartFile.class), eq(2), eq(MUNICIPALITY_ID)))
+			.thenReturn(Document.create().withRegistrationNumber(REGISTRATION_NUMBER).withRevision(3));
+
+		// Act
+		asyncIngestionService.process(INGESTION_ID);
+
+		// Assert
+		verify(ingestionRepositoryMock).save(ingestionEntityCaptor.capture());
+		assertThat(ingestionEntityCaptor.getValue().getStatus()).isEqualTo(COMPLETED);
+		assertThat(ingestionEntityCaptor.getValue().getRevision()).isEqualTo(3);
+		assertThat(spoolDirectory.resolve(INGESTION_ID)).doesNotExist();
+	}
+
+	@Test
+	void processWhenPersistFails() throws IOException {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		mockTransactionTemplate();
+		final var ingestionEntity = spooledIngestion(ADD_OR_REPLACE_FILE, "{\"createdBy\":\"user\"}", "file-content");
+		when(ingestionRepositoryMock.updateStatus(eq(INGESTION_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(ingestionRepositoryMock.findById(INGESTION_ID)).thenReturn(Optional.of(ingestionEntity));
+		when(documentServiceMock.addOrReplaceFile(any(), any(), any(), any(), any()))
+			.thenThrow(Problem.valueOf(CONFLICT, "Document with registrationNumber: '2023-2281-1337' is being changed by other requests, try again later!"));
+
+		// Act
+		asyncIngestionService.process(INGESTION_ID);
+
+		// Assert
+		verify(ingestionRepositoryMock).save(ingestionEntityCaptor.capture());
+		assertThat(ingestionEntityCaptor.getValue().getStatus()).isEqualTo(FAILED);
+		assertThat(ingestionEntityCaptor.getValue().getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+		assertThat(ingestionEntityCaptor.getValue().getRevision()).isNull();
+		assertThat(ingestionEntityCaptor.getValue().getError()).isEqualTo("Conflict: Document with registrationNumber: '2023-2281-1337' is being changed by other requests, try again later!");
+		assertThat(spoolDirectory.resolve(INGESTION_ID)).doesNotExist();
+	}
+
+	@Test
+	void processWhenSpooledFilesAreIncomplete() throws IOException {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		mockTransactionTemplate();
+		final var ingestionEntity = spooledIngestion(CREATE_DOCUMENT, "{\"type\":\"EMPLOYMENT_CERTIFICATE\"}", "file-");
+		when(ingestionRepositoryMock.updateStatus(eq(INGESTION_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(ingestionRepositoryMock.findById(INGESTION_ID)).thenReturn(Optional.of(ingestionEntity));
+
+		// Act
+		asyncIngestionService.process(INGESTION_ID);
+
+		// Assert
+		verify(ingestionRepositoryMock).save(ingestionEntityCaptor.capture());
+		assertThat(ingestionEntityCaptor.getValue().getStatus()).isEqualTo(FAILED);
+		assertThat(ingestionEntityCaptor.getValue().getError()).isEqualTo("Internal Server Error: The spooled files of ingestion with ID: '" + INGESTION_ID + "' are incomplete!");
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void processWhenInterrupted() throws IOException {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		mockTransactionTemplate();
+		final var ingestionEntity = spooledIngestion(CREATE_DOCUMENT, "{\"type\":\"EMPLOYMENT_CERTIFICATE\"}", "file-content").withStatus(PROCESSING);
+		when(ingestionRepositoryMock.updateStatus(eq(INGESTION_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(0);
+		when(ingestionRepositoryMock.findById(INGESTION_ID)).thenReturn(Optional.of(ingestionEntity));
+
+		// Act
+		asyncIngestionService.process(INGESTION_ID);
+
+		// Assert
+		verify(ingestionRepositoryMock).save(ingestionEntityCaptor.capture());
+		assertThat(ingestionEntityCaptor.getValue().getStatus()).isEqualTo(FAILED);
+		assertThat(ingestionEntityCaptor.getValue().getError()).startsWith("Ingestion with ID: '" + INGESTION_ID + "' was interrupted");
+		assertThat(spoolDirectory.resolve(INGESTION_ID)).doesNotExist();
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void processWhenAlreadyCompleted() throws IOException {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		mockTransactionTemplate();
+		final var ingestionEntity = spooledIngestion(CREATE_DOCUMENT, "{\"type\":\"EMPLOYMENT_CERTIFICATE\"}", "file-content").withStatus(COMPLETED);
+		when(ingestionRepositoryMock.updateStatus(eq(INGESTION_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(0);
+		when(ingestionRepositoryMock.findById(INGESTION_ID)).thenReturn(Optional.of(ingestionEntity));
+
+		// Act
+		asyncIngestionService.process(INGESTION_ID);
+
+		// Assert
+		verify(ingestionRepositoryMock, never()).save(any());
+		assertThat(spoolDirectory.resolve(INGESTION_ID)).doesNotExist();
+		verifyNoInteractions(documentServiceMock);
+	}
+
+	@Test
+	void sweep() throws IOException {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		mockTransactionTemplate();
+		spooledIngestion(CREATE_DOCUMENT, "{}", "file-content");
+		when(ingestionRepositoryMock.updateStatus(eq(INGESTION_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(0);
+
+		// Act
+		asyncIngestionService.sweep();
+
+		// Assert
+		verify(ingestionRepositoryMock, timeout(5000)).findById(INGESTION_ID);
+	}
+
+	@Test
+	void read() {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		when(ingestionRepositoryMock.findByIdAndMunicipalityId(INGESTION_ID, MUNICIPALITY_ID))
+			.thenReturn(Optional.of(IngestionEntity.create().withId(INGESTION_ID).withStatus(COMPLETED).withRegistrationNumber(REGISTRATION_NUMBER).withRevision(1)));
+
+		// Act
+		final var result = asyncIngestionService.read(INGESTION_ID, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo(INGESTION_ID);
+		assertThat(result.getStatus()).isEqualTo("COMPLETED");
+		assertThat(result.getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+		assertThat(result.getRevision()).isEqualTo(1);
+	}
+
+	@Test
+	void readNotFound() {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		when(ingestionRepositoryMock.findByIdAndMunicipalityId(INGESTION_ID, MUNICIPALITY_ID)).thenReturn(Optional.empty());
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> asyncIngestionService.read(INGESTION_ID, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(NOT_FOUND);
+		assertThat(exception.getMessage()).isEqualTo("Not Found: No ingestion with ID: '" + INGESTION_ID + "' could be found!");
+	}
+
+	@Test
+	void removeExpired() {
+
+		// Arrange
+		asyncIngestionService = createAsyncIngestionService(1, 10);
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		when(ingestionRepositoryMock.deleteExpired(any())).thenReturn(2);
+
+		// Act
+		asyncIngestionService.removeExpired();
+
+		// Assert
+		verify(ingestionRepositoryMock).deleteExpired(any());
+	}
+
+	private AsyncIngestionService createAsyncIngestionService(final int poolSize, final int queueCapacity) {
+		final var properties = new AsyncIngestionProperties(poolSize, queueCapacity, spoolDirectory, Duration.ofHours(1), Duration.ofMinutes(1), Duration.ofHours(1));
+		return new AsyncIngestionService(ingestionRepositoryMock, documentServiceMock, properties, transactionTemplateMock, JsonMapper.builder().build());
+	}
+
+	private IngestionEntity spooledIngestion(final IngestionOperation operation, final String request, final String spooledContent) throws IOException {
+		final var directory = Files.createDirectories(spoolDirectory.resolve(INGESTION_ID));
+		Files.writeString(directory.resolve("0"), spooledContent);
+
+		return IngestionEntity.create()
+			.withId(INGESTION_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withOperation(operation)
+			.withRegistrationNumber(operation == ADD_OR_REPLACE_FILE ? REGISTRATION_NUMBER : null)
+			.withStatus(PENDING)
+			.withRequest(request)
+			.withFiles(FILES);
+	}
+
+	private static MultipartFile file() {
+		return new MockMultipartFile("documentFiles", "file.txt", "text/plain", "file-content".getBytes(UTF_8));
+	}
+
+	private void mockTransactionTemplate() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+		doAnswer(invocation -> {
+			invocation.<Consumer<Object>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplateMock).executeWithoutResult(any());
+	}
+}
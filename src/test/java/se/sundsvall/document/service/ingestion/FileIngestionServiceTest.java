@@ -0,0 +1,175 @@
+package se.sundsvall.document.service.ingestion;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.configuration.FileIngestionProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class FileIngestionServiceTest {
+
+	private static final int MAX_IN_MEMORY_SIZE = 10;
+
+	private FileIngestionService fileIngestionService;
+
+	@BeforeEach
+	void setUp() {
+		fileIngestionService = new FileIngestionService(new FileIngestionProperties(2, 1, DataSize.ofBytes(MAX_IN_MEMORY_SIZE)));
+	}
+
+	@AfterEach
+	void tearDown() {
+		fileIngestionService.shutdown();
+	}
+
+	@Test
+	void stageFile() throws Exception {
+
+		// Arrange
+		final var content = "content".getBytes();
+		final var file = new MockMultipartFile("file", "file.txt", "text/plain", content);
+
+		// Act
+		final var result = fileIngestionService.stage(file);
+
+		// Assert
+		assertThat(result.file()).isSameAs(file);
+		assertThat(result.checksum()).isEqualTo(sha256(content));
+		assertThat(result.content()).isEqualTo(content);
+	}
+
+	@Test
+	void stageFileLargerThanMaxInMemorySize() throws Exception {
+
+		// Arrange
+		final var content = "content larger than the limit".getBytes();
+		final var file = new MockMultipartFile("file", "file.txt", "text/plain", content);
+
+		// Act
+		final var result = fileIngestionService.stage(file);
+
+		// Assert
+		assertThat(result.file()).isSameAs(file);
+		assertThat(result.checksum()).isEqualTo(sha256(content));
+		assertThat(result.content()).isNull();
+	}
+
+	@Test
+	void stageFileWhenNull() {
+		assertThat(fileIngestionService.stage((MultipartFile) null)).isNull();
+	}
+
+	@Test
+	void stageFileWhenContentIsTruncated() {
+
+		// Arrange
+		final var file = new SizedMultipartFile("file.txt", "content".getBytes(), 100);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> fileIngestionService.stage(file));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: The following files could not be read: 'file.txt' (expected 100 bytes but read 7 bytes)");
+	}
+
+	@Test
+	void stageFiles() throws Exception {
+
+		// Arrange
+		final var files = List.<MultipartFile>of(
+			new MockMultipartFile("file", "file1.txt", "text/plain", "content1".getBytes()),
+			new MockMultipartFile("file", "file2.txt", "text/plain", "content larger than the limit".getBytes()),
+			new MockMultipartFile("file", "file3.txt", "text/plain", "content3".getBytes()),
+			new MockMultipartFile("file", "file4.txt", "text/plain", "content4".getBytes()),
+			new MockMultipartFile("file", "file5.txt", "text/plain", "content5".getBytes()));
+
+		// Act
+		final var result = fileIngestionService.stage(files);
+
+		// Assert
+		assertThat(result)
+			.extracting(stagedFile -> stagedFile.file().getOriginalFilename(), StagedFile::checksum)
+			.containsExactly(
+				tuple("file1.txt", sha256("content1".getBytes())),
+				tuple("file2.txt", sha256("content larger than the limit".getBytes())),
+				tuple("file3.txt", sha256("content3".getBytes())),
+				tuple("file4.txt", sha256("content4".getBytes())),
+				tuple("file5.txt", sha256("content5".getBytes())));
+		assertThat(result.get(1).content()).isNull();
+		assertThat(result.get(4).content()).isEqualTo("content5".getBytes());
+	}
+
+	@Test
+	void stageFilesWhenSomeFilesCouldNotBeRead() {
+
+		// Arrange
+		final var files = List.<MultipartFile>of(
+			new MockMultipartFile("file", "file1.txt", "text/plain", "content1".getBytes()),
+			new SizedMultipartFile("file2.txt", "content2".getBytes(), 100),
+			new FailingMultipartFile("file3.txt"));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> fileIngestionService.stage(files));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: The following files could not be read: 'file2.txt' (expected 100 bytes but read 8 bytes), 'file3.txt' (Connection reset)");
+	}
+
+	@Test
+	void stageFilesWhenNull() {
+		assertThat(fileIngestionService.stage((List<MultipartFile>) null)).isNull();
+	}
+
+	private static String sha256(final byte[] content) throws NoSuchAlgorithmException {
+		return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+	}
+
+	/**
+	 * Simulates an upload where less content than the declared size could be read.
+	 */
+	private static class SizedMultipartFile extends MockMultipartFile {
+
+		private final long size;
+
+		SizedMultipartFile(final String fileName, final byte[] content, final long size) {
+			super("file", fileName, "text/plain", content);
+			this.size = size;
+		}
+
+		@Override
+		public long getSize() {
+			return size;
+		}
+	}
+
+	private static class FailingMultipartFile extends MockMultipartFile {
+
+		FailingMultipartFile(final String fileName) {
+			super("file", fileName, "text/plain", new byte[0]);
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return new ByteArrayInputStream(new byte[0]) {
+				@Override
+				public int read(final byte[] b) throws IOException {
+					throw new IOException("Connection reset");
+				}
+			};
+		}
+	}
+}
@@ -0,0 +1,86 @@
+package se.sundsvall.document.service.mapper;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.document.integration.db.model.DocumentChangeEntity;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.CREATED;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.REVISED;
+
+class DocumentChangeMapperTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-1337";
+	private static final String DOCUMENT_ID = "5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e";
+	private static final String DOCUMENT_TYPE = "EMPLOYMENT_CERTIFICATE";
+
+	@Test
+	void toDocumentChangeEntity() {
+		// Arrange
+		final var documentEntity = DocumentEntity.create()
+			.withId(DOCUMENT_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(2)
+			.withType(DocumentTypeEntity.create().withType(DOCUMENT_TYPE));
+
+		// Act
+		final var entity = DocumentChangeMapper.toDocumentChangeEntity(documentEntity, REVISED, 1337L);
+
+		// Assert
+		assertThat(entity).isNotNull().hasAllNullFieldsOrPropertiesExcept("documentId", "documentType", "municipalityId", "registrationNumber", "revision", "sequenceNumber", "type");
+		assertThat(entity.getDocumentId()).isEqualTo(DOCUMENT_ID);
+		assertThat(entity.getDocumentType()).isEqualTo(DOCUMENT_TYPE);
+		assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+		assertThat(entity.getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+		assertThat(entity.getRevision()).isEqualTo(2);
+		assertThat(entity.getSequenceNumber()).isEqualTo(1337L);
+		assertThat(entity.getType()).isEqualTo(REVISED);
+	}
+
+	@Test
+	void toDocumentChangeEntityFromNull() {
+		assertThat(DocumentChangeMapper.toDocumentChangeEntity(null, REVISED, 1337L)).isNull();
+	}
+
+	@Test
+	void toDocumentChanges() {
+		// Arrange
+		final var created = now(systemDefault());
+		final var entities = List.of(
+			DocumentChangeEntity.create().withCreated(created).withDocumentType(DOCUMENT_TYPE).withRegistrationNumber(REGISTRATION_NUMBER).withRevision(1).withSequenceNumber(11L).withType(CREATED),
+			DocumentChangeEntity.create().withCreated(created).withDocumentType(DOCUMENT_TYPE).withRegistrationNumber(REGISTRATION_NUMBER).withRevision(2).withSequenceNumber(12L).withType(REVISED));
+
+		// Act
+		final var result = DocumentChangeMapper.toDocumentChanges(entities, 10L);
+
+		// Assert
+		assertThat(result.getCursor()).isEqualTo(12L);
+		assertThat(result.getChanges())
+			.extracting("created", "documentType", "registrationNumber", "revision", "sequenceNumber", "type")
+			.containsExactly(
+				tuple(created, DOCUMENT_TYPE, REGISTRATION_NUMBER, 1, 11L, "CREATED"),
+				tuple(created, DOCUMENT_TYPE, REGISTRATION_NUMBER, 2, 12L, "REVISED"));
+	}
+
+	@Test
+	void toDocumentChangesWhenNoChanges() {
+		// Act
+		final var result = DocumentChangeMapper.toDocumentChanges(List.of(), 10L);
+
+		// Assert
+		assertThat(result.getChanges()).isEmpty();
+		assertThat(result.getCursor()).isEqualTo(10L); // The cursor is kept
+	}
+
+	@Test
+	void toDocumentChangeFromNull() {
+		assertThat(DocumentChangeMapper.toDocumentChange(null)).isNull();
+	}
+}
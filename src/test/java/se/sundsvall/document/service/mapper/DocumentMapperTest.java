@@ -5,9 +5,12 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.mariadb.jdbc.MariaDbBlob;
@@ -22,24 +25,30 @@ import se.sundsvall.dept44.models.api.paging.PagingMetaData;
 import se.sundsvall.document.api.model.Confidentiality;
 import se.sundsvall.document.api.model.ConfidentialityUpdateRequest;
 import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentBatchReadResult;
 import se.sundsvall.document.api.model.DocumentCreateRequest;
 import se.sundsvall.document.api.model.DocumentData;
-import se.sundsvall.document.api.model.DocumentFiles;
+import se.sundsvall.document.api.model.DocumentField;
 import se.sundsvall.document.api.model.DocumentMetadata;
+import se.sundsvall.document.api.model.DocumentReference;
 import se.sundsvall.document.api.model.DocumentUpdateRequest;
-import se.sundsvall.document.integration.db.DatabaseHelper;
+import se.sundsvall.document.api.model.SparseDocument;
 import se.sundsvall.document.integration.db.model.ConfidentialityEmbeddable;
 import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
 import se.sundsvall.document.integration.db.model.DocumentDataEntity;
 import se.sundsvall.document.integration.db.model.DocumentEntity;
 import se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable;
 import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
+import se.sundsvall.document.service.ingestion.StagedFile;
 
 import static java.time.OffsetDateTime.now;
 import static java.time.ZoneId.systemDefault;
+import static java.util.Collections.emptySet;
 import static org.apache.commons.io.IOUtils.toByteArray;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.domain.Sort.Direction.ASC;
@@ -74,7 +83,7 @@ class DocumentMapperTest {
 	private static final String DOCUMENT_TYPE_UPDATED_BY = "documentTypeUpdatedBy";
 
 	@Mock
-	private DatabaseHelper databaseHelperMock;
+	private Function<StagedFile, DocumentDataBinaryEntity> binaryStorerMock;
 
 	@Test
 	void toDocumentEntityFromDocumentCreateRequest() {
@@ -219,6 +228,35 @@ class DocumentMapperTest {
 					.withLastUpdatedBy(DOCUMENT_TYPE_UPDATED_BY)
 					.withMunicipalityId(MUNICIPALITY_ID)
 					.withType(DOCUMENT_TYPE)));
+		assertThat(result.getFileSet()).isSameAs(existingDocumentEntity.getFileSet());
+		assertThat(result.getMetadataSet()).isNotSameAs(existingDocumentEntity.getMetadataSet());
+	}
+
+	@Test
+	void toDocumentEntityFromDocumentUpdateRequestWithUnchangedMetadata() {
+
+		// Arrange
+		final var documentUpdateRequest = DocumentUpdateRequest.create()
+			.withCreatedBy("Updated user")
+			.withMetadataList(List.of(DocumentMetadata.create()
+				.withKey(METADATA_KEY)
+				.withValue(METADATA_VALUE)));
+
+		final var existingDocumentEntity = DocumentEntity.create()
+			.withDocumentData(List.of(DocumentDataEntity.create().withFileName(FILE_1_NAME)))
+			.withMetadata(List.of(DocumentMetadataEmbeddable.create()
+				.withKey(METADATA_KEY)
+				.withValue(METADATA_VALUE)))
+			.withRevision(REVISION);
+
+		// Act
+		final var result = DocumentMapper.toDocumentEntity(documentUpdateRequest, existingDocumentEntity);
+
+		// Assert
+		assertThat(result).isNotNull();
+		assertThat(result.getRevision()).isEqualTo(REVISION + 1);
+		assertThat(result.getFileSet()).isSameAs(existingDocumentEntity.getFileSet());
+		assertThat(result.getMetadataSet()).isSameAs(existingDocumentEntity.getMetadataSet());
 	}
 
 	@Test
@@ -470,44 +508,205 @@ class DocumentMapperTest {
 	}
 
 	@Test
-	void toDocumentDataEntitiesFromMultipart() throws IOException {
+	void toDocumentWithFields() {
 
 		// Arrange
-		final var blob = new MariaDbBlob();
+		final var documentEntity = spy(DocumentEntity.create()
+			.withArchive(ARCHIVE)
+			.withCreated(CREATED)
+			.withDescription(DESCRIPTION)
+			.withDocumentData(List.of(DocumentDataEntity.create().withId(ID)))
+			.withId(ID)
+			.withMetadata(List.of(DocumentMetadataEmbeddable.create()
+				.withKey(METADATA_KEY)
+				.withValue(METADATA_VALUE)))
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(REVISION)
+			.withType(DocumentTypeEntity.create()
+				.withType(DOCUMENT_TYPE)));
+
+		// Act
+		final var result = DocumentMapper.toDocument(documentEntity, Set.of(DocumentField.REGISTRATION_NUMBER, DocumentField.DESCRIPTION));
+
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.isEqualTo(SparseDocument.create()
+				.withArchiveIncluded(false)
+				.withDescription(DESCRIPTION)
+				.withRegistrationNumber(REGISTRATION_NUMBER)
+				.withRevision(REVISION));
+		verify(documentEntity, never()).getDocumentData();
+		verify(documentEntity, never()).getMetadata();
+		verify(documentEntity, never()).getType();
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	void toDocumentWithAllFields(Set<DocumentField> fields) {
+
+		// Arrange
+		final var documentEntity = DocumentEntity.create()
+			.withDescription(DESCRIPTION)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(REVISION)
+			.withType(DocumentTypeEntity.create()
+				.withType(DOCUMENT_TYPE));
+
+		// Act
+		final var result = DocumentMapper.toDocument(documentEntity, fields);
+
+		// Assert
+		assertThat(result)
+			.isExactlyInstanceOf(Document.class)
+			.isEqualTo(DocumentMapper.toDocument(documentEntity));
+		assertThat(result.getType()).isEqualTo(DOCUMENT_TYPE);
+	}
+
+	@Test
+	void toDocumentWithArchiveField() {
+
+		// Arrange
+		final var documentEntity = DocumentEntity.create()
+			.withArchive(ARCHIVE)
+			.withRevision(REVISION);
+
+		// Act
+		final var result = DocumentMapper.toDocument(documentEntity, Set.of(DocumentField.ARCHIVE));
+
+		// Assert
+		assertThat(result).isInstanceOfSatisfying(SparseDocument.class, document -> {
+			assertThat(document.isArchiveIncluded()).isTrue();
+			assertThat(document.isArchive()).isEqualTo(ARCHIVE);
+			assertThat(document.getRevision()).isEqualTo(REVISION);
+		});
+	}
+
+	@Test
+	void isIncluded() {
+		assertThat(DocumentMapper.isIncluded(null, DocumentField.DESCRIPTION)).isTrue();
+		assertThat(DocumentMapper.isIncluded(emptySet(), DocumentField.DESCRIPTION)).isTrue();
+		assertThat(DocumentMapper.isIncluded(Set.of(DocumentField.DESCRIPTION), DocumentField.DESCRIPTION)).isTrue();
+		assertThat(DocumentMapper.isIncluded(Set.of(DocumentField.REGISTRATION_NUMBER), DocumentField.DESCRIPTION)).isFalse();
+	}
+
+	@Test
+	void toDocumentBatchReadResult() {
+
+		// Arrange
+		final var documentReference = DocumentReference.create()
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(REVISION);
+		final var documentEntity = DocumentEntity.create()
+			.withId(ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(REVISION);
+
+		// Act
+		final var result = DocumentMapper.toDocumentBatchReadResult(documentReference, documentEntity, null);
+
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.isEqualTo(DocumentBatchReadResult.create()
+				.withDocument(DocumentMapper.toDocument(documentEntity))
+				.withFound(true)
+				.withRegistrationNumber(REGISTRATION_NUMBER)
+				.withRevision(REVISION));
+	}
+
+	@Test
+	void toDocumentBatchReadResultWhenDocumentIsNotFound() {
+
+		// Arrange
+		final var documentReference = DocumentReference.create()
+			.withRegistrationNumber(REGISTRATION_NUMBER);
+
+		// Act
+		final var result = DocumentMapper.toDocumentBatchReadResult(documentReference, null, null);
+
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.isEqualTo(DocumentBatchReadResult.create()
+				.withFound(false)
+				.withRegistrationNumber(REGISTRATION_NUMBER));
+	}
+
+	@Test
+	void toDocumentBatchReadResultWhenInputIsNull() {
+		assertThat(DocumentMapper.toDocumentBatchReadResult(null, null, null)).isNull();
+	}
+
+	@Test
+	void toDocumentReference() {
+
+		// Arrange
+		final var documentEntity = DocumentEntity.create()
+			.withId(ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRevision(REVISION);
+
+		// Act
+		final var result = DocumentMapper.toDocumentReference(documentEntity);
+
+		// Assert
+		assertThat(result)
+			.isNotNull()
+			.isEqualTo(DocumentReference.create()
+				.withRegistrationNumber(REGISTRATION_NUMBER)
+				.withRevision(REVISION));
+	}
+
+	@Test
+	void toDocumentReferenceWhenInputIsNull() {
+		assertThat(DocumentMapper.toDocumentReference(null)).isNull();
+	}
+
+	@Test
+	void toDocumentDataEntitiesFromStagedFiles() throws IOException {
+
+		// Arrange
+		final var binary1 = DocumentDataBinaryEntity.create().withBinaryFile(new MariaDbBlob()).withChecksum("checksum1");
+		final var binary2 = DocumentDataBinaryEntity.create().withChunkSize(4096).withChecksum("checksum2");
 		final var mimeType = "image/png";
 		final var file = new File("src/test/resources/files/image.png");
 		final var fileName = file.getName();
-		final var multipartFile = (MultipartFile) new MockMultipartFile("file", fileName, mimeType, toByteArray(new FileInputStream(file)));
-		final var documents = DocumentFiles.create().withFiles(List.of(multipartFile));
+		final var content = toByteArray(new FileInputStream(file));
+		final var multipartFile1 = (MultipartFile) new MockMultipartFile("file", fileName, mimeType, content);
+		final var multipartFile2 = (MultipartFile) new MockMultipartFile("file", fileName, mimeType, content);
+		final var stagedFile1 = new StagedFile(multipartFile1, "checksum1", null); // Content not kept in memory
+		final var stagedFile2 = new StagedFile(multipartFile2, "checksum2", content);
 
-		when(databaseHelperMock.convertToBlob(multipartFile)).thenReturn(blob);
+		when(binaryStorerMock.apply(stagedFile1)).thenReturn(binary1);
+		when(binaryStorerMock.apply(stagedFile2)).thenReturn(binary2);
 
 		// Act
-		final var result = DocumentMapper.toDocumentDataEntities(documents, databaseHelperMock);
+		final var result = DocumentMapper.toDocumentDataEntities(List.of(stagedFile1, stagedFile2), binaryStorerMock);
 
 		// Assert
 		assertThat(result)
 			.isNotNull()
-			.isNotEmpty()
 			.extracting(
 				DocumentDataEntity::getFileName,
 				DocumentDataEntity::getMimeType,
 				DocumentDataEntity::getFileSizeInBytes,
 				DocumentDataEntity::getDocumentDataBinary)
-			.containsExactly(tuple(
-				fileName,
-				mimeType,
-				file.length(),
-				DocumentDataBinaryEntity.create().withBinaryFile(blob)));
+			.containsExactly(
+				tuple(fileName, mimeType, file.length(), binary1),
+				tuple(fileName, mimeType, file.length(), binary2));
 
-		verify(databaseHelperMock).convertToBlob(multipartFile);
+		verify(binaryStorerMock).apply(stagedFile1);
+		verify(binaryStorerMock).apply(stagedFile2);
 	}
 
 	@Test
-	void toDocumentDataEntitiesFromMultipartWhenInputIsNull() {
+	void toDocumentDataEntitiesFromStagedFilesWhenInputIsNull() {
 
 		// Act
-		final var result = DocumentMapper.toDocumentDataEntities(null, databaseHelperMock);
+		final var result = DocumentMapper.toDocumentDataEntities(null, binaryStorerMock);
 
 		// Assert
 		assertThat(result).isNull();
@@ -567,18 +766,8 @@ class DocumentMapperTest {
 					.withLegalCitation(LEGAL_CITATION))
 				.withCreatedBy(CREATED_BY)
 				.withDescription(DESCRIPTION)
-				.withDocumentData(List.of(
-					DocumentDataEntity.create()
-						.withFileName(FILE_1_NAME)
-						.withFileSizeInBytes(FILE_1_SIZE_IN_BYTES)
-						.withMimeType(MIME_TYPE_1),
-					DocumentDataEntity.create()
-						.withFileName(FILE_2_NAME)
-						.withFileSizeInBytes(FILE_2_SIZE_IN_BYTES)
-						.withMimeType(MIME_TYPE_2)))
-				.withMetadata(List.of(DocumentMetadataEmbeddable.create()
-					.withKey(METADATA_KEY)
-					.withValue(METADATA_VALUE)))
+				.withFileSet(documentEntity.getFileSet())
+				.withMetadataSet(documentEntity.getMetadataSet())
 				.withMunicipalityId(MUNICIPALITY_ID)
 				.withRegistrationNumber(REGISTRATION_NUMBER)
 				.withRevision(REVISION)
@@ -591,6 +780,8 @@ class DocumentMapperTest {
 					.withLastUpdatedBy(DOCUMENT_TYPE_UPDATED_BY)
 					.withMunicipalityId(MUNICIPALITY_ID)
 					.withType(DOCUMENT_TYPE)));
+		assertThat(result.getFileSet()).isSameAs(documentEntity.getFileSet());
+		assertThat(result.getMetadataSet()).isSameAs(documentEntity.getMetadataSet());
 	}
 
 	@Test
@@ -0,0 +1,55 @@
+package se.sundsvall.document.service.mapper;
+
+import org.junit.jupiter.api.Test;
+import se.sundsvall.document.integration.db.model.IngestionEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.document.integration.db.model.IngestionOperation.CREATE_DOCUMENT;
+import static se.sundsvall.document.integration.db.model.IngestionStatus.COMPLETED;
+
+class IngestionMapperTest {
+
+	private static final String ID = "0198a3f2-7c1e-7b3a-9c4d-2e5f6a7b8c9d";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-1337";
+
+	@Test
+	void toIngestion() {
+		// Arrange
+		final var created = now(systemDefault()).minusSeconds(5);
+		final var modified = now(systemDefault());
+		final var entity = IngestionEntity.create()
+			.withCreated(created)
+			.withError("error")
+			.withExpires(modified.plusDays(1))
+			.withFiles("[]")
+			.withId(ID)
+			.withModified(modified)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withOperation(CREATE_DOCUMENT)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withRequest("{}")
+			.withRevision(1)
+			.withStatus(COMPLETED);
+
+		// Act
+		final var ingestion = IngestionMapper.toIngestion(entity);
+
+		// Assert
+		assertThat(ingestion).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(ingestion.getCreated()).isEqualTo(created);
+		assertThat(ingestion.getError()).isEqualTo("error");
+		assertThat(ingestion.getId()).isEqualTo(ID);
+		assertThat(ingestion.getModified()).isEqualTo(modified);
+		assertThat(ingestion.getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+		assertThat(ingestion.getRevision()).isEqualTo(1);
+		assertThat(ingestion.getStatus()).isEqualTo("COMPLETED");
+	}
+
+	@Test
+	void toIngestionFromNull() {
+		assertThat(IngestionMapper.toIngestion(null)).isNull();
+	}
+}
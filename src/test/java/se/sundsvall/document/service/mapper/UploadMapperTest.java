@@ -0,0 +1,80 @@
+package se.sundsvall.document.service.mapper;
+
+import org.junit.jupiter.api.Test;
+import se.sundsvall.document.api.model.UploadCreateRequest;
+import se.sundsvall.document.integration.db.model.UploadEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadMapperTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-1337";
+	private static final String CREATED_BY = "createdBy";
+	private static final String FILE_NAME = "fileName";
+	private static final String MIME_TYPE = "mimeType";
+	private static final String ID = "5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e";
+
+	@Test
+	void toUploadEntity() {
+		// Arrange
+		final var request = UploadCreateRequest.create()
+			.withCreatedBy(CREATED_BY)
+			.withFileName(FILE_NAME)
+			.withFileSizeInBytes(1024L)
+			.withMimeType(MIME_TYPE);
+
+		// Act
+		final var entity = UploadMapper.toUploadEntity(REGISTRATION_NUMBER, request, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(entity).isNotNull().hasAllNullFieldsOrPropertiesExcept("createdBy", "fileName", "fileSizeInBytes", "mimeType", "municipalityId", "receivedBytes", "registrationNumber");
+		assertThat(entity.getCreatedBy()).isEqualTo(CREATED_BY);
+		assertThat(entity.getFileName()).isEqualTo(FILE_NAME);
+		assertThat(entity.getFileSizeInBytes()).isEqualTo(1024L);
+		assertThat(entity.getMimeType()).isEqualTo(MIME_TYPE);
+		assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+		assertThat(entity.getReceivedBytes()).isZero();
+		assertThat(entity.getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+	}
+
+	@Test
+	void toUploadEntityFromNull() {
+		assertThat(UploadMapper.toUploadEntity(REGISTRATION_NUMBER, null, MUNICIPALITY_ID)).isNull();
+	}
+
+	@Test
+	void toUpload() {
+		// Arrange
+		final var expires = now(systemDefault());
+		final var entity = UploadEntity.create()
+			.withCreatedBy(CREATED_BY)
+			.withExpires(expires)
+			.withFileName(FILE_NAME)
+			.withFileSizeInBytes(1024L)
+			.withId(ID)
+			.withMimeType(MIME_TYPE)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withReceivedBytes(512L)
+			.withRegistrationNumber(REGISTRATION_NUMBER);
+
+		// Act
+		final var upload = UploadMapper.toUpload(entity);
+
+		// Assert
+		assertThat(upload).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(upload.getExpires()).isEqualTo(expires);
+		assertThat(upload.getFileName()).isEqualTo(FILE_NAME);
+		assertThat(upload.getFileSizeInBytes()).isEqualTo(1024L);
+		assertThat(upload.getId()).isEqualTo(ID);
+		assertThat(upload.getMimeType()).isEqualTo(MIME_TYPE);
+		assertThat(upload.getReceivedBytes()).isEqualTo(512L);
+	}
+
+	@Test
+	void toUploadFromNull() {
+		assertThat(UploadMapper.toUpload(null)).isNull();
+	}
+}
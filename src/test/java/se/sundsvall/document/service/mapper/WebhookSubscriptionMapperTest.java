@@ -0,0 +1,83 @@
+package se.sundsvall.document.service.mapper;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import se.sundsvall.document.api.model.WebhookSubscriptionCreateRequest;
+import se.sundsvall.document.integration.db.model.WebhookSubscriptionEntity;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WebhookSubscriptionMapperTest {
+
+	private static final String ID = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0b01";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String URL = "http://localhost/webhook";
+	private static final String DOCUMENT_TYPE = "EMPLOYMENT_CERTIFICATE";
+
+	@Test
+	void toWebhookSubscriptionEntity() {
+		// Arrange
+		final var request = WebhookSubscriptionCreateRequest.create()
+			.withUrl(URL)
+			.withDocumentType("employment_certificate");
+
+		// Act
+		final var entity = WebhookSubscriptionMapper.toWebhookSubscriptionEntity(MUNICIPALITY_ID, request, 1337L);
+
+		// Assert
+		assertThat(entity).isNotNull().hasAllNullFieldsOrPropertiesExcept("documentType", "failedAttempts", "lastSequenceNumber", "municipalityId", "url");
+		assertThat(entity.getDocumentType()).isEqualTo(DOCUMENT_TYPE);
+		assertThat(entity.getFailedAttempts()).isZero();
+		assertThat(entity.getLastSequenceNumber()).isEqualTo(1337L);
+		assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+		assertThat(entity.getUrl()).isEqualTo(URL);
+	}
+
+	@Test
+	void toWebhookSubscriptionEntityFromNull() {
+		assertThat(WebhookSubscriptionMapper.toWebhookSubscriptionEntity(MUNICIPALITY_ID, null, 1337L)).isNull();
+	}
+
+	@Test
+	void toWebhookSubscriptions() {
+		// Arrange
+		final var created = now(systemDefault());
+		final var nextAttempt = created.plusMinutes(1);
+		final var entity = WebhookSubscriptionEntity.create()
+			.withCreated(created)
+			.withDocumentType(DOCUMENT_TYPE)
+			.withFailedAttempts(2)
+			.withId(ID)
+			.withLastSequenceNumber(1337L)
+			.withLockedUntil(created.plusMinutes(5))
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withNextAttempt(nextAttempt)
+			.withUrl(URL);
+
+		// Act
+		final var result = WebhookSubscriptionMapper.toWebhookSubscriptions(List.of(entity));
+
+		// Assert
+		assertThat(result).hasSize(1);
+		assertThat(result.getFirst()).isNotNull().hasNoNullFieldsOrProperties();
+		assertThat(result.getFirst().getCreated()).isEqualTo(created);
+		assertThat(result.getFirst().getDocumentType()).isEqualTo(DOCUMENT_TYPE);
+		assertThat(result.getFirst().getFailedAttempts()).isEqualTo(2);
+		assertThat(result.getFirst().getId()).isEqualTo(ID);
+		assertThat(result.getFirst().getLastSequenceNumber()).isEqualTo(1337L);
+		assertThat(result.getFirst().getNextAttempt()).isEqualTo(nextAttempt);
+		assertThat(result.getFirst().getUrl()).isEqualTo(URL);
+	}
+
+	@Test
+	void toWebhookSubscriptionsFromNull() {
+		assertThat(WebhookSubscriptionMapper.toWebhookSubscriptions(null)).isEmpty();
+	}
+
+	@Test
+	void toWebhookSubscriptionFromNull() {
+		assertThat(WebhookSubscriptionMapper.toWebhookSubscription(null)).isNull();
+	}
+}
@@ -0,0 +1,119 @@
+package se.sundsvall.document.service.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataEntity;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.integration.db.model.DocumentMetadataEmbeddable;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static se.sundsvall.document.service.search.SearchQuery.Field.ANY;
+import static se.sundsvall.document.service.search.SearchQuery.Field.CONTENT;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.EXACT;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.PREFIX;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.WILDCARD;
+
+class SearchQueryMatcherTest {
+
+	private static final String BINARY_ID = "binary-id";
+
+	private static final DocumentEntity DOCUMENT_ENTITY = DocumentEntity.create()
+		.withCreatedBy("User123")
+		.withDescription("Annual report")
+		.withMunicipalityId("2281")
+		.withRegistrationNumber("2023-2281-123")
+		.withDocumentData(List.of(
+			DocumentDataEntity.create().withFileName("report.pdf").withMimeType("application/pdf").withDocumentDataBinary(DocumentDataBinaryEntity.create().withId(BINARY_ID)),
+			DocumentDataEntity.create().withFileName("image.png").withMimeType("image/png")))
+		.withMetadata(List.of(
+			DocumentMetadataEmbeddable.create().withKey("department").withValue("Finance"),
+			DocumentMetadataEmbeddable.create().withKey("year").withValue("2023")));
+
+	private static Stream<Arguments> matchedFieldsArgumentsProvider() {
+		return Stream.of(
+			Arguments.of("user123", List.of("createdBy")),
+			Arguments.of("\"annual report\"", List.of("description")),
+			Arguments.of("description:annual*", List.of("description")),
+			Arguments.of("2281", List.of("municipalityId")),
+			Arguments.of("2023*", List.of("registrationNumber", "meta.year")),
+			Arguments.of("registrationNumber:2023*", List.of("registrationNumber")),
+			Arguments.of("file:*.pdf", List.of("file")),
+			Arguments.of("mimeType:image/*", List.of("mimeType")),
+			Arguments.of("image*", List.of("file", "mimeType")),
+			Arguments.of("finance", List.of("meta.department")),
+			Arguments.of("department", List.of("meta.department")),
+			Arguments.of("meta:2023", List.of("meta.year")),
+			Arguments.of("meta.department:fin*", List.of("meta.department")),
+			Arguments.of("meta.year:fin*", List.of()),
+			Arguments.of("meta:department", List.of()),
+			Arguments.of("createdBy:report.pdf", List.of()),
+			Arguments.of("finance OR file:report.pdf", List.of("meta.department", "file")),
+			Arguments.of("file:report.pdf -finance", List.of("file")),
+			Arguments.of("*", List.of()),
+			Arguments.of("description:*", List.of()));
+	}
+
+	@ParameterizedTest
+	@MethodSource("matchedFieldsArgumentsProvider")
+	void matchedFields(String query, List<String> expectedMatchedFields) {
+		assertThat(SearchQueryMatcher.matchedFields(SearchQueryParser.parse(query), DOCUMENT_ENTITY)).isEqualTo(expectedMatchedFields);
+	}
+
+	@Test
+	void matchedFieldsWithNullValues() {
+		final var searchQuery = SearchQueryParser.parse("test");
+
+		assertThat(SearchQueryMatcher.matchedFields(null, DOCUMENT_ENTITY)).isEmpty();
+		assertThat(SearchQueryMatcher.matchedFields(searchQuery, null)).isEmpty();
+		assertThat(SearchQueryMatcher.matchedFields(searchQuery, DocumentEntity.create())).isEmpty();
+	}
+
+	@Test
+	void matchedFieldsWithContentMatches() {
+		final var searchQuery = SearchQueryParser.parse("content:budget OR forecast OR annual*");
+		final var contentMatches = Map.of(
+			new Term(CONTENT, null, "budget", EXACT), Set.of(BINARY_ID),
+			new Term(ANY, null, "forecast", EXACT), Set.of("other-binary-id"));
+
+		assertThat(SearchQueryMatcher.matchedFields(searchQuery, DOCUMENT_ENTITY, contentMatches)).containsExactly("content", "description");
+		assertThat(SearchQueryMatcher.matchedFields(searchQuery, DOCUMENT_ENTITY, Map.of())).containsExactly("description");
+		assertThat(SearchQueryMatcher.matchedFields(searchQuery, DOCUMENT_ENTITY, null)).isEmpty();
+	}
+
+	private static Stream<Arguments> contentTermsArgumentsProvider() {
+		return Stream.of(
+			Arguments.of("content:budget", List.of(new Term(CONTENT, null, "budget", EXACT))),
+			Arguments.of("content:\"annual report\"*", List.of(new Term(CONTENT, null, "annual report", PREFIX))),
+			Arguments.of("budget OR (fore* AND -report)", List.of(new Term(ANY, null, "budget", EXACT), new Term(ANY, null, "fore", PREFIX))),
+			Arguments.of("content:*get*", List.of(new Term(CONTENT, null, "*get*", WILDCARD))),
+			Arguments.of("*get*", List.of()),
+			Arguments.of("content:*", List.of()),
+			Arguments.of("description:budget", List.of()));
+	}
+
+	@ParameterizedTest
+	@MethodSource("contentTermsArgumentsProvider")
+	void contentTerms(String query, List<Term> expectedContentTerms) {
+		assertThat(SearchQueryMatcher.contentTerms(SearchQueryParser.parse(query))).isEqualTo(expectedContentTerms);
+	}
+
+	@Test
+	void matches() {
+		assertThat(SearchQueryMatcher.matches(new Term(ANY, null, "Report", EXACT), "report")).isTrue();
+		assertThat(SearchQueryMatcher.matches(new Term(ANY, null, "Report", EXACT), "report.pdf")).isFalse();
+		assertThat(SearchQueryMatcher.matches(new Term(ANY, null, "rep", PREFIX), "REPORT")).isTrue();
+		assertThat(SearchQueryMatcher.matches(new Term(ANY, null, "rep", PREFIX), "a report")).isFalse();
+		assertThat(SearchQueryMatcher.matches(new Term(ANY, null, "*port.(pdf)", WILDCARD), "report.(PDF)")).isTrue();
+		assertThat(SearchQueryMatcher.matches(new Term(ANY, null, "*port.(pdf)", WILDCARD), "report.pdf")).isFalse();
+		assertThat(SearchQueryMatcher.matches(new Term(ANY, null, "*", SearchQuery.MatchType.ANY), "anything")).isTrue();
+		assertThat(SearchQueryMatcher.matches(new Term(ANY, null, "*", SearchQuery.MatchType.ANY), null)).isFalse();
+	}
+}
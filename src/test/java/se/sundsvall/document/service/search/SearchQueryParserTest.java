@@ -0,0 +1,113 @@
+package se.sundsvall.document.service.search;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.service.search.SearchQuery.And;
+import se.sundsvall.document.service.search.SearchQuery.Not;
+import se.sundsvall.document.service.search.SearchQuery.Or;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static se.sundsvall.document.service.search.SearchQuery.Field.ANY;
+import static se.sundsvall.document.service.search.SearchQuery.Field.CONTENT;
+import static se.sundsvall.document.service.search.SearchQuery.Field.CREATED_BY;
+import static se.sundsvall.document.service.search.SearchQuery.Field.DESCRIPTION;
+import static se.sundsvall.document.service.search.SearchQuery.Field.FILE;
+import static se.sundsvall.document.service.search.SearchQuery.Field.META;
+import static se.sundsvall.document.service.search.SearchQuery.Field.REGISTRATION_NUMBER;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.EXACT;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.PREFIX;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.WILDCARD;
+import static se.sundsvall.document.service.search.SearchQueryParser.MAX_NUMBER_OF_TERMS;
+
+class SearchQueryParserTest {
+
+	private static Stream<Arguments> parseArgumentsProvider() {
+		return Stream.of(
+			// Single terms
+			Arguments.of("hello", new Term(ANY, null, "hello", EXACT)),
+			Arguments.of("  hello  ", new Term(ANY, null, "hello", EXACT)),
+			Arguments.of("hello*", new Term(ANY, null, "hello", PREFIX)),
+			Arguments.of("*hello", new Term(ANY, null, "*hello", WILDCARD)),
+			Arguments.of("he*lo*", new Term(ANY, null, "he*lo*", WILDCARD)),
+			Arguments.of("*", new Term(ANY, null, "*", SearchQuery.MatchType.ANY)),
+			Arguments.of("2023-2281-123", new Term(ANY, null, "2023-2281-123", EXACT)),
+			Arguments.of("\"hello world\"", new Term(ANY, null, "hello world", EXACT)),
+			Arguments.of("\"hello wor\"*", new Term(ANY, null, "hello wor", PREFIX)),
+
+			// Scoped terms
+			Arguments.of("description:hello", new Term(DESCRIPTION, null, "hello", EXACT)),
+			Arguments.of("DESCRIPTION:hello*", new Term(DESCRIPTION, null, "hello", PREFIX)),
+			Arguments.of("createdBy:user1", new Term(CREATED_BY, null, "user1", EXACT)),
+			Arguments.of("registrationNumber:2023-2281*", new Term(REGISTRATION_NUMBER, null, "2023-2281", PREFIX)),
+			Arguments.of("file:\"my file.pdf\"", new Term(FILE, null, "my file.pdf", EXACT)),
+			Arguments.of("content:budget*", new Term(CONTENT, null, "budget", PREFIX)),
+			Arguments.of("meta:value", new Term(META, null, "value", EXACT)),
+			Arguments.of("meta.department:IT", new Term(META, "department", "IT", EXACT)),
+			Arguments.of("meta.department:\"IT support\"", new Term(META, "department", "IT support", EXACT)),
+			Arguments.of("unknown:value", new Term(ANY, null, "unknown:value", EXACT)),
+			Arguments.of("12:30", new Term(ANY, null, "12:30", EXACT)),
+
+			// Boolean operators
+			Arguments.of("hello world", new And(List.of(new Term(ANY, null, "hello", EXACT), new Term(ANY, null, "world", EXACT)))),
+			Arguments.of("hello AND world", new And(List.of(new Term(ANY, null, "hello", EXACT), new Term(ANY, null, "world", EXACT)))),
+			Arguments.of("hello OR world", new Or(List.of(new Term(ANY, null, "hello", EXACT), new Term(ANY, null, "world", EXACT)))),
+			Arguments.of("hello or world", new And(List.of(new Term(ANY, null, "hello", EXACT), new Term(ANY, null, "or", EXACT), new Term(ANY, null, "world", EXACT)))),
+			Arguments.of("NOT hello", new Not(new Term(ANY, null, "hello", EXACT))),
+			Arguments.of("-hello", new Not(new Term(ANY, null, "hello", EXACT))),
+			Arguments.of("a b OR c", new Or(List.of(new And(List.of(new Term(ANY, null, "a", EXACT), new Term(ANY, null, "b", EXACT))), new Term(ANY, null, "c", EXACT)))),
+			Arguments.of("a (b OR c)", new And(List.of(new Term(ANY, null, "a", EXACT), new Or(List.of(new Term(ANY, null, "b", EXACT), new Term(ANY, null, "c", EXACT)))))),
+			Arguments.of("-(a OR b)", new Not(new Or(List.of(new Term(ANY, null, "a", EXACT), new Term(ANY, null, "b", EXACT))))));
+	}
+
+	@ParameterizedTest
+	@MethodSource("parseArgumentsProvider")
+	void parse(String query, SearchQuery expected) {
+		assertThat(SearchQueryParser.parse(query)).isEqualTo(expected);
+	}
+
+	private static Stream<Arguments> parseInvalidQueryArgumentsProvider() {
+		return Stream.of(
+			Arguments.of("(hello", "missing ')'"),
+			Arguments.of("hello)", "unexpected ')'"),
+			Arguments.of("hello AND", "unexpected end of query"),
+			Arguments.of("OR hello", "unexpected 'OR'"),
+			Arguments.of("\"hello", "unterminated phrase"),
+			Arguments.of("\"\"", "empty phrase"),
+			Arguments.of("description:", "missing value for field 'description:'"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("parseInvalidQueryArgumentsProvider")
+	void parseInvalidQuery(String query, String expectedReason) {
+		final var exception = assertThrows(ThrowableProblem.class, () -> SearchQueryParser.parse(query));
+
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: Invalid search query: '%s' (%s)".formatted(query, expectedReason));
+	}
+
+	@ParameterizedTest
+	@NullAndEmptySource
+	@ValueSource(strings = " ")
+	void parseEmptyQuery(String query) {
+		final var exception = assertThrows(ThrowableProblem.class, () -> SearchQueryParser.parse(query));
+
+		assertThat(exception.getMessage()).startsWith("Bad Request: Invalid search query:").endsWith("(query is empty)");
+	}
+
+	@Test
+	void parseTooManyTerms() {
+		final var query = "term ".repeat(MAX_NUMBER_OF_TERMS + 1);
+
+		final var exception = assertThrows(ThrowableProblem.class, () -> SearchQueryParser.parse(query));
+
+		assertThat(exception.getMessage()).startsWith("Bad Request: Invalid search query:").endsWith("(query contains more than %s terms)".formatted(MAX_NUMBER_OF_TERMS));
+	}
+}
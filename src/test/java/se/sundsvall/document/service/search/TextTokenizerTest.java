@@ -0,0 +1,35 @@
+package se.sundsvall.document.service.search;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextTokenizerTest {
+
+	private static Stream<Arguments> tokenizeArgumentsProvider() {
+		return Stream.of(
+			Arguments.of(null, List.of()),
+			Arguments.of(" \n\t ", List.of()),
+			Arguments.of("Annual report", List.of("annual", "report")),
+			Arguments.of("Annual REPORT, annual report!", List.of("annual", "report")),
+			Arguments.of("Sidsjö skola 2023-2281-123", List.of("sidsjö", "skola", "2023", "2281", "123")),
+			Arguments.of("a report.pdf", List.of("report", "pdf")),
+			Arguments.of("x".repeat(65) + " " + "y".repeat(64), List.of("y".repeat(64))));
+	}
+
+	@ParameterizedTest
+	@MethodSource("tokenizeArgumentsProvider")
+	void tokenize(String text, List<String> expectedTerms) {
+		assertThat(TextTokenizer.tokenize(text)).isEqualTo(expectedTerms);
+	}
+
+	@Test
+	void tokenizeWithMaxTerms() {
+		assertThat(TextTokenizer.tokenize("one two two three four", 3)).containsExactly("one", "two", "three");
+	}
+}
@@ -0,0 +1,94 @@
+package se.sundsvall.document.service.storage;
+
+import java.io.IOException;
+import java.util.function.LongFunction;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryContentInputStreamTest {
+
+	@Mock
+	private LongFunction<byte[]> chunkReaderMock;
+
+	@Test
+	void readAllBytes() throws IOException {
+
+		// Arrange
+		when(chunkReaderMock.apply(0)).thenReturn(new byte[] {
+			1, 2, 3, 4
+		});
+		when(chunkReaderMock.apply(1)).thenReturn(new byte[] {
+			5, 6
+		});
+
+		// Act
+		try (final var inputStream = new BinaryContentInputStream(chunkReaderMock, 6)) {
+			final var result = inputStream.readAllBytes();
+
+			// Assert
+			assertThat(result).containsExactly(1, 2, 3, 4, 5, 6);
+		}
+
+		verify(chunkReaderMock).apply(0);
+		verify(chunkReaderMock).apply(1);
+		verifyNoMoreInteractions(chunkReaderMock);
+	}
+
+	@Test
+	void readSingleBytes() throws IOException {
+
+		// Arrange
+		when(chunkReaderMock.apply(0)).thenReturn(new byte[] {
+			-1, 2
+		});
+
+		// Act
+		try (final var inputStream = new BinaryContentInputStream(chunkReaderMock, 2)) {
+
+			// Assert
+			assertThat(inputStream.read()).isEqualTo(255);
+			assertThat(inputStream.read()).isEqualTo(2);
+			assertThat(inputStream.read()).isEqualTo(-1);
+		}
+
+		verify(chunkReaderMock).apply(0);
+		verifyNoMoreInteractions(chunkReaderMock);
+	}
+
+	@Test
+	void readWhenContentEndsBeforeLength() throws IOException {
+
+		// Arrange
+		when(chunkReaderMock.apply(0)).thenReturn(new byte[0]);
+
+		// Act
+		try (final var inputStream = new BinaryContentInputStream(chunkReaderMock, 10)) {
+
+			// Assert
+			assertThat(inputStream.read(new byte[4], 0, 4)).isEqualTo(-1);
+		}
+	}
+
+	@Test
+	void readEmptyContent() throws IOException {
+
+		// Act
+		try (final var inputStream = new BinaryContentInputStream(chunkReaderMock, 0)) {
+
+			// Assert
+			assertThat(inputStream.read(new byte[4], 0, 0)).isZero();
+			assertThat(inputStream.read()).isEqualTo(-1);
+		}
+
+		verifyNoInteractions(chunkReaderMock);
+	}
+}
@@ -0,0 +1,402 @@
+package se.sundsvall.document.service.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mariadb.jdbc.MariaDbBlob;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MultipartFile;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.configuration.ChunkedStorageProperties;
+import se.sundsvall.document.configuration.FileStreamingProperties;
+import se.sundsvall.document.integration.db.DatabaseHelper;
+import se.sundsvall.document.integration.db.DocumentDataBinaryChunkRepository;
+import se.sundsvall.document.integration.db.DocumentDataBinaryRepository;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
+import se.sundsvall.document.service.ingestion.StagedFile;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR;
+
+@ExtendWith(MockitoExtension.class)
+class BinaryStorageServiceTest {
+
+	private static final String BINARY_ID = "binary-id";
+	private static final int CHUNK_SIZE = 4;
+	private static final byte[] CONTENT = {
+		0, 1, 2, 3, 4, 5, 6, 7, 8, 9
+	};
+
+	@Mock
+	private DocumentDataBinaryRepository documentDataBinaryRepositoryMock;
+
+	@Mock
+	private DocumentDataBinaryChunkRepository documentDataBinaryChunkRepositoryMock;
+
+	@Mock
+	private DatabaseHelper databaseHelperMock;
+
+	@Mock
+	private FileContentCache fileContentCacheMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	private BinaryStorageService binaryStorageService;
+
+	@AfterEach
+	void shutdown() {
+		if (binaryStorageService != null) {
+			binaryStorageService.shutdown();
+		}
+	}
+
+	@Test
+	void store() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var blob = new MariaDbBlob();
+		final var multipartFile = new MockMultipartFile("file", "file.txt", "text/plain", CONTENT);
+
+		when(databaseHelperMock.convertContentToBlob(CONTENT)).thenReturn(blob);
+
+		// Act
+		final var result = binaryStorageService.store(new StagedFile(multipartFile, "checksum", CONTENT));
+
+		// Assert
+		assertThat(result).isEqualTo(DocumentDataBinaryEntity.create()
+			.withBinaryFile(blob)
+			.withChecksum("checksum")
+			.withFileSizeInBytes((long) CONTENT.length));
+		verifyNoInteractions(documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock);
+	}
+
+	@Test
+	void storeWhenContentIsNotInMemory() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var blob = new MariaDbBlob();
+		final var multipartFile = new MockMultipartFile("file", "file.txt", "text/plain", CONTENT);
+
+		when(databaseHelperMock.convertToBlob(multipartFile)).thenReturn(blob);
+
+		// Act
+		final var result = binaryStorageService.store(new StagedFile(multipartFile, "checksum", null));
+
+		// Assert
+		assertThat(result.getBinaryFile()).isSameAs(blob);
+		assertThat(result.getChunkSize()).isNull();
+		verifyNoInteractions(documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock);
+	}
+
+	@Test
+	void storeInChunks() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(true);
+		final var multipartFile = new MockMultipartFile("file", "file.txt", "text/plain", CONTENT);
+
+		when(documentDataBinaryRepositoryMock.saveAndFlush(any(DocumentDataBinaryEntity.class))).thenAnswer(invocation -> invocation.getArgument(0, DocumentDataBinaryEntity.class).withId(BINARY_ID));
+
+		// Act
+		final var result = binaryStorageService.store(new StagedFile(multipartFile, "checksum", null));
+
+		// Assert
+		assertThat(result).isEqualTo(DocumentDataBinaryEntity.create()
+			.withId(BINARY_ID)
+			.withChecksum("checksum")
+			.withChunkSize(CHUNK_SIZE)
+			.withFileSizeInBytes((long) CONTENT.length));
+		verify(documentDataBinaryChunkRepositoryMock).insertChunk(BINARY_ID, 0, new byte[] {
+			0, 1, 2, 3
+		});
+		verify(documentDataBinaryChunkRepositoryMock).insertChunk(BINARY_ID, 1, new byte[] {
+			4, 5, 6, 7
+		});
+		verify(documentDataBinaryChunkRepositoryMock).insertChunk(BINARY_ID, 2, new byte[] {
+			8, 9
+		});
+		verifyNoInteractions(databaseHelperMock);
+	}
+
+	@Test
+	void storeInChunksWhenFileCouldNotBeRead() throws IOException {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(true);
+		final var multipartFile = mock(MultipartFile.class);
+
+		when(multipartFile.getSize()).thenReturn(10L);
+		when(multipartFile.getOriginalFilename()).thenReturn("file.txt");
+		when(multipartFile.getInputStream()).thenThrow(new IOException("Connection reset"));
+		when(documentDataBinaryRepositoryMock.saveAndFlush(any(DocumentDataBinaryEntity.class))).thenAnswer(invocation -> invocation.getArgument(0, DocumentDataBinaryEntity.class).withId(BINARY_ID));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> binaryStorageService.store(new StagedFile(multipartFile, "checksum", null)));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(INTERNAL_SERVER_ERROR);
+		assertThat(exception.getDetail()).isEqualTo("Could not store the content of file: 'file.txt'!");
+		verifyNoInteractions(documentDataBinaryChunkRepositoryMock);
+	}
+
+	@Test
+	void storeWhenNull() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(true);
+
+		// Act
+		final var result = binaryStorageService.store(null);
+
+		// Assert
+		assertThat(result).isNull();
+		verifyNoInteractions(documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock, databaseHelperMock);
+	}
+
+	@Test
+	void find() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+
+		when(documentDataBinaryRepositoryMock.findBinaryFileLength(BINARY_ID)).thenReturn(Optional.of(10L));
+		when(documentDataBinaryRepositoryMock.findChunkSize(BINARY_ID)).thenReturn(Optional.of(1024));
+
+		// Act
+		final var result = binaryStorageService.find(BINARY_ID);
+
+		// Assert
+		assertThat(result).isEqualTo(new BinaryContent(BINARY_ID, 10, 1024, true));
+	}
+
+	@Test
+	void findWhenNotStoredInChunks() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+
+		when(documentDataBinaryRepositoryMock.findBinaryFileLength(BINARY_ID)).thenReturn(Optional.empty());
+		when(documentDataBinaryRepositoryMock.findChunkSize(BINARY_ID)).thenReturn(Optional.empty());
+
+		// Act
+		final var result = binaryStorageService.find(BINARY_ID);
+
+		// Assert
+		assertThat(result).isEqualTo(new BinaryContent(BINARY_ID, 0, 0, false));
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+		"0, 9", "0, 0", "3, 8", "4, 7", "9, 9"
+	})
+	void copy(long start, long end) throws IOException {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var outputStream = new ByteArrayOutputStream();
+
+		mockTransactionTemplate();
+		mockCopyBinaryFile(CONTENT);
+
+		// Act
+		binaryStorageService.copy(new BinaryContent(BINARY_ID, CONTENT.length, 0, false), start, end, outputStream);
+
+		// Assert
+		assertThat(outputStream.toByteArray()).isEqualTo(Arrays.copyOfRange(CONTENT, (int) start, (int) end + 1));
+		verify(databaseHelperMock).copyBinaryFile(eq(BINARY_ID), any());
+		verifyNoInteractions(documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock);
+	}
+
+	@Test
+	void copyWhenLengthDiffers() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var content = new BinaryContent(BINARY_ID, CONTENT.length + 1, 0, false);
+
+		mockTransactionTemplate();
+		mockCopyBinaryFile(CONTENT);
+
+		// Act
+		final var exception = assertThrows(IOException.class, () -> binaryStorageService.copy(content, 0, CONTENT.length, new ByteArrayOutputStream()));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Content of binary with ID: 'binary-id' is 10 bytes, expected 11!");
+	}
+
+	@Test
+	void copyFromCache() throws IOException {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var outputStream = new ByteArrayOutputStream();
+
+		when(fileContentCacheMock.copy(eq(BINARY_ID), eq((long) CONTENT.length), eq(3L), eq(8L), any(), same(outputStream))).thenReturn(true);
+
+		// Act
+		binaryStorageService.copy(new BinaryContent(BINARY_ID, CONTENT.length, 0, false), 3, 8, outputStream);
+
+		// Assert
+		assertThat(outputStream.toByteArray()).isEmpty();
+		verifyNoInteractions(documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock, databaseHelperMock);
+	}
+
+	@Test
+	void copyWhenLoadedIntoCache() throws IOException {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var cacheStream = new ByteArrayOutputStream();
+
+		mockTransactionTemplate();
+		mockCopyBinaryFile(CONTENT);
+		when(fileContentCacheMock.copy(eq(BINARY_ID), eq((long) CONTENT.length), eq(3L), eq(8L), any(), any())).thenAnswer(invocation -> {
+			invocation.getArgument(4, FileContentCache.Loader.class).load(cacheStream);
+			return true;
+		});
+
+		// Act
+		binaryStorageService.copy(new BinaryContent(BINARY_ID, CONTENT.length, 0, false), 3, 8, new ByteArrayOutputStream());
+
+		// Assert
+		assertThat(cacheStream.toByteArray()).isEqualTo(CONTENT);
+		verify(databaseHelperMock).copyBinaryFile(eq(BINARY_ID), any());
+	}
+
+	@Test
+	void copyStoredInChunks() throws IOException {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var outputStream = new ByteArrayOutputStream();
+
+		when(documentDataBinaryChunkRepositoryMock.findChunk(eq(BINARY_ID), anyInt())).thenAnswer(invocation -> {
+			final var from = invocation.getArgument(1, Integer.class) * 3;
+			return Arrays.copyOfRange(CONTENT, from, Math.min(from + 3, CONTENT.length));
+		});
+
+		// Act
+		binaryStorageService.copy(new BinaryContent(BINARY_ID, CONTENT.length, 3, true), 2, 9, outputStream);
+
+		// Assert
+		assertThat(outputStream.toByteArray()).containsExactly(2, 3, 4, 5, 6, 7, 8, 9);
+		verify(documentDataBinaryChunkRepositoryMock).findChunk(BINARY_ID, 0);
+		verify(documentDataBinaryChunkRepositoryMock).findChunk(BINARY_ID, 1);
+		verify(documentDataBinaryChunkRepositoryMock).findChunk(BINARY_ID, 2);
+		verify(documentDataBinaryChunkRepositoryMock).findChunk(BINARY_ID, 3);
+	}
+
+	@Test
+	void copyWhenContentIsIncomplete() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var content = new BinaryContent(BINARY_ID, CONTENT.length, CHUNK_SIZE, true);
+
+		// Chunks are read in parallel, so the content of a chunk is decided by its index
+		when(documentDataBinaryChunkRepositoryMock.findChunk(eq(BINARY_ID), anyInt())).thenAnswer(invocation -> invocation.getArgument(1, Integer.class) == 0 ? new byte[] {
+			0, 1, 2, 3
+		} : null);
+
+		// Act
+		final var exception = assertThrows(IOException.class, () -> binaryStorageService.copy(content, 0, 9, new ByteArrayOutputStream()));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Chunk 1 of binary with ID: 'binary-id' is incomplete!");
+	}
+
+	@Test
+	void copyWhenReadFails() {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+		final var content = new BinaryContent(BINARY_ID, CONTENT.length, CHUNK_SIZE, true);
+
+		when(documentDataBinaryChunkRepositoryMock.findChunk(eq(BINARY_ID), anyInt())).thenThrow(new IllegalStateException("Connection refused"));
+
+		// Act
+		final var exception = assertThrows(IllegalStateException.class, () -> binaryStorageService.copy(content, 0, 9, new ByteArrayOutputStream()));
+
+		// Assert
+		assertThat(exception.getMessage()).isEqualTo("Connection refused");
+	}
+
+	@Test
+	void newInputStream() throws IOException {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+
+		when(documentDataBinaryChunkRepositoryMock.findChunk(eq(BINARY_ID), anyInt())).thenAnswer(invocation -> {
+			final var from = invocation.getArgument(1, Integer.class) * CHUNK_SIZE;
+			return Arrays.copyOfRange(CONTENT, from, Math.min(from + CHUNK_SIZE, CONTENT.length));
+		});
+
+		// Act
+		try (var inputStream = binaryStorageService.newInputStream(new BinaryContent(BINARY_ID, CONTENT.length, CHUNK_SIZE, true))) {
+
+			// Assert
+			assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+		}
+	}
+
+	@Test
+	void newInputStreamWhenNotStoredInChunks() throws IOException {
+
+		// Arrange
+		binaryStorageService = createBinaryStorageService(false);
+
+		mockTransactionTemplate();
+		mockCopyBinaryFile(CONTENT);
+
+		// Act
+		try (var inputStream = binaryStorageService.newInputStream(new BinaryContent(BINARY_ID, CONTENT.length, 0, false))) {
+
+			// Assert
+			assertThat(inputStream.readAllBytes()).isEqualTo(CONTENT);
+		}
+		verifyNoInteractions(documentDataBinaryChunkRepositoryMock);
+	}
+
+	private void mockTransactionTemplate() {
+		doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)).when(transactionTemplateMock).execute(any());
+	}
+
+	private void mockCopyBinaryFile(final byte[] content) {
+		when(databaseHelperMock.copyBinaryFile(eq(BINARY_ID), any())).thenAnswer(invocation -> {
+			invocation.getArgument(1, OutputStream.class).write(content);
+			return (long) content.length;
+		});
+	}
+
+	private BinaryStorageService createBinaryStorageService(final boolean chunkedStorageEnabled) {
+		return new BinaryStorageService(documentDataBinaryRepositoryMock, documentDataBinaryChunkRepositoryMock, databaseHelperMock,
+			new ChunkedStorageProperties(chunkedStorageEnabled, DataSize.ofBytes(CHUNK_SIZE)),
+			new FileStreamingProperties(1, 2), fileContentCacheMock, transactionTemplateMock);
+	}
+}
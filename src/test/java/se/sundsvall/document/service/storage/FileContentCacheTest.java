@@ -0,0 +1,252 @@
+package se.sundsvall.document.service.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.document.configuration.FileCacheProperties;
+
+import static java.lang.Thread.State.WAITING;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class FileContentCacheTest {
+
+	private static final byte[] CONTENT = {
+		0, 1, 2, 3, 4, 5, 6, 7, 8, 9
+	};
+	private static final long MAX_FILE_SIZE = 20;
+
+	@TempDir
+	private Path directory;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AtomicInteger loads = new AtomicInteger();
+
+	@Test
+	void copyWhenNotCached() throws IOException {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(true, 100);
+		final var outputStream = new ByteArrayOutputStream();
+
+		// Act
+		final var result = fileContentCache.copy("binary-1", CONTENT.length, 0, 9, this::load, outputStream);
+
+		// Assert
+		assertThat(result).isTrue();
+		assertThat(outputStream.toByteArray()).isEqualTo(CONTENT);
+		assertThat(loads).hasValue(1);
+		assertThat(directory.resolve("binary-1")).hasBinaryContent(CONTENT);
+		assertThat(meterRegistry.get("document.file-cache.requests").tag("result", "miss").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("document.file-cache.size").gauge().value()).isEqualTo(CONTENT.length);
+	}
+
+	@Test
+	void copyWhenCached() throws IOException {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(true, 100);
+		final var outputStream = new ByteArrayOutputStream();
+
+		fileContentCache.copy("binary-1", CONTENT.length, 0, 9, this::load, new ByteArrayOutputStream());
+
+		// Act
+		final var result = fileContentCache.copy("binary-1", CONTENT.length, 3, 7, this::load, outputStream);
+
+		// Assert
+		assertThat(result).isTrue();
+		assertThat(outputStream.toByteArray()).containsExactly(3, 4, 5, 6, 7);
+		assertThat(loads).hasValue(1);
+		assertThat(meterRegistry.get("document.file-cache.requests").tag("result", "hit").counter().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("document.file-cache.hit-ratio").gauge().value()).isEqualTo(0.5);
+	}
+
+	@Test
+	void copyWhenDisabled() throws IOException {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(false, 100);
+		final var outputStream = new ByteArrayOutputStream();
+
+		// Act
+		final var result = fileContentCache.copy("binary-1", CONTENT.length, 0, 9, this::load, outputStream);
+
+		// Assert
+		assertThat(result).isFalse();
+		assertThat(outputStream.toByteArray()).isEmpty();
+		assertThat(loads).hasValue(0);
+		assertThat(directory).isEmptyDirectory();
+	}
+
+	@Test
+	void copyWhenContentIsTooLarge() throws IOException {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(true, 100);
+
+		// Act
+		final var result = fileContentCache.copy("binary-1", MAX_FILE_SIZE + 1, 0, MAX_FILE_SIZE, this::load, new ByteArrayOutputStream());
+
+		// Assert
+		assertThat(result).isFalse();
+		assertThat(loads).hasValue(0);
+	}
+
+	@Test
+	void copyWhenLoadFails() throws IOException {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(true, 100);
+		final var outputStream = new ByteArrayOutputStream();
+
+		// Act
+		final var result = fileContentCache.copy("binary-1", CONTENT.length, 0, 9, cacheStream -> {
+			cacheStream.write(CONTENT, 0, 4);
+			throw new IOException("Chunk 1 is incomplete");
+		}, outputStream);
+
+		// Assert
+		assertThat(result).isFalse();
+		assertThat(outputStream.toByteArray()).isEmpty();
+		assertThat(directory).isEmptyDirectory();
+		assertThat(meterRegistry.get("document.file-cache.size").gauge().value()).isZero();
+	}
+
+	@Test
+	void copyWhenLoadedContentIsShorterThanLength() throws IOException {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(true, 100);
+
+		// Act
+		final var result = fileContentCache.copy("binary-1", CONTENT.length + 1, 0, 10, this::load, new ByteArrayOutputStream());
+
+		// Assert
+		assertThat(result).isFalse();
+		assertThat(directory).isEmptyDirectory();
+	}
+
+	@Test
+	@Timeout(10)
+	void copyWhenLoadIsInFlight() throws Exception {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(true, 100);
+		final var release = new CountDownLatch(1);
+		final FileContentCache.Loader loader = cacheStream -> {
+			load(cacheStream);
+			awaitQuietly(release);
+		};
+		final var firstStream = new ByteArrayOutputStream();
+		final var secondStream = new ByteArrayOutputStream();
+
+		final var firstThread = Thread.ofPlatform().start(() -> copyQuietly(fileContentCache, loader, firstStream));
+		while (loads.get() == 0) {
+			Thread.onSpinWait();
+		}
+
+		// Act
+		final var secondThread = Thread.ofPlatform().start(() -> copyQuietly(fileContentCache, loader, secondStream));
+		while (secondThread.getState() != WAITING) {
+			Thread.onSpinWait();
+		}
+		release.countDown();
+		firstThread.join();
+		secondThread.join();
+
+		// Assert
+		assertThat(firstStream.toByteArray()).isEqualTo(CONTENT);
+		assertThat(secondStream.toByteArray()).isEqualTo(CONTENT);
+		assertThat(loads).hasValue(1);
+	}
+
+	@Test
+	void copyEvictsLeastRecentlyRead() throws IOException {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(true, 25);
+
+		fileContentCache.copy("binary-1", CONTENT.length, 0, 9, this::load, new ByteArrayOutputStream());
+		fileContentCache.copy("binary-2", CONTENT.length, 0, 9, this::load, new ByteArrayOutputStream());
+		fileContentCache.copy("binary-1", CONTENT.length, 0, 9, this::load, new ByteArrayOutputStream());
+
+		// Act
+		fileContentCache.copy("binary-3", CONTENT.length, 0, 9, this::load, new ByteArrayOutputStream());
+
+		// Assert
+		assertThat(directory.resolve("binary-1")).exists();
+		assertThat(directory.resolve("binary-2")).doesNotExist();
+		assertThat(directory.resolve("binary-3")).exists();
+		assertThat(meterRegistry.get("document.file-cache.size").gauge().value()).isEqualTo(20);
+	}
+
+	@Test
+	void evict() throws IOException {
+
+		// Arrange
+		final var fileContentCache = createFileContentCache(true, 100);
+
+		fileContentCache.copy("binary-1", CONTENT.length, 0, 9, this::load, new ByteArrayOutputStream());
+		fileContentCache.copy("binary-2", CONTENT.length, 0, 9, this::load, new ByteArrayOutputStream());
+
+		// Act
+		fileContentCache.evict(List.of("binary-1"));
+
+		// Assert
+		assertThat(directory.resolve("binary-1")).doesNotExist();
+		assertThat(directory.resolve("binary-2")).exists();
+		assertThat(meterRegistry.get("document.file-cache.size").gauge().value()).isEqualTo(CONTENT.length);
+
+		fileContentCache.copy("binary-1", CONTENT.length, 0, 9, this::load, new ByteArrayOutputStream());
+		assertThat(loads).hasValue(3);
+	}
+
+	@Test
+	void clearsDirectoryAtStartup() throws IOException {
+
+		// Arrange
+		Files.write(directory.resolve("binary-1"), CONTENT);
+
+		// Act
+		createFileContentCache(true, 100);
+
+		// Assert
+		assertThat(directory).isEmptyDirectory();
+	}
+
+	private void load(final OutputStream outputStream) throws IOException {
+		loads.incrementAndGet();
+		outputStream.write(CONTENT);
+	}
+
+	private static void copyQuietly(final FileContentCache fileContentCache, final FileContentCache.Loader loader, final OutputStream outputStream) {
+		try {
+			fileContentCache.copy("binary-1", CONTENT.length, 0, 9, loader, outputStream);
+		} catch (final IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private static void awaitQuietly(final CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (final InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private FileContentCache createFileContentCache(final boolean enabled, final long maxSize) {
+		return new FileContentCache(new FileCacheProperties(enabled, directory, DataSize.ofBytes(maxSize), DataSize.ofBytes(MAX_FILE_SIZE)), meterRegistry);
+	}
+}
@@ -0,0 +1,62 @@
+package se.sundsvall.document.service.textindex;
+
+import java.io.FileInputStream;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.document.configuration.TextIndexProperties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextExtractorTest {
+
+	@Test
+	void extract() throws Exception {
+
+		// Arrange
+		final var textExtractor = new TextExtractor(createProperties(1000));
+
+		// Act
+		try (final var inputStream = new FileInputStream("src/test/resources/files/readme.txt")) {
+			final var result = textExtractor.extract(inputStream, "text/plain");
+
+			// Assert
+			assertThat(result).contains("This is a readme.");
+		}
+	}
+
+	@Test
+	void extractWithoutMimeType() throws Exception {
+
+		// Arrange
+		final var textExtractor = new TextExtractor(createProperties(1000));
+
+		// Act
+		try (final var inputStream = new FileInputStream("src/test/resources/files/readme.txt")) {
+			final var result = textExtractor.extract(inputStream, null);
+
+			// Assert
+			assertThat(result).contains("This is a readme.");
+		}
+	}
+
+	@Test
+	void extractTruncatesLongText() throws Exception {
+
+		// Arrange
+		final var textExtractor = new TextExtractor(createProperties(7));
+
+		// Act
+		try (final var inputStream = new FileInputStream("src/test/resources/files/readme.txt")) {
+			final var result = textExtractor.extract(inputStream, "text/plain");
+
+			// Assert
+			assertThat(result).isEqualTo("This is");
+		}
+	}
+
+	private static TextIndexProperties createProperties(final int maxTextLength) {
+		return new TextIndexProperties(true, 1, 1, DataSize.ofMegabytes(1), maxTextLength, 100, List.of("text/"), Duration.ofMinutes(10));
+	}
+}
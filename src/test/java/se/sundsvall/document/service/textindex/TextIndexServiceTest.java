@@ -0,0 +1,408 @@
+package se.sundsvall.document.service.textindex;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.apache.tika.exception.TikaException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.document.configuration.TextIndexProperties;
+import se.sundsvall.document.integration.db.DocumentDataBinaryRepository;
+import se.sundsvall.document.integration.db.DocumentDataTextRepository;
+import se.sundsvall.document.integration.db.model.DocumentDataBinaryEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataEntity;
+import se.sundsvall.document.integration.db.model.DocumentDataTextEntity;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.service.search.SearchQuery.Term;
+import se.sundsvall.document.service.search.SearchQueryParser;
+import se.sundsvall.document.service.storage.BinaryContent;
+import se.sundsvall.document.service.storage.BinaryStorageService;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.temporal.ChronoUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.FAILED;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.INDEXED;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.PENDING;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.PROCESSING;
+import static se.sundsvall.document.integration.db.model.TextIndexStatus.SKIPPED;
+import static se.sundsvall.document.service.search.SearchQuery.Field.ANY;
+import static se.sundsvall.document.service.search.SearchQuery.Field.CONTENT;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.EXACT;
+import static se.sundsvall.document.service.search.SearchQuery.MatchType.PREFIX;
+
+@ExtendWith(MockitoExtension.class)
+class TextIndexServiceTest {
+
+	private static final String BINARY_ID = "binary-id";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final int QUEUE_CAPACITY = 10;
+	private static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(10);
+
+	@Mock
+	private DocumentDataTextRepository documentDataTextRepositoryMock;
+
+	@Mock
+	private DocumentDataBinaryRepository documentDataBinaryRepositoryMock;
+
+	@Mock
+	private TextExtractor textExtractorMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Mock
+	private ApplicationEventPublisher applicationEventPublisherMock;
+
+	@Mock
+	private BinaryStorageService binaryStorageServiceMock;
+
+	@Captor
+	private ArgumentCaptor<List<DocumentDataTextEntity>> documentDataTextEntitiesCaptor;
+
+	@Captor
+	private ArgumentCaptor<DocumentDataTextEntity> documentDataTextEntityCaptor;
+
+	@Captor
+	private ArgumentCaptor<OffsetDateTime> offsetDateTimeCaptor;
+
+	private TextIndexService textIndexService;
+
+	@AfterEach
+	void shutdown() {
+		if (textIndexService != null) {
+			textIndexService.shutdown();
+		}
+	}
+
+	@Test
+	void requestIndexing() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+
+		// Act
+		textIndexService.requestIndexing(new ArrayList<>(Arrays.asList("id-1", null, "id-2", "id-1")));
+
+		// Assert
+		verify(documentDataTextRepositoryMock).saveAll(documentDataTextEntitiesCaptor.capture());
+		verify(applicationEventPublisherMock).publishEvent(new TextIndexRequestedEvent(List.of("id-1", "id-2")));
+		assertThat(documentDataTextEntitiesCaptor.getValue())
+			.extracting(DocumentDataTextEntity::getId, DocumentDataTextEntity::getStatus)
+			.containsExactly(
+				tuple("id-1", PENDING),
+				tuple("id-2", PENDING));
+	}
+
+	@Test
+	void requestIndexingWithoutBinaryIds() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+
+		// Act
+		textIndexService.requestIndexing(List.of());
+
+		// Assert
+		verifyNoInteractions(documentDataTextRepositoryMock, applicationEventPublisherMock);
+	}
+
+	@Test
+	void onTextIndexRequestedWhenDisabled() {
+
+		// Arrange
+		textIndexService = createTextIndexService(false);
+
+		// Act
+		textIndexService.onTextIndexRequested(new TextIndexRequestedEvent(List.of(BINARY_ID)));
+
+		// Assert
+		verifyNoInteractions(documentDataTextRepositoryMock, documentDataBinaryRepositoryMock, textExtractorMock, transactionTemplateMock);
+	}
+
+	@Test
+	void onTextIndexRequested() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		when(transactionTemplateMock.execute(any())).thenReturn(true);
+
+		// Act
+		textIndexService.onTextIndexRequested(new TextIndexRequestedEvent(List.of(BINARY_ID)));
+
+		// Assert
+		verify(documentDataBinaryRepositoryMock, timeout(5000)).findMimeType(BINARY_ID);
+		verify(transactionTemplateMock, timeout(5000)).executeWithoutResult(any());
+	}
+
+	@Test
+	void indexSupportedFile() throws Exception {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		mockTransactionTemplate();
+		when(documentDataTextRepositoryMock.updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		final var content = new BinaryContent(BINARY_ID, 100, 64, false);
+		when(documentDataBinaryRepositoryMock.findMimeType(BINARY_ID)).thenReturn(Optional.of("text/plain"));
+		when(binaryStorageServiceMock.find(BINARY_ID)).thenReturn(content);
+		when(binaryStorageServiceMock.newInputStream(content)).thenReturn(new ByteArrayInputStream(new byte[100]));
+		when(textExtractorMock.extract(any(InputStream.class), eq("text/plain"))).thenReturn("Annual report: the annual budget");
+		when(documentDataTextRepositoryMock.findById(BINARY_ID)).thenReturn(Optional.of(DocumentDataTextEntity.create().withId(BINARY_ID).withStatus(PROCESSING)));
+
+		// Act
+		textIndexService.index(BINARY_ID);
+
+		// Assert
+		verify(documentDataTextRepositoryMock).save(documentDataTextEntityCaptor.capture());
+		assertThat(documentDataTextEntityCaptor.getValue().getStatus()).isEqualTo(INDEXED);
+		assertThat(documentDataTextEntityCaptor.getValue().getTerms()).containsExactly("annual", "report", "the", "budget");
+	}
+
+	@Test
+	void indexUnsupportedFile() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		mockTransactionTemplate();
+		when(documentDataTextRepositoryMock.updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(documentDataBinaryRepositoryMock.findMimeType(BINARY_ID)).thenReturn(Optional.of("image/png"));
+		when(documentDataTextRepositoryMock.findById(BINARY_ID)).thenReturn(Optional.of(DocumentDataTextEntity.create().withId(BINARY_ID).withStatus(PROCESSING)));
+
+		// Act
+		textIndexService.index(BINARY_ID);
+
+		// Assert
+		verify(documentDataTextRepositoryMock).save(documentDataTextEntityCaptor.capture());
+		assertThat(documentDataTextEntityCaptor.getValue().getStatus()).isEqualTo(SKIPPED);
+		assertThat(documentDataTextEntityCaptor.getValue().getTerms()).isEmpty();
+		verifyNoInteractions(textExtractorMock, binaryStorageServiceMock);
+	}
+
+	@Test
+	void indexTooLargeFile() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		mockTransactionTemplate();
+		when(documentDataTextRepositoryMock.updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(documentDataBinaryRepositoryMock.findMimeType(BINARY_ID)).thenReturn(Optional.of("text/plain"));
+		when(binaryStorageServiceMock.find(BINARY_ID)).thenReturn(new BinaryContent(BINARY_ID, DataSize.ofKilobytes(2).toBytes(), 64, false));
+		when(documentDataTextRepositoryMock.findById(BINARY_ID)).thenReturn(Optional.of(DocumentDataTextEntity.create().withId(BINARY_ID).withStatus(PROCESSING)));
+
+		// Act
+		textIndexService.index(BINARY_ID);
+
+		// Assert
+		verify(documentDataTextRepositoryMock).save(documentDataTextEntityCaptor.capture());
+		assertThat(documentDataTextEntityCaptor.getValue().getStatus()).isEqualTo(SKIPPED);
+		verify(binaryStorageServiceMock, never()).newInputStream(any());
+		verifyNoInteractions(textExtractorMock);
+	}
+
+	@Test
+	void indexWhenExtractionFails() throws Exception {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		mockTransactionTemplate();
+		when(documentDataTextRepositoryMock.updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		final var content = new BinaryContent(BINARY_ID, 100, 64, false);
+		when(documentDataBinaryRepositoryMock.findMimeType(BINARY_ID)).thenReturn(Optional.of("application/pdf"));
+		when(binaryStorageServiceMock.find(BINARY_ID)).thenReturn(content);
+		when(binaryStorageServiceMock.newInputStream(content)).thenReturn(new ByteArrayInputStream(new byte[100]));
+		when(textExtractorMock.extract(any(InputStream.class), eq("application/pdf"))).thenThrow(new TikaException("Corrupt file"));
+		when(documentDataTextRepositoryMock.findById(BINARY_ID)).thenReturn(Optional.of(DocumentDataTextEntity.create().withId(BINARY_ID).withStatus(PROCESSING)));
+
+		// Act
+		textIndexService.index(BINARY_ID);
+
+		// Assert
+		verify(documentDataTextRepositoryMock).save(documentDataTextEntityCaptor.capture());
+		assertThat(documentDataTextEntityCaptor.getValue().getStatus()).isEqualTo(FAILED);
+	}
+
+	@Test
+	void indexWhenTextIndexIsRemoved() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		mockTransactionTemplate();
+		when(documentDataTextRepositoryMock.updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(documentDataBinaryRepositoryMock.findMimeType(BINARY_ID)).thenReturn(Optional.empty());
+		when(documentDataTextRepositoryMock.findById(BINARY_ID)).thenReturn(Optional.empty());
+
+		// Act
+		textIndexService.index(BINARY_ID);
+
+		// Assert
+		verify(documentDataTextRepositoryMock).updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any());
+		verify(documentDataTextRepositoryMock).findById(BINARY_ID);
+		verifyNoMoreInteractions(documentDataTextRepositoryMock);
+	}
+
+	@Test
+	void indexWhenClaimedByAnotherWorker() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		mockTransactionTemplate();
+		when(documentDataTextRepositoryMock.updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(0);
+
+		// Act
+		textIndexService.index(BINARY_ID);
+
+		// Assert
+		verify(documentDataTextRepositoryMock).updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any());
+		verifyNoMoreInteractions(documentDataTextRepositoryMock);
+		verifyNoInteractions(documentDataBinaryRepositoryMock, binaryStorageServiceMock, textExtractorMock);
+	}
+
+	@Test
+	void indexWhenQueuedAgainDuringExtraction() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		mockTransactionTemplate();
+		when(documentDataTextRepositoryMock.updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(documentDataBinaryRepositoryMock.findMimeType(BINARY_ID)).thenReturn(Optional.of("image/png"));
+		when(documentDataTextRepositoryMock.findById(BINARY_ID)).thenReturn(Optional.of(DocumentDataTextEntity.create().withId(BINARY_ID).withStatus(PENDING)));
+
+		// Act
+		textIndexService.index(BINARY_ID);
+
+		// Assert
+		verify(documentDataTextRepositoryMock, never()).save(any());
+	}
+
+	@Test
+	void sweep() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		mockTransactionTemplate();
+		when(documentDataTextRepositoryMock.updateStatus(eq(BINARY_ID), eq(PENDING), eq(PROCESSING), any())).thenReturn(1);
+		when(documentDataTextRepositoryMock.findIdsByStatus(PENDING, PageRequest.of(0, QUEUE_CAPACITY))).thenReturn(List.of(BINARY_ID));
+
+		// Act
+		textIndexService.sweep();
+
+		// Assert
+		verify(documentDataTextRepositoryMock).updateStatusModifiedBefore(eq(PROCESSING), eq(PENDING), offsetDateTimeCaptor.capture());
+		assertThat(offsetDateTimeCaptor.getValue()).isCloseTo(now().minus(CLAIM_TIMEOUT), within(5, SECONDS));
+		verify(documentDataTextRepositoryMock).findIdsByStatus(PENDING, PageRequest.of(0, QUEUE_CAPACITY));
+		verify(documentDataBinaryRepositoryMock, timeout(5000)).findMimeType(BINARY_ID);
+		verify(documentDataTextRepositoryMock, timeout(5000)).findById(BINARY_ID);
+	}
+
+	@Test
+	void sweepWhenDisabled() {
+
+		// Arrange
+		textIndexService = createTextIndexService(false);
+
+		// Act
+		textIndexService.sweep();
+
+		// Assert
+		verifyNoInteractions(documentDataTextRepositoryMock, documentDataBinaryRepositoryMock);
+	}
+
+	@Test
+	void reindex() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		when(documentDataTextRepositoryMock.updatePendingForMunicipalityId(MUNICIPALITY_ID)).thenReturn(3);
+		when(documentDataTextRepositoryMock.insertPendingForMunicipalityId(MUNICIPALITY_ID)).thenReturn(2);
+
+		// Act
+		final var result = textIndexService.reindex(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isEqualTo(5);
+		verify(documentDataTextRepositoryMock).updatePendingForMunicipalityId(MUNICIPALITY_ID);
+		verify(documentDataTextRepositoryMock).insertPendingForMunicipalityId(MUNICIPALITY_ID);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findContentMatches() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+		final var documentEntity = DocumentEntity.create()
+			.withDocumentData(List.of(DocumentDataEntity.create().withDocumentDataBinary(DocumentDataBinaryEntity.create().withId(BINARY_ID))));
+		when(documentDataTextRepositoryMock.findAll(any(Specification.class)))
+			.thenReturn(List.of(DocumentDataTextEntity.create().withId(BINARY_ID)))
+			.thenReturn(List.of());
+
+		// Act
+		final var result = textIndexService.findContentMatches(SearchQueryParser.parse("content:budget OR fore* OR description:budget"), List.of(documentEntity));
+
+		// Assert
+		assertThat(result)
+			.containsEntry(new Term(CONTENT, null, "budget", EXACT), Set.of(BINARY_ID))
+			.containsEntry(new Term(ANY, null, "fore", PREFIX), Set.of())
+			.hasSize(2);
+	}
+
+	@Test
+	void findContentMatchesWithoutFiles() {
+
+		// Arrange
+		textIndexService = createTextIndexService(true);
+
+		// Act
+		final var result = textIndexService.findContentMatches(SearchQueryParser.parse("content:budget"), List.of(DocumentEntity.create()));
+
+		// Assert
+		assertThat(result).isEmpty();
+		verifyNoInteractions(documentDataTextRepositoryMock);
+	}
+
+	private TextIndexService createTextIndexService(final boolean enabled) {
+		final var textIndexProperties = new TextIndexProperties(enabled, 1, QUEUE_CAPACITY, DataSize.ofKilobytes(1), 1000, 100, List.of("text/", "application/pdf"), CLAIM_TIMEOUT);
+
+		return new TextIndexService(documentDataTextRepositoryMock, documentDataBinaryRepositoryMock, textExtractorMock, textIndexProperties, binaryStorageServiceMock,
+			transactionTemplateMock, applicationEventPublisherMock);
+	}
+
+	private void mockTransactionTemplate() {
+		lenient().doAnswer(invocation -> {
+			invocation.<Consumer<Object>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplateMock).executeWithoutResult(any());
+		lenient().when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+}
@@ -0,0 +1,444 @@
+package se.sundsvall.document.service.upload;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mariadb.jdbc.MariaDbBlob;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.api.model.Document;
+import se.sundsvall.document.api.model.DocumentDataCreateRequest;
+import se.sundsvall.document.api.model.UploadCreateRequest;
+import se.sundsvall.document.configuration.UploadProperties;
+import se.sundsvall.document.integration.db.DatabaseHelper;
+import se.sundsvall.document.integration.db.DocumentRepository;
+import se.sundsvall.document.integration.db.UploadChunkRepository;
+import se.sundsvall.document.integration.db.UploadRepository;
+import se.sundsvall.document.integration.db.model.DocumentEntity;
+import se.sundsvall.document.integration.db.model.UploadChunkEntity;
+import se.sundsvall.document.integration.db.model.UploadEntity;
+import se.sundsvall.document.service.DocumentService;
+import se.sundsvall.document.service.ingestion.StagedFile;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static java.time.temporal.ChronoUnit.MINUTES;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.BAD_REQUEST;
+import static org.springframework.http.HttpStatus.CONFLICT;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+import static se.sundsvall.document.service.InclusionFilter.CONFIDENTIAL_AND_PUBLIC;
+
+@ExtendWith(MockitoExtension.class)
+class UploadServiceTest {
+
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String REGISTRATION_NUMBER = "2023-2281-1337";
+	private static final String UPLOAD_ID = "5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e";
+	private static final String CREATED_BY = "User1";
+	private static final String FILE_NAME = "file.txt";
+	private static final String MIME_TYPE = "text/plain";
+
+	@Mock
+	private UploadRepository uploadRepositoryMock;
+
+	@Mock
+	private UploadChunkRepository uploadChunkRepositoryMock;
+
+	@Mock
+	private DocumentRepository documentRepositoryMock;
+
+	@Mock
+	private DocumentService documentServiceMock;
+
+	@Mock
+	private DatabaseHelper databaseHelperMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Captor
+	private ArgumentCaptor<UploadEntity> uploadEntityCaptor;
+
+	@Captor
+	private ArgumentCaptor<UploadChunkEntity> uploadChunkEntityCaptor;
+
+	@Captor
+	private ArgumentCaptor<DocumentDataCreateRequest> documentDataCreateRequestCaptor;
+
+	private UploadService uploadService;
+
+	@BeforeEach
+	void setup() {
+		final var uploadProperties = new UploadProperties(DataSize.ofBytes(10), DataSize.ofBytes(4), Duration.ofHours(1), Duration.ofHours(1));
+		uploadService = new UploadService(uploadRepositoryMock, uploadChunkRepositoryMock, documentRepositoryMock, documentServiceMock, databaseHelperMock, uploadProperties, transactionTemplateMock);
+	}
+
+	@Test
+	void create() {
+
+		// Arrange
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(MUNICIPALITY_ID, REGISTRATION_NUMBER, CONFIDENTIAL_AND_PUBLIC.getValue()))
+			.thenReturn(Optional.of(DocumentEntity.create()));
+		when(uploadRepositoryMock.save(any())).thenAnswer(invocation -> invocation.<UploadEntity>getArgument(0).withId(UPLOAD_ID));
+
+		// Act
+		final var result = uploadService.create(REGISTRATION_NUMBER, uploadCreateRequest(10L), MUNICIPALITY_ID);
+
+		// Assert
+		verify(uploadRepositoryMock).save(uploadEntityCaptor.capture());
+		assertThat(uploadEntityCaptor.getValue()).satisfies(entity -> {
+			assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+			assertThat(entity.getRegistrationNumber()).isEqualTo(REGISTRATION_NUMBER);
+			assertThat(entity.getCreatedBy()).isEqualTo(CREATED_BY);
+			assertThat(entity.getFileName()).isEqualTo(FILE_NAME);
+			assertThat(entity.getMimeType()).isEqualTo(MIME_TYPE);
+			assertThat(entity.getFileSizeInBytes()).isEqualTo(10L);
+			assertThat(entity.getReceivedBytes()).isZero();
+			assertThat(entity.getCreated()).isCloseTo(now(systemDefault()), within(1, MINUTES));
+			assertThat(entity.getExpires()).isEqualTo(entity.getCreated().plusHours(1));
+		});
+		assertThat(result.getId()).isEqualTo(UPLOAD_ID);
+		assertThat(result.getReceivedBytes()).isZero();
+	}
+
+	@Test
+	void createWhenDocumentNotFound() {
+
+		// Arrange
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(any(), any(), any())).thenReturn(Optional.empty());
+		final var request = uploadCreateRequest(10L);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.create(REGISTRATION_NUMBER, request, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(NOT_FOUND);
+		assertThat(exception.getMessage()).isEqualTo("Not Found: No document with registrationNumber: '2023-2281-1337' could be found!");
+		verifyNoInteractions(uploadRepositoryMock);
+	}
+
+	@Test
+	void createWhenFileTooLarge() {
+
+		// Arrange
+		when(documentRepositoryMock.findTopByMunicipalityIdAndRegistrationNumberAndConfidentialityConfidentialInOrderByRevisionDesc(any(), any(), any())).thenReturn(Optional.of(DocumentEntity.create()));
+		final var request = uploadCreateRequest(11L);
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.create(REGISTRATION_NUMBER, request, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: The file size 11 is larger than the maximum file size of 10 bytes!");
+		verifyNoInteractions(uploadRepositoryMock);
+	}
+
+	@Test
+	void read() {
+
+		// Arrange
+		when(uploadRepositoryMock.findByIdAndMunicipalityIdAndRegistrationNumberAndExpiresAfter(eq(UPLOAD_ID), eq(MUNICIPALITY_ID), eq(REGISTRATION_NUMBER), any()))
+			.thenReturn(Optional.of(uploadEntity(4)));
+
+		// Act
+		final var result = uploadService.read(REGISTRATION_NUMBER, UPLOAD_ID, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo(UPLOAD_ID);
+		assertThat(result.getReceivedBytes()).isEqualTo(4);
+	}
+
+	@Test
+	void readWhenNotFound() {
+
+		// Arrange
+		when(uploadRepositoryMock.findByIdAndMunicipalityIdAndRegistrationNumberAndExpiresAfter(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.read(REGISTRATION_NUMBER, UPLOAD_ID, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(NOT_FOUND);
+		assertThat(exception.getMessage()).isEqualTo("Not Found: No upload with ID: '5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e' could be found!");
+	}
+
+	@Test
+	void appendChunk() {
+
+		// Arrange
+		mockTransactionTemplate();
+		final var blob = new MariaDbBlob();
+		when(uploadRepositoryMock.findAndLock(eq(UPLOAD_ID), eq(MUNICIPALITY_ID), eq(REGISTRATION_NUMBER), any())).thenReturn(Optional.of(uploadEntity(4)));
+		when(databaseHelperMock.convertContentToBlob("efgh".getBytes(UTF_8))).thenReturn(blob);
+		when(uploadRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// Act
+		final var result = uploadService.appendChunk(REGISTRATION_NUMBER, UPLOAD_ID, 4, inputStream("efgh"), MUNICIPALITY_ID);
+
+		// Assert
+		verify(uploadChunkRepositoryMock).save(uploadChunkEntityCaptor.capture());
+		assertThat(uploadChunkEntityCaptor.getValue()).satisfies(entity -> {
+			assertThat(entity.getUploadId()).isEqualTo(UPLOAD_ID);
+			assertThat(entity.getChunkOffset()).isEqualTo(4);
+			assertThat(entity.getContent()).isSameAs(blob);
+		});
+		assertThat(result.getReceivedBytes()).isEqualTo(8);
+		assertThat(result.getExpires()).isCloseTo(now(systemDefault()).plusHours(1), within(1, MINUTES));
+	}
+
+	@Test
+	void appendChunkWhenChunkTooLarge() {
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.appendChunk(REGISTRATION_NUMBER, UPLOAD_ID, 0, inputStream("abcde"), MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: The chunk is larger than the maximum chunk size of 4 bytes!");
+		verifyNoInteractions(transactionTemplateMock, uploadRepositoryMock, uploadChunkRepositoryMock);
+	}
+
+	@Test
+	void appendChunkWhenChunkCouldNotBeRead() throws IOException {
+
+		// Arrange
+		final var inputStream = mock(InputStream.class);
+		when(inputStream.readNBytes(5)).thenThrow(new IOException("Connection reset"));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.appendChunk(REGISTRATION_NUMBER, UPLOAD_ID, 0, inputStream, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: Could not read chunk of upload with ID: '5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e'!");
+		verifyNoInteractions(transactionTemplateMock);
+	}
+
+	@Test
+	void appendChunkWhenOffsetMismatch() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(uploadRepositoryMock.findAndLock(eq(UPLOAD_ID), eq(MUNICIPALITY_ID), eq(REGISTRATION_NUMBER), any())).thenReturn(Optional.of(uploadEntity(8)));
+		final var content = inputStream("efgh");
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.appendChunk(REGISTRATION_NUMBER, UPLOAD_ID, 4, content, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(CONFLICT);
+		assertThat(exception.getMessage()).isEqualTo("Conflict: The chunk offset 4 does not match the number of received bytes 8!");
+		verifyNoInteractions(uploadChunkRepositoryMock);
+		verify(uploadRepositoryMock, never()).save(any());
+	}
+
+	@Test
+	void appendChunkWhenBeyondFileSize() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(uploadRepositoryMock.findAndLock(eq(UPLOAD_ID), eq(MUNICIPALITY_ID), eq(REGISTRATION_NUMBER), any())).thenReturn(Optional.of(uploadEntity(8)));
+		final var content = inputStream("ijk");
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.appendChunk(REGISTRATION_NUMBER, UPLOAD_ID, 8, content, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(BAD_REQUEST);
+		assertThat(exception.getMessage()).isEqualTo("Bad Request: The chunk ends at byte 11, beyond the file size of 10 bytes!");
+		verifyNoInteractions(uploadChunkRepositoryMock);
+	}
+
+	@Test
+	void complete() {
+
+		// Arrange
+		mockTransactionTemplate();
+		mockExecuteWithoutResult();
+		final var uploadEntity = uploadEntity(10);
+		final var document = Document.create();
+		final var stagedContent = new AtomicReference<String>();
+		final var stagedFile = new AtomicReference<StagedFile>();
+		when(uploadRepositoryMock.findAndLock(eq(UPLOAD_ID), eq(MUNICIPALITY_ID), eq(REGISTRATION_NUMBER), any())).thenReturn(Optional.of(uploadEntity));
+		when(uploadRepositoryMock.save(uploadEntity)).thenReturn(uploadEntity);
+		when(uploadChunkRepositoryMock.findIdsByUploadId(UPLOAD_ID)).thenReturn(List.of("chunk1", "chunk2", "chunk3"));
+		when(uploadChunkRepositoryMock.findContentById("chunk1")).thenReturn(new MariaDbBlob("abcd".getBytes(UTF_8)));
+		when(uploadChunkRepositoryMock.findContentById("chunk2")).thenReturn(new MariaDbBlob("efgh".getBytes(UTF_8)));
+		when(uploadChunkRepositoryMock.findContentById("chunk3")).thenReturn(new MariaDbBlob("ij".getBytes(UTF_8)));
+		when(documentServiceMock.addOrReplaceStagedFile(eq(REGISTRATION_NUMBER), documentDataCreateRequestCaptor.capture(), any(), eq(1), eq(MUNICIPALITY_ID), any())).thenAnswer(invocation -> {
+			// The staging file only exists while the upload is completed
+			stagedFile.set(invocation.getArgument(2));
+			stagedContent.set(new String(stagedFile.get().file().getBytes(), UTF_8));
+			invocation.<Runnable>getArgument(5).run();
+			return document;
+		});
+
+		// Act
+		final var result = uploadService.complete(REGISTRATION_NUMBER, UPLOAD_ID, 1, MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).isSameAs(document);
+		assertThat(uploadEntity.getExpires()).isCloseTo(now(systemDefault()).plusHours(1), within(1, MINUTES));
+		assertThat(documentDataCreateRequestCaptor.getValue().getCreatedBy()).isEqualTo(CREATED_BY);
+		assertThat(stagedContent.get()).isEqualTo("abcdefghij");
+		assertThat(stagedFile.get().checksum()).isEqualTo("72399361da6a7754fec986dca5b7cbaf1c810a28ded4abaf56b2106d06cb78b0");
+		assertThat(stagedFile.get().content()).isNull();
+		assertThat(stagedFile.get().file().getOriginalFilename()).isEqualTo(FILE_NAME);
+		assertThat(stagedFile.get().file().getContentType()).isEqualTo(MIME_TYPE);
+		assertThat(stagedFile.get().file().getSize()).isEqualTo(10);
+		verify(uploadChunkRepositoryMock).deleteByUploadId(UPLOAD_ID);
+		verify(uploadRepositoryMock).delete(uploadEntity);
+	}
+
+	@Test
+	void completeWhenIncomplete() {
+
+		// Arrange
+		mockTransactionTemplate();
+		when(uploadRepositoryMock.findAndLock(eq(UPLOAD_ID), eq(MUNICIPALITY_ID), eq(REGISTRATION_NUMBER), any())).thenReturn(Optional.of(uploadEntity(8)));
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.complete(REGISTRATION_NUMBER, UPLOAD_ID, null, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(CONFLICT);
+		assertThat(exception.getMessage()).isEqualTo("Conflict: Upload with ID: '5d4c7c7e-4b0b-4f6a-9f0e-2b8a0b8a7f3e' is incomplete, 8 of 10 bytes have been received!");
+		verifyNoInteractions(documentServiceMock, uploadChunkRepositoryMock);
+		verify(uploadRepositoryMock, never()).delete(any());
+	}
+
+	@Test
+	void completeWhenRemovedWhileAssembled() {
+
+		// Arrange
+		mockTransactionTemplate();
+		mockExecuteWithoutResult();
+		final var uploadEntity = uploadEntity(10);
+		when(uploadRepositoryMock.findAndLock(eq(UPLOAD_ID), eq(MUNICIPALITY_ID), eq(REGISTRATION_NUMBER), any()))
+			.thenReturn(Optional.of(uploadEntity))
+			.thenReturn(Optional.empty());
+		when(uploadRepositoryMock.save(uploadEntity)).thenReturn(uploadEntity);
+		when(uploadChunkRepositoryMock.findIdsByUploadId(UPLOAD_ID)).thenReturn(List.of("chunk1"));
+		when(uploadChunkRepositoryMock.findContentById("chunk1")).thenReturn(new MariaDbBlob("abcdefghij".getBytes(UTF_8)));
+		when(documentServiceMock.addOrReplaceStagedFile(any(), any(), any(), any(), any(), any())).thenAnswer(invocation -> {
+			invocation.<Runnable>getArgument(5).run();
+			return Document.create();
+		});
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.complete(REGISTRATION_NUMBER, UPLOAD_ID, null, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(NOT_FOUND);
+		verify(uploadChunkRepositoryMock, never()).deleteByUploadId(any());
+		verify(uploadRepositoryMock, never()).delete(any());
+	}
+
+	@Test
+	void delete() {
+
+		// Arrange
+		final var uploadEntity = uploadEntity(4);
+		when(uploadRepositoryMock.findAndLock(eq(UPLOAD_ID), eq(MUNICIPALITY_ID), eq(REGISTRATION_NUMBER), any())).thenReturn(Optional.of(uploadEntity));
+
+		// Act
+		uploadService.delete(REGISTRATION_NUMBER, UPLOAD_ID, MUNICIPALITY_ID);
+
+		// Assert
+		verify(uploadChunkRepositoryMock).deleteByUploadId(UPLOAD_ID);
+		verify(uploadRepositoryMock).delete(uploadEntity);
+	}
+
+	@Test
+	void deleteWhenNotFound() {
+
+		// Arrange
+		when(uploadRepositoryMock.findAndLock(any(), any(), any(), any())).thenReturn(Optional.empty());
+
+		// Act
+		final var exception = assertThrows(ThrowableProblem.class, () -> uploadService.delete(REGISTRATION_NUMBER, UPLOAD_ID, MUNICIPALITY_ID));
+
+		// Assert
+		assertThat(exception.getStatus()).isEqualTo(NOT_FOUND);
+		verifyNoInteractions(uploadChunkRepositoryMock);
+	}
+
+	@Test
+	void removeExpired() {
+
+		// Arrange
+		mockExecuteWithoutResult();
+		final var nowCaptor = ArgumentCaptor.forClass(OffsetDateTime.class);
+
+		// Act
+		uploadService.removeExpired();
+
+		// Assert
+		verify(uploadChunkRepositoryMock).deleteByExpiredUploads(nowCaptor.capture());
+		verify(uploadRepositoryMock).deleteExpired(nowCaptor.getValue());
+		assertThat(nowCaptor.getValue()).isCloseTo(now(systemDefault()), within(1, MINUTES));
+	}
+
+	private void mockTransactionTemplate() {
+		when(transactionTemplateMock.execute(any())).thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+	}
+
+	private void mockExecuteWithoutResult() {
+		doAnswer(invocation -> {
+			invocation.<Consumer<Object>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplateMock).executeWithoutResult(any());
+	}
+
+	private static UploadCreateRequest uploadCreateRequest(final long fileSizeInBytes) {
+		return UploadCreateRequest.create()
+			.withCreatedBy(CREATED_BY)
+			.withFileName(FILE_NAME)
+			.withMimeType(MIME_TYPE)
+			.withFileSizeInBytes(fileSizeInBytes);
+	}
+
+	private static UploadEntity uploadEntity(final long receivedBytes) {
+		return UploadEntity.create()
+			.withId(UPLOAD_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withRegistrationNumber(REGISTRATION_NUMBER)
+			.withCreatedBy(CREATED_BY)
+			.withFileName(FILE_NAME)
+			.withMimeType(MIME_TYPE)
+			.withFileSizeInBytes(10)
+			.withReceivedBytes(receivedBytes)
+			.withExpires(now(systemDefault()).plusHours(1));
+	}
+
+	private static InputStream inputStream(final String content) {
+		return new ByteArrayInputStream(content.getBytes(UTF_8));
+	}
+}
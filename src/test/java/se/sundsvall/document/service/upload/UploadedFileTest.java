@@ -0,0 +1,54 @@
+package se.sundsvall.document.service.upload;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UploadedFileTest {
+
+	@TempDir
+	private Path tempDir;
+
+	@Test
+	void uploadedFile() throws IOException {
+
+		// Arrange
+		final var path = Files.writeString(tempDir.resolve("staging"), "content", UTF_8);
+		final var target = tempDir.resolve("target");
+
+		// Act
+		final var file = new UploadedFile(path, "file.txt", "text/plain", 7);
+		file.transferTo(target.toFile());
+
+		// Assert
+		assertThat(file.getName()).isEqualTo("documentFile");
+		assertThat(file.getOriginalFilename()).isEqualTo("file.txt");
+		assertThat(file.getContentType()).isEqualTo("text/plain");
+		assertThat(file.getSize()).isEqualTo(7);
+		assertThat(file.isEmpty()).isFalse();
+		assertThat(file.getBytes()).isEqualTo("content".getBytes(UTF_8));
+		try (var inputStream = file.getInputStream()) {
+			assertThat(inputStream.readAllBytes()).isEqualTo("content".getBytes(UTF_8));
+		}
+		assertThat(Files.readString(target, UTF_8)).isEqualTo("content");
+	}
+
+	@Test
+	void uploadedFileWhenEmpty() throws IOException {
+
+		// Arrange
+		final var path = Files.createFile(tempDir.resolve("staging"));
+
+		// Act
+		final var file = new UploadedFile(path, "file.txt", null, 0);
+
+		// Assert
+		assertThat(file.isEmpty()).isTrue();
+		assertThat(file.getBytes()).isEmpty();
+	}
+}
@@ -0,0 +1,242 @@
+package se.sundsvall.document.service.webhook;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import se.sundsvall.document.api.model.DocumentChange;
+import se.sundsvall.document.api.model.DocumentChanges;
+import se.sundsvall.document.configuration.WebhookProperties;
+import se.sundsvall.document.integration.db.DocumentChangeRepository;
+import se.sundsvall.document.integration.db.WebhookSubscriptionRepository;
+import se.sundsvall.document.integration.db.model.DocumentChangeEntity;
+import se.sundsvall.document.integration.db.model.WebhookSubscriptionEntity;
+import se.sundsvall.document.integration.webhook.WebhookClient;
+
+import static java.time.OffsetDateTime.now;
+import static java.time.ZoneId.systemDefault;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static se.sundsvall.document.integration.db.model.DocumentChangeType.REVISED;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookDispatcherTest {
+
+	private static final String SUBSCRIPTION_ID = "subscription-id";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String URL = "http://localhost/webhook";
+	private static final String DOCUMENT_TYPE = "EMPLOYMENT_CERTIFICATE";
+	private static final int BATCH_SIZE = 2;
+
+	@Mock
+	private WebhookSubscriptionRepository webhookSubscriptionRepositoryMock;
+
+	@Mock
+	private DocumentChangeRepository documentChangeRepositoryMock;
+
+	@Mock
+	private WebhookClient webhookClientMock;
+
+	@Mock
+	private TransactionTemplate transactionTemplateMock;
+
+	@Captor
+	private ArgumentCaptor<DocumentChanges> documentChangesCaptor;
+
+	private WebhookDispatcher webhookDispatcher;
+
+	@AfterEach
+	void shutdown() {
+		if (webhookDispatcher != null) {
+			webhookDispatcher.shutdown();
+		}
+	}
+
+	@Test
+	void deliverInBatches() {
+
+		// Arrange
+		webhookDispatcher = createWebhookDispatcher(true);
+		final var subscription = createSubscription(null, 0);
+		mockTransactionTemplate();
+		when(webhookSubscriptionRepositoryMock.lock(eq(SUBSCRIPTION_ID), any(), any())).thenReturn(1);
+		when(webhookSubscriptionRepositoryMock.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(subscription));
+		when(documentChangeRepositoryMock.findLatestSequenceNumber(MUNICIPALITY_ID)).thenReturn(Optional.of(3L));
+		when(documentChangeRepositoryMock.findChanges(MUNICIPALITY_ID, 0, 3, null, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of(createChange(1), createChange(2)));
+		when(documentChangeRepositoryMock.findChanges(MUNICIPALITY_ID, 2, 3, null, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of(createChange(3)));
+
+		// Act
+		webhookDispatcher.deliver(SUBSCRIPTION_ID);
+
+		// Assert
+		verify(webhookClientMock, times(2)).deliver(eq(URI.create(URL)), documentChangesCaptor.capture());
+		verify(webhookSubscriptionRepositoryMock, times(2)).save(subscription);
+		assertThat(documentChangesCaptor.getAllValues())
+			.extracting(DocumentChanges::getCursor)
+			.containsExactly(2L, 3L);
+		assertThat(documentChangesCaptor.getAllValues().getFirst().getChanges())
+			.extracting(DocumentChange::getSequenceNumber)
+			.containsExactly(1L, 2L);
+		assertThat(subscription.getLastSequenceNumber()).isEqualTo(3);
+		assertThat(subscription.getFailedAttempts()).isZero();
+		assertThat(subscription.getNextAttempt()).isNull();
+		assertThat(subscription.getLockedUntil()).isNull();
+	}
+
+	@Test
+	void deliverSkipsChangesOfOtherDocumentTypes() {
+
+		// Arrange
+		webhookDispatcher = createWebhookDispatcher(true);
+		final var subscription = createSubscription(DOCUMENT_TYPE, 1);
+		mockTransactionTemplate();
+		when(webhookSubscriptionRepositoryMock.lock(eq(SUBSCRIPTION_ID), any(), any())).thenReturn(1);
+		when(webhookSubscriptionRepositoryMock.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(subscription));
+		when(documentChangeRepositoryMock.findLatestSequenceNumber(MUNICIPALITY_ID)).thenReturn(Optional.of(5L));
+		when(documentChangeRepositoryMock.findChanges(MUNICIPALITY_ID, 1, 5, DOCUMENT_TYPE, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of());
+
+		// Act
+		webhookDispatcher.deliver(SUBSCRIPTION_ID);
+
+		// Assert
+		verify(webhookSubscriptionRepositoryMock).save(subscription);
+		verifyNoInteractions(webhookClientMock);
+		assertThat(subscription.getLastSequenceNumber()).isEqualTo(5);
+		assertThat(subscription.getLockedUntil()).isNull();
+	}
+
+	@Test
+	void deliverFails() {
+
+		// Arrange
+		webhookDispatcher = createWebhookDispatcher(true);
+		final var subscription = createSubscription(null, 0).withFailedAttempts(1);
+		mockTransactionTemplate();
+		when(webhookSubscriptionRepositoryMock.lock(eq(SUBSCRIPTION_ID), any(), any())).thenReturn(1);
+		when(webhookSubscriptionRepositoryMock.findById(SUBSCRIPTION_ID)).thenReturn(Optional.of(subscription));
+		when(documentChangeRepositoryMock.findLatestSequenceNumber(MUNICIPALITY_ID)).thenReturn(Optional.of(1L));
+		when(documentChangeRepositoryMock.findChanges(MUNICIPALITY_ID, 0, 1, null, PageRequest.of(0, BATCH_SIZE))).thenReturn(List.of(createChange(1)));
+		when(webhookClientMock.deliver(any(), any())).thenThrow(new RuntimeException("Connection refused"));
+
+		// Act
+		webhookDispatcher.deliver(SUBSCRIPTION_ID);
+
+		// Assert
+		verify(webhookSubscriptionRepositoryMock).save(subscription);
+		assertThat(subscription.getLastSequenceNumber()).isZero();
+		assertThat(subscription.getFailedAttempts()).isEqualTo(2);
+		assertThat(subscription.getNextAttempt()).isCloseTo(now(systemDefault()).plusSeconds(20), within(Duration.ofSeconds(5)));
+		assertThat(subscription.getLockedUntil()).isNull();
+	}
+
+	@Test
+	void deliverWhenLockedByOtherWorker() {
+
+		// Arrange
+		webhookDispatcher = createWebhookDispatcher(true);
+		doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)).when(transactionTemplateMock).execute(any());
+		when(webhookSubscriptionRepositoryMock.lock(eq(SUBSCRIPTION_ID), any(), any())).thenReturn(0);
+
+		// Act
+		webhookDispatcher.deliver(SUBSCRIPTION_ID);
+
+		// Assert
+		verify(webhookSubscriptionRepositoryMock).lock(eq(SUBSCRIPTION_ID), any(), any());
+		verifyNoMoreInteractions(webhookSubscriptionRepositoryMock);
+		verifyNoInteractions(documentChangeRepositoryMock, webhookClientMock);
+	}
+
+	@Test
+	void retryDelay() {
+
+		// Arrange
+		webhookDispatcher = createWebhookDispatcher(true);
+
+		// Act and assert
+		assertThat(webhookDispatcher.retryDelay(1)).isEqualTo(Duration.ofSeconds(10));
+		assertThat(webhookDispatcher.retryDelay(2)).isEqualTo(Duration.ofSeconds(20));
+		assertThat(webhookDispatcher.retryDelay(3)).isEqualTo(Duration.ofSeconds(40));
+		assertThat(webhookDispatcher.retryDelay(4)).isEqualTo(Duration.ofMinutes(1));
+		assertThat(webhookDispatcher.retryDelay(100)).isEqualTo(Duration.ofMinutes(1));
+	}
+
+	@Test
+	void sweep() {
+
+		// Arrange
+		webhookDispatcher = createWebhookDispatcher(true);
+		when(webhookSubscriptionRepositoryMock.findDueIds(any(), eq(PageRequest.of(0, 1)))).thenReturn(List.of(SUBSCRIPTION_ID));
+
+		// Act
+		webhookDispatcher.sweep();
+
+		// Assert
+		verify(transactionTemplateMock, timeout(5000)).execute(any());
+	}
+
+	@Test
+	void sweepWhenDisabled() {
+
+		// Arrange
+		webhookDispatcher = createWebhookDispatcher(false);
+
+		// Act
+		webhookDispatcher.sweep();
+
+		// Assert
+		verify(webhookSubscriptionRepositoryMock, never()).findDueIds(any(), any());
+		verifyNoInteractions(transactionTemplateMock);
+	}
+
+	private WebhookDispatcher createWebhookDispatcher(final boolean enabled) {
+		final var webhookProperties = new WebhookProperties(enabled, Duration.ofSeconds(10), 1, BATCH_SIZE, Duration.ofMinutes(5), Duration.ofSeconds(10), Duration.ofMinutes(1), 5, 10, List.of());
+		return new WebhookDispatcher(webhookSubscriptionRepositoryMock, documentChangeRepositoryMock, webhookClientMock, webhookProperties, transactionTemplateMock);
+	}
+
+	private static WebhookSubscriptionEntity createSubscription(final String documentType, final long lastSequenceNumber) {
+		return WebhookSubscriptionEntity.create()
+			.withId(SUBSCRIPTION_ID)
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withUrl(URL)
+			.withDocumentType(documentType)
+			.withLastSequenceNumber(lastSequenceNumber);
+	}
+
+	private static DocumentChangeEntity createChange(final long sequenceNumber) {
+		return DocumentChangeEntity.create()
+			.withMunicipalityId(MUNICIPALITY_ID)
+			.withSequenceNumber(sequenceNumber)
+			.withRegistrationNumber("2023-2281-123")
+			.withRevision((int) sequenceNumber)
+			.withType(REVISED);
+	}
+
+	private void mockTransactionTemplate() {
+		doAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)).when(transactionTemplateMock).execute(any());
+		doAnswer(invocation -> {
+			invocation.<Consumer<Object>>getArgument(0).accept(null);
+			return null;
+		}).when(transactionTemplateMock).executeWithoutResult(any());
+	}
+}
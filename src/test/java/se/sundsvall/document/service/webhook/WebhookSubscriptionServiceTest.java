@@ -0,0 +1,166 @@
+package se.sundsvall.document.service.webhook;
+
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import se.sundsvall.dept44.problem.ThrowableProblem;
+import se.sundsvall.document.api.model.WebhookSubscription;
+import se.sundsvall.document.api.model.WebhookSubscriptionCreateRequest;
+import se.sundsvall.document.integration.db.DocumentChangeRepository;
+import se.sundsvall.document.integration.db.DocumentTypeRepository;
+import se.sundsvall.document.integration.db.WebhookSubscriptionRepository;
+import se.sundsvall.document.integration.db.model.DocumentTypeEntity;
+import se.sundsvall.document.integration.db.model.WebhookSubscriptionEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.http.HttpStatus.NOT_FOUND;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookSubscriptionServiceTest {
+
+	private static final String ID = "0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0b01";
+	private static final String MUNICIPALITY_ID = "2281";
+	private static final String URL = "http://localhost/webhook";
+	private static final String DOCUMENT_TYPE = "EMPLOYMENT_CERTIFICATE";
+
+	@Mock
+	private WebhookSubscriptionRepository webhookSubscriptionRepositoryMock;
+
+	@Mock
+	private DocumentTypeRepository documentTypeRepositoryMock;
+
+	@Mock
+	private DocumentChangeRepository documentChangeRepositoryMock;
+
+	@InjectMocks
+	private WebhookSubscriptionService service;
+
+	@Captor
+	private ArgumentCaptor<WebhookSubscriptionEntity> webhookSubscriptionEntityCaptor;
+
+	@Test
+	void create() {
+		// Arrange
+		final var request = WebhookSubscriptionCreateRequest.create().withUrl(URL).withDocumentType(DOCUMENT_TYPE);
+		when(documentTypeRepositoryMock.findByMunicipalityIdAndType(MUNICIPALITY_ID, DOCUMENT_TYPE)).thenReturn(Optional.of(DocumentTypeEntity.create()));
+		when(documentChangeRepositoryMock.findLatestSequenceNumber(MUNICIPALITY_ID)).thenReturn(Optional.of(1337L));
+		when(webhookSubscriptionRepositoryMock.save(any())).thenAnswer(invocation -> invocation.<WebhookSubscriptionEntity>getArgument(0).withId(ID));
+
+		// Act
+		final var result = service.create(MUNICIPALITY_ID, request);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo(ID);
+		assertThat(result.getLastSequenceNumber()).isEqualTo(1337L);
+		verify(webhookSubscriptionRepositoryMock).save(webhookSubscriptionEntityCaptor.capture());
+		assertThat(webhookSubscriptionEntityCaptor.getValue()).satisfies(entity -> {
+			assertThat(entity.getMunicipalityId()).isEqualTo(MUNICIPALITY_ID);
+			assertThat(entity.getUrl()).isEqualTo(URL);
+			assertThat(entity.getDocumentType()).isEqualTo(DOCUMENT_TYPE);
+			assertThat(entity.getLastSequenceNumber()).isEqualTo(1337L);
+		});
+	}
+
+	@Test
+	void createWithoutDocumentTypeAndChanges() {
+		// Arrange
+		final var request = WebhookSubscriptionCreateRequest.create().withUrl(URL);
+		when(documentChangeRepositoryMock.findLatestSequenceNumber(MUNICIPALITY_ID)).thenReturn(Optional.empty());
+		when(webhookSubscriptionRepositoryMock.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+		// Act
+		final var result = service.create(MUNICIPALITY_ID, request);
+
+		// Assert
+		assertThat(result.getLastSequenceNumber()).isZero();
+		assertThat(result.getDocumentType()).isNull();
+		verifyNoInteractions(documentTypeRepositoryMock);
+	}
+
+	@Test
+	void createWithNonExistingDocumentType() {
+		// Arrange
+		final var request = WebhookSubscriptionCreateRequest.create().withUrl(URL).withDocumentType(DOCUMENT_TYPE);
+		when(documentTypeRepositoryMock.findByMunicipalityIdAndType(MUNICIPALITY_ID, DOCUMENT_TYPE)).thenReturn(Optional.empty());
+
+		// Act
+		final var e = assertThrows(ThrowableProblem.class, () -> service.create(MUNICIPALITY_ID, request));
+
+		// Assert
+		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
+		assertThat(e.getMessage()).isEqualTo("Not Found: Document type with identifier EMPLOYMENT_CERTIFICATE was not found within municipality with id 2281");
+		verifyNoInteractions(webhookSubscriptionRepositoryMock, documentChangeRepositoryMock);
+	}
+
+	@Test
+	void readAll() {
+		// Arrange
+		when(webhookSubscriptionRepositoryMock.findByMunicipalityIdOrderByCreated(MUNICIPALITY_ID)).thenReturn(List.of(WebhookSubscriptionEntity.create().withId(ID)));
+
+		// Act
+		final var result = service.read(MUNICIPALITY_ID);
+
+		// Assert
+		assertThat(result).extracting(WebhookSubscription::getId).containsExactly(ID);
+	}
+
+	@Test
+	void read() {
+		// Arrange
+		when(webhookSubscriptionRepositoryMock.findByIdAndMunicipalityId(ID, MUNICIPALITY_ID)).thenReturn(Optional.of(WebhookSubscriptionEntity.create().withId(ID).withUrl(URL)));
+
+		// Act
+		final var result = service.read(MUNICIPALITY_ID, ID);
+
+		// Assert
+		assertThat(result.getId()).isEqualTo(ID);
+		assertThat(result.getUrl()).isEqualTo(URL);
+	}
+
+	@Test
+	void readNonExisting() {
+		// Act
+		final var e = assertThrows(ThrowableProblem.class, () -> service.read(MUNICIPALITY_ID, ID));
+
+		// Assert
+		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
+		assertThat(e.getMessage()).isEqualTo("Not Found: No webhook subscription with ID: '0194d5d3-bcc1-7a1e-9a1c-3b3e2d6f0b01' could be found!");
+	}
+
+	@Test
+	void delete() {
+		// Arrange
+		final var entity = WebhookSubscriptionEntity.create().withId(ID);
+		when(webhookSubscriptionRepositoryMock.findByIdAndMunicipalityId(ID, MUNICIPALITY_ID)).thenReturn(Optional.of(entity));
+
+		// Act
+		service.delete(MUNICIPALITY_ID, ID);
+
+		// Assert
+		verify(webhookSubscriptionRepositoryMock).delete(entity);
+		verifyNoMoreInteractions(webhookSubscriptionRepositoryMock);
+	}
+
+	@Test
+	void deleteNonExisting() {
+		// Act
+		final var e = assertThrows(ThrowableProblem.class, () -> service.delete(MUNICIPALITY_ID, ID));
+
+		// Assert
+		assertThat(e.getStatus()).isEqualTo(NOT_FOUND);
+		verify(webhookSubscriptionRepositoryMock).findByIdAndMunicipalityId(ID, MUNICIPALITY_ID);
+		verifyNoMoreInteractions(webhookSubscriptionRepositoryMock);
+	}
+}
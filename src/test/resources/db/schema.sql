@@ -4,59 +4,185 @@
         confidential bit not null,
         revision integer not null,
         created datetime(6),
+        document_type_id binary(16) not null,
+        file_set_id binary(16) not null,
+        id binary(16) not null,
+        metadata_set_id binary(16) not null,
         created_by varchar(255),
         description varchar(8192) not null,
-        document_type_id varchar(255) not null,
-        id varchar(255) not null,
         legal_citation varchar(255),
         municipality_id varchar(255),
         registration_number varchar(255) not null,
         primary key (id)
     ) engine=InnoDB;
 
+    create table document_change (
+        revision integer not null,
+        created datetime(6),
+        sequence_number bigint not null,
+        document_id binary(16) not null,
+        id binary(16) not null,
+        document_type varchar(255),
+        municipality_id varchar(255) not null,
+        registration_number varchar(255) not null,
+        `type` varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table document_change_sequence (
+        sequence_number bigint not null,
+        id binary(16) not null,
+        municipality_id varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
     create table document_data (
         file_size_in_bytes bigint default 0,
-        document_data_binary_id varchar(255),
-        document_id varchar(255) not null,
+        document_data_binary_id binary(16),
+        file_set_id binary(16) not null,
+        id binary(16) not null,
         file_name varchar(255),
-        id varchar(255) not null,
         mime_type varchar(255),
         primary key (id)
     ) engine=InnoDB;
 
     create table document_data_binary (
-        id varchar(255) not null,
+        chunk_size integer,
+        file_size_in_bytes bigint,
+        id binary(16) not null,
+        checksum varchar(64),
         binary_file longblob,
         primary key (id)
     ) engine=InnoDB;
 
+    create table document_data_binary_chunk (
+        chunk_index integer not null,
+        binary_id binary(16) not null,
+        content longblob not null,
+        primary key (binary_id, chunk_index)
+    ) engine=InnoDB;
+
+    create table document_data_binary_cold (
+        moved datetime(6),
+        id binary(16) not null,
+        binary_file longblob,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table document_data_text (
+        modified datetime(6),
+        id binary(16) not null,
+        status varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table document_data_text_term (
+        document_data_text_id binary(16) not null,
+        term varchar(64) not null
+
+    ) engine=InnoDB;
+
+    create table document_file_set (
+        id binary(16) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
     create table document_metadata (
-        document_id varchar(255) not null,
+        metadata_set_id binary(16) not null,
         `key` varchar(255),
         `value` varchar(255)
+
+    ) engine=InnoDB;
+
+    create table document_metadata_set (
+        id binary(16) not null,
+        primary key (id)
     ) engine=InnoDB;
 
     create table document_type (
         created datetime(6),
         last_updated datetime(6),
+        id binary(16) not null,
         created_by varchar(255),
         display_name varchar(255) not null,
-        id varchar(255) not null,
         last_updated_by varchar(255),
         municipality_id varchar(255),
         `type` varchar(255) not null,
         primary key (id)
     ) engine=InnoDB;
 
+    create table idempotency_key (
+        created datetime(6),
+        expires datetime(6) not null,
+        id binary(16) not null,
+        fingerprint varchar(64),
+        idempotency_key varchar(255) not null,
+        municipality_id varchar(255) not null,
+        registration_number varchar(255),
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table ingestion (
+        expected_revision integer,
+        revision integer,
+        created datetime(6),
+        expires datetime(6) not null,
+        modified datetime(6),
+        id binary(16) not null,
+        error varchar(2048),
+        municipality_id varchar(255) not null,
+        operation varchar(255) not null,
+        registration_number varchar(255),
+        status varchar(255) not null,
+        files longtext not null,
+        request longtext not null,
+        primary key (id)
+    ) engine=InnoDB;
+
     create table registration_number_sequence (
         sequence_number integer,
         created datetime(6),
         modified datetime(6),
-        id varchar(255) not null,
+        id binary(16) not null,
         municipality_id varchar(255),
         primary key (id)
     ) engine=InnoDB;
 
+    create table upload (
+        created datetime(6),
+        expires datetime(6) not null,
+        file_size_in_bytes bigint not null,
+        received_bytes bigint not null,
+        id binary(16) not null,
+        created_by varchar(255),
+        file_name varchar(255) not null,
+        mime_type varchar(255),
+        municipality_id varchar(255) not null,
+        registration_number varchar(255) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table upload_chunk (
+        chunk_offset bigint not null,
+        id binary(16) not null,
+        upload_id binary(16) not null,
+        content longblob,
+        primary key (id)
+    ) engine=InnoDB;
+
+    create table webhook_subscription (
+        failed_attempts integer not null,
+        created datetime(6),
+        last_sequence_number bigint not null,
+        locked_until datetime(6),
+        next_attempt datetime(6),
+        id binary(16) not null,
+        document_type varchar(255),
+        municipality_id varchar(255) not null,
+        url varchar(2048) not null,
+        primary key (id)
+    ) engine=InnoDB;
+
     create index ix_registration_number 
        on document (registration_number);
 
@@ -72,11 +198,26 @@
     alter table if exists document 
        add constraint uq_revision_and_registration_number unique (revision, registration_number);
 
-    alter table if exists document_data 
-       add constraint uq_document_data_binary_id unique (document_data_binary_id);
+    alter table if exists document_change 
+       add constraint uq_municipality_id_and_sequence_number unique (municipality_id, sequence_number);
+
+    alter table if exists document_change_sequence 
+       add constraint uq_document_change_sequence_municipality_id unique (municipality_id);
+
+    create index ix_file_name 
+       on document_data (file_name);
 
-    create index ix_key 
-       on document_metadata (`key`);
+    create index ix_status 
+       on document_data_text (status);
+
+    create index ix_term 
+       on document_data_text_term (term);
+
+    create index ix_key_value 
+       on document_metadata (`key`, `value`);
+
+    create index ix_metadata_set_id_key_value 
+       on document_metadata (metadata_set_id, `key`, `value`);
 
     create index ix_municipality_id_type 
        on document_type (municipality_id, `type`);
@@ -87,28 +228,69 @@
     alter table if exists document_type 
        add constraint uq_municipality_id_and_type unique (municipality_id, `type`);
 
+    create index ix_expires 
+       on idempotency_key (expires);
+
+    alter table if exists idempotency_key 
+       add constraint uq_municipality_id_and_idempotency_key unique (municipality_id, idempotency_key);
+
+    create index ix_status 
+       on ingestion (status);
+
+    create index ix_expires 
+       on ingestion (expires);
+
     create index ix_municipality_id 
        on registration_number_sequence (municipality_id);
 
     alter table if exists registration_number_sequence 
        add constraint uq_municipality_id unique (municipality_id);
 
+    create index ix_expires 
+       on upload (expires);
+
+    alter table if exists upload_chunk 
+       add constraint uq_upload_id_and_chunk_offset unique (upload_id, chunk_offset);
+
+    create index ix_municipality_id 
+       on webhook_subscription (municipality_id);
+
     alter table if exists document 
        add constraint fk_document_document_type
        foreign key (document_type_id) 
        references document_type (id);
 
+    alter table if exists document 
+       add constraint fk_document_document_file_set 
+       foreign key (file_set_id) 
+       references document_file_set (id);
+
+    alter table if exists document 
+       add constraint fk_document_document_metadata_set 
+       foreign key (metadata_set_id) 
+       references document_metadata_set (id);
+
     alter table if exists document_data 
        add constraint fk_document_data_document_data_binary 
        foreign key (document_data_binary_id) 
        references document_data_binary (id);
 
     alter table if exists document_data 
-       add constraint fk_document_data_document 
-       foreign key (document_id) 
-       references document (id);
+       add constraint fk_document_data_document_file_set 
+       foreign key (file_set_id) 
+       references document_file_set (id);
+
+    alter table if exists document_data_binary_chunk 
+       add constraint fk_document_data_binary_chunk_document_data_binary 
+       foreign key (binary_id) 
+       references document_data_binary (id);
+
+    alter table if exists document_data_text_term 
+       add constraint fk_document_data_text_term_document_data_text 
+       foreign key (document_data_text_id) 
+       references document_data_text (id);
 
     alter table if exists document_metadata 
-       add constraint fk_document_metadata_document 
-       foreign key (document_id) 
-       references document (id);
+       add constraint fk_document_metadata_document_metadata_set 
+       foreign key (metadata_set_id) 
+       references document_metadata_set (id);
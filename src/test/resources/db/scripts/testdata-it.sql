@@ -1,184 +1,250 @@
 INSERT INTO document_type (id, created, last_updated, created_by, display_name, last_updated_by, municipality_id,
                            `type`)
-VALUES ('86b9efc9-c649-40d5-ade0-ac415ea146f1', '2024-10-25 14:00:00.000', null, 'User1', 'Anställningsbevis', null,
+VALUES (UNHEX(REPLACE('86b9efc9-c649-40d5-ade0-ac415ea146f1', '-', '')), '2024-10-25 14:00:00.000', null, 'User1', 'Anställningsbevis', null,
         '2281', 'EMPLOYEE_CERTIFICATE'),
-       ('3fdecd8b-d295-4222-b60c-e95ba5f5075a', '2024-10-25 14:00:00.000', null, 'User2', 'Semesterväxlingsdokument',
+       (UNHEX(REPLACE('3fdecd8b-d295-4222-b60c-e95ba5f5075a', '-', '')), '2024-10-25 14:00:00.000', null, 'User2', 'Semesterväxlingsdokument',
         null, '2281', 'HOLIDAY_EXCHANGE'),
-       ('257506b2-f870-470d-9a1b-d095acb212a7', '2024-10-25 14:00:00.000', null, 'User1', 'Anställningsbevis', null,
+       (UNHEX(REPLACE('257506b2-f870-470d-9a1b-d095acb212a7', '-', '')), '2024-10-25 14:00:00.000', null, 'User1', 'Anställningsbevis', null,
         '2282', 'EMPLOYEE_CERTIFICATE'),
-       ('933622d0-4b69-4d96-a204-507f31e20e61', '2024-10-25 14:00:00.000', null, 'User1', 'Sekretessavtal', null,
+       (UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2024-10-25 14:00:00.000', null, 'User1', 'Sekretessavtal', null,
         '2282', 'CONFIDENTIALITY_AGREEMENT'),
-       ('1e5447b7-8941-43a4-afb7-cab09375efad', '2024-10-25 14:00:00.000', null, 'User2', 'Felstavat', null, '2262',
+       (UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2024-10-25 14:00:00.000', null, 'User2', 'Felstavat', null, '2262',
         'MISSPELLED'),
-       ('227a66a6-7485-48ba-b536-f7f487daa92c', '2024-10-25 14:00:00.000', null, 'User1', 'Typ att ta bort', null,
+       (UNHEX(REPLACE('227a66a6-7485-48ba-b536-f7f487daa92c', '-', '')), '2024-10-25 14:00:00.000', null, 'User1', 'Typ att ta bort', null,
         '2260', 'TYPE_TO_DELETE');
 
+INSERT INTO document_file_set (id)
+VALUES (UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', ''))),
+       (UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', ''))),
+       (UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', ''))),
+       (UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', ''))),
+       (UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', ''))),
+       (UNHEX(REPLACE('8901694b-8e3a-46b7-83ea-cd351ccc0f52', '-', ''))),
+       (UNHEX(REPLACE('676eaf7a-d609-4885-9743-2dbcdffe6628', '-', ''))),
+       (UNHEX(REPLACE('34095a16-68c5-48f8-ac1e-9d6b7dd08562', '-', ''))),
+       (UNHEX(REPLACE('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', '-', ''))),
+       (UNHEX(REPLACE('1cc8599b-8726-4cf7-869d-36737044400c', '-', ''))),
+       (UNHEX(REPLACE('e4c860ad-fce3-431e-965f-0229e5610fb7', '-', ''))),
+       (UNHEX(REPLACE('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', '-', ''))),
+       (UNHEX(REPLACE('019d0963-b6c6-49fb-9f88-31ef5e525a1c', '-', ''))),
+       (UNHEX(REPLACE('df8e4237-4369-45e7-a365-3f46741814d0', '-', ''))),
+       (UNHEX(REPLACE('69d31844-1810-4857-bdb9-f7c533b675b1', '-', ''))),
+       (UNHEX(REPLACE('488c4523-4ae1-41ea-8a3a-cf991999b12f', '-', ''))),
+       (UNHEX(REPLACE('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', ''))),
+       (UNHEX(REPLACE('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', '-', ''))),
+       (UNHEX(REPLACE('9f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', ''))),
+       (UNHEX(REPLACE('37a7aefa-5f24-460e-817b-f089b7dd84be', '-', ''))),
+       (UNHEX(REPLACE('fe9a0099-e407-4350-aaf2-f47edb20a770', '-', ''))),
+       (UNHEX(REPLACE('db983069-1a9f-4e6a-8b21-865ebd2fb902', '-', ''))),
+       (UNHEX(REPLACE('1a3e2060-c190-4c91-b221-b380493e5f4b', '-', ''))),
+       (UNHEX(REPLACE('ef87f332-50b1-4943-bf0d-c1fa798734a9', '-', ''))),
+       (UNHEX(REPLACE('5a728f56-2fb1-460e-9158-7a4d5775e80f', '-', ''))),
+       (UNHEX(REPLACE('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', ''))),
+       (UNHEX(REPLACE('7f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', ''))),
+       (UNHEX(REPLACE('fe6a0099-e407-4350-aaf2-f47edb20a770', '-', ''))),
+       (UNHEX(REPLACE('22a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', ''))),
+       (UNHEX(REPLACE('db933069-1a9f-4e6a-8b21-865ebd2fb902', '-', ''))),
+       (UNHEX(REPLACE('8ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')));
+
+INSERT INTO document_metadata_set (id)
+VALUES (UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', ''))),
+       (UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', ''))),
+       (UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', ''))),
+       (UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', ''))),
+       (UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', ''))),
+       (UNHEX(REPLACE('8901694b-8e3a-46b7-83ea-cd351ccc0f52', '-', ''))),
+       (UNHEX(REPLACE('676eaf7a-d609-4885-9743-2dbcdffe6628', '-', ''))),
+       (UNHEX(REPLACE('34095a16-68c5-48f8-ac1e-9d6b7dd08562', '-', ''))),
+       (UNHEX(REPLACE('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', '-', ''))),
+       (UNHEX(REPLACE('1cc8599b-8726-4cf7-869d-36737044400c', '-', ''))),
+       (UNHEX(REPLACE('e4c860ad-fce3-431e-965f-0229e5610fb7', '-', ''))),
+       (UNHEX(REPLACE('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', '-', ''))),
+       (UNHEX(REPLACE('019d0963-b6c6-49fb-9f88-31ef5e525a1c', '-', ''))),
+       (UNHEX(REPLACE('df8e4237-4369-45e7-a365-3f46741814d0', '-', ''))),
+       (UNHEX(REPLACE('69d31844-1810-4857-bdb9-f7c533b675b1', '-', ''))),
+       (UNHEX(REPLACE('488c4523-4ae1-41ea-8a3a-cf991999b12f', '-', ''))),
+       (UNHEX(REPLACE('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', ''))),
+       (UNHEX(REPLACE('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', '-', ''))),
+       (UNHEX(REPLACE('9f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', ''))),
+       (UNHEX(REPLACE('37a7aefa-5f24-460e-817b-f089b7dd84be', '-', ''))),
+       (UNHEX(REPLACE('fe9a0099-e407-4350-aaf2-f47edb20a770', '-', ''))),
+       (UNHEX(REPLACE('db983069-1a9f-4e6a-8b21-865ebd2fb902', '-', ''))),
+       (UNHEX(REPLACE('1a3e2060-c190-4c91-b221-b380493e5f4b', '-', ''))),
+       (UNHEX(REPLACE('ef87f332-50b1-4943-bf0d-c1fa798734a9', '-', ''))),
+       (UNHEX(REPLACE('5a728f56-2fb1-460e-9158-7a4d5775e80f', '-', ''))),
+       (UNHEX(REPLACE('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', ''))),
+       (UNHEX(REPLACE('7f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', ''))),
+       (UNHEX(REPLACE('fe6a0099-e407-4350-aaf2-f47edb20a770', '-', ''))),
+       (UNHEX(REPLACE('22a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', ''))),
+       (UNHEX(REPLACE('db933069-1a9f-4e6a-8b21-865ebd2fb902', '-', ''))),
+       (UNHEX(REPLACE('8ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')));
+
 INSERT INTO document (id, revision, created, created_by, registration_number, confidential, legal_citation, archive,
-                      description, document_type_id, municipality_id)
-VALUES ('159c10bf-1b32-471b-b2d3-c4b4b13ea152', 1, '2023-06-28 12:01:00.000', 'User1', '2023-2281-123', false, null,
-        false, 'Document 1', '86b9efc9-c649-40d5-ade0-ac415ea146f1', '2281'),            -- Document-1, revision 1
-       ('8efd63a3-b525-4581-8b0b-9759f381a5a5', 2, '2023-06-28 12:02:00.000', 'User2', '2023-2281-123', false, null,
-        false, 'Document 1', '86b9efc9-c649-40d5-ade0-ac415ea146f1', '2281'),            -- Document-1, revision 2
-       ('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', 3, '2023-06-28 12:03:00.000', 'User3', '2023-2281-123', false, null,
-        true, 'Document 1', '86b9efc9-c649-40d5-ade0-ac415ea146f1', '2281'),             -- Document-1, revision 3
-       ('03d33a6a-bc8c-410c-95f6-2c890822967d', 1, '2023-06-28 12:01:00.000', 'User4', '2024-2281-999', true,
-        'Law §7.1', true, 'Document 2', '3fdecd8b-d295-4222-b60c-e95ba5f5075a', '2281'), -- Document-2, revision 1
-       ('435bb041-2b02-4bb3-b3e7-3782a13f47d5', 2, '2023-06-28 12:01:00.000', 'User5', '2024-2281-999', true,
-        'Law §7.2', true, 'Document 2', '3fdecd8b-d295-4222-b60c-e95ba5f5075a', '2281'), -- Document-2, revision 2
-       ('8901694b-8e3a-46b7-83ea-cd351ccc0f52', 1, '2023-06-28 12:04:00.000', 'User6', '2024-2282-666', true, null,
-        true, 'Document 3', '257506b2-f870-470d-9a1b-d095acb212a7', '2282'),             -- Document-3, revision 1
-       ('676eaf7a-d609-4885-9743-2dbcdffe6628', 1, '2024-06-23 08:31:00.000', 'User5', '2024-2281-417', false,
-        'Law §7.1', false, 'Generated Document 1', '1e5447b7-8941-43a4-afb7-cab09375efad', '2281'),
-       ('34095a16-68c5-48f8-ac1e-9d6b7dd08562', 1, '2024-02-22 08:31:00.000', 'User2', '2024-2281-403', true, null,
-        false, 'Generated Document 2', '86b9efc9-c649-40d5-ade0-ac415ea146f1', '2281'),
-       ('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', 1, '2024-09-10 08:31:00.000', 'User3', '2024-2281-370', false, null,
-        true, 'Generated Document 3', '257506b2-f870-470d-9a1b-d095acb212a7', '2281'),
-       ('1cc8599b-8726-4cf7-869d-36737044400c', 1, '2024-01-23 08:31:00.000', 'User2', '2024-2281-283', false,
-        'Law §7.2', false, 'Generated Document 4', '257506b2-f870-470d-9a1b-d095acb212a7', '2281'),
-       ('e4c860ad-fce3-431e-965f-0229e5610fb7', 1, '2024-08-23 08:31:00.000', 'User1', '2024-2281-200', false,
-        'Law §7.2', true, 'Generated Document 5', '86b9efc9-c649-40d5-ade0-ac415ea146f1', '2281'),
-       ('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', 1, '2024-08-29 08:31:00.000', 'User4', '2024-2281-639', false, null,
-        false, 'Generated Document 6', '3fdecd8b-d295-4222-b60c-e95ba5f5075a', '2281'),
-       ('019d0963-b6c6-49fb-9f88-31ef5e525a1c', 1, '2024-02-05 08:31:00.000', 'User4', '2024-2281-991', false,
-        'Law §7.2', false, 'Generated Document 7', '3fdecd8b-d295-4222-b60c-e95ba5f5075a', '2281'),
-       ('df8e4237-4369-45e7-a365-3f46741814d0', 1, '2024-06-02 08:31:00.000', 'User4', '2024-2281-382', false,
-        'Law §7.2', false, 'Generated Document 8', '1e5447b7-8941-43a4-afb7-cab09375efad', '2281'),
-       ('69d31844-1810-4857-bdb9-f7c533b675b1', 1, '2024-07-02 08:31:00.000', 'User2', '2024-2281-810', false,
-        'Law §7.2', true, 'Generated Document 9', '257506b2-f870-470d-9a1b-d095acb212a7', '2281'),
-       ('488c4523-4ae1-41ea-8a3a-cf991999b12f', 1, '2023-11-17 08:31:00.000', 'User1', '2024-2281-491', true,
-        'Law §7.1', false, 'Generated Document 10', '933622d0-4b69-4d96-a204-507f31e20e61', '2281'),
-       ('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', 1, '2024-03-08 08:33:07.000', 'User6', '2024-2281-797', true,
-        'Law §7.1', false, 'Generated Document 11', '1e5447b7-8941-43a4-afb7-cab09375efad', '2281'),
-       ('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', 1, '2024-01-28 08:33:07.000', 'User2', '2024-2281-632', false,
-        'Law §7.2', false, 'Generated Document 12', '933622d0-4b69-4d96-a204-507f31e20e61', '2281'),
-       ('9f2e05c4-a06d-4fed-b487-2003c591bc6a', 1, '2024-08-31 08:33:07.000', 'User1', '2024-2281-232', false, null,
-        false, 'Generated Document 13', '1e5447b7-8941-43a4-afb7-cab09375efad', '2281'),
-       ('37a7aefa-5f24-460e-817b-f089b7dd84be', 1, '2024-06-28 08:33:07.000', 'User1', '2024-2281-646', false,
-        'Law §7.1', false, 'Generated Document 14', '1e5447b7-8941-43a4-afb7-cab09375efad', '2281'),
-       ('fe9a0099-e407-4350-aaf2-f47edb20a770', 1, '2024-01-10 08:33:07.000', 'User4', '2024-2281-755', false,
-        'Law §7.2', false, 'Generated Document 15', '1e5447b7-8941-43a4-afb7-cab09375efad', '2281'),
-       ('db983069-1a9f-4e6a-8b21-865ebd2fb902', 1, '2024-08-27 08:33:07.000', 'User6', '2024-2281-252', false,
-        'Law §7.1', true, 'Generated Document 16', '257506b2-f870-470d-9a1b-d095acb212a7', '2281'),
-       ('1a3e2060-c190-4c91-b221-b380493e5f4b', 1, '2023-12-07 08:33:07.000', 'User3', '2024-2281-369', false,
-        'Law §7.2', false, 'Generated Document 17', '1e5447b7-8941-43a4-afb7-cab09375efad', '2281'),
-       ('ef87f332-50b1-4943-bf0d-c1fa798734a9', 1, '2023-12-29 08:33:07.000', 'User1', '2024-2281-266', true, null,
-        false, 'Generated Document 18', '1e5447b7-8941-43a4-afb7-cab09375efad', '2281'),
-       ('5a728f56-2fb1-460e-9158-7a4d5775e80f', 1, '2024-08-03 08:33:07.000', 'User4', '2024-2281-465', true, null,
-        false, 'Generated Document 19', '257506b2-f870-470d-9a1b-d095acb212a7', '2281'),
-       ('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', 1, '2024-04-06 08:33:07.000', 'User3', '2024-2281-139', false,
-        'Law §7.2', false, 'Generated Document 20', '933622d0-4b69-4d96-a204-507f31e20e61', '2281'),
-       ('7f2e05c4-a06d-4fed-b487-2003c591bc6a', 2, '2024-04-06 08:33:07.000', 'User2', '2024-2281-232', false,
-        'Law §7.2', false, 'Generated Document 20', '933622d0-4b69-4d96-a204-507f31e20e61', '2281'),
-       ('fe6a0099-e407-4350-aaf2-f47edb20a770', 2, '2024-04-06 08:33:07.000', 'User5', '2024-2281-755', false,
-        'Law §7.2', false, 'Generated Document 20', '933622d0-4b69-4d96-a204-507f31e20e61', '2281'),
-       ('22a4ecd5-b406-49d3-b7de-0922ff2f3b95', 2, '2024-04-06 08:33:07.000', 'User2', '2024-2281-797', false,
-        'Law §7.2', false, 'Generated Document 20', '933622d0-4b69-4d96-a204-507f31e20e61', '2281'),
-       ('db933069-1a9f-4e6a-8b21-865ebd2fb902', 2, '2024-04-06 08:33:07.000', 'User2', '2024-2281-252', false,
-        'Law §7.2', false, 'Generated Document 20', '933622d0-4b69-4d96-a204-507f31e20e61', '2281'),
-       ('8ad5ecbf-15e5-4572-9b80-96bbfc2145b6', 2, '2024-04-06 08:33:07.000', 'User6', '2024-2281-139', false,
-        'Law §7.2', false, 'Generated Document 20', '933622d0-4b69-4d96-a204-507f31e20e61', '2281');
+                      description, document_type_id, municipality_id, file_set_id, metadata_set_id)
+VALUES (UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', '')), 1, '2023-06-28 12:01:00.000', 'User1', '2023-2281-123', false, null,
+        false, 'Document 1', UNHEX(REPLACE('86b9efc9-c649-40d5-ade0-ac415ea146f1', '-', '')), '2281', UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', '')), UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', ''))),            -- Document-1, revision 1
+       (UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', '')), 2, '2023-06-28 12:02:00.000', 'User2', '2023-2281-123', false, null,
+        false, 'Document 1', UNHEX(REPLACE('86b9efc9-c649-40d5-ade0-ac415ea146f1', '-', '')), '2281', UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', '')), UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', ''))),            -- Document-1, revision 2
+       (UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', '')), 3, '2023-06-28 12:03:00.000', 'User3', '2023-2281-123', false, null,
+        true, 'Document 1', UNHEX(REPLACE('86b9efc9-c649-40d5-ade0-ac415ea146f1', '-', '')), '2281', UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', '')), UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', ''))),             -- Document-1, revision 3
+       (UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', '')), 1, '2023-06-28 12:01:00.000', 'User4', '2024-2281-999', true,
+        'Law §7.1', true, 'Document 2', UNHEX(REPLACE('3fdecd8b-d295-4222-b60c-e95ba5f5075a', '-', '')), '2281', UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', '')), UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', ''))), -- Document-2, revision 1
+       (UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', '')), 2, '2023-06-28 12:01:00.000', 'User5', '2024-2281-999', true,
+        'Law §7.2', true, 'Document 2', UNHEX(REPLACE('3fdecd8b-d295-4222-b60c-e95ba5f5075a', '-', '')), '2281', UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', '')), UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', ''))), -- Document-2, revision 2
+       (UNHEX(REPLACE('8901694b-8e3a-46b7-83ea-cd351ccc0f52', '-', '')), 1, '2023-06-28 12:04:00.000', 'User6', '2024-2282-666', true, null,
+        true, 'Document 3', UNHEX(REPLACE('257506b2-f870-470d-9a1b-d095acb212a7', '-', '')), '2282', UNHEX(REPLACE('8901694b-8e3a-46b7-83ea-cd351ccc0f52', '-', '')), UNHEX(REPLACE('8901694b-8e3a-46b7-83ea-cd351ccc0f52', '-', ''))),             -- Document-3, revision 1
+       (UNHEX(REPLACE('676eaf7a-d609-4885-9743-2dbcdffe6628', '-', '')), 1, '2024-06-23 08:31:00.000', 'User5', '2024-2281-417', false,
+        'Law §7.1', false, 'Generated Document 1', UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2281', UNHEX(REPLACE('676eaf7a-d609-4885-9743-2dbcdffe6628', '-', '')), UNHEX(REPLACE('676eaf7a-d609-4885-9743-2dbcdffe6628', '-', ''))),
+       (UNHEX(REPLACE('34095a16-68c5-48f8-ac1e-9d6b7dd08562', '-', '')), 1, '2024-02-22 08:31:00.000', 'User2', '2024-2281-403', true, null,
+        false, 'Generated Document 2', UNHEX(REPLACE('86b9efc9-c649-40d5-ade0-ac415ea146f1', '-', '')), '2281', UNHEX(REPLACE('34095a16-68c5-48f8-ac1e-9d6b7dd08562', '-', '')), UNHEX(REPLACE('34095a16-68c5-48f8-ac1e-9d6b7dd08562', '-', ''))),
+       (UNHEX(REPLACE('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', '-', '')), 1, '2024-09-10 08:31:00.000', 'User3', '2024-2281-370', false, null,
+        true, 'Generated Document 3', UNHEX(REPLACE('257506b2-f870-470d-9a1b-d095acb212a7', '-', '')), '2281', UNHEX(REPLACE('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', '-', '')), UNHEX(REPLACE('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', '-', ''))),
+       (UNHEX(REPLACE('1cc8599b-8726-4cf7-869d-36737044400c', '-', '')), 1, '2024-01-23 08:31:00.000', 'User2', '2024-2281-283', false,
+        'Law §7.2', false, 'Generated Document 4', UNHEX(REPLACE('257506b2-f870-470d-9a1b-d095acb212a7', '-', '')), '2281', UNHEX(REPLACE('1cc8599b-8726-4cf7-869d-36737044400c', '-', '')), UNHEX(REPLACE('1cc8599b-8726-4cf7-869d-36737044400c', '-', ''))),
+       (UNHEX(REPLACE('e4c860ad-fce3-431e-965f-0229e5610fb7', '-', '')), 1, '2024-08-23 08:31:00.000', 'User1', '2024-2281-200', false,
+        'Law §7.2', true, 'Generated Document 5', UNHEX(REPLACE('86b9efc9-c649-40d5-ade0-ac415ea146f1', '-', '')), '2281', UNHEX(REPLACE('e4c860ad-fce3-431e-965f-0229e5610fb7', '-', '')), UNHEX(REPLACE('e4c860ad-fce3-431e-965f-0229e5610fb7', '-', ''))),
+       (UNHEX(REPLACE('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', '-', '')), 1, '2024-08-29 08:31:00.000', 'User4', '2024-2281-639', false, null,
+        false, 'Generated Document 6', UNHEX(REPLACE('3fdecd8b-d295-4222-b60c-e95ba5f5075a', '-', '')), '2281', UNHEX(REPLACE('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', '-', '')), UNHEX(REPLACE('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', '-', ''))),
+       (UNHEX(REPLACE('019d0963-b6c6-49fb-9f88-31ef5e525a1c', '-', '')), 1, '2024-02-05 08:31:00.000', 'User4', '2024-2281-991', false,
+        'Law §7.2', false, 'Generated Document 7', UNHEX(REPLACE('3fdecd8b-d295-4222-b60c-e95ba5f5075a', '-', '')), '2281', UNHEX(REPLACE('019d0963-b6c6-49fb-9f88-31ef5e525a1c', '-', '')), UNHEX(REPLACE('019d0963-b6c6-49fb-9f88-31ef5e525a1c', '-', ''))),
+       (UNHEX(REPLACE('df8e4237-4369-45e7-a365-3f46741814d0', '-', '')), 1, '2024-06-02 08:31:00.000', 'User4', '2024-2281-382', false,
+        'Law §7.2', false, 'Generated Document 8', UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2281', UNHEX(REPLACE('df8e4237-4369-45e7-a365-3f46741814d0', '-', '')), UNHEX(REPLACE('df8e4237-4369-45e7-a365-3f46741814d0', '-', ''))),
+       (UNHEX(REPLACE('69d31844-1810-4857-bdb9-f7c533b675b1', '-', '')), 1, '2024-07-02 08:31:00.000', 'User2', '2024-2281-810', false,
+        'Law §7.2', true, 'Generated Document 9', UNHEX(REPLACE('257506b2-f870-470d-9a1b-d095acb212a7', '-', '')), '2281', UNHEX(REPLACE('69d31844-1810-4857-bdb9-f7c533b675b1', '-', '')), UNHEX(REPLACE('69d31844-1810-4857-bdb9-f7c533b675b1', '-', ''))),
+       (UNHEX(REPLACE('488c4523-4ae1-41ea-8a3a-cf991999b12f', '-', '')), 1, '2023-11-17 08:31:00.000', 'User1', '2024-2281-491', true,
+        'Law §7.1', false, 'Generated Document 10', UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2281', UNHEX(REPLACE('488c4523-4ae1-41ea-8a3a-cf991999b12f', '-', '')), UNHEX(REPLACE('488c4523-4ae1-41ea-8a3a-cf991999b12f', '-', ''))),
+       (UNHEX(REPLACE('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', '')), 1, '2024-03-08 08:33:07.000', 'User6', '2024-2281-797', true,
+        'Law §7.1', false, 'Generated Document 11', UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2281', UNHEX(REPLACE('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', '')), UNHEX(REPLACE('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', ''))),
+       (UNHEX(REPLACE('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', '-', '')), 1, '2024-01-28 08:33:07.000', 'User2', '2024-2281-632', false,
+        'Law §7.2', false, 'Generated Document 12', UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2281', UNHEX(REPLACE('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', '-', '')), UNHEX(REPLACE('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', '-', ''))),
+       (UNHEX(REPLACE('9f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', '')), 1, '2024-08-31 08:33:07.000', 'User1', '2024-2281-232', false, null,
+        false, 'Generated Document 13', UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2281', UNHEX(REPLACE('9f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', '')), UNHEX(REPLACE('9f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', ''))),
+       (UNHEX(REPLACE('37a7aefa-5f24-460e-817b-f089b7dd84be', '-', '')), 1, '2024-06-28 08:33:07.000', 'User1', '2024-2281-646', false,
+        'Law §7.1', false, 'Generated Document 14', UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2281', UNHEX(REPLACE('37a7aefa-5f24-460e-817b-f089b7dd84be', '-', '')), UNHEX(REPLACE('37a7aefa-5f24-460e-817b-f089b7dd84be', '-', ''))),
+       (UNHEX(REPLACE('fe9a0099-e407-4350-aaf2-f47edb20a770', '-', '')), 1, '2024-01-10 08:33:07.000', 'User4', '2024-2281-755', false,
+        'Law §7.2', false, 'Generated Document 15', UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2281', UNHEX(REPLACE('fe9a0099-e407-4350-aaf2-f47edb20a770', '-', '')), UNHEX(REPLACE('fe9a0099-e407-4350-aaf2-f47edb20a770', '-', ''))),
+       (UNHEX(REPLACE('db983069-1a9f-4e6a-8b21-865ebd2fb902', '-', '')), 1, '2024-08-27 08:33:07.000', 'User6', '2024-2281-252', false,
+        'Law §7.1', true, 'Generated Document 16', UNHEX(REPLACE('257506b2-f870-470d-9a1b-d095acb212a7', '-', '')), '2281', UNHEX(REPLACE('db983069-1a9f-4e6a-8b21-865ebd2fb902', '-', '')), UNHEX(REPLACE('db983069-1a9f-4e6a-8b21-865ebd2fb902', '-', ''))),
+       (UNHEX(REPLACE('1a3e2060-c190-4c91-b221-b380493e5f4b', '-', '')), 1, '2023-12-07 08:33:07.000', 'User3', '2024-2281-369', false,
+        'Law §7.2', false, 'Generated Document 17', UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2281', UNHEX(REPLACE('1a3e2060-c190-4c91-b221-b380493e5f4b', '-', '')), UNHEX(REPLACE('1a3e2060-c190-4c91-b221-b380493e5f4b', '-', ''))),
+       (UNHEX(REPLACE('ef87f332-50b1-4943-bf0d-c1fa798734a9', '-', '')), 1, '2023-12-29 08:33:07.000', 'User1', '2024-2281-266', true, null,
+        false, 'Generated Document 18', UNHEX(REPLACE('1e5447b7-8941-43a4-afb7-cab09375efad', '-', '')), '2281', UNHEX(REPLACE('ef87f332-50b1-4943-bf0d-c1fa798734a9', '-', '')), UNHEX(REPLACE('ef87f332-50b1-4943-bf0d-c1fa798734a9', '-', ''))),
+       (UNHEX(REPLACE('5a728f56-2fb1-460e-9158-7a4d5775e80f', '-', '')), 1, '2024-08-03 08:33:07.000', 'User4', '2024-2281-465', true, null,
+        false, 'Generated Document 19', UNHEX(REPLACE('257506b2-f870-470d-9a1b-d095acb212a7', '-', '')), '2281', UNHEX(REPLACE('5a728f56-2fb1-460e-9158-7a4d5775e80f', '-', '')), UNHEX(REPLACE('5a728f56-2fb1-460e-9158-7a4d5775e80f', '-', ''))),
+       (UNHEX(REPLACE('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')), 1, '2024-04-06 08:33:07.000', 'User3', '2024-2281-139', false,
+        'Law §7.2', false, 'Generated Document 20', UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2281', UNHEX(REPLACE('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')), UNHEX(REPLACE('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', ''))),
+       (UNHEX(REPLACE('7f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', '')), 2, '2024-04-06 08:33:07.000', 'User2', '2024-2281-232', false,
+        'Law §7.2', false, 'Generated Document 20', UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2281', UNHEX(REPLACE('7f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', '')), UNHEX(REPLACE('7f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', ''))),
+       (UNHEX(REPLACE('fe6a0099-e407-4350-aaf2-f47edb20a770', '-', '')), 2, '2024-04-06 08:33:07.000', 'User5', '2024-2281-755', false,
+        'Law §7.2', false, 'Generated Document 20', UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2281', UNHEX(REPLACE('fe6a0099-e407-4350-aaf2-f47edb20a770', '-', '')), UNHEX(REPLACE('fe6a0099-e407-4350-aaf2-f47edb20a770', '-', ''))),
+       (UNHEX(REPLACE('22a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', '')), 2, '2024-04-06 08:33:07.000', 'User2', '2024-2281-797', false,
+        'Law §7.2', false, 'Generated Document 20', UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2281', UNHEX(REPLACE('22a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', '')), UNHEX(REPLACE('22a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', ''))),
+       (UNHEX(REPLACE('db933069-1a9f-4e6a-8b21-865ebd2fb902', '-', '')), 2, '2024-04-06 08:33:07.000', 'User2', '2024-2281-252', false,
+        'Law §7.2', false, 'Generated Document 20', UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2281', UNHEX(REPLACE('db933069-1a9f-4e6a-8b21-865ebd2fb902', '-', '')), UNHEX(REPLACE('db933069-1a9f-4e6a-8b21-865ebd2fb902', '-', ''))),
+       (UNHEX(REPLACE('8ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')), 2, '2024-04-06 08:33:07.000', 'User6', '2024-2281-139', false,
+        'Law §7.2', false, 'Generated Document 20', UNHEX(REPLACE('933622d0-4b69-4d96-a204-507f31e20e61', '-', '')), '2281', UNHEX(REPLACE('8ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')), UNHEX(REPLACE('8ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')));
 
 
 INSERT INTO document_data_binary (id, binary_file)
-VALUES ('d35254ce-d26c-47e3-806f-4cf68cf2fa56',
+VALUES (UNHEX(REPLACE('d35254ce-d26c-47e3-806f-4cf68cf2fa56', '-', '')),
         0xFFD8FFE000104A46494600010100000100010000FFE201D84943435F50524F46494C45000101000001C800000000043000006D6E74725247422058595A2007E00001000100000000000061637370000000000000000000000000000000000000000000000000000000010000F6D6000100000000D32D0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000964657363000000F0000000247258595A00000114000000146758595A00000128000000146258595A0000013C00000014777470740000015000000014725452430000016400000028675452430000016400000028625452430000016400000028637072740000018C0000003C6D6C756300000000000000010000000C656E5553000000080000001C007300520047004258595A200000000000006FA2000038F50000039058595A2000000000000062990000B785000018DA58595A2000000000000024A000000F840000B6CF58595A20000000000000F6D6000100000000D32D706172610000000000040000000266660000F2A700000D59000013D000000A5B00000000000000006D6C756300000000000000010000000C656E5553000000200000001C0047006F006F0067006C006500200049006E0063002E00200032003000310036FFDB00430017101114110E171412141A18171B223925221F1F224632352939524857555148504E5B66836F5B617C624E50729B737C878B929492586DA0AC9F8EAA838F928DFFDB004301181A1A221E22432525438D5E505E8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8DFFC00011080103010303012200021101031101FFC4001B00000203010101000000000000000000000002010304050607FFC400321000020102040306050501010100000000000102031104122131053251142241537191132334355215334361728142A1FFC400190101000301010000000000000000000000000102030405FFC4002111010100020301010100030100000000000001021103213112133222415161FFDA000C03010002110311003F00F58000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004362B9A5E21376456DC611CD202CCEBA8675D4A3B4D0FC913DA687E488FA89D55D9D750CEBA9476AA17B6741DAA87E687D43557E75D433AEA51DA685AF9908F886122F5A911B86AB5675D433AEA64FD4B07E6C49FD4308FF00922370D56ACEBA8675D4CBDBF09E6443B7E13CC88DC355AB3AEA19D75327EA383F3621FA8E0FCD88D9AAD79D750CEBA98FF52C1F9B11A3C43092DAA458DC355AB3AEA19D7533F6CC37E710ED986FCD0DC355A33AEA19D7528ED5877FFB41DA687E487D43557E75D433AEA54B1145FF00E910F11457FE90FA86AAECEBA8675D4CD2C6E1A3BCD217F51C1F9B11B86AB5E75D433AEA64FD4707E6C43F51C1F9B11B355AF3AEA0A69F8993F51C1F9B12F8CA35219E0EEBC19285D724483BA1C00000000000AEA6C518DFA497A17D4D8A31BF4922B979538FAE192401E73B8ABF71889F765EA32E76247965EA48B64FE57FC38F886F3EE75E5FB4FD0E3625DA469C7DD572E95B76F127E33B5932895EF7B82959FF004747CB2B92FF008B3EA329B7E2539D35A109BB91A3E9745DA779DDA34468C2BC6F4E7AF432A8C9937953778BB322CDF89991AAD29D37690F8793571E15D578E4A9CC3D3A3974296D93556F7C590CD2F1D0B92CAB7160B2EE58D5D195AB4814A4F62D837E2675271762E83CC56A57C64E24CA49ADC4F021EC57753A55560A49A6B439F5B0CE17707A1D294AC5534A4B42F8E5622CDB8D2724F56C333EA74E78155237461AD869527B6874639CACEE362B52775AB3DC70CFB753F43C3C62F323DC70CFB753F435C597278D94F947129F28E68C800000000015D4D8A31BF4922FA9B14637E924572FE6A71F5C30200F35DC55CEC45C92F51973BF4157EDBF5243CBF69FA1C0C555F98D1DEA8ED424FF00A3CF538FC5AEDBEA6FC3FEEB3CFF00E2CA5879CE377E25B1C1CADAEA69859591A69D88CB972FF4D67163A628E06ED68688E062B766ACC8893D0AFE9954CE3C6287422B63162216B9BE4EC64C46C5B0CAED1C98CD39EE4D4AE9EA8E861711F123AEE8E6D5D25A1760A796B25D4DF3C771CB8E5AAEAA9E6F50CEE2C3227AC4257399B2D849498D17DFB2298BB1761DA776C8B132AE724902D5092EF6C327963AB2962C970BF8092A5A685B19A6AE4DD3260A29CF2F76457898A945E859552BE82C5A946CF7250E5CA369D8F67C37EDF4FD0F2988A5695CF57C37EDF4FD0EAE2BB61CBE35D3E51C4A7CA39BB000000000005753633E3BE92468A9B19F1DF4922B97F3538FAE10001E6BB8AB99FA0ABF6DFA92B998BFC4FD4B02BFD2CEDD0E1E1577D9DDABAE1E497438B43B8E575AA36E2FE6B3CBFA8D914D9AA9C5A89CCF8D55F2AB1A30D59C1A75257FE8AE5856D39278DF14BA932466AF34E174EC8C79AAE6D2AE8571C2D4E5969D0A8B433D48E6453DFF0036E5B4EED778BFCFCF68FA9974E5E222E352CC9A0AD5636EA68C653BCD0AE0A9C62FC6E747D6E396E3AAE9C744876D35FD8518AAB4A2D17C69456E725BDB6918E72B053AB960EC6A9D28CAFA18EA52F872FE996965459A6BA13BC35DC79AB9461F434EE6756848E8EC5F6D0A1F35C1D5684292A3B499546769A2672BDDB286F535914B57D66A47A5E1FA6061E8795CDA23D5603E861E86DC534CB92B553E51C4A7CA39BB100000000005753633E3BE92468A9B19F1DF4722B97F3538FAE10001E6BB88B9989FC6FD475CCC44FE5BF52C1AA7ECBF438F157AB24FC4EBD47F25FA1C894B2D746BC5FED4CBD4E4966B6C88747C6ECDD4F24A3A95D6B27644FE97C6BF94F56C611961A317B944B0CD3D168694E3F0A3663C2A26ACD149958B5C6565A583D6EF42F9C553562FF8B18A33569E7968376FA7CC9E32544E75922BC53B6589A2538D37796873B115FE2D5BAD91BE136E7CEC92BBB84EED0491A63B5CC7C32A7C4C3EBBA36A57D8E6CE7F92D8F85653888EC6A8C4A31095EC4254D3D19AE9AD0A2947534C63643D0997528ACF2B3437A368C5523293BB65F188AAE750A653B326A2B0D4A8B96E6B35197748AA6A7B0E1DF410F43CA4F0F95DD23D5F0FFA087A1AF1D97C5339635D3E51C4A7CA39AB200000000005753633E3BE8E468A9B19F1FF004722B979538FAE0A06088679CEE2AE6627F1BF5193EF313F8FFE921AA3F94FD0E3D6FDC4CEB547F25FA1C8ADCC6DC4CF3688C9DB409BEEBB914249C752AAB26E4EDB13AEDA7D6B13C33385EEEC69C3D58E5B3DCC7094D432A4446528BB35AB2D71DAB33B1D09464F60C9955D8985AAEEE331EB4D2465ABBD35FA966DCDE20EED232451AEA539625CA4B9578890C354734B2FFD3AA5D47165DD763874552C3AFECD9195999E953953A295AF604E4D9C97BBB6F3A8D152AAA68C8A6EA4DB63D6945475DC4A7B11A4AFA5A1A6FDDB19E9D93D47CDE240354DF428AAB43466D0CF565A1688ACD9334CBD472BD028C3C5932D1936A243AB49D99E8B06AD848FA1E769ABEA7A3C27D247D0D787DAA72F8BE9F28E253E51CE97380000000002BA9B19F1FF00472F43454D8CD8FF00A3915CBCA9C7D704180AD9E73B8BFF00A656FF006FFE8D9AD262A4DC6C4A754557F25FA1CD693DCE9555F299CD93CA6DC6CF2579DD397F45F4ED28FA99DC5D46453AAE9BB336B3714996AB5592DD8D18C6F7DD995D5CCF71E355416ACA7C569FA45F39A8D64CAB11525566A953D5B28A95734AE7578550A74E3DA6BEFE172D31D7759DCB7E2CAB84861384494B9DEA72F0D8C9D3493D51AB88E2A58AA9953EE78230CE93A52B16EAF5547569F13838DA4AC24F17493D24736C43572BF9C4FDD6DA988537A33452AD0CA966471EEE2C74DF5178E54CC9DA5561F921FB4534B59238799F50727D4AFE49FB76678BA56B290B0B5695D3BA38D999AB038974AA24F6632E3D4E8996EBB09652A9EAC794AEAE8AF76611A53A795247A2C1FD247D0F34E491E9302EF8287A1BF0FAC795A69F28E253E51CE9600000000000AEA6C66C7FD1CBD0D353633710FA397A15CBCA9C7D79FBE851527AE85B3768332D39DA37945DEE79F26DDF8D590A894BBC8D168CE3DD656AA5292B4924249C53F96C6B6D366CD965692BA17B353A9524E6ACAC42A91B3727AA324F1B3CCEC69863633E4AAEB41D394B2981BD59B6A5773D599E953557323A71FF00D72E515662735C6A94250D6DA1524FC0BFAA771A28433CFF00A46E739C96AED15B232E166A29A6B5658A5526F2A894AB45B87A7F16BE9B2271F1B491B70543E15377E6666E270B38B32996F26BAD62C00413F0EA65CD95DBA9BB25726117A0AD49BD465A128305F416E0F60945C8CF24F405B85C21D8C0E23E353CB2DD17D49A8AD0E351AB2A4EF166D86322DA738DCE7CB0EF71ACC96F7E7CA8F57C3D3581827BD8E0C251704E2B467A0C27D2C7D0B7165BB62BCB3A68A7CA3894F9473A1800000000002BA9B19B887D14BD0D353633710FA297A15CBCA99EBCCD7938C6E8AE188596D949C53EE58CD4DA4CE398EE3B665A15AA67968AC57F11C75B96D48AB5D18AACDB7635C71532CB5DA6755C9BD45D4AAF666B9AB61949234B34A4BBF59E52B2B0D85E6655B97E117CC64DF14DEEAFA95A3F09C5C753129E56D6536BA69D4B309C230F0456591366D4E1B56E525B1A70BDFAEDFF00F05524A0F4B1A387D2C979CBC48CAF49C676DAEEA261C666ACD24AECDD37EC6755153AAA6D5D230C6F6D6F8DB80E13495153AAAF27D4E92C2D154DC322B7A19963E87C28CA534AE5F1C42924E3252BF42D6DF59289F09C2CA2FB9B9E7B88E06585AAECBB9E0CF552A8AD6D99E778CE39CEA3A2B951A616ED15C9B005C0D952DF5274165B8041B3244A93DC4B0CF4412DF87E24E36835A23D9E0279F05097547CF61CC8F7FC2BEDB4FD08C7192EE232B6C6DA7CA3894F9472EA00000000002BA9B19B882BE0E4BFA34D4D8A716AF86772B97899EBC7D5939D469AD114B834EE8EDCB074EA49BB59892E1BD19C92FF00C7675A71AA54B41AF130BDCEBE3708A841CDBBB390F737C58E751E274ABB4B85C15B5B98A31A69ACCEE689D6A73A593C1136AB184D184FDC2A718EAD32CC2BB4CB5F09EB4564D49486CADEA8B271CD064508CAA2B456A8C77D2EAACE738C1F89D485351A6A2BC0CB8683755CA4B636DEFA233CEAF84265BAB19B12BBAE3135B57564CCD5B48B4525ED6BE399469FC5AF184E6D46E7A251A584A2A5195D45753CD4EF99D8875EAB864736D743AAE3F4C25D34E2789D79E21CA13697818E7525526E52776C5B017934A5A9448221921640983213250B13076625C1A6424F169347BFE15AF0CA7FE4F9F463AA3E83C27ED94BFC93115B69F28E253E51C95400000000015D4D8CBC4AA2A58294DEC8D553639DC77ED353D08A98C385C4D3ABAC648D53AA94773C4D3C454A4FB9268BDF13C4386572B98FE7A6DF71BB8BE2D4E5F0E2CE4390B39B9CAF27A8A99AC9A6772DA6EEE326C464C49D20C5F86FDC452594B496856F898EAC15EC56DCA856EE78850AAA4AD2D1974A2A4D5F7473DE9B4ED753D2167BBDC149ED1F71335E5645B0B25633AD219D92D0CF560DA6CBD3D7FA12AECDF8159EA5C5A9A4D88D1655FDC621DB3C735F48C51A62A2CAD32219200232B7A32C6249131152A43662A193085B196A8FA0709FB652FF0027CF22F547D0B847DAE97F9056EA7CA3894F9472500000000000AEA6C73F8EFDA6A7A1D0A9B1CEE3BF69ABE807806413E2410904124122413B3021816C7545D4577CA29BD0D38757994ABC6A8C3332EA6A49D9BB8538D899C927A1CF95DB587CB95EBB96465E0519FF00E91F11A657556DB5DD5AC66AF52CAC1F13428AB76F718E3D97262AB2F98C5BE83568DA5A08F4474C634927A82206459500C086040AC621928A424002131DD1F43E11F6BA5FE4F9DADD1F44E0FF006AA5FE4943753E51C4A7CA38000000000015D4D8E771EFB4D5F43A353639FC7166E15512E807CF8097A32084A000090225A04310223A335E179CC9E26EC22566CAE5E2F8B6458C95DEA2C1AF1668A3DE9A715748E6CAE9B48A5C1DF621D3763757945A51CB6653ADB629F4B7CB138B4C57766ECA9EE8AE54FC522F3345C5CDC45EE8CD27A1BB17C9B1859D187718E48432211372EA8640010021803243528A6F52C74E36F03336C22DDD6A4586D67C3D4FA0708FB5D2FF0027845E07BCE15F6CA7FE4988ADB4F947129F28E4AA0000000000AEA6C62E31AF0DA9E86E9ABA2B928548649ABAE8C0F9A4E32CEFBAFD85C92FC5FB1F46EC183F1A50F60EC183F261EC13B7CE324BF17EC1927F8BF63E8FFA7E0FCA87B13D8307E543D821F398D39FE2FD87F873FC5FB1F43EC384F2A3EC1D8B09E547D884EDF3BF853FC5FB1641D482B6591F41EC584F2A3EC4762C27951F61A4EDE0A1F1AA3D9A47670B9A952565A9E9560F0AB6A71F61BB361FF0899E7C7F4BE3C9A79B949B96692BB11D492DA27A7ECF87FC221D9B0FF844A4E15BF579375269DECCAAAD79DB44CF61D970CFF8E24763C2BFE38FB16FCA2BFA3C1D694E49DD3336597E2CFA2761C27951F623B060FCA87B1A49A52E5B7CF72CBF161965F8BF63E87D8307E547D83B060FCA8FB128DBE7B925F8B232CBF167D0FB060FCA8FB0760C1F951F61A36F9E6597E2FD88C92FC5FB1F44EC183F2A3EC1D8307E543D8936F9CB84AFCAC234E599775FB1F45EC183F2A1EC1D8306BF8A1EC0781CB2BAD19EF38569C329FF0091FB0E13CA8FB1725184324159742345AB29F28E241590E4A000000000010D10E09F80C002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D095148600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003FFFD9), -- Document-1, revision 1
-       ('3b570ff2-b631-4584-a9fb-77dce2f6d85b',
+       (UNHEX(REPLACE('3b570ff2-b631-4584-a9fb-77dce2f6d85b', '-', '')),
         0xFFD8FFE000104A46494600010100000100010000FFE201D84943435F50524F46494C45000101000001C800000000043000006D6E74725247422058595A2007E00001000100000000000061637370000000000000000000000000000000000000000000000000000000010000F6D6000100000000D32D0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000964657363000000F0000000247258595A00000114000000146758595A00000128000000146258595A0000013C00000014777470740000015000000014725452430000016400000028675452430000016400000028625452430000016400000028637072740000018C0000003C6D6C756300000000000000010000000C656E5553000000080000001C007300520047004258595A200000000000006FA2000038F50000039058595A2000000000000062990000B785000018DA58595A2000000000000024A000000F840000B6CF58595A20000000000000F6D6000100000000D32D706172610000000000040000000266660000F2A700000D59000013D000000A5B00000000000000006D6C756300000000000000010000000C656E5553000000200000001C0047006F006F0067006C006500200049006E0063002E00200032003000310036FFDB00430017101114110E171412141A18171B223925221F1F224632352939524857555148504E5B66836F5B617C624E50729B737C878B929492586DA0AC9F8EAA838F928DFFDB004301181A1A221E22432525438D5E505E8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8DFFC00011080103010303012200021101031101FFC4001B00000203010101000000000000000000000002010304050607FFC400321000020102040306050501010100000000000102031104122131053251142241537191132334355215334361728142A1FFC400190101000301010000000000000000000000000102030405FFC4002111010100020301010100030100000000000001021103213112133222415161FFDA000C03010002110311003F00F58000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004362B9A5E21376456DC611CD202CCEBA8675D4A3B4D0FC913DA687E488FA89D55D9D750CEBA9476AA17B6741DAA87E687D43557E75D433AEA51DA685AF9908F886122F5A911B86AB5675D433AEA64FD4B07E6C49FD4308FF00922370D56ACEBA8675D4CBDBF09E6443B7E13CC88DC355AB3AEA19D75327EA383F3621FA8E0FCD88D9AAD79D750CEBA98FF52C1F9B11A3C43092DAA458DC355AB3AEA19D7533F6CC37E710ED986FCD0DC355A33AEA19D7528ED5877FFB41DA687E487D43557E75D433AEA54B1145FF00E910F11457FE90FA86AAECEBA8675D4CD2C6E1A3BCD217F51C1F9B11B86AB5E75D433AEA64FD4707E6C43F51C1F9B11B355AF3AEA0A69F8993F51C1F9B12F8CA35219E0EEBC19285D724483BA1C00000000000AEA6C518DFA497A17D4D8A31BF4922B979538FAE192401E73B8ABF71889F765EA32E76247965EA48B64FE57FC38F886F3EE75E5FB4FD0E3625DA469C7DD572E95B76F127E33B5932895EF7B82959FF004747CB2B92FF008B3EA329B7E2539D35A109BB91A3E9745DA779DDA34468C2BC6F4E7AF432A8C9937953778BB322CDF89991AAD29D37690F8793571E15D578E4A9CC3D3A3974296D93556F7C590CD2F1D0B92CAB7160B2EE58D5D195AB4814A4F62D837E2675271762E83CC56A57C64E24CA49ADC4F021EC57753A55560A49A6B439F5B0CE17707A1D294AC5534A4B42F8E5622CDB8D2724F56C333EA74E78155237461AD869527B6874639CACEE362B52775AB3DC70CFB753F43C3C62F323DC70CFB753F435C597278D94F947129F28E68C800000000015D4D8A31BF4922FA9B14637E924572FE6A71F5C30200F35DC55CEC45C92F51973BF4157EDBF5243CBF69FA1C0C555F98D1DEA8ED424FF00A3CF538FC5AEDBEA6FC3FEEB3CFF00E2CA5879CE377E25B1C1CADAEA69859591A69D88CB972FF4D67163A628E06ED68688E062B766ACC8893D0AFE9954CE3C6287422B63162216B9BE4EC64C46C5B0CAED1C98CD39EE4D4AE9EA8E861711F123AEE8E6D5D25A1760A796B25D4DF3C771CB8E5AAEAA9E6F50CEE2C3227AC4257399B2D849498D17DFB2298BB1761DA776C8B132AE724902D5092EF6C327963AB2962C970BF8092A5A685B19A6AE4DD3260A29CF2F76457898A945E859552BE82C5A946CF7250E5CA369D8F67C37EDF4FD0F2988A5695CF57C37EDF4FD0EAE2BB61CBE35D3E51C4A7CA39BB000000000005753633E3BE92468A9B19F1DF4922B97F3538FAE10001E6BB8AB99FA0ABF6DFA92B998BFC4FD4B02BFD2CEDD0E1E1577D9DDABAE1E497438B43B8E575AA36E2FE6B3CBFA8D914D9AA9C5A89CCF8D55F2AB1A30D59C1A75257FE8AE5856D39278DF14BA932466AF34E174EC8C79AAE6D2AE8571C2D4E5969D0A8B433D48E6453DFF0036E5B4EED778BFCFCF68FA9974E5E222E352CC9A0AD5636EA68C653BCD0AE0A9C62FC6E747D6E396E3AAE9C744876D35FD8518AAB4A2D17C69456E725BDB6918E72B053AB960EC6A9D28CAFA18EA52F872FE996965459A6BA13BC35DC79AB9461F434EE6756848E8EC5F6D0A1F35C1D5684292A3B499546769A2672BDDB286F535914B57D66A47A5E1FA6061E8795CDA23D5603E861E86DC534CB92B553E51C4A7CA39BB100000000005753633E3BE92468A9B19F1DF4722B97F3538FAE10001E6BB88B9989FC6FD475CCC44FE5BF52C1AA7ECBF438F157AB24FC4EBD47F25FA1C894B2D746BC5FED4CBD4E4966B6C88747C6ECDD4F24A3A95D6B27644FE97C6BF94F56C611961A317B944B0CD3D168694E3F0A3663C2A26ACD149958B5C6565A583D6EF42F9C553562FF8B18A33569E7968376FA7CC9E32544E75922BC53B6589A2538D37796873B115FE2D5BAD91BE136E7CEC92BBB84EED0491A63B5CC7C32A7C4C3EBBA36A57D8E6CE7F92D8F85653888EC6A8C4A31095EC4254D3D19AE9AD0A2947534C63643D0997528ACF2B3437A368C5523293BB65F188AAE750A653B326A2B0D4A8B96E6B35197748AA6A7B0E1DF410F43CA4F0F95DD23D5F0FFA087A1AF1D97C5339635D3E51C4A7CA39AB200000000005753633E3BE8E468A9B19F1FF004722B979538FAE0A06088679CEE2AE6627F1BF5193EF313F8FFE921AA3F94FD0E3D6FDC4CEB547F25FA1C8ADCC6DC4CF3688C9DB409BEEBB914249C752AAB26E4EDB13AEDA7D6B13C33385EEEC69C3D58E5B3DCC7094D432A4446528BB35AB2D71DAB33B1D09464F60C9955D8985AAEEE331EB4D2465ABBD35FA966DCDE20EED232451AEA539625CA4B9578890C354734B2FFD3AA5D47165DD763874552C3AFECD9195999E953953A295AF604E4D9C97BBB6F3A8D152AAA68C8A6EA4DB63D6945475DC4A7B11A4AFA5A1A6FDDB19E9D93D47CDE240354DF428AAB43466D0CF565A1688ACD9334CBD472BD028C3C5932D1936A243AB49D99E8B06AD848FA1E769ABEA7A3C27D247D0D787DAA72F8BE9F28E253E51CE97380000000002BA9B19F1FF00472F43454D8CD8FF00A3915CBCA9C7D704180AD9E73B8BFF00A656FF006FFE8D9AD262A4DC6C4A754557F25FA1CD693DCE9555F299CD93CA6DC6CF2579DD397F45F4ED28FA99DC5D46453AAE9BB336B3714996AB5592DD8D18C6F7DD995D5CCF71E355416ACA7C569FA45F39A8D64CAB11525566A953D5B28A95734AE7578550A74E3DA6BEFE172D31D7759DCB7E2CAB84861384494B9DEA72F0D8C9D3493D51AB88E2A58AA9953EE78230CE93A52B16EAF5547569F13838DA4AC24F17493D24736C43572BF9C4FDD6DA988537A33452AD0CA966471EEE2C74DF5178E54CC9DA5561F921FB4534B59238799F50727D4AFE49FB76678BA56B290B0B5695D3BA38D999AB038974AA24F6632E3D4E8996EBB09652A9EAC794AEAE8AF76611A53A795247A2C1FD247D0F34E491E9302EF8287A1BF0FAC795A69F28E253E51CE9600000000000AEA6C66C7FD1CBD0D353633710FA397A15CBCA9C7D79FBE851527AE85B3768332D39DA37945DEE79F26DDF8D590A894BBC8D168CE3DD656AA5292B4924249C53F96C6B6D366CD965692BA17B353A9524E6ACAC42A91B3727AA324F1B3CCEC69863633E4AAEB41D394B2981BD59B6A5773D599E953557323A71FF00D72E515662735C6A94250D6DA1524FC0BFAA771A28433CFF00A46E739C96AED15B232E166A29A6B5658A5526F2A894AB45B87A7F16BE9B2271F1B491B70543E15377E6666E270B38B32996F26BAD62C00413F0EA65CD95DBA9BB25726117A0AD49BD465A128305F416E0F60945C8CF24F405B85C21D8C0E23E353CB2DD17D49A8AD0E351AB2A4EF166D86322DA738DCE7CB0EF71ACC96F7E7CA8F57C3D3581827BD8E0C251704E2B467A0C27D2C7D0B7165BB62BCB3A68A7CA3894F9473A1800000000002BA9B19B887D14BD0D353633710FA297A15CBCA99EBCCD7938C6E8AE188596D949C53EE58CD4DA4CE398EE3B665A15AA67968AC57F11C75B96D48AB5D18AACDB7635C71532CB5DA6755C9BD45D4AAF666B9AB61949234B34A4BBF59E52B2B0D85E6655B97E117CC64DF14DEEAFA95A3F09C5C753129E56D6536BA69D4B309C230F0456591366D4E1B56E525B1A70BDFAEDFF00F05524A0F4B1A387D2C979CBC48CAF49C676DAEEA261C666ACD24AECDD37EC6755153AAA6D5D230C6F6D6F8DB80E13495153AAAF27D4E92C2D154DC322B7A19963E87C28CA534AE5F1C42924E3252BF42D6DF59289F09C2CA2FB9B9E7B88E06585AAECBB9E0CF552A8AD6D99E778CE39CEA3A2B951A616ED15C9B005C0D952DF5274165B8041B3244A93DC4B0CF4412DF87E24E36835A23D9E0279F05097547CF61CC8F7FC2BEDB4FD08C7192EE232B6C6DA7CA3894F9472EA00000000002BA9B19B882BE0E4BFA34D4D8A716AF86772B97899EBC7D5939D469AD114B834EE8EDCB074EA49BB59892E1BD19C92FF00C7675A71AA54B41AF130BDCEBE3708A841CDBBB390F737C58E751E274ABB4B85C15B5B98A31A69ACCEE689D6A73A593C1136AB184D184FDC2A718EAD32CC2BB4CB5F09EB4564D49486CADEA8B271CD064508CAA2B456A8C77D2EAACE738C1F89D485351A6A2BC0CB8683755CA4B636DEFA233CEAF84265BAB19B12BBAE3135B57564CCD5B48B4525ED6BE399469FC5AF184E6D46E7A251A584A2A5195D45753CD4EF99D8875EAB864736D743AAE3F4C25D34E2789D79E21CA13697818E7525526E52776C5B017934A5A9448221921640983213250B13076625C1A6424F169347BFE15AF0CA7FE4F9F463AA3E83C27ED94BFC93115B69F28E253E51C95400000000015D4D8CBC4AA2A58294DEC8D553639DC77ED353D08A98C385C4D3ABAC648D53AA94773C4D3C454A4FB9268BDF13C4386572B98FE7A6DF71BB8BE2D4E5F0E2CE4390B39B9CAF27A8A99AC9A6772DA6EEE326C464C49D20C5F86FDC452594B496856F898EAC15EC56DCA856EE78850AAA4AD2D1974A2A4D5F7473DE9B4ED753D2167BBDC149ED1F71335E5645B0B25633AD219D92D0CF560DA6CBD3D7FA12AECDF8159EA5C5A9A4D88D1655FDC621DB3C735F48C51A62A2CAD32219200232B7A32C6249131152A43662A193085B196A8FA0709FB652FF0027CF22F547D0B847DAE97F9056EA7CA3894F9472500000000000AEA6C73F8EFDA6A7A1D0A9B1CEE3BF69ABE807806413E2410904124122413B3021816C7545D4577CA29BD0D38757994ABC6A8C3332EA6A49D9BB8538D899C927A1CF95DB587CB95EBB96465E0519FF00E91F11A657556DB5DD5AC66AF52CAC1F13428AB76F718E3D97262AB2F98C5BE83568DA5A08F4474C634927A82206459500C086040AC621928A424002131DD1F43E11F6BA5FE4F9DADD1F44E0FF006AA5FE4943753E51C4A7CA38000000000015D4D8E771EFB4D5F43A353639FC7166E15512E807CF8097A32084A000090225A04310223A335E179CC9E26EC22566CAE5E2F8B6458C95DEA2C1AF1668A3DE9A715748E6CAE9B48A5C1DF621D3763757945A51CB6653ADB629F4B7CB138B4C57766ECA9EE8AE54FC522F3345C5CDC45EE8CD27A1BB17C9B1859D187718E48432211372EA8640010021803243528A6F52C74E36F03336C22DDD6A4586D67C3D4FA0708FB5D2FF0027845E07BCE15F6CA7FE4988ADB4F947129F28E4AA0000000000AEA6C62E31AF0DA9E86E9ABA2B928548649ABAE8C0F9A4E32CEFBAFD85C92FC5FB1F46EC183F1A50F60EC183F261EC13B7CE324BF17EC1927F8BF63E8FFA7E0FCA87B13D8307E543D821F398D39FE2FD87F873FC5FB1F43EC384F2A3EC1D8B09E547D884EDF3BF853FC5FB1641D482B6591F41EC584F2A3EC4762C27951F61A4EDE0A1F1AA3D9A47670B9A952565A9E9560F0AB6A71F61BB361FF0899E7C7F4BE3C9A79B949B96692BB11D492DA27A7ECF87FC221D9B0FF844A4E15BF579375269DECCAAAD79DB44CF61D970CFF8E24763C2BFE38FB16FCA2BFA3C1D694E49DD3336597E2CFA2761C27951F623B060FCA87B1A49A52E5B7CF72CBF161965F8BF63E87D8307E547D83B060FCA8FB128DBE7B925F8B232CBF167D0FB060FCA8FB0760C1F951F61A36F9E6597E2FD88C92FC5FB1F44EC183F2A3EC1D8307E543D8936F9CB84AFCAC234E599775FB1F45EC183F2A1EC1D8306BF8A1EC0781CB2BAD19EF38569C329FF0091FB0E13CA8FB1725184324159742345AB29F28E241590E4A000000000010D10E09F80C002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D095148600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003FFFD9), -- Document-1, revision 2
-       ('53978846-e715-455b-a4e7-440084f0b49b',
+       (UNHEX(REPLACE('53978846-e715-455b-a4e7-440084f0b49b', '-', '')),
         0xFFD8FFE000104A46494600010100000100010000FFE201D84943435F50524F46494C45000101000001C800000000043000006D6E74725247422058595A2007E00001000100000000000061637370000000000000000000000000000000000000000000000000000000010000F6D6000100000000D32D0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000964657363000000F0000000247258595A00000114000000146758595A00000128000000146258595A0000013C00000014777470740000015000000014725452430000016400000028675452430000016400000028625452430000016400000028637072740000018C0000003C6D6C756300000000000000010000000C656E5553000000080000001C007300520047004258595A200000000000006FA2000038F50000039058595A2000000000000062990000B785000018DA58595A2000000000000024A000000F840000B6CF58595A20000000000000F6D6000100000000D32D706172610000000000040000000266660000F2A700000D59000013D000000A5B00000000000000006D6C756300000000000000010000000C656E5553000000200000001C0047006F006F0067006C006500200049006E0063002E00200032003000310036FFDB00430017101114110E171412141A18171B223925221F1F224632352939524857555148504E5B66836F5B617C624E50729B737C878B929492586DA0AC9F8EAA838F928DFFDB004301181A1A221E22432525438D5E505E8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8DFFC00011080103010303012200021101031101FFC4001B00000203010101000000000000000000000002010304050607FFC400321000020102040306050501010100000000000102031104122131053251142241537191132334355215334361728142A1FFC400190101000301010000000000000000000000000102030405FFC4002111010100020301010100030100000000000001021103213112133222415161FFDA000C03010002110311003F00F58000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004362B9A5E21376456DC611CD202CCEBA8675D4A3B4D0FC913DA687E488FA89D55D9D750CEBA9476AA17B6741DAA87E687D43557E75D433AEA51DA685AF9908F886122F5A911B86AB5675D433AEA64FD4B07E6C49FD4308FF00922370D56ACEBA8675D4CBDBF09E6443B7E13CC88DC355AB3AEA19D75327EA383F3621FA8E0FCD88D9AAD79D750CEBA98FF52C1F9B11A3C43092DAA458DC355AB3AEA19D7533F6CC37E710ED986FCD0DC355A33AEA19D7528ED5877FFB41DA687E487D43557E75D433AEA54B1145FF00E910F11457FE90FA86AAECEBA8675D4CD2C6E1A3BCD217F51C1F9B11B86AB5E75D433AEA64FD4707E6C43F51C1F9B11B355AF3AEA0A69F8993F51C1F9B12F8CA35219E0EEBC19285D724483BA1C00000000000AEA6C518DFA497A17D4D8A31BF4922B979538FAE192401E73B8ABF71889F765EA32E76247965EA48B64FE57FC38F886F3EE75E5FB4FD0E3625DA469C7DD572E95B76F127E33B5932895EF7B82959FF004747CB2B92FF008B3EA329B7E2539D35A109BB91A3E9745DA779DDA34468C2BC6F4E7AF432A8C9937953778BB322CDF89991AAD29D37690F8793571E15D578E4A9CC3D3A3974296D93556F7C590CD2F1D0B92CAB7160B2EE58D5D195AB4814A4F62D837E2675271762E83CC56A57C64E24CA49ADC4F021EC57753A55560A49A6B439F5B0CE17707A1D294AC5534A4B42F8E5622CDB8D2724F56C333EA74E78155237461AD869527B6874639CACEE362B52775AB3DC70CFB753F43C3C62F323DC70CFB753F435C597278D94F947129F28E68C800000000015D4D8A31BF4922FA9B14637E924572FE6A71F5C30200F35DC55CEC45C92F51973BF4157EDBF5243CBF69FA1C0C555F98D1DEA8ED424FF00A3CF538FC5AEDBEA6FC3FEEB3CFF00E2CA5879CE377E25B1C1CADAEA69859591A69D88CB972FF4D67163A628E06ED68688E062B766ACC8893D0AFE9954CE3C6287422B63162216B9BE4EC64C46C5B0CAED1C98CD39EE4D4AE9EA8E861711F123AEE8E6D5D25A1760A796B25D4DF3C771CB8E5AAEAA9E6F50CEE2C3227AC4257399B2D849498D17DFB2298BB1761DA776C8B132AE724902D5092EF6C327963AB2962C970BF8092A5A685B19A6AE4DD3260A29CF2F76457898A945E859552BE82C5A946CF7250E5CA369D8F67C37EDF4FD0F2988A5695CF57C37EDF4FD0EAE2BB61CBE35D3E51C4A7CA39BB000000000005753633E3BE92468A9B19F1DF4922B97F3538FAE10001E6BB8AB99FA0ABF6DFA92B998BFC4FD4B02BFD2CEDD0E1E1577D9DDABAE1E497438B43B8E575AA36E2FE6B3CBFA8D914D9AA9C5A89CCF8D55F2AB1A30D59C1A75257FE8AE5856D39278DF14BA932466AF34E174EC8C79AAE6D2AE8571C2D4E5969D0A8B433D48E6453DFF0036E5B4EED778BFCFCF68FA9974E5E222E352CC9A0AD5636EA68C653BCD0AE0A9C62FC6E747D6E396E3AAE9C744876D35FD8518AAB4A2D17C69456E725BDB6918E72B053AB960EC6A9D28CAFA18EA52F872FE996965459A6BA13BC35DC79AB9461F434EE6756848E8EC5F6D0A1F35C1D5684292A3B499546769A2672BDDB286F535914B57D66A47A5E1FA6061E8795CDA23D5603E861E86DC534CB92B553E51C4A7CA39BB100000000005753633E3BE92468A9B19F1DF4722B97F3538FAE10001E6BB88B9989FC6FD475CCC44FE5BF52C1AA7ECBF438F157AB24FC4EBD47F25FA1C894B2D746BC5FED4CBD4E4966B6C88747C6ECDD4F24A3A95D6B27644FE97C6BF94F56C611961A317B944B0CD3D168694E3F0A3663C2A26ACD149958B5C6565A583D6EF42F9C553562FF8B18A33569E7968376FA7CC9E32544E75922BC53B6589A2538D37796873B115FE2D5BAD91BE136E7CEC92BBB84EED0491A63B5CC7C32A7C4C3EBBA36A57D8E6CE7F92D8F85653888EC6A8C4A31095EC4254D3D19AE9AD0A2947534C63643D0997528ACF2B3437A368C5523293BB65F188AAE750A653B326A2B0D4A8B96E6B35197748AA6A7B0E1DF410F43CA4F0F95DD23D5F0FFA087A1AF1D97C5339635D3E51C4A7CA39AB200000000005753633E3BE8E468A9B19F1FF004722B979538FAE0A06088679CEE2AE6627F1BF5193EF313F8FFE921AA3F94FD0E3D6FDC4CEB547F25FA1C8ADCC6DC4CF3688C9DB409BEEBB914249C752AAB26E4EDB13AEDA7D6B13C33385EEEC69C3D58E5B3DCC7094D432A4446528BB35AB2D71DAB33B1D09464F60C9955D8985AAEEE331EB4D2465ABBD35FA966DCDE20EED232451AEA539625CA4B9578890C354734B2FFD3AA5D47165DD763874552C3AFECD9195999E953953A295AF604E4D9C97BBB6F3A8D152AAA68C8A6EA4DB63D6945475DC4A7B11A4AFA5A1A6FDDB19E9D93D47CDE240354DF428AAB43466D0CF565A1688ACD9334CBD472BD028C3C5932D1936A243AB49D99E8B06AD848FA1E769ABEA7A3C27D247D0D787DAA72F8BE9F28E253E51CE97380000000002BA9B19F1FF00472F43454D8CD8FF00A3915CBCA9C7D704180AD9E73B8BFF00A656FF006FFE8D9AD262A4DC6C4A754557F25FA1CD693DCE9555F299CD93CA6DC6CF2579DD397F45F4ED28FA99DC5D46453AAE9BB336B3714996AB5592DD8D18C6F7DD995D5CCF71E355416ACA7C569FA45F39A8D64CAB11525566A953D5B28A95734AE7578550A74E3DA6BEFE172D31D7759DCB7E2CAB84861384494B9DEA72F0D8C9D3493D51AB88E2A58AA9953EE78230CE93A52B16EAF5547569F13838DA4AC24F17493D24736C43572BF9C4FDD6DA988537A33452AD0CA966471EEE2C74DF5178E54CC9DA5561F921FB4534B59238799F50727D4AFE49FB76678BA56B290B0B5695D3BA38D999AB038974AA24F6632E3D4E8996EBB09652A9EAC794AEAE8AF76611A53A795247A2C1FD247D0F34E491E9302EF8287A1BF0FAC795A69F28E253E51CE9600000000000AEA6C66C7FD1CBD0D353633710FA397A15CBCA9C7D79FBE851527AE85B3768332D39DA37945DEE79F26DDF8D590A894BBC8D168CE3DD656AA5292B4924249C53F96C6B6D366CD965692BA17B353A9524E6ACAC42A91B3727AA324F1B3CCEC69863633E4AAEB41D394B2981BD59B6A5773D599E953557323A71FF00D72E515662735C6A94250D6DA1524FC0BFAA771A28433CFF00A46E739C96AED15B232E166A29A6B5658A5526F2A894AB45B87A7F16BE9B2271F1B491B70543E15377E6666E270B38B32996F26BAD62C00413F0EA65CD95DBA9BB25726117A0AD49BD465A128305F416E0F60945C8CF24F405B85C21D8C0E23E353CB2DD17D49A8AD0E351AB2A4EF166D86322DA738DCE7CB0EF71ACC96F7E7CA8F57C3D3581827BD8E0C251704E2B467A0C27D2C7D0B7165BB62BCB3A68A7CA3894F9473A1800000000002BA9B19B887D14BD0D353633710FA297A15CBCA99EBCCD7938C6E8AE188596D949C53EE58CD4DA4CE398EE3B665A15AA67968AC57F11C75B96D48AB5D18AACDB7635C71532CB5DA6755C9BD45D4AAF666B9AB61949234B34A4BBF59E52B2B0D85E6655B97E117CC64DF14DEEAFA95A3F09C5C753129E56D6536BA69D4B309C230F0456591366D4E1B56E525B1A70BDFAEDFF00F05524A0F4B1A387D2C979CBC48CAF49C676DAEEA261C666ACD24AECDD37EC6755153AAA6D5D230C6F6D6F8DB80E13495153AAAF27D4E92C2D154DC322B7A19963E87C28CA534AE5F1C42924E3252BF42D6DF59289F09C2CA2FB9B9E7B88E06585AAECBB9E0CF552A8AD6D99E778CE39CEA3A2B951A616ED15C9B005C0D952DF5274165B8041B3244A93DC4B0CF4412DF87E24E36835A23D9E0279F05097547CF61CC8F7FC2BEDB4FD08C7192EE232B6C6DA7CA3894F9472EA00000000002BA9B19B882BE0E4BFA34D4D8A716AF86772B97899EBC7D5939D469AD114B834EE8EDCB074EA49BB59892E1BD19C92FF00C7675A71AA54B41AF130BDCEBE3708A841CDBBB390F737C58E751E274ABB4B85C15B5B98A31A69ACCEE689D6A73A593C1136AB184D184FDC2A718EAD32CC2BB4CB5F09EB4564D49486CADEA8B271CD064508CAA2B456A8C77D2EAACE738C1F89D485351A6A2BC0CB8683755CA4B636DEFA233CEAF84265BAB19B12BBAE3135B57564CCD5B48B4525ED6BE399469FC5AF184E6D46E7A251A584A2A5195D45753CD4EF99D8875EAB864736D743AAE3F4C25D34E2789D79E21CA13697818E7525526E52776C5B017934A5A9448221921640983213250B13076625C1A6424F169347BFE15AF0CA7FE4F9F463AA3E83C27ED94BFC93115B69F28E253E51C95400000000015D4D8CBC4AA2A58294DEC8D553639DC77ED353D08A98C385C4D3ABAC648D53AA94773C4D3C454A4FB9268BDF13C4386572B98FE7A6DF71BB8BE2D4E5F0E2CE4390B39B9CAF27A8A99AC9A6772DA6EEE326C464C49D20C5F86FDC452594B496856F898EAC15EC56DCA856EE78850AAA4AD2D1974A2A4D5F7473DE9B4ED753D2167BBDC149ED1F71335E5645B0B25633AD219D92D0CF560DA6CBD3D7FA12AECDF8159EA5C5A9A4D88D1655FDC621DB3C735F48C51A62A2CAD32219200232B7A32C6249131152A43662A193085B196A8FA0709FB652FF0027CF22F547D0B847DAE97F9056EA7CA3894F9472500000000000AEA6C73F8EFDA6A7A1D0A9B1CEE3BF69ABE807806413E2410904124122413B3021816C7545D4577CA29BD0D38757994ABC6A8C3332EA6A49D9BB8538D899C927A1CF95DB587CB95EBB96465E0519FF00E91F11A657556DB5DD5AC66AF52CAC1F13428AB76F718E3D97262AB2F98C5BE83568DA5A08F4474C634927A82206459500C086040AC621928A424002131DD1F43E11F6BA5FE4F9DADD1F44E0FF006AA5FE4943753E51C4A7CA38000000000015D4D8E771EFB4D5F43A353639FC7166E15512E807CF8097A32084A000090225A04310223A335E179CC9E26EC22566CAE5E2F8B6458C95DEA2C1AF1668A3DE9A715748E6CAE9B48A5C1DF621D3763757945A51CB6653ADB629F4B7CB138B4C57766ECA9EE8AE54FC522F3345C5CDC45EE8CD27A1BB17C9B1859D187718E48432211372EA8640010021803243528A6F52C74E36F03336C22DDD6A4586D67C3D4FA0708FB5D2FF0027845E07BCE15F6CA7FE4988ADB4F947129F28E4AA0000000000AEA6C62E31AF0DA9E86E9ABA2B928548649ABAE8C0F9A4E32CEFBAFD85C92FC5FB1F46EC183F1A50F60EC183F261EC13B7CE324BF17EC1927F8BF63E8FFA7E0FCA87B13D8307E543D821F398D39FE2FD87F873FC5FB1F43EC384F2A3EC1D8B09E547D884EDF3BF853FC5FB1641D482B6591F41EC584F2A3EC4762C27951F61A4EDE0A1F1AA3D9A47670B9A952565A9E9560F0AB6A71F61BB361FF0899E7C7F4BE3C9A79B949B96692BB11D492DA27A7ECF87FC221D9B0FF844A4E15BF579375269DECCAAAD79DB44CF61D970CFF8E24763C2BFE38FB16FCA2BFA3C1D694E49DD3336597E2CFA2761C27951F623B060FCA87B1A49A52E5B7CF72CBF161965F8BF63E87D8307E547D83B060FCA8FB128DBE7B925F8B232CBF167D0FB060FCA8FB0760C1F951F61A36F9E6597E2FD88C92FC5FB1F44EC183F2A3EC1D8307E543D8936F9CB84AFCAC234E599775FB1F45EC183F2A1EC1D8306BF8A1EC0781CB2BAD19EF38569C329FF0091FB0E13CA8FB1725184324159742345AB29F28E241590E4A000000000010D10E09F80C002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D095148600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003FFFD9), -- Document-1, revision 3
-       ('297282c6-d06e-4c33-8bc8-0828866ff7e5',
+       (UNHEX(REPLACE('297282c6-d06e-4c33-8bc8-0828866ff7e5', '-', '')),
         0xFFD8FFE000104A46494600010100000100010000FFE201D84943435F50524F46494C45000101000001C800000000043000006D6E74725247422058595A2007E00001000100000000000061637370000000000000000000000000000000000000000000000000000000010000F6D6000100000000D32D0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000964657363000000F0000000247258595A00000114000000146758595A00000128000000146258595A0000013C00000014777470740000015000000014725452430000016400000028675452430000016400000028625452430000016400000028637072740000018C0000003C6D6C756300000000000000010000000C656E5553000000080000001C007300520047004258595A200000000000006FA2000038F50000039058595A2000000000000062990000B785000018DA58595A2000000000000024A000000F840000B6CF58595A20000000000000F6D6000100000000D32D706172610000000000040000000266660000F2A700000D59000013D000000A5B00000000000000006D6C756300000000000000010000000C656E5553000000200000001C0047006F006F0067006C006500200049006E0063002E00200032003000310036FFDB00430017101114110E171412141A18171B223925221F1F224632352939524857555148504E5B66836F5B617C624E50729B737C878B929492586DA0AC9F8EAA838F928DFFDB004301181A1A221E22432525438D5E505E8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8DFFC00011080103010303012200021101031101FFC4001B00000203010101000000000000000000000002010304050607FFC400321000020102040306050501010100000000000102031104122131053251142241537191132334355215334361728142A1FFC400190101000301010000000000000000000000000102030405FFC4002111010100020301010100030100000000000001021103213112133222415161FFDA000C03010002110311003F00F58000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004362B9A5E21376456DC611CD202CCEBA8675D4A3B4D0FC913DA687E488FA89D55D9D750CEBA9476AA17B6741DAA87E687D43557E75D433AEA51DA685AF9908F886122F5A911B86AB5675D433AEA64FD4B07E6C49FD4308FF00922370D56ACEBA8675D4CBDBF09E6443B7E13CC88DC355AB3AEA19D75327EA383F3621FA8E0FCD88D9AAD79D750CEBA98FF52C1F9B11A3C43092DAA458DC355AB3AEA19D7533F6CC37E710ED986FCD0DC355A33AEA19D7528ED5877FFB41DA687E487D43557E75D433AEA54B1145FF00E910F11457FE90FA86AAECEBA8675D4CD2C6E1A3BCD217F51C1F9B11B86AB5E75D433AEA64FD4707E6C43F51C1F9B11B355AF3AEA0A69F8993F51C1F9B12F8CA35219E0EEBC19285D724483BA1C00000000000AEA6C518DFA497A17D4D8A31BF4922B979538FAE192401E73B8ABF71889F765EA32E76247965EA48B64FE57FC38F886F3EE75E5FB4FD0E3625DA469C7DD572E95B76F127E33B5932895EF7B82959FF004747CB2B92FF008B3EA329B7E2539D35A109BB91A3E9745DA779DDA34468C2BC6F4E7AF432A8C9937953778BB322CDF89991AAD29D37690F8793571E15D578E4A9CC3D3A3974296D93556F7C590CD2F1D0B92CAB7160B2EE58D5D195AB4814A4F62D837E2675271762E83CC56A57C64E24CA49ADC4F021EC57753A55560A49A6B439F5B0CE17707A1D294AC5534A4B42F8E5622CDB8D2724F56C333EA74E78155237461AD869527B6874639CACEE362B52775AB3DC70CFB753F43C3C62F323DC70CFB753F435C597278D94F947129F28E68C800000000015D4D8A31BF4922FA9B14637E924572FE6A71F5C30200F35DC55CEC45C92F51973BF4157EDBF5243CBF69FA1C0C555F98D1DEA8ED424FF00A3CF538FC5AEDBEA6FC3FEEB3CFF00E2CA5879CE377E25B1C1CADAEA69859591A69D88CB972FF4D67163A628E06ED68688E062B766ACC8893D0AFE9954CE3C6287422B63162216B9BE4EC64C46C5B0CAED1C98CD39EE4D4AE9EA8E861711F123AEE8E6D5D25A1760A796B25D4DF3C771CB8E5AAEAA9E6F50CEE2C3227AC4257399B2D849498D17DFB2298BB1761DA776C8B132AE724902D5092EF6C327963AB2962C970BF8092A5A685B19A6AE4DD3260A29CF2F76457898A945E859552BE82C5A946CF7250E5CA369D8F67C37EDF4FD0F2988A5695CF57C37EDF4FD0EAE2BB61CBE35D3E51C4A7CA39BB000000000005753633E3BE92468A9B19F1DF4922B97F3538FAE10001E6BB8AB99FA0ABF6DFA92B998BFC4FD4B02BFD2CEDD0E1E1577D9DDABAE1E497438B43B8E575AA36E2FE6B3CBFA8D914D9AA9C5A89CCF8D55F2AB1A30D59C1A75257FE8AE5856D39278DF14BA932466AF34E174EC8C79AAE6D2AE8571C2D4E5969D0A8B433D48E6453DFF0036E5B4EED778BFCFCF68FA9974E5E222E352CC9A0AD5636EA68C653BCD0AE0A9C62FC6E747D6E396E3AAE9C744876D35FD8518AAB4A2D17C69456E725BDB6918E72B053AB960EC6A9D28CAFA18EA52F872FE996965459A6BA13BC35DC79AB9461F434EE6756848E8EC5F6D0A1F35C1D5684292A3B499546769A2672BDDB286F535914B57D66A47A5E1FA6061E8795CDA23D5603E861E86DC534CB92B553E51C4A7CA39BB100000000005753633E3BE92468A9B19F1DF4722B97F3538FAE10001E6BB88B9989FC6FD475CCC44FE5BF52C1AA7ECBF438F157AB24FC4EBD47F25FA1C894B2D746BC5FED4CBD4E4966B6C88747C6ECDD4F24A3A95D6B27644FE97C6BF94F56C611961A317B944B0CD3D168694E3F0A3663C2A26ACD149958B5C6565A583D6EF42F9C553562FF8B18A33569E7968376FA7CC9E32544E75922BC53B6589A2538D37796873B115FE2D5BAD91BE136E7CEC92BBB84EED0491A63B5CC7C32A7C4C3EBBA36A57D8E6CE7F92D8F85653888EC6A8C4A31095EC4254D3D19AE9AD0A2947534C63643D0997528ACF2B3437A368C5523293BB65F188AAE750A653B326A2B0D4A8B96E6B35197748AA6A7B0E1DF410F43CA4F0F95DD23D5F0FFA087A1AF1D97C5339635D3E51C4A7CA39AB200000000005753633E3BE8E468A9B19F1FF004722B979538FAE0A06088679CEE2AE6627F1BF5193EF313F8FFE921AA3F94FD0E3D6FDC4CEB547F25FA1C8ADCC6DC4CF3688C9DB409BEEBB914249C752AAB26E4EDB13AEDA7D6B13C33385EEEC69C3D58E5B3DCC7094D432A4446528BB35AB2D71DAB33B1D09464F60C9955D8985AAEEE331EB4D2465ABBD35FA966DCDE20EED232451AEA539625CA4B9578890C354734B2FFD3AA5D47165DD763874552C3AFECD9195999E953953A295AF604E4D9C97BBB6F3A8D152AAA68C8A6EA4DB63D6945475DC4A7B11A4AFA5A1A6FDDB19E9D93D47CDE240354DF428AAB43466D0CF565A1688ACD9334CBD472BD028C3C5932D1936A243AB49D99E8B06AD848FA1E769ABEA7A3C27D247D0D787DAA72F8BE9F28E253E51CE97380000000002BA9B19F1FF00472F43454D8CD8FF00A3915CBCA9C7D704180AD9E73B8BFF00A656FF006FFE8D9AD262A4DC6C4A754557F25FA1CD693DCE9555F299CD93CA6DC6CF2579DD397F45F4ED28FA99DC5D46453AAE9BB336B3714996AB5592DD8D18C6F7DD995D5CCF71E355416ACA7C569FA45F39A8D64CAB11525566A953D5B28A95734AE7578550A74E3DA6BEFE172D31D7759DCB7E2CAB84861384494B9DEA72F0D8C9D3493D51AB88E2A58AA9953EE78230CE93A52B16EAF5547569F13838DA4AC24F17493D24736C43572BF9C4FDD6DA988537A33452AD0CA966471EEE2C74DF5178E54CC9DA5561F921FB4534B59238799F50727D4AFE49FB76678BA56B290B0B5695D3BA38D999AB038974AA24F6632E3D4E8996EBB09652A9EAC794AEAE8AF76611A53A795247A2C1FD247D0F34E491E9302EF8287A1BF0FAC795A69F28E253E51CE9600000000000AEA6C66C7FD1CBD0D353633710FA397A15CBCA9C7D79FBE851527AE85B3768332D39DA37945DEE79F26DDF8D590A894BBC8D168CE3DD656AA5292B4924249C53F96C6B6D366CD965692BA17B353A9524E6ACAC42A91B3727AA324F1B3CCEC69863633E4AAEB41D394B2981BD59B6A5773D599E953557323A71FF00D72E515662735C6A94250D6DA1524FC0BFAA771A28433CFF00A46E739C96AED15B232E166A29A6B5658A5526F2A894AB45B87A7F16BE9B2271F1B491B70543E15377E6666E270B38B32996F26BAD62C00413F0EA65CD95DBA9BB25726117A0AD49BD465A128305F416E0F60945C8CF24F405B85C21D8C0E23E353CB2DD17D49A8AD0E351AB2A4EF166D86322DA738DCE7CB0EF71ACC96F7E7CA8F57C3D3581827BD8E0C251704E2B467A0C27D2C7D0B7165BB62BCB3A68A7CA3894F9473A1800000000002BA9B19B887D14BD0D353633710FA297A15CBCA99EBCCD7938C6E8AE188596D949C53EE58CD4DA4CE398EE3B665A15AA67968AC57F11C75B96D48AB5D18AACDB7635C71532CB5DA6755C9BD45D4AAF666B9AB61949234B34A4BBF59E52B2B0D85E6655B97E117CC64DF14DEEAFA95A3F09C5C753129E56D6536BA69D4B309C230F0456591366D4E1B56E525B1A70BDFAEDFF00F05524A0F4B1A387D2C979CBC48CAF49C676DAEEA261C666ACD24AECDD37EC6755153AAA6D5D230C6F6D6F8DB80E13495153AAAF27D4E92C2D154DC322B7A19963E87C28CA534AE5F1C42924E3252BF42D6DF59289F09C2CA2FB9B9E7B88E06585AAECBB9E0CF552A8AD6D99E778CE39CEA3A2B951A616ED15C9B005C0D952DF5274165B8041B3244A93DC4B0CF4412DF87E24E36835A23D9E0279F05097547CF61CC8F7FC2BEDB4FD08C7192EE232B6C6DA7CA3894F9472EA00000000002BA9B19B882BE0E4BFA34D4D8A716AF86772B97899EBC7D5939D469AD114B834EE8EDCB074EA49BB59892E1BD19C92FF00C7675A71AA54B41AF130BDCEBE3708A841CDBBB390F737C58E751E274ABB4B85C15B5B98A31A69ACCEE689D6A73A593C1136AB184D184FDC2A718EAD32CC2BB4CB5F09EB4564D49486CADEA8B271CD064508CAA2B456A8C77D2EAACE738C1F89D485351A6A2BC0CB8683755CA4B636DEFA233CEAF84265BAB19B12BBAE3135B57564CCD5B48B4525ED6BE399469FC5AF184E6D46E7A251A584A2A5195D45753CD4EF99D8875EAB864736D743AAE3F4C25D34E2789D79E21CA13697818E7525526E52776C5B017934A5A9448221921640983213250B13076625C1A6424F169347BFE15AF0CA7FE4F9F463AA3E83C27ED94BFC93115B69F28E253E51C95400000000015D4D8CBC4AA2A58294DEC8D553639DC77ED353D08A98C385C4D3ABAC648D53AA94773C4D3C454A4FB9268BDF13C4386572B98FE7A6DF71BB8BE2D4E5F0E2CE4390B39B9CAF27A8A99AC9A6772DA6EEE326C464C49D20C5F86FDC452594B496856F898EAC15EC56DCA856EE78850AAA4AD2D1974A2A4D5F7473DE9B4ED753D2167BBDC149ED1F71335E5645B0B25633AD219D92D0CF560DA6CBD3D7FA12AECDF8159EA5C5A9A4D88D1655FDC621DB3C735F48C51A62A2CAD32219200232B7A32C6249131152A43662A193085B196A8FA0709FB652FF0027CF22F547D0B847DAE97F9056EA7CA3894F9472500000000000AEA6C73F8EFDA6A7A1D0A9B1CEE3BF69ABE807806413E2410904124122413B3021816C7545D4577CA29BD0D38757994ABC6A8C3332EA6A49D9BB8538D899C927A1CF95DB587CB95EBB96465E0519FF00E91F11A657556DB5DD5AC66AF52CAC1F13428AB76F718E3D97262AB2F98C5BE83568DA5A08F4474C634927A82206459500C086040AC621928A424002131DD1F43E11F6BA5FE4F9DADD1F44E0FF006AA5FE4943753E51C4A7CA38000000000015D4D8E771EFB4D5F43A353639FC7166E15512E807CF8097A32084A000090225A04310223A335E179CC9E26EC22566CAE5E2F8B6458C95DEA2C1AF1668A3DE9A715748E6CAE9B48A5C1DF621D3763757945A51CB6653ADB629F4B7CB138B4C57766ECA9EE8AE54FC522F3345C5CDC45EE8CD27A1BB17C9B1859D187718E48432211372EA8640010021803243528A6F52C74E36F03336C22DDD6A4586D67C3D4FA0708FB5D2FF0027845E07BCE15F6CA7FE4988ADB4F947129F28E4AA0000000000AEA6C62E31AF0DA9E86E9ABA2B928548649ABAE8C0F9A4E32CEFBAFD85C92FC5FB1F46EC183F1A50F60EC183F261EC13B7CE324BF17EC1927F8BF63E8FFA7E0FCA87B13D8307E543D821F398D39FE2FD87F873FC5FB1F43EC384F2A3EC1D8B09E547D884EDF3BF853FC5FB1641D482B6591F41EC584F2A3EC4762C27951F61A4EDE0A1F1AA3D9A47670B9A952565A9E9560F0AB6A71F61BB361FF0899E7C7F4BE3C9A79B949B96692BB11D492DA27A7ECF87FC221D9B0FF844A4E15BF579375269DECCAAAD79DB44CF61D970CFF8E24763C2BFE38FB16FCA2BFA3C1D694E49DD3336597E2CFA2761C27951F623B060FCA87B1A49A52E5B7CF72CBF161965F8BF63E87D8307E547D83B060FCA8FB128DBE7B925F8B232CBF167D0FB060FCA8FB0760C1F951F61A36F9E6597E2FD88C92FC5FB1F44EC183F2A3EC1D8307E543D8936F9CB84AFCAC234E599775FB1F45EC183F2A1EC1D8306BF8A1EC0781CB2BAD19EF38569C329FF0091FB0E13CA8FB1725184324159742345AB29F28E241590E4A000000000010D10E09F80C002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D095148600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003FFFD9), -- Document-2, revision 1
-       ('bfb3ad87-cb18-4b70-9594-128d284a7e6e',
+       (UNHEX(REPLACE('bfb3ad87-cb18-4b70-9594-128d284a7e6e', '-', '')),
         0xFFD8FFE000104A46494600010100000100010000FFE201D84943435F50524F46494C45000101000001C800000000043000006D6E74725247422058595A2007E00001000100000000000061637370000000000000000000000000000000000000000000000000000000010000F6D6000100000000D32D0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000964657363000000F0000000247258595A00000114000000146758595A00000128000000146258595A0000013C00000014777470740000015000000014725452430000016400000028675452430000016400000028625452430000016400000028637072740000018C0000003C6D6C756300000000000000010000000C656E5553000000080000001C007300520047004258595A200000000000006FA2000038F50000039058595A2000000000000062990000B785000018DA58595A2000000000000024A000000F840000B6CF58595A20000000000000F6D6000100000000D32D706172610000000000040000000266660000F2A700000D59000013D000000A5B00000000000000006D6C756300000000000000010000000C656E5553000000200000001C0047006F006F0067006C006500200049006E0063002E00200032003000310036FFDB00430017101114110E171412141A18171B223925221F1F224632352939524857555148504E5B66836F5B617C624E50729B737C878B929492586DA0AC9F8EAA838F928DFFDB004301181A1A221E22432525438D5E505E8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8DFFC00011080103010303012200021101031101FFC4001B00000203010101000000000000000000000002010304050607FFC400321000020102040306050501010100000000000102031104122131053251142241537191132334355215334361728142A1FFC400190101000301010000000000000000000000000102030405FFC4002111010100020301010100030100000000000001021103213112133222415161FFDA000C03010002110311003F00F58000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004362B9A5E21376456DC611CD202CCEBA8675D4A3B4D0FC913DA687E488FA89D55D9D750CEBA9476AA17B6741DAA87E687D43557E75D433AEA51DA685AF9908F886122F5A911B86AB5675D433AEA64FD4B07E6C49FD4308FF00922370D56ACEBA8675D4CBDBF09E6443B7E13CC88DC355AB3AEA19D75327EA383F3621FA8E0FCD88D9AAD79D750CEBA98FF52C1F9B11A3C43092DAA458DC355AB3AEA19D7533F6CC37E710ED986FCD0DC355A33AEA19D7528ED5877FFB41DA687E487D43557E75D433AEA54B1145FF00E910F11457FE90FA86AAECEBA8675D4CD2C6E1A3BCD217F51C1F9B11B86AB5E75D433AEA64FD4707E6C43F51C1F9B11B355AF3AEA0A69F8993F51C1F9B12F8CA35219E0EEBC19285D724483BA1C00000000000AEA6C518DFA497A17D4D8A31BF4922B979538FAE192401E73B8ABF71889F765EA32E76247965EA48B64FE57FC38F886F3EE75E5FB4FD0E3625DA469C7DD572E95B76F127E33B5932895EF7B82959FF004747CB2B92FF008B3EA329B7E2539D35A109BB91A3E9745DA779DDA34468C2BC6F4E7AF432A8C9937953778BB322CDF89991AAD29D37690F8793571E15D578E4A9CC3D3A3974296D93556F7C590CD2F1D0B92CAB7160B2EE58D5D195AB4814A4F62D837E2675271762E83CC56A57C64E24CA49ADC4F021EC57753A55560A49A6B439F5B0CE17707A1D294AC5534A4B42F8E5622CDB8D2724F56C333EA74E78155237461AD869527B6874639CACEE362B52775AB3DC70CFB753F43C3C62F323DC70CFB753F435C597278D94F947129F28E68C800000000015D4D8A31BF4922FA9B14637E924572FE6A71F5C30200F35DC55CEC45C92F51973BF4157EDBF5243CBF69FA1C0C555F98D1DEA8ED424FF00A3CF538FC5AEDBEA6FC3FEEB3CFF00E2CA5879CE377E25B1C1CADAEA69859591A69D88CB972FF4D67163A628E06ED68688E062B766ACC8893D0AFE9954CE3C6287422B63162216B9BE4EC64C46C5B0CAED1C98CD39EE4D4AE9EA8E861711F123AEE8E6D5D25A1760A796B25D4DF3C771CB8E5AAEAA9E6F50CEE2C3227AC4257399B2D849498D17DFB2298BB1761DA776C8B132AE724902D5092EF6C327963AB2962C970BF8092A5A685B19A6AE4DD3260A29CF2F76457898A945E859552BE82C5A946CF7250E5CA369D8F67C37EDF4FD0F2988A5695CF57C37EDF4FD0EAE2BB61CBE35D3E51C4A7CA39BB000000000005753633E3BE92468A9B19F1DF4922B97F3538FAE10001E6BB8AB99FA0ABF6DFA92B998BFC4FD4B02BFD2CEDD0E1E1577D9DDABAE1E497438B43B8E575AA36E2FE6B3CBFA8D914D9AA9C5A89CCF8D55F2AB1A30D59C1A75257FE8AE5856D39278DF14BA932466AF34E174EC8C79AAE6D2AE8571C2D4E5969D0A8B433D48E6453DFF0036E5B4EED778BFCFCF68FA9974E5E222E352CC9A0AD5636EA68C653BCD0AE0A9C62FC6E747D6E396E3AAE9C744876D35FD8518AAB4A2D17C69456E725BDB6918E72B053AB960EC6A9D28CAFA18EA52F872FE996965459A6BA13BC35DC79AB9461F434EE6756848E8EC5F6D0A1F35C1D5684292A3B499546769A2672BDDB286F535914B57D66A47A5E1FA6061E8795CDA23D5603E861E86DC534CB92B553E51C4A7CA39BB100000000005753633E3BE92468A9B19F1DF4722B97F3538FAE10001E6BB88B9989FC6FD475CCC44FE5BF52C1AA7ECBF438F157AB24FC4EBD47F25FA1C894B2D746BC5FED4CBD4E4966B6C88747C6ECDD4F24A3A95D6B27644FE97C6BF94F56C611961A317B944B0CD3D168694E3F0A3663C2A26ACD149958B5C6565A583D6EF42F9C553562FF8B18A33569E7968376FA7CC9E32544E75922BC53B6589A2538D37796873B115FE2D5BAD91BE136E7CEC92BBB84EED0491A63B5CC7C32A7C4C3EBBA36A57D8E6CE7F92D8F85653888EC6A8C4A31095EC4254D3D19AE9AD0A2947534C63643D0997528ACF2B3437A368C5523293BB65F188AAE750A653B326A2B0D4A8B96E6B35197748AA6A7B0E1DF410F43CA4F0F95DD23D5F0FFA087A1AF1D97C5339635D3E51C4A7CA39AB200000000005753633E3BE8E468A9B19F1FF004722B979538FAE0A06088679CEE2AE6627F1BF5193EF313F8FFE921AA3F94FD0E3D6FDC4CEB547F25FA1C8ADCC6DC4CF3688C9DB409BEEBB914249C752AAB26E4EDB13AEDA7D6B13C33385EEEC69C3D58E5B3DCC7094D432A4446528BB35AB2D71DAB33B1D09464F60C9955D8985AAEEE331EB4D2465ABBD35FA966DCDE20EED232451AEA539625CA4B9578890C354734B2FFD3AA5D47165DD763874552C3AFECD9195999E953953A295AF604E4D9C97BBB6F3A8D152AAA68C8A6EA4DB63D6945475DC4A7B11A4AFA5A1A6FDDB19E9D93D47CDE240354DF428AAB43466D0CF565A1688ACD9334CBD472BD028C3C5932D1936A243AB49D99E8B06AD848FA1E769ABEA7A3C27D247D0D787DAA72F8BE9F28E253E51CE97380000000002BA9B19F1FF00472F43454D8CD8FF00A3915CBCA9C7D704180AD9E73B8BFF00A656FF006FFE8D9AD262A4DC6C4A754557F25FA1CD693DCE9555F299CD93CA6DC6CF2579DD397F45F4ED28FA99DC5D46453AAE9BB336B3714996AB5592DD8D18C6F7DD995D5CCF71E355416ACA7C569FA45F39A8D64CAB11525566A953D5B28A95734AE7578550A74E3DA6BEFE172D31D7759DCB7E2CAB84861384494B9DEA72F0D8C9D3493D51AB88E2A58AA9953EE78230CE93A52B16EAF5547569F13838DA4AC24F17493D24736C43572BF9C4FDD6DA988537A33452AD0CA966471EEE2C74DF5178E54CC9DA5561F921FB4534B59238799F50727D4AFE49FB76678BA56B290B0B5695D3BA38D999AB038974AA24F6632E3D4E8996EBB09652A9EAC794AEAE8AF76611A53A795247A2C1FD247D0F34E491E9302EF8287A1BF0FAC795A69F28E253E51CE9600000000000AEA6C66C7FD1CBD0D353633710FA397A15CBCA9C7D79FBE851527AE85B3768332D39DA37945DEE79F26DDF8D590A894BBC8D168CE3DD656AA5292B4924249C53F96C6B6D366CD965692BA17B353A9524E6ACAC42A91B3727AA324F1B3CCEC69863633E4AAEB41D394B2981BD59B6A5773D599E953557323A71FF00D72E515662735C6A94250D6DA1524FC0BFAA771A28433CFF00A46E739C96AED15B232E166A29A6B5658A5526F2A894AB45B87A7F16BE9B2271F1B491B70543E15377E6666E270B38B32996F26BAD62C00413F0EA65CD95DBA9BB25726117A0AD49BD465A128305F416E0F60945C8CF24F405B85C21D8C0E23E353CB2DD17D49A8AD0E351AB2A4EF166D86322DA738DCE7CB0EF71ACC96F7E7CA8F57C3D3581827BD8E0C251704E2B467A0C27D2C7D0B7165BB62BCB3A68A7CA3894F9473A1800000000002BA9B19B887D14BD0D353633710FA297A15CBCA99EBCCD7938C6E8AE188596D949C53EE58CD4DA4CE398EE3B665A15AA67968AC57F11C75B96D48AB5D18AACDB7635C71532CB5DA6755C9BD45D4AAF666B9AB61949234B34A4BBF59E52B2B0D85E6655B97E117CC64DF14DEEAFA95A3F09C5C753129E56D6536BA69D4B309C230F0456591366D4E1B56E525B1A70BDFAEDFF00F05524A0F4B1A387D2C979CBC48CAF49C676DAEEA261C666ACD24AECDD37EC6755153AAA6D5D230C6F6D6F8DB80E13495153AAAF27D4E92C2D154DC322B7A19963E87C28CA534AE5F1C42924E3252BF42D6DF59289F09C2CA2FB9B9E7B88E06585AAECBB9E0CF552A8AD6D99E778CE39CEA3A2B951A616ED15C9B005C0D952DF5274165B8041B3244A93DC4B0CF4412DF87E24E36835A23D9E0279F05097547CF61CC8F7FC2BEDB4FD08C7192EE232B6C6DA7CA3894F9472EA00000000002BA9B19B882BE0E4BFA34D4D8A716AF86772B97899EBC7D5939D469AD114B834EE8EDCB074EA49BB59892E1BD19C92FF00C7675A71AA54B41AF130BDCEBE3708A841CDBBB390F737C58E751E274ABB4B85C15B5B98A31A69ACCEE689D6A73A593C1136AB184D184FDC2A718EAD32CC2BB4CB5F09EB4564D49486CADEA8B271CD064508CAA2B456A8C77D2EAACE738C1F89D485351A6A2BC0CB8683755CA4B636DEFA233CEAF84265BAB19B12BBAE3135B57564CCD5B48B4525ED6BE399469FC5AF184E6D46E7A251A584A2A5195D45753CD4EF99D8875EAB864736D743AAE3F4C25D34E2789D79E21CA13697818E7525526E52776C5B017934A5A9448221921640983213250B13076625C1A6424F169347BFE15AF0CA7FE4F9F463AA3E83C27ED94BFC93115B69F28E253E51C95400000000015D4D8CBC4AA2A58294DEC8D553639DC77ED353D08A98C385C4D3ABAC648D53AA94773C4D3C454A4FB9268BDF13C4386572B98FE7A6DF71BB8BE2D4E5F0E2CE4390B39B9CAF27A8A99AC9A6772DA6EEE326C464C49D20C5F86FDC452594B496856F898EAC15EC56DCA856EE78850AAA4AD2D1974A2A4D5F7473DE9B4ED753D2167BBDC149ED1F71335E5645B0B25633AD219D92D0CF560DA6CBD3D7FA12AECDF8159EA5C5A9A4D88D1655FDC621DB3C735F48C51A62A2CAD32219200232B7A32C6249131152A43662A193085B196A8FA0709FB652FF0027CF22F547D0B847DAE97F9056EA7CA3894F9472500000000000AEA6C73F8EFDA6A7A1D0A9B1CEE3BF69ABE807806413E2410904124122413B3021816C7545D4577CA29BD0D38757994ABC6A8C3332EA6A49D9BB8538D899C927A1CF95DB587CB95EBB96465E0519FF00E91F11A657556DB5DD5AC66AF52CAC1F13428AB76F718E3D97262AB2F98C5BE83568DA5A08F4474C634927A82206459500C086040AC621928A424002131DD1F43E11F6BA5FE4F9DADD1F44E0FF006AA5FE4943753E51C4A7CA38000000000015D4D8E771EFB4D5F43A353639FC7166E15512E807CF8097A32084A000090225A04310223A335E179CC9E26EC22566CAE5E2F8B6458C95DEA2C1AF1668A3DE9A715748E6CAE9B48A5C1DF621D3763757945A51CB6653ADB629F4B7CB138B4C57766ECA9EE8AE54FC522F3345C5CDC45EE8CD27A1BB17C9B1859D187718E48432211372EA8640010021803243528A6F52C74E36F03336C22DDD6A4586D67C3D4FA0708FB5D2FF0027845E07BCE15F6CA7FE4988ADB4F947129F28E4AA0000000000AEA6C62E31AF0DA9E86E9ABA2B928548649ABAE8C0F9A4E32CEFBAFD85C92FC5FB1F46EC183F1A50F60EC183F261EC13B7CE324BF17EC1927F8BF63E8FFA7E0FCA87B13D8307E543D821F398D39FE2FD87F873FC5FB1F43EC384F2A3EC1D8B09E547D884EDF3BF853FC5FB1641D482B6591F41EC584F2A3EC4762C27951F61A4EDE0A1F1AA3D9A47670B9A952565A9E9560F0AB6A71F61BB361FF0899E7C7F4BE3C9A79B949B96692BB11D492DA27A7ECF87FC221D9B0FF844A4E15BF579375269DECCAAAD79DB44CF61D970CFF8E24763C2BFE38FB16FCA2BFA3C1D694E49DD3336597E2CFA2761C27951F623B060FCA87B1A49A52E5B7CF72CBF161965F8BF63E87D8307E547D83B060FCA8FB128DBE7B925F8B232CBF167D0FB060FCA8FB0760C1F951F61A36F9E6597E2FD88C92FC5FB1F44EC183F2A3EC1D8307E543D8936F9CB84AFCAC234E599775FB1F45EC183F2A1EC1D8306BF8A1EC0781CB2BAD19EF38569C329FF0091FB0E13CA8FB1725184324159742345AB29F28E241590E4A000000000010D10E09F80C002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D095148600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003FFFD9), -- Document-2, revision 2
-       ('0ac27b16-88c3-4180-9617-d8502e24932b',
+       (UNHEX(REPLACE('0ac27b16-88c3-4180-9617-d8502e24932b', '-', '')),
         0xFFD8FFE000104A46494600010100000100010000FFE201D84943435F50524F46494C45000101000001C800000000043000006D6E74725247422058595A2007E00001000100000000000061637370000000000000000000000000000000000000000000000000000000010000F6D6000100000000D32D0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000964657363000000F0000000247258595A00000114000000146758595A00000128000000146258595A0000013C00000014777470740000015000000014725452430000016400000028675452430000016400000028625452430000016400000028637072740000018C0000003C6D6C756300000000000000010000000C656E5553000000080000001C007300520047004258595A200000000000006FA2000038F50000039058595A2000000000000062990000B785000018DA58595A2000000000000024A000000F840000B6CF58595A20000000000000F6D6000100000000D32D706172610000000000040000000266660000F2A700000D59000013D000000A5B00000000000000006D6C756300000000000000010000000C656E5553000000200000001C0047006F006F0067006C006500200049006E0063002E00200032003000310036FFDB00430017101114110E171412141A18171B223925221F1F224632352939524857555148504E5B66836F5B617C624E50729B737C878B929492586DA0AC9F8EAA838F928DFFDB004301181A1A221E22432525438D5E505E8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8DFFC00011080103010303012200021101031101FFC4001B00000203010101000000000000000000000002010304050607FFC400321000020102040306050501010100000000000102031104122131053251142241537191132334355215334361728142A1FFC400190101000301010000000000000000000000000102030405FFC4002111010100020301010100030100000000000001021103213112133222415161FFDA000C03010002110311003F00F58000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004362B9A5E21376456DC611CD202CCEBA8675D4A3B4D0FC913DA687E488FA89D55D9D750CEBA9476AA17B6741DAA87E687D43557E75D433AEA51DA685AF9908F886122F5A911B86AB5675D433AEA64FD4B07E6C49FD4308FF00922370D56ACEBA8675D4CBDBF09E6443B7E13CC88DC355AB3AEA19D75327EA383F3621FA8E0FCD88D9AAD79D750CEBA98FF52C1F9B11A3C43092DAA458DC355AB3AEA19D7533F6CC37E710ED986FCD0DC355A33AEA19D7528ED5877FFB41DA687E487D43557E75D433AEA54B1145FF00E910F11457FE90FA86AAECEBA8675D4CD2C6E1A3BCD217F51C1F9B11B86AB5E75D433AEA64FD4707E6C43F51C1F9B11B355AF3AEA0A69F8993F51C1F9B12F8CA35219E0EEBC19285D724483BA1C00000000000AEA6C518DFA497A17D4D8A31BF4922B979538FAE192401E73B8ABF71889F765EA32E76247965EA48B64FE57FC38F886F3EE75E5FB4FD0E3625DA469C7DD572E95B76F127E33B5932895EF7B82959FF004747CB2B92FF008B3EA329B7E2539D35A109BB91A3E9745DA779DDA34468C2BC6F4E7AF432A8C9937953778BB322CDF89991AAD29D37690F8793571E15D578E4A9CC3D3A3974296D93556F7C590CD2F1D0B92CAB7160B2EE58D5D195AB4814A4F62D837E2675271762E83CC56A57C64E24CA49ADC4F021EC57753A55560A49A6B439F5B0CE17707A1D294AC5534A4B42F8E5622CDB8D2724F56C333EA74E78155237461AD869527B6874639CACEE362B52775AB3DC70CFB753F43C3C62F323DC70CFB753F435C597278D94F947129F28E68C800000000015D4D8A31BF4922FA9B14637E924572FE6A71F5C30200F35DC55CEC45C92F51973BF4157EDBF5243CBF69FA1C0C555F98D1DEA8ED424FF00A3CF538FC5AEDBEA6FC3FEEB3CFF00E2CA5879CE377E25B1C1CADAEA69859591A69D88CB972FF4D67163A628E06ED68688E062B766ACC8893D0AFE9954CE3C6287422B63162216B9BE4EC64C46C5B0CAED1C98CD39EE4D4AE9EA8E861711F123AEE8E6D5D25A1760A796B25D4DF3C771CB8E5AAEAA9E6F50CEE2C3227AC4257399B2D849498D17DFB2298BB1761DA776C8B132AE724902D5092EF6C327963AB2962C970BF8092A5A685B19A6AE4DD3260A29CF2F76457898A945E859552BE82C5A946CF7250E5CA369D8F67C37EDF4FD0F2988A5695CF57C37EDF4FD0EAE2BB61CBE35D3E51C4A7CA39BB000000000005753633E3BE92468A9B19F1DF4922B97F3538FAE10001E6BB8AB99FA0ABF6DFA92B998BFC4FD4B02BFD2CEDD0E1E1577D9DDABAE1E497438B43B8E575AA36E2FE6B3CBFA8D914D9AA9C5A89CCF8D55F2AB1A30D59C1A75257FE8AE5856D39278DF14BA932466AF34E174EC8C79AAE6D2AE8571C2D4E5969D0A8B433D48E6453DFF0036E5B4EED778BFCFCF68FA9974E5E222E352CC9A0AD5636EA68C653BCD0AE0A9C62FC6E747D6E396E3AAE9C744876D35FD8518AAB4A2D17C69456E725BDB6918E72B053AB960EC6A9D28CAFA18EA52F872FE996965459A6BA13BC35DC79AB9461F434EE6756848E8EC5F6D0A1F35C1D5684292A3B499546769A2672BDDB286F535914B57D66A47A5E1FA6061E8795CDA23D5603E861E86DC534CB92B553E51C4A7CA39BB100000000005753633E3BE92468A9B19F1DF4722B97F3538FAE10001E6BB88B9989FC6FD475CCC44FE5BF52C1AA7ECBF438F157AB24FC4EBD47F25FA1C894B2D746BC5FED4CBD4E4966B6C88747C6ECDD4F24A3A95D6B27644FE97C6BF94F56C611961A317B944B0CD3D168694E3F0A3663C2A26ACD149958B5C6565A583D6EF42F9C553562FF8B18A33569E7968376FA7CC9E32544E75922BC53B6589A2538D37796873B115FE2D5BAD91BE136E7CEC92BBB84EED0491A63B5CC7C32A7C4C3EBBA36A57D8E6CE7F92D8F85653888EC6A8C4A31095EC4254D3D19AE9AD0A2947534C63643D0997528ACF2B3437A368C5523293BB65F188AAE750A653B326A2B0D4A8B96E6B35197748AA6A7B0E1DF410F43CA4F0F95DD23D5F0FFA087A1AF1D97C5339635D3E51C4A7CA39AB200000000005753633E3BE8E468A9B19F1FF004722B979538FAE0A06088679CEE2AE6627F1BF5193EF313F8FFE921AA3F94FD0E3D6FDC4CEB547F25FA1C8ADCC6DC4CF3688C9DB409BEEBB914249C752AAB26E4EDB13AEDA7D6B13C33385EEEC69C3D58E5B3DCC7094D432A4446528BB35AB2D71DAB33B1D09464F60C9955D8985AAEEE331EB4D2465ABBD35FA966DCDE20EED232451AEA539625CA4B9578890C354734B2FFD3AA5D47165DD763874552C3AFECD9195999E953953A295AF604E4D9C97BBB6F3A8D152AAA68C8A6EA4DB63D6945475DC4A7B11A4AFA5A1A6FDDB19E9D93D47CDE240354DF428AAB43466D0CF565A1688ACD9334CBD472BD028C3C5932D1936A243AB49D99E8B06AD848FA1E769ABEA7A3C27D247D0D787DAA72F8BE9F28E253E51CE97380000000002BA9B19F1FF00472F43454D8CD8FF00A3915CBCA9C7D704180AD9E73B8BFF00A656FF006FFE8D9AD262A4DC6C4A754557F25FA1CD693DCE9555F299CD93CA6DC6CF2579DD397F45F4ED28FA99DC5D46453AAE9BB336B3714996AB5592DD8D18C6F7DD995D5CCF71E355416ACA7C569FA45F39A8D64CAB11525566A953D5B28A95734AE7578550A74E3DA6BEFE172D31D7759DCB7E2CAB84861384494B9DEA72F0D8C9D3493D51AB88E2A58AA9953EE78230CE93A52B16EAF5547569F13838DA4AC24F17493D24736C43572BF9C4FDD6DA988537A33452AD0CA966471EEE2C74DF5178E54CC9DA5561F921FB4534B59238799F50727D4AFE49FB76678BA56B290B0B5695D3BA38D999AB038974AA24F6632E3D4E8996EBB09652A9EAC794AEAE8AF76611A53A795247A2C1FD247D0F34E491E9302EF8287A1BF0FAC795A69F28E253E51CE9600000000000AEA6C66C7FD1CBD0D353633710FA397A15CBCA9C7D79FBE851527AE85B3768332D39DA37945DEE79F26DDF8D590A894BBC8D168CE3DD656AA5292B4924249C53F96C6B6D366CD965692BA17B353A9524E6ACAC42A91B3727AA324F1B3CCEC69863633E4AAEB41D394B2981BD59B6A5773D599E953557323A71FF00D72E515662735C6A94250D6DA1524FC0BFAA771A28433CFF00A46E739C96AED15B232E166A29A6B5658A5526F2A894AB45B87A7F16BE9B2271F1B491B70543E15377E6666E270B38B32996F26BAD62C00413F0EA65CD95DBA9BB25726117A0AD49BD465A128305F416E0F60945C8CF24F405B85C21D8C0E23E353CB2DD17D49A8AD0E351AB2A4EF166D86322DA738DCE7CB0EF71ACC96F7E7CA8F57C3D3581827BD8E0C251704E2B467A0C27D2C7D0B7165BB62BCB3A68A7CA3894F9473A1800000000002BA9B19B887D14BD0D353633710FA297A15CBCA99EBCCD7938C6E8AE188596D949C53EE58CD4DA4CE398EE3B665A15AA67968AC57F11C75B96D48AB5D18AACDB7635C71532CB5DA6755C9BD45D4AAF666B9AB61949234B34A4BBF59E52B2B0D85E6655B97E117CC64DF14DEEAFA95A3F09C5C753129E56D6536BA69D4B309C230F0456591366D4E1B56E525B1A70BDFAEDFF00F05524A0F4B1A387D2C979CBC48CAF49C676DAEEA261C666ACD24AECDD37EC6755153AAA6D5D230C6F6D6F8DB80E13495153AAAF27D4E92C2D154DC322B7A19963E87C28CA534AE5F1C42924E3252BF42D6DF59289F09C2CA2FB9B9E7B88E06585AAECBB9E0CF552A8AD6D99E778CE39CEA3A2B951A616ED15C9B005C0D952DF5274165B8041B3244A93DC4B0CF4412DF87E24E36835A23D9E0279F05097547CF61CC8F7FC2BEDB4FD08C7192EE232B6C6DA7CA3894F9472EA00000000002BA9B19B882BE0E4BFA34D4D8A716AF86772B97899EBC7D5939D469AD114B834EE8EDCB074EA49BB59892E1BD19C92FF00C7675A71AA54B41AF130BDCEBE3708A841CDBBB390F737C58E751E274ABB4B85C15B5B98A31A69ACCEE689D6A73A593C1136AB184D184FDC2A718EAD32CC2BB4CB5F09EB4564D49486CADEA8B271CD064508CAA2B456A8C77D2EAACE738C1F89D485351A6A2BC0CB8683755CA4B636DEFA233CEAF84265BAB19B12BBAE3135B57564CCD5B48B4525ED6BE399469FC5AF184E6D46E7A251A584A2A5195D45753CD4EF99D8875EAB864736D743AAE3F4C25D34E2789D79E21CA13697818E7525526E52776C5B017934A5A9448221921640983213250B13076625C1A6424F169347BFE15AF0CA7FE4F9F463AA3E83C27ED94BFC93115B69F28E253E51C95400000000015D4D8CBC4AA2A58294DEC8D553639DC77ED353D08A98C385C4D3ABAC648D53AA94773C4D3C454A4FB9268BDF13C4386572B98FE7A6DF71BB8BE2D4E5F0E2CE4390B39B9CAF27A8A99AC9A6772DA6EEE326C464C49D20C5F86FDC452594B496856F898EAC15EC56DCA856EE78850AAA4AD2D1974A2A4D5F7473DE9B4ED753D2167BBDC149ED1F71335E5645B0B25633AD219D92D0CF560DA6CBD3D7FA12AECDF8159EA5C5A9A4D88D1655FDC621DB3C735F48C51A62A2CAD32219200232B7A32C6249131152A43662A193085B196A8FA0709FB652FF0027CF22F547D0B847DAE97F9056EA7CA3894F9472500000000000AEA6C73F8EFDA6A7A1D0A9B1CEE3BF69ABE807806413E2410904124122413B3021816C7545D4577CA29BD0D38757994ABC6A8C3332EA6A49D9BB8538D899C927A1CF95DB587CB95EBB96465E0519FF00E91F11A657556DB5DD5AC66AF52CAC1F13428AB76F718E3D97262AB2F98C5BE83568DA5A08F4474C634927A82206459500C086040AC621928A424002131DD1F43E11F6BA5FE4F9DADD1F44E0FF006AA5FE4943753E51C4A7CA38000000000015D4D8E771EFB4D5F43A353639FC7166E15512E807CF8097A32084A000090225A04310223A335E179CC9E26EC22566CAE5E2F8B6458C95DEA2C1AF1668A3DE9A715748E6CAE9B48A5C1DF621D3763757945A51CB6653ADB629F4B7CB138B4C57766ECA9EE8AE54FC522F3345C5CDC45EE8CD27A1BB17C9B1859D187718E48432211372EA8640010021803243528A6F52C74E36F03336C22DDD6A4586D67C3D4FA0708FB5D2FF0027845E07BCE15F6CA7FE4988ADB4F947129F28E4AA0000000000AEA6C62E31AF0DA9E86E9ABA2B928548649ABAE8C0F9A4E32CEFBAFD85C92FC5FB1F46EC183F1A50F60EC183F261EC13B7CE324BF17EC1927F8BF63E8FFA7E0FCA87B13D8307E543D821F398D39FE2FD87F873FC5FB1F43EC384F2A3EC1D8B09E547D884EDF3BF853FC5FB1641D482B6591F41EC584F2A3EC4762C27951F61A4EDE0A1F1AA3D9A47670B9A952565A9E9560F0AB6A71F61BB361FF0899E7C7F4BE3C9A79B949B96692BB11D492DA27A7ECF87FC221D9B0FF844A4E15BF579375269DECCAAAD79DB44CF61D970CFF8E24763C2BFE38FB16FCA2BFA3C1D694E49DD3336597E2CFA2761C27951F623B060FCA87B1A49A52E5B7CF72CBF161965F8BF63E87D8307E547D83B060FCA8FB128DBE7B925F8B232CBF167D0FB060FCA8FB0760C1F951F61A36F9E6597E2FD88C92FC5FB1F44EC183F2A3EC1D8307E543D8936F9CB84AFCAC234E599775FB1F45EC183F2A1EC1D8306BF8A1EC0781CB2BAD19EF38569C329FF0091FB0E13CA8FB1725184324159742345AB29F28E241590E4A000000000010D10E09F80C002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D095148600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003FFFD9), -- Document-3, revision 1
-       ('93227b16-88c3-4180-9617-d8502e24932b',
+       (UNHEX(REPLACE('93227b16-88c3-4180-9617-d8502e24932b', '-', '')),
         0xFFD8FFE000104A46494600010100000100010000FFE201D84943435F50524F46494C45000101000001C800000000043000006D6E74725247422058595A2007E00001000100000000000061637370000000000000000000000000000000000000000000000000000000010000F6D6000100000000D32D0000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000964657363000000F0000000247258595A00000114000000146758595A00000128000000146258595A0000013C00000014777470740000015000000014725452430000016400000028675452430000016400000028625452430000016400000028637072740000018C0000003C6D6C756300000000000000010000000C656E5553000000080000001C007300520047004258595A200000000000006FA2000038F50000039058595A2000000000000062990000B785000018DA58595A2000000000000024A000000F840000B6CF58595A20000000000000F6D6000100000000D32D706172610000000000040000000266660000F2A700000D59000013D000000A5B00000000000000006D6C756300000000000000010000000C656E5553000000200000001C0047006F006F0067006C006500200049006E0063002E00200032003000310036FFDB00430017101114110E171412141A18171B223925221F1F224632352939524857555148504E5B66836F5B617C624E50729B737C878B929492586DA0AC9F8EAA838F928DFFDB004301181A1A221E22432525438D5E505E8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8D8DFFC00011080103010303012200021101031101FFC4001B00000203010101000000000000000000000002010304050607FFC400321000020102040306050501010100000000000102031104122131053251142241537191132334355215334361728142A1FFC400190101000301010000000000000000000000000102030405FFC4002111010100020301010100030100000000000001021103213112133222415161FFDA000C03010002110311003F00F58000000000000000000000000000000000000000000000000000000000000000000000000000000000000000004362B9A5E21376456DC611CD202CCEBA8675D4A3B4D0FC913DA687E488FA89D55D9D750CEBA9476AA17B6741DAA87E687D43557E75D433AEA51DA685AF9908F886122F5A911B86AB5675D433AEA64FD4B07E6C49FD4308FF00922370D56ACEBA8675D4CBDBF09E6443B7E13CC88DC355AB3AEA19D75327EA383F3621FA8E0FCD88D9AAD79D750CEBA98FF52C1F9B11A3C43092DAA458DC355AB3AEA19D7533F6CC37E710ED986FCD0DC355A33AEA19D7528ED5877FFB41DA687E487D43557E75D433AEA54B1145FF00E910F11457FE90FA86AAECEBA8675D4CD2C6E1A3BCD217F51C1F9B11B86AB5E75D433AEA64FD4707E6C43F51C1F9B11B355AF3AEA0A69F8993F51C1F9B12F8CA35219E0EEBC19285D724483BA1C00000000000AEA6C518DFA497A17D4D8A31BF4922B979538FAE192401E73B8ABF71889F765EA32E76247965EA48B64FE57FC38F886F3EE75E5FB4FD0E3625DA469C7DD572E95B76F127E33B5932895EF7B82959FF004747CB2B92FF008B3EA329B7E2539D35A109BB91A3E9745DA779DDA34468C2BC6F4E7AF432A8C9937953778BB322CDF89991AAD29D37690F8793571E15D578E4A9CC3D3A3974296D93556F7C590CD2F1D0B92CAB7160B2EE58D5D195AB4814A4F62D837E2675271762E83CC56A57C64E24CA49ADC4F021EC57753A55560A49A6B439F5B0CE17707A1D294AC5534A4B42F8E5622CDB8D2724F56C333EA74E78155237461AD869527B6874639CACEE362B52775AB3DC70CFB753F43C3C62F323DC70CFB753F435C597278D94F947129F28E68C800000000015D4D8A31BF4922FA9B14637E924572FE6A71F5C30200F35DC55CEC45C92F51973BF4157EDBF5243CBF69FA1C0C555F98D1DEA8ED424FF00A3CF538FC5AEDBEA6FC3FEEB3CFF00E2CA5879CE377E25B1C1CADAEA69859591A69D88CB972FF4D67163A628E06ED68688E062B766ACC8893D0AFE9954CE3C6287422B63162216B9BE4EC64C46C5B0CAED1C98CD39EE4D4AE9EA8E861711F123AEE8E6D5D25A1760A796B25D4DF3C771CB8E5AAEAA9E6F50CEE2C3227AC4257399B2D849498D17DFB2298BB1761DA776C8B132AE724902D5092EF6C327963AB2962C970BF8092A5A685B19A6AE4DD3260A29CF2F76457898A945E859552BE82C5A946CF7250E5CA369D8F67C37EDF4FD0F2988A5695CF57C37EDF4FD0EAE2BB61CBE35D3E51C4A7CA39BB000000000005753633E3BE92468A9B19F1DF4922B97F3538FAE10001E6BB8AB99FA0ABF6DFA92B998BFC4FD4B02BFD2CEDD0E1E1577D9DDABAE1E497438B43B8E575AA36E2FE6B3CBFA8D914D9AA9C5A89CCF8D55F2AB1A30D59C1A75257FE8AE5856D39278DF14BA932466AF34E174EC8C79AAE6D2AE8571C2D4E5969D0A8B433D48E6453DFF0036E5B4EED778BFCFCF68FA9974E5E222E352CC9A0AD5636EA68C653BCD0AE0A9C62FC6E747D6E396E3AAE9C744876D35FD8518AAB4A2D17C69456E725BDB6918E72B053AB960EC6A9D28CAFA18EA52F872FE996965459A6BA13BC35DC79AB9461F434EE6756848E8EC5F6D0A1F35C1D5684292A3B499546769A2672BDDB286F535914B57D66A47A5E1FA6061E8795CDA23D5603E861E86DC534CB92B553E51C4A7CA39BB100000000005753633E3BE92468A9B19F1DF4722B97F3538FAE10001E6BB88B9989FC6FD475CCC44FE5BF52C1AA7ECBF438F157AB24FC4EBD47F25FA1C894B2D746BC5FED4CBD4E4966B6C88747C6ECDD4F24A3A95D6B27644FE97C6BF94F56C611961A317B944B0CD3D168694E3F0A3663C2A26ACD149958B5C6565A583D6EF42F9C553562FF8B18A33569E7968376FA7CC9E32544E75922BC53B6589A2538D37796873B115FE2D5BAD91BE136E7CEC92BBB84EED0491A63B5CC7C32A7C4C3EBBA36A57D8E6CE7F92D8F85653888EC6A8C4A31095EC4254D3D19AE9AD0A2947534C63643D0997528ACF2B3437A368C5523293BB65F188AAE750A653B326A2B0D4A8B96E6B35197748AA6A7B0E1DF410F43CA4F0F95DD23D5F0FFA087A1AF1D97C5339635D3E51C4A7CA39AB200000000005753633E3BE8E468A9B19F1FF004722B979538FAE0A06088679CEE2AE6627F1BF5193EF313F8FFE921AA3F94FD0E3D6FDC4CEB547F25FA1C8ADCC6DC4CF3688C9DB409BEEBB914249C752AAB26E4EDB13AEDA7D6B13C33385EEEC69C3D58E5B3DCC7094D432A4446528BB35AB2D71DAB33B1D09464F60C9955D8985AAEEE331EB4D2465ABBD35FA966DCDE20EED232451AEA539625CA4B9578890C354734B2FFD3AA5D47165DD763874552C3AFECD9195999E953953A295AF604E4D9C97BBB6F3A8D152AAA68C8A6EA4DB63D6945475DC4A7B11A4AFA5A1A6FDDB19E9D93D47CDE240354DF428AAB43466D0CF565A1688ACD9334CBD472BD028C3C5932D1936A243AB49D99E8B06AD848FA1E769ABEA7A3C27D247D0D787DAA72F8BE9F28E253E51CE97380000000002BA9B19F1FF00472F43454D8CD8FF00A3915CBCA9C7D704180AD9E73B8BFF00A656FF006FFE8D9AD262A4DC6C4A754557F25FA1CD693DCE9555F299CD93CA6DC6CF2579DD397F45F4ED28FA99DC5D46453AAE9BB336B3714996AB5592DD8D18C6F7DD995D5CCF71E355416ACA7C569FA45F39A8D64CAB11525566A953D5B28A95734AE7578550A74E3DA6BEFE172D31D7759DCB7E2CAB84861384494B9DEA72F0D8C9D3493D51AB88E2A58AA9953EE78230CE93A52B16EAF5547569F13838DA4AC24F17493D24736C43572BF9C4FDD6DA988537A33452AD0CA966471EEE2C74DF5178E54CC9DA5561F921FB4534B59238799F50727D4AFE49FB76678BA56B290B0B5695D3BA38D999AB038974AA24F6632E3D4E8996EBB09652A9EAC794AEAE8AF76611A53A795247A2C1FD247D0F34E491E9302EF8287A1BF0FAC795A69F28E253E51CE9600000000000AEA6C66C7FD1CBD0D353633710FA397A15CBCA9C7D79FBE851527AE85B3768332D39DA37945DEE79F26DDF8D590A894BBC8D168CE3DD656AA5292B4924249C53F96C6B6D366CD965692BA17B353A9524E6ACAC42A91B3727AA324F1B3CCEC69863633E4AAEB41D394B2981BD59B6A5773D599E953557323A71FF00D72E515662735C6A94250D6DA1524FC0BFAA771A28433CFF00A46E739C96AED15B232E166A29A6B5658A5526F2A894AB45B87A7F16BE9B2271F1B491B70543E15377E6666E270B38B32996F26BAD62C00413F0EA65CD95DBA9BB25726117A0AD49BD465A128305F416E0F60945C8CF24F405B85C21D8C0E23E353CB2DD17D49A8AD0E351AB2A4EF166D86322DA738DCE7CB0EF71ACC96F7E7CA8F57C3D3581827BD8E0C251704E2B467A0C27D2C7D0B7165BB62BCB3A68A7CA3894F9473A1800000000002BA9B19B887D14BD0D353633710FA297A15CBCA99EBCCD7938C6E8AE188596D949C53EE58CD4DA4CE398EE3B665A15AA67968AC57F11C75B96D48AB5D18AACDB7635C71532CB5DA6755C9BD45D4AAF666B9AB61949234B34A4BBF59E52B2B0D85E6655B97E117CC64DF14DEEAFA95A3F09C5C753129E56D6536BA69D4B309C230F0456591366D4E1B56E525B1A70BDFAEDFF00F05524A0F4B1A387D2C979CBC48CAF49C676DAEEA261C666ACD24AECDD37EC6755153AAA6D5D230C6F6D6F8DB80E13495153AAAF27D4E92C2D154DC322B7A19963E87C28CA534AE5F1C42924E3252BF42D6DF59289F09C2CA2FB9B9E7B88E06585AAECBB9E0CF552A8AD6D99E778CE39CEA3A2B951A616ED15C9B005C0D952DF5274165B8041B3244A93DC4B0CF4412DF87E24E36835A23D9E0279F05097547CF61CC8F7FC2BEDB4FD08C7192EE232B6C6DA7CA3894F9472EA00000000002BA9B19B882BE0E4BFA34D4D8A716AF86772B97899EBC7D5939D469AD114B834EE8EDCB074EA49BB59892E1BD19C92FF00C7675A71AA54B41AF130BDCEBE3708A841CDBBB390F737C58E751E274ABB4B85C15B5B98A31A69ACCEE689D6A73A593C1136AB184D184FDC2A718EAD32CC2BB4CB5F09EB4564D49486CADEA8B271CD064508CAA2B456A8C77D2EAACE738C1F89D485351A6A2BC0CB8683755CA4B636DEFA233CEAF84265BAB19B12BBAE3135B57564CCD5B48B4525ED6BE399469FC5AF184E6D46E7A251A584A2A5195D45753CD4EF99D8875EAB864736D743AAE3F4C25D34E2789D79E21CA13697818E7525526E52776C5B017934A5A9448221921640983213250B13076625C1A6424F169347BFE15AF0CA7FE4F9F463AA3E83C27ED94BFC93115B69F28E253E51C95400000000015D4D8CBC4AA2A58294DEC8D553639DC77ED353D08A98C385C4D3ABAC648D53AA94773C4D3C454A4FB9268BDF13C4386572B98FE7A6DF71BB8BE2D4E5F0E2CE4390B39B9CAF27A8A99AC9A6772DA6EEE326C464C49D20C5F86FDC452594B496856F898EAC15EC56DCA856EE78850AAA4AD2D1974A2A4D5F7473DE9B4ED753D2167BBDC149ED1F71335E5645B0B25633AD219D92D0CF560DA6CBD3D7FA12AECDF8159EA5C5A9A4D88D1655FDC621DB3C735F48C51A62A2CAD32219200232B7A32C6249131152A43662A193085B196A8FA0709FB652FF0027CF22F547D0B847DAE97F9056EA7CA3894F9472500000000000AEA6C73F8EFDA6A7A1D0A9B1CEE3BF69ABE807806413E2410904124122413B3021816C7545D4577CA29BD0D38757994ABC6A8C3332EA6A49D9BB8538D899C927A1CF95DB587CB95EBB96465E0519FF00E91F11A657556DB5DD5AC66AF52CAC1F13428AB76F718E3D97262AB2F98C5BE83568DA5A08F4474C634927A82206459500C086040AC621928A424002131DD1F43E11F6BA5FE4F9DADD1F44E0FF006AA5FE4943753E51C4A7CA38000000000015D4D8E771EFB4D5F43A353639FC7166E15512E807CF8097A32084A000090225A04310223A335E179CC9E26EC22566CAE5E2F8B6458C95DEA2C1AF1668A3DE9A715748E6CAE9B48A5C1DF621D3763757945A51CB6653ADB629F4B7CB138B4C57766ECA9EE8AE54FC522F3345C5CDC45EE8CD27A1BB17C9B1859D187718E48432211372EA8640010021803243528A6F52C74E36F03336C22DDD6A4586D67C3D4FA0708FB5D2FF0027845E07BCE15F6CA7FE4988ADB4F947129F28E4AA0000000000AEA6C62E31AF0DA9E86E9ABA2B928548649ABAE8C0F9A4E32CEFBAFD85C92FC5FB1F46EC183F1A50F60EC183F261EC13B7CE324BF17EC1927F8BF63E8FFA7E0FCA87B13D8307E543D821F398D39FE2FD87F873FC5FB1F43EC384F2A3EC1D8B09E547D884EDF3BF853FC5FB1641D482B6591F41EC584F2A3EC4762C27951F61A4EDE0A1F1AA3D9A47670B9A952565A9E9560F0AB6A71F61BB361FF0899E7C7F4BE3C9A79B949B96692BB11D492DA27A7ECF87FC221D9B0FF844A4E15BF579375269DECCAAAD79DB44CF61D970CFF8E24763C2BFE38FB16FCA2BFA3C1D694E49DD3336597E2CFA2761C27951F623B060FCA87B1A49A52E5B7CF72CBF161965F8BF63E87D8307E547D83B060FCA8FB128DBE7B925F8B232CBF167D0FB060FCA8FB0760C1F951F61A36F9E6597E2FD88C92FC5FB1F44EC183F2A3EC1D8307E543D8936F9CB84AFCAC234E599775FB1F45EC183F2A1EC1D8306BF8A1EC0781CB2BAD19EF38569C329FF0091FB0E13CA8FB1725184324159742345AB29F28E241590E4A000000000010D10E09F80C002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D0322E83800991740C8BA0E002645D095148600000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000000003FFFD9);
 
-INSERT INTO document_data (id, document_id, document_data_binary_id, file_name, file_size_in_bytes, mime_type)
-VALUES ('faa3547e-f775-4799-9ac0-e07fab1df362', '159c10bf-1b32-471b-b2d3-c4b4b13ea152',
-        'd35254ce-d26c-47e3-806f-4cf68cf2fa56', 'file1.jpg', 5068, 'image/jpeg'), -- Document-1, revision 1
-       ('50167fa9-6b50-428e-9383-b6cbfaffc63b', '8efd63a3-b525-4581-8b0b-9759f381a5a5',
-        '3b570ff2-b631-4584-a9fb-77dce2f6d85b', 'file2.jpg', 5068, 'image/jpeg'), -- Document-1, revision 2
-       ('4f0a04af-942d-4ad2-b2d9-151887fc995c', '612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2',
-        '53978846-e715-455b-a4e7-440084f0b49b', 'file3.jpg', 5068, 'image/jpeg'), -- Document-1, revision 3
-       ('8f7be4bb-ef79-4a16-95bf-a0619e320745', '03d33a6a-bc8c-410c-95f6-2c890822967d',
-        '297282c6-d06e-4c33-8bc8-0828866ff7e5', 'file4.jpg', 5068, 'image/jpeg'), -- Document-2, revision 1
-       ('bd239ee1-27b8-43e7-bb0d-e4ba09b7220e', '435bb041-2b02-4bb3-b3e7-3782a13f47d5',
-        'bfb3ad87-cb18-4b70-9594-128d284a7e6e', 'file5.jpg', 5068, 'image/jpeg'), -- Document-2, revision 2
-       ('cba078aa-9335-4b21-b04c-630e27ade51e', '8901694b-8e3a-46b7-83ea-cd351ccc0f52',
-        '0ac27b16-88c3-4180-9617-d8502e24932b', 'file6.jpg', 5068, 'image/jpeg'), -- Document-3, revision 1
-       ('abc078aa-9335-4b21-b04c-630e27ade51e', '8ad5ecbf-15e5-4572-9b80-96bbfc2145b6',
-        '93227b16-88c3-4180-9617-d8502e24932b', 'to-be-removed.jpg', 5068, 'image/jpeg');
+INSERT INTO document_data (id, file_set_id, document_data_binary_id, file_name, file_size_in_bytes, mime_type)
+VALUES (UNHEX(REPLACE('faa3547e-f775-4799-9ac0-e07fab1df362', '-', '')), UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', '')),
+        UNHEX(REPLACE('d35254ce-d26c-47e3-806f-4cf68cf2fa56', '-', '')), 'file1.jpg', 5068, 'image/jpeg'), -- Document-1, revision 1
+       (UNHEX(REPLACE('50167fa9-6b50-428e-9383-b6cbfaffc63b', '-', '')), UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', '')),
+        UNHEX(REPLACE('3b570ff2-b631-4584-a9fb-77dce2f6d85b', '-', '')), 'file2.jpg', 5068, 'image/jpeg'), -- Document-1, revision 2
+       (UNHEX(REPLACE('4f0a04af-942d-4ad2-b2d9-151887fc995c', '-', '')), UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', '')),
+        UNHEX(REPLACE('53978846-e715-455b-a4e7-440084f0b49b', '-', '')), 'file3.jpg', 5068, 'image/jpeg'), -- Document-1, revision 3
+       (UNHEX(REPLACE('8f7be4bb-ef79-4a16-95bf-a0619e320745', '-', '')), UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', '')),
+        UNHEX(REPLACE('297282c6-d06e-4c33-8bc8-0828866ff7e5', '-', '')), 'file4.jpg', 5068, 'image/jpeg'), -- Document-2, revision 1
+       (UNHEX(REPLACE('bd239ee1-27b8-43e7-bb0d-e4ba09b7220e', '-', '')), UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', '')),
+        UNHEX(REPLACE('bfb3ad87-cb18-4b70-9594-128d284a7e6e', '-', '')), 'file5.jpg', 5068, 'image/jpeg'), -- Document-2, revision 2
+       (UNHEX(REPLACE('cba078aa-9335-4b21-b04c-630e27ade51e', '-', '')), UNHEX(REPLACE('8901694b-8e3a-46b7-83ea-cd351ccc0f52', '-', '')),
+        UNHEX(REPLACE('0ac27b16-88c3-4180-9617-d8502e24932b', '-', '')), 'file6.jpg', 5068, 'image/jpeg'), -- Document-3, revision 1
+       (UNHEX(REPLACE('abc078aa-9335-4b21-b04c-630e27ade51e', '-', '')), UNHEX(REPLACE('8ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')),
+        UNHEX(REPLACE('93227b16-88c3-4180-9617-d8502e24932b', '-', '')), 'to-be-removed.jpg', 5068, 'image/jpeg');
 
-INSERT INTO document_metadata (document_id, `key`, value)
-VALUES ('159c10bf-1b32-471b-b2d3-c4b4b13ea152', 'document1-key1', 'value-1'), -- Document 1, revision 1
+INSERT INTO document_metadata (metadata_set_id, `key`, value)
+VALUES (UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', '')), 'document1-key1', 'value-1'), -- Document 1, revision 1
 
-       ('8efd63a3-b525-4581-8b0b-9759f381a5a5', 'document1-key1', 'value-1'), -- Document-1, revision 2
-       ('8efd63a3-b525-4581-8b0b-9759f381a5a5', 'document1-key2', 'value-2'), -- Document-1, revision 2
+       (UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', '')), 'document1-key1', 'value-1'), -- Document-1, revision 2
+       (UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', '')), 'document1-key2', 'value-2'), -- Document-1, revision 2
 
-       ('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', 'document1-key1', 'value-1'), -- Document-1, revision 3
-       ('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', 'document1-key2', 'value-2'), -- Document-1, revision 3
-       ('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', 'document1-key3', 'value-3'), -- Document-1, revision 3
-       ('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', 'document1-key4', 'value-4'), -- Document-1, revision 3
+       (UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', '')), 'document1-key1', 'value-1'), -- Document-1, revision 3
+       (UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', '')), 'document1-key2', 'value-2'), -- Document-1, revision 3
+       (UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', '')), 'document1-key3', 'value-3'), -- Document-1, revision 3
+       (UNHEX(REPLACE('612dc8d0-e6b7-426c-abcc-c9b49ae1e7e2', '-', '')), 'document1-key4', 'value-4'), -- Document-1, revision 3
 
-       ('03d33a6a-bc8c-410c-95f6-2c890822967d', 'document2-key1', 'value-1'), -- Document-2, revision 1
-       ('03d33a6a-bc8c-410c-95f6-2c890822967d', 'document2-key2', 'value-2'), -- Document-2, revision 1
-       ('03d33a6a-bc8c-410c-95f6-2c890822967d', 'document2-key3', 'value-3'), -- Document-2, revision 1
+       (UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', '')), 'document2-key1', 'value-1'), -- Document-2, revision 1
+       (UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', '')), 'document2-key2', 'value-2'), -- Document-2, revision 1
+       (UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', '')), 'document2-key3', 'value-3'), -- Document-2, revision 1
 
-       ('435bb041-2b02-4bb3-b3e7-3782a13f47d5', 'document2-key1', 'value-1'), -- Document-2, revision 2
-       ('435bb041-2b02-4bb3-b3e7-3782a13f47d5', 'document2-key2', 'value-2'), -- Document-2, revision 2
+       (UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', '')), 'document2-key1', 'value-1'), -- Document-2, revision 2
+       (UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', '')), 'document2-key2', 'value-2'), -- Document-2, revision 2
 
-       ('8901694b-8e3a-46b7-83ea-cd351ccc0f52', 'document3-key1', 'value-1'), -- Document-3, revision 1
-       ('159c10bf-1b32-471b-b2d3-c4b4b13ea152', 'EMPLOYEE_UNIT', 'Company B'),
-       ('159c10bf-1b32-471b-b2d3-c4b4b13ea152', 'EMPLOYEE_TYPE', 'Manager'),
-       ('8efd63a3-b525-4581-8b0b-9759f381a5a5', 'EMPLOYEE_UNIT', 'Company C'),
-       ('8efd63a3-b525-4581-8b0b-9759f381a5a5', 'EMPLOYEE_TYPE', 'Developer'),
-       ('03d33a6a-bc8c-410c-95f6-2c890822967d', 'EMPLOYEE_UNIT', 'Organization X'),
-       ('03d33a6a-bc8c-410c-95f6-2c890822967d', 'EMPLOYEE_TYPE', 'Analyst'),
-       ('435bb041-2b02-4bb3-b3e7-3782a13f47d5', 'EMPLOYEE_UNIT', 'Startup Y'),
-       ('435bb041-2b02-4bb3-b3e7-3782a13f47d5', 'EMPLOYEE_TYPE', 'Developer'),
-       ('676eaf7a-d609-4885-9743-2dbcdffe6628', 'EMPLOYEE_UNIT', 'Company C'),
-       ('676eaf7a-d609-4885-9743-2dbcdffe6628', 'EMPLOYEE_TYPE', 'Manager'),
-       ('34095a16-68c5-48f8-ac1e-9d6b7dd08562', 'EMPLOYEE_UNIT', 'Company B'),
-       ('34095a16-68c5-48f8-ac1e-9d6b7dd08562', 'EMPLOYEE_TYPE', 'Developer'),
-       ('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', 'EMPLOYEE_UNIT', 'Startup Y'),
-       ('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', 'EMPLOYEE_TYPE', 'Manager'),
-       ('1cc8599b-8726-4cf7-869d-36737044400c', 'EMPLOYEE_UNIT', 'Organization X'),
-       ('1cc8599b-8726-4cf7-869d-36737044400c', 'EMPLOYEE_TYPE', 'Manager'),
-       ('e4c860ad-fce3-431e-965f-0229e5610fb7', 'EMPLOYEE_UNIT', 'Startup Y'),
-       ('e4c860ad-fce3-431e-965f-0229e5610fb7', 'EMPLOYEE_TYPE', 'Analyst'),
-       ('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', 'EMPLOYEE_UNIT', 'Startup Y'),
-       ('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', 'EMPLOYEE_TYPE', 'Analyst'),
-       ('019d0963-b6c6-49fb-9f88-31ef5e525a1c', 'EMPLOYEE_UNIT', 'Company A'),
-       ('019d0963-b6c6-49fb-9f88-31ef5e525a1c', 'EMPLOYEE_TYPE', 'Consultant'),
-       ('df8e4237-4369-45e7-a365-3f46741814d0', 'EMPLOYEE_UNIT', 'Organization X'),
-       ('df8e4237-4369-45e7-a365-3f46741814d0', 'EMPLOYEE_TYPE', 'Consultant'),
-       ('69d31844-1810-4857-bdb9-f7c533b675b1', 'EMPLOYEE_UNIT', 'Company A'),
-       ('69d31844-1810-4857-bdb9-f7c533b675b1', 'EMPLOYEE_TYPE', 'Developer'),
-       ('488c4523-4ae1-41ea-8a3a-cf991999b12f', 'EMPLOYEE_UNIT', 'Startup Y'),
-       ('488c4523-4ae1-41ea-8a3a-cf991999b12f', 'EMPLOYEE_TYPE', 'Developer'),
-       ('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', 'EMPLOYEE_UNIT', 'Organization X'),
-       ('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', 'EMPLOYEE_TYPE', 'Analyst'),
-       ('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', 'EMPLOYEE_UNIT', 'Company B'),
-       ('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', 'EMPLOYEE_TYPE', 'Developer'),
-       ('9f2e05c4-a06d-4fed-b487-2003c591bc6a', 'EMPLOYEE_UNIT', 'Organization X'),
-       ('9f2e05c4-a06d-4fed-b487-2003c591bc6a', 'EMPLOYEE_TYPE', 'Engineer'),
-       ('37a7aefa-5f24-460e-817b-f089b7dd84be', 'EMPLOYEE_UNIT', 'Organization X'),
-       ('37a7aefa-5f24-460e-817b-f089b7dd84be', 'EMPLOYEE_TYPE', 'Consultant'),
-       ('fe9a0099-e407-4350-aaf2-f47edb20a770', 'EMPLOYEE_UNIT', 'Company B'),
-       ('fe9a0099-e407-4350-aaf2-f47edb20a770', 'EMPLOYEE_TYPE', 'Manager'),
-       ('db983069-1a9f-4e6a-8b21-865ebd2fb902', 'EMPLOYEE_UNIT', 'Company B'),
-       ('db983069-1a9f-4e6a-8b21-865ebd2fb902', 'EMPLOYEE_TYPE', 'Consultant'),
-       ('1a3e2060-c190-4c91-b221-b380493e5f4b', 'EMPLOYEE_UNIT', 'Company B'),
-       ('1a3e2060-c190-4c91-b221-b380493e5f4b', 'EMPLOYEE_TYPE', 'Developer'),
-       ('ef87f332-50b1-4943-bf0d-c1fa798734a9', 'EMPLOYEE_UNIT', 'Organization X'),
-       ('ef87f332-50b1-4943-bf0d-c1fa798734a9', 'EMPLOYEE_TYPE', 'Manager'),
-       ('5a728f56-2fb1-460e-9158-7a4d5775e80f', 'EMPLOYEE_UNIT', 'Company B'),
-       ('5a728f56-2fb1-460e-9158-7a4d5775e80f', 'EMPLOYEE_TYPE', 'Analyst'),
-       ('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', 'EMPLOYEE_UNIT', 'Startup Y'),
-       ('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', 'EMPLOYEE_TYPE', 'Developer');
+       (UNHEX(REPLACE('8901694b-8e3a-46b7-83ea-cd351ccc0f52', '-', '')), 'document3-key1', 'value-1'), -- Document-3, revision 1
+       (UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', '')), 'EMPLOYEE_UNIT', 'Company B'),
+       (UNHEX(REPLACE('159c10bf-1b32-471b-b2d3-c4b4b13ea152', '-', '')), 'EMPLOYEE_TYPE', 'Manager'),
+       (UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', '')), 'EMPLOYEE_UNIT', 'Company C'),
+       (UNHEX(REPLACE('8efd63a3-b525-4581-8b0b-9759f381a5a5', '-', '')), 'EMPLOYEE_TYPE', 'Developer'),
+       (UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', '')), 'EMPLOYEE_UNIT', 'Organization X'),
+       (UNHEX(REPLACE('03d33a6a-bc8c-410c-95f6-2c890822967d', '-', '')), 'EMPLOYEE_TYPE', 'Analyst'),
+       (UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', '')), 'EMPLOYEE_UNIT', 'Startup Y'),
+       (UNHEX(REPLACE('435bb041-2b02-4bb3-b3e7-3782a13f47d5', '-', '')), 'EMPLOYEE_TYPE', 'Developer'),
+       (UNHEX(REPLACE('676eaf7a-d609-4885-9743-2dbcdffe6628', '-', '')), 'EMPLOYEE_UNIT', 'Company C'),
+       (UNHEX(REPLACE('676eaf7a-d609-4885-9743-2dbcdffe6628', '-', '')), 'EMPLOYEE_TYPE', 'Manager'),
+       (UNHEX(REPLACE('34095a16-68c5-48f8-ac1e-9d6b7dd08562', '-', '')), 'EMPLOYEE_UNIT', 'Company B'),
+       (UNHEX(REPLACE('34095a16-68c5-48f8-ac1e-9d6b7dd08562', '-', '')), 'EMPLOYEE_TYPE', 'Developer'),
+       (UNHEX(REPLACE('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', '-', '')), 'EMPLOYEE_UNIT', 'Startup Y'),
+       (UNHEX(REPLACE('c3ee6cd8-d9e1-499c-b483-a9956b43ab7d', '-', '')), 'EMPLOYEE_TYPE', 'Manager'),
+       (UNHEX(REPLACE('1cc8599b-8726-4cf7-869d-36737044400c', '-', '')), 'EMPLOYEE_UNIT', 'Organization X'),
+       (UNHEX(REPLACE('1cc8599b-8726-4cf7-869d-36737044400c', '-', '')), 'EMPLOYEE_TYPE', 'Manager'),
+       (UNHEX(REPLACE('e4c860ad-fce3-431e-965f-0229e5610fb7', '-', '')), 'EMPLOYEE_UNIT', 'Startup Y'),
+       (UNHEX(REPLACE('e4c860ad-fce3-431e-965f-0229e5610fb7', '-', '')), 'EMPLOYEE_TYPE', 'Analyst'),
+       (UNHEX(REPLACE('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', '-', '')), 'EMPLOYEE_UNIT', 'Startup Y'),
+       (UNHEX(REPLACE('84ae9dbe-159a-472f-9dc7-8ecb03c2c3c1', '-', '')), 'EMPLOYEE_TYPE', 'Analyst'),
+       (UNHEX(REPLACE('019d0963-b6c6-49fb-9f88-31ef5e525a1c', '-', '')), 'EMPLOYEE_UNIT', 'Company A'),
+       (UNHEX(REPLACE('019d0963-b6c6-49fb-9f88-31ef5e525a1c', '-', '')), 'EMPLOYEE_TYPE', 'Consultant'),
+       (UNHEX(REPLACE('df8e4237-4369-45e7-a365-3f46741814d0', '-', '')), 'EMPLOYEE_UNIT', 'Organization X'),
+       (UNHEX(REPLACE('df8e4237-4369-45e7-a365-3f46741814d0', '-', '')), 'EMPLOYEE_TYPE', 'Consultant'),
+       (UNHEX(REPLACE('69d31844-1810-4857-bdb9-f7c533b675b1', '-', '')), 'EMPLOYEE_UNIT', 'Company A'),
+       (UNHEX(REPLACE('69d31844-1810-4857-bdb9-f7c533b675b1', '-', '')), 'EMPLOYEE_TYPE', 'Developer'),
+       (UNHEX(REPLACE('488c4523-4ae1-41ea-8a3a-cf991999b12f', '-', '')), 'EMPLOYEE_UNIT', 'Startup Y'),
+       (UNHEX(REPLACE('488c4523-4ae1-41ea-8a3a-cf991999b12f', '-', '')), 'EMPLOYEE_TYPE', 'Developer'),
+       (UNHEX(REPLACE('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', '')), 'EMPLOYEE_UNIT', 'Organization X'),
+       (UNHEX(REPLACE('82a4ecd5-b406-49d3-b7de-0922ff2f3b95', '-', '')), 'EMPLOYEE_TYPE', 'Analyst'),
+       (UNHEX(REPLACE('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', '-', '')), 'EMPLOYEE_UNIT', 'Company B'),
+       (UNHEX(REPLACE('f182fd95-7a17-4cb7-843b-abf1f8ce8ce7', '-', '')), 'EMPLOYEE_TYPE', 'Developer'),
+       (UNHEX(REPLACE('9f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', '')), 'EMPLOYEE_UNIT', 'Organization X'),
+       (UNHEX(REPLACE('9f2e05c4-a06d-4fed-b487-2003c591bc6a', '-', '')), 'EMPLOYEE_TYPE', 'Engineer'),
+       (UNHEX(REPLACE('37a7aefa-5f24-460e-817b-f089b7dd84be', '-', '')), 'EMPLOYEE_UNIT', 'Organization X'),
+       (UNHEX(REPLACE('37a7aefa-5f24-460e-817b-f089b7dd84be', '-', '')), 'EMPLOYEE_TYPE', 'Consultant'),
+       (UNHEX(REPLACE('fe9a0099-e407-4350-aaf2-f47edb20a770', '-', '')), 'EMPLOYEE_UNIT', 'Company B'),
+       (UNHEX(REPLACE('fe9a0099-e407-4350-aaf2-f47edb20a770', '-', '')), 'EMPLOYEE_TYPE', 'Manager'),
+       (UNHEX(REPLACE('db983069-1a9f-4e6a-8b21-865ebd2fb902', '-', '')), 'EMPLOYEE_UNIT', 'Company B'),
+       (UNHEX(REPLACE('db983069-1a9f-4e6a-8b21-865ebd2fb902', '-', '')), 'EMPLOYEE_TYPE', 'Consultant'),
+       (UNHEX(REPLACE('1a3e2060-c190-4c91-b221-b380493e5f4b', '-', '')), 'EMPLOYEE_UNIT', 'Company B'),
+       (UNHEX(REPLACE('1a3e2060-c190-4c91-b221-b380493e5f4b', '-', '')), 'EMPLOYEE_TYPE', 'Developer'),
+       (UNHEX(REPLACE('ef87f332-50b1-4943-bf0d-c1fa798734a9', '-', '')), 'EMPLOYEE_UNIT', 'Organization X'),
+       (UNHEX(REPLACE('ef87f332-50b1-4943-bf0d-c1fa798734a9', '-', '')), 'EMPLOYEE_TYPE', 'Manager'),
+       (UNHEX(REPLACE('5a728f56-2fb1-460e-9158-7a4d5775e80f', '-', '')), 'EMPLOYEE_UNIT', 'Company B'),
+       (UNHEX(REPLACE('5a728f56-2fb1-460e-9158-7a4d5775e80f', '-', '')), 'EMPLOYEE_TYPE', 'Analyst'),
+       (UNHEX(REPLACE('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')), 'EMPLOYEE_UNIT', 'Startup Y'),
+       (UNHEX(REPLACE('4ad5ecbf-15e5-4572-9b80-96bbfc2145b6', '-', '')), 'EMPLOYEE_TYPE', 'Developer');
 
 
 INSERT INTO registration_number_sequence (sequence_number, created, modified, id, municipality_id)
-VALUES (665, '2023-06-28 12:01:00.000', '2023-06-28 12:01:00.000', 'b734c963-b8d1-4ca0-b392-067f6f217794', '2321');
+VALUES (665, '2023-06-28 12:01:00.000', '2023-06-28 12:01:00.000', UNHEX(REPLACE('b734c963-b8d1-4ca0-b392-067f6f217794', '-', '')), '2321');
@@ -1,8 +1,21 @@
 SET FOREIGN_KEY_CHECKS = 0;
+TRUNCATE table document_change;
+TRUNCATE table document_change_sequence;
 TRUNCATE table document_metadata;
+TRUNCATE table document_metadata_set;
 TRUNCATE table document_data_binary;
+TRUNCATE table document_data_binary_chunk;
+TRUNCATE table document_data_binary_cold;
 TRUNCATE table document_data;
+TRUNCATE table document_data_text;
+TRUNCATE table document_data_text_term;
+TRUNCATE table document_file_set;
 TRUNCATE table document;
 TRUNCATE table document_type;
+TRUNCATE table idempotency_key;
+TRUNCATE table ingestion;
 TRUNCATE table registration_number_sequence;
+TRUNCATE table upload;
+TRUNCATE table upload_chunk;
+TRUNCATE table webhook_subscription;
 SET FOREIGN_KEY_CHECKS = 1;